@@ -1,7 +1,74 @@
 public abstract class AbstractCondition {
+
+    private ConditionDependents dependents = null; // Composite conditions that cache a result computed from this condition
+
+    // Shared conditions whose value never changes, for binding constant values without allocating a Condition for each
+    public static final AbstractCondition ALWAYS = constant(true);
+    public static final AbstractCondition NEVER = constant(false);
     
     public abstract boolean check();
 
+    // --- DEPENDENCY TRACKING ---
+
+    /**
+     * Checks whether this condition reports every change to its value, so composite conditions built on it can safely cache their results
+     * @return true if this condition notifies its dependents whenever its value may have changed; false otherwise
+     */
+    public boolean isTracked() {
+        return false;
+    }
+
+    /**
+     * Registers a composite condition to be notified whenever the value of this condition may have changed
+     * @param dependent the composite condition to notify
+     */
+    public void addDependent(ConditionDependent dependent) {
+        if (this.dependents == null) this.dependents = new ConditionDependents();
+        this.dependents.add(dependent);
+    }
+
+    /**
+     * Notifies every composite condition built on this condition that its value may have changed
+     */
+    protected void changed() {
+        if (this.dependents != null) this.dependents.notifyChanged();
+    }
+
+    // --- MISC ---
+
+    /**
+     * Returns the shared condition that is always met or never met
+     * @param value the value of the condition
+     * @return ALWAYS if value is true; NEVER otherwise
+     */
+    public static AbstractCondition of(boolean value) {
+        return (value) ? ALWAYS : NEVER;
+    }
+
+    /**
+     * Creates a condition whose value never changes
+     * @param value the value of the condition
+     * @return a new condition that always has the given value
+     */
+    private static AbstractCondition constant(boolean value) {
+        return new AbstractCondition() {
+            @Override
+            public boolean check() {
+                return value;
+            }
+
+            @Override
+            public boolean isTracked() {
+                return true;
+            }
+
+            @Override
+            public void addDependent(ConditionDependent dependent) {
+                // Never changes, so there is nothing to notify
+            }
+        };
+    }
+
     /**
      * Returns the inverse of this AbstractCondition
      * @return the inverse of this AbstractCondition
@@ -1,11 +1,11 @@
 public class Achievement {
     
     // Internal information
+    private final int index; // The position of this achievement in AchievementList.txt
     private final String id;
     private final Chapter origin;
     private final boolean isHidden;
     private final boolean showsUnlockMessage;
-    private boolean isUnlocked = false;
 
     // Display information
     private final String name;
@@ -16,6 +16,7 @@ public class Achievement {
 
     /**
      * Constructor
+     * @param index the position of this achievement in AchievementList.txt
      * @param id the internal ID of this achievement
      * @param origin the chapter this achievement is unlocked in
      * @param isHidden whether or not this achievement's name is hidden in the gallery before it is unlocked
@@ -23,7 +24,8 @@ public class Achievement {
      * @param name the name of this achievement
      * @param description the description of this achievement
      */
-    public Achievement(String id, Chapter origin, boolean isHidden, boolean showsUnlockMessage, String name, String description, String galleryHint) {
+    public Achievement(int index, String id, Chapter origin, boolean isHidden, boolean showsUnlockMessage, String name, String description, String galleryHint) {
+        this.index = index;
         this.id = id;
         this.origin = origin;
         this.isHidden = isHidden;
@@ -33,7 +35,15 @@ public class Achievement {
         this.galleryHint = galleryHint;
     }
 
-    // --- ACCESSORS & MANIPULATORS ---
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for index
+     * @return the position of this achievement in AchievementList.txt
+     */
+    public int getIndex() {
+        return this.index;
+    }
 
     /**
      * Accessor for id
@@ -67,14 +77,6 @@ public class Achievement {
         return this.showsUnlockMessage;
     }
 
-    /**
-     * Accessor for isUnlocked
-     * @return whether this achievement has been unlocked
-     */
-    public boolean isUnlocked() {
-        return this.isUnlocked;
-    }
-
     /**
      * Accessor for name
      * @return the name of this achievement
@@ -99,20 +101,6 @@ public class Achievement {
         return this.galleryHint;
     }
 
-    /**
-     * Unlocks this achievement
-     */
-    public void unlock() {
-        this.isUnlocked = true;
-    }
-
-    /**
-     * Locks this achievement
-     */
-    public void lock() {
-        this.isUnlocked = false;
-    }
-
     // --- MISC ---
 
     /**
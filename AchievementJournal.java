@@ -0,0 +1,194 @@
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class AchievementJournal implements Flushable {
+
+    private final Path base; // Compacted list of every unlock, one entry per line
+    private final Path journal; // Unlocks recorded since the last compaction, appended one entry per line
+    private final ArrayList<String> pending; // Unlocks recorded since the last flush
+    private final Object fileLock; // Held while reading or writing this journal's files
+    private int nJournalEntries = 0;
+
+    private static final int COMPACTTHRESHOLD = 100; // The number of journal entries that triggers a compaction
+
+    // Journals for the same files share a lock, so a compaction never races with an append from another session on the same profile
+    private static final ConcurrentHashMap<Path, Object> FILELOCKS = new ConcurrentHashMap<>();
+
+    // One background thread compacts every journal, away from the threads running games
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "achievement-compactor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param base the compacted list of unlocks
+     * @param journal the journal of unlocks recorded since the last compaction
+     */
+    public AchievementJournal(Path base, Path journal) {
+        this.base = base;
+        this.journal = journal;
+        this.pending = new ArrayList<>();
+        this.fileLock = FILELOCKS.computeIfAbsent(journal.toAbsolutePath().normalize(), p -> new Object());
+    }
+
+    // --- READ & WRITE ---
+
+    /**
+     * Reads every unlock recorded in the compacted list and the journal, in the order they were recorded
+     * @return every recorded unlock
+     * @throws IOException if the compacted list or the journal exists but could not be read
+     */
+    public List<String> load() throws IOException {
+        synchronized (this.fileLock) {
+            ArrayList<String> entries = new ArrayList<>();
+            readLines(this.base, entries);
+
+            int nBaseEntries = entries.size();
+            readLines(this.journal, entries);
+            this.nJournalEntries = entries.size() - nBaseEntries;
+
+            return entries;
+        }
+    }
+
+    /**
+     * Records an unlock, to be written to the journal at the next flush
+     * @param entry the unlock to record
+     */
+    public synchronized void record(String entry) {
+        this.pending.add(entry);
+    }
+
+    /**
+     * Appends every unlock recorded since the last flush to the journal and forces it to disk in a single write, then compacts the journal in the background if it has grown too long
+     * @throws IOException if the journal could not be written
+     */
+    @Override
+    public void flush() throws IOException {
+        String batch;
+        synchronized (this) {
+            if (this.pending.isEmpty()) return;
+            batch = String.join("\n", this.pending) + "\n";
+            this.pending.clear();
+        }
+
+        ByteBuffer contents = ByteBuffer.wrap(batch.getBytes(StandardCharsets.UTF_8));
+        boolean compact;
+        synchronized (this.fileLock) {
+            Files.createDirectories(this.journal.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(this.journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                while (contents.hasRemaining()) channel.write(contents);
+                channel.force(false);
+            }
+
+            this.nJournalEntries += batch.split("\n").length;
+            compact = this.nJournalEntries >= COMPACTTHRESHOLD;
+            if (compact) this.nJournalEntries = 0;
+        }
+
+        if (compact) COMPACTOR.execute(this::compact);
+    }
+
+    /**
+     * Discards every recorded unlock, both on disk and waiting to be flushed
+     */
+    public void reset() {
+        synchronized (this) {
+            this.pending.clear();
+        }
+
+        synchronized (this.fileLock) {
+            try {
+                Files.deleteIfExists(this.base);
+                Files.deleteIfExists(this.journal);
+            } catch (IOException e) {
+                IOHandler.wrapPrintln("[Your achievements could not be reset: " + e.getMessage() + "]");
+            }
+            this.nJournalEntries = 0;
+        }
+    }
+
+    /**
+     * Merges the journal into the compacted list, removing duplicate entries, then empties the journal; if either file cannot be read, both are left untouched
+     */
+    private void compact() {
+        synchronized (this.fileLock) {
+            ArrayList<String> lines = new ArrayList<>();
+            try {
+                readLines(this.base, lines);
+                readLines(this.journal, lines);
+            } catch (IOException e) {
+                // Rewriting the list from whatever could be read would lose every unlock in the unreadable file, so leave the journal to be compacted later
+                System.err.println("[DEBUG: Skipped compacting " + this + ", as it could not be read: " + e + "]");
+                return;
+            }
+
+            try {
+                LinkedHashSet<String> entries = new LinkedHashSet<>(lines);
+
+                // Write the merged list next to the old one and move it into place in a single step, so a crash mid-compaction loses nothing
+                Path temp = Files.createTempFile(this.base.toAbsolutePath().getParent(), this.base.getFileName().toString(), ".tmp");
+                try {
+                    Files.write(temp, entries, StandardCharsets.UTF_8);
+                    try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                        channel.force(false);
+                    }
+                    Files.move(temp, this.base, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+
+                // If a crash happens before this point, the journal is replayed on top of a list that already contains it, which is harmless
+                Files.deleteIfExists(this.journal);
+            } catch (IOException e) {
+                System.err.println("[DEBUG: Failed to compact " + this + ": " + e + "]");
+            }
+        }
+    }
+
+    /**
+     * Returns the location of the journal
+     * @return the location of the journal
+     */
+    @Override
+    public String toString() {
+        return this.journal.toString();
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Adds every non-empty line of a given file to a list
+     * @param file the file to read
+     * @param lines the list to add the lines to
+     * @throws IOException if the file exists but could not be read
+     */
+    private static void readLines(Path file, List<String> lines) throws IOException {
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isEmpty()) lines.add(line);
+            }
+        } catch (NoSuchFileException e) {
+            // Nothing has been recorded yet
+        }
+    }
+
+}
@@ -0,0 +1,190 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+
+public class AchievementList {
+
+    private final List<Achievement> definitions; // Every achievement, in the order they are listed in AchievementList.txt
+    private final Map<String, Achievement> byID;
+    private final BitSet hidden; // Indexed by achievement index
+    private final List<String> generalAchievements;
+    private final Map<Chapter, List<String>> chapterAchievements;
+
+    private static final File ACHIEVEMENTLIST = new File("Saves", "AchievementList.txt"); // Static file; contains a simple list of all valid achievements
+    private static AchievementList instance = null;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; parses AchievementList.txt
+     */
+    private AchievementList() {
+        ArrayList<Achievement> definitions = new ArrayList<>();
+        ArrayList<String> generalAchievements = new ArrayList<>();
+        HashMap<Chapter, ArrayList<String>> chapterAchievements = new HashMap<>();
+        for (Chapter c : Chapter.GALLERYCHAPTERS) chapterAchievements.put(c, new ArrayList<>());
+        HashMap<String, Achievement> byID = new HashMap<>();
+        BitSet hiddenAchievements = new BitSet();
+        Achievement achievement;
+
+        Chapter tempChapter;
+        Chapter currentChapter = null; // File MUST list general achievements before any chapter-specific achievements!!!
+        String lineContent;
+        String[] split;
+        String content;
+        String id = "";
+        String[] hintSplit;
+        String hint;
+        boolean hidden;
+        boolean message;
+
+        try (Scanner listReader = new Scanner(ACHIEVEMENTLIST);) {
+            while (listReader.hasNextLine()) {
+                lineContent = listReader.nextLine();
+
+                if (!lineContent.isEmpty() && !lineContent.startsWith("//")) {
+                    if (lineContent.startsWith("--- ")) { /// Indicates new Chapter
+                        tempChapter = Chapter.getChapterFromTitle(lineContent.substring(4));
+                        if (tempChapter.hasGallery()) currentChapter = tempChapter;
+                    } else {
+                        split = lineContent.split(" // "); // Comments are ignored
+                        content = split[0];
+                        split = content.split(" / ");
+                        id = split[0];
+
+                        if (byID.containsKey(id)) {
+                            IOHandler.out().println("[DEBUG: Duplicate achievement " + id + "]");
+                        } else {
+                            hint = "";
+                            hidden = false;
+                            message = true;
+                            for (int i = 3; i < split.length; i++) {
+                                if (split[i].startsWith("hint ")) {
+                                    hintSplit = split[i].split(" ", 2);
+                                    hint = hintSplit[1];
+                                } else {
+                                    switch (split[i]) {
+                                        case "samehint":
+                                            hint = split[2];
+                                            break;
+
+                                        case "hidden":
+                                            hidden = true;
+                                            break;
+
+                                        case "silent":
+                                            message = false;
+                                            break;
+                                    }
+                                }
+                            }
+
+                            achievement = new Achievement(definitions.size(), id, currentChapter, hidden, message, split[1], split[2], hint);
+                            definitions.add(achievement);
+                            byID.put(id, achievement);
+                            if (hidden) hiddenAchievements.set(achievement.getIndex());
+
+                            if (currentChapter == null) {
+                                generalAchievements.add(id);
+                            } else {
+                                chapterAchievements.get(currentChapter).add(id);
+                            }
+                        }
+                    }
+                }
+            }
+        } catch (FileNotFoundException e) {
+            throw new RuntimeException("No achievement list found");
+        } catch (IndexOutOfBoundsException e) {
+            throw new RuntimeException("Invalid achievement" + id + " (missing name and/or description)");
+        }
+
+        HashMap<Chapter, List<String>> chapterLists = new HashMap<>();
+        for (Chapter c : chapterAchievements.keySet()) chapterLists.put(c, Collections.unmodifiableList(chapterAchievements.get(c)));
+
+        this.definitions = Collections.unmodifiableList(definitions);
+        this.generalAchievements = Collections.unmodifiableList(generalAchievements);
+        this.chapterAchievements = Collections.unmodifiableMap(chapterLists);
+        this.byID = Collections.unmodifiableMap(byID);
+        this.hidden = hiddenAchievements;
+    }
+
+    /**
+     * Returns the list of achievements shared by every AchievementTracker, parsing AchievementList.txt the first time it is needed
+     * @return the list of achievements shared by every AchievementTracker
+     */
+    public static synchronized AchievementList get() {
+        if (instance == null) instance = new AchievementList();
+        return instance;
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for definitions
+     * @return every achievement in the game, in order
+     */
+    public List<Achievement> getDefinitions() {
+        return this.definitions;
+    }
+
+    /**
+     * Accessor for generalAchievements
+     * @return the IDs of every non-chapter-specific achievement
+     */
+    public List<String> getGeneralAchievements() {
+        return this.generalAchievements;
+    }
+
+    /**
+     * Returns the IDs of every achievement associated with a given gallery Chapter
+     * @param c the Chapter to check
+     * @return the IDs of every achievement associated with c
+     */
+    public List<String> getChapterAchievements(Chapter c) {
+        return this.chapterAchievements.get(c);
+    }
+
+    /**
+     * Returns the achievement with a given ID
+     * @param id the ID of the achievement
+     * @return the achievement with the given ID, or null if it does not exist
+     */
+    public Achievement get(String id) {
+        return this.byID.get(id);
+    }
+
+    /**
+     * Returns the number of achievements in the game
+     * @return the number of achievements in the game
+     */
+    public int size() {
+        return this.definitions.size();
+    }
+
+    /**
+     * Returns the number of hidden achievements in the game
+     * @return the number of hidden achievements in the game
+     */
+    public int nHiddenAchievements() {
+        return this.hidden.cardinality();
+    }
+
+    /**
+     * Returns the number of hidden achievements in a given set of unlocked achievements
+     * @param unlocked the set of unlocked achievements, indexed by achievement index
+     * @return the number of hidden achievements in unlocked
+     */
+    public int nHiddenAchievements(BitSet unlocked) {
+        BitSet unlockedHidden = (BitSet)this.hidden.clone();
+        unlockedHidden.and(unlocked);
+        return unlockedHidden.cardinality();
+    }
+
+}
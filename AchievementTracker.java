@@ -1,30 +1,25 @@
-import java.io.BufferedWriter;  // Import the File class
-import java.io.File; // Import the Scanner class to read text files
-import java.io.FileNotFoundException;
-import java.io.FileWriter; // Import this class to write to a file
-import java.io.IOException;  // Import this class to handle errors
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
-import java.util.Scanner;
+import java.util.List;
 
 public class AchievementTracker {
     
     private final GameManager manager;
     private final IOHandler parser;
+    private final boolean persistent; // If false, achievements are never read from or written to the tracker file
 
     private Condition galleryUnlocked;
     private HashMap<Chapter, Condition> unlockedChapters; // UNLOCKEDCHAPTERS SEEMS TO BE WORKING INCORRECTLY -- LOOK INTO THAT!!!
-    private IndexedLinkedHashMap<String, Achievement> achievements;
-    private final ArrayList<String> generalAchievements;
-    private final HashMap<Chapter, ArrayList<String>> chapterAchievements;
+    private final AchievementList list; // Shared by every tracker
+    private final BitSet unlocked; // Indexed by achievement index
 
     private final int nAchievements;
     private final int nGeneralAchievements;
-    private int nUnlockedAchievements = 0;
-    private final GlobalInt nLockedAchievements;
-    private final InverseCondition lockedRemaining;
-    private int nHiddenAchievements = 0;
-    private int nLockedHiddenAchievements;
+    private final int nHiddenAchievements;
+    private final AbstractCondition lockedRemaining;
 
     private final OptionsMenu achievementsMenu;
     private final OptionsMenu returnMenu;
@@ -34,8 +29,12 @@ public class AchievementTracker {
     private final InverseCondition notFirstPage;
     private final OptionsMenu pageMenu;
 
-    private static final File ACHIEVEMENTLIST = new File("Saves", "AchievementList.txt"); // Static file; contains a simple list of all valid achievements
-    private static final File TRACKER = new File("Saves", "UnlockedAchievements.txt"); // Dynamic file; stores the current state of achievements
+    private final AchievementJournal journal;
+
+    public static final String DEFAULTPROFILE = ""; // The profile whose achievements are stored directly in the Saves folder
+    private static final String TRACKERFILE = "UnlockedAchievements.txt"; // Dynamic file; stores the current state of achievements, as of the last compaction
+    private static final String JOURNALFILE = "UnlockedAchievements.journal"; // Dynamic file; stores every unlock since the last compaction
+    private static final int MAXPROFILELENGTH = 32;
 
     // --- CONSTRUCTOR ---
 
@@ -43,17 +42,28 @@ public class AchievementTracker {
      * Constructor
      * @param manager the GameManager to link the AchievementTracker to
      * @param parser the IOHandler to link the AchievementTracker to
+     * @param profile the profile to store unlocked achievements under, or null if they should never be stored
      */
-    public AchievementTracker(GameManager manager, IOHandler parser) {
+    public AchievementTracker(GameManager manager, IOHandler parser, String profile) {
         this.manager = manager;
         this.parser = parser;
+        this.persistent = !manager.isHeadless() && profile != null;
+        if (this.persistent) {
+            Path directory = getProfileDirectory(profile);
+            this.journal = new AchievementJournal(directory.resolve(TRACKERFILE), directory.resolve(JOURNALFILE));
+        } else {
+            this.journal = null;
+        }
         this.galleryUnlocked = new Condition();
-        //System.out.println("Gallery unlocked: " + this.galleryUnlocked);
-        this.achievements = new IndexedLinkedHashMap<>();
-        this.generalAchievements = new ArrayList<>();
-        this.chapterAchievements = new HashMap<>();
-        this.nLockedAchievements = new GlobalInt();
-        this.lockedRemaining = new InverseCondition(new NumCondition(this.nLockedAchievements, 0));
+        //IOHandler.out().println("Gallery unlocked: " + this.galleryUnlocked);
+        this.list = AchievementList.get();
+        this.unlocked = new BitSet(list.size());
+        this.lockedRemaining = new AbstractCondition() {
+            @Override
+            public boolean check() {
+                return nLockedAchievements() > 0;
+            }
+        };
 
         this.unlockedChapters = new HashMap<>();
         this.achievementsMenu = new OptionsMenu(true);
@@ -64,8 +74,7 @@ public class AchievementTracker {
         achievementsMenu.add(new Option(this.manager, "general", "General", 0));
         for (Chapter c : Chapter.GALLERYCHAPTERS) {
             unlockedChapters.put(c, new Condition());
-            //System.out.println(c + " unlocked: " + unlockedChapters.get(c) + "; shown in menu: " + new OrCondition(unlockedChapters.get(c), this.galleryUnlocked));
-            chapterAchievements.put(c, new ArrayList<>());
+            //IOHandler.out().println(c + " unlocked: " + unlockedChapters.get(c) + "; shown in menu: " + new OrCondition(unlockedChapters.get(c), this.galleryUnlocked));
             achievementsMenu.add(new Option(this.manager, c.getID(), unlockedChapters.get(c).getInverse(), c.galleryHintLocked(), 0, new OrCondition(unlockedChapters.get(c), this.galleryUnlocked)));
         }
         achievementsMenu.add(new Option(this.manager, "reset", "[Reset gallery.]", 0));
@@ -82,89 +91,11 @@ public class AchievementTracker {
         pageMenu.add(returnOption);
         returnMenu.add(returnOption);
 
-        this.initializeAchievements();
-        this.readTracker(true);
+        this.nAchievements = list.getDefinitions().size();
+        this.nGeneralAchievements = list.getGeneralAchievements().size();
+        this.nHiddenAchievements = list.nHiddenAchievements();
 
-        this.nAchievements = achievements.size();
-        this.nGeneralAchievements = generalAchievements.size();
-    }
-
-    /**
-     * Initializes the list of achievements based on AchievementList.txt
-     */
-    private void initializeAchievements() {
-        Chapter tempChapter;
-        Chapter currentChapter = null; // File MUST list general achievements before any chapter-specific achievements!!!
-        String lineContent;
-        String[] split;
-        String content;
-        String id = "";
-        String[] hintSplit;
-        String hint;
-        boolean hidden;
-        boolean message;
-
-        try (Scanner listReader = new Scanner(ACHIEVEMENTLIST);) {
-            while (listReader.hasNextLine()) {
-                lineContent = listReader.nextLine();
-
-                if (!lineContent.isEmpty() && !lineContent.startsWith("//")) {
-                    if (lineContent.startsWith("--- ")) { /// Indicates new Chapter
-                        tempChapter = Chapter.getChapterFromTitle(lineContent.substring(4));
-                        if (tempChapter.hasGallery()) currentChapter = tempChapter;
-                    } else {
-                        split = lineContent.split(" // "); // Comments are ignored
-                        content = split[0];
-                        split = content.split(" / ");
-                        id = split[0];
-
-                        if (this.achievementExists(id)) {
-                            System.out.println("[DEBUG: Duplicate achievement " + id + "]");
-                        } else {
-                            hint = "";
-                            hidden = false;
-                            message = true;
-                            for (int i = 3; i < split.length; i++) {
-                                if (split[i].startsWith("hint ")) {
-                                    hintSplit = split[i].split(" ", 2);
-                                    hint = hintSplit[1];
-                                } else {
-                                    switch (split[i]) {
-                                        case "samehint":
-                                            hint = split[2];
-                                            break;
-
-                                        case "hidden":
-                                            this.nHiddenAchievements += 1;
-                                            hidden = true;
-                                            break;
-
-                                        case "silent":
-                                            message = false;
-                                            break;
-                                    }
-                                }
-                            }
-
-                            achievements.put(id, new Achievement(id, currentChapter, hidden, message, split[1], split[2], hint));
-
-                            if (currentChapter == null) {
-                                generalAchievements.add(id);
-                            } else {
-                                chapterAchievements.get(currentChapter).add(id);
-                            }
-                        }
-                    }
-                }
-            }
-
-            this.nLockedAchievements.set(this.nAchievements);
-            this.nLockedHiddenAchievements = this.nHiddenAchievements;
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException("No achievement list found");
-        } catch (IndexOutOfBoundsException e) {
-            throw new RuntimeException("Invalid achievement" + id + " (missing name and/or description)");
-        }
+        this.readTracker();
     }
 
     // --- ACCESSORS & MANIPULATORS ---
@@ -181,6 +112,7 @@ public class AchievementTracker {
      * Permanently unlocks the gallery
      */
     public void unlockGallery() {
+        if (!galleryUnlocked.check()) this.record("GALLERYUNLOCKED");
         galleryUnlocked.set();
     }
 
@@ -190,7 +122,7 @@ public class AchievementTracker {
      * @return true if an achievement with the given ID exists; false otherwise
      */
     public boolean achievementExists(String id) {
-        return achievements.containsKey(id);
+        return list.get(id) != null;
     }
 
     /**
@@ -200,7 +132,7 @@ public class AchievementTracker {
      */
     public boolean check(String achievement) {
         if (this.achievementExists(achievement)) {
-            return achievements.get(achievement).isUnlocked();
+            return this.isUnlocked(list.get(achievement));
         } else {
             throw new IllegalArgumentException("Achievement " + achievement + "does not exist");
         }
@@ -212,30 +144,37 @@ public class AchievementTracker {
      */
     public void unlock(String id) {
         if (this.achievementExists(id)) {
-            Achievement achievement = achievements.get(id);
-            if (!achievement.isUnlocked()) {
-                this.nUnlockedAchievements += 1;
-                nLockedAchievements.decrement();
-                if (achievement.isHidden()) this.nLockedHiddenAchievements -= 1;
-                achievement.unlock();
+            Achievement achievement = list.get(id);
+            if (!this.isUnlocked(achievement)) {
+                this.unlockSilently(achievement);
+                this.record(id);
 
                 if (achievement.showsUnlockMessage()) {
-                    System.out.println();
+                    IOHandler.out().println();
                     parser.printDialogueLine("[ ACHIEVEMENT UNLOCKED: " + achievement.getName() + " ]", true);
-                    if (manager.globalSlowPrint() && !manager.autoAdvance()) GameManager.pause(1000);
+                    if (manager.globalSlowPrint() && !manager.autoAdvance()) manager.pause(1000);
                     parser.printDialogueLine("[ " + achievement.getDescription() + " ]", true);
-                    if (manager.autoAdvance()) GameManager.pause(1000);
+                    if (manager.autoAdvance()) manager.pause(1000);
                     parser.waitForInput();
-                    System.out.println();
+                    IOHandler.out().println();
                 }
 
-                if (this.nUnlockedAchievements == this.nAchievements - 1) this.unlock("galleryComplete");
+                if (this.nUnlockedAchievements() == this.nAchievements - 1) this.unlock("galleryComplete");
             }
         } else {
             throw new IllegalArgumentException("Achievement \"" + id + "\" does not exist");
         }
     }
 
+    /**
+     * Checks whether a given achievement has been unlocked
+     * @param achievement the achievement to check
+     * @return whether the given achievement has been unlocked
+     */
+    public boolean isUnlocked(Achievement achievement) {
+        return unlocked.get(achievement.getIndex());
+    }
+
     /**
      * Checks whether a given Chapter's achievement list has been unlocked
      * @param c the Chapter to check
@@ -251,6 +190,24 @@ public class AchievementTracker {
      * @param c the Chapter to unlock
      */
     public void unlock(Chapter c) {
+        c = getGalleryChapter(c);
+        if (!unlockedChapters.get(c).check()) this.record("CHAPTER " + c.getID());
+        this.unlockSilently(c);
+    }
+
+    /**
+     * Unlocks a given achievement without announcing it or recording it in the journal
+     * @param achievement the achievement to unlock
+     */
+    private void unlockSilently(Achievement achievement) {
+        unlocked.set(achievement.getIndex());
+    }
+
+    /**
+     * Unlocks the achievement list for a given Chapter without recording it in the journal
+     * @param c the Chapter to unlock
+     */
+    private void unlockSilently(Chapter c) {
         c = getGalleryChapter(c);
         unlockedChapters.get(c).set();
         
@@ -295,7 +252,7 @@ public class AchievementTracker {
      */
     public int nChapterAchievements(Chapter c) {
         c = getGalleryChapter(c);
-        return this.chapterAchievements.get(c).size();
+        return list.getChapterAchievements(c).size();
     }
 
     /**
@@ -307,35 +264,35 @@ public class AchievementTracker {
     }
 
     /**
-     * Accessor for nLockedAchievements
-     * @return the GlobalInt representing the number of currently locked achievements
+     * Returns the number of currently locked achievements
+     * @return the number of currently locked achievements
      */
-    public GlobalInt nLockedAchievements() {
-        return this.nLockedAchievements;
+    public int nLockedAchievements() {
+        return this.nAchievements - unlocked.cardinality();
     }
 
     /**
      * Accessor for lockedRemaining
      * @return a condition tracking whether there are remaining locked achievements
      */
-    public InverseCondition getLockedRemaining() {
+    public AbstractCondition getLockedRemaining() {
         return this.lockedRemaining;
     }
 
     /**
-     * Accessor for nLockedHiddenAchievements
+     * Returns the number of currently locked hidden achievements
      * @return the number of currently locked hidden achievements
      */
     public int nLockedHiddenAchievements() {
-        return this.nLockedHiddenAchievements;
+        return this.nHiddenAchievements - list.nHiddenAchievements(unlocked);
     }
 
     /**
-     * Accessor for nUnlockedAchievements
+     * Returns the number of currently unlocked achievements
      * @return the number of currently unlocked achievements
      */
     public int nUnlockedAchievements() {
-        return this.nUnlockedAchievements;
+        return unlocked.cardinality();
     }
 
     /**
@@ -375,14 +332,12 @@ public class AchievementTracker {
      * @param ids the list of achievement IDs to check
      * @return all currently unlocked achievements referenced in ids
      */
-    private ArrayList<Achievement> getUnlockedAchievements(ArrayList<String> ids) {
+    private ArrayList<Achievement> getUnlockedAchievements(List<String> ids) {
         ArrayList<Achievement> unlocked = new ArrayList<>();
         Achievement a;
         for (String id : ids) {
-            if (this.achievementExists(id)) {
-                a = achievements.get(id);
-                if (a.isUnlocked()) unlocked.add(a);
-            }
+            a = list.get(id);
+            if (a != null && this.isUnlocked(a)) unlocked.add(a);
         }
         return unlocked;
     }
@@ -392,7 +347,7 @@ public class AchievementTracker {
      * @return all unlocked non-chapter-specific achievements
      */
     public ArrayList<Achievement> getUnlockedGeneralAchievements() {
-        return this.getUnlockedAchievements(this.generalAchievements);
+        return this.getUnlockedAchievements(list.getGeneralAchievements());
     }
 
     /**
@@ -402,19 +357,27 @@ public class AchievementTracker {
      */
     public ArrayList<Achievement> getUnlockedChapterAchievements(Chapter c) {
         c = getGalleryChapter(c);
-        return this.getUnlockedAchievements(this.chapterAchievements.get(c));
+        return this.getUnlockedAchievements(list.getChapterAchievements(c));
+    }
+
+    /**
+     * Returns a list of every achievement, unlocked or not
+     * @return every achievement
+     */
+    public ArrayList<Achievement> getAllAchievements() {
+        return new ArrayList<>(list.getDefinitions());
     }
 
     /**
      * Returns a list of all currently unlocked achievements
      * @return all currently unlocked achievements
      */
-    private ArrayList<Achievement> getUnlockedAchievements() {
-        ArrayList<Achievement> unlocked = new ArrayList<>();
-        for (Achievement a : achievements.valueList()) {
-            if (a.isUnlocked()) unlocked.add(a);
+    public ArrayList<Achievement> getUnlockedAchievements() {
+        ArrayList<Achievement> unlockedAchievements = new ArrayList<>();
+        for (int i = unlocked.nextSetBit(0); i >= 0; i = unlocked.nextSetBit(i + 1)) {
+            unlockedAchievements.add(list.getDefinitions().get(i));
         }
-        return unlocked;
+        return unlockedAchievements;
     }
 
     /**
@@ -423,8 +386,8 @@ public class AchievementTracker {
      */
     public ArrayList<Achievement> getLockedAchievements() {
         ArrayList<Achievement> locked = new ArrayList<>();
-        for (Achievement a : achievements.valueList()) {
-            if (!a.isUnlocked() && !a.isHidden()) locked.add(a);
+        for (Achievement a : list.getDefinitions()) {
+            if (!this.isUnlocked(a) && !a.isHidden()) locked.add(a);
         }
         return locked;
     }
@@ -435,73 +398,96 @@ public class AchievementTracker {
      * Reset all achievements and unlocked chapters
      */
     public void reset() {
-        this.nUnlockedAchievements = 0;
-        this.nLockedAchievements.set(this.nAchievements);
-        this.nLockedHiddenAchievements = this.nHiddenAchievements;
         for (Chapter c : Chapter.values()) this.lock(c);
-        for (Achievement a : achievements.values()) a.lock();
-        TRACKER.delete();
-    }
-
-    /**
-     * Unlock all Chapters and achievements listed in UnlockedAchievements.txt
-     * @param fromInitialize whether or not this method was called from the initialization of this tracker
-     */
-    private void readTracker(boolean fromInitialize) {
-        try (Scanner tracker = new Scanner(TRACKER)) {
-            Chapter currentChapter;
-            String lineContent;
-
-            while (tracker.hasNextLine()) {
-                lineContent = tracker.nextLine();
-                if (!lineContent.isEmpty()) {
-                    if (lineContent.equals("GALLERYUNLOCKED")) {
-                        galleryUnlocked.set();
-                    } else if (lineContent.startsWith("CHAPTER ")) {
-                        currentChapter = Chapter.getChapter(lineContent.substring(8));
-                        if (currentChapter == null) {
-                            IOHandler.wrapPrintln("[DEBUG: Invalid chapter " + lineContent.substring(8) + " listed in UnlockAchievements.txt]");
-                        } else {
-                            this.unlock(currentChapter);
-                        }
-                    } else {
-                        this.unlock(lineContent);
-                    }
+        unlocked.clear();
+        if (this.persistent) this.journal.reset();
+    }
+
+    /**
+     * Unlock all Chapters and achievements listed in UnlockedAchievements.txt and its journal, without announcing them
+     */
+    private void readTracker() {
+        if (!this.persistent) return;
+
+        List<String> entries;
+        try {
+            entries = this.journal.load();
+        } catch (IOException e) {
+            IOHandler.wrapPrintln("[Your achievements could not be loaded: " + e.getMessage() + "]");
+            return;
+        }
+
+        Chapter currentChapter;
+        Achievement achievement;
+        for (String entry : entries) {
+            if (entry.equals("GALLERYUNLOCKED")) {
+                galleryUnlocked.set();
+            } else if (entry.startsWith("CHAPTER ")) {
+                currentChapter = Chapter.getChapter(entry.substring(8));
+                if (currentChapter == null) {
+                    IOHandler.wrapPrintln("[DEBUG: Invalid chapter " + entry.substring(8) + " listed in UnlockAchievements.txt]");
+                } else {
+                    this.unlockSilently(currentChapter);
+                }
+            } else {
+                achievement = list.get(entry);
+                if (achievement == null) {
+                    IOHandler.wrapPrintln("[DEBUG: Invalid achievement " + entry + " listed in UnlockAchievements.txt]");
+                } else {
+                    this.unlockSilently(achievement);
                 }
-            }
-        } catch (FileNotFoundException e) {
-            if (!fromInitialize) {
-                for (Chapter c : Chapter.values()) unlockedChapters.get(c).set(false);
-                for (Achievement a : achievements.values()) a.lock();
             }
         }
     }
 
     /**
-     * Updates UnlockedAchievements.txt
+     * Records an unlock in the journal, to be written at the next update
+     * @param entry the unlock to record
+     */
+    private void record(String entry) {
+        if (this.persistent) this.journal.record(entry);
+    }
+
+    /**
+     * Schedules every unlock since the last update to be written to the journal in the background
      */
     public void updateTracker() {
-        try (BufferedWriter tracker = new BufferedWriter(new FileWriter(TRACKER));) {
-            if (galleryUnlocked.check()) {
-                tracker.write("GALLERYUNLOCKED");
-                tracker.newLine();
-            }
+        if (this.persistent) PersistenceWriter.submit(this.journal);
+    }
 
-            for (Chapter c : Chapter.GALLERYCHAPTERS) {
-                if (unlockedChapters.get(c).check()) {
-                    tracker.write("CHAPTER " + c.getID());
-                    tracker.newLine();
-                }
-            }
+    /**
+     * Saves which Chapters and achievements are currently unlocked to a given snapshot
+     * @param snapshot the snapshot to save to
+     */
+    public void saveState(SessionSnapshot snapshot) {
+        ArrayList<Chapter> chapters = new ArrayList<>();
+        for (Chapter c : Chapter.GALLERYCHAPTERS) {
+            if (unlockedChapters.get(c).check()) chapters.add(c);
+        }
 
-            for (Achievement a : achievements.valueList()) {
-                if (a.isUnlocked()) {
-                    tracker.write(a.getID());
-                    tracker.newLine();
-                }
-            }
-        } catch (IOException e) {
-            System.out.println(e);
+        ArrayList<String> ids = new ArrayList<>();
+        for (Achievement a : this.getUnlockedAchievements()) ids.add(a.getID());
+
+        snapshot.put("galleryUnlocked", galleryUnlocked.check());
+        snapshot.put("unlockedChapters", chapters);
+        snapshot.put("unlockedAchievements", ids);
+    }
+
+    /**
+     * Unlocks every Chapter and achievement that was unlocked when a given snapshot was taken, without announcing them; since achievements are permanent, nothing unlocked since then is locked again
+     * @param snapshot the snapshot to restore from
+     */
+    public void restoreState(SessionSnapshot snapshot) {
+        if (snapshot.getBoolean("galleryUnlocked")) galleryUnlocked.set();
+
+        ArrayList<Chapter> chapters = snapshot.get("unlockedChapters");
+        for (Chapter c : chapters) this.unlock(c);
+
+        ArrayList<String> ids = snapshot.get("unlockedAchievements");
+        Achievement achievement;
+        for (String id : ids) {
+            achievement = list.get(id);
+            if (achievement != null) this.unlockSilently(achievement);
         }
     }
 
@@ -512,37 +498,37 @@ public class AchievementTracker {
      */
     public void showGallery() {
         boolean repeat = true;
-        String choice;
+        Outcome choice;
 
         // MENU IS BROKEN?
-        System.out.println("[DEBUG: metaMenuActive is " + manager.metaMenuActive() + "]");
+        IOHandler.out().println("[DEBUG: metaMenuActive is " + manager.metaMenuActive() + "]");
 
         while (repeat) {
-            System.out.println();
+            IOHandler.out().println();
             IOHandler.wrapPrintln("--- THE ACHIEVEMENT GALLERY ---");
-            IOHandler.wrapPrintln("You have unlocked " + this.nUnlockedAchievements + "/" + this.nAchievements + " achievements.");
+            IOHandler.wrapPrintln("You have unlocked " + this.nUnlockedAchievements() + "/" + this.nAchievements + " achievements.");
 
             choice = parser.promptOptionsMenu(achievementsMenu);
             switch (choice) {
-                case "locked":
+                case LOCKED:
                     this.showLockedAchievements();
                     break;
 
-                case "general":
+                case GENERAL:
                     this.printGeneralAchievementsList();
                     parser.promptOptionsMenu(returnMenu);
                     break;
 
-                case "reset":
+                case RESET:
                     manager.resetAchievements();
                     break;
 
-                case "return":
+                case RETURN:
                     repeat = false;
                     break;
 
                 default:
-                    this.printChapterAchievementsList(Chapter.getChapter(choice));
+                    this.printChapterAchievementsList(Chapter.getChapter(choice.getID()));
                     parser.promptOptionsMenu(returnMenu);
             }
         }
@@ -554,16 +540,17 @@ public class AchievementTracker {
     private void showLockedAchievements() {
         ArrayList<Achievement> lockedAchievements = this.getLockedAchievements();
         int nVisibleAchievements = lockedAchievements.size();
+        int nLockedHiddenAchievements = this.nLockedHiddenAchievements();
 
         if (nVisibleAchievements == 0) {
-            System.out.println();
+            IOHandler.out().println();
             IOHandler.wrapPrintln("--- Locked Achievements ---");
-            System.out.println();
+            IOHandler.out().println();
 
             if (!lockedRemaining.check()) {
                 IOHandler.wrapPrintln("No locked achievements to show!");
             } else {
-                IOHandler.wrapPrintln("No locked achievements to show. " + this.nLockedHiddenAchievements + " hidden achievements not shown.");
+                IOHandler.wrapPrintln("No locked achievements to show. " + nLockedHiddenAchievements + " hidden achievements not shown.");
             }
 
             parser.promptOptionsMenu(returnMenu);
@@ -571,16 +558,16 @@ public class AchievementTracker {
             int nPages = nVisibleAchievements / PAGELENGTH;
 
             if (nPages == 0) {
-                System.out.println();
+                IOHandler.out().println();
                 IOHandler.wrapPrintln("--- Locked Achievements ---");
-                System.out.println();
+                IOHandler.out().println();
 
                 for (int i = 0; i < nVisibleAchievements; i++) {
-                    IOHandler.wrapPrintln("  (" + (i+1) + ".) " + lockedAchievements.get(i));
+                    IOHandler.wrapPrintlnCached("  (" + (i+1) + ".) " + lockedAchievements.get(i));
                 }
 
-                System.out.println();
-                IOHandler.wrapPrintln("Showing achievements 1-" + nVisibleAchievements + " of " + nVisibleAchievements + ". " + this.nLockedHiddenAchievements + " hidden achievements not shown.");
+                IOHandler.out().println();
+                IOHandler.wrapPrintln("Showing achievements 1-" + nVisibleAchievements + " of " + nVisibleAchievements + ". " + nLockedHiddenAchievements + " hidden achievements not shown.");
             } else {
                 if (nVisibleAchievements % PAGELENGTH != 0) nPages += 1;
                 NumCondition notLastPage = new NumCondition(this.currentPage, -1, nPages - 1);
@@ -592,45 +579,45 @@ public class AchievementTracker {
                 pageMenu.get("last").setConditions(notLastPage);
 
                 boolean repeat = true;
-                String choice;
+                Outcome choice;
                 while (repeat) {
                     firstShown = (currentPage.check() * PAGELENGTH) + 1;
                     lastShown = (notLastPage.check()) ? firstShown + PAGELENGTH - 1 : nVisibleAchievements - 1;
 
-                    System.out.println();
+                    IOHandler.out().println();
                     IOHandler.wrapPrintln("--- Locked Achievements ---");
-                    System.out.println();
+                    IOHandler.out().println();
 
                     for (int i = firstShown - 1; i < lastShown; i++) {
-                        IOHandler.wrapPrintln("  (" + (i+1) + ".) " + lockedAchievements.get(i));
+                        IOHandler.wrapPrintlnCached("  (" + (i+1) + ".) " + lockedAchievements.get(i));
                     }
 
-                    System.out.println();
-                    if (this.nLockedHiddenAchievements == 0) {
+                    IOHandler.out().println();
+                    if (nLockedHiddenAchievements == 0) {
                         IOHandler.wrapPrintln("Showing achievements " + firstShown + "-" + lastShown + " of " + nVisibleAchievements + ".");
                     } else {
-                        IOHandler.wrapPrintln("Showing achievements " + firstShown + "-" + lastShown + " of " + nVisibleAchievements + ". " + this.nLockedHiddenAchievements + " hidden achievements not shown.");
+                        IOHandler.wrapPrintln("Showing achievements " + firstShown + "-" + lastShown + " of " + nVisibleAchievements + ". " + nLockedHiddenAchievements + " hidden achievements not shown.");
                     }
 
                     choice = parser.promptOptionsMenu(pageMenu);
                     switch (choice) {
-                        case "first":
+                        case FIRST:
                             currentPage.set(0);
                             break;
 
-                        case "prev":
+                        case PREV:
                             currentPage.decrement();
                             break;
 
-                        case "next":
+                        case NEXT:
                             currentPage.increment();
                             break;
 
-                        case "last":
+                        case LAST:
                             currentPage.set(nPages - 1);
                             break;
 
-                        case "return":
+                        case RETURN:
                             repeat = false;
                             break;
                     }
@@ -643,20 +630,20 @@ public class AchievementTracker {
      * Prints all unlocked general achievements
      */
     public void printGeneralAchievementsList() {
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("--- General ---");
-        System.out.println();
+        IOHandler.out().println();
 
         ArrayList<Achievement> unlockedAchievements = this.getUnlockedGeneralAchievements();
         if (unlockedAchievements.isEmpty()) {
             IOHandler.wrapPrintln("No unlocked achievements to show.");
         } else {
             for (int i = 0; i < unlockedAchievements.size(); i++) {
-                IOHandler.wrapPrintln("  (" + (i+1) + ".) " + unlockedAchievements.get(i));
+                IOHandler.wrapPrintlnCached("  (" + (i+1) + ".) " + unlockedAchievements.get(i));
             }
         }
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("You have unlocked " + unlockedAchievements.size() + "/" + this.nGeneralAchievements + " general achievements.");
     }
 
@@ -667,21 +654,21 @@ public class AchievementTracker {
     public void printChapterAchievementsList(Chapter c) {
         c = getGalleryChapter(c);
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("--- " + c.toString() + " ---");
-        IOHandler.wrapPrintln(c.galleryHintUnlocked());
-        System.out.println();
+        IOHandler.wrapPrintlnCached(c.galleryHintUnlocked());
+        IOHandler.out().println();
 
         ArrayList<Achievement> unlockedAchievements = this.getUnlockedChapterAchievements(c);
         if (unlockedAchievements.isEmpty()) {
             IOHandler.wrapPrintln("No unlocked achievements to show.");
         } else {
             for (int i = 0; i < unlockedAchievements.size(); i++) {
-                IOHandler.wrapPrintln("  (" + (i+1) + ".) " + unlockedAchievements.get(i));
+                IOHandler.wrapPrintlnCached("  (" + (i+1) + ".) " + unlockedAchievements.get(i));
             }
         }
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("You have unlocked " + unlockedAchievements.size() + "/" + this.nChapterAchievements(c) + " achievements from this Chapter.");
     }
 
@@ -702,4 +689,25 @@ public class AchievementTracker {
         }
     }
 
+    /**
+     * Checks whether a given String can be used as a profile name
+     * @param profile the String to check
+     * @return true if profile is made up of only letters, numbers, hyphens and underscores, and is not too long; false otherwise
+     */
+    public static boolean isValidProfile(String profile) {
+        return !profile.isEmpty() && profile.length() <= MAXPROFILELENGTH && profile.matches("[A-Za-z0-9_-]+");
+    }
+
+    /**
+     * Returns the directory a given profile's achievements are stored in
+     * @param profile the name of the profile
+     * @return the Saves folder for the default profile; its own folder in Saves/Profiles for any other profile
+     * @throws IllegalArgumentException if profile is not a valid profile name
+     */
+    public static Path getProfileDirectory(String profile) {
+        if (profile.equals(DEFAULTPROFILE)) return Path.of("Saves");
+        if (!isValidProfile(profile)) throw new IllegalArgumentException("Invalid profile name " + profile);
+        return Path.of("Saves", "Profiles", profile);
+    }
+
 }
@@ -0,0 +1,82 @@
+public abstract class CachedCondition extends AbstractCondition implements ConditionDependent {
+
+    private boolean tracked = true; // False if any input does not report its changes, in which case nothing is cached
+    private boolean valid = false; // Whether value is up to date with every input
+    private boolean value;
+
+    // --- DEPENDENCY TRACKING ---
+
+    /**
+     * Registers this condition as depending on another, so its cached result is discarded whenever that condition changes
+     * @param input a condition that the value of this condition is computed from
+     */
+    protected void dependOn(AbstractCondition input) {
+        if (input.isTracked()) {
+            input.addDependent(this);
+        } else {
+            this.tracked = false;
+        }
+    }
+
+    /**
+     * Registers this condition as depending on several others, so its cached result is discarded whenever any of them change
+     * @param inputs the conditions that the value of this condition is computed from
+     */
+    protected void dependOn(AbstractCondition[] inputs) {
+        for (AbstractCondition input : inputs) this.dependOn(input);
+    }
+
+    /**
+     * Registers this condition as depending on a GlobalInt, so its cached result is discarded whenever that GlobalInt changes
+     * @param input a GlobalInt that the value of this condition is computed from
+     */
+    protected void dependOn(GlobalInt input) {
+        input.addDependent(this);
+    }
+
+    /**
+     * Checks whether this condition reports every change to its value, so composite conditions built on it can safely cache their results
+     * @return true if every input of this condition reports its changes; false otherwise
+     */
+    @Override
+    public boolean isTracked() {
+        return this.tracked;
+    }
+
+    /**
+     * Discards the cached result of this condition, then notifies every composite condition built on it
+     */
+    @Override
+    public void invalidate() {
+        // If the result was already stale, nothing has read it since, so no dependent can be holding a result computed from it
+        if (!this.valid) return;
+
+        this.valid = false;
+        this.changed();
+    }
+
+    // --- CHECKS ---
+
+    /**
+     * Checks whether this condition is met, only re-evaluating it if one of its inputs has changed since it was last checked
+     * @return the boolean value of this condition
+     */
+    @Override
+    public final boolean check() {
+        if (!this.tracked) return this.evaluate();
+
+        if (!this.valid) {
+            this.value = this.evaluate();
+            this.valid = true;
+        }
+
+        return this.value;
+    }
+
+    /**
+     * Computes whether this condition is met from its inputs
+     * @return the boolean value of this condition
+     */
+    protected abstract boolean evaluate();
+
+}
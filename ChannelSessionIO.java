@@ -0,0 +1,88 @@
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+public class ChannelSessionIO implements SessionIO {
+
+    private final ByteChannel channel;
+    private final BufferedReader input;
+    private final PrintStream output;
+    private int wrapColumns = IOHandler.DEFAULTWRAPCOLUMNS;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param channel the channel to read input from and write output to (such as a SocketChannel); must be in blocking mode
+     */
+    public ChannelSessionIO(ByteChannel channel) {
+        this.channel = channel;
+        this.input = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        this.output = new PrintStream(new BufferedOutputStream(Channels.newOutputStream(channel)), true, StandardCharsets.UTF_8);
+    }
+
+    // --- INPUT & OUTPUT ---
+
+    /**
+     * Reads the next line of input from the channel, waiting until one is available; any pending output is sent first
+     * @return the next line of input, or null if the channel has been closed
+     */
+    @Override
+    public String readLine() {
+        this.output.flush();
+
+        try {
+            return this.input.readLine();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the stream that all output for this session is written to
+     * @return the stream that all output for this session is written to
+     */
+    @Override
+    public PrintStream getOutput() {
+        return this.output;
+    }
+
+    /**
+     * Returns the number of columns this session's output is wrapped at
+     * @return the number of columns this session's output is wrapped at
+     */
+    @Override
+    public int getWrapColumns() {
+        return this.wrapColumns;
+    }
+
+    /**
+     * Sets the number of columns this session's output is wrapped at
+     * @param columns the number of columns to wrap this session's output at
+     */
+    @Override
+    public void setWrapColumns(int columns) {
+        if (columns <= 0) throw new RuntimeException("Wrap width must be positive");
+        this.wrapColumns = columns;
+    }
+
+    /**
+     * Flushes any pending output, then closes the channel
+     */
+    @Override
+    public void close() {
+        this.output.flush();
+
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            System.out.println("[DEBUG: Failed to close session channel]");
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+public enum ChapterFlag {
+    // Player-dependent flags used during all chapters
+    FIRSTVESSEL("firstvessel", "notfirstvessel"),
+    HASBLADE("hasblade", "noblade"),
+    HARSH("harsh", "soft"),
+    KNOWSDESTINY("knowledge", "noknowledge"),
+
+    // Gameplay-dependent flags used during Chapter 2 or 3
+    SHAREDLOOP("sharedloop", "noshare"),
+    SHAREDLOOPINSIST("sharedinsist", "noinsist"),
+    MIRRORCOMMENT("mirrorask", "nomirrorask"),
+    TOUCHEDMIRROR("mirrortouch", "nomirrortouch"),
+    MIRRORKNOWN("mirror2", "nomirror2"),
+    THREWBLADE("threwblade", "nothrow"),
+    ADVERSARYTOOKBLADE("tookblade", "leftblade"),
+    FREEFROMCHAINS2("chainsfree", "notfree"),
+
+    // Gameplay-dependent flags used during Chapter 2 only
+    NARRATORPROOF("narrproof", "noproof"),
+    DROPPEDBLADE1("drop1", "nodrop1"),
+    WHATWOULDYOUDO("whatdo1", "nowhatdo1"),
+    RESCUEPATH("rescue1", "norescue1"),
+
+    // Gameplay-dependent flags used during Chapter 3 only
+    ABANDONED2("abandoned", "noabandon"),
+    ADVERSARYFACEEXPLORE("faceask", "nofaceask"),
+    SPECTRESHAREDIED("deathshared", "nodeathshare"),
+    SPECTREPOSSESSASK("possessask", "nopossessask"),
+    SPECTRECANTWONTASK("cantwontask", "nocantwontask"),
+    SPECTREENDSLAY("endslay", "noendslay"),
+    PRISONERFORCEDBLADE("forcedblade", "noforce"),
+    PRISONERWATCHEDHEAD("headwatch", "nowatch"),
+    PRISONERGOODENDINGSEEN("goodseen", "goodnotseen"),
+    PRISONERHEARTSTOPPED("heartstop", "noheartstop"),
+    CAGECUTROUTE("cutroute", "nocut"),
+    HAPPYSMITTENKNOWN("smittenknown", "nosmitten"),
+    HAPPYGETUPATTEMPT("getupattempt", "nogetup");
+
+    private final String trueModifier;
+    private final String falseModifier;
+    private final long bit;
+
+    // --- CONSTRUCTOR ---
+
+    /**
+     * Constructor
+     * @param trueModifier the script modifier that checks whether this flag is set
+     * @param falseModifier the script modifier that checks whether this flag is not set
+     */
+    private ChapterFlag(String trueModifier, String falseModifier) {
+        this.trueModifier = trueModifier;
+        this.falseModifier = falseModifier;
+        this.bit = 1L << this.ordinal();
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for trueModifier
+     * @return the script modifier that checks whether this flag is set
+     */
+    public String getTrueModifier() {
+        return this.trueModifier;
+    }
+
+    /**
+     * Accessor for falseModifier
+     * @return the script modifier that checks whether this flag is not set
+     */
+    public String getFalseModifier() {
+        return this.falseModifier;
+    }
+
+    /**
+     * Accessor for bit
+     * @return the bit representing this flag in a packed flag word
+     */
+    public long bit() {
+        return this.bit;
+    }
+
+    // --- MISC ---
+
+    /**
+     * Returns the flag checked by the given script modifier
+     * @param modifier the script modifier
+     * @return the flag checked by modifier, or null if modifier does not check a flag
+     */
+    public static ChapterFlag getFlag(String modifier) {
+        for (ChapterFlag flag : values()) {
+            if (flag.trueModifier.equals(modifier) || flag.falseModifier.equals(modifier)) return flag;
+        }
+
+        return null;
+    }
+
+}
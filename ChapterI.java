@@ -21,10 +21,7 @@ public class ChapterI extends StandardCycle {
     private boolean harshIsArmed = false;
     private boolean harshAfraid = false;
 
-    // Flags that persist in Chapter 2
-    private boolean droppedBlade1 = false; // Used in Adversary
-    private boolean whatWouldYouDo = false; // Used in Damsel
-    private boolean rescuePath = false; // Used in Witch
+    // Flags that persist in Chapter 2 (droppedBlade1, whatWouldYouDo, rescuePath) are stored in this.flags
 
     // --- CONSTRUCTOR ---
 
@@ -46,6 +43,16 @@ public class ChapterI extends StandardCycle {
         this.mustSpectre = !this.canHesitateSlay && manager.hasVisited(Chapter.PRISONER);
     }
 
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for whatWouldYouDo
+     * @return whether or not the player asked the Princess what she would do if she left the cabin
+     */
+    public boolean whatWouldYouDo() {
+        return this.flags.has(ChapterFlag.WHATWOULDYOUDO);
+    }
+
     // --- CHAPTER MANAGEMENT ---
 
     /**
@@ -68,8 +75,10 @@ public class ChapterI extends StandardCycle {
             case DEMOENDING: break;
 
             default:
-                ChapterII chapter2 = new ChapterII(ending, manager, parser, route, isHarsh, knowsDestiny, droppedBlade1, whatWouldYouDo, rescuePath);
+                ChapterII chapter2 = new ChapterII(ending, manager, parser, route, this.flags.toLong());
+                manager.setActiveCycle(chapter2);
                 ending = chapter2.runChapter();
+                manager.setActiveCycle(this);
                 
                 if (ending == null) return ChapterEnding.DEMOENDING;
                 switch (ending) {
@@ -103,7 +112,7 @@ public class ChapterI extends StandardCycle {
 
         boolean canStranger = !manager.hasVisited(Chapter.STRANGER);
 
-        if (!this.isFirstVessel || manager.nVesselsAborted() > 0) manager.unlock("firstRoute");
+        if (!this.isFirstVessel() || manager.nVesselsAborted() > 0) manager.unlock("firstRoute");
         
         mainScript.runSection();
 
@@ -136,19 +145,19 @@ public class ChapterI extends StandardCycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (this.activeOutcome) {
-                case "question1":
-                case "refuse":
+                case QUESTION1:
+                case REFUSE:
                     canReluctant.set();
-                    mainScript.runSection(activeOutcome);
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "question2":
-                case "whyDanger":
+                case QUESTION2:
+                case WHYDANGER:
                     canQuestionFollowUp.set(false);
-                    mainScript.runSection(activeOutcome);
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "someoneElse":
+                case SOMEONEELSE:
                     if (activeMenu.hasBeenPicked("question2") || activeMenu.hasBeenPicked("whyDanger")) {
                         mainScript.runSection("someoneElseA");
                     } else {
@@ -157,39 +166,39 @@ public class ChapterI extends StandardCycle {
 
                     break;
 
-                case "prize":
+                case PRIZE:
                     this.askedPrize = true;
                     mainScript.runSection("prize");
                     break;
 
-                case "whatHappens":
-                case "evidence":
-                case "chickenEgg":
-                case "conscience":
-                case "letItBurn":
-                case "prize2":
-                    mainScript.runSection(activeOutcome);
+                case WHATHAPPENS:
+                case EVIDENCE:
+                case CHICKENEGG:
+                case CONSCIENCE:
+                case LETITBURN:
+                case PRIZE2:
+                    mainScript.runSection(activeOutcome.getID());
                     break;
                     
-                case "reluctant":
-                case "okFine":
-                case "sold":
-                case "thanks":
-                case "sweet":
+                case RELUCTANT:
+                case OKFINE:
+                case SOLD:
+                case THANKS:
+                case SWEET:
                     this.repeatActiveMenu = false;
-                    mainScript.runSection(activeOutcome);
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "cGoHill":
+                case CGOHILL:
                     if (mustStranger.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "silent":
+                case SILENT:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (manager.hasVisited(Chapter.STRANGER)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
@@ -197,7 +206,7 @@ public class ChapterI extends StandardCycle {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "leave":
+                case LEAVE:
                     if (this.ch1AttemptStranger()) {
                         return ChapterEnding.TOSTRANGER;
                     } else {
@@ -223,12 +232,12 @@ public class ChapterI extends StandardCycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (this.activeOutcome) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (manager.hasVisited(Chapter.STRANGER)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
@@ -265,35 +274,35 @@ public class ChapterI extends StandardCycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (this.activeOutcome) {
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     if (!canHarsh) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
 
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.isHarsh = true;
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HARSH);
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     activeMenu.setGreyedOut("enter", false);
 
                     mainScript.runSection();
                     break;
                 
-                case "cGoStairs":
-                    if (!this.isHarsh && !canSoft) {
+                case CGOSTAIRS:
+                    if (!this.isHarsh() && !canSoft) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "enter":
+                case ENTER:
                     this.repeatActiveMenu = false;
                     cantTryAbort.set(false);
                     this.withBlade = false;
                     manager.addToPlaylist("The World-Ender");
-                    return (this.isHarsh) ? this.ch1BasementHarsh() : this.ch1BasementSoft();
+                    return (this.isHarsh()) ? this.ch1BasementHarsh() : this.ch1BasementSoft();
 
-                case "cGoHill":
+                case CGOHILL:
                     if (manager.hasVisited(Chapter.STRANGER)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
@@ -339,31 +348,31 @@ public class ChapterI extends StandardCycle {
         leaveMenu.add(new Option(this.manager, "quiet", "[Quietly continue down the path away from the cabin.]"));
 
         boolean repeatMenu = true;
-        String outcome;
+        Outcome outcome;
         while (repeatMenu) {
             outcome = parser.promptOptionsMenu(leaveMenu);
             switch (outcome) {
-                case "cGoHill":
-                case "ugh":
-                case "maybe":
-                    secondaryScript.runSection(outcome);
+                case CGOHILL:
+                case UGH:
+                case MAYBE:
+                    secondaryScript.runSection(outcome.getID());
                     return false;
 
-                case "lie":
+                case LIE:
                     repeatMenu = false;
                     secondaryScript.runSection("lie");
                     break;
 
-                case "nihilistA":
-                case "nihilistB":
+                case NIHILISTA:
+                case NIHILISTB:
                     repeatMenu = false;
                     secondaryScript.runSection("nihilist");
                     break;
 
-                case "cGoLeave":
-                case "nope":
-                case "notGoing":
-                case "quiet":
+                case CGOLEAVE:
+                case NOPE:
+                case NOTGOING:
+                case QUIET:
                     repeatMenu = false;
                     secondaryScript.runSection("fine");
                     break;
@@ -383,18 +392,18 @@ public class ChapterI extends StandardCycle {
         while (repeatMenu) {
             outcome = parser.promptOptionsMenu(leaveMenu);
             switch (outcome) {
-                case "cGoCabin":
+                case CGOCABIN:
                     this.skipHillDialogue = true;
                     secondaryScript.runSection("cabinSilent");
                     return false;
 
-                case "cabin":
+                case CABIN:
                     this.skipHillDialogue = true;
                     secondaryScript.runSection("cabin");
                     return false;
 
-                case "cGoPath":
-                case "commit":
+                case CGOPATH:
+                case COMMIT:
                     repeatMenu = false;
                     break;
 
@@ -415,16 +424,16 @@ public class ChapterI extends StandardCycle {
         while (repeatMenu) {
             outcome = parser.promptOptionsMenu(leaveMenu);
             switch (outcome) {
-                case "dontCare":
-                case "good":
-                case "blackmail":
-                case "cGoPath":
-                case "quiet":
+                case DONTCARE:
+                case GOOD:
+                case BLACKMAIL:
+                case CGOPATH:
+                case QUIET:
                     repeatMenu = false;
-                    secondaryScript.runSection(outcome);
+                    secondaryScript.runSection(outcome.getID());
                     break;
 
-                case "cGoCabin":
+                case CGOCABIN:
                     this.skipHillDialogue = true;
                     secondaryScript.runSection("cabin2");
                     return false;
@@ -444,14 +453,14 @@ public class ChapterI extends StandardCycle {
         while (repeatMenu) {
             outcome = parser.promptOptionsMenu(leaveMenu);
             switch (outcome) {
-                case "cGoHill":
-                case "cabin":
+                case CGOHILL:
+                case CABIN:
                     this.skipHillDialogue = true;
                     secondaryScript.runSection("cabin3");
                     return false;
 
-                case "cGoLeave":
-                case "commit":
+                case CGOLEAVE:
+                case COMMIT:
                     if (manager.confirmContentWarnings(Chapter.STRANGER)) repeatMenu = false;
                     break;
 
@@ -501,30 +510,30 @@ public class ChapterI extends StandardCycle {
         while (this.repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (this.activeOutcome) {
-                case "hi":
-                case "checkIn":
+                case HI:
+                case CHECKIN:
                     this.repeatActiveMenu = false;
-                    secondaryScript.runSection(activeOutcome);
+                    secondaryScript.runSection(activeOutcome.getID());
                     break;
-                case "lieSave":
+                case LIESAVE:
                     lieSave = true;
-                case "hereToSave":
+                case HERETOSAVE:
                     this.repeatActiveMenu = false;
                     hereToSave = true;
-                    secondaryScript.runSection(activeOutcome);
+                    secondaryScript.runSection(activeOutcome.getID());
                     break;
-                case "jokeKill":
+                case JOKEKILL:
                     this.repeatActiveMenu = false;
                     jokeKill.set();
                     secondaryScript.runSection("jokeKill");
                     break;
-                case "cGoBasement":
-                case "silent":
+                case CGOBASEMENT:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("silentStairs");
                     break;
                 
-                case "cGoCabin":
+                case CGOCABIN:
                     mainScript.runSection("stairsLeaveFail");
                     break;
 
@@ -551,16 +560,16 @@ public class ChapterI extends StandardCycle {
         while (this.repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (this.activeOutcome) {
-                case "talk":
+                case TALK:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "free":
+                case FREE:
                     if (!manager.confirmContentWarnings("self-mutilation", true)) break;
 
                     return this.ch1RescueSoft(false, hereToSave && !lieSave, false);
                 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     mainScript.runSection("basementLeaveFail");
                     break;
 
@@ -571,7 +580,7 @@ public class ChapterI extends StandardCycle {
 
         mainScript.runSection("princessTalk");
 
-        String outcome = "";
+        Outcome outcome = null;
         boolean repeatSub;
 
         this.activeMenu = new OptionsMenu();
@@ -593,59 +602,59 @@ public class ChapterI extends StandardCycle {
         while (this.repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (this.activeOutcome) {
-                case "name":
-                case "name2":
-                case "whyImprisoned":
-                case "eat":
-                    secondaryScript.runSection(activeOutcome);
+                case NAME:
+                case NAME2:
+                case WHYIMPRISONED:
+                case EAT:
+                    secondaryScript.runSection(activeOutcome.getID());
                     break;
                     
-                case "notKidding":
+                case NOTKIDDING:
                     if (this.ch1ShareTaskSoft(false)) {
                         return this.ch1RescueSoft(true, false, false);
                     } else {
-                        if (this.whatWouldYouDo) activeMenu.setCondition("whatWouldYouDo", false);
+                        if (this.whatWouldYouDo()) activeMenu.setCondition("whatWouldYouDo", false);
                     }
 
-                case "shareTask":
+                case SHARETASK:
                     this.subMenu = new OptionsMenu(true);
                     subMenu.add(new Option(this.manager, "notDanger", "\"But I don't think you're actually dangerous.\""));
                     subMenu.add(new Option(this.manager, "notSure", "\"But I wanted to see you for myself. I'm still not sure what to believe.\""));
                     subMenu.add(new Option(this.manager, "notRight", "\"I'm starting to think it's true. There's something about you that doesn't feel right.\""));
 
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "notDanger":
-                        case "notSure":
+                        case NOTDANGER:
+                        case NOTSURE:
                             if (this.ch1ShareTaskSoft(false)) {
                                 return this.ch1RescueSoft(true, hereToSave && !lieSave, false);
                             } else {
-                                if (this.whatWouldYouDo) activeMenu.setCondition("whatWouldYouDo", false);
+                                if (this.whatWouldYouDo()) activeMenu.setCondition("whatWouldYouDo", false);
                             }
                             
                             break;
                             
-                        case "notRight":
+                        case NOTRIGHT:
                             secondaryScript.runSection("shareNotRight");
 
                             if (this.ch1ShareTaskSoft(true)) {
                                 return this.ch1RescueSoft(true, hereToSave && !lieSave, false);
                             } else {
-                                if (this.whatWouldYouDo) activeMenu.setCondition("whatWouldYouDo", false);
+                                if (this.whatWouldYouDo()) activeMenu.setCondition("whatWouldYouDo", false);
                             }
                     }
 
                     break;
 
-                case "whatWouldYouDo":
-                    this.whatWouldYouDo = true;
+                case WHATWOULDYOUDO:
+                    this.flags.set(ChapterFlag.WHATWOULDYOUDO);
                     secondaryScript.runSection("whatWouldYouDo");
                     secondaryScript.runSection("whatDoA");
                     break;
 
-                case "compromiseA":
-                case "compromiseB":
+                case COMPROMISEA:
+                case COMPROMISEB:
                     this.repeatActiveMenu = false;
-                    if (jokeKill.check() && !this.knowsDestiny) {
+                    if (jokeKill.check() && !this.knowsDestiny()) {
                         secondaryScript.runSection("compromiseA");
                     } else {
                         secondaryScript.runSection("compromiseB");
@@ -659,20 +668,20 @@ public class ChapterI extends StandardCycle {
                     repeatSub = true;
                     while (repeatSub) {
                         switch (parser.promptOptionsMenu(subMenu)) {
-                            case "getBlade":
+                            case GETBLADE:
                                 if (!manager.confirmContentWarnings("mutilation", true)) break;
 
                                 secondaryScript.runSection("retrieveFromLockA");
                                 return this.ch1RetrieveBlade(false);
 
-                            case "free":
+                            case FREE:
                                 if (!manager.confirmContentWarnings("self-mutilation", true)) break;
 
                                 secondaryScript.runSection("rescueFromLock");
 
                                 return this.ch1RescueSoft(true, hereToSave && !lieSave, false);
 
-                            case "lock":
+                            case LOCK:
                                 if (manager.confirmContentWarnings(Chapter.NIGHTMARE)) repeatSub = false;
                                 break;
                         }
@@ -688,12 +697,12 @@ public class ChapterI extends StandardCycle {
                     repeatSub = true;
                     while (repeatSub) {
                         switch (parser.promptOptionsMenu(subMenu)) {
-                            case "lock":
+                            case LOCK:
                                 secondaryScript.runSection();
                                 this.ch1ToNightmare(false, false);
                                 return ChapterEnding.TONIGHTMARE;
 
-                            case "slay":
+                            case SLAY:
                                 if (!manager.confirmContentWarnings("mutilation", true)) break;
 
                                 secondaryScript.runSection("retrieveFromLockB");
@@ -702,19 +711,19 @@ public class ChapterI extends StandardCycle {
                     }
                     
                 
-                case "getBladeSorry":
+                case GETBLADESORRY:
                     if (!manager.confirmContentWarnings("mutilation", true)) break;
 
                     this.repeatActiveMenu = false;
 
-                    if (!this.knowsDestiny) {
+                    if (!this.knowsDestiny()) {
                         if (jokeKill.check()) secondaryScript.runSection("retrieveA");
                         else secondaryScript.runSection("retrieveB");
                     }
 
                     return this.ch1RetrieveBlade(true);
                 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     secondaryScript.runSection("attemptLeave");
 
                     this.subMenu = new OptionsMenu(true);
@@ -726,13 +735,13 @@ public class ChapterI extends StandardCycle {
                     while (repeatSub) {
                         outcome = parser.promptOptionsMenu(subMenu);
                         switch (outcome) {
-                            case "slay":
+                            case SLAY:
                                 if (!manager.confirmContentWarnings("mutilation", true)) break;
 
                                 repeatSub = false;
                                 break;
                                 
-                            case "lock":
+                            case LOCK:
                                 if (!manager.confirmContentWarnings(Chapter.NIGHTMARE)) break;
 
                                 secondaryScript.runSection();
@@ -744,34 +753,34 @@ public class ChapterI extends StandardCycle {
                                 repeatSub = true;
                                 while (repeatSub) {
                                     switch (parser.promptOptionsMenu(subMenu)) {
-                                        case "lock":
+                                        case LOCK:
                                             secondaryScript.runSection();
 
-                                            System.out.println();
+                                            IOHandler.out().println();
                                             this.ch1ToNightmare(false, false);
                                             return ChapterEnding.TONIGHTMARE;
 
-                                        case "slay":
+                                        case SLAY:
                                             if (!manager.confirmContentWarnings("mutilation", true)) break;
 
                                             secondaryScript.runSection("retrieveFromLockB");
 
-                                            System.out.println();
+                                            IOHandler.out().println();
                                             return this.ch1RetrieveBlade(false);
                                     }
                                 }
                                 
                                 break; // Should be unreachable
 
-                            case "nevermind":
+                            case NEVERMIND:
                                 repeatSub = false;
                                 break;
                         }
                     }
 
-                    if (!outcome.equals("slay")) break;
+                    if (outcome != Outcome.SLAY) break;
 
-                case "getBladeSilent":
+                case GETBLADESILENT:
                     if (!manager.confirmContentWarnings("mutilation", true)) break;
 
                     this.repeatActiveMenu = false;
@@ -779,12 +788,12 @@ public class ChapterI extends StandardCycle {
                     secondaryScript.runSection("retrieveSilent");
                     return this.ch1RetrieveBlade(false);
                 
-                case "freeDontRegret":
+                case FREEDONTREGRET:
                     if (!manager.confirmContentWarnings("self-mutilation", true)) break;
 
                     return this.ch1RescueSoft(false, hereToSave && !lieSave, true);
 
-                case "free":
+                case FREE:
                     if (!manager.confirmContentWarnings("self-mutilation", true)) break;
 
                     return this.ch1RescueSoft(false, hereToSave && !lieSave, false);
@@ -803,13 +812,13 @@ public class ChapterI extends StandardCycle {
      * @return true if the player chooses to free the Princess; false otherwise
      */
     private boolean ch1ShareTaskSoft(boolean lateJoin) {
-        this.knowsDestiny = true;
+        this.flags.set(ChapterFlag.KNOWSDESTINY);
         sharedTask.set();
 
         if (!lateJoin) secondaryScript.runSection("shareTask");
 
         OptionsMenu shareMenu = new OptionsMenu(true);
-        shareMenu.add(new Option(this.manager, "deflect", "(Deflect) \"What are you going to do if I let you out of here?\"", !this.whatWouldYouDo));
+        shareMenu.add(new Option(this.manager, "deflect", "(Deflect) \"What are you going to do if I let you out of here?\"", !this.whatWouldYouDo()));
         shareMenu.add(new Option(this.manager, "enough", "\"I've been told enough.\""));
         shareMenu.add(new Option(this.manager, "youTell", "\"I was hoping you'd tell me.\""));
         shareMenu.add(new Option(this.manager, "reasons", "\"No. But I'm sure they have their reasons for keeping that information secret from me.\""));
@@ -817,28 +826,28 @@ public class ChapterI extends StandardCycle {
         shareMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
 
         boolean repeatMenu = true;
-        String outcome;
+        Outcome outcome;
         while (repeatMenu) {
             outcome = parser.promptOptionsMenu(shareMenu);
             switch (outcome) {
-                case "deflect":
+                case DEFLECT:
                     repeatMenu = false;
-                    this.whatWouldYouDo = true;
+                    this.flags.set(ChapterFlag.WHATWOULDYOUDO);
                     secondaryScript.runSection("whatWouldYouDo");
                     secondaryScript.runSection("whatDoB");
                     break;
 
-                case "youTell":
+                case YOUTELL:
                     repeatMenu = false;
                     secondaryScript.runSection("shareYouTell");
                     break;
 
-                case "reasons":
+                case REASONS:
                     repeatMenu = false;
                     secondaryScript.runSection("shareReasons");
                     break;
 
-                case "noDanger":
+                case NODANGER:
                     secondaryScript.runSection("shareNoDanger");
 
                     OptionsMenu finalShareMenu = new OptionsMenu(true);
@@ -847,21 +856,21 @@ public class ChapterI extends StandardCycle {
 
                     while (repeatMenu) {
                        switch (parser.promptOptionsMenu(finalShareMenu)) {
-                            case "talk":
+                            case TALK:
                                 secondaryScript.runSection();
                                 return false;
-                            case "free":
+                            case FREE:
                                 if (!manager.confirmContentWarnings("self-mutilation", true)) break;
                                 return true;
                         } 
                     }
 
-                case "enough":
+                case ENOUGH:
                     repeatMenu = false;
                     secondaryScript.runSection("shareEnough");
                     break;
 
-                case "silent":
+                case SILENT:
                     repeatMenu = false;
                     secondaryScript.runSection("shareSilent");
                     break;
@@ -890,7 +899,7 @@ public class ChapterI extends StandardCycle {
         activeMenu.add(new Option(this.manager, "whatIf", "\"And if there isn't a key... do you have any other ideas?\""));
         activeMenu.add(new Option(this.manager, "check", "\"I'm going to check upstairs. Maybe the key's still lying around somewhere up there. And if not, maybe I can at least find something to break you free.\""));
 
-        secondaryScript.runSection(parser.promptOptionsMenu(activeMenu));
+        secondaryScript.runSection(parser.promptOptionsMenu(activeMenu).getID());
         
         this.currentLocation = GameLocation.STAIRS;
         this.reverseDirection = true;
@@ -906,13 +915,13 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "shout":
+                case SHOUT:
                     secondaryScript.runSection("rescueStairsShout");
                     break;
 
-                case "cGoCabin":
+                case CGOCABIN:
                     activeMenu.setCondition("try", false);
-                case "try":
+                case TRY:
                     if (triedDoor) {
                         secondaryScript.runSection("rescueStairsTryAgain");
                     } else {
@@ -922,12 +931,12 @@ public class ChapterI extends StandardCycle {
                     
                     break;
 
-                case "cGoBasement":
-                case "return":
+                case CGOBASEMENT:
+                case RETURN:
                     this.repeatActiveMenu = false;
                     break;
                 
-                case "cSlayNoPrincessFail":
+                case CSLAYNOPRINCESSFAIL:
                     mainScript.runSection("rescueStairsSlayFail");
                     break;
 
@@ -938,7 +947,7 @@ public class ChapterI extends StandardCycle {
 
         this.currentLocation = GameLocation.BASEMENT;
         this.reverseDirection = false;
-        this.hasBlade = true;
+        this.flags.set(ChapterFlag.HASBLADE);
         this.withPrincess = true;
         this.canSlayPrincess = true;
 
@@ -952,18 +961,18 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "save":
+                case SAVE:
                     if (!manager.confirmContentWarnings("mutilation; loss of bodily autonomy", true)) break;
 
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (!this.canNotFreeSoft || hereToSaveTruth) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     return this.ch1RescueSlaySoft();
 
                 default:
@@ -982,8 +991,8 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoStairs":
-                case "door":
+                case CGOSTAIRS:
+                case DOOR:
                     this.repeatActiveMenu = false;
                     break;
                     
@@ -994,7 +1003,7 @@ public class ChapterI extends StandardCycle {
 
         secondaryScript.runSection();
 
-        this.rescuePath = true;
+        this.flags.set(ChapterFlag.RESCUEPATH);
         this.canSlayPrincess = true;
         Option slay = new Option(this.manager, "slay", manager.hasVisited(Chapter.WITCH), "[Slay the Princess.]", 0);
 
@@ -1007,36 +1016,36 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (manager.hasVisited(Chapter.WITCH)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay0":
-                case "slay1":
-                case "slay2":
-                case "slay3":
-                case "slay4":
-                case "slay5":
-                case "slay6":
-                case "slay7":
-                case "slay8":
-                case "slay9":
-                case "slay10":
-                case "slay11":
-                case "slay12":
-                case "slay13":
-                case "slay14":
-                case "slay15":
-                case "slay16":
-                case "slay17":
-                case "slay18":
+                case SLAY0:
+                case SLAY1:
+                case SLAY2:
+                case SLAY3:
+                case SLAY4:
+                case SLAY5:
+                case SLAY6:
+                case SLAY7:
+                case SLAY8:
+                case SLAY9:
+                case SLAY10:
+                case SLAY11:
+                case SLAY12:
+                case SLAY13:
+                case SLAY14:
+                case SLAY15:
+                case SLAY16:
+                case SLAY17:
+                case SLAY18:
                     if (!manager.confirmContentWarnings(Chapter.WITCH)) break;
                     
                     secondaryScript.runSection("rescueControlledSlay1");
                     return ChapterEnding.TOWITCH;
 
-                case "warn":
+                case WARN:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1056,36 +1065,36 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (manager.hasVisited(Chapter.WITCH)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay0":
-                case "slay1":
-                case "slay2":
-                case "slay3":
-                case "slay4":
-                case "slay5":
-                case "slay6":
-                case "slay7":
-                case "slay8":
-                case "slay9":
-                case "slay10":
-                case "slay11":
-                case "slay12":
-                case "slay13":
-                case "slay14":
-                case "slay15":
-                case "slay16":
-                case "slay17":
-                case "slay18":
+                case SLAY0:
+                case SLAY1:
+                case SLAY2:
+                case SLAY3:
+                case SLAY4:
+                case SLAY5:
+                case SLAY6:
+                case SLAY7:
+                case SLAY8:
+                case SLAY9:
+                case SLAY10:
+                case SLAY11:
+                case SLAY12:
+                case SLAY13:
+                case SLAY14:
+                case SLAY15:
+                case SLAY16:
+                case SLAY17:
+                case SLAY18:
                     if (!manager.confirmContentWarnings(Chapter.WITCH)) break;
 
                     secondaryScript.runSection("rescueControlledSlay2");
                     return ChapterEnding.TOWITCH;
 
-                case "resist":
+                case RESIST:
                     if (!manager.confirmContentWarnings(Chapter.DAMSEL)) break;
 
                     this.repeatActiveMenu = false;
@@ -1116,8 +1125,8 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1137,21 +1146,21 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "giveUp":
+                case GIVEUP:
                     if (!manager.confirmContentWarnings(Chapter.BEAST)) break;
                     
                     this.repeatActiveMenu = false;
-                    this.hasBlade = false;
+                    this.flags.set(ChapterFlag.HASBLADE, false);
                     secondaryScript.runSection("rescueSlayGiveUp");
 
                     return ChapterEnding.TOBEAST;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (manager.hasVisited(Chapter.WITCH)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "finish":
+                case FINISH:
                     if (!manager.confirmContentWarnings(Chapter.WITCH)) break;
                     
                     this.repeatActiveMenu = false;
@@ -1159,18 +1168,18 @@ public class ChapterI extends StandardCycle {
 
                     return ChapterEnding.TOWITCHBETRAYAL;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (manager.hasVisited(Chapter.NIGHTMARE)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "run":
+                case RUN:
                     if (!manager.confirmContentWarnings(Chapter.NIGHTMARE)) break;
                     
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("rescueSlayLock");
 
-                    System.out.println();
+                    IOHandler.out().println();
                     this.ch1ToNightmare(true, true);
                     return ChapterEnding.TONIGHTMAREFLED;
 
@@ -1192,7 +1201,7 @@ public class ChapterI extends StandardCycle {
 
         this.currentLocation = GameLocation.CABIN;
         this.withPrincess = false;
-        this.hasBlade = true;
+        this.flags.set(ChapterFlag.HASBLADE);
 
         this.activeMenu = new OptionsMenu();
         activeMenu.add(new Option(this.manager, "hello", "(Explore) \"Hello?\"", 0, Chapter.BEAST));
@@ -1200,14 +1209,14 @@ public class ChapterI extends StandardCycle {
         activeMenu.add(new Option(this.manager, "lock", "She's lost an arm. I'm locking her down there and letting her bleed out.", 0, Chapter.NIGHTMARE));
         activeMenu.add(new Option(this.manager, "finish", "Let's finish this."));
 
-        String outcome;
+        Outcome outcome;
         boolean repeatSub;
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "hello":
+                case HELLO:
                     if (!manager.confirmContentWarnings(Chapter.BEAST)) break;
 
                     activeMenu.setCondition("wrongFoot", false);
@@ -1215,7 +1224,7 @@ public class ChapterI extends StandardCycle {
                     secondaryScript.runSection("retrieveExploreJoin");
                     break;
 
-                case "wrongFoot":
+                case WRONGFOOT:
                     if (!manager.confirmContentWarnings(Chapter.BEAST)) break;
 
                     activeMenu.setCondition("hello", false);
@@ -1223,7 +1232,7 @@ public class ChapterI extends StandardCycle {
                     secondaryScript.runSection("retrieveWrongFoot");
                     break;
 
-                case "cGoCabin":
+                case CGOCABIN:
                     secondaryScript.runSection("retrieveSilentLock");
 
                     this.subMenu = new OptionsMenu();
@@ -1234,15 +1243,15 @@ public class ChapterI extends StandardCycle {
                     while (repeatSub) {
                         outcome = parser.promptOptionsMenu(subMenu);
                         switch (outcome) {
-                            case "cGoCabin":
-                            case "lock":
+                            case CGOCABIN:
+                            case LOCK:
                                 if (!manager.confirmContentWarnings(Chapter.NIGHTMARE)) break;
                                 
                                 this.ch1ToNightmare(true, true);
                                 return ChapterEnding.TONIGHTMARE;
                             
-                            case "cGoBasement":
-                            case "finish":
+                            case CGOBASEMENT:
+                            case FINISH:
                                 repeatSub = false;
                                 break;
 
@@ -1253,7 +1262,7 @@ public class ChapterI extends StandardCycle {
                     
                     break;
 
-                case "lock":
+                case LOCK:
                     secondaryScript.runSection("retrieveLock");
 
                     this.subMenu = new OptionsMenu();
@@ -1264,15 +1273,15 @@ public class ChapterI extends StandardCycle {
                     while (repeatSub) {
                         outcome = parser.promptOptionsMenu(subMenu);
                         switch (outcome) {
-                            case "cGoCabin":
-                            case "lock":
+                            case CGOCABIN:
+                            case LOCK:
                                 if (!manager.confirmContentWarnings(Chapter.NIGHTMARE)) break;
 
                                 this.ch1ToNightmare(true, true);
                                 return ChapterEnding.TONIGHTMARE;
                             
-                            case "cGoBasement":
-                            case "finish":
+                            case CGOBASEMENT:
+                            case FINISH:
                                 repeatSub = false;
                                 break;
 
@@ -1281,8 +1290,8 @@ public class ChapterI extends StandardCycle {
                         }
                     }
 
-                case "cGoBasement":
-                case "finish":
+                case CGOBASEMENT:
+                case FINISH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1304,22 +1313,22 @@ public class ChapterI extends StandardCycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "armOpen":
+                case ARMOPEN:
                     if (!manager.confirmContentWarnings(Chapter.WITCH)) break;
 
                     secondaryScript.runConditionalSection("locked", worthRisk);
                     return ChapterEnding.TOWITCHLOCKED;
                 
-                case "close":
+                case CLOSE:
                     activeMenu.setCondition("armOpen", false);
                     secondaryScript.runSection("retrieveClose");
                     break;
                 
-                case "armClosed":
+                case ARMCLOSED:
                     this.repeatActiveMenu = false;
                     break;
                 
-                case "comeOut":
+                case COMEOUT:
                     if (!manager.confirmContentWarnings(Chapter.BEAST)) break;
 
                     secondaryScript.runSection("retrieveComeOut");
@@ -1329,18 +1338,18 @@ public class ChapterI extends StandardCycle {
                     subMenu.add(new Option(this.manager, "shadows", "[Venture into the shadows.]"));
 
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "wait":
+                        case WAIT:
                             this.ch1BladeBeastWaiting();
                             break;
 
-                        case "shadows":
+                        case SHADOWS:
                             secondaryScript.runSection("retrieveShadows");
                             break;
                     }
                     
                     return ChapterEnding.TOBEAST;
 
-                case "wait":
+                case WAIT:
                     if (!manager.confirmContentWarnings(Chapter.BEAST)) break;
 
                     secondaryScript.runSection("retrieveWait");
@@ -1367,13 +1376,13 @@ public class ChapterI extends StandardCycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(this.activeMenu)) {
-                case "giveUp":
+                case GIVEUP:
                     if (!manager.confirmContentWarnings(Chapter.BEAST)) break;
 
                     secondaryScript.runSection("investigateGiveUp");
                     return ChapterEnding.TOBEAST;
                 
-                case "fight":
+                case FIGHT:
                     if (!manager.confirmContentWarnings(Chapter.WITCH)) break;
 
                     secondaryScript.runSection("investigateFight");
@@ -1395,10 +1404,10 @@ public class ChapterI extends StandardCycle {
         activeMenu.add(new Option(this.manager, "shadows", "[Venture into the shadows.]"));
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "wait":
+            case WAIT:
                 break;
 
-            case "shadows":
+            case SHADOWS:
                 secondaryScript.runSection("retrieveShadows");
                 return;
         }
@@ -1430,19 +1439,19 @@ public class ChapterI extends StandardCycle {
         while (this.repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (this.activeOutcome) {
-                case "jokeKill":
+                case JOKEKILL:
                     jokeKill = true;
-                case "hi":
-                case "checkIn":
+                case HI:
+                case CHECKIN:
                     this.repeatActiveMenu = false;
-                    secondaryScript.runSection(activeOutcome);
+                    secondaryScript.runSection(activeOutcome.getID());
                     break;
-                case "cGoBasement":
-                case "silent":
+                case CGOBASEMENT:
+                case SILENT:
                     secondaryScript.runSection("silentStairs");
                     break;
                 
-                case "cGoCabin":
+                case CGOCABIN:
                     mainScript.runSection("stairsLeaveFail");
                     break;
 
@@ -1471,19 +1480,19 @@ public class ChapterI extends StandardCycle {
         activeMenu.add(new Option(this.manager, "steel", "[Steel your nerves and step forward.]"));
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "undecided":
+            case UNDECIDED:
                 undecided = true;
-            case "noWay":
-            case "caughtMe":
-            case "nuhUh":
-            case "talk":
+            case NOWAY:
+            case CAUGHTME:
+            case NUHUH:
+            case TALK:
                 this.harshHesitated = true;
-            case "noJoke":
+            case NOJOKE:
                 this.repeatActiveMenu = false;
-                secondaryScript.runSection(activeOutcome);
+                secondaryScript.runSection(activeOutcome.getID());
                 break;
 
-            case "steel":
+            case STEEL:
                 this.canDropBlade = true;
                 this.canSlayPrincess = true;
                 
@@ -1500,12 +1509,12 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (this.activeOutcome) {
-                case "cDrop":
+                case CDROP:
                     if (this.mustSpectre) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "drop":
+                case DROP:
                     if (undecided) {
                         secondaryScript.runSection("dropA");
                     } else {
@@ -1514,8 +1523,8 @@ public class ChapterI extends StandardCycle {
 
                     return this.ch1DropBladeHarsh(false);
 
-                case "cSlayPrincess":
-                case "tighten":
+                case CSLAYPRINCESS:
+                case TIGHTEN:
                     secondaryScript.runSection("tighten");
                     
                     return this.ch1SteelNervesHarsh();
@@ -1552,7 +1561,7 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (this.activeOutcome) {
-                case "bluff":
+                case BLUFF:
                     noExplore.set(false);
                     this.harshHesitated = true;
                     this.harshAfraid = true;
@@ -1561,7 +1570,7 @@ public class ChapterI extends StandardCycle {
                     secondaryScript.runSection("steelBluff");
                     break;
 
-                case "isArmed":
+                case ISARMED:
                     noExplore.set(false);
                     this.harshHesitated = true;
                     this.harshIsArmed = true;
@@ -1570,34 +1579,34 @@ public class ChapterI extends StandardCycle {
                     secondaryScript.runSection("steelIsArmed");
                     break;
 
-                case "sorry":
+                case SORRY:
                     noExplore.set(false);
                     canSlay.set(this.canHesitateSlay);
                     
                     secondaryScript.runSection("steelSorry");
                     break;
 
-                case "noDrop":
+                case NODROP:
                     this.repeatActiveMenu = false;
                     canSlay.set(this.canHesitateSlay);
                     break;
 
-                case "cDrop":
+                case CDROP:
                     if (this.mustSpectre) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "drop":
+                case DROP:
                     secondaryScript.runSection("dropA");
 
                     return this.ch1DropBladeHarsh(true);
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (cantSlay.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (!this.harshHesitated && !this.canRazor) {
                         if (!manager.confirmContentWarnings(Chapter.SPECTRE)) break;
                     } else if (this.harshIsArmed || (!this.harshHesitated && !canSpectre)) {
@@ -1629,14 +1638,14 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (this.activeOutcome) {
-                case "impasse":
+                case IMPASSE:
                     activeMenu.setCondition("sure", true);
                     activeMenu.setCondition("stare", false);
 
                     secondaryScript.runSection("steelImpasse");
                     break;
 
-                case "stare":
+                case STARE:
                     activeMenu.setCondition("sure", true);
                     activeMenu.setCondition("contStare", true);
                     activeMenu.setCondition("impasse", false);
@@ -1644,37 +1653,37 @@ public class ChapterI extends StandardCycle {
                     secondaryScript.runSection("steelStare");
                     break;
 
-                case "sure":
+                case SURE:
                     activeMenu.setCondition("stare2", false);
                     activeMenu.setCondition("contStare", false);
 
                     secondaryScript.runSection("steelSure");
                     break;
 
-                case "stare2":
+                case STARE2:
                     activeMenu.setCondition("sure", false);
 
                     secondaryScript.runSection("steelStare2");
                     break;
                 
-                case "contStare":
+                case CONTSTARE:
                     activeMenu.setCondition("sure", false);
                     
                     secondaryScript.runSection("steelContStare");
                     break;
 
-                case "cDrop":
-                case "drop":
+                case CDROP:
+                case DROP:
                     secondaryScript.runSection("dropA");
 
                     return this.ch1DropBladeHarsh(true);
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (cantSlay.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (this.harshIsArmed) {
                         if (!manager.confirmContentWarnings(Chapter.RAZOR)) break;
                     } else if (this.harshAfraid) {
@@ -1699,15 +1708,15 @@ public class ChapterI extends StandardCycle {
     private ChapterEnding ch1DropBladeHarsh(boolean steeled) {
         this.canFree = !manager.hasVisitedAll(Chapter.PRISONER, Chapter.TOWER, Chapter.ADVERSARY);
 
-        this.droppedBlade1 = true;
+        this.flags.set(ChapterFlag.DROPPEDBLADE1);
         this.canDropBlade = false;
-        this.hasBlade = false;
+        this.flags.set(ChapterFlag.HASBLADE, false);
 
         int vagueCount = 0;
         boolean howFree = false;
         Condition noSmallTalk = new Condition(true);
 
-        String outcome;
+        Outcome outcome;
         boolean repeatSub;
         this.activeMenu = new OptionsMenu();
         activeMenu.add(new Option(this.manager, "awkward", "(Explore) \"Yeah, it's uh... pretty awkward.\"", noSmallTalk));
@@ -1724,7 +1733,7 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "awkward":
+                case AWKWARD:
                     noSmallTalk.set(false);
                     secondaryScript.runSection("awkward");
 
@@ -1735,15 +1744,15 @@ public class ChapterI extends StandardCycle {
                     subMenu.add(new Option(this.manager, "notSure", "\"I've been told things, but I'm not sure what to believe.\""));
 
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "reasons":
+                        case REASONS:
                             secondaryScript.runConditionalSection("awkwardReasons", steeled);
                             break;
 
-                        case "deflect":
+                        case DEFLECT:
                             secondaryScript.runConditionalSection("awkwardDeflect", steeled);
                             break;
 
-                        case "shareTask":
+                        case SHARETASK:
                             switch (this.ch1ShareTaskHarsh(steeled)) {
                                 case 1: return this.ch1SlayHarsh();
                                 case 2: return this.ch1RescueHarsh(howFree);
@@ -1752,22 +1761,22 @@ public class ChapterI extends StandardCycle {
                             vagueCount += 1;
                             break;
 
-                        case "notSure":
+                        case NOTSURE:
                             secondaryScript.runSection("awkwardNotSure");
                             break;
                     }
 
-                case "relationship":
+                case RELATIONSHIP:
                     noSmallTalk.set(false);
                     secondaryScript.runSection("relationship");
                     break;
 
-                case "howFree":
+                case HOWFREE:
                     howFree = true;
                     secondaryScript.runSection("howFree");
                     break;
 
-                case "shareTaskA":
+                case SHARETASKA:
                     switch (this.ch1ShareTaskHarsh(steeled)) {
                         case 1: return this.ch1SlayHarsh();
                         case 2: return this.ch1RescueHarsh(howFree);
@@ -1776,7 +1785,7 @@ public class ChapterI extends StandardCycle {
                     vagueCount += 1;
                     break;
 
-                case "shareTaskB":
+                case SHARETASKB:
                     switch (this.ch1ShareTaskHarsh(steeled)) {
                         case 1: return this.ch1SlayHarsh();
                         case 2: return this.ch1RescueHarsh(howFree);
@@ -1785,13 +1794,13 @@ public class ChapterI extends StandardCycle {
                     vagueCount += 1;
                     break;
 
-                case "name":
-                case "howLong":
+                case NAME:
+                case HOWLONG:
                     vagueCount += 1;
-                    secondaryScript.runConditionalSection(activeOutcome, vagueCount);
+                    secondaryScript.runConditionalSection(activeOutcome.getID(), vagueCount);
                     break;
 
-                case "whyHere":
+                case WHYHERE:
                     secondaryScript.runSection("whyHere");
 
                     this.subMenu = new OptionsMenu(true);
@@ -1801,7 +1810,7 @@ public class ChapterI extends StandardCycle {
                     subMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
 
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "shareTask":
+                        case SHARETASK:
                             switch (this.ch1ShareTaskHarsh(steeled)) {
                                 case 1: return this.ch1SlayHarsh();
                                 case 2: return this.ch1RescueHarsh(howFree);
@@ -1810,26 +1819,26 @@ public class ChapterI extends StandardCycle {
                             vagueCount += 1;
                             break;
 
-                        case "told":
+                        case TOLD:
                             secondaryScript.runSection("whyHereTold");
                             break;
 
-                        case "lie":
+                        case LIE:
                             secondaryScript.runSection("whyHereLie");
                             break;
 
-                        case "silent":
+                        case SILENT:
                             secondaryScript.runSection("whyHereSilent");
                             break;
                     }
 
                     break;
                 
-                case "enough":
+                case ENOUGH:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (cantSlay.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
@@ -1841,7 +1850,7 @@ public class ChapterI extends StandardCycle {
 
                     return this.ch1SlayHarsh();
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     secondaryScript.runSection("attemptLeave");
 
                     this.subMenu = new OptionsMenu(true);
@@ -1852,7 +1861,7 @@ public class ChapterI extends StandardCycle {
                     while (repeatSub) {
                         outcome = parser.promptOptionsMenu(subMenu);
                         switch (outcome) {
-                            case "lock":
+                            case LOCK:
                                 if (!manager.confirmContentWarnings(Chapter.NIGHTMARE)) break;
 
                                 secondaryScript.runSection();
@@ -1863,12 +1872,12 @@ public class ChapterI extends StandardCycle {
 
                                 while (repeatSub) {
                                     switch (parser.promptOptionsMenu(subMenu)) {
-                                        case "lock":
+                                        case LOCK:
                                             secondaryScript.runSection();
                                             this.ch1ToNightmare(false, false);
                                             return ChapterEnding.TONIGHTMARE;
 
-                                        case "slay":
+                                        case SLAY:
                                             if (!manager.confirmContentWarnings(Chapter.TOWER)) break;
 
                                             this.harshAfraid = true;
@@ -1879,7 +1888,7 @@ public class ChapterI extends StandardCycle {
                                 
                                 break;
 
-                            case "nevermind":
+                            case NEVERMIND:
                                 repeatSub = false;
                                 secondaryScript.runSection("leaveNevermind");
                                 break;
@@ -1905,12 +1914,12 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (cantSlay.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (this.harshIsArmed && !manager.confirmContentWarnings(Chapter.RAZOR)) {
                         break;
                     } else if (this.harshAfraid && !manager.confirmContentWarnings(Chapter.TOWER)) {
@@ -1919,16 +1928,16 @@ public class ChapterI extends StandardCycle {
 
                     return this.ch1SlayHarsh();
 
-                case "free":
+                case FREE:
                     secondaryScript.runSection("enoughRescue");
                     return this.ch1RescueHarsh(howFree);
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (!this.canNightmare) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "lock":
+                case LOCK:
                     if (manager.confirmContentWarnings(Chapter.NIGHTMARE)) this.repeatActiveMenu = false;
                     break;
 
@@ -1949,12 +1958,12 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (cantSlay.check() && !this.canTower) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (this.harshIsArmed && !manager.confirmContentWarnings(Chapter.RAZOR)) {
                         break;
                     } else if (!manager.confirmContentWarnings(Chapter.TOWER)) {
@@ -1964,12 +1973,12 @@ public class ChapterI extends StandardCycle {
                     this.harshAfraid = true;
                     return this.ch1SlayHarsh();
 
-                case "free":
+                case FREE:
                     secondaryScript.runSection("enoughRescue2");
                     return this.ch1RescueHarsh(howFree);
 
-                case "cGoStairs":
-                case "lock":
+                case CGOSTAIRS:
+                case LOCK:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1988,12 +1997,12 @@ public class ChapterI extends StandardCycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "lock":
+                case LOCK:
                     secondaryScript.runSection();
                     this.ch1ToNightmare(false, false);
                     return ChapterEnding.TONIGHTMARE;
 
-                case "slay":
+                case SLAY:
                     if (!manager.confirmContentWarnings(Chapter.TOWER)) break;
                     
                     this.harshAfraid = true;
@@ -2011,7 +2020,7 @@ public class ChapterI extends StandardCycle {
      * @return 1 if the player decides to slay the Princess; 2 if the player decides to free the Princess; 0 otherwise
      */
     private int ch1ShareTaskHarsh(boolean steeled) {
-        this.knowsDestiny = true;
+        this.flags.set(ChapterFlag.KNOWSDESTINY);
         sharedTask.set();
         this.harshAfraid = true;
         canSlay.set(this.canTower);
@@ -2026,25 +2035,25 @@ public class ChapterI extends StandardCycle {
         shareMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
 
         switch (parser.promptOptionsMenu(shareMenu)) {
-            case "deflect":
+            case DEFLECT:
                 secondaryScript.runSection("shareDeflect");
                 break;
 
-            case "enough":
+            case ENOUGH:
                 secondaryScript.runSection("shareEnough");
                 break;
 
-            case "youTell":
+            case YOUTELL:
                 this.harshAfraid = false;
                 canSlay.set((this.harshIsArmed) ? this.canRazor : this.canHesitateSlay);
                 secondaryScript.runSection("shareYouTell");
                 break;
 
-            case "reasons":
+            case REASONS:
                 secondaryScript.runSection("shareReasons");
                 break;
             
-            case "trustYou":
+            case TRUSTYOU:
                 this.harshAfraid = false;
                 canSlay.set((this.harshIsArmed) ? this.canRazor : this.canHesitateSlay);
                 secondaryScript.runSection("shareTrustYou");
@@ -2055,25 +2064,25 @@ public class ChapterI extends StandardCycle {
                 finalShareMenu.add(new Option(this.manager, "free", !this.canFree, "\"I'll see what I can do.\" [Examine the chains.]", 0));
 
                 boolean repeatMenu = true;
-                String outcome;
+                Outcome outcome;
                 while (repeatMenu) {
                     outcome = parser.promptOptionsMenu(finalShareMenu);
                     switch (outcome) {
-                        case "talk":
+                        case TALK:
                             secondaryScript.runSection();
                             return 0;
 
-                        case "cSlayPrincess":
+                        case CSLAYPRINCESS:
                             if (cantSlay.check()) {
                                 parser.printDialogueLine(CANTSTRAY);
                                 break;
                             }
-                        case "slay":
+                        case SLAY:
                             if (this.harshIsArmed && !manager.confirmContentWarnings(Chapter.RAZOR)) break;
 
                             return 1;
 
-                        case "free":
+                        case FREE:
                             if (!manager.confirmContentWarnings("self-mutilation", true)) break;
 
                             return 2;
@@ -2083,7 +2092,7 @@ public class ChapterI extends StandardCycle {
                     } 
                 }
 
-            case "silent":
+            case SILENT:
                 secondaryScript.runSection("shareSilent");
                 break;
         }
@@ -2101,7 +2110,7 @@ public class ChapterI extends StandardCycle {
         // harshAfraid = forced Tower
         // otherwise = Adversary / Tower / Nightmare
 
-        this.hasBlade = true;
+        this.flags.set(ChapterFlag.HASBLADE);
         this.canDropBlade = false;
         if (this.harshIsArmed) {
             return this.ch1SlayHarshForceRazor();
@@ -2131,18 +2140,18 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "yes":
+                case YES:
                     if (!manager.confirmContentWarnings(Chapter.SPECTRE, "suicide")) break;
 
                     secondaryScript.runSection("steelSlayYes");
                     return this.ch1SlaySuccess();
                 
-                case "maybe":
+                case MAYBE:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("steelSlayMaybe");
                     break;
 
-                case "no":
+                case NO:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("steelSlayNo");
                     break;
@@ -2150,7 +2159,7 @@ public class ChapterI extends StandardCycle {
         }
 
         // Unsure continues here
-        this.hasBlade = false;
+        this.flags.set(ChapterFlag.HASBLADE, false);
         this.withBlade = true;
         this.activeMenu = new OptionsMenu();
         activeMenu.add(new Option(this.manager, "blade", "[Remove the blade.]", 0));
@@ -2164,29 +2173,29 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cTakeBlade":
-                case "blade":
+                case CTAKEBLADE:
+                case BLADE:
                     if (!manager.confirmContentWarnings(Chapter.RAZOR)) break;
                     
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("steelSlayCheckBlade");
                     break;
 
-                case "pulse":
+                case PULSE:
                     if (!manager.confirmContentWarnings(Chapter.RAZOR)) break;
                     
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("steelSlayCheckPulse");
                     break;
 
-                case "cGoStairs":
-                case "leave":
+                case CGOSTAIRS:
+                case LEAVE:
                     if (!manager.confirmContentWarnings(Chapter.SPECTRE, "suicide")) break;
 
                     secondaryScript.runSection("steelSlayYes");
                     return this.ch1SlaySuccess();
 
-                case "cSlayPrincessDeadFail":
+                case CSLAYPRINCESSDEADFAIL:
                     secondaryScript.runSection("steelSlaySlayFail");
                     break;
 
@@ -2204,7 +2213,7 @@ public class ChapterI extends StandardCycle {
      */
     private ChapterEnding ch1SlaySuccess() {
         this.currentLocation = GameLocation.CABIN;
-        this.hasBlade = false;
+        this.flags.set(ChapterFlag.HASBLADE, false);
         this.withBlade = false;
         this.withPrincess = false;
 
@@ -2215,12 +2224,12 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoHill":
-                case "leave":
+                case CGOHILL:
+                case LEAVE:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     secondaryScript.runSection("slaySuccessStairsFail", true);
                     break;
 
@@ -2239,15 +2248,15 @@ public class ChapterI extends StandardCycle {
         activeMenu.add(new Option(this.manager, "better", "I was kind of hoping I'd get a better ending for saving the world."));
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "prizeYay":
+            case PRIZEYAY:
                 secondaryScript.runSection("successPrizeYay");
                 break;
 
-            case "prizeBoo":
+            case PRIZEBOO:
                 secondaryScript.runSection("successPrizeBoo");
                 break;
 
-            case "bullshit":
+            case BULLSHIT:
                 if (this.askedPrize) {
                     secondaryScript.runSection("successPrizeBoo");
                 } else {
@@ -2256,11 +2265,11 @@ public class ChapterI extends StandardCycle {
 
                 break;
 
-            case "ok":
+            case OK:
                 secondaryScript.runSection("successOk");
                 break;
 
-            case "better":
+            case BETTER:
                 secondaryScript.runSection("successBetter");
                 break;
         }
@@ -2280,57 +2289,57 @@ public class ChapterI extends StandardCycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "explore":
+                case EXPLORE:
                     noExplore.set(false);
                     secondaryScript.runSection("successExplore");
                     break;
 
-                case "notHappyA":
-                case "notHappyB":
+                case NOTHAPPYA:
+                case NOTHAPPYB:
                     secondaryScript.runSection("successNotHappy");
                     
                     if (this.ch1HeroSuggestSpectre()) {
                         return ChapterEnding.TOSPECTRE;
-                    } else if (this.isFirstVessel) {
+                    } else if (this.isFirstVessel()) {
                         return ChapterEnding.GOODENDING;
                     } else {
                         manager.goodEndingAttempted().set();
                         localGoodEndingAttempt.set();
 
-                        System.out.println();
+                        IOHandler.out().println();
                         parser.printDialogueLine(CANTSTRAY);
                         manager.unlock("goodEndingFail");
                         break;
                     }
                 
-                case "hellNo":
+                case HELLNO:
                     secondaryScript.runSection("successHellNo");
                     
                     if (this.ch1HeroSuggestSpectre()) {
                         return ChapterEnding.TOSPECTRE;
-                    } else if (this.isFirstVessel) {
+                    } else if (this.isFirstVessel()) {
                         return ChapterEnding.GOODENDING;
                     } else {
                         manager.goodEndingAttempted().set();
                         localGoodEndingAttempt.set();
 
-                        System.out.println();
+                        IOHandler.out().println();
                         parser.printDialogueLine(CANTSTRAY);
                         manager.unlock("goodEndingFail");
                         break;
                     }
 
-                case "sure":
-                case "ofCourse":
+                case SURE:
+                case OFCOURSE:
                     secondaryScript.runSection("attemptGoodEnding");
 
-                    if (this.isFirstVessel) {
+                    if (this.isFirstVessel()) {
                         return ChapterEnding.GOODENDING;
                     } else {
                         manager.goodEndingAttempted().set();
                         localGoodEndingAttempt.set();
 
-                        System.out.println();
+                        IOHandler.out().println();
                         parser.printDialogueLine(CANTSTRAY);
                         manager.unlock("goodEndingFail");
                         break;
@@ -2354,36 +2363,36 @@ public class ChapterI extends StandardCycle {
         subMenu.add(new Option(this.manager, "stickAround", manager.goodEndingAttempted(), "You're right. I didn't like that idea. I'm just going to stick around and do nothing, at least for a little while longer."));
 
         boolean repeatSub = true;
-        String outcome;
+        Outcome outcome;
         while (repeatSub) {
             outcome = parser.promptOptionsMenu(subMenu);
             switch (outcome) {
-                case "explore":
+                case EXPLORE:
                     secondaryScript.runSection("suggestExplore");
                     break;
                     
-                case "stickAround":
+                case STICKAROUND:
                     secondaryScript.runSection("suggestStickAround");
                     return false;
 
-                case "notRisking":
+                case NOTRISKING:
                     secondaryScript.runSection("suggestNotRisking");
                     return false;
 
-                case "reluctant":
+                case RELUCTANT:
                     repeatSub = false;
                     secondaryScript.runSection("suggestReluctant");
                     break;
 
-                case "cSlaySelfNoBladeFail":
-                case "cTakeBladeFail":
-                case "cGoStairs":
-                case "anything":
+                case CSLAYSELFNOBLADEFAIL:
+                case CTAKEBLADEFAIL:
+                case CGOSTAIRS:
+                case ANYTHING:
                     repeatSub = false;
                     secondaryScript.runSection("suggestAnything");
                     break;
 
-                case "cGoHill":
+                case CGOHILL:
                     secondaryScript.runSection("suggestLeaveFail");
                     break;
 
@@ -2413,29 +2422,29 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "giveUp":
+                case GIVEUP:
                     if (!manager.confirmContentWarnings(Chapter.TOWER)) break;
 
                     secondaryScript.runSection("commitTower");
                     return ChapterEnding.TOTOWER;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (manager.hasVisited(Chapter.TOWER)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "finish":
+                case FINISH:
                     if (!manager.confirmContentWarnings(Chapter.ADVERSARY)) break;
 
                     secondaryScript.runSection("commitAdversary");
                     return ChapterEnding.TOADVERSARY;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (manager.hasVisited(Chapter.NIGHTMARE)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "flee":
+                case FLEE:
                     if (!manager.confirmContentWarnings(Chapter.NIGHTMARE)) break;
 
                     secondaryScript.runSection("slayFlee");
@@ -2462,12 +2471,12 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "die":
+                case DIE:
                     secondaryScript.runSection("commitRazor");
                     return ChapterEnding.TORAZOR;
 
-                case "cSlayPrincess":
-                case "finish":
+                case CSLAYPRINCESS:
+                case FINISH:
                     secondaryScript.runSection("commitRazorMutual");
                     return ChapterEnding.TORAZORMUTUAL;
 
@@ -2495,15 +2504,15 @@ public class ChapterI extends StandardCycle {
         activeMenu.add(new Option(this.manager, "check", "\"I'm going to check upstairs. Maybe the key's still lying around somewhere up there. And if not, maybe I can at least find something to break you free.\""));
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "whatIfA":
+            case WHATIFA:
                 secondaryScript.runSection("rescueWhatIfA");
                 break;
 
-            case "whatIfB":
+            case WHATIFB:
                 secondaryScript.runSection("rescueWhatIfB");
                 break;
 
-            case "check":
+            case CHECK:
                 secondaryScript.runSection("rescueCheck");
                 break;
         }
@@ -2523,7 +2532,7 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "shout":
+                case SHOUT:
                     if (explore) {
                         secondaryScript.runSection("rescueStairsShoutA");
                     } else {
@@ -2532,9 +2541,9 @@ public class ChapterI extends StandardCycle {
                     }
                     break;
 
-                case "cGoCabin":
+                case CGOCABIN:
                     activeMenu.setCondition("try", false);
-                case "try":
+                case TRY:
                     explore = true;
                     
                     if (triedDoor) {
@@ -2551,12 +2560,12 @@ public class ChapterI extends StandardCycle {
 
                     break;
 
-                case "cGoBasement":
-                case "return":
+                case CGOBASEMENT:
+                case RETURN:
                     this.repeatActiveMenu = false;
                     break;
                 
-                case "cSlayNoPrincessFail":
+                case CSLAYNOPRINCESSFAIL:
                     mainScript.runSection("rescueStairsSlayFail");
                     break;
 
@@ -2567,7 +2576,7 @@ public class ChapterI extends StandardCycle {
 
         secondaryScript.runSection("rescueReturn");
 
-        this.hasBlade = true;
+        this.flags.set(ChapterFlag.HASBLADE);
         this.canSlayPrincess = true;
 
         this.activeMenu = new OptionsMenu();
@@ -2578,18 +2587,18 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "save":
+                case SAVE:
                     if (!manager.confirmContentWarnings("mutilation; loss of bodily autonomy", true)) break;
 
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (cantSlay.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay": return this.ch1RescueSlayHarsh();
+                case SLAY: return this.ch1RescueSlayHarsh();
 
                 default: this.giveDefaultFailResponse();
             }
@@ -2606,8 +2615,8 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoStairs":
-                case "door":
+                case CGOSTAIRS:
+                case DOOR:
                     this.repeatActiveMenu = false;
                     break;
                     
@@ -2630,30 +2639,30 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (!this.canTower) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay0":
-                case "slay1":
-                case "slay2":
-                case "slay3":
-                case "slay4":
-                case "slay5":
-                case "slay6":
-                case "slay7":
-                case "slay8":
-                case "slay9":
-                case "slay10":
-                case "slay11":
-                case "slay12":
-                case "slay13":
-                case "slay14":
-                case "slay15":
-                case "slay16":
-                case "slay17":
-                case "slay18":
+                case SLAY0:
+                case SLAY1:
+                case SLAY2:
+                case SLAY3:
+                case SLAY4:
+                case SLAY5:
+                case SLAY6:
+                case SLAY7:
+                case SLAY8:
+                case SLAY9:
+                case SLAY10:
+                case SLAY11:
+                case SLAY12:
+                case SLAY13:
+                case SLAY14:
+                case SLAY15:
+                case SLAY16:
+                case SLAY17:
+                case SLAY18:
                     if (!manager.confirmContentWarnings(Chapter.TOWER)) break;
 
                     secondaryScript.runSection("rescueControlledSlay1");
@@ -2666,12 +2675,12 @@ public class ChapterI extends StandardCycle {
                     this.repeatActiveMenu = true;
                     while (repeatActiveMenu) {
                         switch (parser.promptOptionsMenu(activeMenu)) {
-                            case "cSlayPrincess":
-                            case "slay":
+                            case CSLAYPRINCESS:
+                            case SLAY:
                                 secondaryScript.runSection("commitTowerRescueA");
                                 return ChapterEnding.TOTOWER;
 
-                            case "giveUp":
+                            case GIVEUP:
                                 secondaryScript.runSection("rescueControlledSlayGiveUp");
                                 return ChapterEnding.TOTOWER;
 
@@ -2680,7 +2689,7 @@ public class ChapterI extends StandardCycle {
                         }
                     }
 
-                case "warn":
+                case WARN:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2700,36 +2709,36 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (!this.canTower) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "slay0":
-                case "slay1":
-                case "slay2":
-                case "slay3":
-                case "slay4":
-                case "slay5":
-                case "slay6":
-                case "slay7":
-                case "slay8":
-                case "slay9":
-                case "slay10":
-                case "slay11":
-                case "slay12":
-                case "slay13":
-                case "slay14":
-                case "slay15":
-                case "slay16":
-                case "slay17":
-                case "slay18":
+                case SLAY0:
+                case SLAY1:
+                case SLAY2:
+                case SLAY3:
+                case SLAY4:
+                case SLAY5:
+                case SLAY6:
+                case SLAY7:
+                case SLAY8:
+                case SLAY9:
+                case SLAY10:
+                case SLAY11:
+                case SLAY12:
+                case SLAY13:
+                case SLAY14:
+                case SLAY15:
+                case SLAY16:
+                case SLAY17:
+                case SLAY18:
                     if (!manager.confirmContentWarnings(Chapter.TOWER)) break;
 
                     secondaryScript.runSection("commitTowerRescueA");
                     return ChapterEnding.TOTOWER;
 
-                case "resist":
+                case RESIST:
                     if (!manager.confirmContentWarnings(Chapter.PRISONER)) break;
 
                     this.repeatActiveMenu = false;
@@ -2760,8 +2769,8 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2781,29 +2790,29 @@ public class ChapterI extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "giveUp":
+                case GIVEUP:
                     if (!manager.confirmContentWarnings(Chapter.TOWER)) break;
                     
                     secondaryScript.runSection("commitTowerRescueB");
                     return ChapterEnding.TOTOWERPATHETIC;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (manager.hasVisited(Chapter.ADVERSARY)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "finish":
+                case FINISH:
                     if (!manager.confirmContentWarnings(Chapter.ADVERSARY)) break;
                     
                     secondaryScript.runSection("commitAdversaryRescue");
                     return ChapterEnding.TOADVERSARY;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (manager.hasVisited(Chapter.NIGHTMARE)) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "run":
+                case RUN:
                     if (!manager.confirmContentWarnings(Chapter.NIGHTMARE)) break;
                     
                     secondaryScript.runSection("rescueFlee");
@@ -2832,9 +2841,9 @@ public class ChapterI extends StandardCycle {
 
         this.activeMenu = new OptionsMenu(true);
         activeMenu.add(new Option(this.manager, "threat", "\"Threaten me all you want! All it does is ease my guilty conscience.\""));
-        activeMenu.add(new Option(this.manager, "notPrincess", "\"Whatever you are, you're not a Princess. Go ahead and waste your energy. I'll be waiting for you.\"", this.isHarsh));
-        activeMenu.add(new Option(this.manager, "act", "\"So all of that was just an act, wasn't it? You're not really innocent or harmless. You're not even a princess. You're a *monster.*\"", !this.isHarsh));
-        activeMenu.add(new Option(this.manager, "bleedOut", "\"Bang on the door all you want. It'll only make you bleed out faster.\"", wounded && !this.isHarsh));
+        activeMenu.add(new Option(this.manager, "notPrincess", "\"Whatever you are, you're not a Princess. Go ahead and waste your energy. I'll be waiting for you.\"", this.isHarsh()));
+        activeMenu.add(new Option(this.manager, "act", "\"So all of that was just an act, wasn't it? You're not really innocent or harmless. You're not even a princess. You're a *monster.*\"", !this.isHarsh()));
+        activeMenu.add(new Option(this.manager, "bleedOut", "\"Bang on the door all you want. It'll only make you bleed out faster.\"", wounded && !this.isHarsh()));
         activeMenu.add(new Option(this.manager, "ignore", "[Ignore her and go to sleep.]"));
 
         mainScript.runConditionalSection(parser.promptOptionsMenu(activeMenu) + "Nightmare", lostArm);
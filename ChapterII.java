@@ -1,5 +1,6 @@
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Map;
 
 public class ChapterII extends StandardCycle {
     
@@ -12,18 +13,14 @@ public class ChapterII extends StandardCycle {
     private final Condition cantUnique3 = new Condition(manager.demoMode());
     private final Condition cantJoint3 = new Condition(manager.demoMode());
     private String source = "";
-    private boolean sharedLoop = false;
-    private boolean sharedLoopInsist = false;
     private boolean skipHillDialogue = false;
 
     // Flags that persist from Chapter 1
-    private final boolean droppedBlade1; // Used in Adversary
-    private final boolean whatWouldYouDo; // Used in Damsel
-    private final boolean rescuePath; // Used in Witch
+    private static final long CARRIEDFLAGS = FlagSet.mask(ChapterFlag.HARSH, ChapterFlag.KNOWSDESTINY, ChapterFlag.DROPPEDBLADE1, ChapterFlag.WHATWOULDYOUDO, ChapterFlag.RESCUEPATH);
 
     // Flags used in multiple Chapters
     private boolean playerWounded = false; // Used in Adversary, Beast
-    private final Condition narratorProof = new Condition(); // Used in Adversary, Spectre, Prisoner
+    private final Condition narratorProof = new FlagCondition(this.flags, ChapterFlag.NARRATORPROOF); // Used in Adversary, Spectre, Prisoner
     private final InverseCondition narratorNoProof = narratorProof.getInverse(); // Used in Adversary, Spectre, Prisoner
 
     // Flags used in The Adversary
@@ -51,21 +48,10 @@ public class ChapterII extends StandardCycle {
     private boolean witchHeartComment = false;
 
     // Variables used in The Damsel
-    private String damselEndWorldResponse;
+    private Outcome damselEndWorldResponse;
 
     // Flags that persist in Chapter 3
-    private final Condition freeFromChains2 = new Condition(false);
-    private boolean abandoned2 = false;
-    private boolean adversaryTookBlade = false;
-    private boolean adversaryFaceExplore = false;
-    private boolean spectreShareDied = false;
-    private boolean spectrePossessAsk = false;
-    private boolean spectreCantWontAsk = false;
-    private boolean spectreEndSlayAttempt = false;
-    private boolean prisonerForcedBlade = false;
-    private boolean prisonerWatchedHead = false;
-    private boolean prisonerGoodEndingSeen = false;
-    private boolean prisonerHeartStopped = false;
+    private final Condition freeFromChains2 = new FlagCondition(this.flags, ChapterFlag.FREEFROMCHAINS2);
 
     // --- CONSTRUCTOR ---
 
@@ -75,21 +61,12 @@ public class ChapterII extends StandardCycle {
      * @param manager the GameManager to link this chapter to
      * @param parser the IOHandler to link this chapter to
      * @param route the Chapters the player has visited so far during this route
-     * @param isHarsh whether the Princess is currently hostile in Chapters where it varies
-     * @param knowsDestiny whether the Princess knows she's (allegedly) going to end the world
-     * @param droppedBlade1 whether the player dropped the blade in Chapter I
-     * @param whatWouldYouDo whether the player asked the Princess what she would do if she left the cabin in Chapter I
-     * @param rescuePath whether the player started to free the Princess in Chapter I
+     * @param prevFlags the packed flags of Chapter I; only the flags in CARRIEDFLAGS are kept
      */
-    public ChapterII(ChapterEnding prevEnding, GameManager manager, IOHandler parser, ArrayList<Chapter> route, boolean isHarsh, boolean knowsDestiny, boolean droppedBlade1, boolean whatWouldYouDo, boolean rescuePath) {
+    public ChapterII(ChapterEnding prevEnding, GameManager manager, IOHandler parser, ArrayList<Chapter> route, long prevFlags) {
         super(manager, parser, route, false, prevEnding);
 
-        this.isHarsh = isHarsh;
-        this.knowsDestiny = knowsDestiny;
-
-        this.droppedBlade1 = droppedBlade1;
-        this.whatWouldYouDo = whatWouldYouDo;
-        this.rescuePath = rescuePath;
+        this.flags.setFrom(prevFlags, CARRIEDFLAGS);
 
         this.prevEnding = prevEnding;
 
@@ -120,7 +97,7 @@ public class ChapterII extends StandardCycle {
      * @return whether or not the Narrator knows that the player has been here before
      */
     public boolean sharedLoop() {
-        return this.sharedLoop;
+        return this.flags.has(ChapterFlag.SHAREDLOOP);
     }
 
     /**
@@ -128,7 +105,7 @@ public class ChapterII extends StandardCycle {
      * @return whether or not the player insisted that they've been here before in the woods
      */
     public boolean sharedLoopInsist() {
-        return this.sharedLoopInsist;
+        return this.flags.has(ChapterFlag.SHAREDLOOPINSIST);
     }
 
     /**
@@ -136,7 +113,7 @@ public class ChapterII extends StandardCycle {
      * @return whether or not the player dropped the blade in Chapter I
      */
     public boolean droppedBlade1() {
-        return this.droppedBlade1;
+        return this.flags.has(ChapterFlag.DROPPEDBLADE1);
     }
 
     /**
@@ -144,7 +121,7 @@ public class ChapterII extends StandardCycle {
      * @return whether or not the player asked the Princess what she would do if she left the cabin in Chapter I
      */
     public boolean whatWouldYouDo() {
-        return this.whatWouldYouDo;
+        return this.flags.has(ChapterFlag.WHATWOULDYOUDO);
     }
 
     /**
@@ -152,7 +129,7 @@ public class ChapterII extends StandardCycle {
      * @return whether or not the player started to free the Princess in Chapter I
      */
     public boolean rescuePath() {
-        return this.rescuePath;
+        return this.flags.has(ChapterFlag.RESCUEPATH);
     }
 
     /**
@@ -176,7 +153,15 @@ public class ChapterII extends StandardCycle {
      * @return whether or not the player took the blade before entering the basement in Chapter II: The Adversary
      */
     public boolean adversaryTookBlade() {
-        return this.adversaryTookBlade;
+        return this.flags.has(ChapterFlag.ADVERSARYTOOKBLADE);
+    }
+
+    /**
+     * Accessor for spectreShareDied
+     * @return whether or not the player told the Spectre that they died
+     */
+    public boolean spectreShareDied() {
+        return this.flags.has(ChapterFlag.SPECTRESHAREDIED);
     }
 
     // --- COMMANDS ---
@@ -191,16 +176,16 @@ public class ChapterII extends StandardCycle {
 
         manager.setMetaMenuActive(true);
         switch (parser.promptOptionsMenu(warningsMenu)) {
-            case "general":
+            case GENERAL:
                 manager.showGeneralWarnings();
                 break;
-            case "by chapter":
+            case BYCHAPTER:
                 manager.showByChapterWarnings();
                 break;
-            case "current":
+            case CURRENT:
                 manager.showChapterWarnings(this.activeChapter, this.prevEnding);
                 break;
-            case "cancel":
+            case CANCEL:
                 break;
             default: super.giveDefaultFailResponse();
         }
@@ -288,7 +273,8 @@ public class ChapterII extends StandardCycle {
         manager.updateTracker();
 
         if (!ending.isFinal()) {
-            ChapterIII chapter3 = new ChapterIII(ending, manager, parser, route, cantTryAbort, source, sharedLoop, sharedLoopInsist, mirrorComment, touchedMirror, isHarsh, knowsDestiny, ch2Voice, freeFromChains2.check(), abandoned2, adversaryTookBlade, adversaryFaceExplore, spectreShareDied, spectrePossessAsk, spectreCantWontAsk, spectreEndSlayAttempt, prisonerForcedBlade, prisonerWatchedHead, prisonerGoodEndingSeen, prisonerHeartStopped);
+            ChapterIII chapter3 = new ChapterIII(ending, manager, parser, route, cantTryAbort, source, ch2Voice, this.flags.toLong());
+            manager.setActiveCycle(chapter3);
             ending = chapter3.runChapter();
         }
 
@@ -328,30 +314,24 @@ public class ChapterII extends StandardCycle {
      */
     private boolean chapter2Intro(boolean youDied, boolean princessDied, boolean liedTo) {
         this.secondaryScript = new Script(this.manager, this.parser, "Chapter2Shared");
-        if (this.isFirstVessel) manager.setFirstPrincess(this.isHarsh, this.activeChapter, this.source);
+        if (this.isFirstVessel()) manager.setFirstPrincess(this.isHarsh(), this.activeChapter, this.source);
 
         secondaryScript.runSection();
 
         Condition shared = new Condition();
         InverseCondition noShare = shared.getInverse();
         Condition canAssume = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "dejaVu", "(Explore) I'm getting a terrible sense of deja vu.", noShare));
-        activeMenu.add(new Option(this.manager, "dejaVu2", "(Explore) This is more than just deja vu, though. I'm pretty sure this whole thing really just happened.", activeMenu.get("dejaVu")));
-        activeMenu.add(new Option(this.manager, "happened", "(Explore) Wait... hasn't this already happened?", noShare));
-        activeMenu.add(new Option(this.manager, "no", "(Explore) Okay, no.", noShare));
-        activeMenu.add(new Option(this.manager, "died", "(Explore) But I died! What am I doing here?", this.activeChapter != Chapter.SPECTRE, noShare));
-        activeMenu.add(new Option(this.manager, "killedSelf", "(Explore) But I killed myself! What am I doing here?", this.activeChapter == Chapter.SPECTRE, noShare));
-        activeMenu.add(new Option(this.manager, "alreadyKilled", "(Explore) But I already killed the Princess.", this.activeChapter == Chapter.SPECTRE, noShare));
-        activeMenu.add(new Option(this.manager, "trapped", "(Explore) You trapped me here after I slew her last time. I'm not going to play along this time.", this.activeChapter == Chapter.SPECTRE, noShare));
-        activeMenu.add(new Option(this.manager, "killMe", "(Explore) She's going to kill me again!", youDied, noShare));
-        activeMenu.add(new Option(this.manager, "slewHer", "(Explore) But I already slew the Princess. Sure, she *also* killed me, but I definitely got her. Why am I here again?", youDied && princessDied, noShare));
-        activeMenu.add(new Option(this.manager, "wise", "(Explore) Oh, you bastard! You're in for it now. I'm wise to your tricks!", liedTo, noShare));
-        activeMenu.add(new Option(this.manager, "assume", "(Explore)  Let's assume I'm telling the truth, and all of this really did already happen. Why should I listen to you? Why should I bother doing *anything?*", shared, canAssume));
-        activeMenu.add(new Option(this.manager, "defy", "(Explore) I'm with them. I'm going to find a way to save her from that cabin.", activeMenu.get("assume"), this.activeChapter == Chapter.DAMSEL));
-        activeMenu.add(new Option(this.manager, "princess", "(Explore) Let's talk about this Princess...", activeMenu.get("assume")));
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "abort", this.cantTryAbort, "[Turn around and leave.]", 0));
+        Map<String, AbstractCondition> hillBindings = Map.of(
+            "shared", shared,
+            "noShare", noShare,
+            "canAssume", canAssume,
+            "cantTryAbort", this.cantTryAbort,
+            "spectre", AbstractCondition.of(this.activeChapter == Chapter.SPECTRE),
+            "damsel", AbstractCondition.of(this.activeChapter == Chapter.DAMSEL),
+            "youDied", AbstractCondition.of(youDied),
+            "bothDied", AbstractCondition.of(youDied && princessDied),
+            "liedTo", AbstractCondition.of(liedTo));
+        this.activeMenu = MenuTemplate.get("Chapter2Shared", "hill").instantiate(this.manager, hillBindings);
 
         Condition pessimismComment = new Condition();
         boolean shareDied = false;
@@ -360,8 +340,8 @@ public class ChapterII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "dejaVu":
-                    this.sharedLoop = true;
+                case DEJAVU:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     this.forestAskCount += 1;
                     shared.set();
                     canAssume.set(false);
@@ -370,14 +350,14 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection();
                     break;
 
-                case "dejaVu2":
+                case DEJAVU2:
                     this.forestAskCount += 1;
                     canAssume.set();
                     secondaryScript.runSection("dejaVu2");
                     break;
 
-                case "happened":
-                    this.sharedLoop = true;
+                case HAPPENED:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     this.forestAskCount += 1;
                     shared.set();
                     if (this.ch2Voice == Voice.BROKEN) shareDied = true;
@@ -385,8 +365,8 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection();
                     break;
 
-                case "no":
-                    this.sharedLoop = true;
+                case NO:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     this.forestAskCount += 1;
                     shared.set();
                     if (this.ch2Voice == Voice.BROKEN) shareDied = true;
@@ -394,8 +374,8 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection();
                     break;
 
-                case "died":
-                    this.sharedLoop = true;
+                case DIED:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     this.forestAskCount += 1;
                     shared.set();
                     shareDied = true;
@@ -404,60 +384,60 @@ public class ChapterII extends StandardCycle {
                     if (this.activeChapter == Chapter.PRISONER) mainScript.runSection();
                     break;
 
-                case "killedSelf":
-                    this.sharedLoop = true;
+                case KILLEDSELF:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     shared.set();
                     shareDied = true;
                     secondaryScript.runSection("killedSelf");
                     mainScript.runSection();
                     break;
 
-                case "alreadyKilled":
-                    this.sharedLoop = true;
+                case ALREADYKILLED:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     shared.set();
                     secondaryScript.runSection("alreadyKilled");
                     mainScript.runSection();
                     break;
 
-                case "trapped":
-                    this.sharedLoop = true;
+                case TRAPPED:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     shared.set();
                     secondaryScript.runSection("trapped");
                     mainScript.runSection();
                     break;
 
-                case "killMe":
-                    this.sharedLoop = true;
+                case KILLME:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     shared.set();
                     shareDied = true;
                     secondaryScript.runSection("killMe");
                     mainScript.runSection();
                     break;
 
-                case "slewHer":
-                    this.sharedLoop = true;
+                case SLEWHER:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     this.forestAskCount += 1;
                     shared.set();
                     secondaryScript.runSection("slewHer");
                     mainScript.runSection();
                     break;
 
-                case "wise":
-                    this.sharedLoop = true;
+                case WISE:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     shared.set();
                     secondaryScript.runSection("wise");
                     mainScript.runSection();
                     break;
 
-                case "assume":
+                case ASSUME:
                     this.ch2IntroAssumeTruth(youDied, princessDied, shareDied);
                     break;
 
-                case "defy":
+                case DEFY:
                     mainScript.runSection("defy");
                     break;
 
-                case "princess":
+                case PRINCESS:
                     switch (this.ch2IntroAskPrincess(pessimismComment)) {
                         case 1:
                             this.repeatActiveMenu = false;
@@ -481,17 +461,17 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "cGoHill":
-                case "proceed":
+                case CGOHILL:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (this.cantTryAbort.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
                     }
-                case "abort":
+                case ABORT:
                     switch (this.ch2AttemptAbortVessel()) {
                         case 0: return false;
 
@@ -517,20 +497,19 @@ public class ChapterII extends StandardCycle {
             mainScript.runConditionalSection("hillDialogue", pessimismComment);
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "chapter2Intro").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (this.repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (this.activeOutcome) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (this.cantTryAbort.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
@@ -567,7 +546,7 @@ public class ChapterII extends StandardCycle {
      * @param shareDied whether the player (or the Voices) mentioned that they died in Chapter I
      */
     private void ch2IntroAssumeTruth(boolean youDied, boolean princessDied, boolean shareDied) {
-        this.sharedLoopInsist = true;
+        this.flags.set(ChapterFlag.SHAREDLOOPINSIST);
         this.forestAskCount += 1;
         secondaryScript.runConditionalSection("assume", shareDied);
 
@@ -688,16 +667,16 @@ public class ChapterII extends StandardCycle {
         subMenu.add(new Option(this.manager, "cagey", "(Explore) You're being cagey. What aren't you telling me?", false));
         subMenu.add(new Option(this.manager, "return", "Nevermind."));
 
-        String outcome;
+        Outcome outcome;
         boolean repeatMenu = true;
         while (repeatMenu) {
             outcome = parser.promptOptionsMenu(subMenu);
             switch (outcome) {
-                case "teleport":
+                case TELEPORT:
                     mainScript.runSection("princessTeleport");
                     break;
 
-                case "tips":
+                case TIPS:
                     this.princessAskCount += 1;
                     secondaryScript.runSection("princessTips");
 
@@ -709,7 +688,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "howDanger":
+                case HOWDANGER:
                     this.princessAskCount += 1;
                     subMenu.setCondition("quote", false);
 
@@ -729,16 +708,14 @@ public class ChapterII extends StandardCycle {
                     } else if (this.activeChapter == Chapter.PRISONER) {
                         mainScript.runSection("princessHowDanger");
 
-                        OptionsMenu pocketsMenu = new OptionsMenu(true);
-                        pocketsMenu.add(new Option(this.manager, "check", "[Check your pockets.]"));
-                        pocketsMenu.add(new Option(this.manager, "leave", "[Leave your pockets unchecked.]"));
+                        OptionsMenu pocketsMenu = MenuTemplate.get("ChapterII", "ch2IntroAskPrincess").instantiate(this.manager);
 
                         switch (parser.promptOptionsMenu(pocketsMenu, new VoiceDialogueLine("Well? After all that, are you going to check your pockets or not?", true))) {
-                            case "check":
+                            case CHECK:
                                 mainScript.runSection("princessCheckPockets");
                                 break;
 
-                            case "leave":
+                            case LEAVE:
                                 mainScript.runSection("princessIgnorePockets");
                                 break;
                         }
@@ -748,7 +725,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "quote":
+                case QUOTE:
                     this.princessAskCount += 1;
                     subMenu.setCondition("howDanger", false);
                     
@@ -763,7 +740,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "basement":
+                case BASEMENT:
                     this.princessAskCount += 1;
                     secondaryScript.runSection("princessBasement");
 
@@ -773,7 +750,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "whyMe":
+                case WHYME:
                     this.forestSpecial = true;
                     this.princessAskCount += 1;
 
@@ -809,7 +786,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "cagey":
+                case CAGEY:
                     secondaryScript.runSection("princessCagey");
 
                     switch (this.activeChapter) {
@@ -860,14 +837,14 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "return":
+                case RETURN:
                     secondaryScript.runSection("princessReturn");
                     return 0;
 
-                case "cGoCabin":
+                case CGOCABIN:
                     return 1;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (this.cantTryAbort.check()) {
                         parser.printDialogueLine(CANTSTRAY);
                         break;
@@ -905,27 +882,20 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("abortStart");
         secondaryScript.runSection("abortStart");
 
-        this.subMenu = new OptionsMenu();
-        subMenu.add(new Option(this.manager, "ugh", "Okay, fine. You're persistent. I'll go to the cabin and I'll slay the Princess. Ugh!"));
-        subMenu.add(new Option(this.manager, "maybe", "Okay, fine. I'll go to the cabin and I'll talk to the Princess. Maybe I'll slay her. Maybe I won't. I guess we'll see."));
-        subMenu.add(new Option(this.manager, "lie", "(Lie) Yes, I definitely know where I'm going."));
-        subMenu.add(new Option(this.manager, "nope", "Nope!"));
-        subMenu.add(new Option(this.manager, "notGoing", "The only thing that matters is where I'm not going. (The cabin. I am not going to the cabin.)"));
-        subMenu.add(new Option(this.manager, "nihilist", "I'm actually pretty okay with the world ending. I relish the coming of a new dawn beyond our own. Gonna go walk in the opposite direction now!"));
-        subMenu.add(new Option(this.manager, "quiet", "[Quietly continue down the path away from the cabin.]"));
+        this.subMenu = MenuTemplate.get("ChapterII", "ch2AttemptAbortVessel").instantiate(this.manager);
 
         boolean repeatMenu = true;
-        String outcome;
+        Outcome outcome;
         while (repeatMenu) {
             outcome = parser.promptOptionsMenu(subMenu);
             switch (outcome) {
-                case "cGoHill":
-                case "ugh":
+                case CGOHILL:
+                case UGH:
                     secondaryScript.runSection("abortReturnUgh");
                     mainScript.runSection("abortReturn");
                     return 2;
 
-                case "maybe":
+                case MAYBE:
                     secondaryScript.runSection("abortReturnMaybe");
 
                     if (this.activeChapter == Chapter.DAMSEL) {
@@ -936,17 +906,17 @@ public class ChapterII extends StandardCycle {
 
                     return 2;
 
-                case "lie":
+                case LIE:
                     repeatMenu = false;
                     secondaryScript.runSection("abortLie");
                     break;
 
-                case "nihilist":
+                case NIHILIST:
                     secondaryScript.runSection("abortNihilist");
-                case "cGoLeave":
-                case "nope":
-                case "notGoing":
-                case "quiet":
+                case CGOLEAVE:
+                case NOPE:
+                case NOTGOING:
+                case QUIET:
                     repeatMenu = false;
                     secondaryScript.runSection("abortCont");
                     break;
@@ -959,17 +929,15 @@ public class ChapterII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         secondaryScript.runSection("abortClearing");
 
-        this.subMenu = new OptionsMenu();
-        subMenu.add(new Option(this.manager, "cabin", "Okay, okay! I'm going into the cabin. Sheesh."));
-        subMenu.add(new Option(this.manager, "commit", "[Turn around (again) and leave (again).]"));
+        this.subMenu = MenuTemplate.get("ChapterII", "ch2AttemptAbortVessel2").instantiate(this.manager);
 
         repeatMenu = true;
         while (repeatMenu) {
             outcome = parser.promptOptionsMenu(subMenu);
             switch (outcome) {
-                case "cabin":
+                case CABIN:
                     secondaryScript.runSection("abortReturnMenu2");
-                case "cGoCabin":
+                case CGOCABIN:
                     switch (this.activeChapter) {
                         case DAMSEL:
                             mainScript.runSection("abortReturnC");
@@ -985,8 +953,8 @@ public class ChapterII extends StandardCycle {
                     this.skipHillDialogue = true;
                     return 2;
 
-                case "cGoPath":
-                case "commit":
+                case CGOPATH:
+                case COMMIT:
                     repeatMenu = false;
                     break;
 
@@ -1006,7 +974,7 @@ public class ChapterII extends StandardCycle {
      */
     private void ch2AskMirror() {
         canAskMirror.set(false);
-        this.mirrorComment = true;
+        this.flags.set(ChapterFlag.MIRRORCOMMENT);
         
         mainScript.runSection("askMirror");
         secondaryScript.runSection("askMirrorStart");
@@ -1056,31 +1024,31 @@ public class ChapterII extends StandardCycle {
         boolean repeatMenu = true;
         while (repeatMenu) {
             switch (parser.promptOptionsMenu(subMenu)) {
-                case "careLie":
+                case CARELIE:
                     repeatMenu = false;
                     secondaryScript.runSection("mirrorCareLie");
                     break;
 
-                case "careLieTower":
+                case CARELIETOWER:
                     repeatMenu = false;
                     secondaryScript.runSection("mirrorCareLieTower");
                     break;
 
-                case "whyLieWitch":
+                case WHYLIEWITCH:
                     mainScript.runSection("mirrorWhyLie");
-                case "whyLieNightmare":
-                case "whyLie":
+                case WHYLIENIGHTMARE:
+                case WHYLIE:
                     repeatMenu = false;
                     secondaryScript.runSection("mirrorWhyLie");
                     break;
 
-                case "handsomeCare":
+                case HANDSOMECARE:
                     repeatMenu = false;
                     secondaryScript.runSection("mirrorHandsomeCare");
                     break;
 
-                case "handsome":
-                case "handsomeStranger":
+                case HANDSOME:
+                case HANDSOMESTRANGER:
                     repeatMenu = false;
 
                     switch (this.activeChapter) {
@@ -1096,9 +1064,9 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "noMatter":
-                case "noMatterRight":
-                case "noMatterTower":
+                case NOMATTER:
+                case NOMATTERRIGHT:
+                case NOMATTERTOWER:
                     repeatMenu = false;
                     this.mirrorPresent = false;
                     canApproachMirror.set(false);
@@ -1113,13 +1081,13 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("mirrorGone");
                     break;
 
-                case "silent":
+                case SILENT:
                     repeatMenu = false;
                     secondaryScript.runSection("mirrorSilent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
@@ -1133,7 +1101,7 @@ public class ChapterII extends StandardCycle {
      * The player approaches the mirror in the cabin during Chapter II
      */
     private void ch2ApproachMirror() {
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
         this.mirrorPresent = false;
         canAskMirror.set(false);
         canApproachMirror.set(false);
@@ -1146,14 +1114,13 @@ public class ChapterII extends StandardCycle {
 
         secondaryScript.runSection("approachComment");
 
-        this.subMenu = new OptionsMenu();
-        subMenu.add(new Option(this.manager, "wipe", "[Wipe the mirror clean.]"));
+        this.subMenu = MenuTemplate.get("ChapterII", "ch2ApproachMirror").instantiate(this.manager);
 
         boolean repeatMenu = true;
         while (repeatMenu) {
             switch (parser.promptOptionsMenu(subMenu)) {
-                case "cWipe":
-                case "wipe":
+                case CWIPE:
+                case WIPE:
                     repeatMenu = false;
                     break;
 
@@ -1190,41 +1157,39 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runConditionalSection("cabinIntro", this.forestAskCount >= 2 || this.princessAskCount >= 2);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", this.canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", this.canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversary").instantiate(this.manager, Map.of(
+            "canAskMirror", this.canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", this.canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     secondaryScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.adversaryTookBlade = true;
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.ADVERSARYTOOKBLADE);
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1252,90 +1217,79 @@ public class ChapterII extends StandardCycle {
 
         boolean repeatSub;
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proof", "(Explore) I hope you heard all of that, Mr. Narrator. This is a lot different than last time, but last time definitely *happened.*", this.sharedLoop, this.narratorNoProof));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) \"You look... different.\""));
-        activeMenu.add(new Option(this.manager, "memory", "(Explore) \"So you *do* remember me!\""));
-        activeMenu.add(new Option(this.manager, "chat", "(Explore) \"I actually am just here to chat.\"", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "scared", "(Explore) \"I'm not scared of you.\"", scaredComment, noCloserComment));
-        activeMenu.add(new Option(this.manager, "freeOffer", "(Explore) \"I'm actually here to free you.\""));
-        activeMenu.add(new Option(this.manager, "unpack", "(Explore) \"I'm not saying I'm *not* here to fight, but I think the two of us have a few things to unpack first. Like how we're both still alive.\""));
-        activeMenu.add(new Option(this.manager, "undecided", "(Explore) \"I haven't decided what I'm doing yet.\"", noCloserComment));
-        activeMenu.add(new Option(this.manager, "banter", "(Explore) \"Don't worry, I'm always up for a good fight. In fact, the only reason I came down here without a weapon is because having a knife felt *unfair.*\"", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]", this.hasBlade, noTalk));
-        activeMenu.add(new Option(this.manager, "attack", "[Attack the Princess.]", this.hasBlade, talked));
-        activeMenu.add(new Option(this.manager, "unarmedAttackA", this.cantJoint3, "\"Fine. Let's do this.\" [Attack her unarmed.]", 0, activeMenu.get("banter"), !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "unarmedAttackB", this.cantJoint3, "[Attack her unarmed.]", 0, !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "retrieve", "\"The blade's upstairs. I'll be right back.\" [Go upstairs and retrieve the blade.]", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "closer", "[Step closer.]", closerComment));
-        activeMenu.add(new Option(this.manager, "leaveYap", this.cantJoint3, "\"I don't know what happened to you since the last time we met, but I am *not* fighting a giant demon-lady. Bye!\" [Turn around and leave.]", 0));
-        activeMenu.add(new Option(this.manager, "free", this.cantUnique3, "[Attempt to free the Princess.]", this.hasBlade, freeOffer));
-        activeMenu.add(new Option(this.manager, "leaveSilent", this.cantJoint3, "[Turn around and leave without saying anything.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversary2").instantiate(this.manager, Map.ofEntries(
+            Map.entry("sharedLoop", AbstractCondition.of(this.sharedLoop())),
+            Map.entry("narratorNoProof", this.narratorNoProof),
+            Map.entry("hasBlade", AbstractCondition.of(this.hasBlade())),
+            Map.entry("scaredComment", scaredComment),
+            Map.entry("noCloserComment", noCloserComment),
+            Map.entry("noTalk", noTalk),
+            Map.entry("talked", talked),
+            Map.entry("cantJoint3", this.cantJoint3),
+            Map.entry("closerComment", closerComment),
+            Map.entry("cantUnique3", this.cantUnique3),
+            Map.entry("freeOffer", freeOffer)));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             // Redirect "slay" command to the appropriate option
-            if (activeOutcome.equals("cSlayPrincess")) {
+            if (activeOutcome == Outcome.CSLAYPRINCESS) {
                 if (talked.check()) {
-                    this.activeOutcome = "attack";
+                    this.activeOutcome = Outcome.ATTACK;
                 } else {
-                    this.activeOutcome = "slay";
+                    this.activeOutcome = Outcome.SLAY;
                 }
             }
 
             switch (activeOutcome) {
-                case "proof":
+                case PROOF:
                     narratorProof.set();
                     talked.set();
                     mainScript.runSection("proofDistantMenu");
                     break;
                     
-                case "different":
+                case DIFFERENT:
                     differentComment = true;
                     talked.set();
                     mainScript.runBladeSection("differentDistantMenu");
                     this.adversaryNarratorProof();
                     break;
                     
-                case "memory":
+                case MEMORY:
                     talked.set();
                     mainScript.runBladeSection("memoryDistantMenu");
-                    if (!this.hasBlade && narratorProof.check()) mainScript.runSection();
+                    if (!this.hasBlade() && narratorProof.check()) mainScript.runSection();
                     this.adversaryNarratorProof();
                     break;
                     
-                case "chat":
+                case CHAT:
                     talked.set();
                     scaredComment.set();
-                    mainScript.runConditionalSection("chatDistantMenu", this.droppedBlade1);
+                    mainScript.runConditionalSection("chatDistantMenu", this.droppedBlade1());
                     this.adversaryNarratorProof();
                     break;
                     
-                case "scared":
+                case SCARED:
                     closerComment.set();
                     mainScript.runSection("scaredDistantMenu");
                     break;
                     
-                case "freeOffer":
+                case FREEOFFER:
                     talked.set();
                     adversaryNoFreeOffer.set(false);
                     mainScript.runSection("freeOfferDistantMenu");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "serious", "\"You don't want to be free? Are you serious?\""));
-                    subMenu.add(new Option(this.manager, "want", "\"If you don't want to be free, then what do you want?\""));
-                    subMenu.add(new Option(this.manager, "why", "\"Me? Anyone? Why wouldn't you want to be free?\""));
-                    subMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+                    this.subMenu = MenuTemplate.get("ChapterII", "adversary3").instantiate(this.manager);
 
                     this.activeOutcome = parser.promptOptionsMenu(subMenu, new DialogueLine("You have no other choice."));
                     switch (activeOutcome) {
-                        case "serious":
+                        case SERIOUS:
                             mainScript.runSection("seriousFreeOffer");
                             break;
 
-                        case "want":
+                        case WANT:
                             mainScript.runSection("wantFreeOffer");
                             this.adversaryNarratorProof();
                             break;
@@ -1346,41 +1300,41 @@ public class ChapterII extends StandardCycle {
 
                     break;
                     
-                case "unpack":
+                case UNPACK:
                     talked.set();
                     mainScript.runSection("unpackDistantMenu");
                     this.adversaryNarratorProof();
                     break;
                     
-                case "undecided":
+                case UNDECIDED:
                     talked.set();
                     closerComment.set();
-                    mainScript.runConditionalSection("undecidedDistantMenu", this.droppedBlade1);
+                    mainScript.runConditionalSection("undecidedDistantMenu", this.droppedBlade1());
                     break;
                     
-                case "banter":
+                case BANTER:
                     talked.set();
                     mainScript.runSection("banterDistantMenu");
                     break;
                     
-                case "closer":
+                case CLOSER:
                     this.repeatActiveMenu = false;
                     break;
                     
-                case "slay":
+                case SLAY:
                     mainScript.runSection("directEarlyJoin");
                     return this.adversaryFightDirect(true);
                     
-                case "attack":
+                case ATTACK:
                     return this.adversaryFight();
                     
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "unarmedAttackA":
-                case "unarmedAttackB":
+                case UNARMEDATTACKA:
+                case UNARMEDATTACKB:
                     if (manager.hasVisited(Chapter.FURY)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -1392,20 +1346,20 @@ public class ChapterII extends StandardCycle {
                     
                     return this.adversaryFightUnarmed();
                     
-                case "retrieve":
+                case RETRIEVE:
                     mainScript.runSection("retrieveDistantMenu");
                     return this.adversaryRetrieveBlade();
                     
-                case "free":
+                case FREE:
                     return this.adversaryFree();
                     
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "leaveYap":
-                case "leaveSilent":
+                case LEAVEYAP:
+                case LEAVESILENT:
                     if (manager.hasVisited(Chapter.FURY)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -1439,12 +1393,12 @@ public class ChapterII extends StandardCycle {
         activeMenu.add(new Option(this.manager, "afterDied", "(Explore) \"What happened after you died?\""));
         activeMenu.add(new Option(this.manager, "why", "(Explore) \"We have to figure out why we're here.\"", noWhyOrPurpose));
         activeMenu.add(new Option(this.manager, "reason", "(Explore) \"You were put down here for a reason. I was sent to kill you for a reason. Don't you care what that reason is?\"", noPurposeAsk));
-        activeMenu.add(new Option(this.manager, "cared", "(Explore) \"The last time we talked, you seemed to care about why you were here. What made you stop caring?\"", this.knowsDestiny, noPurposeAsk));
-        activeMenu.add(new Option(this.manager, "attackA", "[Attack the Princess.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "attackB", "\"Fine. If you want a fight, I'll give you a fight.\" [Attack the Princess.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "retrieve", "\"Fine. If you want a fight, I'll give you a fight. I'll be right back.\" [Retrieve the blade to slay the Princess.]", !this.hasBlade));
+        activeMenu.add(new Option(this.manager, "cared", "(Explore) \"The last time we talked, you seemed to care about why you were here. What made you stop caring?\"", this.knowsDestiny(), noPurposeAsk));
+        activeMenu.add(new Option(this.manager, "attackA", "[Attack the Princess.]", this.hasBlade()));
+        activeMenu.add(new Option(this.manager, "attackB", "\"Fine. If you want a fight, I'll give you a fight.\" [Attack the Princess.]", this.hasBlade()));
+        activeMenu.add(new Option(this.manager, "retrieve", "\"Fine. If you want a fight, I'll give you a fight. I'll be right back.\" [Retrieve the blade to slay the Princess.]", !this.hasBlade()));
         activeMenu.add(new Option(this.manager, "refuse", this.cantJoint3, "\"I'm not going to fight you.\""));
-        activeMenu.add(new Option(this.manager, "free", this.cantUnique3, "[Attempt to free the Princess.]", this.hasBlade, chainsNotBroken, new OrCondition(freeOffer, whyOrPurpose)));
+        activeMenu.add(new Option(this.manager, "free", this.cantUnique3, "[Attempt to free the Princess.]", this.hasBlade(), chainsNotBroken, new OrCondition(freeOffer, whyOrPurpose)));
         activeMenu.add(new Option(this.manager, "leave", this.cantJoint3, "[Turn around and leave.]"));
         activeMenu.add(new Option(this.manager, "silent", this.cantJoint3, "[Remain silent.]"));
 
@@ -1452,19 +1406,19 @@ public class ChapterII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "spar":
+                case SPAR:
                     activeMenu.setCondition("whyKill", false);
-                case "whyKill":
+                case WHYKILL:
                     mainScript.runSection(activeOutcome + "CloseMenu");
                     break;
                     
-                case "noEnd":
+                case NOEND:
                     noEndWorldAsk.set(false);
                     mainScript.runSection("noEndCloseMenu");
                     break;
                     
-                case "freeAskA":
-                case "freeAskB":
+                case FREEASKA:
+                case FREEASKB:
                     freeFromChains2.set();
                     adversaryNoFreeOffer.set(false);
                     noAskFree.set(false);
@@ -1472,16 +1426,10 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("closeBreakChainsJoin");
                     break;
 
-                case "afterDied":
+                case AFTERDIED:
                     mainScript.runSection("afterDiedCloseMenu");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "singleFile", "(Explore) \"Or... we could just walk single-file out of here.\""));
-                    subMenu.add(new Option(this.manager, "wounds", "(Explore) \"You don't have any wounds...\""));
-                    subMenu.add(new Option(this.manager, "you", "(Explore) \"You're different...\""));
-                    subMenu.add(new Option(this.manager, "basement", "(Explore) \"The basement is different.\""));
-                    subMenu.add(new Option(this.manager, "bother", "(Explore) \"Doesn't any of this bother you? Don't you care about what you are?\""));
-                    subMenu.add(new Option(this.manager, "return", "(Return) [Leave it at that.]"));
+                    this.subMenu = MenuTemplate.get("ChapterII", "adversary4").instantiate(this.manager);
 
                     subMenu.get("singleFile").setPrerequisite(subMenu.get("basement"));
 
@@ -1489,15 +1437,15 @@ public class ChapterII extends StandardCycle {
                     while (repeatSub) {
                         this.activeOutcome = parser.promptOptionsMenu(subMenu);
                         switch (activeOutcome) {
-                            case "singleFile":
-                            case "wounds":
-                            case "basement":
-                            case "bother":
-                            case "you":
+                            case SINGLEFILE:
+                            case WOUNDS:
+                            case BASEMENT:
+                            case BOTHER:
+                            case YOU:
                                 mainScript.runConditionalSection(activeOutcome + "AfterDied", differentComment);
                                 break;
                             
-                            case "return":
+                            case RETURN:
                                 repeatSub = false;
                                 this.adversaryNarratorProof();
                                 break;
@@ -1506,27 +1454,22 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "why":
+                case WHY:
                     whyOrPurpose.set();
                     mainScript.runSection("whyCloseMenu");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "literal", "\"I don't mean 'why are we here existentially,' I mean, quite literally, why are you in this basement? Who sent me here to kill you? Why me? Why you? There are answers out there and we need to find them.\""));
-                    subMenu.add(new Option(this.manager, "reason", "\"You were put down here for a reason. I was sent to kill you for a reason. Don't you care what that reason is?\""));
-                    subMenu.add(new Option(this.manager, "want", "\"We're here because some people want me to kill you.\""));
-                    subMenu.add(new Option(this.manager, "noEnd", "\"We're here because you're supposed to be a threat to the world. I need to find out if that's true, and if it is true, I have to find out why.\"", noEndWorldAsk));
-                    subMenu.add(new Option(this.manager, "return", "(Return) [Leave it at that.]"));
+                    this.subMenu = MenuTemplate.get("ChapterII", "adversary5").instantiate(this.manager, Map.of("noEndWorldAsk", noEndWorldAsk));
 
                     this.activeOutcome = parser.promptOptionsMenu(subMenu);
                     switch (activeOutcome) {
-                        case "noEnd":
+                        case NOEND:
                             noEndWorldAsk.set(false);
-                        case "literal":
+                        case LITERAL:
                             mainScript.runSection(activeOutcome + "WhyHere");
                             break;
 
-                        case "reason":
-                        case "want":
+                        case REASON:
+                        case WANT:
                             purposeAsk.set();
                             mainScript.runSection(activeOutcome + "WhyHere");
                             break;
@@ -1534,24 +1477,24 @@ public class ChapterII extends StandardCycle {
 
                     break;
                     
-                case "reason":
-                case "cared":
+                case REASON:
+                case CARED:
                     purposeAsk.set();
                     whyOrPurpose.set();
                     mainScript.runSection(activeOutcome + "CloseMenu");
                     break;
                     
-                case "cSlayPrincess":
-                case "attackA":
-                case "attackB":
+                case CSLAYPRINCESS:
+                case ATTACKA:
+                case ATTACKB:
                     return this.adversaryFight();
                     
-                case "retrieve":
+                case RETRIEVE:
                     mainScript.runSection("retrieveCloseMenu");
                     return this.adversaryRetrieveBlade();
                     
-                case "refuse":
-                case "silent":
+                case REFUSE:
+                case SILENT:
                     if (manager.hasVisited(Chapter.FURY)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -1563,15 +1506,15 @@ public class ChapterII extends StandardCycle {
                     
                     return this.adversaryPacifism(false);
                     
-                case "free":
+                case FREE:
                     return this.adversaryFree();
                     
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "leave":
+                case LEAVE:
                     if (manager.hasVisited(Chapter.FURY)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -1599,12 +1542,7 @@ public class ChapterII extends StandardCycle {
         narratorProof.set();
         mainScript.runSection("narratorProof");
 
-        OptionsMenu proofMenu = new OptionsMenu(true);
-        proofMenu.add(new Option(this.manager, "apathy", "Just because it bothers you, I'm going to take this even less seriously. You don't know the depths of my apathy!"));
-        proofMenu.add(new Option(this.manager, "gaslight", "(Lie) No. I don't know what you're talking about, I've never died. Do you see how alive I am right now? Would someone as alive as me already have died? I didn't think so."));
-        proofMenu.add(new Option(this.manager, "worry", "Don't worry. I'm going to do a good job!"));
-        proofMenu.add(new Option(this.manager, "gotMe", "You got me. Pretty much everything you just said is true."));
-        proofMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+        OptionsMenu proofMenu = MenuTemplate.get("ChapterII", "adversaryNarratorProof").instantiate(this.manager);
 
         mainScript.runSection(parser.promptOptionsMenu(proofMenu) + "NarratorProof");
     }
@@ -1617,25 +1555,23 @@ public class ChapterII extends StandardCycle {
     private ChapterEnding adversaryFightDirect(boolean immediate) {
         mainScript.runSection("directStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "push", "[Keep pushing.]"));
-        activeMenu.add(new Option(this.manager, "unlodge", this.cantUnique3, "[Unlodge the blade and attack her from a different angle.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFightDirect").instantiate(this.manager, Map.of("cantUnique3", this.cantUnique3));
 
         this.princessViolent = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "push":
+                case CSLAYPRINCESS:
+                case PUSH:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cTakeHasBladeFail":
+                case CTAKEHASBLADEFAIL:
                     if (this.cantUnique3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "unlodge":
+                case UNLODGE:
                     if (!manager.confirmContentWarnings(Chapter.NEEDLE)) {
                         this.cantUnique3.set();
                         break;
@@ -1650,42 +1586,37 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runConditionalSection("pushDirect", immediate);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "agree", "\"I do.\""));
-        activeMenu.add(new Option(this.manager, "lie", "(Lie) \"I do.\""));
-        activeMenu.add(new Option(this.manager, "question", "\"What are you talking about?\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Silently continue pushing.]"));
-        activeMenu.add(new Option(this.manager, "unlodge", this.cantUnique3, "[Unlodge the blade.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFightDirect2").instantiate(this.manager, Map.of("cantUnique3", this.cantUnique3));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "agree":
+                case AGREE:
                     this.repeatActiveMenu = false;
-                    mainScript.runConditionalSection("understandingKnowledge", this.knowsDestiny);
+                    mainScript.runConditionalSection("understandingKnowledge", this.knowsDestiny());
                     mainScript.runSection("understandingAgree");
                     break;
 
-                case "question":
+                case QUESTION:
                     mainScript.runSection("understandingQuestion");
-                case "lie":
+                case LIE:
                     this.repeatActiveMenu = false;
-                    mainScript.runConditionalSection("understandingKnowledge", this.knowsDestiny);
+                    mainScript.runConditionalSection("understandingKnowledge", this.knowsDestiny());
                     mainScript.runSection("understandingOther");
                     break;
 
-                case "cSlayPrincess":
-                case "silent":
+                case CSLAYPRINCESS:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("understandingSilent");
                     break;
 
-                case "cTakeHasBladeFail":
+                case CTAKEHASBLADEFAIL:
                     if (this.cantUnique3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "unlodge":
+                case UNLODGE:
                     if (!manager.confirmContentWarnings(Chapter.NEEDLE)) {
                         this.cantUnique3.set();
                         break;
@@ -1700,47 +1631,41 @@ public class ChapterII extends StandardCycle {
         freeFromChains2.set();
 
         Condition canUnderstanding = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proof", "(Explore) I hope you heard all of that, Mr. Narrator. This is a lot different than last time, but last time definitely *happened.*", this.sharedLoop, this.narratorNoProof));
-        activeMenu.add(new Option(this.manager, "jumpGun", "(Explore) \"Aren't you jumping the gun a little here? We each died *once.* That doesn't mean we're *immortal.*\""));
-        activeMenu.add(new Option(this.manager, "metaphor", "(Explore) \"Were you being metaphorical when you said that nothing exists outside of us? There's more to the world than just this cabin. I saw trees and everything on my way here.\""));
-        activeMenu.add(new Option(this.manager, "freeOffer", "(Explore) \"Don't you want to be free, though? Isn't there more to life than waking up chained in a basement and fighting to the death in an endless loop?\"", adversaryNoFreeOffer));
-        activeMenu.add(new Option(this.manager, "dontGet", "(Explore) \"Is that what you meant when you said I 'understood?' Because if that's the case then I absolutely don't get it. I'm not even sure there's an 'it' to get!\"", activeMenu.get("metaphor"), canUnderstanding));
-        activeMenu.add(new Option(this.manager, "song", "(Explore) \"Yes! The two of us are a chorus of notes building on top of each other forever. The song we write in our blood will be the most beautiful music ever written!\"", activeMenu.get("metaphor"), canUnderstanding));
-        activeMenu.add(new Option(this.manager, "refuse", this.cantJoint3, "\"Actually, I think I'm done fighting you. I don't think this is healthy for either of us.\""));
-        activeMenu.add(new Option(this.manager, "attack", "[Pick up the blade and attack her again.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFightDirect3").instantiate(this.manager, Map.of(
+            "sharedLoop", AbstractCondition.of(this.sharedLoop()),
+            "narratorNoProof", this.narratorNoProof,
+            "adversaryNoFreeOffer", adversaryNoFreeOffer,
+            "canUnderstanding", canUnderstanding,
+            "cantJoint3", this.cantJoint3));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "proof":
+                case PROOF:
                     narratorProof.set();
                     mainScript.runSection("proofDistantMenu");
                     break;
 
-                case "jumpGun":
+                case JUMPGUN:
                     canUnderstanding.set(false);
                     mainScript.runSection("jumpGunPush");
 
                     Condition notDropped = new Condition(true);
-                    this.activeMenu = new OptionsMenu();
-                    activeMenu.add(new Option(this.manager, "trick", "(Explore) \"How do I know you're not tricking me?\"", notDropped));
-                    activeMenu.add(new Option(this.manager, "cut", "(Explore) \"Cut it out, will you? I'm not going to take a cheap win like that.\"", notDropped));
-                    activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFightDirect4").instantiate(this.manager, Map.of("notDropped", notDropped));
 
                     while (repeatActiveMenu) {
                         switch (parser.promptOptionsMenu(activeMenu)) {
-                            case "trick":
+                            case TRICK:
                                 mainScript.runSection("trickOpeningOffer");
                                 break;
 
-                            case "cut":
+                            case CUT:
                                 notDropped.set(false);
                                 mainScript.runSection("cutOpeningOffer");
 
-                            case "cSlayPrincess":
-                            case "slay":
+                            case CSLAYPRINCESS:
+                            case SLAY:
                                 if (notDropped.check()) {
                                     this.adversaryDirectOpening();
                                     return ChapterEnding.THATWHICHCANNOTDIE;
@@ -1755,37 +1680,32 @@ public class ChapterII extends StandardCycle {
                     
                     break;
 
-                case "metaphor":
+                case METAPHOR:
                     mainScript.runSection("metaphorOfferPush");
                     break;
 
-                case "freeOffer":
+                case FREEOFFER:
                     adversaryNoFreeOffer.set(false);
                     canUnderstanding.set(false);
                     mainScript.runSection("freeOfferPush");
 
-                    this.subMenu = new OptionsMenu();
-                    subMenu.add(new Option(this.manager, "oh", "\"Oh I get it, so you're like some sort of psychosexual sadomasochist. That makes sense.\""));
-                    subMenu.add(new Option(this.manager, "chance", "\"There will always be another chance to for us to kill each other.\""));
-                    subMenu.add(new Option(this.manager, "fine", "\"There's no getting through to you, is there? Fine.\""));
-                    subMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
-                    subMenu.add(new Option(this.manager, "attack", "\"Okay, sure, I get it now. Let's do this.\" [Pick up the blade and attack her again.]\""));
+                    this.subMenu = MenuTemplate.get("ChapterII", "adversaryFightDirect5").instantiate(this.manager);
 
                     boolean repeatMenu = true;
                     while (repeatMenu) {
                         this.activeOutcome = parser.promptOptionsMenu(subMenu);
                         switch (activeOutcome) {
-                            case "oh":
-                            case "chance":
-                            case "fine":
-                            case "silent":
+                            case OH:
+                            case CHANCE:
+                            case FINE:
+                            case SILENT:
                                 repeatMenu = false;
                                 mainScript.runSection(activeOutcome + "DirectFree");
                                 break;
 
-                            case "cTakeHasBladeFail":
-                            case "cSlayPrincess":
-                            case "attack":
+                            case CTAKEHASBLADEFAIL:
+                            case CSLAYPRINCESS:
+                            case ATTACK:
                                 this.repeatActiveMenu = false;
                                 repeatMenu = false;
 
@@ -1795,13 +1715,13 @@ public class ChapterII extends StandardCycle {
                     
                     break;
 
-                case "dontGet":
-                case "song":
+                case DONTGET:
+                case SONG:
                     canUnderstanding.set(false);
                     mainScript.runSection(activeOutcome + "Push");
                     break;
 
-                case "refuse":
+                case REFUSE:
                     if (manager.hasVisited(Chapter.FURY)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -1814,9 +1734,9 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("refuseCommitFromFight");
                     return this.adversaryPacifism(true);
 
-                case "cTakeHasBladeFail":
-                case "cSlayPrincess":
-                case "attack":
+                case CTAKEHASBLADEFAIL:
+                case CSLAYPRINCESS:
+                case ATTACK:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1827,8 +1747,7 @@ public class ChapterII extends StandardCycle {
         // Attack her again
         mainScript.runSection("attackPenultimate");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "up", "[Get up.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFightDirect6").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu);
 
         mainScript.runSection();
@@ -1842,9 +1761,7 @@ public class ChapterII extends StandardCycle {
     private void adversaryDirectOpening() {
         mainScript.runSection("openingStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "watch", "[Watch her body for a little while longer.]"));
-        activeMenu.add(new Option(this.manager, "leave", "[Turn and leave.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryDirectOpening").instantiate(this.manager);
 
         this.princessDead = true;
         this.princessSlain = true;
@@ -1852,14 +1769,14 @@ public class ChapterII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
-            if (activeOutcome.equals("cGoStairs")) activeOutcome = "leave";
+            if (activeOutcome == Outcome.CGOSTAIRS) activeOutcome = Outcome.LEAVE;
             switch (activeOutcome) {
-                case "watch":
-                case "leave":
+                case WATCH:
+                case LEAVE:
                     this.repeatActiveMenu = false;
                     this.princessDead = false;
                     this.princessSlain = false;
-                    mainScript.runConditionalSection(activeOutcome + "Opening", activeOutcome);
+                    mainScript.runConditionalSection(activeOutcome + "Opening", activeOutcome.getID());
                     break;
 
                 default: this.giveDefaultFailResponse();
@@ -1876,15 +1793,13 @@ public class ChapterII extends StandardCycle {
     private void adversaryDirectEnd(boolean fromOpening) {
         mainScript.runSection("noDie");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) \"Close to untethering?\" What's that supposed to mean?"));
-        activeMenu.add(new Option(this.manager, "attack", "[Attack her again.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryDirectEnd").instantiate(this.manager);
 
         boolean cantDieThought = false;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("noDieExplore");
 
                     Option cantDie = new Option(this.manager, "cantDie", "The Princess Can't Die.");
@@ -1898,32 +1813,32 @@ public class ChapterII extends StandardCycle {
                     for (int i = 0; i < 4; i++) activeMenu.add(cantDie, "cantDie" + (i+16));
 
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "cantDie0":
-                        case "cantDie1":
-                        case "cantDie2":
-                        case "cantDie3":
-                        case "cantDie4":
-                        case "cantDie5":
-                        case "cantDie6":
-                        case "cantDie7":
-                        case "cantDie8":
-                        case "cantDie9":
-                        case "cantDie10":
-                        case "cantDie11":
-                        case "cantDie12":
-                        case "cantDie13":
-                        case "cantDie14":
-                        case "cantDie15":
-                        case "cantDie16":
-                        case "cantDie17":
-                        case "cantDie18":
-                        case "cantDie19":
+                        case CANTDIE0:
+                        case CANTDIE1:
+                        case CANTDIE2:
+                        case CANTDIE3:
+                        case CANTDIE4:
+                        case CANTDIE5:
+                        case CANTDIE6:
+                        case CANTDIE7:
+                        case CANTDIE8:
+                        case CANTDIE9:
+                        case CANTDIE10:
+                        case CANTDIE11:
+                        case CANTDIE12:
+                        case CANTDIE13:
+                        case CANTDIE14:
+                        case CANTDIE15:
+                        case CANTDIE16:
+                        case CANTDIE17:
+                        case CANTDIE18:
+                        case CANTDIE19:
                             mainScript.runSection("cantDieThought");
                             break;
 
-                        case "late":
-                        case "refuse":
-                        case "lie":
+                        case LATE:
+                        case REFUSE:
+                        case LIE:
                             mainScript.runSection("cantDieAltThought");
                             break;
                     }
@@ -1931,14 +1846,13 @@ public class ChapterII extends StandardCycle {
                     this.repeatActiveMenu = false;
                     cantDieThought = true;
 
-                    this.activeMenu = new OptionsMenu(true);
-                    activeMenu.add(new Option(this.manager, "join", "[Join your Adversary.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterII", "adversaryDirectEnd2").instantiate(this.manager);
                     parser.promptOptionsMenu(activeMenu);
                     break;
 
-                case "cTakeHasBladeFail":
-                case "cSlayPrincess":
-                case "attack":
+                case CTAKEHASBLADEFAIL:
+                case CSLAYPRINCESS:
+                case ATTACK:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1950,27 +1864,23 @@ public class ChapterII extends StandardCycle {
         if (fromOpening) {
             mainScript.runConditionalSection("directEndStartFromOpening", cantDieThought);
 
-            this.activeMenu = new OptionsMenu(true);
-            activeMenu.add(new Option(this.manager, "wake", "[Wake up.]"));
-            activeMenu.add(new Option(this.manager, "join", "[Join your Adversary.]", activeMenu.get("wake")));
+            this.activeMenu = MenuTemplate.get("ChapterII", "adversaryDirectEnd3").instantiate(this.manager);
             parser.promptOptionsMenu(activeMenu);
             mainScript.runSection();
             parser.promptOptionsMenu(activeMenu);
         } else {
             mainScript.runSection("directEndStartOther");
 
-            this.activeMenu = new OptionsMenu(true);
-            activeMenu.add(new Option(this.manager, "up", "[Get up.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "adversaryDirectEnd4").instantiate(this.manager);
             parser.promptOptionsMenu(activeMenu);
             
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "adversaryDirectEnd5").instantiate(this.manager);
             
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "cSlayPrincess":
-                    case "slay":
+                    case CSLAYPRINCESS:
+                    case SLAY:
                         this.repeatActiveMenu = false;
                         mainScript.runSection();
                         break;
@@ -1983,16 +1893,11 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("directFinalStart");
         this.removeVoice(Voice.NARRATOR);
 
-        if (this.isFirstVessel) {
-            this.activeMenu = new OptionsMenu(true);
-            activeMenu.add(new Option(this.manager, "chin", "\"Chin up! Isn't this what we wanted? Just you and me forever?\""));
-            activeMenu.add(new Option(this.manager, "ok", "\"Are you okay?\""));
-            activeMenu.add(new Option(this.manager, "end", "\"We ended the world, didn't we? Everything is gone.\""));
-            activeMenu.add(new Option(this.manager, "rest", "\"We've been fighting for a long time. You should rest.\""));
-            activeMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+        if (this.isFirstVessel()) {
+            this.activeMenu = MenuTemplate.get("ChapterII", "adversaryDirectEnd6").instantiate(this.manager);
 
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "silent":
+                case SILENT:
                     mainScript.claimFoldLine();
                     mainScript.runSection("directFinalEndSilent");
                     break;
@@ -2020,30 +1925,25 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("retrieveStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) You know, we could just stay here. Who says we have to fight to the death?"));
-        activeMenu.add(new Option(this.manager, "take", "[Take the blade from the altar.]"));
-        activeMenu.add(new Option(this.manager, "stay", this.cantJoint3, "We're doing it. We're staying up here.", 0, activeMenu.get("explore")));
-        activeMenu.add(new Option(this.manager, "leave", this.cantJoint3, "We're leaving.", 0, activeMenu.get("explore")));
-        activeMenu.add(new Option(this.manager, "return", "[Return to the basement.]", false));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryRetrieveBlade").instantiate(this.manager, Map.of("cantJoint3", this.cantJoint3));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("exploreRetrieve");
                     break;
 
-                case "cTakeBlade":
-                case "take":
+                case CTAKEBLADE:
+                case TAKE:
                     this.withBlade = false;
-                    this.hasBlade = true;
+                    this.flags.set(ChapterFlag.HASBLADE);
                     activeMenu.setCondition("return", true);
                     mainScript.runSection("takeBladeRetrieve");
                     break;
 
-                case "stay":
+                case STAY:
                     if (manager.hasVisited(Chapter.FURY)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -2053,16 +1953,16 @@ public class ChapterII extends StandardCycle {
                         break;
                     }
                     
-                    if (this.hasBlade) mainScript.runSection("fleeRetrieveTookBlade");
+                    if (this.hasBlade()) mainScript.runSection("fleeRetrieveTookBlade");
                     mainScript.runSection("stayRetrieve");
                     return this.adversaryFleeUpstairs(true);
 
-                case "cGoHill":
+                case CGOHILL:
                     if (this.cantJoint3.check() || !activeMenu.hasBeenPicked("explore")) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "leave":
+                case LEAVE:
                     if (manager.hasVisited(Chapter.FURY)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -2072,16 +1972,16 @@ public class ChapterII extends StandardCycle {
                         break;
                     }
                     
-                    if (this.hasBlade) mainScript.runSection("fleeRetrieveTookBlade");
+                    if (this.hasBlade()) mainScript.runSection("fleeRetrieveTookBlade");
                     mainScript.runSection("leaveRetrieve");
                     return this.adversaryFleeUpstairs(true);
 
-                case "cGoStairs":
-                    if (!this.hasBlade) {
+                case CGOSTAIRS:
+                    if (!this.hasBlade()) {
                         mainScript.runSection("returnFailRetrieve");
                         break;
                     }
-                case "return":
+                case RETURN:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -2092,14 +1992,13 @@ public class ChapterII extends StandardCycle {
         this.canSlayPrincess = true;
         mainScript.runSection("returnRetrieve");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "attack", "[Attack the Princess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryRetrieveBlade2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "attack":
+                case CSLAYPRINCESS:
+                case ATTACK:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2123,17 +2022,14 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("fightStart");
         freeFromChains2.set();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "bait", manager.demoMode(), "[Bait an opening and outmaneuver her.]", 0));
-        activeMenu.add(new Option(this.manager, "strike", "[Strike at her heart head-on.]"));
-        activeMenu.add(new Option(this.manager, "run", this.cantJoint3, "[Run.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFight").instantiate(this.manager, Map.of("demoMode", AbstractCondition.of(manager.demoMode()), "cantJoint3", this.cantJoint3));
 
         this.princessViolent = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "bait":
+                case BAIT:
                     if (!manager.confirmContentWarnings(Chapter.NEEDLE)) {
                         activeMenu.setGreyedOut("bait", true);
                         break;
@@ -2142,17 +2038,17 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("dodgeSecondAttack");
                     return ChapterEnding.THREADINGTHROUGH;
                 
-                case "cSlayPrincess":
-                case "strike":
+                case CSLAYPRINCESS:
+                case STRIKE:
                     mainScript.runSection("fightStrike");
                     return this.adversaryFightDirect(false);
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "run":
+                case RUN:
                     if (manager.hasVisited(Chapter.FURY)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -2179,11 +2075,9 @@ public class ChapterII extends StandardCycle {
         this.princessViolent = true;
         mainScript.runSection("unarmedStart");
 
-        this.subMenu = new OptionsMenu(true);
-        subMenu.add(new Option(this.manager, "getUp", "[Get up.]", 0));
-        subMenu.add(new Option(this.manager, "die", "[Die.]"));
+        this.subMenu = MenuTemplate.get("ChapterII", "adversaryFightUnarmed").instantiate(this.manager);
 
-        if (parser.promptOptionsMenu(subMenu).equals("die")) {
+        if (parser.promptOptionsMenu(subMenu) == Outcome.DIE) {
             mainScript.runConditionalSection("unarmedDie");
             return ChapterEnding.DEADISDEAD;
         }
@@ -2191,34 +2085,28 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection();
 
         Condition noFaceExplore = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "face", "(Explore) \"Wait no... my face? You're joking right? You're exaggerating? I still have my face right?\" [Touch your face.]"));
-        activeMenu.add(new Option(this.manager, "retrieve", "\"Can... can I go get my pristine blade now?\""));
-        activeMenu.add(new Option(this.manager, "better", "\"No, you definitely killed me. I just got better.\"", noFaceExplore));
-        activeMenu.add(new Option(this.manager, "easy", "\"You're not putting me down that easy.\"", noFaceExplore));
-        activeMenu.add(new Option(this.manager, "run", "[Run.]"));
-        activeMenu.add(new Option(this.manager, "attack", "[Attack the Princess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFightUnarmed2").instantiate(this.manager, Map.of("noFaceExplore", noFaceExplore));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "face":
-                    this.adversaryFaceExplore = true;
+                case FACE:
+                    this.flags.set(ChapterFlag.ADVERSARYFACEEXPLORE);
                     noFaceExplore.set(false);
                     mainScript.runSection("faceUnarmedPhase1");
                     break;
 
-                case "retrieve":
-                case "run":
+                case RETRIEVE:
+                case RUN:
                     this.repeatActiveMenu = false;
                     mainScript.runConditionalSection(activeOutcome + "UnarmedPhase1", this.forestSpecial);
                     break;
 
-                case "better":
-                case "easy":
+                case BETTER:
+                case EASY:
                     mainScript.runSection("easyUnarmedPhase1");
-                case "attack":
+                case ATTACK:
                     this.repeatActiveMenu = false;
                     mainScript.runConditionalSection("attackUnarmedPhase1", this.forestSpecial);
                     break;
@@ -2227,7 +2115,7 @@ public class ChapterII extends StandardCycle {
 
         freeFromChains2.set();
 
-        if (parser.promptOptionsMenu(subMenu).equals("die")) {
+        if (parser.promptOptionsMenu(subMenu) == Outcome.DIE) {
             mainScript.runSection("unarmedDiePhase1");
             return ChapterEnding.DEADISDEAD;
         }
@@ -2246,36 +2134,31 @@ public class ChapterII extends StandardCycle {
             freeFromChains2.set();
             mainScript.runSection("refuseBreakChains");
 
-            this.canSlayPrincess = this.hasBlade;
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "attack", "[Attack the Princess.]", this.hasBlade));
-            activeMenu.add(new Option(this.manager, "retrieve", "\"Okay, fine. If you want to fight then we can fight. You're not giving me many options. Just let me get a weapon.\" [Go upstairs and retrieve the blade.]", !this.hasBlade));
-            activeMenu.add(new Option(this.manager, "flee", "[Flee up the stairs and retrieve the blade.]", !this.hasBlade));
-            activeMenu.add(new Option(this.manager, "refuse", "\"This doesn't change anything.\" [Refuse to fight.]"));
-            activeMenu.add(new Option(this.manager, "silent", "[Silently stand your ground and refuse to fight.]"));
+            this.canSlayPrincess = this.hasBlade();
+            this.activeMenu = MenuTemplate.get("ChapterII", "adversaryPacifism").instantiate(this.manager, Map.of("hasBlade", AbstractCondition.of(this.hasBlade())));
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "cSlayPrincess":
-                    case "attack":
+                    case CSLAYPRINCESS:
+                    case ATTACK:
                         return this.adversaryFight();
 
-                    case "retrieve":
+                    case RETRIEVE:
                         mainScript.runSection("refuseRetrieve");
                         return this.adversaryRetrieveBlade();
 
-                    case "cGoStairs":
-                        if (this.hasBlade) {
+                    case CGOSTAIRS:
+                        if (this.hasBlade()) {
                             this.giveDefaultFailResponse();
                             break;
                         }
-                    case "flee":
+                    case FLEE:
                         return this.adversaryFlee();
 
-                    case "refuse":
-                    case "silent":
+                    case REFUSE:
+                    case SILENT:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("refuseBreakNoChange");
                         break;
@@ -2289,68 +2172,64 @@ public class ChapterII extends StandardCycle {
         mainScript.runConditionalSection("refuseCommit", fromFight);
 
         boolean isStanding = false;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "stuck", "(Explore) \"I can't get up.\""));
-        activeMenu.add(new Option(this.manager, "killMe", "\"You might as well just kill me, because you're not going to change my mind.\"", activeMenu.get("stuck")));
-        activeMenu.add(new Option(this.manager, "stand", "[Get up.]", activeMenu.get("stuck")));
-        activeMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryPacifism2").instantiate(this.manager);
 
         this.princessViolent = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "killMe":
+                case KILLME:
                     this.repeatActiveMenu = false;
-                case "stuck":
+                case STUCK:
                     mainScript.runSection(activeOutcome + "Refuse");
                     break;
 
-                case "stand":
+                case STAND:
                     isStanding = true;
                     mainScript.runSection("standRefuse");
 
-                    this.canSlayPrincess = this.hasBlade;
+                    this.canSlayPrincess = this.hasBlade();
                     this.activeMenu = new OptionsMenu();
-                    activeMenu.add(new Option(this.manager, "explore", "\"If I turn my back on you to get the blade... how do I know you won't just kill me?\"", !this.hasBlade));
-                    activeMenu.add(new Option(this.manager, "retrieve", "\"Okay. I'll be right back.\" [Retrieve the blade.]", !this.hasBlade));
+                    activeMenu.add(new Option(this.manager, "explore", "\"If I turn my back on you to get the blade... how do I know you won't just kill me?\"", !this.hasBlade()));
+                    activeMenu.add(new Option(this.manager, "retrieve", "\"Okay. I'll be right back.\" [Retrieve the blade.]", !this.hasBlade()));
                     activeMenu.add(new Option(this.manager, "refuse", "\"I'm still not going to fight you.\""));
                     activeMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
-                    activeMenu.add(new Option(this.manager, "fleeNoBlade", "[Run like hell.]", !this.hasBlade));
-                    activeMenu.add(new Option(this.manager, "fleeBlade", "[Grab the blade and run like hell.]", this.hasBlade));
-                    activeMenu.add(new Option(this.manager, "attack", "[Attack the Princess.]", this.adversaryTookBlade && !fromFight));
+                    activeMenu.add(new Option(this.manager, "fleeNoBlade", "[Run like hell.]", !this.hasBlade()));
+                    activeMenu.add(new Option(this.manager, "fleeBlade", "[Grab the blade and run like hell.]", this.hasBlade()));
+                    activeMenu.add(new Option(this.manager, "attack", "[Attack the Princess.]", this.adversaryTookBlade() && !fromFight));
 
                     this.repeatActiveMenu = true;
                     while (repeatActiveMenu) {
                         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                         switch (activeOutcome) {
-                            case "explore":
+                            case EXPLORE:
                                 mainScript.runSection("exploreStand");
                                 break;
 
-                            case "retrieve":
+                            case RETRIEVE:
                                 mainScript.runSection("retrieveStand");
                                 return this.adversaryRetrieveBlade();
 
-                            case "refuse":
-                            case "silent":
+                            case REFUSE:
+                            case SILENT:
                                 this.repeatActiveMenu = false;
                                 mainScript.runSection(activeOutcome + "Stand");
                                 break;
 
-                            case "cGoStairs":
-                            case "fleeNoBlade":
+                            case CGOSTAIRS:
+                            case FLEENOBLADE:
                                 mainScript.runSection("fleeNoBladeStand");
                                 return this.adversaryRetrieveBlade();
 
-                            case "fleeBlade":
+                            case FLEEBLADE:
                                 mainScript.runSection("fleeBladeStand");
                                 return this.adversaryFleeUpstairs(false);
 
-                            case "attack":
+                            case ATTACK:
                                 return this.adversaryFight();
 
-                            case "cTakeHasBladeFail":
+                            case CTAKEHASBLADEFAIL:
                                 this.giveDefaultFailResponse();
                                 break;
 
@@ -2360,7 +2239,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "silent":
+                case SILENT:
                     this.repeatActiveMenu = false;
 
                     if (activeMenu.hasBeenPicked("stuck")) {
@@ -2376,12 +2255,7 @@ public class ChapterII extends StandardCycle {
         // You die
         mainScript.runConditionalSection("refuseEndStart", isStanding);
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "noMatter", "\"Because death doesn't matter anymore, does it? Fighting, not fighting -- what does any of it matter if it all ends the same way?\""));
-        activeMenu.add(new Option(this.manager, "more", "\"Because there's more to this than just fighting each other. If letting you kill me is how I can show you that, then it's worth it.\""));
-        activeMenu.add(new Option(this.manager, "care", "\"I care about you, and I don't want to hurt you anymore.\""));
-        activeMenu.add(new Option(this.manager, "funny", "\"I just think it's kind of funny...\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryPacifism3").instantiate(this.manager);
 
         mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "RefuseEnd");
         return ChapterEnding.STRIKEMEDOWN;
@@ -2395,19 +2269,18 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("freeStart");
 
         Option attack = new Option(this.manager, "attack", "[Attack the Princess.]");
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "free", "We're doing it. [Free the Princess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFree").instantiate(this.manager);
         activeMenu.add(attack);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "free":
+                case FREE:
                     this.repeatActiveMenu = false;
                     break;
                 
-                case "cSlayPrincess":
-                case "attack":
+                case CSLAYPRINCESS:
+                case ATTACK:
                     return this.adversaryFight();
 
                 default: this.giveDefaultFailResponse();
@@ -2424,21 +2297,21 @@ public class ChapterII extends StandardCycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "free":
+                case FREE:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincess":
-                case "attack0":
-                case "attack1":
-                case "attack2":
-                case "attack3":
-                case "attack4":
-                case "attack5":
-                case "attack6":
-                case "attack7":
-                case "attack8":
-                case "attack9":
+                case CSLAYPRINCESS:
+                case ATTACK0:
+                case ATTACK1:
+                case ATTACK2:
+                case ATTACK3:
+                case ATTACK4:
+                case ATTACK5:
+                case ATTACK6:
+                case ATTACK7:
+                case ATTACK8:
+                case ATTACK9:
                     return this.adversaryFight();
 
                 default: this.giveDefaultFailResponse();
@@ -2463,8 +2336,8 @@ public class ChapterII extends StandardCycle {
             mainScript.runSection("fleeStartNotFree");
             
             activeMenu.add(new Option(this.manager, "explore", "(Explore) Okay, team. What are we thinking?"));
-            activeMenu.add(new Option(this.manager, "turn", "[Turn and fight her head-on.]", this.hasBlade));
-            activeMenu.add(new Option(this.manager, "dodge", this.cantUnique3, "[Dodge to the side and counter-attack.]", 0, this.hasBlade));
+            activeMenu.add(new Option(this.manager, "turn", "[Turn and fight her head-on.]", this.hasBlade()));
+            activeMenu.add(new Option(this.manager, "dodge", this.cantUnique3, "[Dodge to the side and counter-attack.]", 0, this.hasBlade()));
             activeMenu.add(new Option(this.manager, "run", "[Run like hell.]"));
             activeMenu.add(new Option(this.manager, "die", "[Die.]"));
 
@@ -2472,15 +2345,15 @@ public class ChapterII extends StandardCycle {
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "explore":
+                    case EXPLORE:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("fleeExplore");
                         break;
 
-                    case "turn":
+                    case TURN:
                         return this.adversaryFight();
 
-                    case "dodge":
+                    case DODGE:
                         if (!manager.confirmContentWarnings(Chapter.NEEDLE)) {
                             this.cantUnique3.set();
                             break;
@@ -2489,12 +2362,12 @@ public class ChapterII extends StandardCycle {
                         mainScript.runSection("dodgeFirstAttack");
                         return ChapterEnding.THREADINGTHROUGH;
 
-                    case "cGoStairs":
-                    case "run":
+                    case CGOSTAIRS:
+                    case RUN:
                         mainScript.runSection("fleeRunSuccess");
                         return this.adversaryFleeUpstairs(false);
 
-                    case "die":
+                    case DIE:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("fleeChooseDie");
                         mainScript.runSection("fleeChooseDieCont");
@@ -2506,7 +2379,7 @@ public class ChapterII extends StandardCycle {
         } else {
             mainScript.runSection("fleeStartFree");
             
-            activeMenu.add(new Option(this.manager, "turn", "[Turn and fight.]", this.hasBlade));
+            activeMenu.add(new Option(this.manager, "turn", "[Turn and fight.]", this.hasBlade()));
             activeMenu.add(new Option(this.manager, "run", "[Run like hell.]"));
             activeMenu.add(new Option(this.manager, "die", "[Die.]"));
 
@@ -2514,18 +2387,18 @@ public class ChapterII extends StandardCycle {
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "turn":
+                    case TURN:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("fleeTurnFail");
                         break;
 
-                    case "cGoStairs":
-                    case "run":
+                    case CGOSTAIRS:
+                    case RUN:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("fleeRunFail");
                         break;
 
-                    case "die":
+                    case DIE:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("fleeChooseDie");
                         mainScript.runSection("fleeChooseDieCont");
@@ -2555,25 +2428,23 @@ public class ChapterII extends StandardCycle {
         if (retrieve) {
             mainScript.runSection("upstairsRetrieveStart");
         } else {
-            if (!this.hasBlade) {
+            if (!this.hasBlade()) {
                 this.withBlade = true;
                 mainScript.runSection("upstairsNoBlade");
 
-                this.activeMenu = new OptionsMenu();
-                activeMenu.add(new Option(this.manager, "take", "[Take the blade.]"));
-                activeMenu.add(new Option(this.manager, "leave", "[You're fine just the way you are, thank you.]"));
+                this.activeMenu = MenuTemplate.get("ChapterII", "adversaryFleeUpstairs").instantiate(this.manager);
 
                 this.repeatActiveMenu = true;
                 while (repeatActiveMenu) {
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "cTakeBlade":
-                        case "take":
+                        case CTAKEBLADE:
+                        case TAKE:
                             this.repeatActiveMenu = false;
-                            this.hasBlade = true;
+                            this.flags.set(ChapterFlag.HASBLADE);
                             mainScript.runSection("upstairsTakeBlade");
                             break;
 
-                        case "leave":
+                        case LEAVE:
                             this.repeatActiveMenu = false;
                             mainScript.runSection("upstairsLeaveBlade");
                             break;
@@ -2588,7 +2459,7 @@ public class ChapterII extends StandardCycle {
             mainScript.runSection("upstairsFleeStart");
         }
 
-        if (this.hasBlade) {
+        if (this.hasBlade()) {
             if (this.playerWounded) {
                 mainScript.runSection("upstairsDieWounded");
             } else {
@@ -2639,41 +2510,39 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "tower").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     mainScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     tookBlade = true;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2685,22 +2554,21 @@ public class ChapterII extends StandardCycle {
         this.currentLocation = GameLocation.STAIRS;
         this.withBlade = false;
         this.mirrorPresent = false;
-        if (!this.hasBlade) towerSubmitCount.increment();
+        if (!this.hasBlade()) towerSubmitCount.increment();
         mainScript.runSection("stairsStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "continue", "[Continue down the stairs.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "tower2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (this.repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoBasement":
-                case "continue":
+                case CGOBASEMENT:
+                case CONTINUE:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoCabin":
+                case CGOCABIN:
                     secondaryScript.runSection("stairsLeaveFail");
                     break;
 
@@ -2712,24 +2580,22 @@ public class ChapterII extends StandardCycle {
         this.withPrincess = true;
         mainScript.runSection("basementStart");
 
-        if (this.hasBlade) {
+        if (this.hasBlade()) {
             this.canDropBlade = true;
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "drop", "[Drop it.]"));
-            activeMenu.add(new Option(this.manager, "tighten", "[Tighten your grip.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "tower3").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "cDrop":
-                    case "drop":
+                    case CDROP:
+                    case DROP:
                         this.repeatActiveMenu = false;
                         towerSubmitCount.increment();
                         mainScript.runSection("dropWilling");
                         break;
 
-                    case "cSlayPrincessFail":
-                    case "tighten":
+                    case CSLAYPRINCESSFAIL:
+                    case TIGHTEN:
                         this.repeatActiveMenu = false;
                         towerResistCount.increment();
                         mainScript.runSection("dropForced");
@@ -2739,17 +2605,15 @@ public class ChapterII extends StandardCycle {
                 }
             }
 
-            this.hasBlade = false;
+            this.flags.set(ChapterFlag.HASBLADE, false);
             this.canDropBlade = false;
             this.withBlade = true;
         }
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "no", "\"No.\""));
-        activeMenu.add(new Option(this.manager, "kneel", "[Kneel.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "tower4").instantiate(this.manager);
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "no":
+            case NO:
                 if (towerResistCount.equals(2)) {
                     towerResistCount.increment();
                     mainScript.runSection("kneelResistAgain");
@@ -2759,7 +2623,7 @@ public class ChapterII extends StandardCycle {
 
                 break;
 
-            case "kneel":
+            case KNEEL:
                 towerSubmitCount.increment();
                 mainScript.runSection("kneelWilling");
                 break;
@@ -2767,7 +2631,7 @@ public class ChapterII extends StandardCycle {
 
         if (manager.trueDemoMode()) return ChapterEnding.DEMOENDING;
 
-        if (this.knowsDestiny) {
+        if (this.knowsDestiny()) {
             mainScript.runSection("startKnowsDestiny");
         } else {
             mainScript.runBladeSection("start");
@@ -2783,22 +2647,22 @@ public class ChapterII extends StandardCycle {
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "cantRefuse":
+                    case CANTREFUSE:
                         mainScript.runSection("motiveCantRefuse");
                         break;
                     
-                    case "noStutter":
+                    case NOSTUTTER:
                         towerResistCount.increment();
                         mainScript.runSection("motiveNoStutter");
                         break;
                     
-                    case "shareMotive":
+                    case SHAREMOTIVE:
                         this.repeatActiveMenu = false;
-                        this.knowsDestiny = true;
+                        this.flags.set(ChapterFlag.KNOWSDESTINY);
                         mainScript.runSection("motiveShare");
                         break;
                     
-                    case "noForce":
+                    case NOFORCE:
                         if (!manager.confirmContentWarnings("forced self-mutilation, forced suicide", true)) {
                             this.cantUnique3.set();
                             break;
@@ -2808,7 +2672,7 @@ public class ChapterII extends StandardCycle {
                         mainScript.runSection("motiveNoForce");
                         return this.towerResistBlade(false);
                     
-                    case "no":
+                    case NO:
                         if (!manager.confirmContentWarnings("forced self-mutilation, forced suicide", true)) {
                             this.cantUnique3.set();
                             break;
@@ -2817,7 +2681,7 @@ public class ChapterII extends StandardCycle {
                         this.repeatActiveMenu = false;
                         return this.towerResistBlade(false);
                     
-                    case "silent":
+                    case SILENT:
                         if (towerSubmitCount.equals(0)) {
                             if (!manager.confirmContentWarnings("forced self-mutilation, forced suicide", true)) {
                                 this.cantUnique3.set();
@@ -2829,7 +2693,7 @@ public class ChapterII extends StandardCycle {
                         }
 
                         this.repeatActiveMenu = false;
-                        this.knowsDestiny = true;
+                        this.flags.set(ChapterFlag.KNOWSDESTINY);
                         mainScript.runSection("motiveSilent");
                         break;
                 }
@@ -2837,37 +2701,33 @@ public class ChapterII extends StandardCycle {
         }
 
         Condition noPriestOffer = new Condition(true);
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "role", "(Explore) \"What would you have me do? What do you have planned?\""));
-        activeMenu.add(new Option(this.manager, "powerful", "(Explore) \"If you're so powerful, can't you just break the chains yourself?\"", activeMenu.get("role")));
-        activeMenu.add(new Option(this.manager, "selfDetermination", "(Explore) \"Just because you're supposed to end the world doesn't mean you actually have to do it. You can be whatever you want to be.\""));
-        activeMenu.add(new Option(this.manager, "questions", "(Explore) \"I have questions for you before I decide to do anything.\"", noPriestOffer));
-        activeMenu.add(new Option(this.manager, "happened", "(Explore) \"What happened to you after I died?\"", noPriestOffer));
-        activeMenu.add(new Option(this.manager, "refuseNoBladeA", this.cantUnique3, "\"I'm not going to help you end the world. I don't care if something new comes after. I just can't let you do that.\"", 0, !tookBlade, towerResisted));
-        activeMenu.add(new Option(this.manager, "refuseNoBladeB", this.cantUnique3, "\"No. I won't take part in this.\" [Refuse her.]", 0, !tookBlade, towerResisted));
-        activeMenu.add(new Option(this.manager, "refuseBlade", manager.demoMode(), "\"I'm not going to help you end the world. I don't care if something new comes after. I just can't let you do that.\"", tookBlade));
-        activeMenu.add(new Option(this.manager, "pledge", "\"I'm yours to command.\" [Pledge yourself to her.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "tower5").instantiate(this.manager, Map.of(
+            "noPriestOffer", noPriestOffer,
+            "cantUnique3", this.cantUnique3,
+            "tookBlade", AbstractCondition.of(tookBlade),
+            "towerResisted", towerResisted,
+            "demoMode", AbstractCondition.of(manager.demoMode())));
 
         boolean priestOffer = false;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             activeOutcome = parser.promptOptionsMenu(activeMenu, new VoiceDialogueLine("You have no other choice."));
             switch (activeOutcome) {
-                case "role":
-                case "powerful":
-                case "selfDetermination":
-                    mainScript.runSection(activeOutcome);
+                case ROLE:
+                case POWERFUL:
+                case SELFDETERMINATION:
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "questions":
-                case "happened":
+                case QUESTIONS:
+                case HAPPENED:
                     priestOffer = true;
                     noPriestOffer.set(false);
                     mainScript.runSection("questions");
                     break;
 
-                case "refuseNoBladeA":
-                case "refuseNoBladeB":
+                case REFUSENOBLADEA:
+                case REFUSENOBLADEB:
                     if (!manager.confirmContentWarnings(Chapter.APOTHEOSIS, "forced suicide")) {
                         this.cantUnique3.set();
                         break;
@@ -2877,11 +2737,11 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection();
                     return this.towerSlaySelf(false, true);
 
-                case "refuseBlade":
+                case REFUSEBLADE:
                     mainScript.runSection("refuseBlade");
                     return this.towerResistBlade(priestOffer);
 
-                case "pledge":
+                case PLEDGE:
                     mainScript.runSection("menuPledge");
                     this.towerPledge();
                     return ChapterEnding.OBEDIENTSERVANT;
@@ -2898,23 +2758,20 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("pledge");
         mainScript.runSection("pledgeCont");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "believe", "(Explore) \"And what if I don't believe? What happens then?\""));
-        activeMenu.add(new Option(this.manager, "sorry", "(Explore) I have to. It's over. I'm sorry."));
-        activeMenu.add(new Option(this.manager, "break", "[Break her chains.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "towerPledge").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, new VoiceDialogueLine(Voice.NARRATORPRINCESS, "You have no other choice."))) {
-                case "believe":
+                case BELIEVE:
                     mainScript.runSection("pledgeBelieve");
                     break;
 
-                case "sorry":
+                case SORRY:
                     mainScript.runSection("pledgeSorry");
                     break;
 
-                case "break":
+                case BREAK:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -2922,20 +2779,18 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("pledgeBreak");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) \"What happens now?\""));
-        activeMenu.add(new Option(this.manager, "take", "[Take her hand.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "towerPledge2").instantiate(this.manager);
 
         this.canTakeHand = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, new VoiceDialogueLine(Voice.NARRATORPRINCESS, "You have no other choice."))) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("pledgeExplore");
                     break;
 
-                case "cTakeHand":
-                case "take":
+                case CTAKEHAND:
+                case TAKE:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -2952,18 +2807,13 @@ public class ChapterII extends StandardCycle {
     private ChapterEnding towerResistBlade(boolean priestOffer) {
         mainScript.runSection("resistBlade");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "why", true, "(Explore) \"Why? What are you going to try and make me do with it?\""));
-        activeMenu.add(new Option(this.manager, "kill", true, "(Explore) \"I'm going to kill you.\""));
-        activeMenu.add(new Option(this.manager, "divine", true, "(Explore) You're not kidding about that divine hand. Who's doing this? Is it her? Is it you?"));
-        activeMenu.add(new Option(this.manager, "no", true, "\"No.\""));
-        activeMenu.add(new Option(this.manager, "take", "[Pick up the blade.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "towerResistBlade").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cTakeBlade":
-                case "take":
+                case CTAKEBLADE:
+                case TAKE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2971,45 +2821,40 @@ public class ChapterII extends StandardCycle {
             }
         }
 
-        this.hasBlade = true;
+        this.flags.set(ChapterFlag.HASBLADE);
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "hate", true, "\"I hate you so much. All of you.\""));
-        activeMenu.add(new Option(this.manager, "stop", true, "\"Stop making me do things!\""));
-        activeMenu.add(new Option(this.manager, "kneel", true, "\"I'm going to kneel here forever.\""));
-        activeMenu.add(new Option(this.manager, "stand", "[Stand.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "towerResistBlade2").instantiate(this.manager);
 
         parser.promptOptionsMenu(activeMenu);
         mainScript.runSection();
 
         this.princessViolent = true;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "end", "[End this.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "towerResistBlade3").instantiate(this.manager);
 
         parser.promptOptionsMenu(activeMenu);
         mainScript.runSection();
         
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "self", "[Slay yourself.]", 0));
-        activeMenu.add(new Option(this.manager, "resist", "[Resist.]", towerResisted2, towerSubmitted));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]", towerNoSubmit));
+        this.activeMenu = MenuTemplate.get("ChapterII", "towerResistBlade4").instantiate(this.manager, Map.of(
+            "towerResisted2", towerResisted2,
+            "towerSubmitted", towerSubmitted,
+            "towerNoSubmit", towerNoSubmit));
 
         this.canSlayPrincess = towerNoSubmit.check();
         this.canSlaySelf = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlaySelf":
-                case "self":
+                case CSLAYSELF:
+                case SELF:
                     if (!manager.confirmContentWarnings(Chapter.APOTHEOSIS)) break;
                     
                     mainScript.runSection("bladeSlaySelf");
                     return this.towerSlaySelf(true, false);
 
-                case "cSlayPrincess":
-                case "resist":
-                case "slay":
+                case CSLAYPRINCESS:
+                case RESIST:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3019,24 +2864,24 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("advance1");
         
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "self", "[Slay yourself.]", 0));
-        activeMenu.add(new Option(this.manager, "push", "[Push forward.]", towerResisted2, towerSubmitted));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]", towerNoSubmit));
+        this.activeMenu = MenuTemplate.get("ChapterII", "towerResistBlade5").instantiate(this.manager, Map.of(
+            "towerResisted2", towerResisted2,
+            "towerSubmitted", towerSubmitted,
+            "towerNoSubmit", towerNoSubmit));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlaySelf":
-                case "self":
+                case CSLAYSELF:
+                case SELF:
                     if (!manager.confirmContentWarnings(Chapter.APOTHEOSIS)) break;
 
                     mainScript.runSection("advanceSlaySelf");
                     return this.towerSlaySelf(true, false);
 
-                case "cSlayPrincess":
-                case "push":
-                case "slay":
+                case CSLAYPRINCESS:
+                case PUSH:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3047,26 +2892,26 @@ public class ChapterII extends StandardCycle {
         this.canSlaySelf = false;
         mainScript.runConditionalSection("advance2", priestOffer);
         
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "pledge", "\"I'm yours.\" [Pledge yourself to her.]"));
-        activeMenu.add(new Option(this.manager, "resist", "\"I. Said. NO!\" [Resist.]", 0, towerSubmitted));
-        activeMenu.add(new Option(this.manager, "slay", this.cantJoint3, "[Slay the Princess.]", towerNoSubmit));
+        this.activeMenu = MenuTemplate.get("ChapterII", "towerResistBlade6").instantiate(this.manager, Map.of(
+            "towerSubmitted", towerSubmitted,
+            "cantJoint3", this.cantJoint3,
+            "towerNoSubmit", towerNoSubmit));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "pledge":
-                    mainScript.runConditionalSection("advancePledge", this.knowsDestiny);
+                case PLEDGE:
+                    mainScript.runConditionalSection("advancePledge", this.knowsDestiny());
                     this.towerPledge();
                     return ChapterEnding.OBEDIENTSERVANT;
 
-                case "resist":
+                case RESIST:
                     if (!manager.confirmContentWarnings(Chapter.APOTHEOSIS)) break;
                     
                     return this.towerSlaySelf(true, false);
 
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     if (manager.hasVisited(Chapter.FURY)) {
                         parser.printDialogueLine(WORNPATH);
                         parser.printDialogueLine(WORNPATHHERO);
@@ -3108,7 +2953,7 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("slaySelfJoin");
 
-        if (tookBlade || this.knowsDestiny) {
+        if (tookBlade || this.knowsDestiny()) {
             return ChapterEnding.APOBLADE; // Voice of the Contrarian
         } else {
             return ChapterEnding.APOUNARMED; // Voice of the Paranoid
@@ -3125,47 +2970,45 @@ public class ChapterII extends StandardCycle {
     private ChapterEnding spectre() {
         // You gain the Voice of the Cold
 
-        this.isHarsh = false;
+        this.flags.set(ChapterFlag.HARSH, false);
         this.spectreNoEndWorldExplore = new Condition(true);
 
         if (!this.chapter2Intro(false, true, true)) return ChapterEnding.ABORTED;
 
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "spectre").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     mainScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3187,33 +3030,30 @@ public class ChapterII extends StandardCycle {
         InverseCondition isSoft = isHostile.getInverse();
 
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "grab", "[Grab her.]", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "wait", "[Wait and see how things play out.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "spectre2").instantiate(this.manager, Map.of("hasBlade", AbstractCondition.of(this.hasBlade())));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (activeOutcome) {
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     this.repeatActiveMenu = false;
-                    this.isHarsh = true;
+                    this.flags.set(ChapterFlag.HARSH);
                     isHostile.set();
                     mainScript.runSection("softSlay");
                     break;
 
-                case "cSlayPrincessNoBladeFail":
-                case "grab":
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case GRAB:
                     this.repeatActiveMenu = false;
-                    this.isHarsh = true;
+                    this.flags.set(ChapterFlag.HARSH);
                     isHostile.set();
                     mainScript.runSection("softGrab");
                     break;
 
-                case "wait":
+                case WAIT:
                     this.repeatActiveMenu = false;
                     mainScript.runBladeSection("basementStartWait");
                     break;
@@ -3236,91 +3076,70 @@ public class ChapterII extends StandardCycle {
 
         // 22 EXPLORE OPTIONS + 6 ACTION OPTIONS IN SOFT MENU. GOD DAMN.
         // THERE ARE 35 TOTAL OPTIONS IN THIS MENU. SEND HELP
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "confirmLoop", "(Explore) See, this is exactly what I was trying to tell you about in the woods. This already happened. We killed her.", this.sharedLoop, this.narratorNoProof, isSoft));
-        activeMenu.add(new Option(this.manager, "notDead", "(Explore) \"I killed you! What are you doing not being dead?\"", isSoft));
-        activeMenu.add(new Option(this.manager, "body", "(Explore) \"Your body's right there, though. Your *dead* body.\"", activeMenu.get("notDead"), isSoft));
-        activeMenu.add(new Option(this.manager, "whyBack", "(Explore) \"Do you know why you came back?\"", isSoft));
-        activeMenu.add(new Option(this.manager, "supposed", "(Explore) \"And where are you supposed to be?\"", activeMenu.get("whyBack"), noHomeComment, isSoft));
-        activeMenu.add(new Option(this.manager, "help", "(Explore) \"Is there any way I can help you get home? Do you need me to bury those bones?\"", homeComment, noPossessionAsk, noBonesAsk, isSoft));
-        activeMenu.add(new Option(this.manager, "ifOnlyHarsh", "(Explore) \"If I knew I'd have to talk to you again, I wouldn't have slain you.\"", noIfOnly, isHostile));
-        activeMenu.add(new Option(this.manager, "victim", "(Explore) \"Stop playing the victim. You threatened me last time.\""));
-        activeMenu.add(new Option(this.manager, "sorryA", "(Explore) \"I'm sorry I killed you last time, I shouldn't have done that.\"", noApology));
-        activeMenu.add(new Option(this.manager, "grovel", "(Explore) \"Do you want me to die? Do you want me to kill myself to satisfy some sort of sick revenge fantasy? Because I already did that and it wouldn't be hard to do it again.\""));
-        activeMenu.add(new Option(this.manager, "sorryB", "(Explore) \"I'm sorry. Is there any way I can make it up to you?\"", noApology));
-        activeMenu.add(new Option(this.manager, "trick", "(Explore) \"The people who wanted you dead tricked me, and the enemy of my enemy is my friend. Let's team up.\"", noHomeComment));
-        activeMenu.add(new Option(this.manager, "wantA", "(Explore) \"What do you want from me?\"", noPossessionAsk, isSoft));
-        activeMenu.add(new Option(this.manager, "ifOnlySoft", "(Explore) \"If I knew I'd wind up having to talk to you again, I wouldn't have slain you.\"", noIfOnly, isSoft));
-        activeMenu.add(new Option(this.manager, "alsoDead", "(Explore) \"I died too and I'm not floating around like you are. What happened? Why am I different? Why are you different?\""));
-        activeMenu.add(new Option(this.manager, "bonesAsk", "(Explore) \"What if I buried your bones outside?\"", thoughtsHarsh, noBonesAsk));
-        activeMenu.add(new Option(this.manager, "worldEndHarsh", "(Explore) \"Of course I attacked you. You're supposed to end the world. That's why I killed you last time, too.\"", spectreNoEndWorldExplore, isHostile));
-        activeMenu.add(new Option(this.manager, "howHurt", "(Explore) \"You're dead. Or at least mostly dead. What can you even do to hurt me?\""));
-        activeMenu.add(new Option(this.manager, "teleport", "(Explore) \"After I killed you, this cabin... I want to say it teleported? It wasn't in the woods anymore, time stopped meaning anything, and I had to kill myself to escape.\"", isSoft));
-        activeMenu.add(new Option(this.manager, "worldEndA", "(Explore) \"Before I agree to anything, we need to talk about what happens after you leave this place. I was told you'd end the world.\"", spectreNoEndWorldExplore, possessionAsk, isSoft));
-        activeMenu.add(new Option(this.manager, "worldEndB", "(Explore) \"I guess I should tell you why I was sent to kill you. You were going to end the world.\"", spectreNoEndWorldExplore, isSoft));
-        activeMenu.add(new Option(this.manager, "worldEndC", "(Explore) \"I was told you were going to end the world.\"", spectreNoEndWorldExplore, isSoft));
-        activeMenu.add(new Option(this.manager, "wantB", "(Explore) \"Okay, clearly slaying you isn't going to work. What do you want?\"", noPossessionAsk, isSoft));
-        activeMenu.add(new Option(this.manager, "wantHarsh", "(Explore) \"What do you want from me?\"", noPossessionAsk, isHostile));
-        activeMenu.add(new Option(this.manager, "walls", "(Explore) \"If you can go through walls, can't you just leave on your own?\"", homeComment, isSoft));
-        activeMenu.add(new Option(this.manager, "thoughts", "(Explore) Okay team, I'm out of ideas. Thoughts?"));
-        activeMenu.add(new Option(this.manager, "possess", "\"Okay. I've given it enough thought. Let's get you out of here.\" [Let the Princess possess you.]", possessionAsk));
-        activeMenu.add(new Option(this.manager, "refuse", this.cantJoint3, "\"Okay. I've given it enough thought. The answer is no. I can't let you out, and I won't let you possess me.\"", 0, possessionAsk));
-        activeMenu.add(new Option(this.manager, "smashBones", this.cantJoint3, "\"[Smash her bones.]\"", 0, thoughtsHarsh));
-        activeMenu.add(new Option(this.manager, "slayHarsh", this.cantJoint3, "\"[Slay the Princess, harder.]\"", 0, this.hasBlade, isHostile));
-        activeMenu.add(new Option(this.manager, "grabHarsh", this.cantJoint3, "\"[Grab the Princess, but try harder.]\"", 0, !this.hasBlade, isHostile));
-        activeMenu.add(new Option(this.manager, "leaveSoft", this.cantJoint3, "\"If you're dead, then there really isn't much for me to do, is there? I guess I'll get going.\" [Leave her in the basement.]", 0, isSoft));
-        activeMenu.add(new Option(this.manager, "leaveHarsh", this.cantJoint3, "\"Fine. If I can't hurt you, then there really isn't anything for me to do here. I guess I'll get going.\" [Leave her in the basement.]", 0, isHostile));
-        activeMenu.add(new Option(this.manager, "retrieve", this.cantJoint3, "\"Right. I don't think there's much more for us to talk about. I'm going to get my blade, and then the two of us can fight.\" [Retrieve the blade.]", 0, !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "slaySoft", "\"[Slay the Princess.]\"", this.hasBlade, isSoft));
-        activeMenu.add(new Option(this.manager, "grabSoft", "\"[Grab the Princess.]\"", !this.hasBlade, isSoft));
+        this.activeMenu = MenuTemplate.get("ChapterII", "spectre3").instantiate(this.manager, Map.ofEntries(
+            Map.entry("sharedLoop", AbstractCondition.of(this.sharedLoop())),
+            Map.entry("narratorNoProof", this.narratorNoProof),
+            Map.entry("isSoft", isSoft),
+            Map.entry("noHomeComment", noHomeComment),
+            Map.entry("homeComment", homeComment),
+            Map.entry("noPossessionAsk", noPossessionAsk),
+            Map.entry("noBonesAsk", noBonesAsk),
+            Map.entry("noIfOnly", noIfOnly),
+            Map.entry("isHostile", isHostile),
+            Map.entry("noApology", noApology),
+            Map.entry("thoughtsHarsh", thoughtsHarsh),
+            Map.entry("spectreNoEndWorldExplore", spectreNoEndWorldExplore),
+            Map.entry("possessionAsk", possessionAsk),
+            Map.entry("cantJoint3", this.cantJoint3),
+            Map.entry("hasBlade", AbstractCondition.of(this.hasBlade()))));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
-            if (activeOutcome.equals("cSlayPrincess")) {
-                if (!this.isHarsh) {
-                    this.activeOutcome = "slaySoft";
+            if (activeOutcome == Outcome.CSLAYPRINCESS) {
+                if (!this.isHarsh()) {
+                    this.activeOutcome = Outcome.SLAYSOFT;
                 } else if (!this.cantJoint3.check()) {
-                    this.activeOutcome = "slayHarsh";
+                    this.activeOutcome = Outcome.SLAYHARSH;
                 }
-            } else if (activeOutcome.equals("cSlayPrincessNoBladeFail")) {
-                if (!this.isHarsh) {
-                    this.activeOutcome = "grabSoft";
+            } else if (activeOutcome == Outcome.CSLAYPRINCESSNOBLADEFAIL) {
+                if (!this.isHarsh()) {
+                    this.activeOutcome = Outcome.GRABSOFT;
                 } else if (!this.cantJoint3.check()) {
                     // Could be interpreted as either smashBones or grabHarsh -- redirects to the most violent option available to you
                     if (thoughtsHarsh.check()) {
-                        this.activeOutcome = "smashBones";
+                        this.activeOutcome = Outcome.SMASHBONES;
                     } else {
-                        this.activeOutcome = "grabHarsh";
+                        this.activeOutcome = Outcome.GRABHARSH;
                     }
                 }
             }
 
             switch (activeOutcome) {
-                case "confirmLoop":
+                case CONFIRMLOOP:
                     narratorProof.set();
                     mainScript.runSection("confirmLoopMenu");
                     break;
 
-                case "notDead":
+                case NOTDEAD:
                     deathComment = true;
                     mainScript.runSection("notDeadMenu");
                     break;
                     
-                case "sorryA":
+                case SORRYA:
                     noApology.set(false);
-                case "body":
-                case "whyBack":
+                case BODY:
+                case WHYBACK:
                     mainScript.runSection(activeOutcome + "Menu");
                     break;
                     
-                case "supposed":
+                case SUPPOSED:
                     homeComment.set();
                     mainScript.runSection("supposedMenu");
                     break;
                     
-                case "help":
+                case HELP:
                     noBonesAsk.set(false);
                     possessionAsk.set();
                     mainScript.runSection("helpMenu");
@@ -3335,28 +3154,26 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "ifOnlySoft":
-                case "ifOnlyHarsh":
+                case IFONLYSOFT:
+                case IFONLYHARSH:
                     noIfOnly.set(false);
                     mainScript.runSection("ifOnlyMenu");
                     break;
                     
-                case "victim":
+                case VICTIM:
                     mainScript.runSection("victimMenu");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "defend", "(Explore) \"That knife could have been for anything!\""));
-                    subMenu.add(new Option(this.manager, "return", "(Return) [Leave it at that.]"));
+                    this.subMenu = MenuTemplate.get("ChapterII", "spectre4").instantiate(this.manager);
 
-                    if (parser.promptOptionsMenu(subMenu).equals("defend")) mainScript.runSection("victimMenuPush");
+                    if (parser.promptOptionsMenu(subMenu) == Outcome.DEFEND) mainScript.runSection("victimMenuPush");
                     break;
                     
-                case "grovel":
-                    this.spectreShareDied = true;
+                case GROVEL:
+                    this.flags.set(ChapterFlag.SPECTRESHAREDIED);
                     mainScript.runConditionalSection("grovelMenu", homeComment);
                     break;
                     
-                case "sorryB":
+                case SORRYB:
                     noApology.set(false);
 
                     if (possessionAsk.check()) {
@@ -3375,7 +3192,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
                     
-                case "trick":
+                case TRICK:
                     homeComment.set();
                     mainScript.runSection("trickMenu");
                     narratorProof.set();
@@ -3390,27 +3207,27 @@ public class ChapterII extends StandardCycle {
 
                     break;
                     
-                case "alsoDead":
-                    this.spectreShareDied = true;
+                case ALSODEAD:
+                    this.flags.set(ChapterFlag.SPECTRESHAREDIED);
                     mainScript.runConditionalSection("alsoDeadMenu", possessionAsk);
-                    if (!possessionAsk.check() && !this.isHarsh) homeComment.set();
+                    if (!possessionAsk.check() && !this.isHarsh()) homeComment.set();
                     break;
 
-                case "bonesAsk":
+                case BONESASK:
                     noBonesAsk.set(false);
                     mainScript.runSection("bonesAskMenu");
                     break;
                     
-                case "howHurt":
+                case HOWHURT:
                     mainScript.runConditionalSection("howHurtMenu", deathComment);
                     break;
                     
-                case "teleport":
-                    this.spectreShareDied = true;
+                case TELEPORT:
+                    this.flags.set(ChapterFlag.SPECTRESHAREDIED);
                     mainScript.runSection("teleportMenu");
                     break;
                     
-                case "walls":
+                case WALLS:
                     mainScript.runSection("wallsMenu");
 
                     if (noPossessionAsk.check()) {
@@ -3427,20 +3244,20 @@ public class ChapterII extends StandardCycle {
 
                     break;
                     
-                case "thoughts":
-                    if (this.isHarsh) thoughtsHarsh.set();
+                case THOUGHTS:
+                    if (this.isHarsh()) thoughtsHarsh.set();
                     mainScript.runSection("thoughtsMenu");
                     break;
                     
-                case "worldEndA":
-                case "worldEndB":
-                case "worldEndC":
-                case "worldEndHarsh":
+                case WORLDENDA:
+                case WORLDENDB:
+                case WORLDENDC:
+                case WORLDENDHARSH:
                     this.spectreShareTask();
                     break;
                     
-                case "wantA":
-                case "wantB":
+                case WANTA:
+                case WANTB:
                     possessionAsk.set();
                     mainScript.runConditionalSection(activeOutcome + "Menu", homeComment);
                     homeComment.set();
@@ -3455,7 +3272,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "wantHarsh":
+                case WANTHARSH:
                     possessionAsk.set();
                     mainScript.runSection("wantHarshMenu");
 
@@ -3469,10 +3286,10 @@ public class ChapterII extends StandardCycle {
 
                     break;
                     
-                case "possess":
+                case POSSESS:
                     return this.spectrePossess();
                     
-                case "refuse":
+                case REFUSE:
                     if (manager.hasVisited(Chapter.WRAITH)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -3486,7 +3303,7 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("refuseSwitch");
                     return this.spectreKill(false);
 
-                case "smashBones":
+                case SMASHBONES:
                     if (manager.hasVisited(Chapter.WRAITH)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -3500,7 +3317,7 @@ public class ChapterII extends StandardCycle {
                     mainScript.runConditionalSection("smashBones", noBonesAsk);
                     return this.spectreKill(false);
 
-                case "slayHarsh":
+                case SLAYHARSH:
                     if (manager.hasVisited(Chapter.WRAITH)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -3514,7 +3331,7 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("slayAgain");
                     return this.spectreKill(false);
 
-                case "grabHarsh":
+                case GRABHARSH:
                     if (manager.hasVisited(Chapter.WRAITH)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -3528,13 +3345,13 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("grabAgain");
                     return this.spectreKill(false);
                     
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "leaveSoft":
-                case "leaveHarsh":
+                case LEAVESOFT:
+                case LEAVEHARSH:
                     if (manager.hasVisited(Chapter.WRAITH)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -3545,11 +3362,11 @@ public class ChapterII extends StandardCycle {
                         break;
                     }
 
-                    this.abandoned2 = true;
+                    this.flags.set(ChapterFlag.ABANDONED2);
                     mainScript.runSection("leaveAttempt");
                     return this.spectreKill(true);
                     
-                case "retrieve":
+                case RETRIEVE:
                     if (manager.hasVisited(Chapter.WRAITH)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -3560,24 +3377,24 @@ public class ChapterII extends StandardCycle {
                         break;
                     }
 
-                    this.abandoned2 = true;
+                    this.flags.set(ChapterFlag.ABANDONED2);
                     mainScript.runSection("retrieveAttempt");
                     return this.spectreKill(true);
 
-                case "slaySoft":
-                    this.isHarsh = true;
+                case SLAYSOFT:
+                    this.flags.set(ChapterFlag.HARSH);
                     isHostile.set();
                     mainScript.runSection("softSlay");
                     break;
 
-                case "grabSoft":
-                    this.isHarsh = true;
+                case GRABSOFT:
+                    this.flags.set(ChapterFlag.HARSH);
                     isHostile.set();
                     mainScript.runSection("softGrab");
                     break;
 
-                case "cSlayPrincessFail":
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSFAIL:
+                case CSLAYPRINCESSNOBLADEFAIL:
                     // Only possible if the Princess is hostile and you can't go to Wraith
                     parser.printDialogueLine(DEMOBLOCK);
                     break;
@@ -3597,7 +3414,7 @@ public class ChapterII extends StandardCycle {
         this.subMenu = new OptionsMenu(true);
         boolean repeatSub = true;
 
-        if (this.isHarsh) {
+        if (this.isHarsh()) {
             mainScript.runSection("worldEndHarshMenu");
 
             subMenu.add(new Option(this.manager, "end1", "(Explore) \"Well? Were you going to end the world? Would you end it, if you could?\""));
@@ -3608,13 +3425,13 @@ public class ChapterII extends StandardCycle {
             while (repeatSub) {
                 this.activeOutcome = parser.promptOptionsMenu(subMenu);
                 switch (activeOutcome) {
-                    case "end1":
-                    case "end2":
-                    case "yesNo":
+                    case END1:
+                    case END2:
+                    case YESNO:
                         mainScript.runSection(activeOutcome + "EndWorldHarsh");
                         break;
 
-                    case "return":
+                    case RETURN:
                         repeatSub = false;
                         break;
 
@@ -3637,29 +3454,29 @@ public class ChapterII extends StandardCycle {
             while (repeatSub) {
                 this.activeOutcome = parser.promptOptionsMenu(subMenu);
                 switch (activeOutcome) {
-                    case "grovel1":
+                    case GROVEL1:
                         mainScript.runSection("grovel1EndWorldSoft");
                         break;
 
-                    case "wrong":
+                    case WRONG:
                         firstOption.set(false);
                         mainScript.runSection("wrongEndWorldSoft");
                         narratorProof.set();
                         break;
 
-                    case "whatDo":
-                    case "wereYou":
-                    case "whatDo2":
-                    case "grovel2":
+                    case WHATDO:
+                    case WEREYOU:
+                    case WHATDO2:
+                    case GROVEL2:
                         firstOption.set(false);
                         mainScript.runSection(activeOutcome + "EndWorldSoft");
                         break;
 
-                    case "whatDo3":
-                        mainScript.runConditionalSection("whatDo3EndWorldSoft", this.spectreShareDied);
+                    case WHATDO3:
+                        mainScript.runConditionalSection("whatDo3EndWorldSoft", this.spectreShareDied());
                         break;
                     
-                    case "return":
+                    case RETURN:
                         repeatSub = false;
                         break;
 
@@ -3675,12 +3492,12 @@ public class ChapterII extends StandardCycle {
      * @return 0 if the player decides to ask more questions; 1 if they agree to let the Spectre possess them; 2 otherwise
      */
     private int spectrePossessAsk(boolean lateJoin) {
-        spectrePossessAsk = true;
+        this.flags.set(ChapterFlag.SPECTREPOSSESSASK);
         mainScript.runConditionalSection("possessAskSwitch", lateJoin);
 
         String moodSuffix;
         String agreeDisplay;
-        if (this.isHarsh) {
+        if (this.isHarsh()) {
             moodSuffix = "Harsh";
             agreeDisplay = "\"No complaints here. Do it.\" [Let the Princess possess you.]";
         } else {
@@ -3691,7 +3508,7 @@ public class ChapterII extends StandardCycle {
         boolean trapSuggest = false;
         OptionsMenu possessMenu = new OptionsMenu(true);
         possessMenu.add(new Option(this.manager, "no", "(Explore) \"What if I say no?\""));
-        possessMenu.add(new Option(this.manager, "wont", "(Explore) \"You *won't* hitch a ride if I say no, or you *can't* hitch a ride?\"", possessMenu.get("no"), !this.isHarsh));
+        possessMenu.add(new Option(this.manager, "wont", "(Explore) \"You *won't* hitch a ride if I say no, or you *can't* hitch a ride?\"", possessMenu.get("no"), !this.isHarsh()));
         possessMenu.add(new Option(this.manager, "temp", "(Explore) \"This would just be temporary, right? You'll leave once we're out of the cabin?\""));
         possessMenu.add(new Option(this.manager, "control", "(Explore) \"If... if I let you in, do I still get to be in control?\""));
         possessMenu.add(new Option(this.manager, "worldEnd", "\"Before I agree to anything, we need to talk about what happens after you leave this place. I was told you'd end the world.\"", spectreNoEndWorldExplore));
@@ -3703,35 +3520,35 @@ public class ChapterII extends StandardCycle {
         while (repeatMenu) {
             this.activeOutcome = parser.promptOptionsMenu(possessMenu);
             switch (activeOutcome) {
-                case "no":
+                case NO:
                     mainScript.runMoodSection("noPossessAsk");
-                    if (this.isHarsh) narratorProof.set();
+                    if (this.isHarsh()) narratorProof.set();
                     break;
 
-                case "wont":
-                    this.spectreCantWontAsk = true;
+                case WONT:
+                    this.flags.set(ChapterFlag.SPECTRECANTWONTASK);
                     mainScript.runConditionalSection("wontPossessAsk", trapSuggest);
                     trapSuggest = true;
                     break;
 
-                case "temp":
+                case TEMP:
                     mainScript.runConditionalSection("tempPossessAsk" + moodSuffix, trapSuggest);
-                    if (!this.isHarsh) trapSuggest = true;
+                    if (!this.isHarsh()) trapSuggest = true;
                     break;
 
-                case "control":
+                case CONTROL:
                     mainScript.runConditionalSection("controlPossessAsk" + moodSuffix, trapSuggest);
-                    if (!this.isHarsh) trapSuggest = true;
+                    if (!this.isHarsh()) trapSuggest = true;
                     break;
 
-                case "worldEnd":
+                case WORLDEND:
                     this.spectreShareTask();
                     return 0;
 
-                case "agree":
+                case AGREE:
                     return 2;
 
-                case "refuse":
+                case REFUSE:
                     if (manager.hasVisited(Chapter.WRAITH)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -3745,7 +3562,7 @@ public class ChapterII extends StandardCycle {
                     mainScript.runMoodSection("askRefuse");
                     return 3;
 
-                case "return":
+                case RETURN:
                     mainScript.runMoodSection("returnPossessAsk");
                     return 0;
 
@@ -3763,46 +3580,40 @@ public class ChapterII extends StandardCycle {
     private ChapterEnding spectreKill(boolean leaveAttempt) {
         mainScript.runSection("killStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "miss", "\"Did you miss?\""));
-        activeMenu.add(new Option(this.manager, "afraid", "\"I'm not afraid of you.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Stare at her in silence.]"));
-        activeMenu.add(new Option(this.manager, "away", "[Step away.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "spectreKill").instantiate(this.manager);
 
         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
         switch (activeOutcome) {
-            case "miss":
-            case "afraid":
-            case "away":
+            case MISS:
+            case AFRAID:
+            case AWAY:
                 mainScript.runSection(activeOutcome + "Kill");
                 break;
 
-            case "silent":
+            case SILENT:
                 // No extra dialogue
                 break;
         }
 
         mainScript.runSection("killCont");
 
-        if (this.hasBlade) {
+        if (this.hasBlade()) {
             mainScript.runSection("killBladeStart");
             
             this.canSlayPrincess = true;
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]"));
-            activeMenu.add(new Option(this.manager, "die", "[Die.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "spectreKill2").instantiate(this.manager);
 
             this.princessViolent = true;
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "cSlayPrincess":
-                    case "slay":
-                        this.spectreEndSlayAttempt = true;
+                    case CSLAYPRINCESS:
+                    case SLAY:
+                        this.flags.set(ChapterFlag.SPECTREENDSLAY);
                         mainScript.runSection("killBladeSlay");
                         break;
 
-                    case "die":
+                    case DIE:
                         mainScript.runSection("killBladeDie");
                         break;
                 }
@@ -3811,7 +3622,7 @@ public class ChapterII extends StandardCycle {
             mainScript.runSection("killNoBlade");
         }
 
-        if (leaveAttempt && !this.isHarsh) {
+        if (leaveAttempt && !this.isHarsh()) {
             return ChapterEnding.HEARTRIPPERLEAVE;
         } else {
             return ChapterEnding.HEARTRIPPER;
@@ -3823,7 +3634,7 @@ public class ChapterII extends StandardCycle {
      * @return the ending reached by the player
      */
     private ChapterEnding spectrePossess() {
-        String moodSuffix = (this.isHarsh) ? "Harsh" : "Soft";
+        String moodSuffix = (this.isHarsh()) ? "Harsh" : "Soft";
 
         mainScript.runSection("possessStart" + moodSuffix);
         mainScript.runSection("possessCont" + moodSuffix);
@@ -3831,24 +3642,21 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("possessCont2" + moodSuffix);
 
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) I can't think straight... there's too much noise."));
-        activeMenu.add(new Option(this.manager, "slay", this.cantUnique3, "[Slay the Princess.]", 0, this.hasBlade));
-        activeMenu.add(new Option(this.manager, "leave", "[Leave the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "spectrePossess").instantiate(this.manager, Map.of("cantUnique3", this.cantUnique3, "hasBlade", AbstractCondition.of(this.hasBlade())));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("possessExplore" + moodSuffix);
                     break;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (this.cantUnique3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                     }
-                case "slay":
+                case SLAY:
                     if (!manager.confirmContentWarnings(Chapter.DRAGON, "suicide")) {
                         this.cantUnique3.set();
                         break;
@@ -3857,8 +3665,8 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("exorcismStart");
                     return ChapterEnding.EXORCIST;
 
-                case "cGoStairs":
-                case "leave":
+                case CGOSTAIRS:
+                case LEAVE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3867,34 +3675,31 @@ public class ChapterII extends StandardCycle {
         }
 
         this.currentLocation = GameLocation.CABIN;
-        if (!this.hasBlade) this.withBlade = true;
-        boolean tookBladeStart = this.hasBlade;
+        if (!this.hasBlade()) this.withBlade = true;
+        boolean tookBladeStart = this.hasBlade();
         mainScript.runSection("possessUpstairs");
         mainScript.runSection("possessUpstairs" + moodSuffix);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "slay", this.cantUnique3, "[Slay the Princess.]", 0, this.hasBlade));
-        activeMenu.add(new Option(this.manager, "cont", "[Trudge forward.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "spectrePossess2").instantiate(this.manager, Map.of("hasBlade", AbstractCondition.of(this.hasBlade()), "cantUnique3", this.cantUnique3));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
+                case TAKE:
                     this.withBlade = false;
-                    this.hasBlade = true;
+                    this.flags.set(ChapterFlag.HASBLADE);
                     activeMenu.setCondition("slay", true);
                     mainScript.runSection("possessTakeBlade");
                     break;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (this.cantUnique3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                     }
-                case "slay":
+                case SLAY:
                     if (!manager.confirmContentWarnings(Chapter.DRAGON, "suicide")) {
                         this.cantUnique3.set();
                         break;
@@ -3903,16 +3708,16 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("exorcismStart");
                     return ChapterEnding.EXORCISTUPSTAIRS;
 
-                case "cGoHill":
-                case "cont":
+                case CGOHILL:
+                case CONT:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     mainScript.runMoodSection("possessTurnAround");
                     break;
 
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
                     mainScript.runSection("possessSlaySuggest");
                     break;
 
@@ -3920,20 +3725,19 @@ public class ChapterII extends StandardCycle {
             }
         }
 
-        if (this.hasBlade && !tookBladeStart) {
+        if (this.hasBlade() && !tookBladeStart) {
             mainScript.runSection("possessForwardTookBlade");
         } else {
             mainScript.runSection("possessForwardOther");
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "open", "[Open the door.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "spectrePossess3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoHill":
-                case "open":
+                case CGOHILL:
+                case OPEN:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3962,40 +3766,38 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "nightmare").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     mainScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -4009,12 +3811,7 @@ public class ChapterII extends StandardCycle {
         this.mirrorPresent = false;
         mainScript.runSection("stairsStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "throw", "(Explore) \"How hard is it to throw a knife?\""));
-        activeMenu.add(new Option(this.manager, "talk", "I'm going to talk to her."));
-        activeMenu.add(new Option(this.manager, "noPlan", "We don't need a plan. I'm just going to kill her. Mr. Narrator seems to think I can do it. I don't know why you're all being such pessimists right now."));
-        activeMenu.add(new Option(this.manager, "stepOff", "[Step off into the void between the stairs.]"));
-        activeMenu.add(new Option(this.manager, "silent", "[Continue down the stairs in silence.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "nightmare2").instantiate(this.manager);
 
         boolean lookedBack = false;
         boolean voiceOfReasonComment = false;
@@ -4022,65 +3819,62 @@ public class ChapterII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "throw":
+                case THROW:
                     mainScript.runBladeSection("stairsThrow");
 
-                    if (!this.hasBlade && !lookedBack) {
+                    if (!this.hasBlade() && !lookedBack) {
                         lookedBack = true;
                         mainScript.runSection("stairsLookBack");
                     }
 
                     break;
 
-                case "talk":
+                case TALK:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("stairsTalk");
                     break;
 
-                case "noPlan":
+                case NOPLAN:
                     this.repeatActiveMenu = false;
                     voiceOfReasonComment = true;
 
                     mainScript.runBladeSection("stairsNoPlan");
                     
-                    if (!this.hasBlade && !lookedBack) {
+                    if (!this.hasBlade() && !lookedBack) {
                         lookedBack = true;
                         mainScript.runSection("stairsLookBack");
                     }
 
                     break;
 
-                case "stepOff":
+                case STEPOFF:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("stairsStepOff");
 
-                    this.activeMenu = new OptionsMenu(true);
-                    activeMenu.add(new Option(this.manager, "curious", "I was curious."));
-                    activeMenu.add(new Option(this.manager, "dunno", "I don't know. Falling into an infinite void seemed better than going downstairs and dying. I'm just scared."));
-                    activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterII", "nightmare3").instantiate(this.manager);
 
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "curious":
+                        case CURIOUS:
                             mainScript.runSection("stepOffCurious");
                             break;
 
-                        case "dunno":
+                        case DUNNO:
                             mainScript.runSection("stepOffDunno");
                             break;
 
-                        case "silent":
+                        case SILENT:
                             mainScript.runSection("stepOffJoin");
                             break;
                     }
 
                     break;
 
-                case "cGoBasement":
-                case "silent":
+                case CGOBASEMENT:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoCabin":
+                case CGOCABIN:
                     if (lookedBack) {
                         mainScript.runSection("stairsLookBackAgain");
                     } else {
@@ -4097,36 +3891,32 @@ public class ChapterII extends StandardCycle {
         this.currentLocation = GameLocation.BASEMENT;
         mainScript.runConditionalSection("basementStart", voiceOfReasonComment);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "left", "[Go left.]"));
-        activeMenu.add(new Option(this.manager, "right", "[Go right.]"));
-        activeMenu.add(new Option(this.manager, "nothing", "[Do nothing.]"));
-        activeMenu.add(new Option(this.manager, "back", "[Go back the way you came.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "nightmare4").instantiate(this.manager);
 
         this.canLeftRight = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoLeft":
-                case "left":
+                case CGOLEFT:
+                case LEFT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("startLeft");
                     break;
 
-                case "cGoRight":
-                case "right":
+                case CGORIGHT:
+                case RIGHT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("startRight");
                     break;
 
-                case "nothing":
+                case NOTHING:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("startNothing");
                     break;
 
-                case "cGoStairs":
-                case "back":
+                case CGOSTAIRS:
+                case BACK:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("startBack");
                     break;
@@ -4150,80 +3940,66 @@ public class ChapterII extends StandardCycle {
         OrCondition canSeparateWays = new OrCondition(whyNeed, sharedTask);
         Condition threatened = new Condition();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "whyNoKill", "(Explore) \"Why won't you finish me off?\"", noWhyNoKill));
-        activeMenu.add(new Option(this.manager, "want", "(Explore) \"What good am I to you alive? What do you want from me?\"", noWhyNoKill, noWhyNeed));
-        activeMenu.add(new Option(this.manager, "afterDied", "(Explore) \"What happened after you killed me last time?\"", noWhyNeed));
-        activeMenu.add(new Option(this.manager, "whyThreat", "(Explore) \"If you need me alive, then why did you threaten me on the stairs? Why didn't you try being nice to me?\"", whyNeed));
-        activeMenu.add(new Option(this.manager, "shareTask", "(Explore) \"I was sent here to stop you from destroying the world. I can't just let you leave.\""));
-        activeMenu.add(new Option(this.manager, "people", "(Explore) \"People will die if you do to them what you've done to me.\"", activeMenu.get("shareTask")));
-        activeMenu.add(new Option(this.manager, "separate", "(Explore) \"And if I let you out? What then? Do we go our separate ways?\"", activeMenu.get("people"), canSeparateWays));
-        activeMenu.add(new Option(this.manager, "agony", "(Explore) \"Being around you is agony. I'm not going to stick around.\"", activeMenu.get("separate")));
-        activeMenu.add(new Option(this.manager, "dieThen", "(Explore) \"I'll just die then.\"", activeMenu.get("agony")));
-        activeMenu.add(new Option(this.manager, "infinite", "(Explore) \"Are you sure about that? Give it enough tries and I'm bound to win eventually. And maybe you don't get to come back like I do.\"", activeMenu.get("dieThen")));
-        activeMenu.add(new Option(this.manager, "lunatic", "(Explore) \"You're a lunatic. You know that, right?\""));
-        activeMenu.add(new Option(this.manager, "turnOff", "(Explore) \"If you want to work together, can you at least turn off this whole organs-shutting-down situation?\""));
-        activeMenu.add(new Option(this.manager, "threat", "(Explore) \"How about I just kill you instead?\""));
-        activeMenu.add(new Option(this.manager, "canDie", "(Explore) \"Does that mean you can die?\"", !this.hasBlade, threatened));
-        activeMenu.add(new Option(this.manager, "ifRefuse", "(Explore) \"And what if I refuse to let you out? What happens then?\"", canSeparateWays));
-        activeMenu.add(new Option(this.manager, "friends", "(Explore) \"We don't have to be enemies. We can work together. We can be friends, even.\""));
-        activeMenu.add(new Option(this.manager, "remainBlade", this.cantUnique3, "\"I'm not doing any of this. I'm not helping you leave, and I'm not going to try and kill you, so do your worst.\" [Toss the blade and remain with your Nightmare.]", 0, this.hasBlade));
-        activeMenu.add(new Option(this.manager, "remainNoBlade", this.cantUnique3, "\"I'm not doing any of this. I'm not helping you leave, and I'm not going to try and kill you, so do your worst.\" [Remain with your Nightmare.]", 0, !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "leaveA", "\"Okay, let's get out of here.\" [Leave together.]"));
-        activeMenu.add(new Option(this.manager, "leaveB", "\"Fine, you win. I'll let you leave.\" [Leave together.]"));
-        activeMenu.add(new Option(this.manager, "run", this.cantUnique3, "[Run.]", 0));
-        activeMenu.add(new Option(this.manager, "slay", this.cantJoint3, "[Slay the Princess.]", 0));
-
-        this.canSlayPrincess = this.hasBlade;
+        this.activeMenu = MenuTemplate.get("ChapterII", "nightmare5").instantiate(this.manager, Map.of(
+            "noWhyNoKill", noWhyNoKill,
+            "noWhyNeed", noWhyNeed,
+            "whyNeed", whyNeed,
+            "canSeparateWays", canSeparateWays,
+            "hasBlade", AbstractCondition.of(this.hasBlade()),
+            "threatened", threatened,
+            "cantUnique3", this.cantUnique3,
+            "cantJoint3", this.cantJoint3));
+
+        this.canSlayPrincess = this.hasBlade();
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "whyThreat":
-                case "people":
-                case "separate":
-                case "agony":
-                case "dieThen":
-                case "infinite":
-                case "canDie":
-                case "ifRefuse":
+                case WHYTHREAT:
+                case PEOPLE:
+                case SEPARATE:
+                case AGONY:
+                case DIETHEN:
+                case INFINITE:
+                case CANDIE:
+                case IFREFUSE:
                     mainScript.runSection(activeOutcome + "Menu");
                     break;
 
-                case "whyNoKill":
+                case WHYNOKILL:
                     noWhyNoKill.set(false);
                     mainScript.runSection("whyNoKillMenu");
                     break;
 
-                case "want":
-                case "afterDied":
+                case WANT:
+                case AFTERDIED:
                     whyNeed.set();
                     mainScript.runSection("whyNeedMenu");
                     break;
 
-                case "shareTask":
+                case SHARETASK:
                     sharedTask.set();
-                    if (this.knowsDestiny) mainScript.runSection("shareTaskAlready");
+                    if (this.knowsDestiny()) mainScript.runSection("shareTaskAlready");
                     mainScript.runSection("shareTaskMenu");
                     break;
 
-                case "lunatic":
-                case "turnOff":
+                case LUNATIC:
+                case TURNOFF:
                     mainScript.runConditionalSection(activeOutcome + "Menu", turnOffComment);
                     turnOffComment = true;
                     break;
 
-                case "threat":
+                case THREAT:
                     threatened.set();
                     mainScript.runBladeSection("threatMenu");
                     break;
 
-                case "friends":
+                case FRIENDS:
                     mainScript.runConditionalSection("friendsMenu", whyNeed);
                     whyNeed.set();
                     break;
 
-                case "remainBlade":
+                case REMAINBLADE:
                     if (!manager.confirmContentWarnings(Chapter.CLARITY)) {
                         this.cantUnique3.set(false);
                         break;
@@ -4232,7 +4008,7 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("remainBlade");
                     return ChapterEnding.MONOLITHOFFEAR;
 
-                case "remainNoBlade":
+                case REMAINNOBLADE:
                     if (!manager.confirmContentWarnings(Chapter.CLARITY)) {
                         this.cantUnique3.set(false);
                         break;
@@ -4241,31 +4017,31 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("remainJoin");
                     return ChapterEnding.MONOLITHOFFEAR;
 
-                case "leaveA":
-                case "leaveB":
+                case LEAVEA:
+                case LEAVEB:
                     return this.nightmareLeave();
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (this.cantUnique3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "run":
+                case RUN:
                     if (!manager.confirmContentWarnings(Chapter.CLARITY)) {
                         this.cantUnique3.set(false);
                         break;
                     }
 
-                    this.abandoned2 = true;
+                    this.flags.set(ChapterFlag.ABANDONED2);
                     mainScript.runSection("runAttempt");
                     return ChapterEnding.MONOLITHOFFEAR;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (manager.hasVisited(Chapter.WRAITH)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -4292,20 +4068,18 @@ public class ChapterII extends StandardCycle {
     private ChapterEnding nightmareLeave() {
         mainScript.runSection("leaveStart");
 
-        if (this.hasBlade) {
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "suggest", "(Explore) \"How about you go first?\""));
-            activeMenu.add(new Option(this.manager, "stairs", "[Step onto the stairs.]"));
+        if (this.hasBlade()) {
+            this.activeMenu = MenuTemplate.get("ChapterII", "nightmareLeave").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "suggest":
+                    case SUGGEST:
                         activeMenu.setDisplay("stairs", "\"Okay. Fine.\" [Step onto the stairs.]");
                         mainScript.runSection("leaveStairsSuggest");
 
-                    case "cGoStairs":
-                    case "stairs":
+                    case CGOSTAIRS:
+                    case STAIRS:
                         this.repeatActiveMenu = false;
                         break;
 
@@ -4319,16 +4093,13 @@ public class ChapterII extends StandardCycle {
             boolean triedDoor = false;
             boolean canOpenDoor = false;
             Condition canTryDoor = new Condition();
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "locked", "(Explore) \"The door's locked.\""));
-            activeMenu.add(new Option(this.manager, "try", "(Explore) [Try the door.]", 2, canTryDoor));
-            activeMenu.add(new Option(this.manager, "slay", this.cantJoint3, "[Slay the Princess.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "nightmareLeave2").instantiate(this.manager, Map.of("canTryDoor", canTryDoor, "cantJoint3", this.cantJoint3));
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "locked":
+                    case LOCKED:
                         canOpenDoor = true;
                         canTryDoor.set();
                         if (triedDoor) {
@@ -4339,7 +4110,7 @@ public class ChapterII extends StandardCycle {
 
                         break;
 
-                    case "try":
+                    case TRY:
                         if (canOpenDoor) {
                             this.repeatActiveMenu = false;
                         } else {
@@ -4350,12 +4121,12 @@ public class ChapterII extends StandardCycle {
 
                         break;
 
-                    case "cSlayPrincess":
+                    case CSLAYPRINCESS:
                         if (this.cantJoint3.check()) {
                             parser.printDialogueLine(DEMOBLOCK);
                             break;
                         }
-                    case "slay":
+                    case SLAY:
                         if (manager.hasVisited(Chapter.WRAITH)) {
                             this.cantJoint3.set();
                             parser.printDialogueLine(WORNPATH);
@@ -4367,7 +4138,7 @@ public class ChapterII extends StandardCycle {
 
                         return this.nightmareSlay(true);
 
-                    case "cGoCabin":
+                    case CGOCABIN:
                         mainScript.runSection("stairsTryLeave");
                         break;
 
@@ -4378,19 +4149,17 @@ public class ChapterII extends StandardCycle {
             this.currentLocation = GameLocation.CABIN;
             mainScript.runSection("leaveBladeCabin");
 
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "slay", this.cantJoint3, "[Slay the Princess.]"));
-            activeMenu.add(new Option(this.manager, "leave", "[Leave the Cabin.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "nightmareLeave3").instantiate(this.manager, Map.of("cantJoint3", this.cantJoint3));
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (activeOutcome) {
-                    case "cSlayPrincess":
+                    case CSLAYPRINCESS:
                         if (this.cantJoint3.check()) {
                             parser.printDialogueLine(DEMOBLOCK);
                             break;
                         }
-                    case "slay":
+                    case SLAY:
                         if (manager.hasVisited(Chapter.WRAITH)) {
                             this.cantJoint3.set();
                             parser.printDialogueLine(WORNPATH);
@@ -4402,12 +4171,12 @@ public class ChapterII extends StandardCycle {
 
                         return this.nightmareSlay(true);
 
-                    case "cGoHill":
-                    case "leave":
+                    case CGOHILL:
+                    case LEAVE:
                         this.repeatActiveMenu = false;
                         break;
 
-                    case "cGoStairs":
+                    case CGOSTAIRS:
                         mainScript.runSection("leaveCabinStairsAttempt");
                         break;
 
@@ -4415,14 +4184,13 @@ public class ChapterII extends StandardCycle {
                 }
             }
         } else {
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "leave", "[Step onto the stairs and follow the Princess.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "nightmareLeave4").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (activeOutcome) {
-                    case "cGoStairs":
-                    case "leave":
+                    case CGOSTAIRS:
+                    case LEAVE:
                         this.repeatActiveMenu = false;
                         break;
 
@@ -4433,18 +4201,17 @@ public class ChapterII extends StandardCycle {
             this.currentLocation = GameLocation.CABIN;
             mainScript.runSection();
 
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "leave", "[Step into the world.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "nightmareLeave5").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (activeOutcome) {
-                    case "cGoHill":
-                    case "leave":
+                    case CGOHILL:
+                    case LEAVE:
                         this.repeatActiveMenu = false;
                         break;
 
-                    case "cGoStairs":
+                    case CGOSTAIRS:
                         mainScript.runSection("leaveCabinStairsAttempt");
                         break;
 
@@ -4469,7 +4236,7 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("slayStart");
 
         if (!falling) {
-            this.hasBlade = false;
+            this.flags.set(ChapterFlag.HASBLADE, false);
             this.withBlade = true;
         }
         this.withPrincess = false;
@@ -4481,79 +4248,63 @@ public class ChapterII extends StandardCycle {
         Condition biologyComment = new Condition();
         InverseCondition noBiologyComment = biologyComment.getInverse();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "comeBack", "(Explore) It's not like it matters if I die. I'll just come back again."));
-        activeMenu.add(new Option(this.manager, "secret1", "(Explore) Can you tell me your secrets now?", activeMenu.get("noMatter")));
-        activeMenu.add(new Option(this.manager, "secret2", "(Explore) How about now? Is it secret time?", activeMenu.get("secret1")));
-        activeMenu.add(new Option(this.manager, "secret3", "(Explore) I'm going to wear you down eventually. You might as well spill those sweet-sweet secrets now. Then we'll have something else to talk about!", activeMenu.get("secret2")));
-        activeMenu.add(new Option(this.manager, "secret4", "(Explore) Secret?", activeMenu.get("secret3")));
-        activeMenu.add(new Option(this.manager, "secret5", "(Explore) Secret?", 0, activeMenu.get("secret4")));
-        activeMenu.add(new Option(this.manager, "company", "(Explore) But I've got the best company I could ask for! You guys! What more do I need?"));
-        activeMenu.add(new Option(this.manager, "fine", "(Explore) I don't know... falling forever doesn't seem too bad to me.", falling, noBiologyComment));
-        activeMenu.add(new Option(this.manager, "biology", "(Explore) Am I not a creature of biology? Won't I starve or die of dehydration before forever happens?"));
-        activeMenu.add(new Option(this.manager, "stuck", "(Explore) Are you stuck here with us or are you capable of going... other places?"));
-        activeMenu.add(new Option(this.manager, "lonely", "(Explore) I get it. You don't want us to die because you'd be lonely! How sweet.", activeMenu.get("stuck")));
-        activeMenu.add(new Option(this.manager, "drop", "(Explore) [Drop the blade.]", falling));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade from her body.]", !falling));
-        activeMenu.add(new Option(this.manager, "throw", "(Explore) [Throw the blade into the void.]", false));
-        activeMenu.add(new Option(this.manager, "suicide", "[Slay yourself.]", falling));
-        activeMenu.add(new Option(this.manager, "wait", "[Wait.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterII", "nightmareSlay").instantiate(this.manager, Map.of("falling", AbstractCondition.of(falling), "noBiologyComment", noBiologyComment));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
-            if (activeOutcome.equals("cDrop") || activeOutcome.equals("cThrow")) {
+            if (activeOutcome == Outcome.CDROP || activeOutcome == Outcome.CTHROW) {
                 if (falling) {
-                    this.activeOutcome = "drop";
+                    this.activeOutcome = Outcome.DROP;
                 } else {
-                    this.activeOutcome = "throw";
+                    this.activeOutcome = Outcome.THROW;
                 }
             }
 
             switch (activeOutcome) {
-                case "comeBack":
+                case COMEBACK:
                     comeBackComment = true;
-                case "secret1":
-                case "secret2":
-                case "secret3":
-                case "secret4":
-                case "secret5":
-                case "company":
-                case "fine":
-                case "stuck":
-                case "lonely":
+                case SECRET1:
+                case SECRET2:
+                case SECRET3:
+                case SECRET4:
+                case SECRET5:
+                case COMPANY:
+                case FINE:
+                case STUCK:
+                case LONELY:
                     mainScript.runSection(activeOutcome + "Slain");
                     break;
 
-                case "biology":
+                case BIOLOGY:
                     biologyComment.set();
-                    mainScript.runConditionalSection("biologySlain", this.threwBlade);
+                    mainScript.runConditionalSection("biologySlain", this.threwBlade());
                     break;
 
-                case "cTakeBlade":
-                case "take":
-                    this.hasBlade = true;
+                case CTAKEBLADE:
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeSlain");
                     break;
 
-                case "drop":
-                case "throw":
-                    this.hasBlade = false;
-                    this.threwBlade = true;
+                case DROP:
+                case THROW:
+                    this.flags.set(ChapterFlag.HASBLADE, false);
+                    this.flags.set(ChapterFlag.THREWBLADE);
                     mainScript.runSection(activeOutcome + "Slain");
                     if (biologyComment.check()) mainScript.runSection("bladeGoneBiology");
                     break;
 
-                case "cSlaySelf":
-                case "suicide":
+                case CSLAYSELF:
+                case SUICIDE:
                     this.repeatActiveMenu = false;
                     mainScript.runConditionalSection("suicideEndSlain", comeBackComment);
                     break;
 
-                case "wait":
-                    if (biologyComment.check() && this.threwBlade) {
+                case WAIT:
+                    if (biologyComment.check() && this.threwBlade()) {
                         this.repeatActiveMenu = false;
                         mainScript.runConditionalSection("waitEndSlain", comeBackComment);
                     } else {
@@ -4562,25 +4313,25 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "cGoHill":
-                case "cGoCabin":
-                case "cGoStairs":
-                case "cGoBasement":
-                case "cGoFail":
+                case CGOHILL:
+                case CGOCABIN:
+                case CGOSTAIRS:
+                case CGOBASEMENT:
+                case CGOFAIL:
                     mainScript.runSection("nowhereToGo");
                     break;
 
-                case "cSlayNoPrincessFail":
+                case CSLAYNOPRINCESSFAIL:
                     mainScript.runSection("alreadySlain");
                     break;
 
-                case "cEnterFail":
-                case "cLeaveFail":
+                case CENTERFAIL:
+                case CLEAVEFAIL:
                     mainScript.runSection("noLeave");
                     break;
 
-                case "cSlaySelfNoBladeFail":
-                    if (this.threwBlade) {
+                case CSLAYSELFNOBLADEFAIL:
+                    if (this.threwBlade()) {
                         mainScript.runSection("cantSuicide");
                         break;
                     }
@@ -4626,40 +4377,38 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "razor").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     secondaryScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -4693,7 +4442,7 @@ public class ChapterII extends StandardCycle {
         activeMenu.add(new Option(this.manager, "suspicious", "(Explore) \"I'd like to trust you, but you're being so suspicious right now!\""));
         activeMenu.add(new Option(this.manager, "talk", "(Explore) \"Can we just talk things through?\""));
         activeMenu.add(new Option(this.manager, "key", "(Explore) \"I don't have the key.\""));
-        activeMenu.add(new Option(this.manager, "goodWill", "(Explore) \"I don't have a weapon. Isn't that a sign of good will?\"", !this.hasBlade));
+        activeMenu.add(new Option(this.manager, "goodWill", "(Explore) \"I don't have a weapon. Isn't that a sign of good will?\"", !this.hasBlade()));
         activeMenu.add(new Option(this.manager, "lastKill", "(Explore) \"We killed each other last time. I'd rather not do that again.\"", source.equals("mutual")));
         activeMenu.add(new Option(this.manager, "mad", "(Explore) \"Look, I know that you're mad at me but I think we both just need to let bygones be bygones.\""));
         activeMenu.add(new Option(this.manager, "happened", "(Explore) \"What happened after you died last time?\"", source.equals("mutual")));
@@ -4703,8 +4452,8 @@ public class ChapterII extends StandardCycle {
         activeMenu.add(new Option(this.manager, "activities", "(Explore) \"Activities like stabbing or cutting or murdering?\"", activeMenu.get("letOut")));
         activeMenu.add(new Option(this.manager, "approach", "\"Okay, fine. I'm coming closer to free you. You'd better not try anything.\" [Approach the Princess.]"));
         activeMenu.add(new Option(this.manager, "bye", "\"Yeah, I'm not trusting this. Bye!\" [Turn and leave.]"));
-        activeMenu.add(new Option(this.manager, "rightBack", "\"I'll be right back. I left something upstairs.\" [Go retrieve the blade upstairs.]", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "slay", "\"Screw it.\" [Slay the Princess.]", this.hasBlade));
+        activeMenu.add(new Option(this.manager, "rightBack", "\"I'll be right back. I left something upstairs.\" [Go retrieve the blade upstairs.]", !this.hasBlade()));
+        activeMenu.add(new Option(this.manager, "slay", "\"Screw it.\" [Slay the Princess.]", this.hasBlade()));
 
         // I need to set the prerequisite manually here, since this option comes before its prerequisite option in the menu
         activeMenu.get("knife2").setPrerequisite(activeMenu.get("knife1"));
@@ -4718,70 +4467,70 @@ public class ChapterII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "knife1":
-                case "knife2":
-                case "knife3":
-                case "goodWill":
-                case "letOut":
-                case "activities":
-                    mainScript.runSection(activeOutcome);
-                    break;
-
-                case "stab":
-                case "suspicious":
-                case "talk":
-                case "key":
-                case "mad":
-                case "nobody":
+                case KNIFE1:
+                case KNIFE2:
+                case KNIFE3:
+                case GOODWILL:
+                case LETOUT:
+                case ACTIVITIES:
+                    mainScript.runSection(activeOutcome.getID());
+                    break;
+
+                case STAB:
+                case SUSPICIOUS:
+                case TALK:
+                case KEY:
+                case MAD:
+                case NOBODY:
                     followUpFlag = true;
-                    mainScript.runSection(activeOutcome);
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "lastTime1":
+                case LASTTIME1:
                     lastTimeFlag = true;
                     mainScript.runSourceSection("LastTime1");
                     break;
 
-                case "lastKill":
+                case LASTKILL:
                     lastTimeFlag = true;
-                case "lastTime2":
-                    mainScript.runConditionalSection(activeOutcome, loopComment);
+                case LASTTIME2:
+                    mainScript.runConditionalSection(activeOutcome.getID(), loopComment);
                     break;
 
-                case "honest":
+                case HONEST:
                     followUpFlag = true;
-                case "happened":
+                case HAPPENED:
                     lastTimeFlag = true;
-                    mainScript.runSection(activeOutcome);
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "approach":
+                case APPROACH:
                     mainScript.runSection("approachEnd");
 
-                    if (this.hasBlade) {
+                    if (this.hasBlade()) {
                         return ChapterEnding.TOARMSRACEBORED;
                     } else {
                         return ChapterEnding.TONOWAYOUTBORED;
                     }
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     mainScript.runSection("leaveAttemptSilent");
-                case "bye":
-                case "rightBack":
+                case BYE:
+                case RIGHTBACK:
                     mainScript.runConditionalSection("leaveAttempt", source.equals("revival"));
 
-                    if (this.hasBlade) {
+                    if (this.hasBlade()) {
                         return ChapterEnding.TOARMSRACELEFT;
                     } else {
                         return ChapterEnding.TONOWAYOUTLEFT;
                     }
 
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     mainScript.runSection("slayEnd");
                     return ChapterEnding.TOARMSRACEFIGHT;
 
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
                     mainScript.runSection("slayAttemptNoBlade");
                     break;
 
@@ -4797,7 +4546,7 @@ public class ChapterII extends StandardCycle {
                 mainScript.runConditionalSection("followUp" + followUpCount, source.equals("revival"));
 
                 if (followUpCount == 4) {
-                    if (this.hasBlade) {
+                    if (this.hasBlade()) {
                         return ChapterEnding.TOARMSRACEBORED;
                     } else {
                         return ChapterEnding.TONOWAYOUTBORED;
@@ -4828,40 +4577,38 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "beast").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     mainScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -4879,17 +4626,10 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("encounterStart");
 
-        this.beastCantWildMenu = new OptionsMenu(true);
-        beastCantWildMenu.add(new Option(this.manager, "dodge", "[Dodge.]", 0));
+        this.beastCantWildMenu = MenuTemplate.get("ChapterII", "beast2").instantiate(this.manager);
 
         int stallCount = 0;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "where", "(Explore) Where?"));
-        activeMenu.add(new Option(this.manager, "chains", "(Explore) Don't you hear that clinking? She's in chains again. We're fine."));
-        activeMenu.add(new Option(this.manager, "attack", "(Explore) \"You're about to attack me, aren't you? I can see right through you.\""));
-        activeMenu.add(new Option(this.manager, "haveTo", "(Explore) \"We don't have to kill each other. You know that, right?\""));
-        activeMenu.add(new Option(this.manager, "move", "[Move.]"));
-        activeMenu.add(new Option(this.manager, "freeze", "[Stand still.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "beast3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
@@ -4906,24 +4646,24 @@ public class ChapterII extends StandardCycle {
 
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "where":
-                case "chains":
+                case WHERE:
+                case CHAINS:
                     stallCount += 1;
-                    mainScript.runSection(activeOutcome);
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "attack":
-                case "haveTo":
+                case ATTACK:
+                case HAVETO:
                     if (manager.hasVisited(Chapter.WILD)) return this.beastToDen(true);
 
                     mainScript.runSection("eatenStartOther");
                     return this.beastEaten(true, false);
 
-                case "move":
+                case MOVE:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "freeze":
+                case FREEZE:
                     if (!manager.hasVisited(Chapter.WILD)) {
                         this.repeatActiveMenu = false;
                         this.beastCantBeEaten();
@@ -4934,8 +4674,8 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("eatenStartOther");
                     return this.beastEaten(false, false);
 
-                case "cSlayPrincessNoBladeFail":
-                case "cSlayPrincessFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case CSLAYPRINCESSFAIL:
                     mainScript.runSection("attackFail");
                     break;
 
@@ -4947,28 +4687,16 @@ public class ChapterII extends StandardCycle {
 
         // Attack menu
         Condition canTryFlee = new Condition(false);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) How exactly are we supposed to take back the momentum here?"));
-        activeMenu.add(new Option(this.manager, "dodge", "[Survive.]", 0));
-        activeMenu.add(new Option(this.manager, "flee", "[Run for the stairs.]", canTryFlee));
-        activeMenu.add(new Option(this.manager, "attack", manager.demoMode(), "[Wait for her to strike, and hit her back.]"));
-        activeMenu.add(new Option(this.manager, "playDead", this.cantJoint3, "[Play dead.]"));
-        activeMenu.add(new Option(this.manager, "freeze", this.cantJoint3, "[Stand still.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "beast4").instantiate(this.manager, Map.of(
+            "canTryFlee", canTryFlee,
+            "demoMode", AbstractCondition.of(manager.demoMode()),
+            "cantJoint3", this.cantJoint3));
         
         int stallLimit = 2;
         Condition stairsGuarded = new Condition(true);
         ChapterEnding attackResult;
         
-        OptionsMenu parentMenu = new OptionsMenu();
-        parentMenu.add(new Option(this.manager, "tired", "(Explore) I don't think I can keep this up.", false));
-        parentMenu.add(new Option(this.manager, "what", "(Explore) \"What do you want?\""));
-        parentMenu.add(new Option(this.manager, "whyKill", "(Explore) \"But why? Why do you want to kill me?\"", parentMenu.get("what")));
-        parentMenu.add(new Option(this.manager, "whyEat", "(Explore) \"Okay, fine. Why do you want to eat me?\"", parentMenu.get("whyKill")));
-        parentMenu.add(new Option(this.manager, "help", "(Explore) \"We don't have to kill each other. What if I helped you? What if we left together? If you could get out of here on your own, wouldn't you have already left?\""));
-        parentMenu.add(new Option(this.manager, "hide", "(Explore) \"Stop hiding and show yourself.\""));
-        parentMenu.add(new Option(this.manager, "threat", "(Explore) \"I was sent to kill you because you're a threat to the world. I'm starting to believe that's true.\""));
-        parentMenu.add(new Option(this.manager, "deflect", "(Explore) \"You're deflecting.\"", false));
-        parentMenu.add(new Option(this.manager, "flee", "[Run for the stairs.]", 0, canTryFlee));
+        OptionsMenu parentMenu = MenuTemplate.get("ChapterII", "beast5").instantiate(this.manager, Map.of("canTryFlee", canTryFlee));
 
         // Figure out how to put warnings for Den in here, considering the game forces you into it in several instances if you've already been to Wild...
 
@@ -5000,19 +4728,19 @@ public class ChapterII extends StandardCycle {
 
             for (stallCount = 0; stallCount < stallLimit; stallCount++) {
                 switch (parser.promptOptionsMenu(parentMenu)) {
-                    case "hide":
-                    case "threat":
+                    case HIDE:
+                    case THREAT:
                         parentMenu.setCondition("deflect", true);
-                    case "tired":
-                    case "whyKill":
-                    case "whyEat":
-                    case "help":
-                    case "deflect":
-                        mainScript.runSection(activeOutcome);
+                    case TIRED:
+                    case WHYKILL:
+                    case WHYEAT:
+                    case HELP:
+                    case DEFLECT:
+                        mainScript.runSection(activeOutcome.getID());
                         break;
 
-                    case "what":
-                        if (this.hasBlade) {
+                    case WHAT:
+                        if (this.hasBlade()) {
                             mainScript.runSection("whatBlade");
                         } else {
                             if (stairsGuarded.check()) {
@@ -5024,13 +4752,13 @@ public class ChapterII extends StandardCycle {
 
                         break;
 
-                    case "cGoStairs":
+                    case CGOSTAIRS:
                         if (!canTryFlee.check()) {
                             stallCount -= 1;
                             parser.printDialogueLine(ALREADYTRIED);
                             break;
                         }
-                    case "flee":
+                    case FLEE:
                         if (stairsGuarded.check()) {
                             stallCount -= 1;
                             canTryFlee.set(false);
@@ -5050,8 +4778,8 @@ public class ChapterII extends StandardCycle {
 
                         break;
 
-                    case "cSlayPrincessNoBladeFail":
-                    case "cSlayPrincessFail":
+                    case CSLAYPRINCESSNOBLADEFAIL:
+                    case CSLAYPRINCESSFAIL:
                         stallCount -= 1;
                         mainScript.runSection("attackFail");
                         break;
@@ -5082,20 +4810,20 @@ public class ChapterII extends StandardCycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runBladeSection("attackExplore");
                     break;
 
-                case "dodge":
+                case DODGE:
                     mainScript.runSection("dodge" + phase);
                     return null;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (phase != 3) {
                         mainScript.runSection("tryFleeGuarded");
                         break;
                     }
-                case "flee":
+                case FLEE:
                     mainScript.runSection("tryFlee");
 
                     if (manager.hasVisited(Chapter.WILD)) {
@@ -5106,11 +4834,11 @@ public class ChapterII extends StandardCycle {
                         return this.beastEaten(false, false);
                     }
 
-                case "cSlayPrincess":
-                case "attack":
+                case CSLAYPRINCESS:
+                case ATTACK:
                     return this.beastToDen(false);
 
-                case "playDead":
+                case PLAYDEAD:
                     if (manager.hasVisited(Chapter.WILD)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -5121,7 +4849,7 @@ public class ChapterII extends StandardCycle {
                         return this.beastEaten(false, true);
                     }
 
-                case "freeze":
+                case FREEZE:
                     if (manager.hasVisited(Chapter.WILD)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -5132,11 +4860,11 @@ public class ChapterII extends StandardCycle {
                         return this.beastEaten(false, false);
                     }
 
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
                     mainScript.runSection("noWeapon");
                     break;
 
-                case "cSlayPrincessFail":
+                case CSLAYPRINCESSFAIL:
                     parser.printDialogueLine(DEMOBLOCK);
                     break;
 
@@ -5196,41 +4924,35 @@ public class ChapterII extends StandardCycle {
         Condition forceDissolved = new Condition();
         
         this.canSlayPrincess = true;
-        this.canSlaySelf = this.hasBlade && !manager.demoMode();
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "cabin", forceDissolved, "(Explore) \"Can you talk to the cabin?\"", 0));
-        activeMenu.add(new Option(this.manager, "asked", forceDissolved, "(Explore) \"You could have asked me before swallowing me alive.\"", 0));
-        activeMenu.add(new Option(this.manager, "threatExplore", forceDissolved, "(Explore) \"Spit me out or I'll kill myself and nobody gets to leave.\"", 0, this.hasBlade));
-        activeMenu.add(new Option(this.manager, "need", forceDissolved, "(Explore) \"You need me to want to free you, don't you? You can't force me to let you out of here.\"", 0, notFirstTurn));
-        activeMenu.add(new Option(this.manager, "freedom", forceDissolved, "(Explore) \"Just because I want freedom, doesn't mean I want to give you yours.\"", notFirstTurn));
-        activeMenu.add(new Option(this.manager, "threatA", forceDissolved, "(Explore) \"I have my steel claw. I could use it to hurt you.\"", 0, this.hasBlade, maxHP, noThreat));
-        activeMenu.add(new Option(this.manager, "threatB", forceDissolved, "(Explore) \"I've found your heart. Spit me out, or I will end you.\"", 0, canSlay, noThreat));
-        activeMenu.add(new Option(this.manager, "claw", forceDissolved, "(Explore) [Claw and bite.]", 0, !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "dig", forceDissolved, "(Explore) [Dig with the steel claw.]", 0, this.hasBlade, cantSlay));
-        activeMenu.add(new Option(this.manager, "slay", this.cantJoint3, "[Slay the Princess.]", 0, canSlay));
-        activeMenu.add(new Option(this.manager, "surrenderA", "\"Fine! You can leave.\""));
-        activeMenu.add(new Option(this.manager, "surrenderB", "\"You can leave! Just let me go.\""));
-        activeMenu.add(new Option(this.manager, "suicide", this.cantJoint3, "\"Screw you!\" [Slay yourself.]", 0, this.hasBlade));
-        activeMenu.add(new Option(this.manager, "wait", this.cantJoint3, "[Wait for death.]", 0));
+        this.canSlaySelf = this.hasBlade() && !manager.demoMode();
+        this.activeMenu = MenuTemplate.get("ChapterII", "beastEaten").instantiate(this.manager, Map.of(
+            "forceDissolved", forceDissolved,
+            "hasBlade", AbstractCondition.of(this.hasBlade()),
+            "notFirstTurn", notFirstTurn,
+            "maxHP", maxHP,
+            "noThreat", noThreat,
+            "canSlay", canSlay,
+            "cantSlay", cantSlay,
+            "cantJoint3", this.cantJoint3));
 
         for (int turnCount = 0; turnCount < 3; turnCount++) {
             incrementFlag = true;
 
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
-            if (activeOutcome.equals("cSlayPrincess")) {
+            if (activeOutcome == Outcome.CSLAYPRINCESS) {
                 if (canSlay.check()) {
-                    this.activeOutcome = "slay";
+                    this.activeOutcome = Outcome.SLAY;
                 } else {
-                    this.activeOutcome = "dig";
+                    this.activeOutcome = Outcome.DIG;
                 }
             }
 
             switch (activeOutcome) {
-                case "cabin":
-                case "asked":
-                case "threatExplore":
-                case "need":
+                case CABIN:
+                case ASKED:
+                case THREATEXPLORE:
+                case NEED:
                     if (turnCount == 2) {
                         if (!manager.confirmContentWarnings(Chapter.WILD)) {
                             incrementFlag = false;
@@ -5242,12 +4964,12 @@ public class ChapterII extends StandardCycle {
                         }
                     }
 
-                    activeMenu.setCondition(activeOutcome, false);
+                    activeMenu.setCondition(activeOutcome.getID(), false);
                     mainScript.runSection(activeOutcome + "Eaten");
                     break;
                     
-                case "threatA":
-                case "threatB":
+                case THREATA:
+                case THREATB:
                     if (turnCount == 2) {
                         if (!manager.confirmContentWarnings(Chapter.WILD)) {
                             incrementFlag = false;
@@ -5263,13 +4985,13 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("threatEaten");
                     break;
                     
-                case "cSlayPrincessNoBladeFail":
-                case "claw":
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case CLAW:
                     beastHP.decrement();;
                     mainScript.runSection("eatenClaw" + (4 - beastHP.check()));
                     break;
                     
-                case "dig":
+                case DIG:
                     beastHP.subtract(2);
 
                     if (beastHP.equals(2)) {
@@ -5280,16 +5002,16 @@ public class ChapterII extends StandardCycle {
                     
                     break;
                     
-                case "freedom":
+                case FREEDOM:
                     mainScript.runSection("freedomEaten");
                     return ChapterEnding.DISSOLVINGWILLACCIDENT;
                     
-                case "surrenderA":
-                case "surrenderB":
+                case SURRENDERA:
+                case SURRENDERB:
                     mainScript.runSection("eatenSurrender");
                     return ChapterEnding.DISSOLVINGWILL;
                     
-                case "slay":
+                case SLAY:
                     if (!manager.confirmContentWarnings(Chapter.WILD)) {
                         incrementFlag = false;
                         this.cantJoint3.set();
@@ -5306,8 +5028,8 @@ public class ChapterII extends StandardCycle {
                         return ChapterEnding.AHAB;
                     }
                     
-                case "cSlaySelf":
-                case "suicide":
+                case CSLAYSELF:
+                case SUICIDE:
                     if (!manager.confirmContentWarnings(Chapter.WILD)) {
                         incrementFlag = false;
                         this.cantJoint3.set();
@@ -5324,7 +5046,7 @@ public class ChapterII extends StandardCycle {
                         return ChapterEnding.SLAYYOURSELF;
                     }
                     
-                case "wait":
+                case WAIT:
                     if (!manager.confirmContentWarnings(Chapter.WILD)) {
                         incrementFlag = false;
                         this.cantJoint3.set();
@@ -5341,19 +5063,19 @@ public class ChapterII extends StandardCycle {
                         return ChapterEnding.DISSOLVED;
                     }
                     
-                case "cSlayPrincessFail":
-                case "cSlaySelfFail":
+                case CSLAYPRINCESSFAIL:
+                case CSLAYSELFFAIL:
                     incrementFlag = false;
                     parser.printDialogueLine(DEMOBLOCK);
                     break;
                     
-                case "cGoStairs":
-                case "cGoFail":
+                case CGOSTAIRS:
+                case CGOFAIL:
                     incrementFlag = false;
                     mainScript.runSection("eatenGoFail");
                     break;
                     
-                case "cSlaySelfNoBladeFail":
+                case CSLAYSELFNOBLADEFAIL:
                     incrementFlag = false;
                     mainScript.runSection("eatenSuicideFail");
                     break;
@@ -5427,40 +5149,38 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "witch").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     secondaryScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5474,32 +5194,29 @@ public class ChapterII extends StandardCycle {
         this.mirrorPresent = false;
         mainScript.runSection("stairsStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "notNasty", "\"I'm not nasty!\""));
-        activeMenu.add(new Option(this.manager, "hello", "\"Hello.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "witch2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (this.repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "notNasty":
+                case NOTNASTY:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("stairsNotNasty");
                     break;
 
-                case "hello":
+                case HELLO:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("stairsHello");
                     break;
 
-                case "cGoBasement":
-                case "silent":
+                case CGOBASEMENT:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("stairsSilent");
                     break;
                 
-                case "cGoCabin":
+                case CGOCABIN:
                     secondaryScript.runSection("stairsLeaveFail");
                     break;
 
@@ -5523,80 +5240,72 @@ public class ChapterII extends StandardCycle {
         Condition noStall = new Condition(true);
 
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "sorry", "(Explore) \"I'm sorry about last time.\"", noApology));
-        activeMenu.add(new Option(this.manager, "mistake", "(Explore) \"Look, I made a mistake. We all make mistakes, right? I'm sure you've made mistakes.\"", noApology, leaveNotMentioned));
-        activeMenu.add(new Option(this.manager, "getOutA", "(Explore) \"Don't worry, the blade isn't for you. Or, not for killing you. We've got to get you out somehow, right?\"", this.hasBlade, witchChained));
-        activeMenu.add(new Option(this.manager, "notHappy", "(Explore) \"I get the sense that you're not happy with me.\""));
-        activeMenu.add(new Option(this.manager, "scared", "(Explore) \"You scared me, okay? When you started gnawing your arm off, it scared me, so I stabbed you. Things got out of hand.\"", source.equals("betrayal"), noStall, noApology));
-        activeMenu.add(new Option(this.manager, "goodWill", "(Explore) \"I'm unarmed. That's a gesture of good will! So why don't we talk it out?\"", !this.hasBlade, noStall, noApology));
-        activeMenu.add(new Option(this.manager, "bygones", "(Explore) \"We both died last time. Can't bygones be bygones?\"", source.equals("betrayal"), noStall));
-        activeMenu.add(new Option(this.manager, "locked", "(Explore) \"I didn't do shit to you last time. You're the one who locked me away until I died.\"", source.equals("locked"), noStall, leaveNotMentioned));
-        activeMenu.add(new Option(this.manager, "trusted", "(Explore) \"I died last time. You didn't. If anyone here shouldn't be trusted, it's you!\"", !mutualDeath, noStall));
-        activeMenu.add(new Option(this.manager, "messy", "(Explore) \"Look, I know, I know. Things got messy last time. But I think there's something bigger than both of us at work. We should team up.\"", leaveNotMentioned));
-        activeMenu.add(new Option(this.manager, "impasse", "(Explore) \"So we're at an impasse. Neither of us are gonna get anywhere if we can't trust each other. Unless you want to fight. But I don't want to fight.\"", activeMenu.get("sorry"), leaveNotMentioned, apologized));
-        activeMenu.add(new Option(this.manager, "cutA", "(Explore) \"I didn't bring my blade down, remember? How am I supposed to get you out of those chains?\"", !this.hasBlade, leaveMentioned, witchChained));
-        activeMenu.add(new Option(this.manager, "cutB", "(Explore) \"I guess I'll cut you out of here.\"", this.hasBlade, leaveMentioned, witchChained));
-        activeMenu.add(new Option(this.manager, "getOutB", "(Explore) \"Can't you get out of those on your own? Those chains didn't stop you last time.\"", !source.equals("betrayal"), witchChained));
-        activeMenu.add(new Option(this.manager, "free", "(Explore) \"If you could have gotten out this whole time, what do you even need me for? The cabin isn't locked.\"", false));
-        activeMenu.add(new Option(this.manager, "betray", "(Explore) \"Why do I have a nagging feeling you're going to stab me in the back if I help you out of here?\"", freeFromChains2, leaveNotMentioned));
-        activeMenu.add(new Option(this.manager, "stairs", "\"Okay. Let's leave.\" [Leave with the Princess.]", freeFromChains2));
-        activeMenu.add(new Option(this.manager, "offer", this.cantUnique3, "\"I don't want to hurt you, but clearly there's some broken trust. Take this as a gesture of my good will.\" [Give her the blade.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "leave", this.cantJoint3, "\"I don't trust you. Not enough to free you, and definitely not enough to get close to you. I'm leaving. Bye.\" [Leave her in the basement.]", 0));
-        activeMenu.add(new Option(this.manager, "slayYap", this.cantJoint3, "\"I'd like to be straightforward with my intentions. I didn't care for how you treated me last time, and I think you might be a danger to the world. I'm going to attack you now.\" [Slay the Princess.]", 0, this.hasBlade));
-        activeMenu.add(new Option(this.manager, "slaySilent", this.cantJoint3, "[Slay the Princess.]", 0, this.hasBlade));
+        this.activeMenu = MenuTemplate.get("ChapterII", "witch3").instantiate(this.manager, Map.ofEntries(
+            Map.entry("noApology", noApology),
+            Map.entry("leaveNotMentioned", leaveNotMentioned),
+            Map.entry("hasBlade", AbstractCondition.of(this.hasBlade())),
+            Map.entry("witchChained", witchChained),
+            Map.entry("sourceBetrayal", AbstractCondition.of(source.equals("betrayal"))),
+            Map.entry("noStall", noStall),
+            Map.entry("sourceLocked", AbstractCondition.of(source.equals("locked"))),
+            Map.entry("mutualDeath", AbstractCondition.of(mutualDeath)),
+            Map.entry("apologized", apologized),
+            Map.entry("leaveMentioned", leaveMentioned),
+            Map.entry("freeFromChains2", freeFromChains2),
+            Map.entry("cantUnique3", this.cantUnique3),
+            Map.entry("cantJoint3", this.cantJoint3)));
 
         this.canGiveBlade = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mistake":
+                case MISTAKE:
                     leaveMentioned.set();
-                case "sorry":
+                case SORRY:
                     apologized.set();
-                case "notHappy":
-                case "betray":
+                case NOTHAPPY:
+                case BETRAY:
                     mainScript.runSection(activeOutcome + "Menu");
                     break;
                     
-                case "locked":
+                case LOCKED:
                     leaveMentioned.set();
                     activeMenu.setCondition("sorry", false);
-                case "scared":
-                case "goodWill":
-                case "bygones":
-                case "trusted":
+                case SCARED:
+                case GOODWILL:
+                case BYGONES:
+                case TRUSTED:
                     noStall.set(false);
-                    mainScript.runConditionalSection(activeOutcome + "Menu", this.rescuePath);
+                    mainScript.runConditionalSection(activeOutcome + "Menu", this.rescuePath());
                     break;
                     
-                case "messy":
-                case "impasse":
-                case "free":
+                case MESSY:
+                case IMPASSE:
+                case FREE:
                     leaveMentioned.set();
                     mainScript.runSection(activeOutcome + "Menu");
                     break;
                     
-                case "getOutB":
+                case GETOUTB:
                     freeFromChains2.set();
                     mainScript.runConditionalSection("getOutBMenu", witchHeartComment);
                     witchHeartComment = true;
                     break;
 
-                case "getOutA":
-                case "cutA":
-                case "cutB":
+                case GETOUTA:
+                case CUTA:
+                case CUTB:
                     freeFromChains2.set();
                     mainScript.runConditionalSection("cutMenu", witchHeartComment);
                     witchHeartComment = true;
                     break;
                     
-                case "stairs":
+                case STAIRS:
                     return this.witchStairs();
                     
-                case "cGiveBlade":
-                case "offer":
+                case CGIVEBLADE:
+                case OFFER:
                     this.canGiveBlade = false;
                     if (this.witchGiveBladeStart()) {
                         return this.witchGiveBlade(false);
@@ -5604,12 +5313,12 @@ public class ChapterII extends StandardCycle {
 
                     break;
                     
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "leave":
+                case LEAVE:
                     if (manager.hasVisited(Chapter.WILD)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -5622,7 +5331,7 @@ public class ChapterII extends StandardCycle {
 
                     return this.witchToWild(false);
                     
-                case "slayYap":
+                case SLAYYAP:
                     if (manager.hasVisited(Chapter.WILD)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -5635,12 +5344,12 @@ public class ChapterII extends StandardCycle {
 
                     return this.witchToWild(true);
                     
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "slaySilent":
+                case SLAYSILENT:
                     if (manager.hasVisited(Chapter.WILD)) {
                         this.cantJoint3.set();
                         parser.printDialogueLine(WORNPATH);
@@ -5670,7 +5379,7 @@ public class ChapterII extends StandardCycle {
         Condition witchNotFirst = new Condition(true);
         this.activeMenu = new OptionsMenu();
         activeMenu.add(new Option(this.manager, "explore", "(Explore) \"You first.\"", witchNotFirst));
-        activeMenu.add(new Option(this.manager, "offer", manager.demoMode(), "(Explore) \"Clearly, there's some broken trust here. What if I gave you this?\" [Give her the blade.]", this.hasBlade && !this.cantUnique3.check(), witchNotFirst));
+        activeMenu.add(new Option(this.manager, "offer", manager.demoMode(), "(Explore) \"Clearly, there's some broken trust here. What if I gave you this?\" [Give her the blade.]", this.hasBlade() && !this.cantUnique3.check(), witchNotFirst));
         activeMenu.add(new Option(this.manager, "implore", "(Explore) \"You're the one who said you can't leave here without me, which means I hold all the cards. Either you go first, or we stay here. Up to you!\"", activeMenu.get("explore"), witchNotFirst));
         activeMenu.add(new Option(this.manager, "silent", "\"[Step onto the stairs.]\""));
 
@@ -5679,12 +5388,12 @@ public class ChapterII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("leaveStartExplore");
                     break;
 
-                case "cGiveBlade":
-                case "offer":
+                case CGIVEBLADE:
+                case OFFER:
                     this.canGiveBlade = false;
                     if (this.witchGiveBladeStart()) {
                         return this.witchGiveBlade(false);
@@ -5692,13 +5401,13 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "implore":
+                case IMPLORE:
                     witchNotFirst.set(false);
                     mainScript.runSection("leaveStartImplore");
                     break;
                 
-                case "cGoStairs":
-                case "silent":
+                case CGOSTAIRS:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -5707,35 +5416,30 @@ public class ChapterII extends StandardCycle {
         if (witchNotFirst.check()) {
             mainScript.runSection("followStart");
 
-            if (this.hasBlade) {
-                this.activeMenu = new OptionsMenu();
-                activeMenu.add(new Option(this.manager, "refuse", "(Explore) I'm not stabbing her in the back."));
-                activeMenu.add(new Option(this.manager, "refuse2", "I said I'm not stabbing her in the back. And I make the choices here."));
-                activeMenu.add(new Option(this.manager, "praise", "Wow, that's an amazing idea that I totally never saw coming, thanks for looking out for us! [Stab her in the back.]"));
-                activeMenu.add(new Option(this.manager, "noPraise", "I am not going to praise you, but I am going to [Stab her in the back.]"));
-                activeMenu.add(new Option(this.manager, "ugh", "Ugh. Fine. [Stab her in the back.]"));
+            if (this.hasBlade()) {
+                this.activeMenu = MenuTemplate.get("ChapterII", "witchStairs").instantiate(this.manager);
 
                 this.repeatActiveMenu = true;
                 while (repeatActiveMenu) {
                     this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                     switch (activeOutcome) {
-                        case "refuse":
+                        case REFUSE:
                             mainScript.runSection("followRefuse");
                             break;
 
-                        case "refuse2":
+                        case REFUSE2:
                             mainScript.runSection("followTopStartBlade");
                             this.witchLeaveBasement();
                             return ChapterEnding.FROGLOCKED;
 
-                        case "praise":
+                        case PRAISE:
                             mainScript.runSection("backStabPraise");
                             this.witchBetrayal(false);
                             return ChapterEnding.SCORPION;
                         
-                        case "cSlayPrincess":
-                        case "noPraise":
-                        case "ugh":
+                        case CSLAYPRINCESS:
+                        case NOPRAISE:
+                        case UGH:
                             mainScript.runSection("backStabUgh");
                             this.witchBetrayal(false);
                             return ChapterEnding.SCORPION;
@@ -5761,24 +5465,18 @@ public class ChapterII extends StandardCycle {
      */
     private void witchBetrayal(boolean wentFirst) {
         boolean brokenShare = false;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "broken", "\"I can't get up. You broke my back.\""));
-        activeMenu.add(new Option(this.manager, "help", "\"What the hell was that for? I was trying to help you out of here!\"", wentFirst));
-        activeMenu.add(new Option(this.manager, "damn", "\"Damn. I thought I had you there.\"", !wentFirst));
-        activeMenu.add(new Option(this.manager, "never", "\"We were never going to get up those stairs, were we?\""));
-        activeMenu.add(new Option(this.manager, "trust", "\"We could have gotten out of here if we'd just trusted each other.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "witchBetrayal").instantiate(this.manager, Map.of("wentFirst", AbstractCondition.of(wentFirst)));
 
         this.princessViolent = true;
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "broken":
+            case BROKEN:
                 brokenShare = true;
-            case "help":
-            case "damn":
+            case HELP:
+            case DAMN:
                 mainScript.runSection(activeOutcome + "Betrayal");
                 break;
 
-            case "never":
+            case NEVER:
                 if (wentFirst) {
                     mainScript.runSection("neverBetrayal");
                 } else {
@@ -5787,7 +5485,7 @@ public class ChapterII extends StandardCycle {
                 
                 break;
 
-            case "trust":
+            case TRUST:
                 mainScript.runSection("trustBetrayal");
 
                 if (wentFirst) {
@@ -5798,7 +5496,7 @@ public class ChapterII extends StandardCycle {
 
                 break;
 
-            case "silent":
+            case SILENT:
                 if (wentFirst) {
                     mainScript.runSection("silentBetrayalFollow");
                 } else {
@@ -5823,28 +5521,22 @@ public class ChapterII extends StandardCycle {
     private void witchLeaveBasement() {
         mainScript.runSection("lockedStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "try", "(Explore) [Try the door.]"));
-        activeMenu.add(new Option(this.manager, "force", "(Explore) [Force the door.]"));
-        activeMenu.add(new Option(this.manager, "funny", "(Explore) \"Okay. Fine. You got me. Very funny. Can you let me out now?\""));
-        activeMenu.add(new Option(this.manager, "plead", "(Explore) \"Please just let me out, I promise I won't be mad.\""));
-        activeMenu.add(new Option(this.manager, "need", "(Explore) \"I thought you needed me to get out.\""));
-        activeMenu.add(new Option(this.manager, "stuck", "\"Okay. What happens now? I'm stuck here.\""));
+        this.activeMenu = MenuTemplate.get("ChapterII", "witchLeaveBasement").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "force":
+                case FORCE:
                     activeMenu.setCondition("try", false);
-                case "try":
-                case "funny":
-                case "plead":
-                case "need":
+                case TRY:
+                case FUNNY:
+                case PLEAD:
+                case NEED:
                     mainScript.runSection(activeOutcome + "LockedMenu");
                     break;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (!activeMenu.hasBeenPicked("try")) {
                         activeMenu.setCondition("try", false);
                         mainScript.runSection("tryLockedMenu");
@@ -5855,7 +5547,7 @@ public class ChapterII extends StandardCycle {
                         mainScript.runSection("tryAgainLockedMenu");
                     }
 
-                case "stuck":
+                case STUCK:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5871,12 +5563,10 @@ public class ChapterII extends StandardCycle {
      * @return true if the player commits to giving the Witch the blade; false otherwise
      */
     private boolean witchGiveBladeStart() {
-        this.subMenu = new OptionsMenu(true);
-        subMenu.add(new Option(this.manager, "commit", "This isn't a democracy. We're giving her the blade. [Give her the blade.]", 0));
-        subMenu.add(new Option(this.manager, "backOut", "Haha. Yeah, nevermind, that was such a silly idea. I'm not going to give her the blade. She clearly hates us. [Don't do it.]"));
+        this.subMenu = MenuTemplate.get("ChapterII", "witchGiveBladeStart").instantiate(this.manager);
 
         switch (parser.promptOptionsMenu(subMenu)) {
-            case "commit":
+            case COMMIT:
                 if (!manager.confirmContentWarnings(Chapter.THORN)) {
                     subMenu.setGreyedOut("commit", true);
                     break;
@@ -5884,7 +5574,7 @@ public class ChapterII extends StandardCycle {
 
                 return true;
 
-            case "nevermind":
+            case NEVERMIND:
                 this.cantUnique3.set();
                 mainScript.runSection("offerBackOut");
                 return false;
@@ -5908,25 +5598,20 @@ public class ChapterII extends StandardCycle {
         }
 
         boolean smittenFlag = false;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "yourChoice", "\"That's up to you. It's why I gave you the blade. I chose last time, and I regret it. So now it's your time to choose.\""));
-        activeMenu.add(new Option(this.manager, "scared", "\"We're both scared and we're both hurting. If one of us doesn't make a change, we'll probably kill each other forever. Do you want that? I don't. We can be better than this.\""));
-        activeMenu.add(new Option(this.manager, "beautiful", "\"You're beautiful. I want to *actually* save you, and this feels like the only way to do it.\""));
-        activeMenu.add(new Option(this.manager, "someone", "\"If you're like someone I know, you're probably going to kill me.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "witchGiveBlade").instantiate(this.manager);
 
         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
         switch (activeOutcome) {
-            case "scared":
+            case SCARED:
                 smittenFlag = true;
-            case "yourChoice":
+            case YOURCHOICE:
                 mainScript.runSection("trickOffer");
                 break;
 
-            case "beautiful":
+            case BEAUTIFUL:
                 smittenFlag = true;
-            case "someone":
-            case "silent":
+            case SOMEONE:
+            case SILENT:
                 mainScript.runSection(activeOutcome + "Offer");
                 break;
         }
@@ -5980,16 +5665,16 @@ public class ChapterII extends StandardCycle {
         for (int menuCount = 0; menuCount < 3; menuCount++) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "why":
+                case WHY:
                     mutualNotFollowedUp.set(false);
-                case "mutual":
-                case "sucks":
-                case "animals":
-                case "sorry":
+                case MUTUAL:
+                case SUCKS:
+                case ANIMALS:
+                case SORRY:
                     mainScript.runSection(activeOutcome + "Wild" + jumpSuffix);
                     break;
 
-                case "stop":
+                case STOP:
                     mutualNotFollowedUp.set(false);
 
                     if (activeMenu.hasBeenPicked("mutual")) {
@@ -6000,13 +5685,13 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "wait":
+                case WAIT:
                     menuCount = 2; // Fast-forward
                     if (fight) mainScript.runSection("waitWildFight");
                     break;
 
-                case "cSlayPrincess":
-                case "fight":
+                case CSLAYPRINCESS:
+                case FIGHT:
                     menuCount = 2; // Fast-forward
                     fightContinue = true;
                     mainScript.runSection("fightWild");
@@ -6054,71 +5739,63 @@ public class ChapterII extends StandardCycle {
 
         Condition shared = new Condition();
         InverseCondition noShare = shared.getInverse();
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "dejaVu", "(Explore) I'm getting a terrible sense of deja vu.", noShare));
-        activeMenu.add(new Option(this.manager, "happened", "(Explore) Wait... hasn't this already happened?", noShare));
-        activeMenu.add(new Option(this.manager, "no", "(Explore) Okay, no.", noShare));
-        activeMenu.add(new Option(this.manager, "notKidding", "(Explore) You aren't kidding. She actually ended the world last time, didn't she? What the hell is she?.", noShare));
-        activeMenu.add(new Option(this.manager, "wise", "(Explore) Oh, you bastard! You're in for it now. I'm wise to your tricks!", noShare));
-        activeMenu.add(new Option(this.manager, "died", "(Explore) But I died! The whole world ended! What am I doing here?", noShare));
-        activeMenu.add(new Option(this.manager, "walls", "(Explore) Those walls weren't here last time! You can't just force me to go to the cabin."));
-        activeMenu.add(new Option(this.manager, "assume", "(Explore)  Let's assume I'm telling the truth, and all of this really did already happen. Why should I listen to you? Why should I bother doing *anything?*", shared));
-        activeMenu.add(new Option(this.manager, "lie", "(Lie) Yep. Okay. Heading to the cabin now where I'm definitely going to slay that Princess."));
-        activeMenu.add(new Option(this.manager, "cabin", "Yeah, yeah. I get it. I'm going to the cabin."));
-        activeMenu.add(new Option(this.manager, "proceed", "[Silently proceed to the cabin.]", noShare));
-        activeMenu.add(new Option(this.manager, "abort", this.cantTryAbort, "\"If I can't run away from the cabin, then I'm just staying here in the woods. Forever.\" [Stay in the woods. Forever.]", 0, !this.isFirstVessel));
+        this.activeMenu = MenuTemplate.get("ChapterII", "stranger").instantiate(this.manager, Map.of(
+            "noShare", noShare,
+            "shared", shared,
+            "cantTryAbort", this.cantTryAbort,
+            "isFirstVessel", AbstractCondition.of(this.isFirstVessel())));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "dejaVu":
-                case "happened":
-                case "no":
-                case "wise":
-                case "died":
-                    this.sharedLoop = true;
+                case DEJAVU:
+                case HAPPENED:
+                case NO:
+                case WISE:
+                case DIED:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     shared.set();
                     
-                    secondaryScript.runSection(activeOutcome);
+                    secondaryScript.runSection(activeOutcome.getID());
                     mainScript.runSection("shareLoop");
                     break;
 
-                case "notKidding":
-                    this.sharedLoop = true;
+                case NOTKIDDING:
+                    this.flags.set(ChapterFlag.SHAREDLOOP);
                     shared.set();
 
                     mainScript.runSection("notKidding");
                     break;
 
-                case "walls":
+                case WALLS:
                     mainScript.runConditionalSection("walls", true);
                     
-                    if (!this.sharedLoop) {
-                        this.sharedLoop = true;
+                    if (!this.sharedLoop()) {
+                        this.flags.set(ChapterFlag.SHAREDLOOP);
                         shared.set();
                     }
 
                     break;
 
-                case "assume":
-                    this.sharedLoopInsist = true;
+                case ASSUME:
+                    this.flags.set(ChapterFlag.SHAREDLOOPINSIST);
                     mainScript.runSection("assume");
                     break;
 
-                case "lie":
+                case LIE:
                     mainScript.runSection("lie");
-                case "cGoHill":
-                case "cabin":
-                case "proceed":
+                case CGOHILL:
+                case CABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     mainScript.runSection("leaveWoodsAttempt");
                     break;
 
-                case "abort":
+                case ABORT:
                     if (manager.nClaimedVessels() >= 2) {
                         cantTryAbort.set();
                         activeMenu.setGreyedOut("abort", true);
@@ -6138,20 +5815,19 @@ public class ChapterII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         mainScript.runSection("hillDialogue");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "stranger2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (this.repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (this.activeOutcome) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     mainScript.runSection("leaveWoodsAttempt");
                     
                 default:
@@ -6169,30 +5845,28 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("cabinIntro");
 
         Condition canThrow = new Condition();
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "throw", "(Explore) [Throw the blade out the window.]", canThrow));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "stranger3").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "canApproachMirror", canApproachMirror,
+            "canThrow", canThrow));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     this.canThrowBlade = true;
                     canThrow.set();
@@ -6200,27 +5874,25 @@ public class ChapterII extends StandardCycle {
 
                     mainScript.runSection("takeBlade");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "keep", "[Keep your grip as it is.]"));
-                    subMenu.add(new Option(this.manager, "reverse", "[Hold the blade the other way.]"));
+                    this.subMenu = MenuTemplate.get("ChapterII", "stranger4").instantiate(this.manager);
 
                     mainScript.runSection(parser.promptOptionsMenu(subMenu) + "Grip");
                     break;
 
-                case "cThrow":
+                case CTHROW:
                     activeMenu.setCondition("throw", false);
-                case "throw":
-                    this.hasBlade = false;
+                case THROW:
+                    this.flags.set(ChapterFlag.HASBLADE, false);
                     this.canThrowBlade = false;
-                    this.threwBlade = true;
+                    this.flags.set(ChapterFlag.THREWBLADE);
                     canThrow.set(false);
                     endChoiceText = "I'm getting you out of here.\" [Try and free her.]\n  (NUM) \"I don't know what you are, but I can't trust you. I can't trust anyone here.\" [Leave her in the basement.]\n  (NUM) [Regretfully think about that time you threw the blade out the window.]";
 
                     mainScript.runSection("throwBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -6229,7 +5901,7 @@ public class ChapterII extends StandardCycle {
         }
 
         // Enter the basement
-        if (this.isFirstVessel) manager.setFirstPrincess(this.isHarsh, Chapter.STRANGER, this.source, this.threwBlade);
+        if (this.isFirstVessel()) manager.setFirstPrincess(this.isHarsh(), Chapter.STRANGER, this.source, this.threwBlade());
         this.currentLocation = GameLocation.STAIRS;
         this.withBlade = false;
         this.canThrowBlade = false;
@@ -6249,38 +5921,35 @@ public class ChapterII extends StandardCycle {
         schismsPresent.put("emo", false);
         schismsPresent.put("monster", false);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "left", "[Take the harsh stairs to the left.]"));
-        activeMenu.add(new Option(this.manager, "center", "[Take the center staircase.]"));
-        activeMenu.add(new Option(this.manager, "right", "[Take the gentle stairs to the right.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "stranger5").instantiate(this.manager);
 
         this.canLeftRight = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoLeft":
-                case "left":
+                case CGOLEFT:
+                case LEFT:
                     this.repeatActiveMenu = false;
                     firstSchism = "harsh";
                     break;
                     
-                case "center":
+                case CENTER:
                     this.repeatActiveMenu = false;
                     firstSchism = "neutral";
                     break;
                     
-                case "cGoRight":
-                case "right":
+                case CGORIGHT:
+                case RIGHT:
                     this.repeatActiveMenu = false;
                     firstSchism = "gentle";
                     break;
 
-                case "cGoBasement":
+                case CGOBASEMENT:
                     mainScript.runSection("stairsNonSpecific");
                     break;
 
-                case "cGoCabin":
+                case CGOCABIN:
                     mainScript.runSection("stairsLeaveAttempt");
                     break;
 
@@ -6327,15 +5996,15 @@ public class ChapterII extends StandardCycle {
 
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "sorry":
+                case SORRY:
                     mainScript.runSection(firstSchism + "SorryOpening");
 
                     // New schism; harsh if you have the blade, gentle if not, neutral if you already have that princess
                     newSchismComment = false;
                     schismCount.increment();
-                    if (this.hasBlade && !firstSchism.equals("harsh")) {
+                    if (this.hasBlade() && !firstSchism.equals("harsh")) {
                         schismsPresent.put("harsh", true);
-                    } else if (!this.hasBlade && !firstSchism.equals("gentle")) {
+                    } else if (!this.hasBlade() && !firstSchism.equals("gentle")) {
                         schismsPresent.put("gentle", true);
                     } else {
                         schismsPresent.put("neutral", true);
@@ -6344,7 +6013,7 @@ public class ChapterII extends StandardCycle {
                     this.strangerRunSchismSection(schismsPresent, "Sorry", "gentle", "neutral", "harsh");
                     break;
 
-                case "more":
+                case MORE:
                     mainScript.runSection(firstSchism + "More");
                     this.strangerRunSchismSection(schismsPresent, "More", "emo", "monster");
 
@@ -6381,16 +6050,16 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "name":
+                case NAME:
                     mainScript.runSection(firstSchism + "Name");
 
                     // Attempt new schism: harsh if you have the blade, gentle if not, neutral if you already have that princess; fails if you have all 3 already
-                    if (this.hasBlade && !firstSchism.equals("harsh")) {
+                    if (this.hasBlade() && !firstSchism.equals("harsh")) {
                         newSchismComment = false;
                         schismCount.increment();
                         schismThisOption = true;
                         schismsPresent.put("harsh", true);
-                    } else if (!this.hasBlade && !firstSchism.equals("gentle")) {
+                    } else if (!this.hasBlade() && !firstSchism.equals("gentle")) {
                         newSchismComment = false;
                         schismCount.increment();
                         schismThisOption = true;
@@ -6407,7 +6076,7 @@ public class ChapterII extends StandardCycle {
                     if (schismCount.check() != 2) mainScript.runSection("nameFollowUp");
                     break;
 
-                case "weird":
+                case WEIRD:
                     mainScript.runSection(firstSchism + "FirstWeird");
                     mainScript.runSection("genericFracture");
 
@@ -6432,7 +6101,7 @@ public class ChapterII extends StandardCycle {
                     canWhatDo.set(activeMenu.hasBeenPicked("reason") && schismsPresent.get("monster"));
                     break;
 
-                case "reason":
+                case REASON:
                     activeMenu.setCondition("threatShare", false);
                     mainScript.runSection(firstSchism + "Reason");
 
@@ -6455,7 +6124,7 @@ public class ChapterII extends StandardCycle {
                     canWhatDo.set(schismsPresent.get("monster"));
                     break;
 
-                case "threatShare":
+                case THREATSHARE:
                     sharedTask.set();
                     mainScript.runSection(firstSchism + "ThreatShare");
 
@@ -6476,7 +6145,7 @@ public class ChapterII extends StandardCycle {
                     this.strangerRunSchismSection(schismsPresent, "ThreatShare", "emo", "monster");
                     break;
 
-                case "whatDo":
+                case WHATDO:
                     mainScript.runSection(firstSchism + "FirstWhatDo");
 
                     // New schism attempt: attempt harsh, then attempt neutral, then attempt gentle
@@ -6508,13 +6177,13 @@ public class ChapterII extends StandardCycle {
                     mainScript.runConditionalSection("whatDoFollowUp", schismsPresent.get("monster"));
                     break;
 
-                case "cGoStairs":
-                case "cSlayPrincess":
+                case CGOSTAIRS:
+                case CSLAYPRINCESS:
                     if (schismCount.equals(1)) {
                         super.giveDefaultFailResponse();
                         break;
                     }
-                case "ending":
+                case ENDING:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -6526,21 +6195,15 @@ public class ChapterII extends StandardCycle {
         this.removeVoice(Voice.NARRATOR);
         mainScript.runSection("endingStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "okay", "\"It's going to be okay...\""));
-        activeMenu.add(new Option(this.manager, "best", "\"I'll do my best.\""));
-        activeMenu.add(new Option(this.manager, "supposed", "\"I don't think you're supposed to be fixed.\""));
-        activeMenu.add(new Option(this.manager, "no", "\"No.\""));
-        activeMenu.add(new Option(this.manager, "destroyed", "\"You just destroyed everything. I'm not going to fix you.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "stranger6").instantiate(this.manager);
 
-        if (parser.promptOptionsMenu(activeMenu).equals("silent")) {
+        if (parser.promptOptionsMenu(activeMenu) == Outcome.SILENT) {
             mainScript.runClaimSection("endSilent", true);
         } else {
             mainScript.runClaimSection("endReply", true);
         }
         
-        if (this.isFirstVessel) manager.updateMoundValues(0, 1);
+        if (this.isFirstVessel()) manager.updateMoundValues(0, 1);
         return ChapterEnding.ILLUSIONOFCHOICE;
     }
 
@@ -6627,40 +6290,38 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisoner").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     mainScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -6669,24 +6330,22 @@ public class ChapterII extends StandardCycle {
         }
 
         // Enter the basement
-        if (!this.hasBlade) {
-            this.prisonerForcedBlade = true;
+        if (!this.hasBlade()) {
+            this.flags.set(ChapterFlag.PRISONERFORCEDBLADE);
             mainScript.runSection("stairsNoBlade");
 
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "hey", "Hey! Don't I get a say here? What's the big idea?"));
-            activeMenu.add(new Option(this.manager, "take", "[Take the blade.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "prisoner2").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "hey":
+                    case HEY:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("stairsTakeBladeProtest");
                         break;
 
-                    case "cTakeBlade":
-                    case "take":
+                    case CTAKEBLADE:
+                    case TAKE:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("stairsTakeBlade");
                         break;
@@ -6695,7 +6354,7 @@ public class ChapterII extends StandardCycle {
                 }
             }
 
-            this.hasBlade = true;
+            this.flags.set(ChapterFlag.HASBLADE);
         }
 
         this.currentLocation = GameLocation.BASEMENT;
@@ -6710,36 +6369,33 @@ public class ChapterII extends StandardCycle {
         InverseCondition notLocked = locked.getInverse();
 
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "leave", "I'm not sure I need to do much of anything. Do you see how locked up she is? I'm just going to leave her here. [Leave the Princess in the basement.]"));
-        activeMenu.add(new Option(this.manager, "sit", "[Sit with her.]"));
-        activeMenu.add(new Option(this.manager, "slay", manager.demoMode(), "[Slay the Princess.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisoner3").instantiate(this.manager, Map.of("demoMode", AbstractCondition.of(manager.demoMode())));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (locked.check()) {
                         mainScript.runSection("leaveAttemptLocked");
                         break;
                     }
-                case "leave":
+                case LEAVE:
                     locked.set();
-                    mainScript.runConditionalSection("doorLock", this.sharedLoopInsist);
+                    mainScript.runConditionalSection("doorLock", this.sharedLoopInsist());
                     mainScript.runSection("doorLockCommentStart");
                     break;
 
-                case "sit":
+                case SIT:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (manager.hasVisited(Chapter.GREY)) {
                         parser.printDialogueLine(WORNPATH);
                         this.cantJoint3.set();
@@ -6761,16 +6417,14 @@ public class ChapterII extends StandardCycle {
         // Sit with her
         mainScript.runSection("sitStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "right", "[Sit where you were told to sit.]"));
-        activeMenu.add(new Option(this.manager, "closer", "[Sit closer.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisoner4").instantiate(this.manager);
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "right":
+            case RIGHT:
                 this.repeatActiveMenu = false;
                 break;
 
-            case "closer":
+            case CLOSER:
                 mainScript.runSection("sitTooClose");
                 return this.prisonerStrangled(false);
         }
@@ -6788,29 +6442,21 @@ public class ChapterII extends StandardCycle {
         Condition noPatientComment = new Condition(true);
         Condition immovable = new Condition();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "inspect", "(Explore) [Inspect the shackle.]"));
-        activeMenu.add(new Option(this.manager, "lockedBeg", "(Explore) Hey! Let me out of here! Open the door!", locked));
-        activeMenu.add(new Option(this.manager, "intentionsA", "(Explore) \"You were asking about my intentions earlier. What did you mean by that?\"", talked, noIntentions));
-        activeMenu.add(new Option(this.manager, "intentionsB", "(Explore) \"My intentions? What do you mean?\"", noTalk, noIntentions));
-        activeMenu.add(new Option(this.manager, "memory", "(Explore) \"I've been here before. Am I the only one who remembers that?\"", narratorNoProof));
-        activeMenu.add(new Option(this.manager, "afterDied", "(Explore) \"What happened after I died last time?\""));
-        activeMenu.add(new Option(this.manager, "head", "(Explore) \"How am I supposed to cut you out? If you didn't notice, your head is in a shackle, too.\"", askedIntentions, noWhatDo));
-        activeMenu.add(new Option(this.manager, "otherChain", "(Explore) \"That other chain on the wall... who is it for?\""));
-        activeMenu.add(new Option(this.manager, "whatDo", "(Explore) \"What would you have me do?\"", noWhatDo));
-        activeMenu.add(new Option(this.manager, "noGiveA", "(Explore) \"I'm not giving you a weapon.\"", whatDo, noGiveNotExplored));
-        activeMenu.add(new Option(this.manager, "distrust", "(Explore) \"You realize that I have as much reason to distrust you as you have to distrust me, right?\"", whatDo, noPatientComment));
-        activeMenu.add(new Option(this.manager, "noGiveB", "(Explore) \"I'm not giving you a weapon. In case you've forgotten, you killed me with it last time.\"", whatDo, noGiveNotExplored));
-        activeMenu.add(new Option(this.manager, "noGiveC", "(Explore) \"*I* can cut you out of here. I'm not giving you a weapon.\"", whatDo, noGiveNotExplored));
-        activeMenu.add(new Option(this.manager, "threaten", "(Explore) \"If you don't give up now, then I have no choice but to slay you.\"", noGiveExplore));
-        activeMenu.add(new Option(this.manager, "negotiate", "(Explore) \"You're the one in chains. If anyone should be to negotiating here, it's you, not me.\"", noGiveExplore));
-        activeMenu.add(new Option(this.manager, "giveBlade", "\"Okay. I'm trusting you.\" [Give her the blade.]", whatDo));
-        activeMenu.add(new Option(this.manager, "cutAttempt", "\"If you want to leave, I'm going to be the one with the weapon. Deal with it.\" [Cut her out on your own.]", whatDo));
-        activeMenu.add(new Option(this.manager, "slayA", this.cantJoint3, "\"If that's how you're going to be, then I guess I have to do this.\" [Slay the Princess.]", noGiveExplore));
-        activeMenu.add(new Option(this.manager, "slayB", this.cantJoint3, "\"It seems I don't have much of a choice. I'm sorry.\" [Slay the Princess.]", locked));
-        activeMenu.add(new Option(this.manager, "leaveA", "\"If you're so immovable, then I'm just going to leave you here. Bye!\" [Leave the Princess in the basement.]", notLocked, immovable));
-        activeMenu.add(new Option(this.manager, "leaveB", "\"I think I'm just going to leave you here, actually. You're not much of a threat to anyone locked up like that. Bye!\" [Leave the Princess in the basement.]", notLocked));
-        activeMenu.add(new Option(this.manager, "slayC", this.cantJoint3, "[Slay the Princess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisoner5").instantiate(this.manager, Map.ofEntries(
+            Map.entry("locked", locked),
+            Map.entry("talked", talked),
+            Map.entry("noIntentions", noIntentions),
+            Map.entry("noTalk", noTalk),
+            Map.entry("narratorNoProof", narratorNoProof),
+            Map.entry("askedIntentions", askedIntentions),
+            Map.entry("noWhatDo", noWhatDo),
+            Map.entry("whatDo", whatDo),
+            Map.entry("noGiveNotExplored", noGiveNotExplored),
+            Map.entry("noPatientComment", noPatientComment),
+            Map.entry("noGiveExplore", noGiveExplore),
+            Map.entry("cantJoint3", this.cantJoint3),
+            Map.entry("notLocked", notLocked),
+            Map.entry("immovable", immovable)));
 
         activeMenu.get("inspect").setPrerequisite(activeMenu.get("otherChain"));
 
@@ -6818,68 +6464,66 @@ public class ChapterII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "inspect":
+                case INSPECT:
                     mainScript.runSection("inspectMenu");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "inspect", "[Inspect the shackle.]"));
-                    subMenu.add(new Option(this.manager, "return", "[Let it go.]"));
+                    this.subMenu = MenuTemplate.get("ChapterII", "prisoner6").instantiate(this.manager);
 
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "inspect":
+                        case INSPECT:
                             this.prisonerChained();
                             return ChapterEnding.PRISONEROFMIND;
                         
-                        case "return":
+                        case RETURN:
                             mainScript.runSection();
                             break;
                     }
 
                     break;
 
-                case "lockedBeg":
-                case "otherChain":
+                case LOCKEDBEG:
+                case OTHERCHAIN:
                     talked.set();
                     mainScript.runSection(activeOutcome + "Menu");
                     break;
 
-                case "intentionsA":
-                case "intentionsB":
+                case INTENTIONSA:
+                case INTENTIONSB:
                     talked.set();
                     askedIntentions.set();
                     mainScript.runSection("intentionsMenu");
                     break;
 
-                case "memory":
+                case MEMORY:
                     talked.set();
                     mainScript.runSection("memoryMenu");
                     if (narratorNoProof.check()) mainScript.runSection("narratorProof");
                     narratorProof.set();
                     break;
 
-                case "afterDied":
+                case AFTERDIED:
                     talked.set();
                     mainScript.runSection("afterDiedMenu");
                     if (narratorNoProof.check()) mainScript.runSection("narratorProof");
                     narratorProof.set();
                     break;
 
-                case "head":
-                case "whatDo":
+                case HEAD:
+                case WHATDO:
                     talked.set();
                     whatDo.set();
                     mainScript.runSection(activeOutcome + "Menu");
                     break;
 
-                case "noGiveA":
-                case "noGiveC":
+                case NOGIVEA:
+                case NOGIVEC:
                     noGiveExplore.set();
                     mainScript.runSection("noGiveJoin");
                     if (narratorNoProof.check()) mainScript.runSection("narratorProof");
                     narratorProof.set();
                     break;
 
-                case "noGiveB":
+                case NOGIVEB:
                     noGiveExplore.set();
                     mainScript.runSection("noGiveBMenu");
 
@@ -6890,32 +6534,32 @@ public class ChapterII extends StandardCycle {
                     if (!narrProofPrev) mainScript.runSection("narratorProof");
                     break;
 
-                case "distrust":
+                case DISTRUST:
                     noPatientComment.set(false);
                     mainScript.runSection("distrustMenu");
                     break;
 
-                case "threaten":
+                case THREATEN:
                     immovable.set();
                     mainScript.runSection("threatenMenu");
                     break;
 
-                case "negotiate":
+                case NEGOTIATE:
                     immovable.set();
                     mainScript.runConditionalSection("negotiateMenu", locked);
                     mainScript.runConditionalSection("negotiateMenuCont", noPatientComment);
                     break;
 
-                case "giveBlade":
+                case GIVEBLADE:
                     mainScript.runSection("giveBladeStart");
                     return this.prisonerDecapitate();
 
-                case "cutAttempt":
+                case CUTATTEMPT:
                     mainScript.runSection("attemptCut");
                     return this.prisonerStrangled(false);
 
-                case "slayA":
-                case "slayB":
+                case SLAYA:
+                case SLAYB:
                     if (manager.hasVisited(Chapter.GREY)) {
                         parser.printDialogueLine(WORNPATH);
                         this.cantJoint3.set();
@@ -6928,12 +6572,12 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection(activeOutcome + "Start");
                     return this.prisonerStrangled(true);
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "slayC":
+                case SLAYC:
                     if (manager.hasVisited(Chapter.GREY)) {
                         parser.printDialogueLine(WORNPATH);
                         this.cantJoint3.set();
@@ -6946,22 +6590,22 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("attackJoin");
                     return this.prisonerStrangled(true);
 
-                case "leaveA":
+                case LEAVEA:
                     locked.set();
                     mainScript.runSection("leaveAttemptA");
-                    mainScript.runConditionalSection("doorLock", this.sharedLoopInsist || narratorProof.check());
+                    mainScript.runConditionalSection("doorLock", this.sharedLoopInsist() || narratorProof.check());
                     mainScript.runSection("doorLockCommentAbandon");
                     break;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (locked.check()) {
                         mainScript.runSection("leaveAttemptLocked");
                         break;
                     }
-                case "leaveB":
+                case LEAVEB:
                     locked.set();
                     mainScript.runSection("leaveAttemptB");
-                    mainScript.runConditionalSection("doorLock", this.sharedLoopInsist || narratorProof.check());
+                    mainScript.runConditionalSection("doorLock", this.sharedLoopInsist() || narratorProof.check());
                     mainScript.runSection("doorLockCommentAbandon");
                     break;
             }
@@ -6974,26 +6618,21 @@ public class ChapterII extends StandardCycle {
      * The player continues to investigate the empty chain, leading to the "Prisoner of the Mind" ending and claiming the Prisoner
      */
     private void prisonerChained() {
-        this.hasBlade = false;
+        this.flags.set(ChapterFlag.HASBLADE, false);
         mainScript.runSection("chainedStart");
 
         int talkCount = 0;
         boolean smallTalk = false;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "stuck", "(Explore) \"So we're both stuck here.\""));
-        activeMenu.add(new Option(this.manager, "whatDo", "(Explore) \"What should we do?\""));
-        activeMenu.add(new Option(this.manager, "know", "(Explore) \"Did you know that this was going to happen to me?\""));
-        activeMenu.add(new Option(this.manager, "smallTalk", "(Explore) \"Not one for small talk, are you?\"", false));
-        activeMenu.add(new Option(this.manager, "wait", "[Wait in silence.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerChained").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             if (talkCount >= 2) activeMenu.setCondition("smallTalk", true);
 
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "stuck":
-                case "whatDo":
-                case "know":
+                case STUCK:
+                case WHATDO:
+                case KNOW:
                     if (smallTalk) {
                         mainScript.runSection("chainedNoSmallTalk");
                     } else {
@@ -7002,12 +6641,12 @@ public class ChapterII extends StandardCycle {
                     
                     break;
 
-                case "smallTalk":
+                case SMALLTALK:
                     smallTalk = true;
                     mainScript.runSection("smallTalkChained");
                     break;
 
-                case "wait":
+                case WAIT:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -7015,14 +6654,12 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("chainedCont");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) \"Hey, have you noticed the basement changing?\""));
-        activeMenu.add(new Option(this.manager, "wait", "[Continue to wait in silence.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerChained2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "explore":
+                case EXPLORE:
                     if (smallTalk) {
                         mainScript.runSection("basementNoSmallTalk");
                     } else {
@@ -7031,7 +6668,7 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "wait":
+                case WAIT:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -7049,20 +6686,18 @@ public class ChapterII extends StandardCycle {
         this.princessViolent = true;
         this.canSlayPrincess = true;
         this.canDropBlade = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "slay", this.cantJoint3, "[Slay the Princess.]", 0));
-        activeMenu.add(new Option(this.manager, "drop", "[Drop it.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerStrangled").instantiate(this.manager, Map.of("cantJoint3", this.cantJoint3));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (this.cantJoint3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (manager.hasVisited(Chapter.GREY)) {
                         parser.printDialogueLine(WORNPATH);
                         parser.printDialogueLine(WORNPATHHERO);
@@ -7080,8 +6715,8 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("slayStart");
                     return this.prisonerSlain(false);
 
-                case "cDrop":
-                case "drop":
+                case CDROP:
+                case DROP:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -7090,7 +6725,7 @@ public class ChapterII extends StandardCycle {
         }
 
         // Drop the blade
-        this.hasBlade = false;
+        this.flags.set(ChapterFlag.HASBLADE, false);
         mainScript.runConditionalSection("strangleDropStart", attack);
         return this.prisonerDecapitate();
     }
@@ -7103,28 +6738,24 @@ public class ChapterII extends StandardCycle {
         this.princessViolent = false;
         mainScript.runSection("headStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "away", "[Look away.]"));
-        activeMenu.add(new Option(this.manager, "watch", "[Watch in uneasy silence.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerDecapitate").instantiate(this.manager);
 
         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
-        if (activeOutcome.equals("watch")) this.prisonerWatchedHead = true;
+        if (activeOutcome == Outcome.WATCH) this.flags.set(ChapterFlag.PRISONERWATCHEDHEAD);
         mainScript.runSection(activeOutcome + "Head");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "leave", this.cantUnique3, "[Leave the basement to claim your reward.]", 0));
-        activeMenu.add(new Option(this.manager, "take", "[Take the Princess with you.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerDecapitate2").instantiate(this.manager, Map.of("cantUnique3", this.cantUnique3));
 
         this.princessDead = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoStairs":
+                case CGOSTAIRS:
                     if (this.cantUnique3.check()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "leave":
+                case LEAVE:
                     if (!manager.confirmContentWarnings(Chapter.CAGE, "suicide")) {
                         this.cantUnique3.set();
                         break;
@@ -7132,7 +6763,7 @@ public class ChapterII extends StandardCycle {
 
                     return this.prisonerSlain(true);
 
-                case "take":
+                case TAKE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -7143,14 +6774,13 @@ public class ChapterII extends StandardCycle {
         this.currentLocation = GameLocation.CABIN;
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "leave", "[Leave the cabin and claim your reward.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerDecapitate3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoHill":
-                case "leave":
+                case CGOHILL:
+                case LEAVE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -7169,17 +6799,16 @@ public class ChapterII extends StandardCycle {
      */
     private ChapterEnding prisonerSlain(boolean decapitated) {
         this.currentLocation = GameLocation.CABIN;
-        this.hasBlade = true;
+        this.flags.set(ChapterFlag.HASBLADE);
         mainScript.runSection("slainStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "leave", "[Open the door and accept your reward.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerSlain").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoHill":
-                case "leave":
+                case CGOHILL:
+                case LEAVE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -7189,10 +6818,7 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "bullshit", "That's bullshit! Let us out of here!"));
-        activeMenu.add(new Option(this.manager, "ok", "I don't know. I'm pretty okay with this."));
-        activeMenu.add(new Option(this.manager, "better", "I was kind of hoping we'd get a better ending for saving the world."));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerSlain2").instantiate(this.manager);
 
         mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "DoorMenu");
 
@@ -7200,55 +6826,44 @@ public class ChapterII extends StandardCycle {
         Condition happyExplored = new Condition();
         InverseCondition noHappyExplore = happyExplored.getInverse();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "happy", "(Explore) Didn't you hear The Narrator? I'm happy. We're happy."));
-        activeMenu.add(new Option(this.manager, "suggest", "(Explore) What do you suggest, then?"));
-        activeMenu.add(new Option(this.manager, "acceptA", "I don't want to die again. I didn't like dying last time. I'm going to accept my reward now.", activeMenu.get("suggest")));
-        activeMenu.add(new Option(this.manager, "acceptB", "I dunno, I'm pretty happy. I'm going to accept my reward now.", noHappyExplore));
-        activeMenu.add(new Option(this.manager, "acceptC", "Well, you might not be happy, but I am. I'm going to accept my reward now.", happyExplored));
-        activeMenu.add(new Option(this.manager, "paranoid", "[Slay yourself.]", activeMenu.get("suggest")));
+        this.activeMenu = MenuTemplate.get("ChapterII", "prisonerSlain3").instantiate(this.manager, Map.of("noHappyExplore", noHappyExplore, "happyExplored", happyExplored));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "happy":
+                case HAPPY:
                     happyExplored.set();
                     mainScript.runSection("happySlain");
                     break;
 
-                case "suggest":
+                case SUGGEST:
                     this.canSlaySelf = true;
                     suggestion = true;
                     mainScript.runSection("suggestSlain");
                     break;
 
-                case "acceptA":
-                case "acceptB":
-                case "acceptC":
-                    this.prisonerGoodEndingSeen = true;
+                case ACCEPTA:
+                case ACCEPTB:
+                case ACCEPTC:
+                    this.flags.set(ChapterFlag.PRISONERGOODENDINGSEEN);
                     mainScript.runConditionalSection("slainAccept", suggestion);
 
                     // Option names here correspond to which Voice you gain in The Cage
                     this.canSlaySelf = true;
-                    this.activeMenu = new OptionsMenu();
-                    activeMenu.add(new Option(this.manager, "noWay", "(Explore) Is there really no other way? Because I don't want to use the blade on myself."));
-                    activeMenu.add(new Option(this.manager, "happy2", "(Explore) But I liked being happy! Are you really going to take it away from me?"));
-                    activeMenu.add(new Option(this.manager, "broken", "[Give the blade to the Voice of the Skeptic.]", activeMenu.get("noWay")));
-                    activeMenu.add(new Option(this.manager, "paranoid", "[Slay yourself.]"));
-                    activeMenu.add(new Option(this.manager, "cheated", "Sorry, but we're not doing that."));
+                    this.activeMenu = MenuTemplate.get("ChapterII", "prisonerSlain4").instantiate(this.manager);
 
                     while (repeatActiveMenu) {
                         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                         switch (activeOutcome) {
-                            case "noWay":
-                            case "happy2":
+                            case NOWAY:
+                            case HAPPY2:
                                 mainScript.runSection(activeOutcome + "Slain");
                                 break;
 
-                            case "broken":
-                            case "paranoid":
-                            case "cheated":
+                            case BROKEN:
+                            case PARANOID:
+                            case CHEATED:
                                 this.repeatActiveMenu = false;
                                 mainScript.runSection(activeOutcome + "Suicide");
                                 mainScript.runSection(activeOutcome + "SuicideCont");
@@ -7259,8 +6874,8 @@ public class ChapterII extends StandardCycle {
                     }
                     break;
                     
-                case "cSlaySelf":
-                case "paranoid":
+                case CSLAYSELF:
+                case PARANOID:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("suicideStart");
                     mainScript.runSection("paranoidSuicideCont");
@@ -7271,12 +6886,12 @@ public class ChapterII extends StandardCycle {
         }
         
         if (!decapitated) {
-            if (activeOutcome.equals("cheated")) this.prisonerHeartStopped = true;
+            if (activeOutcome == Outcome.CHEATED) this.flags.set(ChapterFlag.PRISONERHEARTSTOPPED);
             return ChapterEnding.COLDLYRATIONAL;
         } else {
             switch (activeOutcome) {
-                case "broken": return ChapterEnding.RESTLESSGIVEIN;
-                case "cheated": return ChapterEnding.RESTLESSFORCED;
+                case BROKEN: return ChapterEnding.RESTLESSGIVEIN;
+                case CHEATED: return ChapterEnding.RESTLESSFORCED;
                 default: return ChapterEnding.RESTLESSSELF;
             }
         }
@@ -7296,40 +6911,38 @@ public class ChapterII extends StandardCycle {
 
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) You didn't say anything about the mirror on the wall.", canAskMirror));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This whole cabin is different than last time.", this.sharedLoopInsist));
-        activeMenu.add(new Option(this.manager, "approach", "(Explore) [Approach the mirror.]", canApproachMirror));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "damsel").instantiate(this.manager, Map.of(
+            "canAskMirror", canAskMirror,
+            "sharedLoopInsist", AbstractCondition.of(this.sharedLoopInsist()),
+            "canApproachMirror", canApproachMirror));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     this.ch2AskMirror();
                     break;
 
-                case "different":
+                case DIFFERENT:
                     mainScript.runSection("cabinDifferent");
                     break;
 
-                case "cApproachMirror":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.ch2ApproachMirror();
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
-                    mainScript.runConditionalSection("takeBlade", this.sharedLoop);
+                    mainScript.runConditionalSection("takeBlade", this.sharedLoop());
                     break;
 
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -7349,61 +6962,49 @@ public class ChapterII extends StandardCycle {
         mainScript.runSection("basementStart");
 
         boolean howFree = false;
-        this.damselEndWorldResponse = "";
+        this.damselEndWorldResponse = null;
 
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "killed", "(Explore) \"You killed me last time and it hurt a lot! Why did you do that?\""));
-        activeMenu.add(new Option(this.manager, "howFreeNoBlade", "(Explore) \"I didn't bring a knife. Do I have to cut you out again?\"", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "howFreeBlade", "(Explore) \"Do I have to cut you out again? I really didn't care for that last time.\"", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "after", "(Explore) \"What happened after I died?\""));
-        activeMenu.add(new Option(this.manager, "end", "(Explore) \"I have to ask... did you end the world after you killed me back there?\""));
-        activeMenu.add(new Option(this.manager, "sorry", "(Explore) \"I'm sorry about what happened last time. The Narrator who sent me here to kill you took over my body. It was extremely unfair.\""));
-        activeMenu.add(new Option(this.manager, "rescue", "[Rescue the Princess.]"));
-        activeMenu.add(new Option(this.manager, "slay", this.cantJoint3, "[Slay the Princess.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterII", "damsel2").instantiate(this.manager, Map.of("hasBlade", AbstractCondition.of(this.hasBlade()), "cantJoint3", this.cantJoint3));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "killed":
-                case "sorry":
-                    mainScript.runSection(activeOutcome);
+                case KILLED:
+                case SORRY:
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "howFreeNoBlade":
-                case "howFreeBlade":
+                case HOWFREENOBLADE:
+                case HOWFREEBLADE:
                     howFree = true;
                     mainScript.runSection("howFree");
                     break;
 
-                case "after":
+                case AFTER:
                     activeMenu.setDisplay("end", "(Explore) \"But before we started talking, did the world end? Did you end the world?\"");
                     mainScript.runSection("after");
                     break;
 
-                case "end":
+                case END:
                     mainScript.runSection("endWorldAsk");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "save", "\"No? I don't want the world to end.\""));
-                    subMenu.add(new Option(this.manager, "neutral", "\"I have no feelings one way or another about the world ending.\""));
-                    subMenu.add(new Option(this.manager, "burn", "\"Honestly, the world sucks. People are a plague and I hope you brought a slow and painful ruin to them all.\""));
-                    subMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+                    this.subMenu = MenuTemplate.get("ChapterII", "damsel3").instantiate(this.manager);
 
                     this.damselEndWorldResponse = parser.promptOptionsMenu(subMenu);
                     mainScript.runSection(damselEndWorldResponse + "EndWorld");
                     break;
 
-                case "rescue":
+                case RESCUE:
                     return this.damselRescue(howFree);
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (manager.demoMode()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (manager.hasVisited(Chapter.GREY)) {
                         parser.printDialogueLine(WORNPATH);
                         parser.printDialogueLine(WORNPATHHERO);
@@ -7434,29 +7035,27 @@ public class ChapterII extends StandardCycle {
         mainScript.runConditionalSection("rescueStart", howFree);
 
         this.canSlayPrincess = false;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "want", "(Explore) \"What do you want to do?\"", 0));
-        activeMenu.add(new Option(this.manager, "leave", "\"We leave. And then we have our whole lives to figure out what we want to do next.\""));
+        this.activeMenu = MenuTemplate.get("ChapterII", "damselRescue").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "want":
+                case WANT:
                     if (!manager.confirmContentWarnings("derealization")) break;
 
                     return this.damselDeconSequence();
 
-                case "cGoStairs":
-                case "leave":
+                case CGOSTAIRS:
+                case LEAVE:
                     mainScript.runSection("leaveStart");
                     return this.damselLeave();
 
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
                     mainScript.runSection("slayHeroFail");
                     break;
 
-                case "cSlayPrincessFail":
+                case CSLAYPRINCESSFAIL:
                     mainScript.runSection("slaySmittenFail");
                     break;
 
@@ -7472,7 +7071,7 @@ public class ChapterII extends StandardCycle {
      * @return the ending reached by the player
      */
     private ChapterEnding damselDeconSequence() {
-        mainScript.runConditionalSection("whatWant", this.whatWouldYouDo);
+        mainScript.runConditionalSection("whatWant", this.whatWouldYouDo());
 
         GlobalInt depersonCount = new GlobalInt();
         NumCondition depersoned = new NumCondition(depersonCount, 1, 0);
@@ -7497,7 +7096,7 @@ public class ChapterII extends StandardCycle {
         while (repeatActiveMenu) {
             switch (depersonCount.check()) {
                 case 1:
-                    this.canSlayPrincess = this.hasBlade;
+                    this.canSlayPrincess = this.hasBlade();
                 case 2:
                 case 3:
                     if (!skipDepersonComment) mainScript.runSection("depersonComment" + depersonCount.check());
@@ -7511,7 +7110,7 @@ public class ChapterII extends StandardCycle {
             skipDepersonComment = false;
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "stay":
+                case STAY:
                     if (!manager.confirmContentWarnings(Chapter.HAPPY, "forced self-mutilation; forced suicide")) {
                         this.cantUnique3.set();
                         break;
@@ -7520,44 +7119,40 @@ public class ChapterII extends StandardCycle {
                     mainScript.runSection("stayStartDecon");
                     return ChapterEnding.CONTENTSOFOURHEARTDECON;
 
-                case "parrot":
-                case "wantA":
-                case "wantB":
+                case PARROT:
+                case WANTA:
+                case WANTB:
                     depersonCount.increment();
                     mainScript.runConditionalSection("depersonTruth" + depersonCount, depersonCount);
                     mainScript.runSection("wantDecon");
                     break;
 
-                case "makeYou":
-                case "more":
-                case "ownThing":
-                case "unhappy":
+                case MAKEYOU:
+                case MORE:
+                case OWNTHING:
+                case UNHAPPY:
                     depersonCount.increment();
                     mainScript.runConditionalSection("depersonTruth" + depersonCount, depersonCount);
                     mainScript.runSection(activeOutcome + "Decon");
                     break;
 
-                case "endWorld":
+                case ENDWORLD:
                     mainScript.runSection("endWorldDecon");
 
-                    if (damselEndWorldResponse.isEmpty()) {
+                    if (damselEndWorldResponse == null) {
                         mainScript.runConditionalSection("endWorldDeconFirst", depersonCount);
                         if (!depersonCount.equals(0)) parrotComment.set();
 
-                        this.subMenu = new OptionsMenu(true);
-                        subMenu.add(new Option(this.manager, "save", "\"No? I don't want the world to end.\""));
-                        subMenu.add(new Option(this.manager, "neutral", "\"I have no feelings one way or another about the world ending.\""));
-                        subMenu.add(new Option(this.manager, "burn", "\"Honestly, the world sucks. People are a plague and I hope you brought a slow and painful ruin to them all.\""));
-                        subMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+                        this.subMenu = MenuTemplate.get("ChapterII", "damselDeconSequence").instantiate(this.manager);
 
                         this.damselEndWorldResponse = parser.promptOptionsMenu(subMenu);
                         switch (damselEndWorldResponse) {
-                            case "silent":
+                            case SILENT:
                                 mainScript.runSection("silentEndWorldDecon");
                                 break;
 
-                            case "save":
-                                if (this.hasBlade) mainScript.runSection("saveEndWorldDeconBlade");
+                            case SAVE:
+                                if (this.hasBlade()) mainScript.runSection("saveEndWorldDeconBlade");
 
                                 if (depersonCount.equals(0)) {
                                     depersonCount.increment();
@@ -7586,9 +7181,9 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "leaveA":
-                case "leaveB":
-                case "leaveC":
+                case LEAVEA:
+                case LEAVEB:
+                case LEAVEC:
                     if (depersonCount.greaterThan(1)) {
                         mainScript.runSection("leaveStartDeconB");
                     } else {
@@ -7597,12 +7192,12 @@ public class ChapterII extends StandardCycle {
 
                     return this.damselLeave();
 
-                case "cSlayPrincess":
+                case CSLAYPRINCESS:
                     if (manager.demoMode()) {
                         parser.printDialogueLine(DEMOBLOCK);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     if (manager.hasVisited(Chapter.GREY)) {
                         parser.printDialogueLine(WORNPATH);
                         parser.printDialogueLine(WORNPATHHERO);
@@ -7631,22 +7226,18 @@ public class ChapterII extends StandardCycle {
      * @return the ending reached by the player
      */
     private ChapterEnding damselLeave() {
-        boolean tookBlade = this.hasBlade;
-        this.hasBlade = false;
+        boolean tookBlade = this.hasBlade();
+        this.flags.set(ChapterFlag.HASBLADE, false);
         this.canSlayPrincess = false;
         mainScript.runBladeSection("leaveStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) \"Do you think you can open it?\""));
-        activeMenu.add(new Option(this.manager, "her", "\"Yeah. I think you've got this.\"", activeMenu.get("explore")));
-        activeMenu.add(new Option(this.manager, "together", "\"I think we can open it if we try together.\""));
-        activeMenu.add(new Option(this.manager, "alone", "\"I think I've got this.\" [Open the door by yourself.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "damselLeave").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("openDoorExplore");
                     break;
 
@@ -7662,16 +7253,14 @@ public class ChapterII extends StandardCycle {
             this.withBlade = !this.cantJoint3.check();
             mainScript.runSection("finalBladeChoice");
 
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "slay", this.cantJoint3, "[Take the blade and slay the Princess.]", 0));
-            activeMenu.add(new Option(this.manager, "nope", "[You're not doing that.]"));
+            this.activeMenu = MenuTemplate.get("ChapterII", "damselLeave2").instantiate(this.manager, Map.of("cantJoint3", this.cantJoint3));
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "cTakeBlade":
-                    case "cSlayPrincessNoBladeFail":
+                    case CTAKEBLADE:
+                    case CSLAYPRINCESSNOBLADEFAIL:
                         if (this.cantJoint3.check()) {
                             parser.printDialogueLine(ALREADYTRIED);
                             break;
@@ -7679,7 +7268,7 @@ public class ChapterII extends StandardCycle {
                             parser.printDialogueLine(DEMOBLOCK);
                             break;
                         }
-                    case "slay":
+                    case SLAY:
                         if (manager.hasVisited(Chapter.GREY)) {
                             parser.printDialogueLine(WORNPATH);
                             parser.printDialogueLine(WORNPATHHERO);
@@ -7698,7 +7287,7 @@ public class ChapterII extends StandardCycle {
                         this.damselSlay();
                         return ChapterEnding.LADYKILLER;
 
-                    case "nope":
+                    case NOPE:
                         this.repeatActiveMenu = false;
                         this.withBlade = false;
                         mainScript.runSection("preLeaveNoBlade");
@@ -7711,31 +7300,28 @@ public class ChapterII extends StandardCycle {
             mainScript.runSection("preLeaveBlade");
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "stay", this.cantUnique3, "\"All we need to be happy is each other, what if we just stayed here and built a life together?\""));
-        activeMenu.add(new Option(this.manager, "stop", "Stop it with these interruptions. I already made up my mind. We're leaving."));
-        activeMenu.add(new Option(this.manager, "ignore", "[Just ignore them.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "damselLeave3").instantiate(this.manager, Map.of("cantUnique3", this.cantUnique3));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "stay":
+                case STAY:
                     mainScript.runSection("staySuggest");
 
                     this.activeMenu = new OptionsMenu(true);
-                    activeMenu.add(new Option(this.manager, "nonchalance", this.cantUnique3, "\"Your nonchalance about the fate of the world has me a bit worried. That's why I want to stay here.\"", 0, !damselEndWorldResponse.isEmpty()));
+                    activeMenu.add(new Option(this.manager, "nonchalance", this.cantUnique3, "\"Your nonchalance about the fate of the world has me a bit worried. That's why I want to stay here.\"", 0, damselEndWorldResponse != null));
                     activeMenu.add(new Option(this.manager, "trust", this.cantUnique3, "\"Trust me. It'll be better for both of us if we stay. We can be happy here. We just have to want it.\"", 0));
                     activeMenu.add(new Option(this.manager, "leave", "\"You're right. We're leaving.\""));
                     activeMenu.add(new Option(this.manager, "silent", this.cantUnique3, "[Remain silent.]", 0));
 
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "leave":
+                        case LEAVE:
                             this.repeatActiveMenu = false;
                             mainScript.runSection("stayReturn");
                             break;
 
-                        case "nonchalance":
+                        case NONCHALANCE:
                             if (!manager.confirmContentWarnings(Chapter.HAPPY, "forced self-mutilation, forced suicide")) {
                                 this.cantUnique3.set();
                                 break;
@@ -7744,8 +7330,8 @@ public class ChapterII extends StandardCycle {
                             mainScript.runSection("stayNonchalance");
                             return ChapterEnding.CONTENTSOFOURHEARTUPSTAIRS;
 
-                        case "trust":
-                        case "silent":
+                        case TRUST:
+                        case SILENT:
                             if (!manager.confirmContentWarnings(Chapter.HAPPY, "forced self-mutilation, forced suicide")) {
                                 this.cantUnique3.set();
                             }
@@ -7756,12 +7342,12 @@ public class ChapterII extends StandardCycle {
 
                     break;
 
-                case "stop":
+                case STOP:
                     this.repeatActiveMenu = true;
                     break;
 
-                case "cGoHill":
-                case "ignore":
+                case CGOHILL:
+                case IGNORE:
                     this.repeatActiveMenu = true;
                     mainScript.runSection("leaveEarlyJoin");
                     break;
@@ -7782,10 +7368,7 @@ public class ChapterII extends StandardCycle {
         this.princessSlain = true;
         mainScript.runSection("slayMain");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "refuse", "I'm the one who makes the decisions here, and I say *no!*"));
-        activeMenu.add(new Option(this.manager, "ok", "If that's what you want to do, let's see what happens."));
-        activeMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+        this.activeMenu = MenuTemplate.get("ChapterII", "damselSlay").instantiate(this.manager);
 
         mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "Slay");
     }
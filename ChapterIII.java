@@ -1,4 +1,5 @@
 import java.util.ArrayList;
+import java.util.Map;
 
 public class ChapterIII extends StandardCycle {
     
@@ -10,20 +11,10 @@ public class ChapterIII extends StandardCycle {
 
     // Flags that persist from Chapter 2
     private Voice ch2Voice;
-    private final boolean sharedLoop;
-    private final boolean sharedLoopInsist;
-    private final boolean freeFromChains2;
-    private final boolean abandoned2;
-    private final boolean adversaryTookBlade;
-    private final boolean adversaryFaceExplore;
-    private final boolean spectreShareDied;
-    private final boolean spectrePossessAsk;
-    private final boolean spectreCantWontAsk;
-    private final boolean spectreEndSlay;
-    private final boolean prisonerForcedBlade;
-    private final boolean prisonerWatchedHead;
-    private final boolean prisonerGoodEndingSeen;
-    private final boolean prisonerHeartStopped;
+    private static final long CARRIEDFLAGS = FlagSet.mask(ChapterFlag.SHAREDLOOP, ChapterFlag.SHAREDLOOPINSIST, ChapterFlag.MIRRORCOMMENT, ChapterFlag.TOUCHEDMIRROR, ChapterFlag.HARSH, ChapterFlag.KNOWSDESTINY,
+        ChapterFlag.FREEFROMCHAINS2, ChapterFlag.ABANDONED2, ChapterFlag.ADVERSARYTOOKBLADE, ChapterFlag.ADVERSARYFACEEXPLORE,
+        ChapterFlag.SPECTRESHAREDIED, ChapterFlag.SPECTREPOSSESSASK, ChapterFlag.SPECTRECANTWONTASK, ChapterFlag.SPECTREENDSLAY,
+        ChapterFlag.PRISONERFORCEDBLADE, ChapterFlag.PRISONERWATCHEDHEAD, ChapterFlag.PRISONERGOODENDINGSEEN, ChapterFlag.PRISONERHEARTSTOPPED);
 
     // Flags used in The Princess and the Dragon
     private boolean dragonInPrincess = false;
@@ -31,17 +22,17 @@ public class ChapterIII extends StandardCycle {
     private Condition dragonStartNoLeaveAsk = new Condition(true);
 
     // Flags used in The Cage
-    private Condition cageCutRoute = new Condition();
+    private final Condition cageCutRoute = new FlagCondition(this.flags, ChapterFlag.CAGECUTROUTE);
     private boolean cageNoBladeMentioned = false;
 
     // Flags used in Happily Ever After
     private GlobalInt happyTorchesLit = new GlobalInt(4);
     private boolean happyTorchFlag = false;
     private Condition happyCanTorchComment = new Condition();
-    private Condition happySmittenKnown = new Condition();
+    private final Condition happySmittenKnown = new FlagCondition(this.flags, ChapterFlag.HAPPYSMITTENKNOWN);
     private Condition happyDinnerOver = new Condition();
     private Condition happyGamesOver = new Condition();
-    private Condition happyGetUpAttempt = new Condition();
+    private final Condition happyGetUpAttempt = new FlagCondition(this.flags, ChapterFlag.HAPPYGETUPATTEMPT);
     private Condition happySlayAttempt = new Condition();
 
     /**
@@ -52,52 +43,17 @@ public class ChapterIII extends StandardCycle {
      * @param route the Chapters the player has visited so far during this route
      * @param hasTriedAbort whether the player has already tried (and failed) to abort this route
      * @param source2 the "source" of Chapter II
-     * @param sharedLoop whether the Narrator knows that the player has been here before
-     * @param sharedLoopInsist whether the player insisted that they've been here before in the woods
-     * @param mirrorComment whether the player asked about the mirror in Chapter II
-     * @param touchedMirror whether the player approached the mirror in Chapter II
-     * @param isHarsh whether the Princess is currently hostile in Chapters where it varies
-     * @param knowsDestiny whether the Princess knows she's (allegedly) going to end the world
      * @param ch2Voice the Voice the player gained at the start of Chapter II
-     * @param freeFromChains2 whether the Princess freed herself from her chains in Chapter II
-     * @param abandoned2 whether 
-     * @param adversaryTookBlade whether or not the player took the blade before entering the basement in Chapter II: The Adversary
-     * @param adversaryFaceExplore whether the player asked about their missing face while fighting the Adversary unarmed in Chapter II
-     * @param spectreShareDied whether the player told the Spectre that they died in Chapter II
-     * @param spectrePossessAsk whether the Spectre asked to possess the player in Chapter II
-     * @param spectreCantWontAsk whether the player asked the Spectre whether she "couldn't" or "wouldn't" possess them if they refused in Chapter II
-     * @param spectreEndSlay whether the player tried to take the Spectre down as she killed them in Chapter II
-     * @param prisonerForcedBlade whether the Voice of the Skeptic forced the player to take the blade in Chapter II
-     * @param prisonerWatchedHead whether the player chose to watch the Prisoner decapitate herself in Chapter II
-     * @param prisonerGoodEndingSeen whether the player saw the Good Ending in Chapter II
-     * @param prisonerHeartStopped whether the Voice of the Skeptic stopped the player's heart in Chapter II
+     * @param prevFlags the packed flags of Chapter II; only the flags in CARRIEDFLAGS are kept
      */
-    public ChapterIII(ChapterEnding prevEnding, GameManager manager, IOHandler parser, ArrayList<Chapter> route, Condition hasTriedAbort, String source2, boolean sharedLoop, boolean sharedLoopInsist, boolean mirrorComment, boolean touchedMirror, boolean isHarsh, boolean knowsDestiny, Voice ch2Voice, boolean freeFromChains2, boolean abandoned2, boolean adversaryTookBlade, boolean adversaryFaceExplore, boolean spectreShareDied, boolean spectrePossessAsk, boolean spectreCantWontAsk, boolean spectreEndSlay, boolean prisonerForcedBlade, boolean prisonerWatchedHead, boolean prisonerGoodEndingSeen, boolean prisonerHeartStopped) {
+    public ChapterIII(ChapterEnding prevEnding, GameManager manager, IOHandler parser, ArrayList<Chapter> route, Condition hasTriedAbort, String source2, Voice ch2Voice, long prevFlags) {
         super(manager, parser, route, hasTriedAbort.check(), prevEnding);
 
         this.source = source2;
-        this.sharedLoop = sharedLoop;
-        this.sharedLoopInsist = sharedLoopInsist;
-        this.mirrorComment = mirrorComment;
-        this.touchedMirror = touchedMirror;
-        this.isHarsh = isHarsh;
-        this.knowsDestiny = knowsDestiny;
+        this.flags.setFrom(prevFlags, CARRIEDFLAGS);
         
         this.prevEnding = prevEnding;
         this.ch2Voice = ch2Voice;
-        
-        this.abandoned2 = abandoned2;
-        this.adversaryTookBlade = adversaryTookBlade;
-        this.freeFromChains2 = freeFromChains2;
-        this.adversaryFaceExplore = adversaryFaceExplore;
-        this.spectreShareDied = spectreShareDied;
-        this.spectrePossessAsk = spectrePossessAsk;
-        this.spectreCantWontAsk = spectreCantWontAsk;
-        this.spectreEndSlay = spectreEndSlay;
-        this.prisonerForcedBlade = prisonerForcedBlade;
-        this.prisonerWatchedHead = prisonerWatchedHead;
-        this.prisonerGoodEndingSeen = prisonerGoodEndingSeen;
-        this.prisonerHeartStopped = prisonerHeartStopped;
 
         Voice newVoice = prevEnding.getNewVoice();
         this.ch3Voice = newVoice;
@@ -127,14 +83,14 @@ public class ChapterIII extends StandardCycle {
                 
             case NOWAYOUT:
                 this.knowsBlade = true;
-                this.threwBlade = true;
+                this.flags.set(ChapterFlag.THREWBLADE);
                 this.currentLocation = GameLocation.CABIN;
                 this.mirrorPresent = true;
                 this.addVoice(Voice.CONTRARIAN);
                 break;
 
             case MUTUALLYASSURED:
-                this.hasBlade = true;
+                this.flags.set(ChapterFlag.HASBLADE);
                 this.withPrincess = true;
                 this.knowsBlade = true;
                 this.currentLocation = GameLocation.BASEMENT;
@@ -143,12 +99,12 @@ public class ChapterIII extends StandardCycle {
             case EMPTYCUP:
                 this.withPrincess = true;
                 this.knowsBlade = true;
-                this.threwBlade = true;
+                this.flags.set(ChapterFlag.THREWBLADE);
                 this.currentLocation = GameLocation.BASEMENT;
                 break;
 
             case CAGE:
-                this.hasBlade = true;
+                this.flags.set(ChapterFlag.HASBLADE);
                 this.knowsBlade = true;
                 break;
 
@@ -191,7 +147,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the Narrator knew that the player has been here before in Chapter II
      */
     public boolean sharedLoop() {
-        return this.sharedLoop;
+        return this.flags.has(ChapterFlag.SHAREDLOOP);
     }
 
     /**
@@ -199,7 +155,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player insisted that they've been here before in the woods in Chapter II
      */
     public boolean sharedLoopInsist() {
-        return this.sharedLoopInsist;
+        return this.flags.has(ChapterFlag.SHAREDLOOPINSIST);
     }
 
     /**
@@ -207,7 +163,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player tried to abandon the Spectre or the Nightmare in Chapter II
      */
     public boolean abandoned2() {
-        return this.abandoned2;
+        return this.flags.has(ChapterFlag.ABANDONED2);
     }
 
     /**
@@ -215,7 +171,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player took the blade before entering the basement in Chapter II: The Adversary
      */
     public boolean adversaryTookBlade() {
-        return this.adversaryTookBlade;
+        return this.flags.has(ChapterFlag.ADVERSARYTOOKBLADE);
     }
 
     /**
@@ -223,7 +179,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the Adversary broke her chains in Chapter II
      */
     public boolean freeFromChains2() {
-        return this.freeFromChains2;
+        return this.flags.has(ChapterFlag.FREEFROMCHAINS2);
     }
 
     /**
@@ -231,7 +187,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player asked about their missing face while fighting the Adversary unarmed in Chapter II
      */
     public boolean adversaryFaceExplore() {
-        return this.adversaryFaceExplore;
+        return this.flags.has(ChapterFlag.ADVERSARYFACEEXPLORE);
     }
 
     /**
@@ -239,7 +195,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player told the Spectre that they died in Chapter II
      */
     public boolean spectreShareDied() {
-        return this.spectreShareDied;
+        return this.flags.has(ChapterFlag.SPECTRESHAREDIED);
     }
 
     /**
@@ -247,7 +203,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the Spectre asked to possess the player in Chapter II
      */
     public boolean spectrePossessAsk() {
-        return this.spectrePossessAsk;
+        return this.flags.has(ChapterFlag.SPECTREPOSSESSASK);
     }
 
     /**
@@ -255,7 +211,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player asked the Spectre whether she "couldn't" or "wouldn't" possess them if they refused in Chapter II
      */
     public boolean spectreCantWontAsk() {
-        return this.spectreCantWontAsk;
+        return this.flags.has(ChapterFlag.SPECTRECANTWONTASK);
     }
 
     /**
@@ -263,7 +219,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player tried to take the Spectre down as she killed them in Chapter II
      */
     public boolean spectreEndSlay() {
-        return this.spectreEndSlay;
+        return this.flags.has(ChapterFlag.SPECTREENDSLAY);
     }
 
     /**
@@ -271,7 +227,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the Voice of the Skeptic forced the player to take the blade in Chapter II
      */
     public boolean prisonerForcedBlade() {
-        return this.prisonerForcedBlade;
+        return this.flags.has(ChapterFlag.PRISONERFORCEDBLADE);
     }
 
     /**
@@ -279,7 +235,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player chose to watch the Prisoner decapitate herself in Chapter II
      */
     public boolean prisonerWatchedHead() {
-        return this.prisonerWatchedHead;
+        return this.flags.has(ChapterFlag.PRISONERWATCHEDHEAD);
     }
 
     /**
@@ -287,7 +243,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the player saw the Good Ending in Chapter II
      */
     public boolean prisonerGoodEndingSeen() {
-        return this.prisonerGoodEndingSeen;
+        return this.flags.has(ChapterFlag.PRISONERGOODENDINGSEEN);
     }
 
     /**
@@ -295,7 +251,7 @@ public class ChapterIII extends StandardCycle {
      * @return whether or not the Voice of the Skeptic stopped the player's heart in Chapter II
      */
     public boolean prisonerHeartStopped() {
-        return this.prisonerHeartStopped;
+        return this.flags.has(ChapterFlag.PRISONERHEARTSTOPPED);
     }
 
     /**
@@ -334,16 +290,16 @@ public class ChapterIII extends StandardCycle {
 
         manager.setMetaMenuActive(true);
         switch (parser.promptOptionsMenu(warningsMenu)) {
-            case "general":
+            case GENERAL:
                 manager.showGeneralWarnings();
                 break;
-            case "by chapter":
+            case BYCHAPTER:
                 manager.showByChapterWarnings();
                 break;
-            case "current":
+            case CURRENT:
                 manager.showChapterWarnings(this.activeChapter, this.prevEnding);
                 break;
-            case "cancel":
+            case CANCEL:
                 break;
             default: super.giveDefaultFailResponse();
         }
@@ -378,7 +334,7 @@ public class ChapterIII extends StandardCycle {
      * @param outcome the String representation of the outcome of the attempted command
      */
     @Override
-    protected void giveDefaultFailResponse(String outcome) {
+    protected void giveDefaultFailResponse(Outcome outcome) {
         if (this.dragonInPrincess && mainScript.getFileName().equals("DragonShared.txt")) { // Double check the file with the responses is loaded
             this.giveDefaultFailResponsePrincess(outcome);
         } else {
@@ -394,8 +350,8 @@ public class ChapterIII extends StandardCycle {
      */
     @Override
     public ChapterEnding runChapter() {
-        //System.out.println("Running runChapter with prevEnding " + this.prevEnding);
-        //System.out.println("Active chapter is " + this.activeChapter);
+        //IOHandler.out().println("Running runChapter with prevEnding " + this.prevEnding);
+        //IOHandler.out().println("Active chapter is " + this.activeChapter);
 
         this.unlockChapter();
         manager.updateTracker();
@@ -456,14 +412,14 @@ public class ChapterIII extends StandardCycle {
                 break;
 
             case SPACESBETWEEN:
-                //System.out.println("Running Spaces Between");
+                //IOHandler.out().println("Running Spaces Between");
                 ending = this.prevEnding;
                 break;
 
             default: throw new RuntimeException("Cannot run an invalid chapter");
         }
 
-        //System.out.println("Ending: " + ending);
+        //IOHandler.out().println("Ending: " + ending);
         if (ending == null) return ChapterEnding.DEMOENDING;
 
         if (ending.hasAchievement()) {
@@ -480,7 +436,7 @@ public class ChapterIII extends StandardCycle {
      */
     @Override
     public ChapterEnding debugRunChapter() {
-        //System.out.println("Running debugRunChapter");
+        //IOHandler.out().println("Running debugRunChapter");
 
         // Add the appropriate Chapter 2/3 voice(s)
         switch (this.prevEnding) {
@@ -819,7 +775,7 @@ public class ChapterIII extends StandardCycle {
         }
 
         ChapterEnding ending = this.runChapter();
-        //System.out.println("Debug ending: " + ending);
+        //IOHandler.out().println("Debug ending: " + ending);
 
         switch (ending) {
             case ABORTED:
@@ -851,34 +807,29 @@ public class ChapterIII extends StandardCycle {
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "different", "(Explore) We haven't talked enough about how different this place is. I wouldn't even call these woods. It's like her influence has poured out into the world."));
-        activeMenu.add(new Option(this.manager, "plan", "(Explore) What if I don't agree with the plan? What if I'd rather do something else?"));
-        activeMenu.add(new Option(this.manager, "proceedA", "No matter what happens next, it seems like all our answers are in the cabin. Let's see this through. [Proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "proceedB", "[Silently proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "abort", this.cantTryAbort, "I'm done with this. Bye! [Turn around and leave.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedle").instantiate(this.manager, Map.of("cantTryAbort", this.cantTryAbort));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "different":
-                case "plan":
+                case DIFFERENT:
+                case PLAN:
                     mainScript.runSection(activeOutcome + "Woods");
                     break;
 
-                case "cGoHill":
-                case "proceedA":
-                case "proceedB":
+                case CGOHILL:
+                case PROCEEDA:
+                case PROCEEDB:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (cantTryAbort.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "abort":
+                case ABORT:
                     if (!this.canAbort) {
                         cantTryAbort.set();
                         parser.printDialogueLine(CANTSTRAY);
@@ -897,15 +848,14 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         mainScript.runSection("hillDialogue");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedle2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
                 
@@ -920,37 +870,32 @@ public class ChapterIII extends StandardCycle {
         this.mirrorPresent = true;
         mainScript.runSection("cabinIntro");
 
-        Condition currentMirrorComment = new Condition(this.hasVoice(Voice.SKEPTIC) && this.touchedMirror);
+        Condition currentMirrorComment = new Condition(this.hasVoice(Voice.SKEPTIC) && this.touchedMirror());
         InverseCondition noCurrentMirrorComment = currentMirrorComment.getInverse();
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirrorA", "(Explore) You never mention the mirror.", this.mirrorComment, noCurrentMirrorComment));
-        activeMenu.add(new Option(this.manager, "mirrorB", "(Explore) That damn mirror's back.", this.mirrorComment, noCurrentMirrorComment));
-        activeMenu.add(new Option(this.manager, "mirrorC", "(Explore) But there's no way forward. There's a mirror at the end of the room and that's it.", !this.mirrorComment, noCurrentMirrorComment));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedle3").instantiate(this.manager, Map.of("mirrorComment", AbstractCondition.of(this.mirrorComment()), "noCurrentMirrorComment", noCurrentMirrorComment));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirrorA":
-                case "mirrorB":
-                case "mirrorC":
+                case MIRRORA:
+                case MIRRORB:
+                case MIRRORC:
                     currentMirrorComment.set();
                     mainScript.runSection("mirrorAsk");
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "cApproachMirror":
-                case "approach":
+                case CGOSTAIRS:
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -962,27 +907,25 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.MIRROR;
         mainScript.runConditionalSection("approachMirror", currentMirrorComment);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "wipe", "[Wipe the mirror clean.]"));
-        activeMenu.add(new Option(this.manager, "smash", "[Smash it.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedle4").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cWipe":
-                case "wipe":
+                case CWIPE:
+                case WIPE:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("wipeMirror");
                     break;
 
-                case "cSmash":
-                case "smash":
+                case CSMASH:
+                case SMASH:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("smashMirror");
                     break;
 
-                case "cApproachAtMirrorFail":
+                case CAPPROACHATMIRRORFAIL:
                     this.giveDefaultFailResponse(activeOutcome);
                     break;
 
@@ -994,28 +937,24 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.STAIRS;
         this.withBlade = false;
         this.mirrorPresent = false;
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
 
         Condition noStairsExplore = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "taunt", "(Explore) \"If you want a fight then how about you come and get one?\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "free", "(Explore) \"I know you can get out of there on your own.\"", this.freeFromChains2, noStairsExplore));
-        activeMenu.add(new Option(this.manager, "sure", "(Explore) \"Are you sure you still want to fight?\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "cont", "[Continue to the basement landing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedle5").instantiate(this.manager, Map.of("noStairsExplore", noStairsExplore, "freeFromChains2", AbstractCondition.of(this.freeFromChains2())));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "taunt":
-                case "free":
-                case "sure":
+                case TAUNT:
+                case FREE:
+                case SURE:
                     noStairsExplore.set(false);
                     mainScript.runSection(activeOutcome + "Stairs");
                     break;
 
-                case "cGoBasement":
-                case "cont":
+                case CGOBASEMENT:
+                case CONT:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1028,41 +967,34 @@ public class ChapterIII extends StandardCycle {
         this.withPrincess = true;
         mainScript.runSection("basementStart");
 
-        if (this.hasBlade) {
+        if (this.hasBlade()) {
             this.canSlayPrincess = true;
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "talk", "(Explore) \"Let's talk a bit first. We can always fight when we're done, but I have questions. I want to know what happened after you killed me.\""));
-            activeMenu.add(new Option(this.manager, "taunt", "(Explore) \"Not down here. If you want me, you'll have to come and get me.\""));
-            activeMenu.add(new Option(this.manager, "space", "(Explore) \"If you want a good fight, if you *really* want to see me at my best, we need somewhere with more space.\""));
-            activeMenu.add(new Option(this.manager, "free", "(Explore) \"Why don't you want to be free? Why do you insist on fighting me to the death down here in the dark?\""));
-            activeMenu.add(new Option(this.manager, "pacifism", "(Explore) \"I'm not fighting you.\""));
-            activeMenu.add(new Option(this.manager, "closer", "[Step closer, stopping just outside her chains.]"));
-            activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]"));
+            this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedle6").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "talk":
-                    case "free":
-                    case "closer":
+                    case TALK:
+                    case FREE:
+                    case CLOSER:
                         this.repeatActiveMenu = false;
                         mainScript.runSection(activeOutcome + "Basement");
                         break;
 
-                    case "taunt":
-                    case "space":
-                    case "pacifism":
+                    case TAUNT:
+                    case SPACE:
+                    case PACIFISM:
                         this.repeatActiveMenu = false;
                         mainScript.runSection("commonBasement");
                         break;
 
-                    case "cSlayPrincess":
-                    case "slay":
+                    case CSLAYPRINCESS:
+                    case SLAY:
                         mainScript.runSection("basementSlay");
                         return ChapterEnding.FAILEDFIGHT;
 
-                    case "cGoStairs":
+                    case CGOSTAIRS:
                         mainScript.runSection("basementLeaveAttempt");
                         break;
 
@@ -1076,19 +1008,17 @@ public class ChapterIII extends StandardCycle {
         this.princessViolent = true;
         mainScript.runSection("basementLoose");
 
-        if (!this.hasBlade) {
+        if (!this.hasBlade()) {
             this.withBlade = true;
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "take", "[Take the blade.]"));
-            activeMenu.add(new Option(this.manager, "leave", "[It's too late. Run for the door.]"));
+            this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedle7").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "cTakeBlade":
-                    case "take":
-                        this.hasBlade = true;
+                    case CTAKEBLADE:
+                    case TAKE:
+                        this.flags.set(ChapterFlag.HASBLADE);
                         mainScript.runSection(this.ch3Voice + "ChaseTake");
 
                         switch (ch3Voice) {
@@ -1096,8 +1026,8 @@ public class ChapterIII extends StandardCycle {
                             default: return ChapterEnding.FAILEDFLEE;
                         }
 
-                    case "cGoHill":
-                    case "leave":
+                    case CGOHILL:
+                    case LEAVE:
                         if (this.ch3Voice == Voice.HUNTED) {
                             mainScript.runSection("huntedChaseLeave");
                             return ChapterEnding.FAILEDFLEE;
@@ -1106,7 +1036,7 @@ public class ChapterIII extends StandardCycle {
                         this.repeatActiveMenu = false;
                         break;
 
-                    case "cGoStairs":
+                    case CGOSTAIRS:
                         mainScript.runSection("chaseTurnAround");
                         break;
 
@@ -1120,23 +1050,21 @@ public class ChapterIII extends StandardCycle {
         if (this.ch3Voice == Voice.SKEPTIC) {
             mainScript.runSection("skepticChaseLeave");
 
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "free", "[Free her.]"));
-            activeMenu.add(new Option(this.manager, "die", "[Die.]"));
+            this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedle8").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "cGoHill":
-                    case "free":
+                    case CGOHILL:
+                    case FREE:
                         this.eyeOfNeedleFree();
                         return ChapterEnding.BLINDLEADINGBLIND;
 
-                    case "die":
+                    case DIE:
                         mainScript.runSection("choiceDie");
                         return ChapterEnding.FAILEDFLEE;
 
-                    case "cGoStairs":
+                    case CGOSTAIRS:
                         mainScript.runSection("chaseTurnAround");
                         break;
 
@@ -1159,23 +1087,20 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection("combatStart");
 
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "trap", "(Explore) \"You've fallen right into my trap.\""));
-        activeMenu.add(new Option(this.manager, "free", "\"Are you sure you want to do this? You're free now, and out here I have the upper hand. But we don't have to fight.\""));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedleCombat").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
-            if (activeOutcome.equals("cSlayPrincess")) this.activeOutcome = "slay";
+            if (activeOutcome == Outcome.CSLAYPRINCESS) this.activeOutcome = Outcome.SLAY;
 
             switch (activeOutcome) {
-                case "free":
+                case FREE:
                     mainScript.runSection("freeCombat");
                     return ChapterEnding.BLINDLEADINGBLIND;
 
-                case "trap":
-                case "slay":
+                case TRAP:
+                case SLAY:
                     mainScript.runSection(activeOutcome + "Combat");
                     return ChapterEnding.WIDEOPENFIELD;
 
@@ -1193,16 +1118,11 @@ public class ChapterIII extends StandardCycle {
         this.princessViolent = false;
         mainScript.runSection("freeStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "freeA", "\"It's freedom.\""));
-        activeMenu.add(new Option(this.manager, "freeB", "\"Don't you get it? Everything you've known down there has been a lie. Whatever we find out here is the truth. It's the only way for us to be free.\""));
-        activeMenu.add(new Option(this.manager, "otherA", "\"I don't know. But I was hoping we could find out together.\""));
-        activeMenu.add(new Option(this.manager, "otherB", "\"What do you mean, 'this doesn't feel right?'\""));
-        activeMenu.add(new Option(this.manager, "otherC", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "eyeOfNeedleFree").instantiate(this.manager);
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "freeA":
-            case "freeB":
+            case FREEA:
+            case FREEB:
                 mainScript.runSection("freeFreeComment");
                 break;
 
@@ -1265,37 +1185,32 @@ public class ChapterIII extends StandardCycle {
             mainScript.runSection("advyStart");
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "pulled", "(Explore) It feels like I'm being pulled in a hundred different directions. You'd better all listen to me when the time comes to make a choice."));
-        activeMenu.add(new Option(this.manager, "noReturn", "(Explore) If we hit this \"point of no return\" you mentioned... then what happens?"));
-        activeMenu.add(new Option(this.manager, "proceedA", "No matter what happens next, it seems like all our answers are in the cabin. Let's see this through. [Proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "proceedB", "[Silently proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "abort", this.cantTryAbort, "I'm done with this. Bye! [Turn around and leave.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "fury").instantiate(this.manager, Map.of("cantTryAbort", this.cantTryAbort));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "pulled":
+                case PULLED:
                     mainScript.runSection(voiceCombo + "PulledWoods");
                     break;
 
-                case "noReturn":
+                case NORETURN:
                     mainScript.runSection("noReturnWoods");
                     break;
 
-                case "cGoHill":
-                case "proceedA":
-                case "proceedB":
+                case CGOHILL:
+                case PROCEEDA:
+                case PROCEEDB:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (cantTryAbort.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "abort":
+                case ABORT:
                     if (!this.canAbort) {
                         cantTryAbort.set();
                         parser.printDialogueLine(CANTSTRAY);
@@ -1314,15 +1229,14 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         mainScript.runSection("hillDialogue");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "fury2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
                 
@@ -1339,58 +1253,48 @@ public class ChapterIII extends StandardCycle {
 
         Condition currentMirrorComment = new Condition();
         InverseCondition noCurrentMirrorComment = currentMirrorComment.getInverse();
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "mirrorA", "(Explore) It's that mirror again. And this time it's blocking the door.", this.mirrorComment, noCurrentMirrorComment));
-        activeMenu.add(new Option(this.manager, "mirrorB", "(Explore) You didn't mention the mirror last time either. Why?", this.mirrorComment, noCurrentMirrorComment));
-        activeMenu.add(new Option(this.manager, "mirrorC", "(Explore) How are we supposed to get to the basement? There's no door. There's just a mirror where the door used to be.", !this.mirrorComment, noCurrentMirrorComment));
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "fury3").instantiate(this.manager, Map.of("mirrorComment", AbstractCondition.of(this.mirrorComment()), "noCurrentMirrorComment", noCurrentMirrorComment));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirrorA":
-                case "mirrorB":
-                case "mirrorC":
+                case MIRRORA:
+                case MIRRORB:
+                case MIRRORC:
                     currentMirrorComment.set();
                     mainScript.runSection("mirrorAsk");
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
+                case TAKE:
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
 
                     if (this.hasVoice(Voice.CONTRARIAN)) {
-                        this.threwBlade = true;
-                        this.subMenu = new OptionsMenu(true);
-                        subMenu.add(new Option(this.manager, "no", "No. We absolutely did not throw the blade out the window."));
-                        subMenu.add(new Option(this.manager, "decisions", "Hey, I thought I was the one who made the decisions around here."));
-                        subMenu.add(new Option(this.manager, "override", "So, what, you can all just override me now?"));
-                        subMenu.add(new Option(this.manager, "hellYeah", "Hell yeah, that kicked ass. Love when my tenants throw things out of windows when I'm not paying attention."));
-                        subMenu.add(new Option(this.manager, "silent", "[Let it go.]"));
+                        this.flags.set(ChapterFlag.THREWBLADE);
+                        this.subMenu = MenuTemplate.get("ChapterIII", "fury4").instantiate(this.manager);
 
                         this.activeOutcome = parser.promptOptionsMenu(subMenu);
                         switch (activeOutcome) {
-                            case "no":
-                            case "decisions":
-                            case "override":
+                            case NO:
+                            case DECISIONS:
+                            case OVERRIDE:
                                 mainScript.runSection(activeOutcome + "Throw");
                                 break;
 
                             default: mainScript.runSection("throwJoin");
                         }
                     } else {
-                        this.hasBlade = true;
+                        this.flags.set(ChapterFlag.HASBLADE);
                     }
 
                     break;
 
-                case "cGoStairs":
-                case "cApproachMirror":
-                case "approach":
+                case CGOSTAIRS:
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1402,27 +1306,25 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.MIRROR;
         mainScript.runConditionalSection("approachMirror", currentMirrorComment);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "wipe", "[Wipe the mirror clean.]"));
-        activeMenu.add(new Option(this.manager, "smash", "[Smash it.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "fury5").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cWipe":
-                case "wipe":
+                case CWIPE:
+                case WIPE:
                     this.repeatActiveMenu = false;
                     mainScript.runConditionalSection("wipeMirror", foughtUnarmed, voiceCombo);
                     break;
 
-                case "cSmash":
-                case "smash":
+                case CSMASH:
+                case SMASH:
                     this.repeatActiveMenu = false;
                     mainScript.runConditionalSection("smashMirror", foughtUnarmed, voiceCombo);
                     break;
 
-                case "cApproachAtMirrorFail":
+                case CAPPROACHATMIRRORFAIL:
                     this.giveDefaultFailResponse(activeOutcome);
                     break;
 
@@ -1434,16 +1336,15 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.STAIRS;
         this.withBlade = false;
         this.mirrorPresent = false;
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "cont", "[Continue down the stairs.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "fury6").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoBasement":
-                case "cont":
+                case CGOBASEMENT:
+                case CONT:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1458,16 +1359,16 @@ public class ChapterIII extends StandardCycle {
         mainScript.runConditionalSection("basementStart", voiceCombo);
 
         this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "taunt", "\"Given up on destroying the world, have we?\"", source.equals("tower") && this.knowsDestiny));
+        activeMenu.add(new Option(this.manager, "taunt", "\"Given up on destroying the world, have we?\"", source.equals("tower") && this.knowsDestiny()));
         activeMenu.add(new Option(this.manager, "happened", "\"What happened to you?\""));
         activeMenu.add(new Option(this.manager, "wait", "\"Wait! We don't have to do this!\""));
         activeMenu.add(new Option(this.manager, "sorry", "\"I'm sorry, okay? I'm sorry for what I did to you!\""));
         activeMenu.add(new Option(this.manager, "listen", "\"Please just listen to me!\""));
         activeMenu.add(new Option(this.manager, "round3A", "\"This isn't over until I say it's over. I'm taking you out.\" [Round three.]", source.equals("unarmed")));
-        activeMenu.add(new Option(this.manager, "slayA", "\"I'm going to end you.\" [Slay the Princess.]", this.hasBlade && !source.equals("pacifism")));
-        activeMenu.add(new Option(this.manager, "slayB", "[Slay the Princess.]", this.hasBlade && !source.equals("pacifism")));
+        activeMenu.add(new Option(this.manager, "slayA", "\"I'm going to end you.\" [Slay the Princess.]", this.hasBlade() && !source.equals("pacifism")));
+        activeMenu.add(new Option(this.manager, "slayB", "[Slay the Princess.]", this.hasBlade() && !source.equals("pacifism")));
         activeMenu.add(new Option(this.manager, "round3B", "[Round three.]", source.equals("unarmed")));
-        activeMenu.add(new Option(this.manager, "back", "[Fight back.]", (!this.hasBlade && !source.equals("unarmed") || (this.hasBlade && source.equals("pacifism")))));
+        activeMenu.add(new Option(this.manager, "back", "[Fight back.]", (!this.hasBlade() && !source.equals("unarmed") || (this.hasBlade() && source.equals("pacifism")))));
         activeMenu.add(new Option(this.manager, "let", "[Let her end you.]"));
 
         boolean earlyApology = false;
@@ -1476,47 +1377,47 @@ public class ChapterIII extends StandardCycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             // Redirect slay command to the appropriate options
-            if (activeOutcome.equals("cSlayPrincess")) {
+            if (activeOutcome == Outcome.CSLAYPRINCESS) {
                 if (source.equals("pacifism")) {
-                    this.activeOutcome = "back";
+                    this.activeOutcome = Outcome.BACK;
                 } else {
-                    this.activeOutcome = "slayB";
+                    this.activeOutcome = Outcome.SLAYB;
                 }
-            } else if (activeOutcome.equals("cSlayPrincessNoBladeFail")) {
+            } else if (activeOutcome == Outcome.CSLAYPRINCESSNOBLADEFAIL) {
                 if (source.equals("unarmed")) {
-                    this.activeOutcome = "round3B";
+                    this.activeOutcome = Outcome.ROUND3B;
                 } else {
-                    this.activeOutcome = "back";
+                    this.activeOutcome = Outcome.BACK;
                 }
             }
 
             switch (activeOutcome) {
-                case "sorry":
+                case SORRY:
                     earlyApology = true;
-                case "taunt":
-                case "happened":
-                case "wait":
-                case "listen":
+                case TAUNT:
+                case HAPPENED:
+                case WAIT:
+                case LISTEN:
                     this.repeatActiveMenu = false;
                     mainScript.runSection(activeOutcome + "Basement");
                     break;
 
-                case "round3A":
-                case "slayA":
+                case ROUND3A:
+                case SLAYA:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("chargeTalkBasement");
                     break;
 
-                case "round3B":
-                case "slayB":
+                case ROUND3B:
+                case SLAYB:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("chargeBasement");
                     break;
 
-                case "back":
+                case BACK:
                     this.repeatActiveMenu = false;
 
-                    if (this.hasBlade) {
+                    if (this.hasBlade()) {
                         mainScript.runSection("noFightBasement");
                     } else {
                         mainScript.runSection("fightBackBasement");
@@ -1524,10 +1425,10 @@ public class ChapterIII extends StandardCycle {
                     
                     break;
 
-                case "let":
+                case LET:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("letEndBasement");
-                    this.hasBlade = false;
+                    this.flags.set(ChapterFlag.HASBLADE, false);
                     break;
 
                 default: this.giveDefaultFailResponse();
@@ -1536,12 +1437,12 @@ public class ChapterIII extends StandardCycle {
 
         // You are unwound
         this.princessViolent = true;
-        if (!source.equals("tower")) this.hasBlade = false;
+        if (!source.equals("tower")) this.flags.set(ChapterFlag.HASBLADE, false);
         mainScript.runConditionalSection("unwoundStart", voiceCombo);
 
         switch (voiceCombo) {
             case "tower":
-                if (this.hasBlade) {
+                if (this.hasBlade()) {
                     return this.furyTower(earlyApology);
                 } else {
                     return this.furyUnwinding();
@@ -1551,18 +1452,12 @@ public class ChapterIII extends StandardCycle {
         }
         
         // With the Voice of the Cold or Broken (from the Adversary)
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "talkA", "\"And what am I supposed to see?\""));
-        activeMenu.add(new Option(this.manager, "talkB", "\"You're a monster.\""));
-        activeMenu.add(new Option(this.manager, "talkC", "\"Please, just talk to me! Can we not use words to settle our differences? We're both here for a reason. It's more important for us to figure that out than to fight.\""));
-        activeMenu.add(new Option(this.manager, "talkD", "\"You won't win.\""));
-        activeMenu.add(new Option(this.manager, "die", "[Attempt to die.]"));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "fury7").instantiate(this.manager);
 
         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
         switch (activeOutcome) {
-            case "die":
-            case "silent":
+            case DIE:
+            case SILENT:
                 mainScript.runSection(activeOutcome + "ColdBroken");
                 break;
 
@@ -1577,31 +1472,25 @@ public class ChapterIII extends StandardCycle {
      * @return the ending reached by the player
      */
     private ChapterEnding furyContra() {
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "talkA", "(Explore) \"Numb?! You ripped your own skin off!\""));
-        activeMenu.add(new Option(this.manager, "talkB", "(Explore) \"If you want a challenge, how about you play fair?\""));
-        activeMenu.add(new Option(this.manager, "talkC", "(Explore) \"Do you think this is enough to stop me?\""));
-        activeMenu.add(new Option(this.manager, "talkD", "(Explore) \"What happened to you? You're so much colder than you were before.\""));
-        activeMenu.add(new Option(this.manager, "giveUp", "[Give up.]"));
-        activeMenu.add(new Option(this.manager, "push", "[Ignore her and push forward.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyContra").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, true)) {
-                case "cSlayPrincessNoBladeFail":
-                case "cProceed":
-                case "push":
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case CPROCEED:
+                case PUSH:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "talkA":
-                case "talkB":
-                case "talkC":
-                case "talkD":
+                case TALKA:
+                case TALKB:
+                case TALKC:
+                case TALKD:
                     mainScript.runSection("talkAttemptGeneric");
                     return this.furyUnwinding();
 
-                case "giveUp":
+                case GIVEUP:
                     mainScript.runSection("contraGiveUp1");
                     return this.furyUnwinding();
 
@@ -1612,22 +1501,19 @@ public class ChapterIII extends StandardCycle {
         // Ignore her and push forward
         mainScript.runSection("contraPush1");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) Guys, I'm not sure we've got this one."));
-        activeMenu.add(new Option(this.manager, "giveUp", "[Give up.]"));
-        activeMenu.add(new Option(this.manager, "push", "[Take another step.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyContra2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, true)) {
-                case "cSlayPrincessNoBladeFail":
-                case "cProceed":
-                case "push":
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case CPROCEED:
+                case PUSH:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "explore":
-                case "giveUp":
+                case EXPLORE:
+                case GIVEUP:
                     mainScript.runSection("contraGiveUp2");
                     return this.furyUnwinding();
 
@@ -1638,22 +1524,19 @@ public class ChapterIII extends StandardCycle {
         // Take another step
         mainScript.runSection("contraPush2");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) \"Mr. Anatomy\" has a point. How *can* we move without any muscle?"));
-        activeMenu.add(new Option(this.manager, "giveUp", "[You don't have any muscle. Give up.]"));
-        activeMenu.add(new Option(this.manager, "push", "[Take another step.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyContra3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, true)) {
-                case "cSlayPrincessNoBladeFail":
-                case "cProceed":
-                case "push":
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case CPROCEED:
+                case PUSH:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "explore":
-                case "giveUp":
+                case EXPLORE:
+                case GIVEUP:
                     mainScript.runSection("contraGiveUp3");
                     return this.furyUnwinding();
 
@@ -1664,25 +1547,22 @@ public class ChapterIII extends StandardCycle {
         // Take another step
         mainScript.runSection("contraPush3");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) This is too much. It isn't going to work. Wouldn't it be better to just start over and try again?"));
-        activeMenu.add(new Option(this.manager, "giveUp", "[You've done enough. It's time to die.]"));
-        activeMenu.add(new Option(this.manager, "heart", "[Reach for her heart.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyContra4").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, true)) {
-                case "cSlayPrincessNoBladeFail":
-                case "cProceed":
-                case "heart":
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case CPROCEED:
+                case HEART:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("contraGiveUp3");
                     return this.furyUnwinding();
 
-                case "giveUp":
+                case GIVEUP:
                     mainScript.runSection("contraGiveUp4");
                     return this.furyUnwinding();
 
@@ -1694,14 +1574,13 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection("contraHeart");
         this.removeVoice(Voice.NARRATOR);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyContra5").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincessNoBladeFail":
-                case "slay":
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1720,37 +1599,31 @@ public class ChapterIII extends StandardCycle {
      * @return the ending reached by the player
      */
     private ChapterEnding furyTower(boolean earlyApology) {
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "insides", "(Explore) \"You damned cheater! Give me my insides back!\""));
-        activeMenu.add(new Option(this.manager, "threat", "(Explore) \"I killed you last time, I swear on everything that I'm going to find a way to kill you again!\""));
-        activeMenu.add(new Option(this.manager, "talkA", "(Explore) \"I only killed you last time because you were going to end the world! We can talk ourselves back from this ledge.\""));
-        activeMenu.add(new Option(this.manager, "talkB", "(Explore) \"I'm sorry for what I did to you, but you did horrible things to me, too.\""));
-        activeMenu.add(new Option(this.manager, "talkC", "(Explore) \"Where is all of this supposed to end? We can't just keep killing each other forever.\""));
-        activeMenu.add(new Option(this.manager, "engage", "[This is no time for words. Step forward and engage your enemy.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyTower").instantiate(this.manager);
 
-        String firstTalkAttempt = "";
+        Outcome firstTalkAttempt = null;
         int submitCount = 0;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "insides":
-                case "threat":
+                case INSIDES:
+                case THREAT:
                     this.repeatActiveMenu = false;
                     firstTalkAttempt = this.activeOutcome;
                     mainScript.runSection("towerTalkFail");
                     break;
 
-                case "talkA":
-                case "talkB":
+                case TALKA:
+                case TALKB:
                     submitCount += 1;
-                case "talkC":
+                case TALKC:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("towerTalkFail");
                     break;
 
-                case "cSlayPrincess":
-                case "engage":
+                case CSLAYPRINCESS:
+                case ENGAGE:
                     return this.furyQuantum(false);
 
                 default: this.giveDefaultFailResponse();
@@ -1760,8 +1633,8 @@ public class ChapterIII extends StandardCycle {
         // Attempt to talk
         this.activeMenu = new OptionsMenu();
         activeMenu.add(new Option(this.manager, "sorry", "(Explore) \"I'm sorry, okay? I'm sorry for what I did!\""));
-        activeMenu.add(new Option(this.manager, "insides", "(Explore) \"I said, give me my insides back! ... Please?\"", firstTalkAttempt.equals("insides")));
-        activeMenu.add(new Option(this.manager, "threat", "(Explore) \"I said, I'm going to kill you!\"", firstTalkAttempt.equals("threat")));
+        activeMenu.add(new Option(this.manager, "insides", "(Explore) \"I said, give me my insides back! ... Please?\"", firstTalkAttempt == Outcome.INSIDES));
+        activeMenu.add(new Option(this.manager, "threat", "(Explore) \"I said, I'm going to kill you!\"", firstTalkAttempt == Outcome.THREAT));
         activeMenu.add(new Option(this.manager, "stop", "(Explore) \"We have to stop hurting each other!\""));
         activeMenu.add(new Option(this.manager, "endGame", "(Explore) \"What's your end game here? Are we supposed to keep torturing each other forever?\""));
         activeMenu.add(new Option(this.manager, "engage", "[This is no time for words. Step forward and engage your enemy.]"));
@@ -1770,30 +1643,30 @@ public class ChapterIII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "sorry":
-                case "stop":
+                case SORRY:
+                case STOP:
                     this.repeatActiveMenu = false;
                     submitCount += 2;
                     mainScript.runConditionalSection(activeOutcome + "Tower", earlyApology);
                     break;
 
-                case "insides":
+                case INSIDES:
                     this.repeatActiveMenu = false;
                     submitCount += 1;
                     mainScript.runSection("insidesTower");
                     break;
 
-                case "endGame":
+                case ENDGAME:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("endGameTower");
                     break;
 
-                case "threat":
+                case THREAT:
                     mainScript.runSection("threatTower");
                     return this.furyQuantum(true);
 
-                case "cSlayPrincess":
-                case "engage":
+                case CSLAYPRINCESS:
+                case ENGAGE:
                     return this.furyQuantum(false);
 
                 default: this.giveDefaultFailResponse();
@@ -1809,12 +1682,12 @@ public class ChapterIII extends StandardCycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "submit":
+                case SUBMIT:
                     mainScript.runSection("submitTower");
                     return this.furyUnwinding();
 
-                case "cSlayPrincess":
-                case "fight":
+                case CSLAYPRINCESS:
+                case FIGHT:
                     return this.furyQuantum(false);
 
                 default: this.giveDefaultFailResponse();
@@ -1835,24 +1708,20 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection("quantumStartJoin");
 
         Condition noEncouragement = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "lose", "(Explore) How are we supposed to lose this one?", noEncouragement));
-        activeMenu.add(new Option(this.manager, "cant", "(Explore) I can't do anything right now. She's not letting me.", noEncouragement));
-        activeMenu.add(new Option(this.manager, "worse", "(Explore) She's going to get worse. She gets worse every time we get to a new cabin."));
-        activeMenu.add(new Option(this.manager, "die", "[Shed this vessel for the next.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyQuantum").instantiate(this.manager, Map.of("noEncouragement", noEncouragement));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "lose":
-                case "cant":
+                case LOSE:
+                case CANT:
                     noEncouragement.set(false);
-                case "worse":
+                case WORSE:
                     mainScript.runSection(activeOutcome + "QuantumStart");
                     break;
 
-                case "die":
+                case DIE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1865,26 +1734,22 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection("quantumSequence1");
         
         int deathNum = 1;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "die2", "[Die again.]"));
-        activeMenu.add(new Option(this.manager, "die3", "[And again.]", activeMenu.get("die2")));
-        activeMenu.add(new Option(this.manager, "die4", "[AGAIN!]", activeMenu.get("die3")));
-        activeMenu.add(new Option(this.manager, "end", "[End this.]", activeMenu.get("die4")));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyQuantum2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "die4":
+                case DIE4:
                     this.canSlayPrincess = true;
                     this.addVoice(Voice.COLD);
-                case "die2":
-                case "die3":
+                case DIE2:
+                case DIE3:
                     deathNum += 1;
                     mainScript.runSection("quantumSequence" + deathNum);
                     break;
                 
-                case "cSlayPrincess":
-                case "end":
+                case CSLAYPRINCESS:
+                case END:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -1913,14 +1778,7 @@ public class ChapterIII extends StandardCycle {
 
         if (!this.hasAnyVoice(Voice.COLD, Voice.BROKEN)) {
             // Fail to survive the unwinding
-            this.activeMenu = new OptionsMenu(true);
-            activeMenu.add(new Option(this.manager, "fakeA", true, "\"Why did you keep me alive?\""));
-            activeMenu.add(new Option(this.manager, "fakeB", true, "\"I've been here so long.\""));
-            activeMenu.add(new Option(this.manager, "fakeC", true, "\"Everyone is gone.\""));
-            activeMenu.add(new Option(this.manager, "fakeD", true, "\"There's no one else here.\""));
-            activeMenu.add(new Option(this.manager, "fakeE", true, "\"I can't feel anything anymore.\""));
-            activeMenu.add(new Option(this.manager, "fakeF", true, "\"But still, I'm here. Watching.\""));
-            activeMenu.add(new Option(this.manager, "silent", "[There is nothing for you to say.]"));
+            this.activeMenu = MenuTemplate.get("ChapterIII", "furyUnwinding").instantiate(this.manager);
             parser.promptOptionsMenu(activeMenu, "There is nothing for you to say.");
 
             mainScript.runSection();
@@ -1934,49 +1792,34 @@ public class ChapterIII extends StandardCycle {
         
         this.princessViolent = false;
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "here", "(Explore) \"I'm not gone. I'm right here.\"", noExplore));
-        activeMenu.add(new Option(this.manager, "care", "(Explore) \"I never stopped caring about you. But you have to let go of all of that pain.\"", noExplore, niceMenuNotSeen));
-        activeMenu.add(new Option(this.manager, "more", "(Explore) \"There's more to life than violence and pain. We can be more than that, if you want.\"", niceMenuNotSeen));
-        activeMenu.add(new Option(this.manager, "noFight", "(Explore) \"I didn't like fighting you when we first met. I still don't want to do that.\"", niceMenuNotSeen));
-        activeMenu.add(new Option(this.manager, "goal", "(Explore) \"What were you hoping to accomplish with all of that?\""));
-        activeMenu.add(new Option(this.manager, "off", "(Explore) \"You seem so... off. It's like you're a completely different person than you were when you started pulling me apart.\""));
-        activeMenu.add(new Option(this.manager, "awful", "(Explore) \"That was awful. I hated every second of it.\"", noExplore));
-        activeMenu.add(new Option(this.manager, "all", "(Explore) \"So that's all you've got, huh?\"", noExplore));
-        activeMenu.add(new Option(this.manager, "offer", "\"I'm going to leave now. I was hoping you'd come with me.\""));
-        activeMenu.add(new Option(this.manager, "leaveTell", "\"I'm going to leave now.\""));
-        activeMenu.add(new Option(this.manager, "leaveSilent", "[Turn and leave.]"));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]", this.hasBlade));
-
-        OptionsMenu offerMenu = new OptionsMenu(true);
-        offerMenu.add(new Option(this.manager, "hand", "[Give her your hand.]"));
-        offerMenu.add(new Option(this.manager, "no", "\"No. I just wanted to hurt you back.\""));
-        offerMenu.add(new Option(this.manager, "dunno", "\"No. And I don't know why I said that.\""));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "furyUnwinding2").instantiate(this.manager, Map.of(
+            "noExplore", noExplore,
+            "niceMenuNotSeen", niceMenuNotSeen,
+            "hasBlade", AbstractCondition.of(this.hasBlade())));
+
+        OptionsMenu offerMenu = MenuTemplate.get("ChapterIII", "furyUnwinding3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "here":
-                case "awful":
-                case "all":
+                case HERE:
+                case AWFUL:
+                case ALL:
                     noExplore.set(false);
                     mainScript.runSection(activeOutcome + "Survive");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "offer", "\"All I did was stop the violence. You can stop it, too. Just leave with me.\""));
-                    subMenu.add(new Option(this.manager, "open", "\"At some point you have to open your eyes and see the rest of the world. You have to see the world outside of us.\""));
-                    subMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                    this.subMenu = MenuTemplate.get("ChapterIII", "furyUnwinding4").instantiate(this.manager);
                     
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "offer":
+                        case OFFER:
                             mainScript.runSection("offerASurvive");
 
                             this.canOfferHand = true;
                             this.activeOutcome = parser.promptOptionsMenu(offerMenu);
                             switch (activeOutcome) {
-                                case "hand":
-                                case "cGiveHand":
+                                case HAND:
+                                case CGIVEHAND:
                                     mainScript.runSection("togetherEnd");
                                     return ChapterEnding.NEWLEAFWEATHEREDBOOK;
                                 
@@ -1985,34 +1828,30 @@ public class ChapterIII extends StandardCycle {
                                     return ChapterEnding.LEAVEHERBEHIND;
                             }
 
-                        case "open":
+                        case OPEN:
                             mainScript.runSection("openSurvive");
                             break;
                     }
 
                     break;
 
-                case "care":
+                case CARE:
                     noExplore.set(false);
-                case "more":
-                case "nofight":
+                case MORE:
                     niceMenuNotSeen.set(false);
                     mainScript.runSection(activeOutcome + "Survive");
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "offer", "\"You could always leave with me.\""));
-                    subMenu.add(new Option(this.manager, "you", "\"That's up to you.\""));
-                    subMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                    this.subMenu = MenuTemplate.get("ChapterIII", "furyUnwinding5").instantiate(this.manager);
                     
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "offer":
+                        case OFFER:
                             mainScript.runSection("offerASurvive");
 
                             this.canOfferHand = true;
                             this.activeOutcome = parser.promptOptionsMenu(offerMenu);
                             switch (activeOutcome) {
-                                case "cGiveHand":
-                                case "hand":
+                                case CGIVEHAND:
+                                case HAND:
                                     mainScript.runSection("togetherEnd");
                                     return ChapterEnding.NEWLEAFWEATHEREDBOOK;
                                 
@@ -2021,26 +1860,26 @@ public class ChapterIII extends StandardCycle {
                                     return ChapterEnding.LEAVEHERBEHIND;
                             }
 
-                        case "you":
+                        case YOU:
                             mainScript.runSection("upToYouSurvive");
                             break;
                     }
 
                     break;
 
-                case "goal":
-                case "off":
+                case GOAL:
+                case OFF:
                     mainScript.runSection(activeOutcome + "Survive");
                     break;
 
-                case "offer":
+                case OFFER:
                     mainScript.runSection("offerBSurvive");
 
                     this.canOfferHand = true;
                     this.activeOutcome = parser.promptOptionsMenu(offerMenu);
                     switch (activeOutcome) {
-                        case "cGiveHand":
-                        case "hand":
+                        case CGIVEHAND:
+                        case HAND:
                             mainScript.runSection("togetherEnd");
                             return ChapterEnding.NEWLEAFWEATHEREDBOOK;
                         
@@ -2049,36 +1888,31 @@ public class ChapterIII extends StandardCycle {
                             return ChapterEnding.LEAVEHERBEHIND;
                     }
 
-                case "leaveTell":
+                case LEAVETELL:
                     mainScript.runSection("leaveTellSurvive");
 
-                    this.subMenu = new OptionsMenu();
-                    subMenu.add(new Option(this.manager, "aloneA", "\"Yes.\""));
-                    subMenu.add(new Option(this.manager, "aloneB", "\"If you'll let me.\""));
-                    subMenu.add(new Option(this.manager, "offerB", "\"I was hoping you'd come with me.\""));
-                    subMenu.add(new Option(this.manager, "offerC", "\"That's up to you.\""));
-                    subMenu.add(new Option(this.manager, "silent", "[Turn and leave.]"));
+                    this.subMenu = MenuTemplate.get("ChapterIII", "furyUnwinding6").instantiate(this.manager);
 
                     while (repeatActiveMenu) {
                         this.activeOutcome = parser.promptOptionsMenu(subMenu);
                         switch (activeOutcome) {
-                            case "aloneA":
-                            case "aloneB":
+                            case ALONEA:
+                            case ALONEB:
                                 mainScript.runSection("aloneTellSurvive");
-                            case "cGoStairs":
-                            case "silent":
+                            case CGOSTAIRS:
+                            case SILENT:
                                 mainScript.runSection("abandonEnd");
                                 return ChapterEnding.LEAVEHERBEHIND;
 
-                            case "offerB":
-                            case "offerC":
+                            case OFFERB:
+                            case OFFERC:
                                 mainScript.runSection(activeOutcome + "Survive");
 
                                 this.canOfferHand = true;
                                 this.activeOutcome = parser.promptOptionsMenu(offerMenu);
                                 switch (activeOutcome) {
-                                    case "cGiveHand":
-                                    case "hand":
+                                    case CGIVEHAND:
+                                    case HAND:
                                         mainScript.runSection("togetherEnd");
                                         return ChapterEnding.NEWLEAFWEATHEREDBOOK;
                                     
@@ -2093,14 +1927,14 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "cGoStairs":
-                case "leaveSilent":
+                case CGOSTAIRS:
+                case LEAVESILENT:
                     mainScript.runSection("abandonEnd");
                     return ChapterEnding.LEAVEHERBEHIND;
 
-                case "cTakeHasBladeFail":
-                case "cSlayPrincess":
-                case "slay":
+                case CTAKEHASBLADEFAIL:
+                case CSLAYPRINCESS:
+                case SLAY:
                     mainScript.runSection("slayEnd");
                     return ChapterEnding.HINTOFFEELING;
                 
@@ -2127,33 +1961,28 @@ public class ChapterIII extends StandardCycle {
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) Okay, now hold on. I have SO many questions."));
-        activeMenu.add(new Option(this.manager, "answers", "(Explore) I'm not going to the cabin until I have answers! What am I?"));
-        activeMenu.add(new Option(this.manager, "cabin", "[Head to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "run", "[Run away.]"));
-        activeMenu.add(new Option(this.manager, "stay", "[Stay where you are.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosis").instantiate(this.manager);
 
         boolean runAttempt = false;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("exploreWoods");
                     break;
 
-                case "answers":
-                case "stay":
+                case ANSWERS:
+                case STAY:
                     this.repeatActiveMenu = false;
                     mainScript.runSection(activeOutcome + "Woods");
                     break;
 
-                case "cGoLeave":
-                case "run":
+                case CGOLEAVE:
+                case RUN:
                     runAttempt = true;
-                case "cGoHill":
-                case "cabin":
+                case CGOHILL:
+                case CABIN:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("genericWoods");
                     break;
@@ -2163,14 +1992,13 @@ public class ChapterIII extends StandardCycle {
         }
 
         this.currentLocation = GameLocation.HILL;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "cabin", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosis2").instantiate(this.manager);
         
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoCabin":
-                case "cabin":
+                case CGOCABIN:
+                case CABIN:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2182,43 +2010,38 @@ public class ChapterIII extends StandardCycle {
         this.withBlade = true;
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) Hey, funny one, didn't you say something about a third option earlier? One that would make everyone unhappy?", this.hasVoice(Voice.CONTRARIAN)));
-        activeMenu.add(new Option(this.manager, "fight", "[Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "submit", "[Embrace your new goddess.]"));
-        activeMenu.add(new Option(this.manager, "flee", "[Flee.]", activeMenu.get("explore")));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosis3").instantiate(this.manager, Map.of("hasContrarian", AbstractCondition.of(this.hasVoice(Voice.CONTRARIAN))));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runConditionalSection("contraExplore", runAttempt);
                     break;
 
-                case "cTakeBlade":
-                case "cSlayPrincessNoBladeFail":
-                case "fight":
-                    this.hasBlade = true;
+                case CTAKEBLADE:
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case FIGHT:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     switch (this.ch3Voice) {
                         case CONTRARIAN: return this.apotheosisFightContrarian();
                         default: return this.apotheosisFightParanoid();
                     }
                 
-                case "submit":
+                case SUBMIT:
                     return this.apotheosisSubmit(false);
 
-                case "flee":
+                case FLEE:
                     mainScript.runSection("contraFlee");
 
-                    this.activeMenu = new OptionsMenu();
-                    activeMenu.add(new Option(this.manager, "submit", "[Embrace your new goddess.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosis4").instantiate(this.manager);
 
                     this.repeatActiveMenu = true;
                     while (repeatActiveMenu) {
                         switch (parser.promptOptionsMenu(activeMenu)) {
-                            case "submit":
+                            case SUBMIT:
                                 this.repeatActiveMenu = false;
                                 break;
 
@@ -2243,14 +2066,13 @@ public class ChapterIII extends StandardCycle {
     private ChapterEnding apotheosisFightContrarian() {
         mainScript.runSection("contraFightStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "slay", "[Charge into oblivion.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisFightContrarian").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2258,14 +2080,13 @@ public class ChapterIII extends StandardCycle {
             }
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "slay", "[Carve into her divine heart.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisFightContrarian2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2274,20 +2095,17 @@ public class ChapterIII extends StandardCycle {
         }
 
         this.canThrowBlade = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "throw", "[Hurl the blade at her eye.]"));
-        activeMenu.add(new Option(this.manager, "submit", "[Embrace your new goddess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisFightContrarian3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "cThrowBlade":
-                case "throw":
+                case CSLAYPRINCESS:
+                case THROW:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "submit":
+                case SUBMIT:
                     mainScript.runSection("contraLateSubmit");
                     return this.apotheosisSubmit(true);
 
@@ -2307,14 +2125,13 @@ public class ChapterIII extends StandardCycle {
     private ChapterEnding apotheosisFightParanoid() {
         mainScript.runSection("paraFightStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "slay", "[Embrace your destiny.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisFightParanoid").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2324,14 +2141,13 @@ public class ChapterIII extends StandardCycle {
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "slay", "[Assail the unassailable.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisFightParanoid2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2341,14 +2157,13 @@ public class ChapterIII extends StandardCycle {
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "still", "[Still your doubts.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisFightParanoid3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "still":
+                case CSLAYPRINCESS:
+                case STILL:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -2359,20 +2174,18 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection();
 
         boolean push = false;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "dream", "(Explore) Then what do we do? I thought you said that all of this was like a dream. That we could choose how it goes. So why can't we choose to win?"));
-        activeMenu.add(new Option(this.manager, "push", "No! We just have to push harder! We wouldn't be here if there wasn't a way for us to win."));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisFightParanoid4").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "dream":
+                case DREAM:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("paraFightDream");
                     break;
                 
-                case "cSlayPrincess":
-                case "push":
+                case CSLAYPRINCESS:
+                case PUSH:
                     this.repeatActiveMenu = false;
                     push = true;
                     mainScript.runSection("paraFightPush");
@@ -2383,20 +2196,18 @@ public class ChapterIII extends StandardCycle {
         }
 
         this.removeVoice(Voice.NARRATOR);
-        this.hasBlade = false;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "fight", "[Fight back.]"));
-        activeMenu.add(new Option(this.manager, "submit", "[Submit.]"));
+        this.flags.set(ChapterFlag.HASBLADE, false);
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisFightParanoid5").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "fight":
+                case CSLAYPRINCESS:
+                case FIGHT:
                     this.repeatActiveMenu = false;
                     break;
                 
-                case "submit":
+                case SUBMIT:
                     mainScript.runSection("paraLateSubmit");
                     return ChapterEnding.GRACE;
 
@@ -2424,24 +2235,19 @@ public class ChapterIII extends StandardCycle {
 
         this.removeVoice(Voice.NARRATOR);
         activeMenu.add(new Option(this.manager, "scream", "[Scream in unintelligible agony.]"));
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "stop", "\"YOU HAVE TO STOP THIS, I CAN'T TAKE IT!\""));
-        activeMenu.add(new Option(this.manager, "hurting", "\"YOU'RE HURTING ME!\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Suffer in silence.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisSubmit").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu);
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "tendrils", "[Make her suffer with you.]"));
-        activeMenu.add(new Option(this.manager, "alone", "[Suffer in the darkness alone.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "apotheosisSubmit2").instantiate(this.manager);
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "tendrils":
+            case TENDRILS:
                 mainScript.runSection();
                 return ChapterEnding.WINDOWTOUNKNOWN;
 
-            case "alone":
+            case ALONE:
                 mainScript.runSection("aloneEnd");
                 return ChapterEnding.GRACE;
         }
@@ -2456,56 +2262,56 @@ public class ChapterIII extends StandardCycle {
      * Prints a generic response to a command failing or being unavailable from the Princess during the Princess and the Dragon
      * @param outcome the String representation of the outcome of the attempted command
      */
-    protected void giveDefaultFailResponsePrincess(String outcome) {
+    protected void giveDefaultFailResponsePrincess(Outcome outcome) {
         switch (outcome) {
-            case "cMeta":
+            case CMETA:
                 break;
 
 
-            case "cGoFail":
-            case "cGoLeave":
-            case "cGoPath":
-            case "cGoHill":
-            case "cGoCabin":
-            case "cGoBasement":
-            case "cGoLeft":
-            case "cGoRight":
-            case "cProceed":
+            case CGOFAIL:
+            case CGOLEAVE:
+            case CGOPATH:
+            case CGOHILL:
+            case CGOCABIN:
+            case CGOBASEMENT:
+            case CGOLEFT:
+            case CGORIGHT:
+            case CPROCEED:
                 mainScript.runMoodSection("defaultResponseGo");
                 break;
                 
-            case "cGoStairs":
+            case CGOSTAIRS:
                 dragonStartNoLeaveAsk.set(false);
                 mainScript.runMoodSection("defaultResponseLeave");
                 break;
 
 
-            case "cApproachAtMirrorFail":
-            case "cApproachMirrorFail":
-            case "cApproachMirror":
-            case "cWipeFail":
-            case "cWipe":
-            case "cSmashNoStubbornFail":
-            case "cSmashFail":
-            case "cSmash":
-            case "cGazeNoMirrorFail":
-            case "cGazeFail":
-            case "cGaze":
+            case CAPPROACHATMIRRORFAIL:
+            case CAPPROACHMIRRORFAIL:
+            case CAPPROACHMIRROR:
+            case CWIPEFAIL:
+            case CWIPE:
+            case CSMASHNOSTUBBORNFAIL:
+            case CSMASHFAIL:
+            case CSMASH:
+            case CGAZENOMIRRORFAIL:
+            case CGAZEFAIL:
+            case CGAZE:
                 mainScript.runMoodSection("defaultResponseMirror");
                 break;
 
 
-            case "cSlayPrincessDeadFail":
-            case "cSlayNoPrincessFail":
-            case "cSlayPrincessNoBladeFail":
-            case "cSlayPrincessFail":
-            case "cSlayPrincess":
+            case CSLAYPRINCESSDEADFAIL:
+            case CSLAYNOPRINCESSFAIL:
+            case CSLAYPRINCESSNOBLADEFAIL:
+            case CSLAYPRINCESSFAIL:
+            case CSLAYPRINCESS:
                 mainScript.runMoodSection("defaultResponseSlayPrincess");
                 break;
 
-            case "cSlaySelfNoBladeFail":
-            case "cSlaySelfFail":
-            case "cSlaySelf":
+            case CSLAYSELFNOBLADEFAIL:
+            case CSLAYSELFFAIL:
+            case CSLAYSELF:
                 if (this.dragonBodyDownstairs) {
                     mainScript.runMoodSection("defaultResponseSlaySelfWithDragon");
                 } else {
@@ -2515,9 +2321,9 @@ public class ChapterIII extends StandardCycle {
                 break;
 
 
-            case "cTakeHasBladeFail":
-            case "cTakeBladeFail":
-            case "cTakeBlade":
+            case CTAKEHASBLADEFAIL:
+            case CTAKEBLADEFAIL:
+            case CTAKEBLADE:
                 if (this.dragonBodyDownstairs) {
                     mainScript.runMoodSection("defaultResponseTakeWithDragon");
                 } else {
@@ -2526,9 +2332,9 @@ public class ChapterIII extends StandardCycle {
 
                 break;
 
-            case "cDropNoBladeFail":
-            case "cDropFail":
-            case "cDrop":
+            case CDROPNOBLADEFAIL:
+            case CDROPFAIL:
+            case CDROP:
                 if (this.dragonBodyDownstairs) {
                     mainScript.runMoodSection("defaultResponseDrop");
                 } else {
@@ -2536,9 +2342,9 @@ public class ChapterIII extends StandardCycle {
                 }
                 break;
 
-            case "cThrowNoBladeFail":
-            case "cThrowFail":
-            case "cThrow":
+            case CTHROWNOBLADEFAIL:
+            case CTHROWFAIL:
+            case CTHROW:
                 if (this.dragonBodyDownstairs) {
                     mainScript.runMoodSection("defaultResponseThrow");
                 } else {
@@ -2547,25 +2353,25 @@ public class ChapterIII extends StandardCycle {
                 break;
 
 
-            case "cTakeHandDeadFail":
-            case "cTakeHandNoPrincessFail":
-            case "cTakeHandFail":
-            case "cTakeHand":
-            case "cGiveHandDeadFail":
-            case "cGiveHandNoPrincessFail":
-            case "cGiveHandFail":
-            case "cGiveHand":
+            case CTAKEHANDDEADFAIL:
+            case CTAKEHANDNOPRINCESSFAIL:
+            case CTAKEHANDFAIL:
+            case CTAKEHAND:
+            case CGIVEHANDDEADFAIL:
+            case CGIVEHANDNOPRINCESSFAIL:
+            case CGIVEHANDFAIL:
+            case CGIVEHAND:
                 mainScript.runMoodSection("defaultResponseHand");
                 break;
 
 
-            case "cEnterFail":
-            case "cLeaveFail":
-            case "cApproachHerFail":
-            case "cApproachHer":
-            case "cGiveNoBladeFail":
-            case "cGiveBladeFail":
-            case "cGiveBlade":
+            case CENTERFAIL:
+            case CLEAVEFAIL:
+            case CAPPROACHHERFAIL:
+            case CAPPROACHHER:
+            case CGIVENOBLADEFAIL:
+            case CGIVEBLADEFAIL:
+            case CGIVEBLADE:
                 mainScript.runMoodSection("defaultResponseNoSense");
                 break;
 
@@ -2586,26 +2392,15 @@ public class ChapterIII extends StandardCycle {
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "me", "Is that me?! Is that what I look like?"));
-        activeMenu.add(new Option(this.manager, "want", "This isn't what I wanted to do."));
-        activeMenu.add(new Option(this.manager, "mean", "Did you mean to take me with you?"));
-        activeMenu.add(new Option(this.manager, "hear", "Can anyone hear me?"));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragon").instantiate(this.manager);
 
         mainScript.runMoodSection(parser.promptOptionsMenu(activeMenu) + "PreMenu");
 
         boolean earlyApology = false;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "body", "But what about the body? What about... me?"));
-        activeMenu.add(new Option(this.manager, "agree", "Agreed. Let's go."));
-        activeMenu.add(new Option(this.manager, "world", "If you leave the cabin, the world ends. I'm not going to be party to the end of everything!"));
-        activeMenu.add(new Option(this.manager, "here", "Hell no! We're staying right here until we figure this out."));
-        activeMenu.add(new Option(this.manager, "sorry", "Sorry I stabbed us."));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragon2").instantiate(this.manager);
 
         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
-        if (activeOutcome.equals("sorry")) earlyApology = true;
+        if (activeOutcome == Outcome.SORRY) earlyApology = true;
         mainScript.runMoodSection(this.activeOutcome + "PreMenu2");
 
         // "You" die, and the chapter starts
@@ -2646,9 +2441,9 @@ public class ChapterIII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "supposed":
+                case SUPPOSED:
                     canLoopJoke.set();
-                case "loopJoke":
+                case LOOPJOKE:
                     loopJokeCount.increment();
                     if (loopJokeCount.greaterThan(4)) {
                         manager.unlock("dragonRepeat");
@@ -2659,23 +2454,23 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "here":
-                case "out":
-                case "others":
-                case "silent":
+                case HERE:
+                case OUT:
+                case OTHERS:
+                case SILENT:
                     notFirstChoice.set();
                     mainScript.runSection(activeOutcome + "Start");
                     break;
 
-                case "happenedA":
+                case HAPPENEDA:
                     notFirstChoice.set();
                     mainScript.runSection("startFirstShared");
-                case "happenedB":
+                case HAPPENEDB:
                     whatHappenedAsked.set();
                     mainScript.runSection("happenedStart");
                     break;
 
-                case "mad":
+                case MAD:
                     stillMadAsked = true;
                     
                     if (firstChoice.check()) {
@@ -2686,23 +2481,21 @@ public class ChapterIII extends StandardCycle {
                     mainScript.runSection("madStart");
                     break;
 
-                case "tone":
+                case TONE:
                     activeMenu.setCondition("mad", false);
                     mainScript.runConditionalSection("toneStart", stillMadAsked);
 
-                    this.subMenu = new OptionsMenu(true);
-                    subMenu.add(new Option(this.manager, "push", "I killed you, though. And I tried killing you again."));
-                    subMenu.add(new Option(this.manager, "return", "[Let it go, just like she has.]"));
+                    this.subMenu = MenuTemplate.get("ChapterIII", "princessAndDragon3").instantiate(this.manager);
 
-                    if (parser.promptOptionsMenu(subMenu).equals("push")) mainScript.runSection("tonePushStart");
+                    if (parser.promptOptionsMenu(subMenu) == Outcome.PUSH) mainScript.runSection("tonePushStart");
                     break;
 
-                case "sorry":
+                case SORRY:
                     notFirstChoice.set();
                     mainScript.runSection("sorryStart");
                     break;
 
-                case "ghost":
+                case GHOST:
                     observedHands = true;
 
                     if (firstChoice.check()) {
@@ -2713,7 +2506,7 @@ public class ChapterIII extends StandardCycle {
                     mainScript.runSection("ghostStart");
                     break;
 
-                case "wait":
+                case WAIT:
                     canLoopJoke.set();
                     if (firstChoice.check()) {
                         notFirstChoice.set();
@@ -2725,8 +2518,8 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "titleA":
-                case "titleB":
+                case TITLEA:
+                case TITLEB:
                     this.repeatActiveMenu = false;
                     mainScript.runSection(activeOutcome + "Start");
                     break;
@@ -2741,12 +2534,7 @@ public class ChapterIII extends StandardCycle {
         }
 
         // You mention a title card
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "laugh", "(Explore) No, this is stupid, you're going to laugh at me."));
-        activeMenu.add(new Option(this.manager, "promise", "(Explore) If I'm going to tell you, you have to *promise* you won't laugh at me.", activeMenu.get("laugh"), this.isHarsh));
-        activeMenu.add(new Option(this.manager, "names", "The first one I got said \"Chapter I: The Hero and the Princess,\" and then after we both died, I got \"Chapter II: The Spectre.\""));
-        activeMenu.add(new Option(this.manager, "nevermind", "Nevermind. Forget I said anything."));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragon4").instantiate(this.manager, Map.of("isHarsh", AbstractCondition.of(this.isHarsh())));
 
         boolean noLaughPromise = false;
         boolean sharedTitles = false;
@@ -2754,17 +2542,17 @@ public class ChapterIII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "laugh":
-                    if (!this.isHarsh) noLaughPromise = true;
+                case LAUGH:
+                    if (!this.isHarsh()) noLaughPromise = true;
                     mainScript.runSection("laughTitle");
                     break;
 
-                case "promise":
+                case PROMISE:
                     noLaughPromise = true;
                     mainScript.runSection("promiseTitle");
                     break;
 
-                case "names":
+                case NAMES:
                     this.repeatActiveMenu = false;
                     sharedTitles = true;
                     mainScript.runConditionalSection("namesTitle", noLaughPromise);
@@ -2772,39 +2560,35 @@ public class ChapterIII extends StandardCycle {
                     this.activeMenu = new OptionsMenu(true);
                     activeMenu.add(new Option(this.manager, "promised", "You promised you wouldn't laugh at me!", noLaughPromise));
                     activeMenu.add(new Option(this.manager, "laugh", "Har har. Get your laughs out."));
-                    activeMenu.add(new Option(this.manager, "hero", "I'm still a hero! I've been trying to save the world. You know, a villain to one person might be a hero to others.", !noLaughPromise || !this.isHarsh));
+                    activeMenu.add(new Option(this.manager, "hero", "I'm still a hero! I've been trying to save the world. You know, a villain to one person might be a hero to others.", !noLaughPromise || !this.isHarsh()));
                     activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
 
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "silent":
+                        case SILENT:
                             if (!noLaughPromise) {
                                 mainScript.runSection("avoidTitle");
                                 break;
                             }
-                        case "promised":
-                        case "laugh":
+                        case PROMISED:
+                        case LAUGH:
                             mainScript.runMoodSection("laughShareTitles");
 
-                            if (this.isHarsh) {
-                                this.activeMenu = new OptionsMenu(true);
-                                activeMenu.add(new Option(this.manager, "me", "You were laughing at me."));
-                                activeMenu.add(new Option(this.manager, "lives", "The futility of our lives?"));
-                                activeMenu.add(new Option(this.manager, "mhm", "Mhm."));
-                                activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                            if (this.isHarsh()) {
+                                this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragon5").instantiate(this.manager);
 
                                 mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "ShareTitles");
                             }
 
                             break;
 
-                        case "hero":
+                        case HERO:
                             mainScript.runSection("heroShareTitles");
                     }
 
                     break;
 
-                case "nevermind":
-                case "silent":
+                case NEVERMIND:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("avoidTitle");
                     break;
@@ -2813,26 +2597,20 @@ public class ChapterIII extends StandardCycle {
 
         // Title reveal
         boolean lookLikeAsked = false;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "reverse", "Oooh. Reversing the order! I like it."));
-        activeMenu.add(new Option(this.manager, "humble", "Casting yourself as the main character, I see. Very humble."));
-        activeMenu.add(new Option(this.manager, "bird", "The Princess and the *Dragon?* I thought I was maybe some sort of... bird?"));
-        activeMenu.add(new Option(this.manager, "dragon", "Wait, am I a dragon? Hell yeah!"));
-        activeMenu.add(new Option(this.manager, "accurate", "I... don't actually know what I look like. Is that... accurate?"));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragon6").instantiate(this.manager);
 
         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
         switch (activeOutcome) {
-            case "dragon":
-            case "accurate":
+            case DRAGON:
+            case ACCURATE:
                 lookLikeAsked = true;
-            case "reverse":
-            case "bird":
-            case "silent":
+            case REVERSE:
+            case BIRD:
+            case SILENT:
                 mainScript.runSection(activeOutcome + "Reveal");
                 break;
 
-            case "humble":
+            case HUMBLE:
                 mainScript.runConditionalSection("humbleReveal", sharedTitles);
                 break;
         }
@@ -2841,27 +2619,22 @@ public class ChapterIII extends StandardCycle {
         mainScript.runConditionalSection("enterCabin", observedHands);
 
         boolean talkAttempt = false;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "hello", "\"Hello?\""));
-        activeMenu.add(new Option(this.manager, "out", "\"Hey! Listen to me! I'm stuck in the Princess's head, you've got to get me out of here!\""));
-        activeMenu.add(new Option(this.manager, "anything", "Am I going to say anything?"));
-        activeMenu.add(new Option(this.manager, "look", "So... what do I look like?", !lookLikeAsked));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragon7").instantiate(this.manager, Map.of("lookLikeAsked", AbstractCondition.of(lookLikeAsked)));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "hello":
-                case "out":
+                case HELLO:
+                case OUT:
                     this.repeatActiveMenu = false;
                     talkAttempt = true;
                     mainScript.runSection(activeOutcome + "TalkAttempt");
                     break;
 
-                case "anything":
-                case "look":
-                case "silent":
+                case ANYTHING:
+                case LOOK:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection(activeOutcome + "StairsMenu");
                     break;
@@ -2874,47 +2647,40 @@ public class ChapterIII extends StandardCycle {
         this.dragonBodyDownstairs = true;
         mainScript.runSection("stairsJoin");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "what", "(Explore) What the hell am I?"));
-        activeMenu.add(new Option(this.manager, "hello", "\"Hello?\"", !talkAttempt));
-        activeMenu.add(new Option(this.manager, "out", "\"Hey! Listen to me! I'm stuck in the Princess's head, you've got to get me out of here!\"", !talkAttempt));
-        activeMenu.add(new Option(this.manager, "tell", "Quick. Tell them I'm in here!"));
-        activeMenu.add(new Option(this.manager, "dont", "Don't let them know I'm here!"));
-        activeMenu.add(new Option(this.manager, "want", "What do you want to do?"));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragon8").instantiate(this.manager, Map.of("talkAttempt", AbstractCondition.of(talkAttempt)));
 
         boolean bodyAware = false;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "what":
+                case WHAT:
                     mainScript.runSection("whatBasementStart");
                     break;
 
-                case "hello":
+                case HELLO:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("helloTalkAttempt");
                     break;
 
-                case "out":
+                case OUT:
                     mainScript.runSection("outTalkAttempt");
-                case "tell":
+                case TELL:
                     this.repeatActiveMenu = false;
                     bodyAware = true;
                     mainScript.runSection(activeOutcome + "BasementStart");
                     break;
 
-                case "dont":
+                case DONT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("dontBasementStart");
                     break;
 
-                case "want":
+                case WANT:
                     mainScript.runSection("wantBasementStart");
-                case "silent":
+                case SILENT:
                     this.repeatActiveMenu = false;
-                    bodyAware = this.isHarsh;
+                    bodyAware = this.isHarsh();
                     break;
 
                 default: this.giveDefaultFailResponse(activeOutcome);
@@ -2927,20 +2693,16 @@ public class ChapterIII extends StandardCycle {
             mainScript.runSection("basementStartOther");
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "why", "Why am I being so quiet? Is it because I'm not there?"));
-        activeMenu.add(new Option(this.manager, "hate", "I hate this silence. It's putting me on edge."));
-        activeMenu.add(new Option(this.manager, "arguing", "Am I arguing with myself in there? Has that always happened in real time?"));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragon9").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "why":
-                case "hate":
-                case "arguing":
-                case "silent":
+                case WHY:
+                case HATE:
+                case ARGUING:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection(activeOutcome + "TalkMenu");
                     break;
@@ -2953,11 +2715,11 @@ public class ChapterIII extends StandardCycle {
         mainScript.runConditionalSection("opportunistStart", bodyAware);
 
         this.activeMenu = new OptionsMenu();
-        if (bodyAware || this.isHarsh) {
-            activeMenu.add(new Option(this.manager, "wait", "We can wait for them to finish.", this.isHarsh));
-            activeMenu.add(new Option(this.manager, "rudeHarsh", "Right? How rude.", this.isHarsh));
-            activeMenu.add(new Option(this.manager, "nothing", "Yeah, I guess there's nothing we can do, is there?", !this.isHarsh));
-            activeMenu.add(new Option(this.manager, "rudeSoft", "It's rude, though.", !this.isHarsh));
+        if (bodyAware || this.isHarsh()) {
+            activeMenu.add(new Option(this.manager, "wait", "We can wait for them to finish.", this.isHarsh()));
+            activeMenu.add(new Option(this.manager, "rudeHarsh", "Right? How rude.", this.isHarsh()));
+            activeMenu.add(new Option(this.manager, "nothing", "Yeah, I guess there's nothing we can do, is there?", !this.isHarsh()));
+            activeMenu.add(new Option(this.manager, "rudeSoft", "It's rude, though.", !this.isHarsh()));
             activeMenu.add(new Option(this.manager, "assertive", "I think you'll have to make them listen. Try being assertive."));
             activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
 
@@ -2965,12 +2727,12 @@ public class ChapterIII extends StandardCycle {
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "wait":
-                    case "rudeHarsh":
-                    case "nothing":
-                    case "rudeSoft":
-                    case "assertive":
-                    case "silent":
+                    case WAIT:
+                    case RUDEHARSH:
+                    case NOTHING:
+                    case RUDESOFT:
+                    case ASSERTIVE:
+                    case SILENT:
                         this.repeatActiveMenu = false;
                         mainScript.runConditionalSection(activeOutcome + "OppoMenu", bodyAware);
                         break;
@@ -2988,10 +2750,10 @@ public class ChapterIII extends StandardCycle {
             while (repeatActiveMenu) {
                 this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                 switch (activeOutcome) {
-                    case "wait":
-                    case "rude":
-                    case "assertive":
-                    case "silent":
+                    case WAIT:
+                    case RUDE:
+                    case ASSERTIVE:
+                    case SILENT:
                         this.repeatActiveMenu = false;
                         mainScript.runConditionalSection(activeOutcome + "OppoMenuUnaware", bodyAware);
                         break;
@@ -3006,7 +2768,7 @@ public class ChapterIII extends StandardCycle {
 
         this.addVoice(Voice.NARRATOR);
         this.dragonInPrincess = false;
-        if (this.isHarsh) {
+        if (this.isHarsh()) {
             return this.princessAndDragonStabHarsh();
         } else {
             return this.princessAndDragonStabSoft();
@@ -3020,51 +2782,44 @@ public class ChapterIII extends StandardCycle {
     private ChapterEnding princessAndDragonStabHarsh() {
         mainScript.runSection("stabHarshStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "wait", "\"Wait wait wait I'm back in my body stop! You getting stabbed switched me back!\""));
-        activeMenu.add(new Option(this.manager, "end", "\"I'm back in here, but you should do it. Kill me. End this and save yourself.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragonStabHarsh").instantiate(this.manager);
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "wait":
+            case WAIT:
                 mainScript.runSection("firstChoiceStartShared");
                 mainScript.runConditionalSection("waitHarshStab", false);
                 return ChapterEnding.PRINCESSANDDRAGON;
 
-            case "end":
+            case END:
                 this.repeatActiveMenu = false;
                 mainScript.runSection("firstChoiceStartShared");
                 break;
 
-            case "silent":
+            case SILENT:
                 mainScript.runConditionalSection("silentHarshStab", true);
                 return ChapterEnding.PRINCESSANDDRAGON;
         }
 
         // Tell her to kill you
-        this.threwBlade = true;
+        this.flags.set(ChapterFlag.THREWBLADE);
         mainScript.runSection("endHarshStab");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "hand", "[Take her hand in yours.]"));
-        activeMenu.add(new Option(this.manager, "what", "\"Now what?\""));
-        activeMenu.add(new Option(this.manager, "leave", "\"I guess the only thing for us to do is leave.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragonStabHarsh2").instantiate(this.manager);
 
         this.canTakeHand = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cTakeHand":
-                case "hand":
+                case CTAKEHAND:
+                case HAND:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("harshTakeHand");
                     break;
 
-                case "what":
-                case "leave":
-                case "silent":
+                case WHAT:
+                case LEAVE:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection(activeOutcome + "FinalHarsh");
                     break;
@@ -3074,14 +2829,13 @@ public class ChapterIII extends StandardCycle {
         }
 
         this.currentLocation = GameLocation.CABIN;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "leave", "[Step into your freedom.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragonStabHarsh3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoHill":
-                case "leave":
+                case CGOHILL:
+                case LEAVE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3099,15 +2853,10 @@ public class ChapterIII extends StandardCycle {
      * @return the ending reached by the player
      */
     private ChapterEnding princessAndDragonStabSoft() {
-        this.hasBlade = true;
+        this.flags.set(ChapterFlag.HASBLADE);
         mainScript.runSection("stabSoftStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "sorry", "(Explore) \"Oh no! I am so so sorry! Are you okay?\""));
-        activeMenu.add(new Option(this.manager, "back", "(Explore) \"Oh, hey. I'm back in my body.\""));
-        activeMenu.add(new Option(this.manager, "slay", "Good to be back boys. [Finish the job.]"));
-        activeMenu.add(new Option(this.manager, "drop", "[Drop the blade.]"));
-        activeMenu.add(new Option(this.manager, "leave", "[Turn around and leave.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragonStabSoft").instantiate(this.manager);
 
         this.canSlayPrincess = true;
         this.canDropBlade = true;
@@ -3115,35 +2864,31 @@ public class ChapterIII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "sorry":
-                case "back":
+                case SORRY:
+                case BACK:
                     mainScript.runSection("firstChoiceStartShared");
                     mainScript.runSection(activeOutcome + "SoftStab");
 
-                    this.activeMenu = new OptionsMenu();
-                    activeMenu.add(new Option(this.manager, "slay", "\"Yeah. Sorry about that.\" [Finish the job.]"));
-                    activeMenu.add(new Option(this.manager, "no", "\"I'm obviously not going to kill you.\""));
-                    activeMenu.add(new Option(this.manager, "dunno", "\"I don't know what I want to do.\""));
-                    activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragonStabSoft2").instantiate(this.manager);
 
                     while (repeatActiveMenu) {
                         switch (parser.promptOptionsMenu(activeMenu)) {
-                            case "cSlayPrincess":
-                            case "slay":
+                            case CSLAYPRINCESS:
+                            case SLAY:
                                 mainScript.runConditionalSection("softSlay", true);
                                 return ChapterEnding.PRINCESSANDDRAGON;
 
-                            case "no":
+                            case NO:
                                 this.repeatActiveMenu = false;
                                 mainScript.runSection("noSoftStab");
                                 break;
 
-                            case "dunno":
+                            case DUNNO:
                                 this.repeatActiveMenu = false;
                                 mainScript.runSection("suggestLeaveSoft");
                                 break;
 
-                            case "silent":
+                            case SILENT:
                                 this.repeatActiveMenu = false;
                                 mainScript.runSection("silentLeaveSoft");
                                 break;
@@ -3152,36 +2897,33 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     mainScript.runSection("firstChoiceStartShared");mainScript.runConditionalSection("softSlay", false);
                     return ChapterEnding.PRINCESSANDDRAGON;
 
-                case "cDrop":
-                case "drop":
-                    this.hasBlade = false;
+                case CDROP:
+                case DROP:
+                    this.flags.set(ChapterFlag.HASBLADE, false);
                     mainScript.runSection("softDropBlade");
                     
-                    this.activeMenu = new OptionsMenu();
-                    activeMenu.add(new Option(this.manager, "leave", "\"We do it right this time. We leave together. Hand in hand.\""));
-                    activeMenu.add(new Option(this.manager, "dunno", "\"I don't know.\""));
-                    activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragonStabSoft3").instantiate(this.manager);
 
                     this.canOfferHand = true;
                     while (repeatActiveMenu) {
                         switch (parser.promptOptionsMenu(activeMenu)) {
-                            case "cGiveHand":
-                            case "leave":
+                            case CGIVEHAND:
+                            case LEAVE:
                                 this.repeatActiveMenu = false;
                                 mainScript.runSection("leaveJoinSoft");
                                 break;
 
-                            case "dunno":
+                            case DUNNO:
                                 this.repeatActiveMenu = false;
                                 mainScript.runSection("suggestLeaveSoft");
                                 break;
 
-                            case "silent":
+                            case SILENT:
                                 this.repeatActiveMenu = false;
                                 mainScript.runSection("silentLeaveSoft");
                                 break;
@@ -3193,23 +2935,20 @@ public class ChapterIII extends StandardCycle {
                     this.canOfferHand = false;
                     break;
 
-                case "cGoStairs":
-                case "leave":
+                case CGOSTAIRS:
+                case LEAVE:
                     mainScript.runSection("abandonSoftStart");
 
-                    this.activeMenu = new OptionsMenu(true);
-                    activeMenu.add(new Option(this.manager, "figure", "\"You can figure that out on your own.\""));
-                    activeMenu.add(new Option(this.manager, "body", "\"I just wanted my body back.\""));
-                    activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragonStabSoft4").instantiate(this.manager);
 
                     this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                     switch (activeOutcome) {
-                        case "figure":
-                        case "body":
+                        case FIGURE:
+                        case BODY:
                             mainScript.runSection(activeOutcome + "AbandonSoft");
                             break;
 
-                        case "silent":
+                        case SILENT:
                             mainScript.runConditionalSection("abandonSoftEnd", true);
                     }
 
@@ -3220,10 +2959,7 @@ public class ChapterIII extends StandardCycle {
         }
 
         // You or the Princess suggests leaving together
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]"));
-        activeMenu.add(new Option(this.manager, "cut", "[Cut her free on your own.]"));
-        activeMenu.add(new Option(this.manager, "give", "[Give her the blade.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "princessAndDragonStabSoft5").instantiate(this.manager);
 
         this.canDropBlade = false;
         this.canGiveBlade = true;
@@ -3231,20 +2967,20 @@ public class ChapterIII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
-                case "cSlayPrincessNoBladeFail":
-                case "slay":
+                case CSLAYPRINCESS:
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case SLAY:
                     mainScript.runConditionalSection("softSlayBetrayJoin", true);
                     return ChapterEnding.PRINCESSANDDRAGON;
 
-                case "cut":
+                case CUT:
                     mainScript.runSection("softCutFree");
                     return ChapterEnding.PRINCESSANDDRAGON;
 
-                case "cGiveBlade":
-                case "cGiveBladeFail":
-                case "give":
-                    this.hasBlade = false;
+                case CGIVEBLADE:
+                case CGIVEBLADEFAIL:
+                case GIVE:
+                    this.flags.set(ChapterFlag.HASBLADE, false);
                     mainScript.runSection("softGiveBlade");
                     return ChapterEnding.WHATONCEWASONE;
 
@@ -3307,34 +3043,34 @@ public class ChapterIII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "loop":
+                case LOOP:
                     loopExplore = true;
-                case "help":
+                case HELP:
                     mainScript.runSection(activeOutcome + "Start");
                     break;
 
-                case "letOut":
+                case LETOUT:
                     letOutExplore = true;
                     mainScript.runConditionalSection("letOutStart", loopExplore);
                     break;
 
-                case "dontGo":
+                case DONTGO:
                     dontGoExplored.set(true);
                     mainScript.runConditionalSection("dontGoStart", letOutExplore);
                     break;
 
-                case "cGoHill":
-                case "proceed":
+                case CGOHILL:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (cantTryAbort.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "abortA":
-                case "abortB":
+                case ABORTA:
+                case ABORTB:
                     if (!this.canAbort) {
                         cantTryAbort.set();
                         parser.printDialogueLine(CANTSTRAY);
@@ -3353,19 +3089,17 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         mainScript.runSection("hillDialogue");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) Are you trying to use reverse-psychology on me or have you just given up?"));
-        activeMenu.add(new Option(this.manager, "cabin", "[Enter the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wraith").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     break;
 
-                case "cGoHill":
-                case "cabin":
+                case CGOHILL:
+                case CABIN:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3380,22 +3114,20 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection("cabinIntro");
 
         boolean surpriseComment = false;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) Let's pretend there is a mirror at the end of this hallway, and that right now, we can't see behind it. What's there? What's behind it?"));
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wraith2").instantiate(this.manager);
 
         this.repeatActiveMenu = false;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     surpriseComment = this.ch3Voice != Voice.OPPORTUNIST;
                     mainScript.runSection("mirrorExplore");
                     break;
 
-                case "cApproachMirror":
-                case "cGoStairs":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case CGOSTAIRS:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3407,18 +3139,17 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.MIRROR;
         mainScript.runSection("mirrorApproach");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "wipe", "[Wipe the mirror clean.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wraith3").instantiate(this.manager);
         
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cWipe":
-                case "wipe":
+                case CWIPE:
+                case WIPE:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cApproachAtMirrorFail":
+                case CAPPROACHATMIRRORFAIL:
                     this.giveDefaultFailResponse(activeOutcome);
                     break;
 
@@ -3430,14 +3161,14 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.CABIN;
         this.withPrincess = true;
         this.mirrorPresent = false;
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
         mainScript.runConditionalSection("mirrorWipe", surpriseComment, voiceCombo);
 
         String evenOrder = (source.equals("spectre")) ? "I killed you, and then you killed me." : "You killed me, and then I killed you.";
         GlobalInt stallCount = new GlobalInt();
         NumCondition noStall = new NumCondition(stallCount, 0);
         this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "agree", "(Explore) \"I thought you couldn't possess me on your own. I thought I needed to agree to it.\"", this.spectreCantWontAsk));
+        activeMenu.add(new Option(this.manager, "agree", "(Explore) \"I thought you couldn't possess me on your own. I thought I needed to agree to it.\"", this.spectreCantWontAsk()));
         activeMenu.add(new Option(this.manager, "even", "(Explore) \"Look, we're even now. " + evenOrder + " Water under the bridge, right?\""));
         activeMenu.add(new Option(this.manager, "want", "(Explore) \"I never wanted to hurt you. I don't even know how I got here!\""));
         activeMenu.add(new Option(this.manager, "victim", "(Explore) \"I'm a victim in all of this too, you know!\""));
@@ -3454,24 +3185,24 @@ public class ChapterIII extends StandardCycle {
 
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "agree":
-                case "even":
-                case "want":
-                case "victim":
-                case "better":
-                case "barter":
+                case AGREE:
+                case EVEN:
+                case WANT:
+                case VICTIM:
+                case BETTER:
+                case BARTER:
                     mainScript.runSection(activeOutcome + "Menu");
                     break;
 
-                case "consentA":
-                case "consentB":
+                case CONSENTA:
+                case CONSENTB:
                     stallCount.set(3); // Fast-forward
                     incrementFlag = false;
                     consent = true;
                     mainScript.runSection("consentMenu");
                     break;
 
-                case "struggle":
+                case STRUGGLE:
                     stallCount.set(3); // Fast-forward
                     incrementFlag = false;
                     mainScript.runSection("struggleMenu");
@@ -3492,20 +3223,18 @@ public class ChapterIII extends StandardCycle {
             mainScript.runSection(voiceCombo + "NoConsent");
 
             this.reverseDirection = true;
-            this.activeMenu = new OptionsMenu();
-            activeMenu.add(new Option(this.manager, "leave", "[Leave the cabin.]"));
-            activeMenu.add(new Option(this.manager, "abyss", "[Throw your body into the abyss.]"));
+            this.activeMenu = MenuTemplate.get("ChapterIII", "wraith4").instantiate(this.manager);
 
             this.repeatActiveMenu = true;
             while (repeatActiveMenu) {
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "cGoHill":
-                    case "leave":
+                    case CGOHILL:
+                    case LEAVE:
                         this.repeatActiveMenu = false;
                         break;
 
-                    case "cGoStairs":
-                    case "abyss":
+                    case CGOSTAIRS:
+                    case ABYSS:
                         mainScript.runSection("abyssStart");
                         return ChapterEnding.EXORCISTIII;
 
@@ -3535,61 +3264,54 @@ public class ChapterIII extends StandardCycle {
         InverseCondition noTalk = talked.getInverse();
         Condition askedHowMany = new Condition();
         InverseCondition noHowMany = askedHowMany.getInverse();
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "wrong", "(Explore) I think they're all... wrong."));
-        activeMenu.add(new Option(this.manager, "howManyA", "(Explore) That's a good question. How many times have you all been here?", noHowMany, noTalk));
-        activeMenu.add(new Option(this.manager, "howManyB", "(Explore) Getting back to His earlier question, how many times have you all been here?", noHowMany, talked));
-        activeMenu.add(new Option(this.manager, "decider", "(Explore) But that doesn't make sense. I only remember being here twice before this, and some of you don't seem to remember being here at all. Was I here those other times? Did someone else make the decisions?", askedHowMany));
-        activeMenu.add(new Option(this.manager, "notMe", "(Explore) If I don't remember what I did, then it couldn't have been me that did it.", activeMenu.get("decider")));
-        activeMenu.add(new Option(this.manager, "dontGo", "(Explore) What if we don't go to the cabin?"));
-        activeMenu.add(new Option(this.manager, "sense", "(Explore) Can you make sense of them?"));
-        activeMenu.add(new Option(this.manager, "disjointed", "(Explore) I feel so disjointed. I don't know if I can pull this off. I don't know if I can slay her."));
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "nothing", this.cantTryAbort, "The only way out is to do nothing. So nothing I will do. [Stay where you are.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "momentOfClarity").instantiate(this.manager, Map.of(
+            "noHowMany", noHowMany,
+            "noTalk", noTalk,
+            "talked", talked,
+            "askedHowMany", askedHowMany,
+            "cantTryAbort", this.cantTryAbort));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "wrong":
-                case "dontGo":
-                case "sense":
-                case "disjointed":
+                case WRONG:
+                case DONTGO:
+                case SENSE:
+                case DISJOINTED:
                     talked.set();
-                case "decider":
-                case "notMe":
-                    mainScript.runSection(activeOutcome);
+                case DECIDER:
+                case NOTME:
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "howManyA":
-                case "howManyB":
+                case HOWMANYA:
+                case HOWMANYB:
                     talked.set();
                     askedHowMany.set();
                     mainScript.runSection("howMany");
                     break;
 
-                case "cGoHill":
-                case "proceed":
+                case CGOHILL:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "nothing":
+                case NOTHING:
                     nothingAttempt = true;
                     mainScript.runSection("nothing");
 
-                    this.activeMenu = new OptionsMenu();
-                    activeMenu.add(new Option(this.manager, "proceed", "[Proceed to the cabin.]"));
-                    activeMenu.add(new Option(this.manager, "nothing", this.cantTryAbort, "[Continue to do nothing.]", 0));
+                    this.activeMenu = MenuTemplate.get("ChapterIII", "momentOfClarity2").instantiate(this.manager, Map.of("cantTryAbort", this.cantTryAbort));
 
                     while (repeatActiveMenu) {
                         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                         switch (activeOutcome) {
-                            case "cGoCabin":
-                            case "proceed":
+                            case CGOCABIN:
+                            case PROCEED:
                                 this.repeatActiveMenu = false;
                                 break;
 
-                            case "nothing":
+                            case NOTHING:
                                 if (!this.canAbort) {
                                     cantTryAbort.set();
                                     parser.printDialogueLine(CANTSTRAY);
@@ -3615,20 +3337,18 @@ public class ChapterIII extends StandardCycle {
 
         this.currentLocation = GameLocation.HILL;
         this.mirrorPresent = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) And what's wrong with giving them space? What if it helps them? What if they need to be heard?"));
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "momentOfClarity3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSection("hillExplore");
                     break;
 
-                case "cGoCabin":
-                case "cApproachMirror":
-                case "approach":
+                case CGOCABIN:
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3640,14 +3360,13 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.MIRROR;
         mainScript.runSection("cabinApproach");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "momentOfClarity4").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, true)) {
-                case "cProceed":
-                case "proceed":
+                case CPROCEED:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3659,23 +3378,18 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.CABIN;
         this.knowsBlade = true;
         this.withBlade = true;
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
         this.mirrorPresent = false;
         mainScript.runConditionalSection("proceed", nothingAttempt);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "takeA", "[Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "falseA", true, "[It's the only way forward.]"));
-        activeMenu.add(new Option(this.manager, "falseB", true, "[You've already tried everything else.]"));
-        activeMenu.add(new Option(this.manager, "falseC", true, "[Don't you remember?]"));
-        activeMenu.add(new Option(this.manager, "takeB", "[You have to take the blade.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "momentOfClarity5").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, "You've already tried everything else.")) {
-                case "cTakeBlade":
-                case "takeA":
-                case "takeB":
+                case CTAKEBLADE:
+                case TAKEA:
+                case TAKEB:
                     this.repeatActiveMenu = false;
             }
         }
@@ -3685,20 +3399,14 @@ public class ChapterIII extends StandardCycle {
         this.withPrincess = true;
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "falseA", true, "[You're just an object.]"));
-        activeMenu.add(new Option(this.manager, "falseB", true, "[A tool.]"));
-        activeMenu.add(new Option(this.manager, "falseC", true, "[You once were something else, a long time ago.]"));
-        activeMenu.add(new Option(this.manager, "falseD", true, "[But was that something you, or is it just a dull and jaded memory?]"));
-        activeMenu.add(new Option(this.manager, "falseE", true, "[There is no other ending here.]"));
-        activeMenu.add(new Option(this.manager, "take", "[Just take her hand, and set her free.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "momentOfClarity6").instantiate(this.manager);
 
         this.canTakeHand = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cTakeHand":
-                case "take":
+                case CTAKEHAND:
+                case TAKE:
                     this.repeatActiveMenu = false;
                     break;
                 
@@ -3730,19 +3438,18 @@ public class ChapterIII extends StandardCycle {
             - Cheated + Contrarian + Paranoid
          */
 
-        if (!this.hasBlade) this.threwBlade = true;
+        if (!this.hasBlade()) this.flags.set(ChapterFlag.THREWBLADE);
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "razor3Intro").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoStairs":
-                case "cApproachMirror":
-                case "approach":
+                case CGOSTAIRS:
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -3753,18 +3460,17 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.MIRROR;
         mainScript.runSection("approachMirror");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "wipe", "[Wipe the mirror clean.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "razor3Intro2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cWipe":
-                case "wipe":
+                case CWIPE:
+                case WIPE:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cApproachAtMirrorFail":
+                case CAPPROACHATMIRRORFAIL:
                     this.giveDefaultFailResponse(activeOutcome);
                     break;
 
@@ -3776,7 +3482,7 @@ public class ChapterIII extends StandardCycle {
         this.princessViolent = true;
         this.withPrincess = true;
         this.canSlayPrincess = true;
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
         this.mirrorPresent = false;
         mainScript.runSection("wipeMirror");
 
@@ -3791,12 +3497,12 @@ public class ChapterIII extends StandardCycle {
         activeMenu.add(new Option(this.manager, "hunted", "I'm going to go with not letting her stab us. We can dodge, right?", !this.hasVoice(Voice.HUNTED)));
         activeMenu.add(new Option(this.manager, "smitten", "Oh, that's easy. I'm going to try flirting with her."));
         activeMenu.add(new Option(this.manager, "para", "She has swords for arms and we don't. We're panicking!", !this.hasVoice(Voice.PARANOID)));
-        activeMenu.add(new Option(this.manager, "coldB", "We're going to fight her, and we're going to have a stiff upper lip about it. She can't hurt us if we don't let ourselves feel it.", this.hasBlade && !this.hasVoice(Voice.STUBBORN), noCold));
-        activeMenu.add(new Option(this.manager, "coldNWO", "We're going to let her stab us, and we're going to have a stiff upper lip about it. She can't hurt us if we don't let ourselves feel it.", !this.hasBlade, noCold));
+        activeMenu.add(new Option(this.manager, "coldB", "We're going to fight her, and we're going to have a stiff upper lip about it. She can't hurt us if we don't let ourselves feel it.", this.hasBlade() && !this.hasVoice(Voice.STUBBORN), noCold));
+        activeMenu.add(new Option(this.manager, "coldNWO", "We're going to let her stab us, and we're going to have a stiff upper lip about it. She can't hurt us if we don't let ourselves feel it.", !this.hasBlade(), noCold));
         activeMenu.add(new Option(this.manager, "contra", "She wins by killing us, right? So let's beat her to it!", !this.hasVoice(Voice.CONTRARIAN)));
         activeMenu.add(new Option(this.manager, "skeptic", "[All of these ideas suck. Think up something better.]"));
 
-        if (this.hasBlade) {
+        if (this.hasBlade()) {
             this.armsRaceBasement(noCold);
         } else {
             this.noWayOutBasement(noCold);
@@ -3821,21 +3527,21 @@ public class ChapterIII extends StandardCycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             // Handle "slay" command here, redirecting to different options in the menu based on which fight options are available
-            if (activeOutcome.equals("cSlayPrincess")) {
+            if (activeOutcome == Outcome.CSLAYPRINCESS) {
                 if (!this.hasVoice(Voice.STUBBORN)) {
-                    this.activeOutcome = "stubborn";
+                    this.activeOutcome = Outcome.STUBBORN;
                 } else if (!this.hasVoice(Voice.COLD)) {
-                    this.activeOutcome = "coldA";
+                    this.activeOutcome = Outcome.COLDA;
                 } else {
-                    this.activeOutcome = "noFightOptions"; // Fails
+                    this.activeOutcome = Outcome.NOFIGHTOPTIONS; // Fails
                 }
             }
 
             switch (activeOutcome) {
-                case "coldA":
+                case COLDA:
                     this.canSlayPrincess = false;
                     secondaryScript.runSection("coldMenuStubborn");
-                case "coldB":
+                case COLDB:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("coldMenu");
 
@@ -3850,7 +3556,7 @@ public class ChapterIII extends StandardCycle {
                     this.addVoice(Voice.COLD);
                     break;
                     
-                case "stubborn":
+                case STUBBORN:
                     this.repeatActiveMenu = false;
                     if (this.hasVoice(Voice.COLD)) this.canSlayPrincess = false;
                     activeMenu.setCondition("coldA", true);
@@ -3869,7 +3575,7 @@ public class ChapterIII extends StandardCycle {
                     this.addVoice(Voice.STUBBORN);
                     break;
                     
-                case "oppo":
+                case OPPO:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("oppoMenu");
                     mainScript.runSection("oppoMenu");
@@ -3880,12 +3586,12 @@ public class ChapterIII extends StandardCycle {
                     activeMenu.add(new Option(this.manager, "stabbing", "\"Has anyone ever told you how good you are at stabbing things?\""));
 
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "winner":
-                        case "join":
+                        case WINNER:
+                        case JOIN:
                             mainScript.runSection("oppoWinner");
                             break;
 
-                        case "stabbing":
+                        case STABBING:
                             secondaryScript.runSection("oppoStabbing");
 
                             this.subMenu = new OptionsMenu(true);
@@ -3903,7 +3609,7 @@ public class ChapterIII extends StandardCycle {
                     this.addVoice(Voice.OPPORTUNIST);
                     break;
                     
-                case "broken":
+                case BROKEN:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("brokenMenu");
 
@@ -3917,7 +3623,7 @@ public class ChapterIII extends StandardCycle {
                     this.addVoice(Voice.BROKEN);
                     break;
                     
-                case "smitten":
+                case SMITTEN:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("smittenMenu");
 
@@ -3929,11 +3635,11 @@ public class ChapterIII extends StandardCycle {
 
                     this.activeOutcome = parser.promptOptionsMenu(subMenu);
                     switch (activeOutcome) {
-                        case "TheLook":
+                        case THELOOK:
                             secondaryScript.runSection("TheLookSmitten");
-                        case "gorgeous":
-                        case "getYou":
-                        case "dinner":
+                        case GORGEOUS:
+                        case GETYOU:
+                        case DINNER:
                             mainScript.runSection(activeOutcome + "Smitten");
                             break;
                     }
@@ -3941,34 +3647,34 @@ public class ChapterIII extends StandardCycle {
                     this.addVoice(Voice.SMITTEN);
                     break;
                     
-                case "para":
+                case PARA:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("paraMenu");
                     mainScript.runSection("paraMenu");
                     this.addVoice(Voice.PARANOID);
                     break;
                     
-                case "cSlaySelf":
-                case "contra":
+                case CSLAYSELF:
+                case CONTRA:
                     this.repeatActiveMenu = false;
                     this.canSlaySelf = false;
                     mainScript.runSection("contraMenu");
                     this.addVoice(Voice.CONTRARIAN);
                     break;
                     
-                case "skeptic":
+                case SKEPTIC:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("skepticMenu");
                     this.addVoice(Voice.SKEPTIC);
                     break;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     mainScript.runSection("leaveAttempt");
                     break;
 
-                case "cSlayPrincessFail":
-                case "cSlaySelfFail":
-                case "noFightOptions":
+                case CSLAYPRINCESSFAIL:
+                case CSLAYSELFFAIL:
+                case NOFIGHTOPTIONS:
                     mainScript.runSection("failedSlayAttempt");
                     break;
 
@@ -3994,8 +3700,8 @@ public class ChapterIII extends StandardCycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (activeOutcome) {
-                case "cSlayPrincess":
-                case "stubborn":
+                case CSLAYPRINCESS:
+                case STUBBORN:
                     this.repeatActiveMenu = false;
                     this.canSlayPrincess = false;
                     secondaryScript.runSection("stubbornMenu");
@@ -4006,12 +3712,12 @@ public class ChapterIII extends StandardCycle {
                     activeMenu.add(new Option(this.manager, "see", "See, but that's the brilliance of it all. She won't see it coming."));
                     activeMenu.add(new Option(this.manager, "done", "I'm done explaining myself. I'm going to punch her now."));
 
-                    if (parser.promptOptionsMenu(subMenu).equals("maybe")) secondaryScript.runSection("stubbornMaybe");
+                    if (parser.promptOptionsMenu(subMenu) == Outcome.MAYBE) secondaryScript.runSection("stubbornMaybe");
                     secondaryScript.runSection("stubbornCont");
                     this.addVoice(Voice.STUBBORN);
                     break;
                     
-                case "oppo":
+                case OPPO:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("oppoMenu");
                     mainScript.runSection("oppoMenu");
@@ -4022,12 +3728,12 @@ public class ChapterIII extends StandardCycle {
                     activeMenu.add(new Option(this.manager, "stabbing", "\"Has anyone ever told you how good you are at stabbing things?\""));
 
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "winner":
-                        case "join":
+                        case WINNER:
+                        case JOIN:
                             mainScript.runSection("oppoWinner");
                             break;
 
-                        case "stabbing":
+                        case STABBING:
                             secondaryScript.runSection("oppoStabbing");
 
                             this.subMenu = new OptionsMenu(true);
@@ -4044,7 +3750,7 @@ public class ChapterIII extends StandardCycle {
                     this.addVoice(Voice.OPPORTUNIST);
                     break;
                     
-                case "broken":
+                case BROKEN:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("brokenMenu");
 
@@ -4052,18 +3758,18 @@ public class ChapterIII extends StandardCycle {
                     activeMenu.add(new Option(this.manager, "giveUp", "\"I give up. I'll do anything, just please don't stab me!\""));
                     activeMenu.add(new Option(this.manager, "silent", "[Silently throw your hands in the air.]"));
 
-                    if (parser.promptOptionsMenu(subMenu).equals("silent")) secondaryScript.runSection("brokenSilent");
+                    if (parser.promptOptionsMenu(subMenu) == Outcome.SILENT) secondaryScript.runSection("brokenSilent");
                     secondaryScript.runSection("brokenMenu");
                     this.addVoice(Voice.BROKEN);
                     break;
                     
-                case "hunted":
+                case HUNTED:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("huntedMenu");
                     this.addVoice(Voice.HUNTED);
                     break;
                     
-                case "smitten":
+                case SMITTEN:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("smittenMenu");
 
@@ -4075,11 +3781,11 @@ public class ChapterIII extends StandardCycle {
 
                     this.activeOutcome = parser.promptOptionsMenu(subMenu);
                     switch (activeOutcome) {
-                        case "TheLook":
+                        case THELOOK:
                             secondaryScript.runSection("TheLookSmitten");
-                        case "gorgeous":
-                        case "getYou":
-                        case "dinner":
+                        case GORGEOUS:
+                        case GETYOU:
+                        case DINNER:
                             mainScript.runSection(activeOutcome + "Smitten");
                             break;
                     }
@@ -4087,14 +3793,14 @@ public class ChapterIII extends StandardCycle {
                     this.addVoice(Voice.SMITTEN);
                     break;
                     
-                case "para":
+                case PARA:
                     this.repeatActiveMenu = false;
                     secondaryScript.runSection("paraMenu");
                     mainScript.runSection("paraMenu");
                     this.addVoice(Voice.PARANOID);
                     break;
 
-                case "coldNWO":
+                case COLDNWO:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("coldMenu");
 
@@ -4109,17 +3815,17 @@ public class ChapterIII extends StandardCycle {
                     this.addVoice(Voice.COLD);
                     break;
                     
-                case "skeptic":
+                case SKEPTIC:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("skepticMenu");
                     this.addVoice(Voice.SKEPTIC);
                     break;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     mainScript.runSection("leaveAttempt");
                     break;
 
-                case "cSlayPrincessFail":
+                case CSLAYPRINCESSFAIL:
                     mainScript.runSection("failedSlayAttempt");
                     break;
 
@@ -4142,72 +3848,72 @@ public class ChapterIII extends StandardCycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             // Handle "slay" command here, redirecting to different options in the menu based on which fight options are available
-            if (activeOutcome.equals("cSlayPrincess")) {
+            if (activeOutcome == Outcome.CSLAYPRINCESS) {
                 if (!this.hasVoice(Voice.STUBBORN)) {
-                    this.activeOutcome = "stubborn";
-                } else if (this.hasBlade && !this.hasVoice(Voice.COLD)) {
-                    this.activeOutcome = "coldA";
+                    this.activeOutcome = Outcome.STUBBORN;
+                } else if (this.hasBlade() && !this.hasVoice(Voice.COLD)) {
+                    this.activeOutcome = Outcome.COLDA;
                 } else {
-                    this.activeOutcome = "noFightOptions"; // Fails
+                    this.activeOutcome = Outcome.NOFIGHTOPTIONS; // Fails
                 }
             }
 
             switch (activeOutcome) {
-                case "coldA":
-                case "coldB":
-                case "coldNWO":
+                case COLDA:
+                case COLDB:
+                case COLDNWO:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.COLD;
                     break;
                     
-                case "stubborn":
+                case STUBBORN:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.STUBBORN;
                     break;
                     
-                case "oppo":
+                case OPPO:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.OPPORTUNIST;
                     break;
                     
-                case "broken":
+                case BROKEN:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.BROKEN;
                     break;
                     
-                case "hunted":
+                case HUNTED:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.HUNTED;
                     break;
                     
-                case "smitten":
+                case SMITTEN:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.SMITTEN;
                     break;
                     
-                case "para":
+                case PARA:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.PARANOID;
                     break;
                     
-                case "cSlaySelf":
-                case "contra":
+                case CSLAYSELF:
+                case CONTRA:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.CONTRARIAN;
                     break;
                     
-                case "skeptic":
+                case SKEPTIC:
                     this.repeatActiveMenu = false;
                     menuVoice = Voice.SKEPTIC;
                     break;
 
-                case "cGoStairs":
+                case CGOSTAIRS:
                     mainScript.runSection("leaveAttempt");
                     break;
 
-                case "cSlaySelfFail":
-                case "cSlayPrincessFail":
-                case "noFightOptions":
+                case CSLAYSELFFAIL:
+                case CSLAYPRINCESSFAIL:
+                case NOFIGHTOPTIONS:
                     mainScript.runSection("failedSlayAttempt");
                     break;
 
@@ -4236,7 +3942,7 @@ public class ChapterIII extends StandardCycle {
                     break;
 
                 case 2:
-                    if (!this.hasBlade || contraLast) {
+                    if (!this.hasBlade() || contraLast) {
                         mainScript.runSection("montage2NoBlade");
                     } else {
                         mainScript.runSection("montage2Blade");
@@ -4270,18 +3976,16 @@ public class ChapterIII extends StandardCycle {
         
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "empty", "[Empty your mind.]"));
-        activeMenu.add(new Option(this.manager, "empty2", "[Him too.]", activeMenu.get("empty")));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "razor4").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu, new DialogueLine("[You have no other option.]", true))) {
-                case "empty":
+                case EMPTY:
                     mainScript.runSection("empty");
                     break;
 
-                case "empty2":
+                case EMPTY2:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -4289,7 +3993,7 @@ public class ChapterIII extends StandardCycle {
 
         mainScript.runSection("empty2");
 
-        if (this.hasBlade) {
+        if (this.hasBlade()) {
             return ChapterEnding.WATERSTEEL;
         } else {
             return ChapterEnding.FORMLESS;
@@ -4312,43 +4016,36 @@ public class ChapterIII extends StandardCycle {
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "Plan", "(Explore) Okay. What's the plan?"));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) The path is different than it was before."));
-        activeMenu.add(new Option(this.manager, "answers", "(Explore) I want answers. What is going on here? What do you know that you're not telling me?"));
-        activeMenu.add(new Option(this.manager, "leave", "(Explore) What if we just leave? What happens then?"));
-        activeMenu.add(new Option(this.manager, "proceedA", "No matter what happens next, it seems like all our answers are in the cabin. Let's see this through. [Proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "proceedB", "[Silently proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "abort", this.cantTryAbort, "I'm done with this. Bye! [Turn around and leave.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "den").instantiate(this.manager, Map.of("cantTryAbort", this.cantTryAbort));
 
         boolean plan = false;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "Plan":
+                case DENPLAN:
                     plan = true;
-                    mainScript.runSection(this.ch3Voice + activeOutcome + "Woods");
+                    mainScript.runSection(this.ch3Voice + activeOutcome.getID() + "Woods");
                     break;
 
-                case "different":
-                case "answers":
-                case "leave":
+                case DIFFERENT:
+                case ANSWERS:
+                case LEAVE:
                     mainScript.runSection(activeOutcome + "Woods");
                     break;
 
-                case "cGoHill":
-                case "proceedA":
-                case "proceedB":
+                case CGOHILL:
+                case PROCEEDA:
+                case PROCEEDB:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (cantTryAbort.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "abort":
+                case ABORT:
                     if (!this.canAbort) {
                         cantTryAbort.set();
                         parser.printDialogueLine(CANTSTRAY);
@@ -4367,15 +4064,14 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         mainScript.runConditionalSection("hillDialogue", plan);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "den2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
                 
@@ -4390,25 +4086,23 @@ public class ChapterIII extends StandardCycle {
         this.mirrorPresent = true;
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "take", "(Explore) [Take the blade.]"));
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "den3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     activeMenu.setCondition("take", false);
-                case "take":
-                    this.hasBlade = true;
+                case TAKE:
+                    this.flags.set(ChapterFlag.HASBLADE);
                     this.withBlade = false;
                     mainScript.runSection("takeBlade");
                     break;
 
-                case "cGoStairs":
-                case "cApproachMirror":
-                case "approach":
+                case CGOSTAIRS:
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -4420,27 +4114,25 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.MIRROR;
         mainScript.runSection("approachMirror");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "wipe", "[Wipe the mirror clean.]"));
-        activeMenu.add(new Option(this.manager, "smash", "[Smash it.]", this.hasVoice(Voice.STUBBORN)));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "den4").instantiate(this.manager, Map.of("hasStubborn", AbstractCondition.of(this.hasVoice(Voice.STUBBORN))));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cWipe":
-                case "wipe":
+                case CWIPE:
+                case WIPE:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("wipeMirror");
                     break;
 
-                case "cSmash":
-                case "smash":
+                case CSMASH:
+                case SMASH:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("smashMirror");
                     break;
 
-                case "cApproachAtMirrorFail":
+                case CAPPROACHATMIRRORFAIL:
                     this.giveDefaultFailResponse(activeOutcome);
                     break;
 
@@ -4452,29 +4144,24 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.STAIRS;
         this.withBlade = false;
         this.mirrorPresent = false;
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "unfinished", "\"We have unfinished business.\""));
-        activeMenu.add(new Option(this.manager, "talk", "\"We should talk.\""));
-        activeMenu.add(new Option(this.manager, "free", "\"We don't have to fight. I'm ready to let you out of here.\""));
-        activeMenu.add(new Option(this.manager, "lie", "(Lie) \"We don't have to fight. I'm ready to let you out of here.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing, and silently proceed down the \"stairs.\"]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "den5").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "unfinished":
-                case "talk":
-                case "free":
-                case "lie":
+                case UNFINISHED:
+                case TALK:
+                case FREE:
+                case LIE:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("stairsComment");
                     break;
 
-                case "cGoBasement":
-                case "silent":
+                case CGOBASEMENT:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("stairsSilent");
                     break;
@@ -4489,26 +4176,22 @@ public class ChapterIII extends StandardCycle {
         this.canSlayPrincess = true;
 
         Condition noChat = new Condition(true);
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "quiet", "(Explore) \"Staying quiet, are we?\""));
-        activeMenu.add(new Option(this.manager, "dontHave", "(Explore) \"We don't have to do this.\""));
-        activeMenu.add(new Option(this.manager, "fight", "[Step into the shadows, ready to fight.]"));
-        activeMenu.add(new Option(this.manager, "lure", "[Step into the shadows and try to lure her out.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "den6").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "quiet":
-                case "dontHave":
+                case QUIET:
+                case DONTHAVE:
                     noChat.set(false);
                     mainScript.runSection(activeOutcome + "BasementStart");
                     break;
 
-                case "cSlayPrincess":
-                case "fight": return this.denFight();
+                case CSLAYPRINCESS:
+                case FIGHT: return this.denFight();
 
-                case "lure": return this.denLure();
+                case LURE: return this.denLure();
 
                 default: this.giveDefaultFailResponse(activeOutcome);
             }
@@ -4525,21 +4208,19 @@ public class ChapterIII extends StandardCycle {
         this.princessViolent = true;
         mainScript.runSection("fightStart");
 
-        if (this.hasVoice(Voice.SKEPTIC) || !this.hasBlade) return ChapterEnding.UNANSWEREDQUESTIONS;
+        if (this.hasVoice(Voice.SKEPTIC) || !this.hasBlade()) return ChapterEnding.UNANSWEREDQUESTIONS;
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "strike", "[Take the opening and strike at her heart.]"));
-        activeMenu.add(new Option(this.manager, "instinct", "[Embrace instinct.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "denFight").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cSlayPrincess":
-                case "strike":
+                case CSLAYPRINCESS:
+                case STRIKE:
                     mainScript.runSection("strikeEnd");
                     return ChapterEnding.HEROICSTRIKE;
 
-                case "instinct":
+                case INSTINCT:
                     mainScript.runSection("instinctEnd");
                     return ChapterEnding.INSTINCT;
 
@@ -4563,36 +4244,31 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.STAIRS;
         this.canDropBlade = true;
         this.canApproachHer = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "approachDrop", "[Drop the blade and approach her.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "approachBlade", "[Approach her, blade held behind your back.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "approachNoBlade", "[Approach her.]", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "retrieve", "[Turn back for the blade.]", !this.hasBlade));
-        activeMenu.add(new Option(this.manager, "leave", "[Turn around and leave. You're done here.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "denLure").instantiate(this.manager, Map.of("hasBlade", AbstractCondition.of(this.hasBlade())));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cDrop":
-                case "approachDrop":
-                    this.hasBlade = false;
+                case CDROP:
+                case APPROACHDROP:
+                    this.flags.set(ChapterFlag.HASBLADE, false);
                     mainScript.runSection("dropBlade");
-                case "cApproachHer":
-                case "cSlayPrincess":
-                case "cGoBasement":
-                case "approachBlade":
-                case "approachNoBlade":
+                case CAPPROACHHER:
+                case CSLAYPRINCESS:
+                case CGOBASEMENT:
+                case APPROACHBLADE:
+                case APPROACHNOBLADE:
                     this.repeatActiveMenu = false;
                     break;
                     
-                case "cTakeBladeFail":
-                case "cGoCabin":
-                case "retrieve":
-                case "leave":
+                case CTAKEBLADEFAIL:
+                case CGOCABIN:
+                case RETRIEVE:
+                case LEAVE:
                     return this.denCollapse();
 
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
                     mainScript.runSection("slayAttemptNoBlade");
                     break;
 
@@ -4605,24 +4281,21 @@ public class ChapterIII extends StandardCycle {
         this.canApproachHer = false;
         mainScript.runSection("approachStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "strike", "[Strike at her heart.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "offer", "[Offer her your hand.]"));
-        activeMenu.add(new Option(this.manager, "flinch", "[Flinch.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "denLure2").instantiate(this.manager, Map.of("hasBlade", AbstractCondition.of(this.hasBlade())));
 
         this.canOfferHand = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cSlayPrincess":
-                case "strike":
+                case CSLAYPRINCESS:
+                case STRIKE:
                     mainScript.runSection("coupEnd");
                     return ChapterEnding.COUPDEGRACE;
 
-                case "cGiveHand":
-                case "offer":
-                    if (this.hasBlade) {
+                case CGIVEHAND:
+                case OFFER:
+                    if (this.hasBlade()) {
                         mainScript.runSection("offerBlade");
                         return ChapterEnding.UNANSWEREDQUESTIONS;
                     }
@@ -4630,11 +4303,11 @@ public class ChapterIII extends StandardCycle {
                     this.repeatActiveMenu = false;
                     break;
 
-                case "flinch":
+                case FLINCH:
                     mainScript.runSection("flinchStart");
                     return ChapterEnding.UNANSWEREDQUESTIONS;
 
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
                     mainScript.runSection("slayAttemptApproach");
                     break;
 
@@ -4646,31 +4319,27 @@ public class ChapterIII extends StandardCycle {
         this.canOfferHand = false;
         mainScript.runSection("lionStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "pull", "[Pull her free.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "denLure3").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu);
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "dig", "[Dig through the earth together.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "denLure4").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu);
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "claw", "[Claw your way to freedom.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "denLure5").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu);
 
         this.currentLocation = GameLocation.CABIN;
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "open", "[Open the door and step into the wilds.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "denLure6").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoHill":
-                case "open":
+                case CGOHILL:
+                case OPEN:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -4693,41 +4362,33 @@ public class ChapterIII extends StandardCycle {
 
         Condition stuckExplore = new Condition();
         InverseCondition noStuckExplore = stuckExplore.getInverse();
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "blade", "(Explore) I still have the blade. Maybe I can still end this.", this.hasBlade, noStuckExplore));
-        activeMenu.add(new Option(this.manager, "wiggle", "(Explore) Come on, you have to give us something! Just a little wiggle room.", noStuckExplore));
-        activeMenu.add(new Option(this.manager, "struggle", "(Explore) [Struggle to free yourself.]"));
-        activeMenu.add(new Option(this.manager, "die", "(Explore) So we're dying down here. How long is that going to take?", activeMenu.get("struggle"), stuckExplore));
-        activeMenu.add(new Option(this.manager, "beg", "\"We can't both be stuck here! This can't be how it ends. You must be able to free us.\""));
-        activeMenu.add(new Option(this.manager, "both", "\"This is both of our faults. I'm sorry.\""));
-        activeMenu.add(new Option(this.manager, "mine", "\"This is my fault. I should have done things differently. I'm sorry.\""));
-        activeMenu.add(new Option(this.manager, "yours", "\"Yes. This is your fault.\""));
-        activeMenu.add(new Option(this.manager, "nobody", "\"This isn't anybody's fault.\""));
-        activeMenu.add(new Option(this.manager, "narrator", "\"I know whose fault this is, and it isn't ours.\""));
-        activeMenu.add(new Option(this.manager, "wait", "[Wait in silence for your end.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "denCollapse").instantiate(this.manager, Map.of(
+            "hasBlade", AbstractCondition.of(this.hasBlade()),
+            "noStuckExplore", noStuckExplore,
+            "stuckExplore", stuckExplore));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "blade":
-                case "wiggle":
+                case BLADE:
+                case WIGGLE:
                     stuckExplore.set();
-                case "struggle":
-                case "die":
+                case STRUGGLE:
+                case DIE:
                     mainScript.runSection(activeOutcome + "Stuck");
                     break;
 
-                case "beg":
-                case "yours":
-                case "narrator":
-                case "wait":
+                case BEG:
+                case YOURS:
+                case NARRATOR:
+                case WAIT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection(activeOutcome + "Stuck");
                     break;
 
-                case "both":
-                case "mine":
-                case "nobody":
+                case BOTH:
+                case MINE:
+                case NOBODY:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("okayStuck");
                     break;
@@ -4774,63 +4435,52 @@ public class ChapterIII extends StandardCycle {
         boolean pushEarlyJoin = true;
         Condition askedNarrator = new Condition();
         InverseCondition noAskNarrator = askedNarrator.getInverse();
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "askNarrator", "(Explore) This... thing watching us. What is He?"));
-        activeMenu.add(new Option(this.manager, "princessAskA", "I've had enough of this guy. How do we stop him?", askedNarrator));
-        activeMenu.add(new Option(this.manager, "pushA", "Okay. Let's say I want to stop her. What do I do? I feel like I can't do much of anything right now.", askedNarrator));
-        activeMenu.add(new Option(this.manager, "passiveA", "[Passively exist.]", this.hasVoice(Voice.CONTRARIAN)));
-        activeMenu.add(new Option(this.manager, "passiveB", "Why should anyone do anything right now? This is fine! I like being this."));
-        activeMenu.add(new Option(this.manager, "passiveWitch", "Why are you being nice to me? Don't you hate me? Don't we sort of hate each other?", source.equals("witch")));
-        activeMenu.add(new Option(this.manager, "passiveBeast", "Why are you being nice to me? Aren't you a monster? Didn't you eat me?", source.equals("beast")));
-        activeMenu.add(new Option(this.manager, "pushB", "He's right! I don't want a passive existence. I want things to do. So someone give me some options!", this.hasVoice(Voice.CONTRARIAN), noAskNarrator));
-        activeMenu.add(new Option(this.manager, "princessAskB", "I can feel the pressure of the outside pushing in on us. What are we supposed to do about it?"));
-        activeMenu.add(new Option(this.manager, "princessAskC", "This is how we're supposed to be. But what do we do now?", noAskNarrator));
-        activeMenu.add(new Option(this.manager, "abomination", "Whatever we are right now is an abomination, and I want out!"));
-        activeMenu.add(new Option(this.manager, "notMe", "I don't like this. I'm supposed to be me, and you're supposed to be something that isn't me."));
-        activeMenu.add(new Option(this.manager, "pushC", "Okay, you, Narrator. How do I stop her?"));
-        activeMenu.add(new Option(this.manager, "passiveC", "[Do nothing.]", !this.hasVoice(Voice.CONTRARIAN)));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wild").instantiate(this.manager, Map.of(
+            "askedNarrator", askedNarrator,
+            "hasContrarian", AbstractCondition.of(this.hasVoice(Voice.CONTRARIAN)),
+            "sourceWitch", AbstractCondition.of(source.equals("witch")),
+            "sourceBeast", AbstractCondition.of(source.equals("beast")),
+            "noAskNarrator", noAskNarrator));
 
         VoiceDialogueLine pExclusiveOverride = new VoiceDialogueLine(Voice.PRINCESS, "This is what we are. There is no other path.");
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu, pExclusiveOverride);
             switch (activeOutcome) {
-                case "askNarrator":
+                case ASKNARRATOR:
                     askedNarrator.set();
                     mainScript.runSection("askNarrator");
                     break;
 
-                case "passiveA":
-                case "passiveB":
-                case "passiveC":
+                case PASSIVEA:
+                case PASSIVEB:
+                case PASSIVEC:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("passive");
                     break;
 
-                case "abomination":
-                case "notMe":
+                case ABOMINATION:
+                case NOTME:
                     this.repeatActiveMenu = false;
-                    mainScript.runSection(activeOutcome);
+                    mainScript.runSection(activeOutcome.getID());
                     break;
 
-                case "pushA":
-                case "pushB":
-                case "pushC":
+                case PUSHA:
+                case PUSHB:
+                case PUSHC:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("pushMenu");
                     break;
 
-                case "princessAskA":
-                case "princessAskB":
-                case "princessAskC":
+                case PRINCESSASKA:
+                case PRINCESSASKB:
+                case PRINCESSASKC:
                     mainScript.runSection("princessAsk");
 
-                    this.activeMenu = new OptionsMenu(true);
-                    activeMenu.add(new Option(this.manager, "remember", "[Remember how it felt.]"));
-                    activeMenu.add(new Option(this.manager, "freedom", "[Turn inwards and find your freedom.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterIII", "wild2").instantiate(this.manager);
 
                     switch (parser.promptOptionsMenu(activeMenu, pExclusiveOverride)) {
-                        case "freedom":
+                        case FREEDOM:
                             this.wildNetworked(pExclusiveOverride);
                             return ChapterEnding.GLIMPSEOFSOMETHING;
 
@@ -4842,8 +4492,8 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "passiveWitch":
-                case "passiveBeast":
+                case PASSIVEWITCH:
+                case PASSIVEBEAST:
                     this.repeatActiveMenu = false;
                     pushEarlyJoin = false;
                     break;
@@ -4858,7 +4508,7 @@ public class ChapterIII extends StandardCycle {
         activeMenu.add(new Option(this.manager, "narrator", "[Gaze at the " + gazeDisplayChange + " in your heart.]"));
         activeMenu.add(new Option(this.manager, "princess", "[Bury it. Now. Before it's too late.]"));
 
-        if (parser.promptOptionsMenu(activeMenu, pExclusiveOverride).equals("narrator")) {
+        if (parser.promptOptionsMenu(activeMenu, pExclusiveOverride) == Outcome.NARRATOR) {
             mainScript.runSourceSection("Gaze");
             return this.wildWounded();
         }
@@ -4866,11 +4516,9 @@ public class ChapterIII extends StandardCycle {
         // Bury the feeling
         mainScript.runSection("pushBury");
         
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "narrator", "But the past does exist. I remember it."));
-        activeMenu.add(new Option(this.manager, "princess", "[Turn inwards and find your freedom.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wild3").instantiate(this.manager);
 
-        if (parser.promptOptionsMenu(activeMenu, pExclusiveOverride).equals("narrator")) {
+        if (parser.promptOptionsMenu(activeMenu, pExclusiveOverride) == Outcome.NARRATOR) {
             return this.wildWounded();
         } else {
             this.wildNetworked(pExclusiveOverride);
@@ -4885,18 +4533,15 @@ public class ChapterIII extends StandardCycle {
     private void wildNetworked(VoiceDialogueLine pExclusiveOverride) {
         mainScript.runSection("networkStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "cont", "[There is a place you need to be. You just need to find it.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wildNetworked").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu, pExclusiveOverride);
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "cont", "I trust you. [Find the way out.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wildNetworked2").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu, pExclusiveOverride);
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "cont", "[Shatter the cage.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wildNetworked3").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu, pExclusiveOverride);
         mainScript.runSection();
     }
@@ -4908,7 +4553,7 @@ public class ChapterIII extends StandardCycle {
     private ChapterEnding wildWounded() {
         this.currentLocation = GameLocation.CABIN;
         this.knowsBlade = true;
-        this.hasBlade = true;
+        this.flags.set(ChapterFlag.HASBLADE);
         this.withPrincess = true;
         this.canSlayPrincess = true;
 
@@ -4916,19 +4561,17 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection(this.source + "FallApartCont");
         mainScript.runSection(this.source + "CabinStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "free", "\"I never wanted to kill you. Not really. But we can't be the same thing as each other. I had to put an end to whatever happened to us.\" [Cut her free.]"));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "wildWounded").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "free":
+                case FREE:
                     mainScript.runSection("woundedFree");
                     return ChapterEnding.WOUNDSAVE;
 
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     mainScript.runSection("woundedSlay");
                     return ChapterEnding.WOUNDSLAY;
 
@@ -4957,47 +4600,38 @@ public class ChapterIII extends StandardCycle {
 
         boolean askedLooping = false;
         Condition noIntentions = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "different", "(Explore) This place is different. It keeps changing."));
-        activeMenu.add(new Option(this.manager, "intentFree", "(Explore) We're going to free her.", noIntentions));
-        activeMenu.add(new Option(this.manager, "intentNeutral", "(Explore) We're even now. I'm sure she understands that. But we can see what she has to say for herself when we get to the cabin.", noIntentions));
-        activeMenu.add(new Option(this.manager, "intentHarsh", "(Explore) I hope you don't think I'm planning on freeing her after she stabbed me in the heart.", noIntentions));
-        activeMenu.add(new Option(this.manager, "leave", "(Explore) Screw the cabin, what happens if we just leave?"));
-        activeMenu.add(new Option(this.manager, "looping", "(Explore) You sure seem to be taking the whole \"looping\" thing in stride."));
-        activeMenu.add(new Option(this.manager, "proceedA", "No matter what happens next, it seems like all our answers are in the cabin. Let's see this through. [Proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "proceedB", "[Silently proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "abort", this.cantTryAbort, "I'm done with this. Bye! [Turn around and leave.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thorn").instantiate(this.manager, Map.of("noIntentions", noIntentions, "cantTryAbort", this.cantTryAbort));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "intentFree":
-                case "intentNeutral":
-                case "intentHarsh":
+                case INTENTFREE:
+                case INTENTNEUTRAL:
+                case INTENTHARSH:
                     noIntentions.set(false);
-                case "different":
-                case "leave":
+                case DIFFERENT:
+                case LEAVE:
                     mainScript.runSection(activeOutcome + "Woods");
                     break;
 
-                case "looping":
+                case LOOPING:
                     askedLooping = true;
                     mainScript.runSection("loopingWoods");
                     break;
 
-                case "cGoHill":
-                case "proceedA":
-                case "proceedB":
+                case CGOHILL:
+                case PROCEEDA:
+                case PROCEEDB:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (cantTryAbort.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "abort":
+                case ABORT:
                     if (!this.canAbort) {
                         cantTryAbort.set();
                         parser.printDialogueLine(CANTSTRAY);
@@ -5016,15 +4650,14 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         mainScript.runConditionalSection("hillDialogue", askedLooping);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thorn2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
                 
@@ -5038,23 +4671,21 @@ public class ChapterIII extends StandardCycle {
         this.mirrorPresent = true;
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) How do we even get down there? The only thing I see is that mirror."));
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thorn3").instantiate(this.manager);
 
         boolean mentionedMirror = false;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "explore":
+                case EXPLORE:
                     mentionedMirror = true;
                     mainScript.runSection("mirrorExplore");
                     break;
 
-                case "cGoStairs":
-                case "cApproachMirror":
-                case "approach":
+                case CGOSTAIRS:
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5066,18 +4697,17 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.MIRROR;
         mainScript.runSection("approachMirror");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "wipe", "[Wipe the mirror clean.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thorn4").instantiate(this.manager);
         
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cWipe":
-                case "wipe":
+                case CWIPE:
+                case WIPE:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cApproachAtMirrorFail":
+                case CAPPROACHATMIRRORFAIL:
                     this.giveDefaultFailResponse(activeOutcome);
                     break;
 
@@ -5088,17 +4718,16 @@ public class ChapterIII extends StandardCycle {
         // Wipe the mirror clean
         this.currentLocation = GameLocation.CABIN;
         this.mirrorPresent = false;
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
         mainScript.runConditionalSection("wipeMirror", mentionedMirror);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thorn5").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5111,26 +4740,21 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection("stairsStart");
 
         Condition noStairsExplore = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "wayOut", "(Explore) \"I want to figure out a way out of here. For good.\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "dunno", "(Explore) \"I don't know what I want. I never really chose to come here.\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "free", "(Explore) \"I want to free you. I mean it.\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "talk", "(Explore) \"I just want to talk. Really talk.\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed down the stairs.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thorn6").instantiate(this.manager, Map.of("noStairsExplore", noStairsExplore));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "wayOut":
-                case "dunno":
-                case "free":
-                case "talk":
+                case WAYOUT:
+                case DUNNO:
+                case FREE:
+                case TALK:
                     noStairsExplore.set(false);
                     mainScript.runSection("stairsExplore");
 
-                case "cGoBasement":
-                case "proceed":
+                case CGOBASEMENT:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5156,77 +4780,72 @@ public class ChapterIII extends StandardCycle {
         InverseCondition noIntroGiven = introGiven.getInverse();
         Condition noBladeAsk = new Condition(true);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "laugh", "(Explore) \"Yeah. I'm here to laugh. What did you think would happen after you killed me? Did you think I wouldn't hold it against you?\"", firstChoice));
-        activeMenu.add(new Option(this.manager, "intro", "(Explore) \"I'm not here to laugh. I'm here to free you. If you'll let me.\"", noIntroGiven, notHostile, noBlade));
-        activeMenu.add(new Option(this.manager, "follow", "(Explore) \"You're not the only one who yearns for freedom. I'm as trapped as you are. I think we need to leave together.\"", introGiven, notHostile, noBlade));
-        activeMenu.add(new Option(this.manager, "offer", "(Explore) \"I can cut you free. But you'll have to give me the blade.\"", noBlade, noIntroGiven));
-        activeMenu.add(new Option(this.manager, "change", "(Explore) \"Is there nothing I can say to change your mind?\"", notFirstChoice, noBladeAsk, noBlade));
-        activeMenu.add(new Option(this.manager, "bladeAsk", "(Explore) \"Can I take the blade now?\"", activeMenu.get("follow"), notHostile, noBlade));
-        activeMenu.add(new Option(this.manager, "bladeA", "(Explore) \"Then maybe it's past time for either of us to say anything. All that counts is action.\" [Reach for the blade.]", activeMenu.get("change"), notHostile, noBladeAsk, noBlade));
-        activeMenu.add(new Option(this.manager, "bladeB", "(Explore) [Reach for the blade.]", 0, canBladeAttempt, noBlade));
-        activeMenu.add(new Option(this.manager, "leaveA", "\"You're in a prison of your own making. I broke our cycle of violence. If you still want to wallow in it, be my guest.\" [Turn and leave.]", noBlade));
-        activeMenu.add(new Option(this.manager, "leaveB", "\"I guess I don't have anything left to say to you.\" [Turn and leave.]", noBlade));
-        activeMenu.add(new Option(this.manager, "leaveC", "\"Fine. If you're going to be like that, I'm going to leave. Have a nice life.\" [Turn and leave.]", noBlade));
-        activeMenu.add(new Option(this.manager, "free", "[Cut her free.]", tookBlade));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]", tookBlade));
-        activeMenu.add(new Option(this.manager, "leaveBlade", "\"I just wanted my blade back. You're on your own.\" [Turn and leave.]", tookBlade));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thorn7").instantiate(this.manager, Map.of(
+            "firstChoice", firstChoice,
+            "noIntroGiven", noIntroGiven,
+            "notHostile", notHostile,
+            "noBlade", noBlade,
+            "introGiven", introGiven,
+            "notFirstChoice", notFirstChoice,
+            "noBladeAsk", noBladeAsk,
+            "canBladeAttempt", canBladeAttempt,
+            "tookBlade", tookBlade));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "laugh":
+                case LAUGH:
                     notHostile.set(false);
-                case "intro":
-                case "offer":
+                case INTRO:
+                case OFFER:
                     notFirstChoice.set();
                     introGiven.set();
-                    mainScript.runConditionalSection(activeOutcome, notHostile);
+                    mainScript.runConditionalSection(activeOutcome.getID(), notHostile);
                     break;
 
-                case "follow":
+                case FOLLOW:
                     canTakeBlade = true;
                     mainScript.runSection("follow");
                     break;
 
-                case "change":
+                case CHANGE:
                     mainScript.runConditionalSection("change", notHostile);
                     break;
 
-                case "bladeAsk":
+                case BLADEASK:
                     noBladeAsk.set(false);
                     mainScript.runSection("bladeAsk");
                     break;
 
-                case "bladeA":
+                case BLADEA:
                     this.thornBladeAttempt(bladeAttempt, true, notHostile, canBladeAttempt, tookBlade);
                     break;
 
-                case "cTakeBlade":
+                case CTAKEBLADE:
                     if (!canBladeAttempt.check()) {
                         mainScript.runSection();
                     }
-                case "bladeB":
+                case BLADEB:
                     this.thornBladeAttempt(bladeAttempt, canTakeBlade, notHostile, canBladeAttempt, tookBlade);
                     bladeAttempt = true;
                     break;
 
-                case "leaveA":
-                case "leaveB":
-                case "leaveC":
-                case "leaveBlade":
+                case LEAVEA:
+                case LEAVEB:
+                case LEAVEC:
+                case LEAVEBLADE:
                     return this.thornLeave();
 
-                case "free":
+                case FREE:
                     return this.thornFree();
 
-                case "cSlayPrincess":
-                case "slay":
+                case CSLAYPRINCESS:
+                case SLAY:
                     mainScript.runSection("slayStart");
                     return ChapterEnding.TRUSTISSUESSLAY;
                 
-                case "cSlayPrincessNoBladeFail":
+                case CSLAYPRINCESSNOBLADEFAIL:
                     mainScript.runSection("noBladeSlay");
                     break;
 
@@ -5248,7 +4867,7 @@ public class ChapterIII extends StandardCycle {
     private void thornBladeAttempt(boolean bladeAttempt, boolean canTakeBlade, Condition notHostile, Condition canBladeAttempt, Condition tookBlade) {
         if (canTakeBlade) {
             tookBlade.set();
-            this.hasBlade = true;
+            this.flags.set(ChapterFlag.HASBLADE);
             this.canSlayPrincess = true;
 
             mainScript.runConditionalSection("takeBlade", bladeAttempt);
@@ -5272,42 +4891,36 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection("freeStart");
 
         boolean thornKiss = false;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "ofCourse", "\"Of course I did.\""));
-        activeMenu.add(new Option(this.manager, "hate", "\"I just really hate the people who put us here.\""));
-        activeMenu.add(new Option(this.manager, "kiss", "[Kiss her.]", this.hasVoice(Voice.SMITTEN)));
-        activeMenu.add(new Option(this.manager, "silent", "[Remain silent.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thornFree").instantiate(this.manager, Map.of("hasSmitten", AbstractCondition.of(this.hasVoice(Voice.SMITTEN))));
 
         switch (parser.promptOptionsMenu(activeMenu)) {
-            case "hate":
+            case HATE:
                 mainScript.runSection("freeHate");
-            case "ofCourse":
+            case OFCOURSE:
                 mainScript.runSection("freeSmileLeave");
                 break;
 
-            case "kiss":
+            case KISS:
                 thornKiss = true;
                 
-            case "silent":
+            case SILENT:
                 mainScript.runSection("freeLeave");
                 break;
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "cut", "[Cut into the thorns.]"));
-        activeMenu.add(new Option(this.manager, "step", "[Step into the thorns.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thornFree2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cut":
+                case CUT:
                     this.repeatActiveMenu = false;
                     mainScript.runConditionalSection("cutFree", thornKiss);
                     break;
 
-                case "cGoStairs":
-                case "step":
+                case CGOSTAIRS:
+                case STEP:
                     this.repeatActiveMenu = false;
                     mainScript.runConditionalSection("stepFree", thornKiss);
 
@@ -5317,14 +4930,13 @@ public class ChapterIII extends StandardCycle {
 
         // Leave the basement
         this.currentLocation = GameLocation.CABIN;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "step", "[Step into your freedom.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thornFree3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (activeOutcome) {
-                case "cGoHill":
-                case "step":
+                case CGOHILL:
+                case STEP:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -5347,22 +4959,20 @@ public class ChapterIII extends StandardCycle {
     private ChapterEnding thornLeave() {
         mainScript.runSection("leaveStart");
 
-        if (this.hasBlade) return ChapterEnding.ABANDONMENT;
+        if (this.hasBlade()) return ChapterEnding.ABANDONMENT;
         
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "rush", "[Rush for the blade.]"));
-        activeMenu.add(new Option(this.manager, "nothing", "[Do nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "thornLeave").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cTakeBlade":
-                case "rush":
+                case CTAKEBLADE:
+                case RUSH:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("leaveRush");
                     break;
 
-                case "nothing":
+                case NOTHING:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("leaveNothing");
                     break;
@@ -5392,54 +5002,49 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection();
 
         Condition noLastTimeExplore = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "blade", "(Explore) Should we talk about how we still have the blade? We've never started with the blade before."));
-        activeMenu.add(new Option(this.manager, "void", "(Explore) She died last time, and the way you decided to thank us was locking us away in a happiness void forever.", this.prisonerGoodEndingSeen, noLastTimeExplore));
-        activeMenu.add(new Option(this.manager, "sure", "(Explore) Are you sure we even need to slay her? She cut her own head off last time.", noLastTimeExplore));
-        activeMenu.add(new Option(this.manager, "happy", "(Explore) I was happy with eternal bliss last time.", this.prisonerGoodEndingSeen, noLastTimeExplore));
-        activeMenu.add(new Option(this.manager, "toss", "(Explore) I'm not taking the blade again. [Toss your weapon into the woods.]", activeMenu.get("blade")));
-        activeMenu.add(new Option(this.manager, "proceedA", "No way out but through. Let's go see her. [Proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "proceedB", "[Silently proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "abort", this.cantTryAbort, "I'm done with this. Bye! [Turn around and leave.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cage").instantiate(this.manager, Map.of(
+            "prisonerGoodEndingSeen", AbstractCondition.of(this.prisonerGoodEndingSeen()),
+            "noLastTimeExplore", noLastTimeExplore,
+            "cantTryAbort", this.cantTryAbort));
 
         boolean tossBladeAttempt = false;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "blade":
+                case BLADE:
                     this.canDropBlade = true;
                     this.canThrowBlade = true;
                     mainScript.runSection("bladeWoods");
                     break;
 
-                case "void":
-                case "sure":
-                case "happy":
+                case VOID:
+                case SURE:
+                case HAPPY:
                     noLastTimeExplore.set(false);
                     mainScript.runSection(activeOutcome + "Woods");
                     break;
 
-                case "cDrop":
-                case "cThrow":
-                case "toss":
+                case CDROP:
+                case CTHROW:
+                case TOSS:
                     tossBladeAttempt = this.cageTossBladeAttempt();
                     this.canDropBlade = false;
                     this.canThrowBlade = false;
                     break;
 
-                case "cGoHill":
-                case "proceedA":
-                case "proceedB":
+                case CGOHILL:
+                case PROCEEDA:
+                case PROCEEDB:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (cantTryAbort.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "abort":
+                case ABORT:
                     if (!this.canAbort) {
                         cantTryAbort.set();
                         parser.printDialogueLine(CANTSTRAY);
@@ -5450,13 +5055,13 @@ public class ChapterIII extends StandardCycle {
                     this.abortVessel(true);
                     return ChapterEnding.ABORTED;
 
-                case "cDropNoBladeFail":
-                case "cThrowNoBladeFail":
+                case CDROPNOBLADEFAIL:
+                case CTHROWNOBLADEFAIL:
                     mainScript.runSection("alreadyTossed");
                     break;
 
-                case "cDropFail":
-                case "cThrowFail":
+                case CDROPFAIL:
+                case CTHROWFAIL:
                     mainScript.runSection("tossSecondAttempt");
                     break;
 
@@ -5468,15 +5073,14 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         mainScript.runSection("hillDialogue");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cage2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
                 
@@ -5489,16 +5093,15 @@ public class ChapterIII extends StandardCycle {
         this.mirrorPresent = true;
         mainScript.runSection("cabinIntro");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cage3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoStairs":
-                case "cApproachMirror":
-                case "approach":
+                case CGOSTAIRS:
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5509,58 +5112,43 @@ public class ChapterIII extends StandardCycle {
         // Approach the mirror, falling into the basement
         this.currentLocation = GameLocation.BASEMENT;
         this.mirrorPresent = false;
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
         mainScript.runSection("approachMirror");
 
         boolean moveAttempt = false;
         this.canSlayPrincess = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "talkA", "\"Hello?\""));
-        activeMenu.add(new Option(this.manager, "talkB", "\"Are you mad at me?\""));
-        activeMenu.add(new Option(this.manager, "talkC", "\"So you can come back too.\""));
-        activeMenu.add(new Option(this.manager, "talkD", "\"Look, I'm sorry about what happened last time. I'm... supposed to be sorry, right?\""));
-        activeMenu.add(new Option(this.manager, "talkE", "\"Why the hell did you cut your head off?\""));
-        activeMenu.add(new Option(this.manager, "attack", "[Attack her.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "wait", "[Wait for her to make the first move.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cage4").instantiate(this.manager, Map.of("hasBlade", AbstractCondition.of(this.hasBlade())));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "talkA":
-                case "talkB":
-                case "talkC":
-                case "talkD":
-                case "talkE":
+                case TALKA:
+                case TALKB:
+                case TALKC:
+                case TALKD:
+                case TALKE:
                     mainScript.runSection("");
 
-                    this.activeMenu = new OptionsMenu();
-                    activeMenu.add(new Option(this.manager, "talkA", "(Explore) \"Hello?\""));
-                    activeMenu.add(new Option(this.manager, "talkB", "(Explore) \"I'm talking to you.\""));
-                    activeMenu.add(new Option(this.manager, "talkC", "(Explore) \"I'm sorry, okay? I'm sorry!\""));
-                    activeMenu.add(new Option(this.manager, "talkD", "(Explore) \"Look, I'm sorry about what happened last time. I'm... supposed to be sorry, right?\""));
-                    activeMenu.add(new Option(this.manager, "attack", "(Explore) \"Screw it.\" [Attack her.]", this.hasBlade));
-                    activeMenu.add(new Option(this.manager, "free", "(Explore) [Try to slip free.]", !this.hasVoice(Voice.PARANOID)));
-                    activeMenu.add(new Option(this.manager, "cut", "(Explore) [Try to cut yourself free.]", this.hasVoice(Voice.PARANOID)));
-                    activeMenu.add(new Option(this.manager, "silent", "(Explore) [Remain silent.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterIII", "cage5").instantiate(this.manager, Map.of("hasBlade", AbstractCondition.of(this.hasBlade()), "hasParanoid", AbstractCondition.of(this.hasVoice(Voice.PARANOID))));
 
                     while (repeatActiveMenu) {
                         switch (parser.promptOptionsMenu(activeMenu)) {
-                            case "talkA":
-                            case "talkB":
-                            case "talkC":
-                            case "talkD":
+                            case TALKA:
+                            case TALKB:
+                            case TALKC:
+                            case TALKD:
                                 this.repeatActiveMenu = false;
                                 break;
 
-                            case "cSlayPrincess":
-                            case "attack":
+                            case CSLAYPRINCESS:
+                            case ATTACK:
                                 mainScript.runSection("attackAttempt");
-                            case "free":
+                            case FREE:
                                 this.repeatActiveMenu = false;
                                 moveAttempt = true;
                                 break;
 
-                            case "cut":
+                            case CUT:
                                 this.repeatActiveMenu = false;
                                 cageCutRoute.set();
                                 mainScript.runSection("cut1");
@@ -5572,14 +5160,14 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "cSlayPrincess":
-                case "attack":
+                case CSLAYPRINCESS:
+                case ATTACK:
                     this.repeatActiveMenu = false;
                     moveAttempt = true;
                     mainScript.runSection("attackAttempt");
                     break;
 
-                case "wait":
+                case WAIT:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5593,10 +5181,10 @@ public class ChapterIII extends StandardCycle {
         this.activeMenu = new OptionsMenu();
         activeMenu.add(new Option(this.manager, "help", "(Explore) \"What is your problem with me? I've only ever tried to help you.\""));
         activeMenu.add(new Option(this.manager, "fix", "(Explore) \"Let me down! Killing me isn't going to fix anything.\""));
-        activeMenu.add(new Option(this.manager, "noBlade", "(Explore) \"Look, I didn't even bring a knife. I just wanted to talk to you.\"", !this.hasBlade));
+        activeMenu.add(new Option(this.manager, "noBlade", "(Explore) \"Look, I didn't even bring a knife. I just wanted to talk to you.\"", !this.hasBlade()));
         activeMenu.add(new Option(this.manager, "happened", "(Explore) \"What... happened to you?\""));
         activeMenu.add(new Option(this.manager, "head", "(Explore) \"You cut your own head off last time. You can't be mad at me about that!\""));
-        activeMenu.add(new Option(this.manager, "cutFail", "(Explore) [Attempt to cut yourself free.]", this.hasBlade && !cageCutRoute.check()));
+        activeMenu.add(new Option(this.manager, "cutFail", "(Explore) [Attempt to cut yourself free.]", this.hasBlade() && !cageCutRoute.check()));
         activeMenu.add(new Option(this.manager, "swing", "(Explore) [Swing your blade.]"));
         activeMenu.add(new Option(this.manager, "cutCont", "(Explore) [Keep cutting.]", this.cageCutRoute));
         activeMenu.add(new Option(this.manager, "silent", "(Explore) [Remain silent.]"));
@@ -5606,40 +5194,40 @@ public class ChapterIII extends StandardCycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "help":
+                case HELP:
                     helpMentioned = true;
-                case "fix":
-                case "happened":
-                case "head":
+                case FIX:
+                case HAPPENED:
+                case HEAD:
                     this.repeatActiveMenu = false;
                     cageCutRoute.set(false);
                     mainScript.runSection(activeOutcome + "Menu1");
                     break;
 
-                case "noBlade":
+                case NOBLADE:
                     this.repeatActiveMenu = false;
                     this.cageNoBladeMentioned = true;
                     mainScript.runSection("noBladeMenu1");
                     break;
 
-                case "cutFail":
+                case CUTFAIL:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("cutFailMenu1");
                     break;
 
-                case "cSlayPrincess":
-                case "swing":
+                case CSLAYPRINCESS:
+                case SWING:
                     this.repeatActiveMenu = false;
                     cageCutRoute.set(false);
                     mainScript.runSection("swingMenu1");
                     break;
 
-                case "cutCont":
+                case CUTCONT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("cut2");
                     break;
 
-                case "silent":
+                case SILENT:
                     this.repeatActiveMenu = false;
                     cageCutRoute.set(false);
                     mainScript.runSection("silentMenu1");
@@ -5650,40 +5238,35 @@ public class ChapterIII extends StandardCycle {
         }
 
         this.canDropBlade = true;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "cut", "[Cut yourself free.]", this.cageCutRoute));
-        activeMenu.add(new Option(this.manager, "none", "(Explore) \"None of this is my fault. I haven't done anything to you except give you my weapon, twice.\""));
-        activeMenu.add(new Option(this.manager, "body", "(Explore) \"'She?' Are you talking about your body as if it's a separate person? It's you.\""));
-        activeMenu.add(new Option(this.manager, "help", "(Explore) \"Nothing that's happened to you is my fault. Again, I keep trying to help you.\"", helpMentioned));
-        activeMenu.add(new Option(this.manager, "watcher", "(Explore) \"What do you mean, you're just a watcher? You cut your own head off last time. You made that decision.\""));
-        activeMenu.add(new Option(this.manager, "choices", "(Explore) \"You've made choices. And you've never stopped. You're choosing violence right now.\""));
-        activeMenu.add(new Option(this.manager, "drop", "(Explore) [Drop the blade.]", this.hasBlade));
-        activeMenu.add(new Option(this.manager, "silent", "(Explore) [Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cage6").instantiate(this.manager, Map.of(
+            "cageCutRoute", this.cageCutRoute,
+            "helpMentioned", AbstractCondition.of(helpMentioned),
+            "hasBlade", AbstractCondition.of(this.hasBlade())));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cut":
+                case CUT:
                     mainScript.runSection("cut3");
                     this.cageSlay();
                     return ChapterEnding.RIDDLEOFSTEEL;
 
-                case "none":
-                case "body":
-                case "help":
-                case "watcher":
-                case "choices":
-                case "silent":
+                case NONE:
+                case BODY:
+                case HELP:
+                case WATCHER:
+                case CHOICES:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     cageCutRoute.set(false);
                     mainScript.runSection(activeOutcome + "Menu2");
                     break;
 
-                case "cDrop":
-                case "drop":
+                case CDROP:
+                case DROP:
                     this.repeatActiveMenu = false;
-                    this.hasBlade = false;
+                    this.flags.set(ChapterFlag.HASBLADE, false);
                     cageCutRoute.set(false);
                     mainScript.runSection("dropMenu2");
                     break;
@@ -5692,12 +5275,12 @@ public class ChapterIII extends StandardCycle {
             }
         }
 
-        if (this.threwBlade) return this.cageEmpty();
+        if (this.threwBlade()) return this.cageEmpty();
 
-        this.hasBlade = false;
+        this.flags.set(ChapterFlag.HASBLADE, false);
         this.canDropBlade = false;
         this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "forced", "(Explore) \"I didn't want to take the knife with me. I was *forced* to.\"", tossBladeAttempt && this.hasBlade));
+        activeMenu.add(new Option(this.manager, "forced", "(Explore) \"I didn't want to take the knife with me. I was *forced* to.\"", tossBladeAttempt && this.hasBlade()));
         activeMenu.add(new Option(this.manager, "setup", "(Explore) \"You're setting me up to fail. I can't make real choices strung up like this, and you're refusing to make any choices at all.\""));
         activeMenu.add(new Option(this.manager, "will", "(Explore) \"Us choosing the same moves every time we play isn't an indictment of anyone's free will. It's just how things happened to play out. I could have thrown away that knife in the woods if I wanted to. But I chose to come here with it.\"", !tossBladeAttempt));
         activeMenu.add(new Option(this.manager, "supposed", "(Explore) \"What was I supposed to have done? Did you want me to carry your severed head out of the cabin with me? I thought you were *dead.*\""));
@@ -5708,13 +5291,7 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "Menu3");
         this.removeVoice(Voice.NARRATOR);
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "ripped", "\"I didn't let go. You ripped my head off.\""));
-        activeMenu.add(new Option(this.manager, "do", "\"What are we supposed to do now?\""));
-        activeMenu.add(new Option(this.manager, "pattern", "\"You didn't cut yourself free. My body is still the one with the knife. Doesn't that mean this is different? Doesn't that mean I broke your pattern?\""));
-        activeMenu.add(new Option(this.manager, "head", "\"This isn't nicer! I'm a severed head.\""));
-        activeMenu.add(new Option(this.manager, "guess", "\"I thought that would be the end of me. I guess this isn't so bad.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cage7").instantiate(this.manager);
 
         mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "Decapitate");
         return ChapterEnding.NOEXIT;
@@ -5727,19 +5304,16 @@ public class ChapterIII extends StandardCycle {
     private boolean cageTossBladeAttempt() {
         mainScript.runSection("tossStart");
 
-        this.subMenu = new OptionsMenu();
-        subMenu.add(new Option(this.manager, "toss1", "[Do it. Toss the blade.]"));
-        subMenu.add(new Option(this.manager, "toss2", "I'm in charge, and I say we're tossing the blade. You had your chance last time, and we all saw how that worked out for us.", subMenu.get("toss1")));
-        subMenu.add(new Option(this.manager, "keep", "Fine. Have it your way. I'll keep it."));
+        this.subMenu = MenuTemplate.get("ChapterIII", "cageTossBladeAttempt").instantiate(this.manager);
 
         boolean secondChoice = false;
         boolean repeatMenu = true;
         while (repeatMenu) {
             switch (parser.promptOptionsMenu(subMenu)) {
-                case "cDrop":
-                case "cThrow":
-                case "toss1":
-                case "toss2":
+                case CDROP:
+                case CTHROW:
+                case TOSS1:
+                case TOSS2:
                     if (secondChoice) {
                         repeatMenu = false;
                     } else {
@@ -5749,7 +5323,7 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "keep":
+                case KEEP:
                     mainScript.runSection("tossKeepBlade");
                     return false;
 
@@ -5761,18 +5335,14 @@ public class ChapterIII extends StandardCycle {
         if (this.hasVoice(Voice.PARANOID)) {
             mainScript.runSection("paraSkepMutiny");
 
-            this.subMenu = new OptionsMenu(true);
-            subMenu.add(new Option(this.manager, "fakeA", true, "Are you seriously not letting me toss it?"));
-            subMenu.add(new Option(this.manager, "fakeB", true, "Real mature."));
-            subMenu.add(new Option(this.manager, "fakeC", true, "When this goes sideways, it's on the two of you."));
-            subMenu.add(new Option(this.manager, "keep", "Fine. Then I guess we're keeping it."));
+            this.subMenu = MenuTemplate.get("ChapterIII", "cageTossBladeAttempt2").instantiate(this.manager);
 
             parser.promptOptionsMenu(subMenu);
             mainScript.runSection();
             return true;
         } else {
-            this.hasBlade = false;
-            this.threwBlade = true;
+            this.flags.set(ChapterFlag.HASBLADE, false);
+            this.flags.set(ChapterFlag.THREWBLADE);
             mainScript.runSection("tossBlade");
             return false;
         }
@@ -5785,56 +5355,41 @@ public class ChapterIII extends StandardCycle {
     private ChapterEnding cageEmpty() {
         mainScript.runConditionalSection("emptyStart", this.cageNoBladeMentioned);
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "where", "\"Yeah, is that right? I bring you the knife? Where do you think it is?\""));
-        activeMenu.add(new Option(this.manager, "already", "\"You clearly weren't listening to me earlier, because I already told you I threw away that knife. I ditched it before I even got to the cabin.\"", this.cageNoBladeMentioned));
-        activeMenu.add(new Option(this.manager, "chose", "\"There's no grand scheme guiding us along a predetermined path. We're both agents of chaos who make our own choices. And this time, I chose to talk to you. Unarmed.\""));
-        activeMenu.add(new Option(this.manager, "pattern", "\"Your pattern's broken. I'm unarmed.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Silently wave your empty hands.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cageEmpty").instantiate(this.manager, Map.of("cageNoBladeMentioned", AbstractCondition.of(this.cageNoBladeMentioned)));
 
         mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "EmptyStart");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "you", "\"You've been the one listening to me. You made yourself stop. And now you can decide to finally let me down.\""));
-        activeMenu.add(new Option(this.manager, "guard", "\"What do you actually want? The only way we can get out of here is if you drop your guard. Just like I did.\""));
-        activeMenu.add(new Option(this.manager, "know", "\"I think you know what it's supposed to mean.\""));
-        activeMenu.add(new Option(this.manager, "talk", "\"Well? Are you ready to talk?\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cageEmpty2").instantiate(this.manager);
 
         this.princessViolent = false;
         mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "EmptyCont");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "take", "[Take your Princess from her cage.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cageEmpty3").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu);
 
         mainScript.runSection();
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "take", "[Take hold of the chain.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cageEmpty4").instantiate(this.manager);
         parser.promptOptionsMenu(activeMenu);
         
         mainScript.runSection();
 
         this.currentLocation = GameLocation.CABIN;
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "will", "(Explore) \"You know, it's funny. All of this talk about free will, and I feel like I'm locked into this outcome.\""));
-        activeMenu.add(new Option(this.manager, "leave", "[Step into your freedom.]"));
-        activeMenu.add(new Option(this.manager, "drop", "[Drop her.]", activeMenu.get("will")));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cageEmpty5").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "will":
+                case WILL:
                     mainScript.runSection("willExploreEmpty");
                     break;
 
-                case "cGoHill":
-                case "leave":
+                case CGOHILL:
+                case LEAVE:
                     mainScript.runSection("freeEnd");
                     return ChapterEnding.ALLEGORYOFCAGE;
 
-                case "drop":
+                case DROP:
                     mainScript.runSection("willEnd");
                     return ChapterEnding.FREEWILL;
 
@@ -5849,20 +5404,14 @@ public class ChapterIII extends StandardCycle {
      * The player cuts themselves free from the chains and slays the Cage
      */
     private void cageSlay() {
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "fakeA", true, "The pieces fall into place."));
-        activeMenu.add(new Option(this.manager, "fakeB", true, "For every permutation, there is a pattern."));
-        activeMenu.add(new Option(this.manager, "fakeC", true, "And when the pattern is learned, the illusion dissolves."));
-        activeMenu.add(new Option(this.manager, "fakeD", true, "But was the pattern always there, or were you the ones who wrote it in the sand?"));
-        activeMenu.add(new Option(this.manager, "fakeE", true, "The writers must follow their own script."));
-        activeMenu.add(new Option(this.manager, "give", "[Give her your implement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "cageSlay").instantiate(this.manager);
 
         this.canGiveBlade = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGiveBlade":
-                case "give":
+                case CGIVEBLADE:
+                case GIVE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5897,47 +5446,45 @@ public class ChapterIII extends StandardCycle {
         }
         mainScript.updateChapterSource();
 
-        mainScript.runConditionalSection(this.source + "Start", this.prisonerHeartStopped);
+        mainScript.runConditionalSection(this.source + "Start", this.prisonerHeartStopped());
 
         Condition noDifferentAsk = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "rain", "(Explore) It's raining. It wasn't raining last time. Or the time before that. The whole path is different.", source.equals("drowned"), noDifferentAsk));
-        activeMenu.add(new Option(this.manager, "different", "(Explore) We haven't talked enough about how different this place is. It wasn't different last time.", noDifferentAsk));
-        activeMenu.add(new Option(this.manager, "noCabin", "(Explore) What happens if we don't go to the cabin?"));
-        activeMenu.add(new Option(this.manager, "charge", "(Explore) I'm the one in charge here, and if we slay her again, you are not going to make us kill ourself. Is that clear?", source.equals("burned")));
-        activeMenu.add(new Option(this.manager, "noWant", "(Explore) I'll have you know that I didn't want to kill myself last time.", this.prisonerHeartStopped));
-        activeMenu.add(new Option(this.manager, "proceed", "Whatever happens next, it seems like all our answers are in the cabin. We might as well see this through. [Proceed to the cabin.]"));
-        activeMenu.add(new Option(this.manager, "abort", this.cantTryAbort, "I'm done with this. Bye! [Turn around and leave.]", 0));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "grey").instantiate(this.manager, Map.of(
+            "sourceDrowned", AbstractCondition.of(source.equals("drowned")),
+            "noDifferentAsk", noDifferentAsk,
+            "sourceBurned", AbstractCondition.of(source.equals("burned")),
+            "prisonerHeartStopped", AbstractCondition.of(this.prisonerHeartStopped()),
+            "cantTryAbort", this.cantTryAbort));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "rain":
+                case RAIN:
                     mainScript.runSection("rainPath");
-                case "different":
+                case DIFFERENT:
                     noDifferentAsk.set(false);
                     mainScript.runSourceSection("DifferentPath");
                     break;
 
-                case "noCabin":
+                case NOCABIN:
                     mainScript.runSection("noCabinPath");
                     break;
                     
-                case "charge":
-                case "noWant":
+                case CHARGE:
+                case NOWANT:
                     mainScript.runSection(activeOutcome + "Path");
 
-                case "cGoHill":
-                case "proceed":
+                case CGOHILL:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
+                case CGOLEAVE:
                     if (this.cantTryAbort.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                     }
-                case "abort":
+                case ABORT:
                     if (manager.nClaimedVessels() >= 2) {
                         cantTryAbort.set();
                         parser.printDialogueLine(CANTSTRAY);
@@ -5956,14 +5503,13 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.HILL;
         mainScript.runSourceSection("Hill");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed into the cabin.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "grey2").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoCabin":
-                case "proceed":
+                case CGOCABIN:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -5977,20 +5523,18 @@ public class ChapterIII extends StandardCycle {
         this.mirrorPresent = true;
         mainScript.runSourceSection("Cabin");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "explore", "(Explore) But there is no door."));
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "grey3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "explore":
+                case EXPLORE:
                     mainScript.runSourceSection("AskMirror");
                     break;
 
-                case "cApproachMirror":
-                case "cGoStairs":
-                case "approach":
+                case CAPPROACHMIRROR:
+                case CGOSTAIRS:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -6001,18 +5545,17 @@ public class ChapterIII extends StandardCycle {
         // Approach the mirror
         mainScript.runSection("approachMirror");
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "wipe", "[Wipe the mirror clean.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "grey4").instantiate(this.manager);
         
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cWipe":
-                case "wipe":
+                case CWIPE:
+                case WIPE:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cApproachAtMirrorFail":
+                case CAPPROACHATMIRRORFAIL:
                     this.giveDefaultFailResponse(activeOutcome);
                     break;
 
@@ -6021,18 +5564,17 @@ public class ChapterIII extends StandardCycle {
         }
         
         // Wipe the mirror clean
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
         this.mirrorPresent = false;
         mainScript.runSection("wipeMirror");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "enter", "[Enter the basement.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "grey5").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGoStairs":
-                case "enter":
+                case CGOSTAIRS:
+                case ENTER:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -6045,31 +5587,26 @@ public class ChapterIII extends StandardCycle {
         mainScript.runSourceSection("StairsStart");
 
         Condition noStairsExplore = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "sorry", "(Explore) \"I'm sorry about last time! Are we good?\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "anyone", "(Explore) \"Is anyone there?\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "talk", "(Explore) \"I think we have a lot to talk about.\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "weapon", "(Explore) \"I don't have a weapon. There wasn't anything upstairs for me when I got here.\"", noStairsExplore));
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed down the stairs.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "grey6").instantiate(this.manager, Map.of("noStairsExplore", noStairsExplore));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "sorry":
-                case "anyone":
-                case "talk":
+                case SORRY:
+                case ANYONE:
+                case TALK:
                     noStairsExplore.set(false);
                     mainScript.runSection("stairsExploreA");
                     break;
 
-                case "weapon":
+                case WEAPON:
                     noStairsExplore.set(false);
                     mainScript.runSection("stairsExploreB");
                     break;
 
-                case "cGoBasement":
-                case "proceed":
+                case CGOBASEMENT:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -6119,14 +5656,14 @@ public class ChapterIII extends StandardCycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             // Redirect to rush options
-            if (activeOutcome.equals("cTakeBlade")) {
-                this.activeOutcome = "Blade";
-            } else if (activeOutcome.equals("cGoStairs")) {
-                this.activeOutcome = "Door";
+            if (activeOutcome == Outcome.CTAKEBLADE) {
+                this.activeOutcome = Outcome.GREYBLADE;
+            } else if (activeOutcome == Outcome.CGOSTAIRS) {
+                this.activeOutcome = Outcome.GREYDOOR;
             }
 
             switch (activeOutcome) {
-                case "Why":
+                case GREYWHY:
                     if (source.equals("burned")) {
                         burnedTogetherComment.set();
                         mainScript.runSection("burnedWhy");
@@ -6134,22 +5671,22 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "Kill":
+                case GREYKILL:
                     mainScript.runConditionalSection(this.source + "Kill", burnedTogetherComment);
                     burnedTogetherComment.set();
                     break;
 
-                case "Die":
+                case GREYDIE:
                     if (source.equals("burned") || deathTimer.equals(1)) {
                         mainScript.runSection(source + "Die");
                     }
 
                     break;
 
-                case "Wrong":
-                case "Even":
-                case "Beg":
-                case "Sorry":
+                case GREYWRONG:
+                case GREYEVEN:
+                case GREYBEG:
+                case GREYSORRY:
                     if (source.equals("burned") || deathTimer.equals(1)) {
                         mainScript.runConditionalSection(this.source + activeOutcome, burnedGrudgeComment);
                         burnedGrudgeComment = true;
@@ -6157,11 +5694,11 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "Blade":
-                case "Door":
+                case GREYBLADE:
+                case GREYDOOR:
                     incrementFlag = false;
                     deathTimer.set(3); // Fast-forward
-                    mainScript.runSourceSection(activeOutcome);
+                    mainScript.runSourceSection(activeOutcome.getID());
                     break;
 
                 default:
@@ -6203,36 +5740,31 @@ public class ChapterIII extends StandardCycle {
 
         boolean currentMirrorComment = false;
         Condition noLeaveAttempt = new Condition(true);
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "blade", "(Explore) Does it matter if the blade's here? We didn't use it last time, and the time before that she used it to kill us."));
-        activeMenu.add(new Option(this.manager, "smitten", "(Explore) Hey, where's \"The Voice of the Smitten?\" He was here last time. And it's not like him to be this quiet.", this.hasVoice(Voice.OPPORTUNIST)));
-        activeMenu.add(new Option(this.manager, "mirror", "(Explore) So none of you are going to talk about the mirror?"));
-        activeMenu.add(new Option(this.manager, "approach", "[Approach the mirror.]"));
-        activeMenu.add(new Option(this.manager, "leave", "[Turn around and leave.]", noLeaveAttempt));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter").instantiate(this.manager, Map.of("hasOpportunist", AbstractCondition.of(this.hasVoice(Voice.OPPORTUNIST)), "noLeaveAttempt", noLeaveAttempt));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "mirror":
+                case MIRROR:
                     currentMirrorComment = true;
-                case "blade":
-                case "smitten":
+                case BLADE:
+                case SMITTEN:
                     mainScript.runSection(activeOutcome + "Start");
                     break;
 
-                case "cGoStairs":
-                case "cApproachMirror":
-                case "approach":
+                case CGOSTAIRS:
+                case CAPPROACHMIRROR:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoHill":
+                case CGOHILL:
                     if (!noLeaveAttempt.check()) {
                         mainScript.runSection("abortRepeatStart");
                         break;
                     }
-                case "leave":
+                case LEAVE:
                     noLeaveAttempt.set(false);
                     mainScript.runSection("abortAttemptStart");
                     break;
@@ -6242,18 +5774,17 @@ public class ChapterIII extends StandardCycle {
         // Approach the mirror
         mainScript.runConditionalSection("approachMirror", currentMirrorComment);
 
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "reach", "[Reach forward.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter2").instantiate(this.manager);
         
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cWipe":
-                case "reach":
+                case CWIPE:
+                case REACH:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cApproachAtMirrorFail":
+                case CAPPROACHATMIRRORFAIL:
                     this.giveDefaultFailResponse(activeOutcome);
                     break;
 
@@ -6265,17 +5796,16 @@ public class ChapterIII extends StandardCycle {
         this.currentLocation = GameLocation.STAIRS;
         this.mirrorPresent = false;
         mainScript.runConditionalSection("reachMirror", noLeaveAttempt);
-        this.touchedMirror = true;
+        this.flags.set(ChapterFlag.TOUCHEDMIRROR);
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "proceed", "[Proceed up the stairs.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter3").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGoBasement":
-                case "proceed":
+                case CGOBASEMENT:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -6343,8 +5873,8 @@ public class ChapterIII extends StandardCycle {
 
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "smittenSkeptic":
-                case "smittenOppo":
+                case SMITTENSKEPTIC:
+                case SMITTENOPPO:
                     happyCanTorchComment.set(false);
                     shadowTorchesKnown.set();
                     mainScript.runConditionalSection("smittenMenu", himAsked);
@@ -6356,20 +5886,20 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "happened":
+                case HAPPENED:
                     noTorchesComment.set(false);
                     defensiveFlag = true;
                     mainScript.runSection("happenedMenu");
                     break;
 
-                case "wrong":
+                case WRONG:
                     noTorchesComment.set(false);
                     otherHimMention.set();
                     mainScript.runSection("wrongMenu");
                     break;
 
-                case "torch":
-                case "right":
+                case TORCH:
+                case RIGHT:
                     mainScript.runSection(activeOutcome + "Menu");
 
                     if (noDinner.check()) {
@@ -6385,22 +5915,22 @@ public class ChapterIII extends StandardCycle {
 
                     break;
 
-                case "everything":
+                case EVERYTHING:
                     activeMenu.setCondition("right", false);
-                case "truth":
+                case TRUTH:
                     this.happyTorchFlag = true;
                     mainScript.runSection(activeOutcome + "Menu");
                     break;
 
-                case "happy":
+                case HAPPY:
                     happyCanTorchComment.set(false);
                     defensiveFlag = true;
                     happyAsked.set();
                     mainScript.runSection("happyMenu");
                     break;
 
-                case "shadowA":
-                case "shadowB":
+                case SHADOWA:
+                case SHADOWB:
                     happyCanTorchComment.set(false);
                     defensiveFlag = true;
                     shadowTorchesKnown.set();
@@ -6408,63 +5938,63 @@ public class ChapterIII extends StandardCycle {
                     mainScript.runSection("shadowMenu");
                     break;
 
-                case "him":
+                case HIM:
                     himAsked.set();
                     canAskWhatDo.set(false);
                     mainScript.runConditionalSection("himMenu", this.happyGetUpAttempt);
                     happySmittenKnown.set(this.hasVoice(Voice.SKEPTIC));
                     break;
 
-                case "place":
+                case PLACE:
                     noTorchesComment.set(false);
                     mainScript.runSection("placeMenu");
                     break;
 
-                case "supposed":
+                case SUPPOSED:
                     dinnerEaten.set(this.happilyEverAfterDinner(false));
                     break;
 
-                case "dinner":
+                case DINNER:
                     dinnerEaten.set(this.happilyEverAfterDinner(true));
                     break;
 
-                case "games":
+                case GAMES:
                     happyGamesOver.set();
                     this.happyTorchFlag = true;
                     mainScript.runSection("gamesMenu");
                     break;
 
-                case "nowWhat":
+                case NOWWHAT:
                     this.happyTorchFlag = true;
                     mainScript.runSection("nowWhatMenu");
                     break;
 
-                case "cantLeave":
+                case CANTLEAVE:
                     happyCanTorchComment.set(false);
                     otherHimMention.set();
                     activeMenu.setCondition("everything", true);
                     mainScript.runConditionalSection("cantLeaveMenu", this.happyTorchesLit);
                     break;
 
-                case "cGoStairs":
-                case "cApproachHerFail":
+                case CGOSTAIRS:
+                case CAPPROACHHERFAIL:
                     if (happyGetUpAttempt.check()) {
                         mainScript.runConditionalSection("getUpRepeat", himKnown);
                         break;
                     }
-                case "getUpA":
-                case "getUpB":
+                case GETUPA:
+                case GETUPB:
                     happyGetUpAttempt.set();
                     mainScript.runConditionalSection("getUpMenu", false);
                     break;
 
-                case "cTakeBlade":
-                case "cSlayPrincessNoBladeFail":
+                case CTAKEBLADE:
+                case CSLAYPRINCESSNOBLADEFAIL:
                     if (happyGetUpAttempt.check()) {
                         mainScript.runConditionalSection("getUpRepeat", himKnown);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     happyGetUpAttempt.set();
                     mainScript.runConditionalSection("getUpMenu", true);
                     break;
@@ -6486,30 +6016,21 @@ public class ChapterIII extends StandardCycle {
         // The third torch goes out, leaving only one final torch lit
         boolean danceFlag = false;
         boolean danceMentioned = false;
-        this.activeMenu = new OptionsMenu(true);
-        activeMenu.add(new Option(this.manager, "you", "\"What do you think will happen?\""));
-        activeMenu.add(new Option(this.manager, "anything", "\"Don't worry about what's going to happen. If you could do anything in the world, what would it be? What would *you* choose?\""));
-        activeMenu.add(new Option(this.manager, "real", "\"Whatever the shadows have been showing us isn't real. We need to see what happens when the lights go out.\""));
-        activeMenu.add(new Option(this.manager, "stay", "\"We don't have to let it go out.\""));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter4").instantiate(this.manager);
 
         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
         switch (activeOutcome) {
-            case "you":
+            case YOU:
                 mainScript.runSection("youTorch");
 
-                this.activeMenu = new OptionsMenu(true);
-                activeMenu.add(new Option(this.manager, "anything", "\"If you could do anything in the world, what would it be? What would *you* choose?\""));
-                activeMenu.add(new Option(this.manager, "needs", "\"If your answer would blow it out, then it needs to be blown out.\""));
-                activeMenu.add(new Option(this.manager, "stay", "\"Then don't say it. We don't have to let it go out.\""));
-                activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter5").instantiate(this.manager);
 
                 switch (parser.promptOptionsMenu(activeMenu)) {
-                    case "stay":
+                    case STAY:
                         mainScript.runSection("stayEnd");
                         return ChapterEnding.DONTLETITGOOUT;
 
-                    case "anything":
+                    case ANYTHING:
                         danceFlag = true;
                         danceMentioned = true;
                     default: mainScript.runSection(activeOutcome + "Torch");
@@ -6517,11 +6038,11 @@ public class ChapterIII extends StandardCycle {
 
                 break;
 
-            case "stay":
+            case STAY:
                 mainScript.runSection("stayEnd");
                 return ChapterEnding.DONTLETITGOOUT;
 
-            case "anything":
+            case ANYTHING:
                 danceFlag = true;
                 danceMentioned = true;
             default: mainScript.runSection(activeOutcome + "Torch");
@@ -6529,46 +6050,36 @@ public class ChapterIII extends StandardCycle {
 
         // The final torch goes out
         InverseCondition noSlayAttempt = happySlayAttempt.getInverse();
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "empty", "I feel empty."));
-        activeMenu.add(new Option(this.manager, "that", "So that's that, huh?"));
-        activeMenu.add(new Option(this.manager, "why", "Why are you crying?"));
-        activeMenu.add(new Option(this.manager, "okay", "Are you okay?"));
-        activeMenu.add(new Option(this.manager, "sucks", "Well this sucks."));
-        activeMenu.add(new Option(this.manager, "here", "You can open your eyes. I'm still here, you know."));
-        activeMenu.add(new Option(this.manager, "nothing", "Nothing's changed. We're just sitting in the dark."));
-        activeMenu.add(new Option(this.manager, "sorry", "I'm sorry, I feel like all of this is my fault."));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]", noSlayAttempt));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter6").instantiate(this.manager, Map.of("noSlayAttempt", noSlayAttempt));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "empty":
-                case "that":
-                case "why":
-                case "okay":
-                case "sucks":
-                case "here":
-                case "nothing":
-                case "sorry":
+                case EMPTY:
+                case THAT:
+                case WHY:
+                case OKAY:
+                case SUCKS:
+                case HERE:
+                case NOTHING:
+                case SORRY:
                     this.repeatActiveMenu = false;
-                    mainScript.runConditionalSection("sharedDark", activeOutcome);
+                    mainScript.runConditionalSection("sharedDark", activeOutcome.getID());
                     break;
 
-                case "silent":
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("silentDark");
                     break;
 
-                case "cTakeBlade":
-                case "cSlayPrincessNoBladeFail":
+                case CTAKEBLADE:
+                case CSLAYPRINCESSNOBLADEFAIL:
                     if (happySlayAttempt.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     this.repeatActiveMenu = false;
                     if (this.happilyEverAfterSlay(false)) return ChapterEnding.FINALLYOVER;
                     break;
@@ -6577,48 +6088,37 @@ public class ChapterIII extends StandardCycle {
             }
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "yes", "\"Of course I do. I don't think I'll ever stop.\""));
-        activeMenu.add(new Option(this.manager, "real", "\"Whatever we had between us wasn't real. This is real.\""));
-        activeMenu.add(new Option(this.manager, "maybe", "\"I don't know if I ever have. But maybe I can now.\""));
-        activeMenu.add(new Option(this.manager, "dunno", "\"I'm not sure I've ever had the chance to figure out how I feel about you. I've just wanted to leave since the moment I found myself in the woods.\""));
-        activeMenu.add(new Option(this.manager, "no", "\"No.\""));
-        activeMenu.add(new Option(this.manager, "slay", "[Slay the Princess.]", noSlayAttempt));
-        activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter7").instantiate(this.manager, Map.of("noSlayAttempt", noSlayAttempt));
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "yes":
-                case "maybe":
-                case "dunno":
-                case "no":
-                case "silent":
+                case YES:
+                case MAYBE:
+                case DUNNO:
+                case NO:
+                case SILENT:
                     this.repeatActiveMenu = false;
                     mainScript.runSection(activeOutcome + "Stairs");
                     break;
 
-                case "real":
+                case REAL:
                     this.repeatActiveMenu = false;
                     mainScript.runSection("realStairs");
 
-                    this.activeMenu = new OptionsMenu(true);
-                    activeMenu.add(new Option(this.manager, "find", "\"I'd like to find out.\""));
-                    activeMenu.add(new Option(this.manager, "us", "\"It's us.\""));
-                    activeMenu.add(new Option(this.manager, "neither", "\"Neither do I.\""));
-                    activeMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
+                    this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter8").instantiate(this.manager);
 
                     mainScript.runSection(parser.promptOptionsMenu(activeMenu) + "RealStairs");
                     break;
 
-                case "cTakeBlade":
-                case "cSlayPrincessNoBladeFail":
+                case CTAKEBLADE:
+                case CSLAYPRINCESSNOBLADEFAIL:
                     if (happySlayAttempt.check()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "slay":
+                case SLAY:
                     this.repeatActiveMenu = false;
                     if (this.happilyEverAfterSlay(true)) return ChapterEnding.FINALLYOVER;
                     break;
@@ -6627,21 +6127,19 @@ public class ChapterIII extends StandardCycle {
             }
         }
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "hand", "[Offer her your hand.]"));
-        activeMenu.add(new Option(this.manager, "leave", "[Leave.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfter9").instantiate(this.manager);
 
         this.canOfferHand = true;
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "cGiveHand":
-                case "hand":
+                case CGIVEHAND:
+                case HAND:
                     danceFlag = true;
                     mainScript.runSection("handLeaveMenu");
-                case "cGoStairs":
-                case "leave":
+                case CGOSTAIRS:
+                case LEAVE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -6676,13 +6174,13 @@ public class ChapterIII extends StandardCycle {
         activeMenu.add(new Option(this.manager, "eat", "[Eat.]"));
 
         switch (parser.promptOptionsMenu(subMenu)) {
-            case "refuse":
+            case REFUSE:
                 activeMenu.setDisplay("games", "Forget about the food. What should we do now?");
                 activeMenu.setDisplay("nowWhat", "Okay, so... we've talked about food. We've played games. Now what?");
                 mainScript.runConditionalSection("refuseDinner", askedDirectly);
                 return false;
 
-            case "eat":
+            case EAT:
                 mainScript.runSection("eatDinner");
                 return true;
         }
@@ -6710,15 +6208,12 @@ public class ChapterIII extends StandardCycle {
         happySlayAttempt.set();
         mainScript.runSection("slayStart");
 
-        this.activeMenu = new OptionsMenu();
-        activeMenu.add(new Option(this.manager, "return", "You're right. What was I thinking?"));
-        activeMenu.add(new Option(this.manager, "slayA", "Don't get cold feet now. This is for the good of everyone. I'm saving the world here. [Slay the Princess.]"));
-        activeMenu.add(new Option(this.manager, "slayB", "I know what I decided to do. [Slay the Princess.]"));
+        this.activeMenu = MenuTemplate.get("ChapterIII", "happilyEverAfterSlay").instantiate(this.manager);
 
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "return":
+                case RETURN:
                     mainScript.runSection("slayReturn");
                     if (stoodUp) {
                         mainScript.runSection("silentDark");
@@ -6728,10 +6223,10 @@ public class ChapterIII extends StandardCycle {
 
                     return false;
 
-                case "cTakeBlade":
-                case "cSlayPrincessNoBladeFail":
-                case "slayA":
-                case "slayB":
+                case CTAKEBLADE:
+                case CSLAYPRINCESSNOBLADEFAIL:
+                case SLAYA:
+                case SLAYB:
                     this.repeatActiveMenu = false;
                     break;
 
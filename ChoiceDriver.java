@@ -0,0 +1,22 @@
+public interface ChoiceDriver {
+
+    /**
+     * Chooses an Option from a given OptionsMenu in place of the player
+     * @param menu the OptionsMenu being offered
+     * @return the number of the chosen Option, as the player would enter it
+     */
+    public int chooseOption(OptionsMenu menu);
+
+    /**
+     * Answers a yes/no question in place of the player
+     * @return true to answer YES, false to answer NO
+     */
+    public boolean chooseYesNo();
+
+    /**
+     * Enters a command in place of the player, when the game asks for one directly
+     * @return the command to enter
+     */
+    public String enterCommand();
+
+}
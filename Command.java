@@ -1,12 +1,18 @@
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 public enum Command {
-    HELP("help", "Display all available commands or information on a given command.", true, "", "help", "show", "toggle", "go", "walk", "enter", "leave", "turn", "slay", "take", "drop", "throw"),
+    HELP("help", "Display all available commands or information on a given command.", true, "", "help", "show", "toggle", "go", "walk", "enter", "leave", "turn", "slay", "take", "drop", "throw", "undo"),
     SHOW("show", "Display content warnings (general, by chapter, or for the current chapter) or the Achievement Gallery.", true, "", "general", "generic", "all", "full", "game", "full game", "full-game", "by chapter", "by-chapter", "chapter by chapter", "chapter-by-chapter", "chapters", "all chapters", "current", "active", "chapter", "current chapter", "active chapter", "route", "current route", "active route", "achievements", "gallery", "achievement gallery", "achievements gallery"),
     DIRECTGALLERY("", "View the Achievement Gallery.", "achievements", "gallery", "achievement gallery", "achievements gallery"),
     SETTINGS("settings", "View and change settings.", true, ""),
     TOGGLE("toggle", "Toggle a given setting.", true, "warnings", "content warnings", "cws", "trigger warnings", "tws", "now playing", "nowplaying", "np", "music", "soundtrack", "print speed", "printing speed", "dialogue speed", "speed", "slow", "slow print", "slow dialogue", "instant print", "instant dialogue", "auto", "auto advance", "auto-advance", "advance", "auto dialogue"),
     RESET("reset", "Reset achievements.", true, "", "achievements", "gallery", "achievement gallery", "achievements gallery"),
+    UNDO("undo", "Go back to the last choice you made.", true, ""),
     GO("go", "Move in a given direction.", "forward", "forwards", "f", "back", "backward", "backwards", "b", "inside", "in", "i", "outside", "out", "o", "down", "d", "up", "u", "left", "l", "right", "r"),
     DIRECTGO("", "Move in a given direction.", "forward", "forwards", "f", "back", "backward", "backwards", "b", "inside", "in", "i", "outside", "out", "o", "down", "d", "up", "u", "left", "l", "right", "r"),
     ENTER("enter", "Enter a given location or the nearest appropriate location.", "", "cabin", "basement"),
@@ -26,7 +32,32 @@ public enum Command {
     private final String prefix;
     private final String description;
     private final boolean isMeta;
-    private final String[] validArguments;
+    private final Set<String> validArguments;
+    private final boolean emptyArgumentIsValid;
+
+    // Every word that triggers a Command on its own, resolved with a single lookup instead of checking each Command in turn
+    private static final Map<String, Command> PREFIXES;
+    private static final String[] SORTEDPREFIXES; // The keys of PREFIXES in alphabetical order, for prefix and typo matching
+
+    static {
+        HashMap<String, Command> prefixes = new HashMap<>();
+        String[][] aliases = {
+            {"help"}, {"show", "view"}, {"settings"}, {"toggle"}, {"reset"}, {"undo"}, {"go", "walk"}, {"proceed"}, {"enter"}, {"leave"}, {"turn"}, {"approach"},
+            {"wipe"}, {"smash"}, {"gaze"}, {"slay"}, {"take", "get"}, {"drop"}, {"give", "offer"}, {"throw", "toss"}
+        };
+        Command[] aliasCommands = {HELP, SHOW, SETTINGS, TOGGLE, RESET, UNDO, GO, PROCEED, ENTER, LEAVE, TURN, APPROACH, WIPE, SMASH, GAZE, SLAY, TAKE, DROP, GIVE, THROW};
+        for (int i = 0; i < aliases.length; i++) {
+            for (String alias : aliases[i]) prefixes.put(alias, aliasCommands[i]);
+        }
+
+        // Directions and the gallery can be entered on their own; directions take priority, then the gallery, then named commands
+        for (String argument : DIRECTGALLERY.validArguments) prefixes.put(argument, DIRECTGALLERY);
+        for (String argument : GO.validArguments) prefixes.put(argument, DIRECTGO);
+
+        PREFIXES = Collections.unmodifiableMap(prefixes);
+        SORTEDPREFIXES = prefixes.keySet().toArray(new String[0]);
+        Arrays.sort(SORTEDPREFIXES);
+    }
 
     // --- CONSTRUCTOR ---
 
@@ -41,7 +72,8 @@ public enum Command {
         this.prefix = prefix;
         this.description = description;
         this.isMeta = isMeta;
-        this.validArguments = validArguments;
+        this.validArguments = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(validArguments)));
+        this.emptyArgumentIsValid = validArguments.length == 0 || this.validArguments.contains("");
     }
 
     /**
@@ -193,6 +225,16 @@ public enum Command {
                 s += "  - RESET [ACHIEVEMENTS / GALLERY / ACHIEVEMENT GALLERY / ACHIEVEMENTS GALLERY]: Same as > RESET. Asks for confirmation, then resets all achievements.\n";
                 break;
 
+            case UNDO:
+                s += "UNDO\n\n";
+
+                s += "- Arguments -\n";
+                s += "None.\n\n";
+
+                s += "- Variations -\n";
+                s += "None. Only choices made since the start of the current vessel can be undone.\n";
+                break;
+
             case GO:
             case DIRECTGO:
                 s += "[GO / WALK] [direction]\n";
@@ -371,7 +413,7 @@ public enum Command {
         if (argument == null) {
             return this.argumentIsValid();
         } else {
-            return Arrays.asList(this.validArguments).contains(argument.toLowerCase());
+            return this.validArguments.contains(argument.toLowerCase());
         }
     }
 
@@ -380,7 +422,7 @@ public enum Command {
      * @return true if an empty argument is a valid argument of this Command; false otherwise
      */
     public boolean argumentIsValid() {
-        return this.validArguments.length == 0 || Arrays.asList(this.validArguments).contains("");
+        return this.emptyArgumentIsValid;
     }
 
     /**
@@ -389,37 +431,71 @@ public enum Command {
      * @return the Command that matches the given prefix
      */
     public static Command getCommand(String prefix) {
+        return PREFIXES.get(prefix.toLowerCase());
+    }
+
+    /**
+     * Returns the Command triggered by a given prefix, optionally allowing abbreviations and typos
+     * @param prefix the prefix to check against each Command
+     * @param fuzzy whether to also accept an unambiguous abbreviation of a prefix, or a prefix with a single mistyped, missing, extra or swapped letter
+     * @return the Command that matches the given prefix, or null if there is no match or the match is ambiguous
+     */
+    public static Command getCommand(String prefix, boolean fuzzy) {
         String command = prefix.toLowerCase();
+        Command c = PREFIXES.get(command);
+        if (c != null || !fuzzy || command.length() < 2) return c;
+
+        // Abbreviations: every prefix starting with the input sits in one block of the sorted prefixes
+        int start = Arrays.binarySearch(SORTEDPREFIXES, command);
+        if (start < 0) start = -start - 1;
+        for (int i = start; i < SORTEDPREFIXES.length && SORTEDPREFIXES[i].startsWith(command); i++) {
+            if (c == null) {
+                c = PREFIXES.get(SORTEDPREFIXES[i]);
+            } else if (c != PREFIXES.get(SORTEDPREFIXES[i])) {
+                return null;
+            }
+        }
+        if (c != null || command.length() < 3) return c;
+
+        // Typos
+        for (String candidate : SORTEDPREFIXES) {
+            if (withinOneEdit(command, candidate)) {
+                if (c == null) {
+                    c = PREFIXES.get(candidate);
+                } else if (c != PREFIXES.get(candidate)) {
+                    return null;
+                }
+            }
+        }
+        return c;
+    }
+
+    // --- UTILITY ---
 
-        if (GO.argumentIsValid(command)) return DIRECTGO;
-        if (DIRECTGALLERY.argumentIsValid(command)) return DIRECTGALLERY;
-        switch (command) {
-            case "help": return HELP;
-            case "show":
-            case "view": return SHOW;
-            case "settings": return SETTINGS;
-            case "toggle": return TOGGLE;
-            case "reset": return RESET;
-            case "go":
-            case "walk": return GO;
-            case "proceed": return PROCEED;
-            case "enter": return ENTER;
-            case "leave": return LEAVE;
-            case "turn": return TURN;
-            case "approach": return APPROACH;
-            case "wipe": return WIPE;
-            case "smash": return SMASH;
-            case "gaze": return GAZE;
-            case "slay": return SLAY;
-            case "take":
-            case "get": return TAKE;
-            case "drop": return DROP;
-            case "give":
-            case "offer": return GIVE;
-            case "throw":
-            case "toss": return THROW;
-
-            default: return null;
+    /**
+     * Checks if one String can be turned into another by changing, adding, removing, or swapping two adjacent characters at most once
+     * @param a the first String
+     * @param b the second String
+     * @return true if a and b are at most one edit apart; false otherwise
+     */
+    private static boolean withinOneEdit(String a, String b) {
+        if (Math.abs(a.length() - b.length()) > 1) return false;
+
+        int start = 0;
+        while (start < a.length() && start < b.length() && a.charAt(start) == b.charAt(start)) start++;
+
+        int endA = a.length();
+        int endB = b.length();
+        while (endA > start && endB > start && a.charAt(endA - 1) == b.charAt(endB - 1)) {
+            endA--;
+            endB--;
         }
+
+        int diffA = endA - start;
+        int diffB = endB - start;
+        if (diffA <= 1 && diffB <= 1) return true;
+
+        // Two adjacent characters swapped
+        return diffA == 2 && diffB == 2 && a.charAt(start) == b.charAt(start + 1) && a.charAt(start + 1) == b.charAt(start);
     }
 }
@@ -0,0 +1,75 @@
+public sealed interface CommandResult permits CommandResult.Success, CommandResult.InvalidCommand, CommandResult.InvalidArgument {
+
+    // Invalid input carries no outcome, so every invalid result can share one instance
+    public static final InvalidCommand INVALIDCOMMAND = new InvalidCommand();
+    public static final InvalidArgument INVALIDARGUMENT = new InvalidArgument();
+
+    /**
+     * The result of a command that was carried out (even if it failed in-game, e.g. CSLAYPRINCESSNOBLADEFAIL)
+     * @param outcome the outcome of the command (e.g. Outcome.CGOCABIN or Outcome.CMETA)
+     */
+    public record Success(Outcome outcome) implements CommandResult {
+
+        /**
+         * Constructor
+         * @param outcome the outcome of the command
+         */
+        public Success {
+            if (outcome == null) throw new RuntimeException("Successful command must have an outcome");
+        }
+
+        /**
+         * Returns a String representation of this result
+         * @return the ID of the outcome of the command
+         */
+        @Override
+        public String toString() {
+            return this.outcome.toString();
+        }
+
+    }
+
+    /**
+     * The result of input whose first word is not a command
+     */
+    public record InvalidCommand() implements CommandResult {
+
+        /**
+         * Returns a String representation of this result
+         * @return the reason the command was not carried out
+         */
+        @Override
+        public String toString() {
+            return "INVALIDCOMMAND";
+        }
+
+    }
+
+    /**
+     * The result of a command that exists, but cannot be used with the given argument
+     */
+    public record InvalidArgument() implements CommandResult {
+
+        /**
+         * Returns a String representation of this result
+         * @return the reason the command was not carried out
+         */
+        @Override
+        public String toString() {
+            return "INVALIDARGUMENT";
+        }
+
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Returns the result of a command that was carried out
+     * @param outcome the outcome of the command (e.g. Outcome.CGOCABIN or Outcome.CMETA)
+     * @return the result of a command with the given outcome
+     */
+    public static CommandResult success(Outcome outcome) {
+        return new Success(outcome);
+    }
+
+}
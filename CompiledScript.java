@@ -0,0 +1,197 @@
+import java.io.File;  // Import the File class
+import java.io.FileNotFoundException;  // Import this class to handle errors
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner; // Import the Scanner class to read text files
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class CompiledScript {
+
+    private final File source;
+
+    private final List<String> lines;
+    private final Map<String, Integer> labels;
+    private final List<ScriptInstruction> instructions;
+
+    // Compiled scripts are shared between every Script (and every session) reading the same file
+    // Each entry is a placeholder completed once its file has been read, so the map is never locked while reading from disk
+    public static final int CACHESIZE = 64;
+    private static final ConcurrentHashMap<File, CompletableFuture<CompiledScript>> CACHE = new ConcurrentHashMap<>();
+    private static final ConcurrentLinkedQueue<File> CACHEORDER = new ConcurrentLinkedQueue<>();
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; reads and decodes the given file
+     * @param source the file containing the text of this script
+     */
+    private CompiledScript(File source) {
+        this.source = source;
+
+        ArrayList<String> lines = new ArrayList<>();
+        HashMap<String, Integer> labels = new HashMap<>();
+        ArrayList<ScriptInstruction> instructions = new ArrayList<>();
+        try (Scanner fileReader = new Scanner(source);) {
+            String lineContent;
+            String[] args;
+            String label;
+
+            while (fileReader.hasNextLine()) {
+                lineContent = fileReader.nextLine().trim();
+                lines.add(lineContent);
+                instructions.add(new ScriptInstruction(lineContent));
+
+                if (lineContent.startsWith("label ")) {
+                    args = lineContent.split(" ", 2);
+                    label = args[1];
+
+                    if (labels.containsKey(label)) {
+                        // Scripts are shared between sessions, so this goes to the server log rather than whichever player happened to load the script first
+                        System.err.println("[DEBUG: Duplicate label " + label + " in " + source.getName() + " at line " + (lines.size()) + "]");
+                    } else {
+                        labels.put(label, lines.size() - 1);
+                    }
+                }
+            }
+        } catch (FileNotFoundException e) {
+            throw new RuntimeException("Script not found (FileNotFound)");
+        } catch (NullPointerException e) {
+            throw new RuntimeException("Script not found (NullPointer)");
+        }
+
+        this.lines = Collections.unmodifiableList(lines);
+        this.labels = Collections.unmodifiableMap(labels);
+        this.instructions = Collections.unmodifiableList(instructions);
+    }
+
+    // --- ACCESSORS & CHECKS ---
+
+    /**
+     * Accessor for source
+     * @return the file this script was compiled from
+     */
+    public File getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the number of lines in this script
+     * @return the number of lines in this script
+     */
+    public int nLines() {
+        return this.lines.size();
+    }
+
+    /**
+     * Returns the line at a given index of this script
+     * @param lineIndex the index of the line being retrieved
+     * @return the line at index lineIndex of this script
+     */
+    public String getLine(int lineIndex) {
+        return this.lines.get(lineIndex);
+    }
+
+    /**
+     * Returns the decoded instruction at a given index of this script
+     * @param lineIndex the index of the instruction being retrieved
+     * @return the instruction at index lineIndex of this script
+     */
+    public ScriptInstruction getInstruction(int lineIndex) {
+        return this.instructions.get(lineIndex);
+    }
+
+    /**
+     * Accessor for labels
+     * @return a read-only view of the labels in this script and their line indices
+     */
+    public Map<String, Integer> getLabels() {
+        return this.labels;
+    }
+
+    /**
+     * Checks if this script has a label with the given name
+     * @param label the name to check
+     * @return true if this script has a label with label as its name; false otherwise
+     */
+    public boolean hasLabel(String label) {
+        return this.labels.containsKey(label);
+    }
+
+    /**
+     * Retrieves the line index of a given label in this script
+     * @param label the name of the label
+     * @return the line index of the label with label as its name, or null if it does not exist in this script
+     */
+    public Integer getLabelIndex(String label) {
+        return this.labels.get(label);
+    }
+
+    // --- CACHE ---
+
+    /**
+     * Returns the compiled version of a given file, compiling it if it has not been compiled yet
+     * @param source the file containing the text of the script
+     * @return the compiled version of source
+     */
+    public static CompiledScript getCompiledScript(File source) {
+        if (source == null) throw new RuntimeException("Script not found (NullPointer)");
+
+        File key = source.getAbsoluteFile();
+        CompletableFuture<CompiledScript> entry = CACHE.get(key);
+        if (entry == null) {
+            CompletableFuture<CompiledScript> placeholder = new CompletableFuture<>();
+            entry = CACHE.putIfAbsent(key, placeholder);
+
+            if (entry == null) {
+                // This thread claimed the entry, so it reads the file; any other thread asking for it waits on the placeholder instead
+                entry = placeholder;
+
+                try {
+                    placeholder.complete(new CompiledScript(source));
+                } catch (RuntimeException e) {
+                    CACHE.remove(key, placeholder);
+                    placeholder.completeExceptionally(e);
+                    throw e;
+                }
+
+                // Only queued once compiled, so a failed compile never leaves a stale key behind to evict a later, live entry early
+                CACHEORDER.add(key);
+                trimCache();
+            }
+        }
+
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException)e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * Evicts the oldest compiled scripts from the cache until it is within its maximum size
+     */
+    private static void trimCache() {
+        File oldest;
+        while (CACHE.size() > CACHESIZE) {
+            oldest = CACHEORDER.poll();
+            if (oldest == null) break;
+            CACHE.remove(oldest);
+        }
+    }
+
+    /**
+     * Removes every compiled script from the cache, forcing scripts to be re-read from their files
+     */
+    public static void clearCache() {
+        CACHE.clear();
+        CACHEORDER.clear();
+    }
+
+}
@@ -21,6 +21,15 @@ public class Condition extends  AbstractCondition {
 
     // --- ACCESSORS & MANIPULATORS ---
 
+    /**
+     * Checks whether this condition reports every change to its value; always true, as every change goes through set()
+     * @return true
+     */
+    @Override
+    public boolean isTracked() {
+        return true;
+    }
+
     /**
      * Accessor for value
      * @return the boolean value of this condition
@@ -36,6 +45,7 @@ public class Condition extends  AbstractCondition {
      */
     public void set(boolean newValue) {
         this.value = newValue;
+        this.changed();
     }
 
     /**
@@ -43,6 +53,7 @@ public class Condition extends  AbstractCondition {
      */
     public void set() {
         this.value = true;
+        this.changed();
     }
 
     /*
@@ -70,8 +81,8 @@ public class Condition extends  AbstractCondition {
                     testCon.set(true);
             }
 
-            System.out.println("You chose option " + outcome + "!");
-            System.out.println("testCon = " + testCon.check() + "; antiCon = " + antiCon.check());
+            IOHandler.out().println("You chose option " + outcome + "!");
+            IOHandler.out().println("testCon = " + testCon.check() + "; antiCon = " + antiCon.check());
         }
     }
     */
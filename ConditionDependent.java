@@ -0,0 +1,8 @@
+public interface ConditionDependent {
+
+    /**
+     * Discards any result computed from a condition whose value may have changed
+     */
+    public void invalidate();
+
+}
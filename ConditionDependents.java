@@ -0,0 +1,65 @@
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+
+public class ConditionDependents {
+
+    // Held weakly, so a composite condition or menu built for a single scene can still be garbage collected after it is no longer used
+    private final ArrayList<WeakReference<ConditionDependent>> dependents;
+    private int pruneThreshold; // The size at which collected references are next cleared out when adding a dependent
+
+    private static final int MINPRUNETHRESHOLD = 8;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     */
+    public ConditionDependents() {
+        this.dependents = new ArrayList<>();
+        this.pruneThreshold = MINPRUNETHRESHOLD;
+    }
+
+    // --- ACCESSORS & MANIPULATORS ---
+
+    /**
+     * Registers a composite condition or other cache to be notified whenever the value it depends on changes
+     * @param dependent the composite condition or cache to notify
+     */
+    public void add(ConditionDependent dependent) {
+        if (this.dependents.size() >= this.pruneThreshold) {
+            this.prune();
+            this.pruneThreshold = Math.max(MINPRUNETHRESHOLD, this.dependents.size() * 2);
+        }
+
+        this.dependents.add(new WeakReference<>(dependent));
+    }
+
+    /**
+     * Discards the cached result of every registered dependent that is still in use, and forgets any that have been garbage collected
+     */
+    public void notifyChanged() {
+        int next = 0;
+        WeakReference<ConditionDependent> ref;
+        ConditionDependent dependent;
+
+        for (int i = 0; i < this.dependents.size(); i++) {
+            ref = this.dependents.get(i);
+            dependent = ref.get();
+            if (dependent != null) {
+                this.dependents.set(next, ref);
+                next += 1;
+                dependent.invalidate();
+            }
+        }
+
+        this.dependents.subList(next, this.dependents.size()).clear();
+    }
+
+    /**
+     * Forgets every registered dependent that has been garbage collected
+     */
+    private void prune() {
+        this.dependents.removeIf(ref -> ref.get() == null);
+    }
+
+}
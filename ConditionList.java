@@ -1,4 +1,4 @@
-public class ConditionList extends AbstractCondition {
+public class ConditionList extends CachedCondition {
 
     private boolean bool;
     private final AbstractCondition[] conditions;
@@ -13,6 +13,7 @@ public class ConditionList extends AbstractCondition {
     public ConditionList(boolean bool, AbstractCondition... conditions) {
         this.bool = bool;
         this.conditions = conditions;
+        this.dependOn(conditions);
     }
 
     /**
@@ -26,11 +27,11 @@ public class ConditionList extends AbstractCondition {
     // --- CHECKS ---
 
     /**
-     * Checks whether this condition is met
+     * Computes whether this condition is met
      * @return the boolean value of this condition
      */
     @Override
-    public boolean check() {
+    protected boolean evaluate() {
         if (!this.bool) return false;
         return AbstractCondition.check(this.conditions);
     }
@@ -0,0 +1,65 @@
+import java.io.PrintStream;
+import java.util.Scanner;
+
+public class ConsoleSessionIO implements SessionIO {
+
+    private final Scanner input;
+    private int wrapColumns = IOHandler.DEFAULTWRAPCOLUMNS;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; reads from standard input and writes to standard output
+     */
+    public ConsoleSessionIO() {
+        this.input = new Scanner(System.in);
+    }
+
+    // --- INPUT & OUTPUT ---
+
+    /**
+     * Reads the next line of input from standard input, waiting until one is available
+     * @return the next line of input, or null if standard input has been closed
+     */
+    @Override
+    public String readLine() {
+        return (this.input.hasNextLine()) ? this.input.nextLine() : null;
+    }
+
+    /**
+     * Returns standard output
+     * @return standard output
+     */
+    @Override
+    public PrintStream getOutput() {
+        return System.out;
+    }
+
+    /**
+     * Returns the number of columns this session's output is wrapped at
+     * @return the number of columns this session's output is wrapped at
+     */
+    @Override
+    public int getWrapColumns() {
+        return this.wrapColumns;
+    }
+
+    /**
+     * Sets the number of columns this session's output is wrapped at
+     * @param columns the number of columns to wrap this session's output at
+     */
+    @Override
+    public void setWrapColumns(int columns) {
+        if (columns <= 0) throw new RuntimeException("Wrap width must be positive");
+        this.wrapColumns = columns;
+    }
+
+    /**
+     * Closes the Scanner being used for input
+     */
+    @Override
+    public void close() {
+        this.input.close();
+    }
+
+}
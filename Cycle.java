@@ -16,15 +16,11 @@ public abstract class Cycle {
     protected OptionsMenu activeMenu;
     protected OptionsMenu subMenu;
     protected boolean repeatActiveMenu = false;
-    protected String activeOutcome;
+    protected Outcome activeOutcome;
     protected boolean reverseDirection = false;
 
-    protected boolean hasBlade = false;
-    protected boolean threwBlade = false;
-
-    // Variables that are used in all Chapter 2s and 3s
-    protected boolean mirrorComment = false;
-    protected boolean touchedMirror = false;
+    // Gameplay-dependent flags (having the blade, the Princess's mood, the mirror, etc.), shared directly with this Cycle's Scripts
+    protected final FlagSet flags = new FlagSet();
 
     // Utility variables for checking command availability & default responses
     protected boolean withPrincess = false;
@@ -43,10 +39,6 @@ public abstract class Cycle {
     protected boolean canTakeHand = false;
     protected boolean canOfferHand = false;
 
-    // Variables that persist between all chapters
-    protected boolean isHarsh = false; // Used in Chapter 1, Spectre, Princess and the Dragon, Nightmare, and the Finale
-    protected boolean knowsDestiny = false; // Used in Chapter 1, Adversary, Tower, Fury
-
     // Dialogue lines
     protected static final DialogueLine QUIETCREEP = new DialogueLine("A textured nothingness begins to creep into the edges of your vision.");
 
@@ -65,6 +57,14 @@ public abstract class Cycle {
 
     // --- ACCESSORS & MANIPULATORS ---
 
+    /**
+     * Accessor for activeChapter
+     * @return the Chapter currently being played
+     */
+    public Chapter getActiveChapter() {
+        return this.activeChapter;
+    }
+
     /**
      * Returns whether the player has not yet claimed their first vessel
      * @return whether the player has not yet claimed their first vessel
@@ -73,6 +73,14 @@ public abstract class Cycle {
         return false;
     }
 
+    /**
+     * Accessor for flags
+     * @return the gameplay-dependent flags of this Cycle
+     */
+    public FlagSet getFlags() {
+        return this.flags;
+    }
+
     /**
      * Checks whether a given Voice is currently present
      * @param v the Voice to check for
@@ -147,7 +155,7 @@ public abstract class Cycle {
      * @return whether the player currently has the blade
      */
     public boolean hasBlade() {
-        return this.hasBlade;
+        return this.flags.has(ChapterFlag.HASBLADE);
     }
 
     /**
@@ -155,7 +163,7 @@ public abstract class Cycle {
      * @return whether or not the player threw the blade out the window
      */
     public boolean threwBlade() {
-        return this.threwBlade;
+        return this.flags.has(ChapterFlag.THREWBLADE);
     }
 
     /**
@@ -163,7 +171,7 @@ public abstract class Cycle {
      * @return whether or not the player asked about the mirror in Chapter II
      */
     public boolean mirrorComment() {
-        return this.mirrorComment;
+        return this.flags.has(ChapterFlag.MIRRORCOMMENT);
     }
 
     /**
@@ -171,7 +179,7 @@ public abstract class Cycle {
      * @return whether or not the player approached the mirror in Chapter II or III
      */
     public boolean touchedMirror() {
-        return this.touchedMirror;
+        return this.flags.has(ChapterFlag.TOUCHEDMIRROR);
     }
 
     /**
@@ -179,7 +187,7 @@ public abstract class Cycle {
      * @return whether the Princess is currently hostile in Chapters where it varies
      */
     public boolean isHarsh() {
-        return this.isHarsh;
+        return this.flags.has(ChapterFlag.HARSH);
     }
 
     /**
@@ -187,7 +195,7 @@ public abstract class Cycle {
      * @return whether or not the Princess knows she's (allegedly) going to end the world
      */
     public boolean knowsDestiny() {
-        return this.knowsDestiny;
+        return this.flags.has(ChapterFlag.KNOWSDESTINY);
     }
 
     // --- COMMANDS ---
@@ -293,13 +301,13 @@ public abstract class Cycle {
     protected void showEmptyArgumentMenu() {
         manager.setMetaMenuActive(true);
         switch (parser.promptOptionsMenu(manager.showMenu())) {
-            case "warnings":
+            case WARNINGS:
                 this.showWarningsMenu();
                 break;
-            case "achievements":
+            case ACHIEVEMENTS:
                 manager.showGallery();
                 break;
-            case "cancel":
+            case CANCEL:
                 break;
         }
 
@@ -314,13 +322,13 @@ public abstract class Cycle {
         
         manager.setMetaMenuActive(true);
         switch (parser.promptOptionsMenu(manager.warningsMenu())) {
-            case "general":
+            case GENERAL:
                 manager.showGeneralWarnings();
                 break;
-            case "by chapter":
+            case BYCHAPTER:
                 manager.showByChapterWarnings();
                 break;
-            case "cancel":
+            case CANCEL:
                 break;
         }
 
@@ -376,27 +384,27 @@ public abstract class Cycle {
         manager.setMetaMenuActive(true);
         
         while (repeat) {
-            System.out.println();
+            IOHandler.out().println();
             IOHandler.wrapPrintln("--- Settings ---");
-            System.out.println();
+            IOHandler.out().println();
 
             switch (parser.promptOptionsMenu(manager.settingsMenu())) {
-                case "warnings":
+                case WARNINGS:
                     manager.toggleAutoWarnings();
                     break;
-                case "nowPlaying":
+                case NOWPLAYING:
                     manager.toggleNowPlaying();
                     break;
-                case "slowPrint":
+                case SLOWPRINT:
                     manager.toggleSlowPrint();
                     break;
-                case "autoAdvance":
+                case AUTOADVANCE:
                     manager.toggleAutoAdvance();
                     break;
-                case "resetAchievements":
+                case RESETACHIEVEMENTS:
                     manager.resetAchievements();
                     break;
-                case "cancel":
+                case CANCEL:
                     repeat = false;
                     break;
                 default: IOHandler.wrapPrintln("[Please input a valid option.]");
@@ -411,9 +419,9 @@ public abstract class Cycle {
     /**
      * Attempts to move the player in a given direction
      * @param argument the direction to move the player in
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location in the given direction; "cGoFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location in the given direction; CGOFAIL otherwise
      */
-    public String go(String argument) {
+    public Outcome go(String argument) {
         return this.go(argument, false);
     }
 
@@ -421,33 +429,33 @@ public abstract class Cycle {
      * Attempts to move the player in a given direction
      * @param argument the direction to move the player in
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location in the given direction; "cGoFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location in the given direction; CGOFAIL otherwise
      */
-    protected String go(String argument, boolean secondPrompt) {
+    protected Outcome go(String argument, boolean secondPrompt) {
         switch (argument) {
             case "forward":
             case "forwards":
             case "f":
                 switch (currentLocation.getForward(this.reverseDirection)) {
-                    case LEAVING: return "GoLeave";
-                    case PATH: return "GoPath";
-                    case HILL: return "GoHill";
-                    case CABIN: return "GoCabin";
-                    case STAIRS: return "GoStairs";
-                    case BASEMENT: return "GoBasement";
+                    case LEAVING: return Outcome.CGOLEAVE;
+                    case PATH: return Outcome.CGOPATH;
+                    case HILL: return Outcome.CGOHILL;
+                    case CABIN: return Outcome.CGOCABIN;
+                    case STAIRS: return Outcome.CGOSTAIRS;
+                    case BASEMENT: return Outcome.CGOBASEMENT;
                     case MIRROR: return this.approach("mirror");
-                    default: return "GoFail";
+                    default: return Outcome.CGOFAIL;
                 }
             
             case "forwardTRUE":
                 switch (currentLocation.getForward()) {
-                    case LEAVING: return "GoLeave";
-                    case HILL: return "GoHill";
-                    case CABIN: return "GoCabin";
-                    case STAIRS: return "GoStairs";
-                    case BASEMENT: return "GoBasement";
+                    case LEAVING: return Outcome.CGOLEAVE;
+                    case HILL: return Outcome.CGOHILL;
+                    case CABIN: return Outcome.CGOCABIN;
+                    case STAIRS: return Outcome.CGOSTAIRS;
+                    case BASEMENT: return Outcome.CGOBASEMENT;
                     case MIRROR: return this.approach("mirror");
-                    default: return "GoFail";
+                    default: return Outcome.CGOFAIL;
                 }
             
             case "back":
@@ -455,72 +463,72 @@ public abstract class Cycle {
             case "backwards":
             case "b":
                 switch (currentLocation.getBackward(this.reverseDirection)) {
-                    case LEAVING: return "GoLeave";
-                    case PATH: return "GoPath";
-                    case HILL: return "GoHill";
-                    case CABIN: return "GoCabin";
-                    case STAIRS: return "GoStairs";
-                    case BASEMENT: return "GoBasement";
+                    case LEAVING: return Outcome.CGOLEAVE;
+                    case PATH: return Outcome.CGOPATH;
+                    case HILL: return Outcome.CGOHILL;
+                    case CABIN: return Outcome.CGOCABIN;
+                    case STAIRS: return Outcome.CGOSTAIRS;
+                    case BASEMENT: return Outcome.CGOBASEMENT;
                     case MIRROR: return this.approach("mirror");
-                    default: return "GoFail";
+                    default: return Outcome.CGOFAIL;
                 }
                 
             case "backTRUE":
                 switch (currentLocation.getBackward()) {
-                    case LEAVING: return "GoLeave";
-                    case PATH: return "GoPath";
-                    case HILL: return "GoHill";
-                    case CABIN: return "GoCabin";
-                    case STAIRS: return "GoStairs";
-                    default: return "GoFail";
+                    case LEAVING: return Outcome.CGOLEAVE;
+                    case PATH: return Outcome.CGOPATH;
+                    case HILL: return Outcome.CGOHILL;
+                    case CABIN: return Outcome.CGOCABIN;
+                    case STAIRS: return Outcome.CGOSTAIRS;
+                    default: return Outcome.CGOFAIL;
                 }
 
             case "inside":
             case "in":
             case "i":
-                return (currentLocation.canGoInside()) ? this.go("forwardTRUE") : "GoFail";
+                return (currentLocation.canGoInside()) ? this.go("forwardTRUE") : Outcome.CGOFAIL;
 
             case "outside":
             case "out":
             case "o":
-                return (currentLocation.canGoOutside()) ? this.go("backTRUE") : "GoFail";
+                return (currentLocation.canGoOutside()) ? this.go("backTRUE") : Outcome.CGOFAIL;
 
             case "left":
             case "l":
-                return (this.canLeftRight) ? "GoLeft" : "GoFail";
+                return (this.canLeftRight) ? Outcome.CGOLEFT : Outcome.CGOFAIL;
 
             case "right":
             case "r":
-                return (this.canLeftRight) ? "GoRight" : "GoFail";
+                return (this.canLeftRight) ? Outcome.CGORIGHT : Outcome.CGOFAIL;
 
             case "down":
             case "d":
                 if (this.activeChapter == Chapter.HAPPY) {
                     switch (this.currentLocation) {
-                        case STAIRS: return "GoCabin";
-                        case BASEMENT: return "GoStairs";
-                        default: return (currentLocation.canGoDown()) ? this.go("forwardTRUE") : "GoFail";
+                        case STAIRS: return Outcome.CGOCABIN;
+                        case BASEMENT: return Outcome.CGOSTAIRS;
+                        default: return (currentLocation.canGoDown()) ? this.go("forwardTRUE") : Outcome.CGOFAIL;
                     }
                 } else {
-                    return (currentLocation.canGoDown()) ? this.go("forwardTRUE") : "GoFail";
+                    return (currentLocation.canGoDown()) ? this.go("forwardTRUE") : Outcome.CGOFAIL;
                 }
 
             case "up":
             case "u":
                 if (this.activeChapter == Chapter.HAPPY) {
                     switch (this.currentLocation) {
-                        case STAIRS: return "GoBasement";
-                        case BASEMENT: return "GoFail";
-                        default: return (currentLocation.canGoUp()) ? this.go("backTRUE") : "GoFail";
+                        case STAIRS: return Outcome.CGOBASEMENT;
+                        case BASEMENT: return Outcome.CGOFAIL;
+                        default: return (currentLocation.canGoUp()) ? this.go("backTRUE") : Outcome.CGOFAIL;
                     }
                 } else {
-                    return (currentLocation.canGoUp()) ? this.go("backTRUE") : "GoFail";
+                    return (currentLocation.canGoUp()) ? this.go("backTRUE") : Outcome.CGOFAIL;
                 }
 
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.GO);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("Where do you want to go?", true);
                     return this.go(parser.getInput(), true);
@@ -528,41 +536,41 @@ public abstract class Cycle {
 
             default:
                 manager.showCommandHelp(Command.GO);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
     /**
      * Attempts to let the player enter a given location or the nearest appropriate location
      * @param argument the location to enter (should be "cabin", "basement", or an empty String)
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location the player can enter; "cEnterFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location the player can enter; CENTERFAIL otherwise
      */
-    public String enter(String argument) {
+    public Outcome enter(String argument) {
         switch (argument) {
             case "": return this.go("inside");
 
             case "cabin":
-                return (this.currentLocation == GameLocation.HILL) ? "GoCabin" : "EnterFail";
+                return (this.currentLocation == GameLocation.HILL) ? Outcome.CGOCABIN : Outcome.CENTERFAIL;
 
             case "basement":
                 switch (this.currentLocation) {
                     case CABIN:
                     case STAIRS: return this.go("forwardTRUE");
-                    default: return "EnterFail";
+                    default: return Outcome.CENTERFAIL;
                 }
 
             default:
                 manager.showCommandHelp(Command.ENTER);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
     /**
      * Attempts to let the player leave the current location
      * @param argument the location to leave (should be "woods", "path", "cabin", "basement", or an empty String)
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location the player can leave; "cLeaveFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location the player can leave; CLEAVEFAIL otherwise
      */
-    public String leave(String argument) {
+    public Outcome leave(String argument) {
         switch (argument) {
             case "": return this.go("backTRUE");
 
@@ -570,8 +578,8 @@ public abstract class Cycle {
             case "path":
                 switch (this.currentLocation) {
                     case PATH:
-                    case HILL: return "GoLeave";
-                    default: return "LeaveFail";
+                    case HILL: return Outcome.CGOLEAVE;
+                    default: return Outcome.CLEAVEFAIL;
                 }
 
             case "cabin":
@@ -579,42 +587,42 @@ public abstract class Cycle {
                     case CABIN:
                     case STAIRS:
                     case BASEMENT: return this.go("backTRUE");
-                    default: return "LeaveFail";
+                    default: return Outcome.CLEAVEFAIL;
                 }
 
             case "basement":
                 switch (this.currentLocation) {
                     case STAIRS:
                     case BASEMENT: return this.go("backTRUE");
-                    default: return "LeaveFail";
+                    default: return Outcome.CLEAVEFAIL;
                 }
 
             default:
                 manager.showCommandHelp(Command.LEAVE);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
     /**
      * Attempts to move the player forward
      * @param argument the argument given by the player (should be an empty String)
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location forward from the player; "cGoFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location forward from the player; CGOFAIL otherwise
      */
-    public String proceed(String argument) {
+    public Outcome proceed(String argument) {
         switch (argument) {
             case "": return this.go("forward");
             default:
                 manager.showCommandHelp(Command.PROCEED);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
     /**
      * Attempts to move the player backward
      * @param argument the argument given by the player (should be "around", "back", or an empty String)
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location backward from the player; "cGoFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location backward from the player; CGOFAIL otherwise
      */
-    public String turn(String argument) {
+    public Outcome turn(String argument) {
         switch (argument) {
             case "":
             case "around":
@@ -622,7 +630,7 @@ public abstract class Cycle {
 
             default:
                 manager.showCommandHelp(Command.TURN);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -630,18 +638,18 @@ public abstract class Cycle {
      * Attempts to let the player approach the mirror or her
      * @param argument the argument given by the player -- the target to approach
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cApproachAtMirrorFail" if attempting to approach the mirror when the player is already at the mirror; "cApproachMirrorFail" if attempting to approach the mirror when it is not present; "cApproachMirror" if otherwise attempting to approach the mirror; "cApproachHerFail" if attempting to approach her when not in the Spaces Between; "cApproachHer" if otherwise attempting to approach her
+     * @return CFAIL if argument is invalid; CAPPROACHATMIRRORFAIL if attempting to approach the mirror when the player is already at the mirror; CAPPROACHMIRRORFAIL if attempting to approach the mirror when it is not present; CAPPROACHMIRROR if otherwise attempting to approach the mirror; CAPPROACHHERFAIL if attempting to approach her when not in the Spaces Between; CAPPROACHHER if otherwise attempting to approach her
      */
-    protected String approach(String argument, boolean secondPrompt) {
+    protected Outcome approach(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the mirror":
             case "mirror":
                 if (this.currentLocation == GameLocation.MIRROR) {
-                    return "ApproachAtMirrorFail";
+                    return Outcome.CAPPROACHATMIRRORFAIL;
                 } else if (!this.mirrorPresent) {
-                    return "ApproachMirrorFail";
+                    return Outcome.CAPPROACHMIRRORFAIL;
                 } else {
-                    return "ApproachMirror";
+                    return Outcome.CAPPROACHMIRROR;
                 }
 
             case "her":
@@ -649,15 +657,15 @@ public abstract class Cycle {
             case "princess":
             case "hands":
                 if (this.canApproachHer) {
-                    return "ApproachHer";
+                    return Outcome.CAPPROACHHER;
                 } else {
-                    return "ApproachHerFail";
+                    return Outcome.CAPPROACHHERFAIL;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.APPROACH);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to approach?", true);
                     return this.approach(parser.getInput(), true);
@@ -665,50 +673,50 @@ public abstract class Cycle {
 
             default:
                 manager.showCommandHelp(Command.APPROACH);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
     /**
      * Attempts to let the player approach the mirror or her
      * @param argument the argument given by the player -- the target to approach
-     * @return "cFail" if argument is invalid; "cApproachAtMirrorFail" if attempting to approach the mirror when the player is already at the mirror; "cApproachMirrorFail" if attempting to approach the mirror when it is not present; "cApproachMirror" if otherwise attempting to approach the mirror; "cApproachHerFail" if attempting to approach her when not in the Spaces Between; "cApproachHer" if otherwise attempting to approach her
+     * @return CFAIL if argument is invalid; CAPPROACHATMIRRORFAIL if attempting to approach the mirror when the player is already at the mirror; CAPPROACHMIRRORFAIL if attempting to approach the mirror when it is not present; CAPPROACHMIRROR if otherwise attempting to approach the mirror; CAPPROACHHERFAIL if attempting to approach her when not in the Spaces Between; CAPPROACHHER if otherwise attempting to approach her
      */
-    public String approach(String argument) {
+    public Outcome approach(String argument) {
         return this.approach(argument, false);
     }
 
     /**
      * Attempts to let the player wipe the mirror clean
      * @param argument the argument given by the player
-     * @return "cFail" if argument is invalid; redirects to the APPROACH command if the player is not currently in front of the mirror; "cWipeFail" if the player cannot wipe the mirror clean right now; "cWipe" otherwise
+     * @return CFAIL if argument is invalid; redirects to the APPROACH command if the player is not currently in front of the mirror; CWIPEFAIL if the player cannot wipe the mirror clean right now; CWIPE otherwise
      */
-    public String wipe(String argument) {
+    public Outcome wipe(String argument) {
         if (argument.endsWith(" clean")) {
             argument = argument.substring(0, argument.indexOf(" clean"));
         }
         return this.wipe(argument, false);
     }
 
-    protected abstract String wipe(String argument, boolean secondPrompt);
+    protected abstract Outcome wipe(String argument, boolean secondPrompt);
 
     /**
      * Attempts to let the player smash the mirror
      * @param argument the argument given by the player
-     * @return "cFail" if argument is invalid; redirects to the APPROACH command if the player is not currently in front of the mirror; "cSmashNoStubbornFail" if the player does not currently have the Voice of the Stubborn; "cSmashFail" if the player otherwise cannot smash the mirror right now; "cSmash" otherwise
+     * @return CFAIL if argument is invalid; redirects to the APPROACH command if the player is not currently in front of the mirror; CSMASHNOSTUBBORNFAIL if the player does not currently have the Voice of the Stubborn; CSMASHFAIL if the player otherwise cannot smash the mirror right now; CSMASH otherwise
      */
-    public String smash(String argument) {
+    public Outcome smash(String argument) {
         return this.smash(argument, false);
     }
 
-    protected abstract String smash(String argument, boolean secondPrompt);
+    protected abstract Outcome smash(String argument, boolean secondPrompt);
 
     /**
      * Attempts to let the player gaze into their reflection
      * @param argument the argument given by the player
-     * @return "cFail" if argument is invalid; "cGazeNoMirrorFail" if the mirror isn't present; "cGazeFail" if the player cannot gaze into their reflection right now; "cGaze" otherwise
+     * @return CFAIL if argument is invalid; CGAZENOMIRRORFAIL if the mirror isn't present; CGAZEFAIL if the player cannot gaze into their reflection right now; CGAZE otherwise
      */
-    public String gaze(String argument) {
+    public Outcome gaze(String argument) {
         if (argument.startsWith("into ")) {
             argument = argument.substring(5);
             return this.gaze(argument, false);
@@ -717,29 +725,29 @@ public abstract class Cycle {
             return this.gaze(argument, false);
         } else {
             manager.showCommandHelp(Command.GAZE);
-            return "Fail";
+            return Outcome.CFAIL;
         }
     }
 
-    protected abstract String gaze(String argument, boolean secondPrompt);
+    protected abstract Outcome gaze(String argument, boolean secondPrompt);
 
     /**
      * Attempts to let the player slay either the Princess or themselves
      * @param argument the target to slay
-     * @return "cFail" if argument is invalid; "cSlayNoPrincessFail" if attempting to slay the Princess when she is not present; "cSlayPrincessNoBladeFail" if attempting to slay the Princess without the blade; "cSlayPrincessFail" if the player cannot slay the Princess  right now; "cSlayPrincess" if otherwise attempting to slay the Princess; "cSlaySelfNoBladeFail" if attempting to slay themselves without the blade; "cSlaySelfFail" if the player cannot slay themselves right now; "cSlaySelf" if otherwise attempting to slay themselves
+     * @return CFAIL if argument is invalid; CSLAYNOPRINCESSFAIL if attempting to slay the Princess when she is not present; CSLAYPRINCESSNOBLADEFAIL if attempting to slay the Princess without the blade; CSLAYPRINCESSFAIL if the player cannot slay the Princess  right now; CSLAYPRINCESS if otherwise attempting to slay the Princess; CSLAYSELFNOBLADEFAIL if attempting to slay themselves without the blade; CSLAYSELFFAIL if the player cannot slay themselves right now; CSLAYSELF if otherwise attempting to slay themselves
      */
-    public String slay(String argument) {
+    public Outcome slay(String argument) {
         return this.slay(argument, false);
     }
 
-    protected abstract String slay(String argument, boolean secondPrompt);
+    protected abstract Outcome slay(String argument, boolean secondPrompt);
 
     /**
      * Attempts to let the player take the blade
      * @param argument the argument given by the player (should be "the blade", "blade", or "pristine blade")
-     * @return "cFail" if argument is invalid; "cTakeHasBladeFail" if the player already has the blade; "cTakeBladeFail" if the player cannot take the blade right now; "cTakeBlade" if otherwise attempting to take the blade
+     * @return CFAIL if argument is invalid; CTAKEHASBLADEFAIL if the player already has the blade; CTAKEBLADEFAIL if the player cannot take the blade right now; CTAKEBLADE if otherwise attempting to take the blade
      */
-    public String take(String argument) {
+    public Outcome take(String argument) {
         return this.take(argument, false);
     }
 
@@ -747,37 +755,37 @@ public abstract class Cycle {
      * Attempts to let the player take the blade
      * @param argument the argument given by the player (should be "the blade", "blade", or "pristine blade")
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cTakeHasBladeFail" if the player already has the blade; "cTakeBladeFail" if the player cannot take the blade right now; "cTakeBlade" if otherwise attempting to take the blade; "cTakeHandDeadFail" if the Princess has already been slain; "cTakeHandNoPrincessFail" if the Princess is not present; "cTakeHandFail" if the player cannot offer their hand right now; "cTakeHand" if otherwise attempting to offer their hand
+     * @return CFAIL if argument is invalid; CTAKEHASBLADEFAIL if the player already has the blade; CTAKEBLADEFAIL if the player cannot take the blade right now; CTAKEBLADE if otherwise attempting to take the blade; CTAKEHANDDEADFAIL if the Princess has already been slain; CTAKEHANDNOPRINCESSFAIL if the Princess is not present; CTAKEHANDFAIL if the player cannot offer their hand right now; CTAKEHAND if otherwise attempting to offer their hand
      */
-    protected String take(String argument, boolean secondPrompt) {
+    protected Outcome take(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the blade":
             case "blade":
             case "pristine blade":
-                if (this.hasBlade) {
-                    return "TakeHasBladeFail";
+                if (this.hasBlade()) {
+                    return Outcome.CTAKEHASBLADEFAIL;
                 } else if (!this.withBlade) {
-                    return "TakeBladeFail";
+                    return Outcome.CTAKEBLADEFAIL;
                 } else {
-                    return "TakeBlade";
+                    return Outcome.CTAKEBLADE;
                 }
 
             case "hand":
             case "her hand":
                 if (this.princessDead) {
-                    return "TakeHandDeadFail";
+                    return Outcome.CTAKEHANDDEADFAIL;
                 } else if (!this.withPrincess) {
-                    return "TakeHandNoPrincessFail";
+                    return Outcome.CTAKEHANDNOPRINCESSFAIL;
                 } else if (!this.canTakeHand) {
-                    return "TakeHandFail";
+                    return Outcome.CTAKEHANDFAIL;
                 } else {
-                    return "TakeHand";
+                    return Outcome.CTAKEHAND;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.TAKE);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to take?", true);
                     return this.take(parser.getInput(), true);
@@ -785,16 +793,16 @@ public abstract class Cycle {
 
             default:
                 manager.showCommandHelp(Command.TAKE);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
     /**
      * Attempts to let the player drop the blade
      * @param argument the argument given by the player (should be "the blade", "blade", or "pristine blade")
-     * @return "cFail" if argument is invalid; "cDropNoBladeFail" if the player already has the blade; "cDropFail" if the player cannot take the blade right now; "cDrop" otherwise
+     * @return CFAIL if argument is invalid; CDROPNOBLADEFAIL if the player already has the blade; CDROPFAIL if the player cannot take the blade right now; CDROP otherwise
      */
-    public String drop(String argument) {
+    public Outcome drop(String argument) {
         return this.drop(argument, false);
     }
 
@@ -802,25 +810,25 @@ public abstract class Cycle {
      * Attempts to let the player drop the blade
      * @param argument the argument given by the player (should be "the blade", "blade", or "pristine blade")
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cDropNoBladeFail" if the player does not have the blade; "cDropFail" if the player cannot drop the blade right now; "cDrop" otherwise
+     * @return CFAIL if argument is invalid; CDROPNOBLADEFAIL if the player does not have the blade; CDROPFAIL if the player cannot drop the blade right now; CDROP otherwise
      */
-    protected String drop(String argument, boolean secondPrompt) {
+    protected Outcome drop(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the blade":
             case "blade":
             case "pristine blade":
-                if (!this.hasBlade) {
-                    return "DropNoBladeFail";
+                if (!this.hasBlade()) {
+                    return Outcome.CDROPNOBLADEFAIL;
                 } else if (!this.canDropBlade) {
-                    return "DropFail";
+                    return Outcome.CDROPFAIL;
                 } else {
-                    return "Drop";
+                    return Outcome.CDROP;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.DROP);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to drop?", true);
                     return this.drop(parser.getInput(), true);
@@ -828,16 +836,16 @@ public abstract class Cycle {
 
             default:
                 manager.showCommandHelp(Command.DROP);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
     /**
      * Attempts to let the player give the blade to the Princess
      * @param argument the argument given by the player (should be "the blade", "blade", or "pristine blade")
-     * @return "cFail" if argument is invalid; "cGiveNoBladeFail" if the player does not have the blade; "cGiveBladeFail" if the player cannot give away the blade right now; "cGiveBlade" if otherwise attempting to give away the blade
+     * @return CFAIL if argument is invalid; CGIVENOBLADEFAIL if the player does not have the blade; CGIVEBLADEFAIL if the player cannot give away the blade right now; CGIVEBLADE if otherwise attempting to give away the blade
      */
-    public String give(String argument) {
+    public Outcome give(String argument) {
         if (argument.startsWith("her ")) argument = argument.substring(4);
         return this.give(argument, false);
     }
@@ -846,36 +854,36 @@ public abstract class Cycle {
      * Attempts to let the player give the blade to the Princess
      * @param argument the argument given by the player (should be "the blade", "blade", or "pristine blade")
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cGiveNoBladeFail" if the player does not have the blade; "cGiveBladeFail" if the player cannot give away the blade right now; "cGiveBlade" if otherwise attempting to give away the blade; "cGiveHandDeadFail" if the Princess has already been slain; "cGiveHandNoPrincessFail" if the Princess is not present; "cGiveHandFail" if the player cannot offer their hand right now; "cGiveHand" if otherwise attempting to offer their hand
+     * @return CFAIL if argument is invalid; CGIVENOBLADEFAIL if the player does not have the blade; CGIVEBLADEFAIL if the player cannot give away the blade right now; CGIVEBLADE if otherwise attempting to give away the blade; CGIVEHANDDEADFAIL if the Princess has already been slain; CGIVEHANDNOPRINCESSFAIL if the Princess is not present; CGIVEHANDFAIL if the player cannot offer their hand right now; CGIVEHAND if otherwise attempting to offer their hand
      */
-    protected String give(String argument, boolean secondPrompt) {
+    protected Outcome give(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the blade":
             case "blade":
             case "pristine blade":
-                if (!this.hasBlade) {
-                    return "GiveNoBladeFail";
+                if (!this.hasBlade()) {
+                    return Outcome.CGIVENOBLADEFAIL;
                 } else if (!this.canGiveBlade) {
-                    return "GiveBladeFail";
+                    return Outcome.CGIVEBLADEFAIL;
                 } else {
-                    return "GiveBlade";
+                    return Outcome.CGIVEBLADE;
                 }
 
             case "hand":
                 if (this.princessDead) {
-                    return "GiveHandDeadFail";
+                    return Outcome.CGIVEHANDDEADFAIL;
                 } else if (!this.withPrincess) {
-                    return "GiveHandNoPrincessFail";
+                    return Outcome.CGIVEHANDNOPRINCESSFAIL;
                 } else if (!this.canOfferHand) {
-                    return "GiveHandFail";
+                    return Outcome.CGIVEHANDFAIL;
                 } else {
-                    return "GiveHand";
+                    return Outcome.CGIVEHAND;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.GIVE);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to give away?", true);
                     return this.give(parser.getInput(), true);
@@ -883,16 +891,16 @@ public abstract class Cycle {
 
             default:
                 manager.showCommandHelp(Command.GIVE);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
     /**
      * Attempts to let the player throw the blade out the window
      * @param argument the argument given by the player (should be "the blade", "blade", or "pristine blade")
-     * @return "cFail" if argument is invalid; "cThrowNoBladeFail" if the player does not have the blade; "cThrowFail" if the player cannot drop the blade right now; "cThrow" otherwise
+     * @return CFAIL if argument is invalid; CTHROWNOBLADEFAIL if the player does not have the blade; CTHROWFAIL if the player cannot drop the blade right now; CTHROW otherwise
      */
-    public String throwBlade(String argument) {
+    public Outcome throwBlade(String argument) {
         return this.throwBlade(argument, false);
     }
 
@@ -900,25 +908,25 @@ public abstract class Cycle {
      * Attempts to let the player throw the blade out the window
      * @param argument the argument given by the player (should be "the blade", "blade", or "pristine blade")
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cThrowNoBladeFail" if the player does not have the blade; "cThrowFail" if the player cannot drop the blade right now; "cThrow" otherwise
+     * @return CFAIL if argument is invalid; CTHROWNOBLADEFAIL if the player does not have the blade; CTHROWFAIL if the player cannot drop the blade right now; CTHROW otherwise
      */
-    protected String throwBlade(String argument, boolean secondPrompt) {
+    protected Outcome throwBlade(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the blade":
             case "blade":
             case "pristine blade":
-                if (!this.hasBlade) {
-                    return "ThrowNoBladeFail";
+                if (!this.hasBlade()) {
+                    return Outcome.CTHROWNOBLADEFAIL;
                 } else if (!this.canThrowBlade) {
-                    return "ThrowFail";
+                    return Outcome.CTHROWFAIL;
                 } else {
-                    return "Throw";
+                    return Outcome.CTHROW;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.THROW);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to throw?", true);
                     return this.throwBlade(parser.getInput(), true);
@@ -926,7 +934,7 @@ public abstract class Cycle {
 
             default:
                 manager.showCommandHelp(Command.THROW);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -934,44 +942,44 @@ public abstract class Cycle {
      * Prints a generic response to a command failing or being unavailable
      * @param outcome the String representation of the outcome of the attempted command
      */
-    protected void giveDefaultFailResponse(String outcome) {
+    protected void giveDefaultFailResponse(Outcome outcome) {
         switch (outcome) {
-            case "cMeta": break;
-
-
-            case "cGoFail":
-            case "cGoLeave":
-            case "cGoPath":
-            case "cGoHill":
-            case "cGoCabin":
-            case "cGoStairs":
-            case "cGoBasement":
-            case "cGoLeft":
-            case "cGoRight":
-            case "cProceed":
+            case CMETA: break;
+
+
+            case CGOFAIL:
+            case CGOLEAVE:
+            case CGOPATH:
+            case CGOHILL:
+            case CGOCABIN:
+            case CGOSTAIRS:
+            case CGOBASEMENT:
+            case CGOLEFT:
+            case CGORIGHT:
+            case CPROCEED:
                 parser.printDialogueLine("You cannot go that way now.");                
                 break;
 
-            case "cEnterFail":
+            case CENTERFAIL:
                 parser.printDialogueLine("You cannot enter there from where you are now.");
                 break;
                 
-            case "cLeaveFail":
+            case CLEAVEFAIL:
                 parser.printDialogueLine("You cannot leave a place you are not in.");
                 break;
 
 
-            case "cApproachAtMirrorFail":
+            case CAPPROACHATMIRRORFAIL:
                 parser.printDialogueLine("You are already at the mirror.");
                 break;
 
-            case "cApproachMirrorFail":
-            case "cApproachMirror":
+            case CAPPROACHMIRRORFAIL:
+            case CAPPROACHMIRROR:
                 parser.printDialogueLine("There is no mirror.");
                 break;
 
-            case "cApproachHerFail":
-            case "cApproachHer":
+            case CAPPROACHHERFAIL:
+            case CAPPROACHHER:
                 if (this.withPrincess) {
                     parser.printDialogueLine("You are already with her.");
                 } else {
@@ -980,105 +988,105 @@ public abstract class Cycle {
 
                 break;
 
-            case "cWipeFail":
-            case "cWipe":
+            case CWIPEFAIL:
+            case CWIPE:
                 parser.printDialogueLine("You cannot wipe the mirror clean now.");
                 break;
 
-            case "cSmashNoStubbornFail":
-            case "cSmashFail":
-            case "cSmash":
+            case CSMASHNOSTUBBORNFAIL:
+            case CSMASHFAIL:
+            case CSMASH:
                 parser.printDialogueLine("You cannot smash the mirror now.");
                 break;
 
-            case "cGazeNoMirrorFail":
+            case CGAZENOMIRRORFAIL:
                 parser.printDialogueLine("There is no mirror for you to gaze into.");
                 break;
 
-            case "cGazeFail":
-            case "cGaze":
+            case CGAZEFAIL:
+            case CGAZE:
                 parser.printDialogueLine("You cannot gaze into your reflection now.");
                 break;
 
 
-            case "cSlayPrincessDeadFail":
-            case "cTakeHandDeadFail":
-            case "cGiveHandDeadFail":
+            case CSLAYPRINCESSDEADFAIL:
+            case CTAKEHANDDEADFAIL:
+            case CGIVEHANDDEADFAIL:
                 parser.printDialogueLine("She is already dead.");
                 break;
 
-            case "cSlayNoPrincessFail":
+            case CSLAYNOPRINCESSFAIL:
                 parser.printDialogueLine("The Princess is not here.");
                 break;
 
-            case "cSlayPrincessNoBladeFail":
+            case CSLAYPRINCESSNOBLADEFAIL:
                 parser.printDialogueLine("You do not have a weapon.");
                 break;
 
-            case "cSlayPrincessFail":
-            case "cSlayPrincess":
+            case CSLAYPRINCESSFAIL:
+            case CSLAYPRINCESS:
                 parser.printDialogueLine("You cannot attempt to slay her now.");
                 break;
 
-            case "cSlaySelfNoBladeFail":
+            case CSLAYSELFNOBLADEFAIL:
                 parser.printDialogueLine("You do not have the blade.");
                 break;
 
-            case "cSlaySelfFail":
-            case "cSlaySelf":
+            case CSLAYSELFFAIL:
+            case CSLAYSELF:
                 parser.printDialogueLine("You cannot slay yourself now.");
                 break;
                 
 
-            case "cTakeHasBladeFail":
+            case CTAKEHASBLADEFAIL:
                 parser.printDialogueLine("You already have the pristine blade");
                 break;
             
-            case "cTakeBladeFail":
+            case CTAKEBLADEFAIL:
                 parser.printDialogueLine("The pristine blade is not here.");
                 break;
             
-            case "cTakeBlade":
+            case CTAKEBLADE:
                 parser.printDialogueLine("You cannot take the blade now.");
                 break;
 
-            case "cDropNoBladeFail":
-            case "cGiveNoBladeFail":
-            case "cThrowNoBladeFail":
+            case CDROPNOBLADEFAIL:
+            case CGIVENOBLADEFAIL:
+            case CTHROWNOBLADEFAIL:
                 parser.printDialogueLine("You do not have the blade.");
                 break;
 
-            case "cDropFail":
-            case "cDrop":
+            case CDROPFAIL:
+            case CDROP:
                 parser.printDialogueLine("You cannot drop the blade now.");
                 break;
 
-            case "cGiveBladeFail":
-            case "cGiveBlade":
+            case CGIVEBLADEFAIL:
+            case CGIVEBLADE:
                 parser.printDialogueLine("You cannot give the blade away now.");
                 break;
                 
-            case "cThrowFail":
-            case "cThrow":
+            case CTHROWFAIL:
+            case CTHROW:
                 parser.printDialogueLine("You cannot throw the blade now.");
                 break;
 
 
-            case "cTakeHandNoPrincessFail":
+            case CTAKEHANDNOPRINCESSFAIL:
                 parser.printDialogueLine("There is no one here.");
                 break;
 
-            case "cTakeHandFail":
-            case "cTakeHand":
+            case CTAKEHANDFAIL:
+            case CTAKEHAND:
                 parser.printDialogueLine("You cannot take her hand now.");
                 break;
 
-            case "cGiveHandNoPrincessFail":
+            case CGIVEHANDNOPRINCESSFAIL:
                 parser.printDialogueLine("There is no one here to offer your hand to.");
                 break;
 
-            case "cGiveHandFail":
-            case "cGiveHand":
+            case CGIVEHANDFAIL:
+            case CGIVEHAND:
                 parser.printDialogueLine("You cannot offer her your hand now.");
                 break;
 
@@ -1098,9 +1106,9 @@ public abstract class Cycle {
      * Prints a line about the Long Quiet beginning to creep closer, used in most endings right before a vessel is claimed
      */
     public void quietCreep() {
-        System.out.println();
+        IOHandler.out().println();
         parser.printDialogueLine(QUIETCREEP);
-        System.out.println();
+        IOHandler.out().println();
     }
 
     // --- CYCLE MANAGEMENT ---
@@ -1132,36 +1140,36 @@ public abstract class Cycle {
     public void showGallery() {
         OptionsMenu returnMenu = tracker.returnMenu();
         boolean repeat = true;
-        String choice;
+        Outcome choice;
 
         manager.setMetaMenuActive(true);
 
         while (repeat) {
-            System.out.println();
+            IOHandler.out().println();
             IOHandler.wrapPrintln("--- THE ACHIEVEMENT GALLERY ---");
             IOHandler.wrapPrintln("You have unlocked " + tracker.nUnlockedAchievements() + "/" + tracker.nAchievements() + " achievements.");
 
             choice = parser.promptOptionsMenu(tracker.achievementsMenu());
             switch (choice) {
-                case "locked":
+                case LOCKED:
                     this.showLockedAchievements();
                     break;
 
-                case "general":
+                case GENERAL:
                     tracker.printGeneralAchievementsList();
                     parser.promptOptionsMenu(returnMenu);
                     break;
 
-                case "reset":
+                case RESET:
                     manager.resetAchievements();
                     break;
 
-                case "return":
+                case RETURN:
                     repeat = false;
                     break;
 
                 default:
-                    tracker.printChapterAchievementsList(Chapter.getChapter(choice));
+                    tracker.printChapterAchievementsList(Chapter.getChapter(choice.getID()));
                     parser.promptOptionsMenu(returnMenu);
             }
         }
@@ -1178,9 +1186,9 @@ public abstract class Cycle {
         int nLockedHiddenAchievements = tracker.nLockedHiddenAchievements();
 
         if (nVisibleAchievements == 0) {
-            System.out.println();
+            IOHandler.out().println();
             IOHandler.wrapPrintln("--- Locked Achievements ---");
-            System.out.println();
+            IOHandler.out().println();
 
             if (!tracker.getLockedRemaining().check()) {
                 IOHandler.wrapPrintln("No locked achievements to show!");
@@ -1194,15 +1202,15 @@ public abstract class Cycle {
             int nPages = nVisibleAchievements / AchievementTracker.PAGELENGTH;
 
             if (nPages == 0) {
-                System.out.println();
+                IOHandler.out().println();
                 IOHandler.wrapPrintln("--- Locked Achievements ---");
-                System.out.println();
+                IOHandler.out().println();
 
                 for (int i = 0; i < nVisibleAchievements; i++) {
                     IOHandler.wrapPrintln("  (" + (i+1) + ".) " + lockedAchievements.get(i));
                 }
 
-                System.out.println();
+                IOHandler.out().println();
                 if (nLockedHiddenAchievements == 0) {
                     IOHandler.wrapPrintln("Showing achievements 1-" + nVisibleAchievements + " of " + nVisibleAchievements + ".");
                 } else {
@@ -1220,20 +1228,20 @@ public abstract class Cycle {
                 pageMenu.get("last").setConditions(notLastPage);
 
                 boolean repeat = true;
-                String choice;
+                Outcome choice;
                 while (repeat) {
                     firstShown = (currentPage.check() * AchievementTracker.PAGELENGTH) + 1;
                     lastShown = (notLastPage.check()) ? firstShown + AchievementTracker.PAGELENGTH - 1 : nVisibleAchievements - 1;
 
-                    System.out.println();
+                    IOHandler.out().println();
                     IOHandler.wrapPrintln("--- Locked Achievements ---");
-                    System.out.println();
+                    IOHandler.out().println();
 
                     for (int i = firstShown - 1; i < lastShown; i++) {
                         IOHandler.wrapPrintln("  (" + (i+1) + ".) " + lockedAchievements.get(i));
                     }
 
-                    System.out.println();
+                    IOHandler.out().println();
                     if (nLockedHiddenAchievements == 0) {
                         IOHandler.wrapPrintln("Showing achievements " + firstShown + "-" + lastShown + " of " + nVisibleAchievements + ".");
                     } else {
@@ -1242,23 +1250,23 @@ public abstract class Cycle {
 
                     choice = parser.promptOptionsMenu(tracker.pageMenu());
                     switch (choice) {
-                        case "first":
+                        case FIRST:
                             currentPage.set(0);
                             break;
 
-                        case "prev":
+                        case PREV:
                             currentPage.decrement();
                             break;
 
-                        case "next":
+                        case NEXT:
                             currentPage.increment();
                             break;
 
-                        case "last":
+                        case LAST:
                             currentPage.set(nPages - 1);
                             break;
 
-                        case "return":
+                        case RETURN:
                             repeat = false;
                             break;
                     }
@@ -1,7 +1,13 @@
+import java.util.concurrent.ConcurrentHashMap;
+
 public class DialogueLine {
     
     protected String line;
     protected boolean isInterrupted;
+
+    // Schedules for slowly printing this line, keyed by wrap width, then speed multiplier; built the first time they are needed
+    private volatile ConcurrentHashMap<Integer, ConcurrentHashMap<Double, PrintPlan>> printPlans;
+    private volatile ConcurrentHashMap<Integer, ConcurrentHashMap<Double, PrintPlan>> noPausePrintPlans;
     
     private static final String PUNCTUATION = ".,?!:;-";
     private static final String DELAYCHARS = "?!:;*\"')";
@@ -54,105 +60,88 @@ public class DialogueLine {
     // --- UTILITY ---
 
     /**
-     * Slowly prints this line out
+     * Precomputes the schedule for slowly printing this line
      * @param pauseAtPunctuation whether to pause for an extended time after punctuation or not
      * @param speedMultiplier the multiplier to apply to the standard speed of printing a line
+     * @param columns the number of columns to wrap this line at
+     * @return the schedule for slowly printing this line
      */
-    public void print(boolean pauseAtPunctuation, double speedMultiplier) {
-        char[] chars = IOHandler.wordWrapIgnoreIndicator(this).toCharArray();
+    protected PrintPlan createPrintPlan(boolean pauseAtPunctuation, double speedMultiplier, int columns) {
+        return PrintPlan.create(IOHandler.wordWrapIgnoreIndicator(this.toString(), columns), pauseAtPunctuation, speedMultiplier, -1, this.isInterrupted);
+    }
 
-        int punctDelayLength = 0;
-        boolean doubleTimeFlag = false;
+    /**
+     * Returns the schedule for slowly printing this line, building it if it has not been built yet
+     * @param pauseAtPunctuation whether to pause for an extended time after punctuation or not
+     * @param speedMultiplier the multiplier to apply to the standard speed of printing a line
+     * @param columns the number of columns to wrap this line at
+     * @return the schedule for slowly printing this line
+     */
+    public PrintPlan getPrintPlan(boolean pauseAtPunctuation, double speedMultiplier, int columns) {
+        ConcurrentHashMap<Double, PrintPlan> plans = this.getPrintPlans(pauseAtPunctuation, columns);
+        PrintPlan plan = plans.get(speedMultiplier);
+        if (plan == null) {
+            plan = this.createPrintPlan(pauseAtPunctuation, speedMultiplier, columns);
+            PrintPlan existing = plans.putIfAbsent(speedMultiplier, plan);
+            if (existing != null) plan = existing;
+        }
 
-        long activeWaitTime;
-        long waitTime = (long)(30 / speedMultiplier);
-        long commaWaitTime = (long)(150 / speedMultiplier);
-        long punctWaitTime = (long)(200 / speedMultiplier);
+        return plan;
+    }
 
-        for (int i = 0; i < chars.length; i++) {
-            if (chars[i] == '`') {
-                doubleTimeFlag = true;
-                continue;
-            }
+    /**
+     * Returns the schedule for slowly printing this line at the wrap width of the session bound to the current thread, building it if it has not been built yet
+     * @param pauseAtPunctuation whether to pause for an extended time after punctuation or not
+     * @param speedMultiplier the multiplier to apply to the standard speed of printing a line
+     * @return the schedule for slowly printing this line
+     */
+    public PrintPlan getPrintPlan(boolean pauseAtPunctuation, double speedMultiplier) {
+        return this.getPrintPlan(pauseAtPunctuation, speedMultiplier, IOHandler.wrapColumns());
+    }
 
-            System.out.print(chars[i]);
-            try {
-                if (punctDelayLength != 0 && isDelayChar(chars[i])) {
-                    if (i == chars.length - 1) {
-                        if (punctDelayLength == 1) activeWaitTime = commaWaitTime;
-                        else activeWaitTime = punctWaitTime;
-                    } else if (!isDelayChar(chars[i+1])) {
-                        if (punctDelayLength == 1) activeWaitTime = commaWaitTime;
-                        else activeWaitTime = punctWaitTime;
-
-                        punctDelayLength = 0;
-                    } else {
-                        activeWaitTime = waitTime;
-                    }
-                } else if (pauseAtPunctuation && isPunctuation(chars[i])) {
-                    if (chars[i] == '-') {
-                        if (chars[i-1] != '-') {
-                            activeWaitTime = waitTime;
-                        } else if (i == chars.length - 1) {
-                            if (this.isInterrupted) activeWaitTime = commaWaitTime;
-                            else activeWaitTime = punctWaitTime;
-                        } else if (Character.isWhitespace(chars[i+1])) {
-                            if (isDelayChar(chars[i+2])) {
-                                punctDelayLength = 2;
-                                activeWaitTime = waitTime;
-                            } else {
-                                activeWaitTime = punctDelayLength;
-                            }
-                        } else if (isDelayChar(chars[i+1])) {
-                            if (isPunctuation(chars[i+1])) {
-                                punctDelayLength = 2;
-                            } else if (this.isInterrupted) {
-                                punctDelayLength = 1;
-                            } else {
-                                punctDelayLength = 2;
-                            }
-
-                            activeWaitTime = waitTime;
-                        } else {
-                            activeWaitTime = waitTime;
-                        }
-                    } else if (chars[i] == ',') {
-                        if (i == chars.length - 1) {
-                            activeWaitTime = commaWaitTime;
-                        } else if (isDelayChar(chars[i+1])) {
-                            punctDelayLength = 1;
-                            activeWaitTime = waitTime;
-                        } else {
-                            activeWaitTime = commaWaitTime;
-                        }
-                    } else {
-                        if (i == chars.length - 1) {
-                            activeWaitTime = punctWaitTime;
-                        } else if (isDelayChar(chars[i+1])) {
-                            punctDelayLength = 2;
-                            activeWaitTime = waitTime;
-                        } else {
-                            activeWaitTime = punctWaitTime;
-                        }
-                    }
-                } else {
-                    activeWaitTime = waitTime;
+    /**
+     * Returns the cache of schedules for slowly printing this line at a given width, creating it if it does not exist yet
+     * @param pauseAtPunctuation whether to return the cache of schedules that pause at punctuation or the cache of schedules that do not
+     * @param columns the number of columns the schedules wrap this line at
+     * @return the cache of schedules for slowly printing this line with the given punctuation behavior and width
+     */
+    private ConcurrentHashMap<Double, PrintPlan> getPrintPlans(boolean pauseAtPunctuation, int columns) {
+        ConcurrentHashMap<Integer, ConcurrentHashMap<Double, PrintPlan>> byWidth;
+        if (pauseAtPunctuation) {
+            if (this.printPlans == null) {
+                synchronized (this) {
+                    if (this.printPlans == null) this.printPlans = new ConcurrentHashMap<>(2);
                 }
-            } catch (IndexOutOfBoundsException e) {
-                activeWaitTime = waitTime;
             }
 
-            if (doubleTimeFlag) {
-                doubleTimeFlag = false;
-                activeWaitTime *= 2;
+            byWidth = this.printPlans;
+        } else {
+            if (this.noPausePrintPlans == null) {
+                synchronized (this) {
+                    if (this.noPausePrintPlans == null) this.noPausePrintPlans = new ConcurrentHashMap<>(2);
+                }
             }
 
-            try {
-                Thread.sleep(activeWaitTime);
-            } catch (InterruptedException e) {
-                throw new RuntimeException("Thread interrupted");
-            }
+            byWidth = this.noPausePrintPlans;
         }
+
+        ConcurrentHashMap<Double, PrintPlan> plans = byWidth.get(columns);
+        if (plans == null) {
+            plans = new ConcurrentHashMap<>(2);
+            ConcurrentHashMap<Double, PrintPlan> existing = byWidth.putIfAbsent(columns, plans);
+            if (existing != null) plans = existing;
+        }
+
+        return plans;
+    }
+
+    /**
+     * Slowly prints this line out
+     * @param pauseAtPunctuation whether to pause for an extended time after punctuation or not
+     * @param speedMultiplier the multiplier to apply to the standard speed of printing a line
+     */
+    public void print(boolean pauseAtPunctuation, double speedMultiplier) {
+        TypewriterRenderer.renderAndWait(this.getPrintPlan(pauseAtPunctuation, speedMultiplier), IOHandler.out());
     }
 
     /**
@@ -185,7 +174,7 @@ public class DialogueLine {
      */
     public void println(boolean pauseAtPunctuation, double speedMultiplier) {
         this.print(pauseAtPunctuation, speedMultiplier);
-        System.out.println();
+        IOHandler.out().println();
     }
 
     /**
@@ -194,7 +183,7 @@ public class DialogueLine {
      */
     public void println(boolean pauseAtPunctuation) {
         this.print(pauseAtPunctuation, 1);
-        System.out.println();
+        IOHandler.out().println();
     }
 
     /**
@@ -203,7 +192,7 @@ public class DialogueLine {
      */
     public void println(double speedMultiplier) {
         this.print(true, speedMultiplier);
-        System.out.println();
+        IOHandler.out().println();
     }
 
     /**
@@ -211,7 +200,7 @@ public class DialogueLine {
      */
     public void println() {
         this.print(true, 1);
-        System.out.println();
+        IOHandler.out().println();
     }
 
     /**
@@ -1,4 +1,4 @@
-public class ExOrCondition extends AbstractCondition {
+public class ExOrCondition extends CachedCondition {
 
     private boolean bool;
     private final AbstractCondition[] conditions;
@@ -13,6 +13,7 @@ public class ExOrCondition extends AbstractCondition {
     public ExOrCondition(boolean bool, AbstractCondition... conditions) {
         this.bool = bool;
         this.conditions = conditions;
+        this.dependOn(conditions);
     }
 
     /**
@@ -26,11 +27,11 @@ public class ExOrCondition extends AbstractCondition {
     // --- CHECKS ---
 
     /**
-     * Checks whether this condition is met
+     * Computes whether this condition is met
      * @return the boolean value of this condition
      */
     @Override
-    public boolean check() {
+    protected boolean evaluate() {
         int conditionsMet = 0;
         if (this.bool) conditionsMet += 1;
         if (conditions.length != 0) {
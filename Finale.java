@@ -45,7 +45,7 @@ public class Finale extends Cycle {
         this.firstHarsh = firstHarsh;
         this.firstPrincess2 = firstPrincess2;
         this.firstSource = firstSource;
-        this.threwBlade = strangerTossedBlade;
+        this.flags.set(ChapterFlag.THREWBLADE, strangerTossedBlade);
         this.strangerHeart = firstPrincess2 == Chapter.STRANGER;
 
         this.mirrorWasCruel = manager.mirrorWasCruel();
@@ -60,22 +60,22 @@ public class Finale extends Cycle {
      * Attempts to move the player in a given direction
      * @param argument the direction to move the player in
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location in the given direction; "cGoFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location in the given direction; CGOFAIL otherwise
      */
     @Override
-    public String go(String argument) {
-        String outcome = super.go(argument, false);
+    public Outcome go(String argument) {
+        Outcome outcome = super.go(argument, false);
         
         switch (this.currentLocation) {
             case HILL:
-                if (outcome.equals("GoCabin")) break;
+                if (outcome == Outcome.CGOCABIN) break;
             case MIRROR:
-                return "GoFail";
+                return Outcome.CGOFAIL;
 
             case CABIN:
             case STAIRS:
             case BASEMENT:
-                if (outcome.equals("GoHill")) return "GoFail";
+                if (outcome == Outcome.CGOHILL) return Outcome.CGOFAIL;
                 break;
         }
 
@@ -85,12 +85,12 @@ public class Finale extends Cycle {
     /**
      * Attempts to let the player leave the current location
      * @param argument the location to leave (should be "woods", "path", "cabin", "basement", or an empty String)
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location the player can leave; "cLeaveFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location the player can leave; CLEAVEFAIL otherwise
      */
     @Override
-    public String leave(String argument) {
-        String outcome = super.leave(argument);
-        if (outcome.equals("GoLeave")) return "GoFail";
+    public Outcome leave(String argument) {
+        Outcome outcome = super.leave(argument);
+        if (outcome == Outcome.CGOLEAVE) return Outcome.CGOFAIL;
         return outcome;
     }
 
@@ -98,23 +98,23 @@ public class Finale extends Cycle {
      * Attempts to let the player approach the mirror or her
      * @param argument the argument given by the player -- the target to approach
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cApproachAtMirrorFail" if attempting to approach the mirror when the player is already at the mirror; "cApproachMirrorFail" if attempting to approach the mirror when it is not present; "cApproachMirror" if otherwise attempting to approach the mirror; "cApproachHerFail" if attempting to approach her when not in the Spaces Between; "cApproachHer" if otherwise attempting to approach her
+     * @return CFAIL if argument is invalid; CAPPROACHATMIRRORFAIL if attempting to approach the mirror when the player is already at the mirror; CAPPROACHMIRRORFAIL if attempting to approach the mirror when it is not present; CAPPROACHMIRROR if otherwise attempting to approach the mirror; CAPPROACHHERFAIL if attempting to approach her when not in the Spaces Between; CAPPROACHHER if otherwise attempting to approach her
      */
     @Override
-    protected String approach(String argument, boolean secondPrompt) {
+    protected Outcome approach(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the mirror":
             case "mirror":
                 if (this.currentLocation == GameLocation.MIRROR) {
-                    return "ApproachAtMirrorFail";
+                    return Outcome.CAPPROACHATMIRRORFAIL;
                 } else {
-                    return "ApproachMirrorFail";
+                    return Outcome.CAPPROACHMIRRORFAIL;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp("approach");
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to approach?", true);
                     return this.approach(parser.getInput(), true);
@@ -129,10 +129,10 @@ public class Finale extends Cycle {
      * Attempts to let the player wipe the mirror clean
      * @param argument the argument given by the player
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; redirects to the APPROACH command otherwise
+     * @return CFAIL if argument is invalid; redirects to the APPROACH command otherwise
      */
     @Override
-    protected String wipe(String argument, boolean secondPrompt) {
+    protected Outcome wipe(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the mirror":
             case "mirror":
@@ -141,7 +141,7 @@ public class Finale extends Cycle {
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.WIPE);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to wipe clean?", true);
                     return this.approach(parser.getInput(), true);
@@ -149,7 +149,7 @@ public class Finale extends Cycle {
 
             default:
                 manager.showCommandHelp(Command.WIPE);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -157,10 +157,10 @@ public class Finale extends Cycle {
      * Attempts to let the player smash the mirror
      * @param argument the argument given by the player
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cSmashFail" if the player is in the heart cabin; redirects to the APPROACH command otherwise
+     * @return CFAIL if argument is invalid; CSMASHFAIL if the player is in the heart cabin; redirects to the APPROACH command otherwise
      */
     @Override
-    protected String smash(String argument, boolean secondPrompt) {
+    protected Outcome smash(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the mirror":
             case "mirror":
@@ -168,7 +168,7 @@ public class Finale extends Cycle {
                     case CABIN:
                     case STAIRS:
                     case BASEMENT:
-                        return "SmashFail";
+                        return Outcome.CSMASHFAIL;
                     
                     default: return this.approach("mirror");
                 }
@@ -176,7 +176,7 @@ public class Finale extends Cycle {
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.SMASH);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to smash?", true);
                     return this.approach(parser.getInput(), true);
@@ -184,7 +184,7 @@ public class Finale extends Cycle {
 
             default:
                 manager.showCommandHelp(Command.SMASH);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -192,10 +192,10 @@ public class Finale extends Cycle {
      * Attempts to let the player gaze into their reflection
      * @param argument the argument given by the player
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; redirects to the APPROACH command otherwise
+     * @return CFAIL if argument is invalid; redirects to the APPROACH command otherwise
      */
     @Override
-    protected String gaze(String argument, boolean secondPrompt) {
+    protected Outcome gaze(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the reflection":
             case "reflection":
@@ -206,7 +206,7 @@ public class Finale extends Cycle {
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.GAZE);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to gaze into?", true);
                     return this.approach(parser.getInput(), true);
@@ -214,7 +214,7 @@ public class Finale extends Cycle {
 
             default:
                 manager.showCommandHelp(Command.GAZE);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -222,23 +222,23 @@ public class Finale extends Cycle {
      * Attempts to let the player slay either the Princess or themselves
      * @param argument the target to slay
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cSlayPrincessDeadFail" if attempting to slay the Princess when she is already dead; "cSlayNoPrincessFail" if attempting to slay the Princess when she is not present; "cSlayPrincessNoBladeFail" if attempting to slay the Princess without the blade; "cSlayPrincessFail" if the player cannot slay the Princess  right now; "cSlayPrincess" if otherwise attempting to slay the Princess; "cSlaySelfNoBladeFail" if attempting to slay themselves without the blade; "cSlaySelfFail" if otherwise attempting to slay themselves
+     * @return CFAIL if argument is invalid; CSLAYPRINCESSDEADFAIL if attempting to slay the Princess when she is already dead; CSLAYNOPRINCESSFAIL if attempting to slay the Princess when she is not present; CSLAYPRINCESSNOBLADEFAIL if attempting to slay the Princess without the blade; CSLAYPRINCESSFAIL if the player cannot slay the Princess  right now; CSLAYPRINCESS if otherwise attempting to slay the Princess; CSLAYSELFNOBLADEFAIL if attempting to slay themselves without the blade; CSLAYSELFFAIL if otherwise attempting to slay themselves
      */
     @Override
-    protected String slay(String argument, boolean secondPrompt) {
+    protected Outcome slay(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the princess":
             case "princess":
                 if (this.princessDead) {
-                    return "SlayPrincessDeadFail";
+                    return Outcome.CSLAYPRINCESSDEADFAIL;
                 } else if (!this.withPrincess) {
-                    return "SlayNoPrincessFail";
-                } else if (!this.hasBlade) {
-                    return "SlayPrincessNoBladeFail";
+                    return Outcome.CSLAYNOPRINCESSFAIL;
+                } else if (!this.hasBlade()) {
+                    return Outcome.CSLAYPRINCESSNOBLADEFAIL;
                 } else if (!this.canSlayPrincess) {
-                    return "SlayPrincessFail";
+                    return Outcome.CSLAYPRINCESSFAIL;
                 } else {
-                    return "SlayPrincess";
+                    return Outcome.CSLAYPRINCESS;
                 }
 
             case "yourself":
@@ -249,16 +249,16 @@ public class Finale extends Cycle {
             case "ourself":
             case "ourselves":
             case "us":
-                if (!this.hasBlade) {
-                    return "SlaySelfNoBladeFail";
+                if (!this.hasBlade()) {
+                    return Outcome.CSLAYSELFNOBLADEFAIL;
                 } else {
-                    return "SlaySelfFail";
+                    return Outcome.CSLAYSELFFAIL;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp("slay");
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("Who do you want to slay?", true);
                     return this.slay(parser.getInput(), true);
@@ -266,7 +266,7 @@ public class Finale extends Cycle {
 
             default:
                 manager.showCommandHelp("slay");
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -275,7 +275,7 @@ public class Finale extends Cycle {
      * @param outcome the String representation of the outcome of the attempted command
      */
     @Override
-    protected void giveDefaultFailResponse(String outcome) {
+    protected void giveDefaultFailResponse(Outcome outcome) {
         switch (this.currentLocation) {
             case MIRROR:
             case HILL:
@@ -296,38 +296,38 @@ public class Finale extends Cycle {
      * Prints a generic response to a command failing or being unavailable during the mirror scene or the encounter with the Shifting Mound
      * @param outcome the String representation of the outcome of the attempted command
      */
-    private void giveDefaultFailResponseMound(String outcome) {
+    private void giveDefaultFailResponseMound(Outcome outcome) {
         switch (outcome) {
-            case "cMeta": break;
-
-
-            case "cGoFail":
-            case "cEnterFail":
-            case "cLeaveFail":
-            case "cGoLeave":
-            case "cGoPath":
-            case "cGoHill":
-            case "cGoCabin":
-            case "cGoStairs":
-            case "cGoBasement":
-            case "cGoLeft":
-            case "cGoRight":
-            case "cProceed":
+            case CMETA: break;
+
+
+            case CGOFAIL:
+            case CENTERFAIL:
+            case CLEAVEFAIL:
+            case CGOLEAVE:
+            case CGOPATH:
+            case CGOHILL:
+            case CGOCABIN:
+            case CGOSTAIRS:
+            case CGOBASEMENT:
+            case CGOLEFT:
+            case CGORIGHT:
+            case CPROCEED:
                 parser.printDialogueLine("There is nowhere for you to go.");                
                 break;
 
 
-            case "cApproachAtMirrorFail":
+            case CAPPROACHATMIRRORFAIL:
                 parser.printDialogueLine("You watched the mirror shatter into pieces.");
                 break;
 
-            case "cApproachMirrorFail":
-            case "cApproachMirror":
+            case CAPPROACHMIRRORFAIL:
+            case CAPPROACHMIRROR:
                 parser.printDialogueLine("You watched the mirror shatter for good.");
                 break;
 
-            case "cApproachHerFail":
-            case "cApproachHer":
+            case CAPPROACHHERFAIL:
+            case CAPPROACHHER:
                 if (this.withPrincess) {
                     parser.printDialogueLine("You are already with her.");
                 } else {
@@ -336,78 +336,78 @@ public class Finale extends Cycle {
 
                 break;
 
-            case "cWipeFail":
-            case "cWipe":
+            case CWIPEFAIL:
+            case CWIPE:
                 break;
 
-            case "cSmashNoStubbornFail":
+            case CSMASHNOSTUBBORNFAIL:
                 break;
 
-            case "cSmashFail":
-            case "cSmash":
+            case CSMASHFAIL:
+            case CSMASH:
                 break;
 
-            case "cGazeNoMirrorFail":
+            case CGAZENOMIRRORFAIL:
                 break;
 
-            case "cGazeFail":
-            case "cGaze":
+            case CGAZEFAIL:
+            case CGAZE:
                 break;
 
 
-            case "cSlayPrincessDeadFail":
-            case "cTakeHandDeadFail":
-            case "cGiveHandDeadFail":
+            case CSLAYPRINCESSDEADFAIL:
+            case CTAKEHANDDEADFAIL:
+            case CGIVEHANDDEADFAIL:
                 parser.printDialogueLine("She is already dead.");
                 break;
 
-            case "cSlayNoPrincessFail":
-            case "cSlayPrincessNoBladeFail":
-            case "cSlayPrincessFail":
-            case "cSlayPrincess":
+            case CSLAYNOPRINCESSFAIL:
+            case CSLAYPRINCESSNOBLADEFAIL:
+            case CSLAYPRINCESSFAIL:
+            case CSLAYPRINCESS:
                 parser.printDialogueLine("You cannot attempt to slay her now.");
                 break;
 
-            case "cSlaySelfNoBladeFail":
-            case "cSlaySelfFail":
-            case "cSlaySelf":
+            case CSLAYSELFNOBLADEFAIL:
+            case CSLAYSELFFAIL:
+            case CSLAYSELF:
                 parser.printDialogueLine("You cannot slay yourself now.");
                 break;
 
             
-            case "cTakeBladeFail":
-            case "cTakeBlade":
+            case CTAKEBLADEFAIL:
+            case CTAKEBLADE:
                 parser.printDialogueLine("The pristine blade is not here.");
                 break;
 
-            case "cDropNoBladeFail":
-            case "cDropFail":
-            case "cDrop":
-            case "cGiveNoBladeFail":
-            case "cGiveBladeFail":
-            case "cGiveBlade":
-            case "cThrowNoBladeFail":
-            case "cThrowFail":
-            case "cThrow":
+            case CDROPNOBLADEFAIL:
+            case CDROPFAIL:
+            case CDROP:
+            case CGIVENOBLADEFAIL:
+            case CGIVEBLADEFAIL:
+            case CGIVEBLADE:
+            case CTHROWNOBLADEFAIL:
+            case CTHROWFAIL:
+            case CTHROW:
                 parser.printDialogueLine("You do not have the blade.");
                 break;
 
 
-            case "cTakeHandNoPrincessFail":
+            case CTAKEHANDNOPRINCESSFAIL:
                 parser.printDialogueLine("There is no one here.");
                 break;
 
-            case "cTakeHandFail":
-            case "cTakeHand":
+            case CTAKEHANDFAIL:
+            case CTAKEHAND:
                 parser.printDialogueLine("You cannot take her hand now.");
                 break;
 
-            case "cGiveHandNoPrincessFail":
+            case CGIVEHANDNOPRINCESSFAIL:
                 parser.printDialogueLine("There is no one here to offer your hand to.");
                 break;
 
-            case "cGiveHandFail":
-            case "cGiveHand":
+            case CGIVEHANDFAIL:
+            case CGIVEHAND:
                 parser.printDialogueLine("You cannot offer her your hand now.");
                 break;
 
@@ -420,11 +420,11 @@ public class Finale extends Cycle {
      * Prints a generic response to a command failing or being unavailable while in the heart of the Shifting Mound
      * @param outcome the String representation of the outcome of the attempted command
      */
-    private void giveDefaultFailResponseCabin(String outcome) {
+    private void giveDefaultFailResponseCabin(Outcome outcome) {
         // Responses here depend on whether you have normal heart (Hero) or Stranger heart (Hero + Contrarian)
 
         switch (outcome) {
-            case "cGoHill":
+            case CGOHILL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -434,15 +434,15 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cGoFail":
-            case "cGoLeave":
-            case "cGoPath":
-            case "cGoCabin":
-            case "cGoStairs":
-            case "cGoBasement":
-            case "cGoLeft":
-            case "cGoRight":
-            case "cProceed":
+            case CGOFAIL:
+            case CGOLEAVE:
+            case CGOPATH:
+            case CGOCABIN:
+            case CGOSTAIRS:
+            case CGOBASEMENT:
+            case CGOLEFT:
+            case CGORIGHT:
+            case CPROCEED:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -452,7 +452,7 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cEnterFail":
+            case CENTERFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -462,7 +462,7 @@ public class Finale extends Cycle {
                 
                 break;
                 
-            case "cLeaveFail":
+            case CLEAVEFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -473,14 +473,14 @@ public class Finale extends Cycle {
                 break;
 
 
-            case "cApproachAtMirrorFail":
-            case "cApproachMirrorFail":
-            case "cApproachMirror":
-            case "cWipeFail":
-            case "cWipe":
-            case "cGazeNoMirrorFail":
-            case "cGazeFail":
-            case "cGaze":
+            case CAPPROACHATMIRRORFAIL:
+            case CAPPROACHMIRRORFAIL:
+            case CAPPROACHMIRROR:
+            case CWIPEFAIL:
+            case CWIPE:
+            case CGAZENOMIRRORFAIL:
+            case CGAZEFAIL:
+            case CGAZE:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -490,8 +490,8 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cApproachHerFail":
-            case "cApproachHer":
+            case CAPPROACHHERFAIL:
+            case CAPPROACHHER:
                 if (this.withPrincess) {
                     if (this.strangerHeart) {
                         parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
@@ -510,9 +510,9 @@ public class Finale extends Cycle {
 
                 break;
 
-            case "cSmashNoStubbornFail":
-            case "cSmashFail":
-            case "cSmash": // same Hero line as approach/wipe/gaze but change Contra line
+            case CSMASHNOSTUBBORNFAIL:
+            case CSMASHFAIL:
+            case CSMASH: // same Hero line as approach/wipe/gaze but change Contra line
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -523,9 +523,9 @@ public class Finale extends Cycle {
                 break;
                 
 
-            case "cSlayPrincessDeadFail":
-            case "cTakeHandDeadFail":
-            case "cGiveHandDeadFail":
+            case CSLAYPRINCESSDEADFAIL:
+            case CTAKEHANDDEADFAIL:
+            case CGIVEHANDDEADFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -535,7 +535,7 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cSlayNoPrincessFail":
+            case CSLAYNOPRINCESSFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -545,7 +545,7 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cSlayPrincessNoBladeFail":
+            case CSLAYPRINCESSNOBLADEFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -555,8 +555,8 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cSlayPrincessFail":
-            case "cSlayPrincess":
+            case CSLAYPRINCESSFAIL:
+            case CSLAYPRINCESS:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -566,7 +566,7 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cSlaySelfNoBladeFail":
+            case CSLAYSELFNOBLADEFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -576,8 +576,8 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cSlaySelfFail":
-            case "cSlaySelf":
+            case CSLAYSELFFAIL:
+            case CSLAYSELF:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -588,7 +588,7 @@ public class Finale extends Cycle {
                 break;
                 
 
-            case "cTakeHasBladeFail":
+            case CTAKEHASBLADEFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -598,8 +598,8 @@ public class Finale extends Cycle {
 
                 break;
             
-            case "cTakeBladeFail":
-            case "cTakeBlade":
+            case CTAKEBLADEFAIL:
+            case CTAKEBLADE:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -609,8 +609,8 @@ public class Finale extends Cycle {
 
                 break;
 
-            case "cDropNoBladeFail":
-            case "cGiveNoBladeFail":
+            case CDROPNOBLADEFAIL:
+            case CGIVENOBLADEFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -620,8 +620,8 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cDropFail":
-            case "cDrop":
+            case CDROPFAIL:
+            case CDROP:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -631,8 +631,8 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cGiveBladeFail":
-            case "cGiveBlade":
+            case CGIVEBLADEFAIL:
+            case CGIVEBLADE:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -642,7 +642,7 @@ public class Finale extends Cycle {
                 
                 break;
 
-            case "cThrowNoBladeFail": // same Hero line as drop/give but change Contra line
+            case CTHROWNOBLADEFAIL: // same Hero line as drop/give but change Contra line
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -652,8 +652,8 @@ public class Finale extends Cycle {
                 
                 break;
                 
-            case "cThrowFail":
-            case "cThrow":
+            case CTHROWFAIL:
+            case CTHROW:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -664,7 +664,7 @@ public class Finale extends Cycle {
                 break;
 
 
-            case "cTakeHandNoPrincessFail":
+            case CTAKEHANDNOPRINCESSFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -674,8 +674,8 @@ public class Finale extends Cycle {
 
                 break;
 
-            case "cTakeHandFail":
-            case "cTakeHand":
+            case CTAKEHANDFAIL:
+            case CTAKEHAND:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -685,7 +685,7 @@ public class Finale extends Cycle {
 
                 break;
 
-            case "cGiveHandNoPrincessFail":
+            case CGIVEHANDNOPRINCESSFAIL:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -695,8 +695,8 @@ public class Finale extends Cycle {
 
                 break;
 
-            case "cGiveHandFail":
-            case "cGiveHand":
+            case CGIVEHANDFAIL:
+            case CGIVEHAND:
                 if (this.strangerHeart) {
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "XXXXXXXX"));
                     parser.printDialogueLine(new VoiceDialogueLine(Voice.CONTRARIAN, "XXXXXXXX"));
@@ -751,9 +751,9 @@ public class Finale extends Cycle {
      * @return the ending the player reaches
      */
     private ChapterEnding openingConversation() {
-        System.out.println();
-        System.out.println();
-        System.out.println();
+        IOHandler.out().println();
+        IOHandler.out().println();
+        IOHandler.out().println();
         parser.printDialogueLine("You find yourself in The Long Quiet once again.");
 
         this.activeMenu = new OptionsMenu();
@@ -764,15 +764,15 @@ public class Finale extends Cycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (this.activeOutcome) {
-                case "cGoHill":
-                case "proceed":
+                case CGOHILL:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
-                case "cGoFail":
-                case "cEnterFail":
-                case "cLeaveFail":
+                case CGOLEAVE:
+                case CGOFAIL:
+                case CENTERFAIL:
+                case CLEAVEFAIL:
                     parser.printDialogueLine("There is nowhere else for you to go.");
                     break;
                     
@@ -872,56 +872,56 @@ public class Finale extends Cycle {
 
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "yourNewWorld1":
-                case "yourNewWorld2":
-                case "yourNewWorld3":
+                case YOURNEWWORLD1:
+                case YOURNEWWORLD2:
+                case YOURNEWWORLD3:
                     this.ynwArguments += 1;
                     secondaryScript.runSection("ynwDebate" + ynwArguments);
                     break;
 
-                case "vessel1":
-                case "vessel2":
-                case "vessel3":
-                case "vessel4":
-                case "vessel5":
-                case "vessel6":
-                case "vessel7":
-                case "vessel8":
-                case "vessel9":
-                case "vessel10":
-                    vesselOption = activeOutcome.substring(6);
+                case VESSEL1:
+                case VESSEL2:
+                case VESSEL3:
+                case VESSEL4:
+                case VESSEL5:
+                case VESSEL6:
+                case VESSEL7:
+                case VESSEL8:
+                case VESSEL9:
+                case VESSEL10:
+                    vesselOption = activeOutcome.getID().substring(6);
                     this.vesselArgumentResponse(currentVessel, vesselOption);
                     break;
 
-                case "appeal1":
-                case "appeal2":
-                case "appeal3":
-                case "appeal4":
-                case "appeal5":
-                case "lecture1":
-                case "lecture2":
-                case "lecture3":
-                case "lecture4":
-                case "lecture5":
-                case "assert1":
-                case "assert2":
-                case "assert3":
-                case "assert4":
-                case "assert5A":
-                case "assert5B":
-                case "reject1":
-                case "reject2":
-                case "reject3":
-                case "reject4":
-                case "reject5":
-                    secondaryScript.runSection(activeOutcome);
+                case APPEAL1:
+                case APPEAL2:
+                case APPEAL3:
+                case APPEAL4:
+                case APPEAL5:
+                case LECTURE1:
+                case LECTURE2:
+                case LECTURE3:
+                case LECTURE4:
+                case LECTURE5:
+                case ASSERT1:
+                case ASSERT2:
+                case ASSERT3:
+                case ASSERT4:
+                case ASSERT5A:
+                case ASSERT5B:
+                case REJECT1:
+                case REJECT2:
+                case REJECT3:
+                case REJECT4:
+                case REJECT5:
+                    secondaryScript.runSection(activeOutcome.getID());
                     break;
 
-                case "surrender":
+                case SURRENDER:
                     // FILL IN
                     break;
 
-                case "silent":
+                case SILENT:
                     this.silentCount += 1;
                     secondaryScript.runSection("silent" + silentCount);
                     break;
@@ -0,0 +1,55 @@
+public class FlagCondition extends Condition {
+
+    private final FlagSet flags;
+    private final ChapterFlag flag;
+
+    // --- CONSTRUCTOR ---
+
+    /**
+     * Constructor
+     * @param flags the FlagSet storing the value of this Condition
+     * @param flag the flag within flags representing this Condition
+     */
+    public FlagCondition(FlagSet flags, ChapterFlag flag) {
+        this.flags = flags;
+        this.flag = flag;
+    }
+
+    // --- ACCESSORS & MANIPULATORS ---
+
+    /**
+     * Checks whether the flag linked to this Condition is set
+     * @return true if the flag is set; false otherwise
+     */
+    @Override
+    public boolean check() {
+        return this.flags.has(this.flag);
+    }
+
+    /**
+     * Registers a composite condition to be notified whenever the flag linked to this Condition changes; registered on the FlagSet itself, as the flag can be changed without going through this Condition
+     * @param dependent the composite condition to notify
+     */
+    @Override
+    public void addDependent(ConditionDependent dependent) {
+        this.flags.addDependent(this.flag, dependent);
+    }
+
+    /**
+     * Sets the flag linked to this Condition to a given value
+     * @param newValue the new value of the flag
+     */
+    @Override
+    public void set(boolean newValue) {
+        this.flags.set(this.flag, newValue);
+    }
+
+    /**
+     * Sets the flag linked to this Condition
+     */
+    @Override
+    public void set() {
+        this.flags.set(this.flag);
+    }
+
+}
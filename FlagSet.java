@@ -0,0 +1,170 @@
+public class FlagSet {
+
+    private long bits;
+    private ConditionDependents[] dependents = null; // Indexed by flag ordinal; composite conditions built on a FlagCondition for that flag
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     */
+    public FlagSet() {
+        this.bits = 0;
+    }
+
+    /**
+     * Constructor
+     * @param bits the packed flag word to start with
+     */
+    public FlagSet(long bits) {
+        this.bits = bits;
+    }
+
+    // --- ACCESSORS & MANIPULATORS ---
+
+    /**
+     * Checks whether a given flag is set
+     * @param flag the flag to check
+     * @return true if flag is set; false otherwise
+     */
+    public boolean has(ChapterFlag flag) {
+        return (this.bits & flag.bit()) != 0;
+    }
+
+    /**
+     * Sets or clears a given flag
+     * @param flag the flag to set or clear
+     * @param value the new value of the flag
+     */
+    public void set(ChapterFlag flag, boolean value) {
+        long oldBits = this.bits;
+        if (value) {
+            this.bits |= flag.bit();
+        } else {
+            this.bits &= ~flag.bit();
+        }
+        this.changed(oldBits);
+    }
+
+    /**
+     * Sets a given flag
+     * @param flag the flag to set
+     */
+    public void set(ChapterFlag flag) {
+        long oldBits = this.bits;
+        this.bits |= flag.bit();
+        this.changed(oldBits);
+    }
+
+    /**
+     * Clears a given flag
+     * @param flag the flag to clear
+     */
+    public void clear(ChapterFlag flag) {
+        long oldBits = this.bits;
+        this.bits &= ~flag.bit();
+        this.changed(oldBits);
+    }
+
+    /**
+     * Clears every flag
+     */
+    public void clear() {
+        long oldBits = this.bits;
+        this.bits = 0;
+        this.changed(oldBits);
+    }
+
+    /**
+     * Returns every flag in this set, packed into a single word
+     * @return the packed flag word of this set
+     */
+    public long toLong() {
+        return this.bits;
+    }
+
+    /**
+     * Replaces every flag in this set with the flags packed into a given word
+     * @param bits the packed flag word to copy
+     */
+    public void setFrom(long bits) {
+        long oldBits = this.bits;
+        this.bits = bits;
+        this.changed(oldBits);
+    }
+
+    /**
+     * Replaces some of the flags in this set with the matching flags packed into a given word, leaving every other flag unchanged
+     * @param bits the packed flag word to copy from
+     * @param mask the packed flag word of every flag to copy
+     */
+    public void setFrom(long bits, long mask) {
+        long oldBits = this.bits;
+        this.bits = (this.bits & ~mask) | (bits & mask);
+        this.changed(oldBits);
+    }
+
+    // --- DEPENDENCY TRACKING ---
+
+    /**
+     * Registers a composite condition to be notified whenever a given flag changes
+     * @param flag the flag the composite condition depends on
+     * @param dependent the composite condition to notify
+     */
+    public void addDependent(ChapterFlag flag, ConditionDependent dependent) {
+        if (this.dependents == null) this.dependents = new ConditionDependents[ChapterFlag.values().length];
+        if (this.dependents[flag.ordinal()] == null) this.dependents[flag.ordinal()] = new ConditionDependents();
+        this.dependents[flag.ordinal()].add(dependent);
+    }
+
+    /**
+     * Records that the flags in this set may have changed, notifying every composite condition built on a flag that did change
+     * @param oldBits the packed flag word before the change
+     */
+    private void changed(long oldBits) {
+        if (this.dependents == null) return;
+
+        long changedBits = oldBits ^ this.bits;
+        int index;
+        while (changedBits != 0) {
+            index = Long.numberOfTrailingZeros(changedBits);
+            changedBits &= changedBits - 1;
+            if (this.dependents[index] != null) this.dependents[index].notifyChanged();
+        }
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Packs several flags into a single word
+     * @param flags the flags to pack
+     * @return a packed flag word with exactly the given flags set
+     */
+    public static long mask(ChapterFlag... flags) {
+        long mask = 0;
+        for (ChapterFlag flag : flags) mask |= flag.bit();
+        return mask;
+    }
+
+    // --- MISC ---
+
+    /**
+     * Returns a String representation of this FlagSet
+     * @return the names of every flag currently set
+     */
+    @Override
+    public String toString() {
+        String s = "[";
+        boolean first = true;
+        for (ChapterFlag flag : ChapterFlag.values()) {
+            if (this.has(flag)) {
+                if (!first) s += ", ";
+                s += flag.name();
+                first = false;
+            }
+        }
+
+        return s + "]";
+    }
+
+}
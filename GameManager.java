@@ -1,3 +1,4 @@
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 
@@ -6,6 +7,7 @@ public class GameManager {
     private final IOHandler parser;
     private final AchievementTracker tracker;
     private Cycle currentCycle;
+    private Cycle activeCycle; // The Cycle of the Chapter currently being played; Chapter I hands over to later Chapters without changing currentCycle
 
     // Settings
     private final boolean demoMode = false;
@@ -14,6 +16,7 @@ public class GameManager {
     private boolean showNowPlaying = true;
     private boolean globalSlowPrint = true;
     private boolean autoAdvance = false;
+    private final boolean headless; // If true, every pause, slow print and wait for input is skipped
 
     // The song currently "playing"
     private String nowPlaying = "";
@@ -28,6 +31,7 @@ public class GameManager {
     private final ArrayList<Vessel> claimedVessels;
     private final ArrayList<ChapterEnding> endingsFound;
     private final HashMap<Chapter, Boolean> visitedChapters;
+    private final ConditionDependents visitedDependents = new ConditionDependents(); // Options that are greyed out once the Chapter they lead to has been visited
     private final HashMap<Voice, Boolean> voicesMet;
     private final ArrayList<String> playlist;
 
@@ -48,6 +52,14 @@ public class GameManager {
     private final Condition askedRequestsMound = new Condition(false);
     private final Condition noRefuseExploreMound = new Condition(true);
 
+    // The state of the session at the start of the current vessel, which the game can be resumed from
+    private SessionSnapshot checkpoint;
+    private final SaveFile saveFile; // If null, the game is never saved
+
+    // The player's input and choices since the checkpoint, so the UNDO command can replay the vessel up to their last choice
+    private final PromptHistory history = new PromptHistory();
+    private boolean playingVessel = false; // Only choices made during a vessel can be undone, as the Finale has no checkpoint of its own
+
     // Global menus and options
     private boolean metaMenuActive = false;
     private final OptionsMenu settingsMenu;
@@ -59,11 +71,51 @@ public class GameManager {
     // --- CONSTRUCTOR ---
 
     /**
-     * Constructor
+     * Constructor; plays the game over standard input and output
      */
     public GameManager() {
-        this.parser = new IOHandler(this);
-        this.tracker = new AchievementTracker(this, this.parser);
+        this(new ConsoleSessionIO(), false, new SaveFile(), AchievementTracker.DEFAULTPROFILE);
+    }
+
+    /**
+     * Constructor; never saves the game
+     * @param io the session to read input from and write output to
+     */
+    public GameManager(SessionIO io) {
+        this(io, false);
+    }
+
+    /**
+     * Constructor; never saves the game
+     * @param io the session to read input from and write output to
+     * @param headless whether to skip every pause, slow print and wait for input (for automated playthroughs)
+     */
+    public GameManager(SessionIO io, boolean headless) {
+        this(io, headless, null);
+    }
+
+    /**
+     * Constructor
+     * @param io the session to read input from and write output to
+     * @param headless whether to skip every pause, slow print and wait for input (for automated playthroughs)
+     * @param saveFile the file to save the game to at the start of each vessel, or null if the game should never be saved
+     */
+    public GameManager(SessionIO io, boolean headless, SaveFile saveFile) {
+        this(io, headless, saveFile, AchievementTracker.DEFAULTPROFILE);
+    }
+
+    /**
+     * Constructor
+     * @param io the session to read input from and write output to
+     * @param headless whether to skip every pause, slow print and wait for input (for automated playthroughs)
+     * @param saveFile the file to save the game to at the start of each vessel, or null if the game should never be saved
+     * @param profile the profile to store unlocked achievements under, or null if they should never be stored
+     */
+    public GameManager(SessionIO io, boolean headless, SaveFile saveFile, String profile) {
+        this.headless = headless;
+        this.saveFile = saveFile;
+        this.parser = new IOHandler(this, io);
+        this.tracker = new AchievementTracker(this, this.parser, profile);
 
         this.claimedVessels = new ArrayList<>();
         this.endingsFound = new ArrayList<>();
@@ -96,14 +148,7 @@ public class GameManager {
      * @return the settings menu
      */
     private OptionsMenu createSettingsMenu() {
-        OptionsMenu menu = new OptionsMenu(true);
-        menu.add(new Option(this, "warnings", "[Turn dynamic content warnings OFF.]", 0));
-        menu.add(new Option(this, "nowPlaying", "[Turn soundtrack notifications OFF.]", 0));
-        menu.add(new Option(this, "slowPrint", "[Set print speed to INSTANT.]", 0));
-        menu.add(new Option(this, "autoAdvance", "[Turn auto-advancing dialogue ON.]", 0));
-        menu.add(new Option(this, "resetAchievements", "[Reset achievements.]", 0));
-        menu.add(new Option(this, "cancel", "[Return to game.]", 0));
-        return menu;
+        return MenuTemplate.get("Meta", "settings").instantiate(this);
     }
     
     /**
@@ -111,11 +156,7 @@ public class GameManager {
      * @return the menu displayed when SHOW is used without argument
      */
     private OptionsMenu createShowMenu() {
-        OptionsMenu menu = new OptionsMenu(true);
-        menu.add(new Option(this, "warnings", "[Show content warnings.]", 0));
-        menu.add(new Option(this, "achievements", "[Show the Achievement Gallery.]", 0));
-        menu.add(new Option(this, "cancel", "[Return to game.]", 0));
-        return menu;
+        return MenuTemplate.get("Meta", "show").instantiate(this);
     }
 
     /**
@@ -123,13 +164,7 @@ public class GameManager {
      * @return the content warnings menu
      */
     private OptionsMenu createWarningsMenu() {
-        OptionsMenu menu = new OptionsMenu(true);
-        menu.add(new Option(this, "general", "[Show general content warnings.]", 0));
-        menu.add(new Option(this, "by chapter", "[Show content warnings by chapter.]", 0));
-        menu.add(new Option(this, "current", "[Show content warnings for the current chapter.]", 0));
-        menu.add(new Option(this, "cancel", "[Return to game.]", 0));
-
-        return menu;
+        return MenuTemplate.get("Meta", "warnings").instantiate(this);
     }
 
     // --- ACCESSORS & MANIPULATORS ---
@@ -142,6 +177,22 @@ public class GameManager {
         return this.tracker;
     }
 
+    /**
+     * Accessor for parser
+     * @return the IOHandler linked to this GameManager
+     */
+    public IOHandler getParser() {
+        return this.parser;
+    }
+
+    /**
+     * Returns the endings the player has reached with each claimed vessel so far
+     * @return a copy of the list of endings the player has reached so far
+     */
+    public ArrayList<ChapterEnding> getEndingsFound() {
+        return new ArrayList<>(this.endingsFound);
+    }
+
     /**
      * Accessor for currentCycle
      * @return the current active Cycle
@@ -150,6 +201,14 @@ public class GameManager {
         return this.currentCycle;
     }
 
+    /**
+     * Manipulator for activeCycle
+     * @param cycle the Cycle of the Chapter that is about to be played
+     */
+    public void setActiveCycle(Cycle cycle) {
+        this.activeCycle = cycle;
+    }
+
     /**
      * Accessor for demoMode
      * @return whether demo mode is currently enabled
@@ -196,7 +255,7 @@ public class GameManager {
      * @return whether to slowly print dialogue lines or print them instantly
      */
     public boolean globalSlowPrint() {
-        return this.globalSlowPrint;
+        return this.globalSlowPrint && !this.headless && !this.history.isReplaying();
     }
 
     /**
@@ -204,7 +263,15 @@ public class GameManager {
      * @return whether to automatically continue printing dialogue after each line or wait for player input
      */
     public boolean autoAdvance() {
-        return this.autoAdvance;
+        return this.autoAdvance || this.headless || this.history.isReplaying();
+    }
+
+    /**
+     * Accessor for headless
+     * @return whether every pause, slow print and wait for input is skipped
+     */
+    public boolean isHeadless() {
+        return this.headless;
     }
 
     /**
@@ -229,6 +296,14 @@ public class GameManager {
         return true;
     }
 
+    /**
+     * Registers an Option to be notified whenever the Chapters the player has visited change
+     * @param dependent the Option to notify
+     */
+    public void addVisitedDependent(ConditionDependent dependent) {
+        this.visitedDependents.add(dependent);
+    }
+
     /**
      * Marks all Chapters in an ArrayList
      * @param route the list of Chapters visited by a player during a StandardCycle
@@ -237,6 +312,7 @@ public class GameManager {
         for (int i = 1; i < route.size(); i++) {
             visitedChapters.put(route.get(i), true);
         }
+        this.visitedDependents.notifyChanged();
     }
 
     /**
@@ -538,13 +614,90 @@ public class GameManager {
      * Initiates and coordinates a full playthrough of the game
      */
     public void runGame() {
-        ChapterEnding ending = null;
+        this.parser.bindToCurrentThread();
+
+        SessionSnapshot saved = this.loadSave();
+        if (saved == null) {
+            this.intro();
+        } else {
+            this.restoreSnapshot(saved);
+        }
+
+        this.playVessels(saved != null);
+    }
+
+    /**
+     * Offers to continue from the save file, if there is one
+     * @return the saved state of the session if the player chose to continue from it; null otherwise
+     */
+    private SessionSnapshot loadSave() {
+        if (this.saveFile == null || !this.saveFile.exists()) return null;
+
+        SessionSnapshot saved;
+        try {
+            saved = this.saveFile.read();
+        } catch (IOException e) {
+            IOHandler.wrapPrintln("[Your saved game could not be loaded: " + e.getMessage() + "]");
+            IOHandler.out().println();
+            return null;
+        }
+
+        if (saved != null && parser.promptYesNo("[Continue your saved game?]", false)) {
+            IOHandler.out().println();
+            return saved;
+        }
+
+        return null;
+    }
+
+    /**
+     * Saves the most recent checkpoint to the save file, if this game is saved
+     */
+    private void save() {
+        if (this.saveFile == null) return;
+
+        // Written on the background writer thread; a failed write is reported at the next save instead
+        IOException failure = this.saveFile.takeWriteFailure();
+        if (failure != null) {
+            IOHandler.wrapPrintln("[Your game could not be saved: " + failure.getMessage() + "]");
+            IOHandler.out().println();
+        }
+
+        try {
+            this.saveFile.writeLater(this.checkpoint);
+        } catch (IOException e) {
+            IOHandler.wrapPrintln("[Your game could not be saved: " + e.getMessage() + "]");
+            IOHandler.out().println();
+        }
+    }
 
-        this.intro();
+    /**
+     * Resumes a playthrough of the game from the start of the vessel a given snapshot was taken at
+     * @param snapshot the snapshot to resume from
+     */
+    public void resumeGame(SessionSnapshot snapshot) {
+        this.parser.bindToCurrentThread();
+
+        this.restoreSnapshot(snapshot);
+        this.playVessels(true);
+    }
+
+    /**
+     * Plays through vessels until the game ends, taking a checkpoint at the start of each one
+     * @param restored whether the session was just restored from its checkpoint, which then already describes the start of the first vessel
+     */
+    private void playVessels(boolean restored) {
+        ChapterEnding ending = null;
         
         while (this.nClaimedVessels() < 5 && this.nVesselsAborted < 6) {
-            this.currentCycle = new ChapterI(this, this.parser);
-            ending = currentCycle.runChapter();
+            if (restored) {
+                restored = false;
+            } else {
+                this.checkpoint = this.createSnapshot();
+                this.save();
+            }
+
+            ending = this.playVessel();
 
             if (ending == null) {
                 ending = ChapterEnding.DEMOENDING;
@@ -634,6 +787,137 @@ public class GameManager {
         this.endGame(ending);
     }
 
+    /**
+     * Plays through a single vessel from the current checkpoint; whenever the player undoes a choice, restores the checkpoint and replays the vessel up to that choice
+     * @return the ending the player reached
+     */
+    private ChapterEnding playVessel() {
+        this.history.clear();
+        this.playingVessel = true;
+        try {
+            while (true) {
+                this.currentCycle = new ChapterI(this, this.parser);
+                this.activeCycle = this.currentCycle;
+                try {
+                    return this.currentCycle.runChapter();
+                } catch (UndoException e) {
+                    this.restoreSnapshot(this.checkpoint);
+                    this.history.undo();
+                    this.parser.muteCurrentThread();
+                }
+            }
+        } finally {
+            this.playingVessel = false;
+            this.history.clear();
+        }
+    }
+
+    /**
+     * Accessor for checkpoint
+     * @return the state of the session at the start of the current vessel, or null if the player has not reached the first vessel yet
+     */
+    public SessionSnapshot getCheckpoint() {
+        return this.checkpoint;
+    }
+
+    /**
+     * Takes a snapshot of the current state of the session between vessels, including settings, global progress, the state of the Spaces Between and unlocked achievements
+     * @return a snapshot of the current state of the session
+     */
+    public SessionSnapshot createSnapshot() {
+        SessionSnapshot snapshot = new SessionSnapshot();
+
+        snapshot.put("dynamicWarnings", this.dynamicWarnings);
+        snapshot.put("showNowPlaying", this.showNowPlaying);
+        snapshot.put("globalSlowPrint", this.globalSlowPrint);
+        snapshot.put("autoAdvance", this.autoAdvance);
+        snapshot.put("nowPlaying", this.nowPlaying);
+
+        snapshot.put("firstHarsh", this.firstHarsh);
+        snapshot.put("firstPrincess2", this.firstPrincess2);
+        snapshot.put("firstSource", this.firstSource);
+        snapshot.put("firstStrangerTossedBlade", this.firstStrangerTossedBlade);
+
+        snapshot.put("claimedVessels", new ArrayList<>(this.claimedVessels));
+        snapshot.put("endingsFound", new ArrayList<>(this.endingsFound));
+        snapshot.put("visitedChapters", new HashMap<>(this.visitedChapters));
+        snapshot.put("voicesMet", new HashMap<>(this.voicesMet));
+        snapshot.put("playlist", new ArrayList<>(this.playlist));
+
+        snapshot.put("nVesselsAborted", this.nVesselsAborted);
+        snapshot.put("mirrorCruelCount", this.mirrorCruelCount);
+        snapshot.put("goodEndingAttempted", this.goodEndingAttempted.check());
+
+        snapshot.put("mirrorCursor", this.mirrorScript.getCursor());
+        snapshot.put("intermissionCursor", this.intermissionScript.getCursor());
+        snapshot.put("mirrorScaredFlag", this.mirrorScaredFlag);
+        snapshot.put("moundFreedom", this.moundFreedom);
+        snapshot.put("moundSatisfaction", this.moundSatisfaction);
+        snapshot.put("directToMound", this.directToMound);
+        snapshot.put("threatenedMound", this.threatenedMound.check());
+        snapshot.put("canAskRiddleMound", this.canAskRiddleMound.check());
+        snapshot.put("askedRequestsMound", this.askedRequestsMound.check());
+        snapshot.put("noRefuseExploreMound", this.noRefuseExploreMound.check());
+        snapshot.put("intermissionAttackMound", this.intermissionAttackMound.getTimesPicked());
+        snapshot.put("intermissionAttackSelf", this.intermissionAttackSelf.getTimesPicked());
+
+        this.tracker.saveState(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Restores the state of the session saved in a given snapshot
+     * @param snapshot the snapshot to restore
+     */
+    public void restoreSnapshot(SessionSnapshot snapshot) {
+        this.dynamicWarnings = snapshot.getBoolean("dynamicWarnings");
+        this.showNowPlaying = snapshot.getBoolean("showNowPlaying");
+        this.globalSlowPrint = snapshot.getBoolean("globalSlowPrint");
+        this.autoAdvance = snapshot.getBoolean("autoAdvance");
+        this.nowPlaying = snapshot.get("nowPlaying");
+
+        this.firstHarsh = snapshot.getBoolean("firstHarsh");
+        this.firstPrincess2 = snapshot.get("firstPrincess2");
+        this.firstSource = snapshot.get("firstSource");
+        this.firstStrangerTossedBlade = snapshot.getBoolean("firstStrangerTossedBlade");
+
+        ArrayList<Vessel> claimedVessels = snapshot.get("claimedVessels");
+        ArrayList<ChapterEnding> endingsFound = snapshot.get("endingsFound");
+        HashMap<Chapter, Boolean> visitedChapters = snapshot.get("visitedChapters");
+        HashMap<Voice, Boolean> voicesMet = snapshot.get("voicesMet");
+        ArrayList<String> playlist = snapshot.get("playlist");
+        this.claimedVessels.clear();
+        this.claimedVessels.addAll(claimedVessels);
+        this.endingsFound.clear();
+        this.endingsFound.addAll(endingsFound);
+        this.visitedChapters.putAll(visitedChapters);
+        this.voicesMet.putAll(voicesMet);
+        this.playlist.clear();
+        this.playlist.addAll(playlist);
+
+        this.nVesselsAborted = snapshot.getInt("nVesselsAborted");
+        this.mirrorCruelCount = snapshot.getInt("mirrorCruelCount");
+        this.goodEndingAttempted.set(snapshot.getBoolean("goodEndingAttempted"));
+
+        this.mirrorScript.setCursor(snapshot.getInt("mirrorCursor"));
+        this.intermissionScript.setCursor(snapshot.getInt("intermissionCursor"));
+        this.mirrorScaredFlag = snapshot.getBoolean("mirrorScaredFlag");
+        this.moundFreedom = snapshot.getInt("moundFreedom");
+        this.moundSatisfaction = snapshot.getInt("moundSatisfaction");
+        this.directToMound = snapshot.getBoolean("directToMound");
+        this.threatenedMound.set(snapshot.getBoolean("threatenedMound"));
+        this.canAskRiddleMound.set(snapshot.getBoolean("canAskRiddleMound"));
+        this.askedRequestsMound.set(snapshot.getBoolean("askedRequestsMound"));
+        this.noRefuseExploreMound.set(snapshot.getBoolean("noRefuseExploreMound"));
+        this.intermissionAttackMound.setTimesPicked(snapshot.getInt("intermissionAttackMound"));
+        this.intermissionAttackSelf.setTimesPicked(snapshot.getInt("intermissionAttackSelf"));
+
+        this.tracker.restoreState(snapshot);
+        this.currentCycle = null;
+        this.checkpoint = snapshot;
+        this.visitedDependents.notifyChanged();
+    }
+
     /**
      * (DEBUG ONLY) Initiates and coordinates a full playthrough of the game, skipping the intro
      */
@@ -741,31 +1025,31 @@ public class GameManager {
                 break;
             
             case 2:
-                this.currentCycle = new ChapterII(startFromEnding, this, this.parser, new ArrayList<>(), harsh, false, false, false, false);
+                this.currentCycle = new ChapterII(startFromEnding, this, this.parser, new ArrayList<>(), (harsh) ? ChapterFlag.HARSH.bit() : 0);
                 break;
 
             case 3:
             case 4:
             case 0:
-                this.currentCycle = new ChapterIII(startFromEnding, this, this.parser,  new ArrayList<>(), new Condition(), "normal", false, false, false, false, harsh, false, null, false, false, false, false, false, false, false, false, false, false, false, false);
+                this.currentCycle = new ChapterIII(startFromEnding, this, this.parser,  new ArrayList<>(), new Condition(), "normal", null, (harsh) ? ChapterFlag.HARSH.bit() : 0);
                 break;
 
             default: throw new RuntimeException("Invalid starting chapter");
         }
         
         while (this.nClaimedVessels() < 5 && this.nVesselsAborted < 6) {
-            //System.out.println("While loop started");
+            //IOHandler.out().println("While loop started");
             
             if (firstCycle) {
-                //System.out.println("Running first cycle");
+                //IOHandler.out().println("Running first cycle");
                 ending = currentCycle.debugRunChapter();
                 firstCycle = false;
             } else {
-                //System.out.println("Running second+ cycle");
+                //IOHandler.out().println("Running second+ cycle");
                 ending = currentCycle.runChapter();
             }
 
-            //System.out.println("Cycle run");
+            //IOHandler.out().println("Cycle run");
 
             if (ending == null) {
                 ending = ChapterEnding.DEMOENDING;
@@ -861,36 +1145,106 @@ public class GameManager {
         this.debugRunGame(startFromEnding, false);
     }
 
+    // --- UNDO ---
+
+    /**
+     * Checks whether the player's input is currently being replayed up to an earlier choice
+     * @return true if the player's input is being replayed; false otherwise
+     */
+    public boolean isReplaying() {
+        return this.history.isReplaying();
+    }
+
+    /**
+     * Records a line entered by the player, so it can be replayed if they undo a later choice
+     * @param line the line entered by the player
+     */
+    public void recordInput(String line) {
+        if (this.playingVessel) this.history.recordInput(line);
+    }
+
+    /**
+     * Returns the next line of the player's input to replay
+     * @return the next line the player entered since the checkpoint
+     */
+    public String replayInput() {
+        return this.history.nextInput();
+    }
+
+    /**
+     * Records the state of the session as the player reaches a menu, so undoing can check that the replay takes the same route; once the replay reaches the menu the player is going back to, output is shown to the player again
+     * @param menu the menu being offered
+     * @return the flags of the active Cycle and the pick counts of the menu, or null if the player's choice from this menu cannot be undone
+     */
+    public SessionSnapshot reachMenu(OptionsMenu menu) {
+        if (!this.playingVessel || menu.isMeta() || this.metaMenuActive || this.parser.hasChoiceDriver()) return null;
+
+        SessionSnapshot state = new SessionSnapshot();
+        ArrayList<ChapterFlag> flags = new ArrayList<>();
+        for (ChapterFlag flag : ChapterFlag.values()) {
+            if (this.activeCycle.getFlags().has(flag)) flags.add(flag);
+        }
+        ArrayList<Integer> picks = new ArrayList<>();
+        for (int i = 0; i < menu.size(); i++) picks.add(menu.get(i).getTimesPicked());
+        state.put("flags", flags);
+        state.put("picks", picks);
+
+        if (this.history.reachMenu(state)) {
+            this.parser.bindToCurrentThread();
+            IOHandler.wrapPrintln("[You return to your last choice.]");
+        }
+
+        return state;
+    }
+
+    /**
+     * Records that the player has chosen from a menu
+     * @param state the state returned by reachMenu() when the menu was offered, or null if the choice cannot be undone
+     */
+    public void choseFromMenu(SessionSnapshot state) {
+        if (state != null) this.history.choseFromMenu(state);
+    }
+
+    /**
+     * Goes back to the player's last choice from a menu, if there is one
+     * @throws UndoException if there is a choice to undo, to abandon the current vessel so it can be replayed
+     */
+    public void undo() {
+        if (this.playingVessel && this.history.canUndo()) throw new UndoException();
+
+        IOHandler.wrapPrintln("[There is no choice to undo.]");
+    }
+
     // --- SCENES ---
 
     /**
      * Runs the intro of the game, letting the player view content warnings and change settings
      */
     private void intro() {
-        System.out.println("-----------------------------------");
-        System.out.println("         SLAY THE PRINCESS");
-        System.out.println("-----------------------------------");
+        IOHandler.out().println("-----------------------------------");
+        IOHandler.out().println("         SLAY THE PRINCESS");
+        IOHandler.out().println("-----------------------------------");
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("CONTENT WARNING:");
         IOHandler.wrapPrintln("This is a horror game, and it is not intended for all audiences.");
-        System.out.println();
+        IOHandler.out().println();
         if (parser.promptYesNo("Would you like to view the list of content warnings now?", false)) {
             this.showGeneralWarnings();
-            System.out.print("\n");
+            IOHandler.out().print("\n");
         }
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("You can view content warnings at any time with > SHOW WARNINGS.");
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("By default, some choices will ask you to confirm whether you are all right with potential content warnings beyond that point.");
         IOHandler.wrapPrintln("Would you like to turn dynamic content warnings off?");
         if (parser.promptYesNo("You can change this at any time with > TOGGLE WARNINGS.", false)) {
             this.toggleAutoWarnings();
         }
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("By default, the game will display the song currently playing from the official Slay the Princess soundtrack whenever it changes.");
         IOHandler.wrapPrintln("The soundtrack can be found on Spotify at https://spotify.link/PdG0uXZecEb.");
         IOHandler.wrapPrintln("Would you like to turn soundtrack notifications off?");
@@ -898,28 +1252,24 @@ public class GameManager {
             this.toggleNowPlaying();
         }
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("You can view and change these settings, as well as print speed and auto-advancing dialogue, at any time with > SETTINGS.");
         IOHandler.wrapPrintln("You can also view a list of available commands at any time with > HELP.");
         IOHandler.wrapPrintln("Press enter to advance dialogue.");
         IOHandler.wrapPrintln("(You cannot skip through dialogue that is currently printing with enter. This feature may be added in the future.)");
         parser.waitForInput();
 
-        System.out.println();
-        System.out.println();
-        System.out.println();
+        IOHandler.out().println();
+        IOHandler.out().println();
+        IOHandler.out().println();
         parser.printDivider();
-        try {
-            parser.printDialogueLine("Whatever horrors you may find in these dark places, have heart and see them through.", true);
-            Thread.sleep(1000);
-            parser.printDialogueLine("There are no premature endings. There are no wrong decisions.", true);
-            Thread.sleep(1000);
-            parser.printDialogueLine("There are only fresh perspectives and new beginnings.", true);
-            Thread.sleep(1000);
-            parser.printDialogueLine("This is a love story.");
-        } catch (InterruptedException e) {
-            throw new RuntimeException("Thread interrupted");
-        }
+        parser.printDialogueLine("Whatever horrors you may find in these dark places, have heart and see them through.", true);
+        this.pause(1000);
+        parser.printDialogueLine("There are no premature endings. There are no wrong decisions.", true);
+        this.pause(1000);
+        parser.printDialogueLine("There are only fresh perspectives and new beginnings.", true);
+        this.pause(1000);
+        parser.printDialogueLine("This is a love story.");
     }
 
     /**
@@ -939,6 +1289,14 @@ public class GameManager {
             this.showPlaylist(ending);
         }
 
+        if (this.saveFile != null) {
+            try {
+                this.saveFile.delete();
+            } catch (IOException e) {
+                IOHandler.wrapPrintln("[Your saved game could not be deleted: " + e.getMessage() + "]");
+            }
+        }
+
         parser.close();
     }
 
@@ -948,7 +1306,7 @@ public class GameManager {
      */
     private void showCredits(ChapterEnding ending) {
 
-        System.out.println();
+        IOHandler.out().println();
         parser.printDialogueLine("This game is based off of Slay the Princess, a game created by Tony Howard-Arias and Abby Howard, also known as Black Tabby Games.");
         parser.printDialogueLine("The original game was written and designed by Tony Howard-Arias, with art, editing, and additional writing by Abby Howard.");
         parser.printDialogueLine("The game is available on Steam, Nintendo Switch, PS4, PS5, and Xbox, and features everything found in this remake, plus gorgeous hand-penciled art and fantastic voice acting by Jonathan Sims (as the Voices in your Head) and Nicole Goodnight (as the Princess).");
@@ -961,7 +1319,7 @@ public class GameManager {
         if (ending != ChapterEnding.GOODENDING) {
             tracker.unlock("gameEnd");
         }
-        System.out.println();
+        IOHandler.out().println();
         parser.printDialogueLine("Thank you so much for playing. As an expression of our gratitude, here's the track order for a special playlist just for you.");
         parser.printDialogueLine("As a reminder, the soundtrack for the game can be found on Spotify at https://spotify.link/PdG0uXZecEb.");
 
@@ -982,12 +1340,12 @@ public class GameManager {
                 }
         }
 
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln(playlistText);
 
         if (!tracker.galleryUnlocked() && ending != ChapterEnding.GOODENDING && ending != ChapterEnding.OBLIVION) {
             tracker.unlockGallery();
-            System.out.println();
+            IOHandler.out().println();
             IOHandler.wrapPrintln("And now that you've finished the full story for the first time, you've also fully unlocked the Achievement Gallery! You can access it at any time with > SHOW ACHIEVEMENTS, and it's full of clues that will help you find undiscovered vessels and interactions. Happy hunting!");
         }
 
@@ -1010,10 +1368,12 @@ public class GameManager {
     }
 
     /**
-     * Waits for a given number of milliseconds before continuing
+     * Waits for a given number of milliseconds before continuing, unless this GameManager is headless or replaying the player's choices
      * @param time the time to wait
      */
-    public static void pause(int time) {
+    public void pause(int time) {
+        if (this.headless || this.history.isReplaying()) return;
+        
         try {
             Thread.sleep(time);
         } catch (InterruptedException e) {
@@ -1072,7 +1432,7 @@ public class GameManager {
 
         boolean confirm = this.parser.promptYesNo("[Are you sure you wish to proceed?]");
         parser.printDialogueLine("[You can turn dynamic content warnings off at any time with TOGGLE WARNINGS.]");
-        System.out.println();
+        IOHandler.out().println();
         return confirm;
     }
 
@@ -1107,7 +1467,7 @@ public class GameManager {
         parser.printDialogueLine("[If you make this choice, you will encounter: " + c.getContentWarnings(ending) + ".]", true);
         boolean confirm = this.parser.promptYesNo("[Are you sure you wish to proceed?]");
         parser.printDialogueLine("[You can turn dynamic content warnings off at any time with TOGGLE WARNINGS.]");
-        System.out.println();
+        IOHandler.out().println();
         return confirm;
     }
 
@@ -1128,7 +1488,7 @@ public class GameManager {
 
         boolean confirm = this.parser.promptYesNo("[Are you sure you wish to proceed?]");
         parser.printDialogueLine("[You can turn dynamic content warnings off at any time with TOGGLE WARNINGS.]");
-        System.out.println();
+        IOHandler.out().println();
         return confirm;
     }
 
@@ -1146,7 +1506,7 @@ public class GameManager {
 
         boolean confirm = this.parser.promptYesNo("[Are you sure you wish to proceed?]");
         parser.printDialogueLine("[You can turn dynamic content warnings off at any time with TOGGLE WARNINGS.]");
-        System.out.println();
+        IOHandler.out().println();
         return confirm;
     }
 
@@ -1163,7 +1523,7 @@ public class GameManager {
         parser.printDialogueLine("[If you make this choice, you will encounter: " + extraWarnings + "; " + c.getContentWarnings(ending) + ".]", true);
         boolean confirm = this.parser.promptYesNo("[Are you sure you wish to proceed?]");
         parser.printDialogueLine("[You can turn dynamic content warnings off at any time with TOGGLE WARNINGS.]");
-        System.out.println();
+        IOHandler.out().println();
         return confirm;
     }
 
@@ -1197,6 +1557,12 @@ public class GameManager {
      */
     public void help(String argument) {
         String arg = (Command.GO.argumentIsValid(argument)) ? "go" : argument;
+        if (!arg.isEmpty()) {
+            // Still find the right help text if the player abbreviates or mistypes the command they're asking about
+            Command match = Command.getCommand(arg, true);
+            if (match != null && match != Command.DIRECTGO && match != Command.DIRECTGALLERY) arg = match.getPrefix();
+        }
+
         switch (arg) {
             case "help":
             case "show":
@@ -1213,6 +1579,7 @@ public class GameManager {
             case "take":
             case "drop":
             case "throw":
+            case "undo":
                 try {
                     this.showCommandHelp(arg);
                 } catch (RuntimeException e) {
@@ -1248,7 +1615,7 @@ public class GameManager {
         if (c == null) throw new RuntimeException("Invalid command");
 
         this.showCommandHelp(c);
-        System.out.println();
+        IOHandler.out().println();
     }
 
     /**
@@ -1262,8 +1629,9 @@ public class GameManager {
     /**
      * Shows content warnings or the Achievement Gallery
      * @param argument the argument entered by the player
+     * @return META if anything was shown; FAIL otherwise
      */
-    public String show(String argument) {
+    public Outcome show(String argument) {
         if (this.currentCycle == null) {
             switch (argument) {
                 case "achievements":
@@ -1271,20 +1639,20 @@ public class GameManager {
                 case "achievement gallery":
                 case "achievements gallery":
                     this.showGallery();
-                    return "Meta";
+                    return Outcome.CMETA;
 
                 case "":
                     IOHandler.wrapPrintln("[Content warnings are unavailable outside of Chapters. Sorry!]");
-                    return "Fail";
+                    return Outcome.CFAIL;
 
                 default:
                     IOHandler.wrapPrintln("[Content warnings are unavailable outside of Chapters. Sorry!]");
                     this.showCommandHelp(Command.SHOW);
-                    return "Fail";
+                    return Outcome.CFAIL;
             }
         } else {
             currentCycle.show(argument);
-            return "Meta";
+            return Outcome.CMETA;
         }
     }
 
@@ -1294,7 +1662,7 @@ public class GameManager {
     public void showGeneralWarnings() {
         IOHandler.wrapPrintln("You are guaranteed to encounter: death; murder; verbal abuse; gaslighting; described gore.");
         IOHandler.wrapPrintln("If suicide is a significantly triggering topic for you, we suggest you take care of yourself while playing the game, or for you to possibly avoid playing it.");
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("General CWs: death; murder; suicide; verbal abuse; gaslighting; described gore; mutilation, disembowelment; loss of self; cosmic horror; existential horror; being eaten alive; suffocation; derealisation; forced suicide; loss of bodily autonomy; starvation; unreality; body horror; forced self-mutilation; self-degloving; flaying; self-immolation; drowning; burning to death; loss of control; dismemberment; self-decapitation; memory loss");
     }
 
@@ -1408,27 +1776,27 @@ public class GameManager {
         this.setMetaMenuActive(true);
         
         while (repeat) {
-            System.out.println();
+            IOHandler.out().println();
             IOHandler.wrapPrintln("--- Settings ---");
-            System.out.println();
+            IOHandler.out().println();
 
             switch (parser.promptOptionsMenu(this.settingsMenu)) {
-                case "warnings":
+                case WARNINGS:
                     this.toggleAutoWarnings();
                     break;
-                case "nowPlaying":
+                case NOWPLAYING:
                     this.toggleNowPlaying();
                     break;
-                case "slowPrint":
+                case SLOWPRINT:
                     this.toggleSlowPrint();
                     break;
-                case "autoAdvance":
+                case AUTOADVANCE:
                     this.toggleAutoAdvance();
                     break;
-                case "resetAchievements":
+                case RESETACHIEVEMENTS:
                     this.resetAchievements();
                     break;
-                case "cancel":
+                case CANCEL:
                     repeat = false;
                     break;
                 default: IOHandler.wrapPrintln("[Please input a valid option.]");
@@ -1583,7 +1951,7 @@ public class GameManager {
         IOHandler.wrapPrintln("[Are you sure you wish to reset all achievements?]");
         if (parser.promptYesNo("[All chapters and achievements will be locked. This action cannot be undone.]")) {
             tracker.reset();
-            System.out.println();
+            IOHandler.out().println();
             IOHandler.wrapPrintln("[Achievements have been reset.]");
         }
     }
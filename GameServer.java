@@ -0,0 +1,202 @@
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GameServer {
+
+    private final InetAddress bindAddress;
+    private final int port;
+    private final ExecutorService sessionExecutor;
+    private final ScheduledExecutorService reporter;
+
+    private final ConcurrentHashMap<Integer, GameSession> sessions;
+    private final AtomicInteger nextSessionID = new AtomicInteger(1);
+    private final AtomicInteger nFinishedSessions = new AtomicInteger();
+    private final long startTime;
+
+    public static final int DEFAULTPORT = 4321;
+    public static final int REPORTINTERVAL = 60; // In seconds
+    private static final int FINISHEDSESSIONSKEPT = 100; // Number of ended sessions kept around for per-session metrics
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param bindAddress the local address to listen for players on
+     * @param port the local port to listen for players on
+     */
+    public GameServer(InetAddress bindAddress, int port) {
+        this.bindAddress = bindAddress;
+        this.port = port;
+        this.sessionExecutor = createSessionExecutor();
+        this.reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "server-metrics");
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.sessions = new ConcurrentHashMap<>();
+        this.startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Constructor; only accepts players connecting from this machine
+     * @param port the local port to listen for players on
+     */
+    public GameServer(int port) {
+        this(InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * Constructor; only accepts players connecting from this machine
+     */
+    public GameServer() {
+        this(DEFAULTPORT);
+    }
+
+    /**
+     * Creates the executor each session's game runs on; every session blocks on player input for most of its life, so this uses virtual threads when the running Java version supports them, and an unbounded pool of platform threads otherwise
+     * @return the executor to run sessions on
+     */
+    private static ExecutorService createSessionExecutor() {
+        try {
+            return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger nThreads = new AtomicInteger();
+            return Executors.newCachedThreadPool(r -> new Thread(r, "session-" + nThreads.incrementAndGet()));
+        }
+    }
+
+    // --- SERVER ---
+
+    /**
+     * Listens for players on this server's address and port, starting a new game for each connection, until the server is shut down
+     * @throws IOException if the server could not listen on its port
+     */
+    public void run() throws IOException {
+        // Parse every menu definition up front, so the first player to reach a scene doesn't pay for it
+        MenuTemplate.preloadAll();
+
+        try (ServerSocketChannel listener = ServerSocketChannel.open()) {
+            listener.bind(new InetSocketAddress(this.bindAddress, this.port));
+            System.out.println("[Listening for players on " + this.bindAddress.getHostAddress() + ", port " + this.port + "]");
+
+            this.reporter.scheduleAtFixedRate(() -> System.out.println(this.getMetricsReport()), REPORTINTERVAL, REPORTINTERVAL, TimeUnit.SECONDS);
+
+            while (listener.isOpen()) {
+                SocketChannel connection = listener.accept();
+                this.startSession(connection);
+            }
+        } finally {
+            this.shutdown();
+        }
+    }
+
+    /**
+     * Starts a new game for a given connection
+     * @param connection the player's connection
+     */
+    private void startSession(SocketChannel connection) {
+        String remoteAddress;
+        try {
+            remoteAddress = connection.getRemoteAddress().toString();
+        } catch (IOException e) {
+            remoteAddress = "unknown";
+        }
+
+        GameSession session = new GameSession(this.nextSessionID.getAndIncrement(), remoteAddress, new ChannelSessionIO(connection));
+        this.sessions.put(session.getID(), session);
+        System.out.println("[" + session + "]");
+
+        this.sessionExecutor.execute(() -> {
+            try {
+                session.run();
+            } finally {
+                this.nFinishedSessions.incrementAndGet();
+                System.out.println("[" + session + "]");
+                this.pruneFinishedSessions();
+            }
+        });
+    }
+
+    /**
+     * Forgets the oldest ended sessions once too many have built up
+     */
+    private void pruneFinishedSessions() {
+        ArrayList<Integer> finished = new ArrayList<>();
+        for (GameSession session : this.sessions.values()) {
+            if (!session.isActive()) finished.add(session.getID());
+        }
+
+        if (finished.size() > FINISHEDSESSIONSKEPT) {
+            finished.sort(null);
+            for (int i = 0; i < finished.size() - FINISHEDSESSIONSKEPT; i++) {
+                this.sessions.remove(finished.get(i));
+            }
+        }
+    }
+
+    /**
+     * Stops accepting new games and stops reporting metrics; games already in progress are allowed to finish
+     */
+    public void shutdown() {
+        this.reporter.shutdownNow();
+        this.sessionExecutor.shutdown();
+    }
+
+    // --- METRICS ---
+
+    /**
+     * Returns the number of games currently in progress
+     * @return the number of games currently in progress
+     */
+    public int nActiveSessions() {
+        int n = 0;
+        for (GameSession session : this.sessions.values()) {
+            if (session.isActive()) n += 1;
+        }
+
+        return n;
+    }
+
+    /**
+     * Returns a report of aggregate metrics for this server, followed by the metrics of each known session
+     * @return a report of aggregate and per-session metrics for this server
+     */
+    public String getMetricsReport() {
+        ArrayList<GameSession> known = new ArrayList<>(this.sessions.values());
+        known.sort((a, b) -> Integer.compare(a.getID(), b.getID()));
+
+        long linesRead = 0;
+        long bytesWritten = 0;
+        int nActive = 0;
+        for (GameSession session : known) {
+            linesRead += session.getLinesRead();
+            bytesWritten += session.getBytesWritten();
+            if (session.isActive()) nActive += 1;
+        }
+
+        String s = "--- SERVER METRICS ---";
+        s += "\nUptime: " + ((System.currentTimeMillis() - this.startTime) / 1000) + "s";
+        s += "\nSessions: " + nActive + " active, " + this.nFinishedSessions.get() + " finished, " + (this.nextSessionID.get() - 1) + " total";
+        s += "\nMemory in use: " + ((Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / (1024 * 1024)) + " MB";
+        s += "\n" + PersistenceWriter.getMetricsReport();
+        s += "\nKnown sessions: " + linesRead + " lines read, " + bytesWritten + " bytes written";
+
+        for (GameSession session : known) {
+            s += "\n  " + session;
+        }
+
+        return s;
+    }
+
+}
@@ -0,0 +1,201 @@
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GameSession implements SessionIO, Runnable {
+
+    private final int id;
+    private final String remoteAddress;
+    private final SessionIO io;
+    private final PrintStream output;
+
+    private final long startTime;
+    private volatile long endTime = 0;
+    private volatile String endReason = "";
+    private volatile String profile = null; // The profile the player's achievements are stored under, or null for a guest
+    private final AtomicLong linesRead = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param id the ID of this session
+     * @param remoteAddress a description of the player's address
+     * @param io the underlying session to read input from and write output to
+     */
+    public GameSession(int id, String remoteAddress, SessionIO io) {
+        this.id = id;
+        this.remoteAddress = remoteAddress;
+        this.io = io;
+        this.startTime = System.currentTimeMillis();
+
+        OutputStream counter = new FilterOutputStream(io.getOutput()) {
+            @Override
+            public void write(int b) throws IOException {
+                this.out.write(b);
+                bytesWritten.incrementAndGet();
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                this.out.write(b, off, len);
+                bytesWritten.addAndGet(len);
+            }
+        };
+        this.output = new PrintStream(counter, true, StandardCharsets.UTF_8);
+    }
+
+    // --- ACCESSORS & CHECKS ---
+
+    /**
+     * Accessor for id
+     * @return the ID of this session
+     */
+    public int getID() {
+        return this.id;
+    }
+
+    /**
+     * Checks whether this session's game is still running
+     * @return true if this session's game has not ended yet; false otherwise
+     */
+    public boolean isActive() {
+        return this.endTime == 0;
+    }
+
+    /**
+     * Returns how long this session has been running, or how long it ran for if it has ended
+     * @return the duration of this session, in milliseconds
+     */
+    public long getDuration() {
+        long end = (this.endTime == 0) ? System.currentTimeMillis() : this.endTime;
+        return end - this.startTime;
+    }
+
+    /**
+     * Returns the number of lines of input the player has sent
+     * @return the number of lines of input read from this session
+     */
+    public long getLinesRead() {
+        return this.linesRead.get();
+    }
+
+    /**
+     * Returns the amount of output sent to the player
+     * @return the number of bytes written to this session
+     */
+    public long getBytesWritten() {
+        return this.bytesWritten.get();
+    }
+
+    // --- INPUT & OUTPUT ---
+
+    /**
+     * Reads the next line of input from the player, waiting until one is available
+     * @return the next line of input from the player, or null if there is no more input
+     */
+    @Override
+    public String readLine() {
+        this.output.flush();
+        String line = this.io.readLine();
+        if (line != null) this.linesRead.incrementAndGet();
+        return line;
+    }
+
+    /**
+     * Returns the stream that all output for this session is written to
+     * @return the stream that all output for this session is written to
+     */
+    @Override
+    public PrintStream getOutput() {
+        return this.output;
+    }
+
+    /**
+     * Returns the number of columns this session's output is wrapped at
+     * @return the number of columns this session's output is wrapped at
+     */
+    @Override
+    public int getWrapColumns() {
+        return this.io.getWrapColumns();
+    }
+
+    /**
+     * Sets the number of columns this session's output is wrapped at
+     * @param columns the number of columns to wrap this session's output at
+     */
+    @Override
+    public void setWrapColumns(int columns) {
+        this.io.setWrapColumns(columns);
+    }
+
+    /**
+     * Closes the underlying session
+     */
+    @Override
+    public void close() {
+        this.output.flush();
+        this.io.close();
+    }
+
+    // --- MISC ---
+
+    /**
+     * Plays a full game over this session, then closes it
+     */
+    @Override
+    public void run() {
+        try {
+            this.profile = this.promptProfile();
+            GameManager manager = new GameManager(this, false, null, this.profile);
+            manager.runGame();
+            this.endReason = "finished";
+        } catch (RuntimeException e) {
+            // Most commonly the player disconnecting mid-game
+            this.endReason = "ended early (" + e.getClass().getSimpleName() + ")";
+        } finally {
+            this.endTime = System.currentTimeMillis();
+            IOHandler.unbindCurrentThread();
+            this.close();
+        }
+    }
+
+    /**
+     * Asks the player which profile to store their achievements under
+     * @return the name of the chosen profile, or null if the player chose to play as a guest
+     * @throws NoSuchElementException if the player disconnects before choosing
+     */
+    private String promptProfile() {
+        String line;
+        while (true) {
+            this.output.println("Enter a profile name to keep your achievements between sessions, or leave blank to play as a guest.");
+            this.output.print("> ");
+            line = this.readLine();
+
+            if (line == null) throw new NoSuchElementException("No line found");
+            line = line.trim();
+            if (line.isEmpty()) return null;
+            if (AchievementTracker.isValidProfile(line)) return line;
+
+            this.output.println("[Profile names can only contain letters, numbers, - and _.]");
+            this.output.println();
+        }
+    }
+
+    /**
+     * Returns a one-line summary of this session and its metrics
+     * @return a one-line summary of this session and its metrics
+     */
+    @Override
+    public String toString() {
+        String status = (this.isActive()) ? "active" : this.endReason;
+        String player = (this.profile == null) ? "guest" : this.profile;
+        return "Session " + this.id + " [" + this.remoteAddress + ", " + player + "]: " + status + ", " + (this.getDuration() / 1000) + "s, " + this.getLinesRead() + " lines read, " + this.getBytesWritten() + " bytes written";
+    }
+
+}
@@ -1,6 +1,7 @@
 public class GlobalInt {
     
     private int value;
+    private ConditionDependents dependents = null; // Composite conditions that cache a result computed from this GlobalInt
 
     // --- CONSTRUCTORS ---
 
@@ -35,6 +36,7 @@ public class GlobalInt {
      */
     public void set(int newValue) {
         this.value = newValue;
+        this.changed();
     }
 
     // --- BASIC MATH ---
@@ -144,6 +146,7 @@ public class GlobalInt {
      */
     public void add(int n) {
         this.value += n;
+        this.changed();
     }
 
     /**
@@ -151,6 +154,7 @@ public class GlobalInt {
      */
     public void increment() {
         this.value += 1;
+        this.changed();
     }
 
     /**
@@ -159,6 +163,7 @@ public class GlobalInt {
      */
     public void subtract(int n) {
         this.value -= n;
+        this.changed();
     }
 
     /**
@@ -166,6 +171,7 @@ public class GlobalInt {
      */
     public void decrement() {
         this.value -= 1;
+        this.changed();
     }
 
     /**
@@ -174,6 +180,7 @@ public class GlobalInt {
      */
     public void multiply(int n) {
         this.value *= n;
+        this.changed();
     }
 
     /**
@@ -182,6 +189,25 @@ public class GlobalInt {
      */
     public void divideBy(int n) {
         this.value /= n;
+        this.changed();
+    }
+
+    // --- DEPENDENCY TRACKING ---
+
+    /**
+     * Registers a composite condition to be notified whenever the value of this GlobalInt changes
+     * @param dependent the composite condition to notify
+     */
+    public void addDependent(ConditionDependent dependent) {
+        if (this.dependents == null) this.dependents = new ConditionDependents();
+        this.dependents.add(dependent);
+    }
+
+    /**
+     * Records that the value of this GlobalInt has changed, notifying every composite condition built on it
+     */
+    private void changed() {
+        if (this.dependents != null) this.dependents.notifyChanged();
     }
 
     // --- MISC ---
@@ -1,20 +1,38 @@
 import java.io.Closeable;
-import java.util.Scanner;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.NoSuchElementException;
 
 public class IOHandler implements Closeable {
     
     private final GameManager manager;
-    private final Scanner input;
+    private final SessionIO io;
 
     private boolean reprintMenu = false;
+    private ChoiceDriver choiceDriver = null; // If set, makes every choice in place of the player
 
-    public static final int WRAPCOLUMNS = 80; // default = 80
+    public static final int DEFAULTWRAPCOLUMNS = 80; // Used by sessions that haven't set their own width, and by threads without a session
+    private static final ThreadLocal<StringBuilder> WRAPBUFFER = ThreadLocal.withInitial(() -> new StringBuilder(1024));
+    private static final int MAXWRAPBUFFER = 65536; // Buffers that grow larger than this are not reused
+    private static final WrapCache WRAPCACHE = new WrapCache(256, false); // Lines that are not part of a menu, such as gallery entries; menus cache their own wraps
+
+    // The session whose game is running on each thread; threads without a session write to standard output
+    private static final ThreadLocal<SessionIO> CURRENTSESSION = new ThreadLocal<>();
+    private static final SessionIO MUTED = new MemorySessionIO() {
+        private final PrintStream output = new PrintStream(OutputStream.nullOutputStream());
+
+        @Override
+        public PrintStream getOutput() {
+            return this.output;
+        }
+    };
     private static final DialogueLine DIVIDER = new DialogueLine("-----------------------------------");
     private static final DialogueLine INVALIDCOMMAND = new DialogueLine("[That is not a valid command.]", true);
     private static final DialogueLine INVALIDOPTION = new DialogueLine("[That is not a choice available to you.]", true);
     private static final VoiceDialogueLine NINVALIDOPTIONLINE = new VoiceDialogueLine("What are you even trying to do? You're not accomplishing anything.", true);
     private static final DialogueLine EXCLUSIVELINE = new DialogueLine("[You have no other choice.]", true);
     private static final VoiceDialogueLine NEXCLUSIVELINE = new VoiceDialogueLine("You have to make a choice.", true);
+    private static final long NOTANUMBER = Long.MIN_VALUE; // Returned by parseChoice() for input that is not an option number
 
     // --- CONSTRUCTORS ---
 
@@ -23,8 +41,17 @@ public class IOHandler implements Closeable {
      * @param manager the GameManager to link this IOHandler to
      */
     public IOHandler(GameManager manager) {
+        this(manager, new ConsoleSessionIO());
+    }
+
+    /**
+     * Constructor
+     * @param manager the GameManager to link this IOHandler to
+     * @param io the session to read input from and write output to
+     */
+    public IOHandler(GameManager manager, SessionIO io) {
         this.manager = manager;
-        this.input = new Scanner(System.in);
+        this.io = io;
     }
 
     // --- ACCESSORS & MANIPULATORS ---
@@ -44,6 +71,69 @@ public class IOHandler implements Closeable {
         this.reprintMenu = true;
     }
 
+    /**
+     * Manipulator for choiceDriver
+     * @param driver the ChoiceDriver to make every choice in place of the player, or null to read choices from the player again
+     */
+    public void setChoiceDriver(ChoiceDriver driver) {
+        this.choiceDriver = driver;
+    }
+
+    /**
+     * Checks whether a ChoiceDriver is making every choice in place of the player
+     * @return true if a ChoiceDriver is set; false if choices are read from the player
+     */
+    public boolean hasChoiceDriver() {
+        return this.choiceDriver != null;
+    }
+
+    /**
+     * Accessor for io
+     * @return the session this IOHandler reads input from and writes output to
+     */
+    public SessionIO getSessionIO() {
+        return this.io;
+    }
+
+    /**
+     * Routes all output from the current thread to this IOHandler's session
+     */
+    public void bindToCurrentThread() {
+        CURRENTSESSION.set(this.io);
+    }
+
+    /**
+     * Discards all output from the current thread until this IOHandler is bound to it again, while the player's choices are replayed
+     */
+    public void muteCurrentThread() {
+        CURRENTSESSION.set(MUTED);
+    }
+
+    /**
+     * Stops routing output from the current thread to a session; output will go to standard output again
+     */
+    public static void unbindCurrentThread() {
+        CURRENTSESSION.remove();
+    }
+
+    /**
+     * Returns the stream that output from the current thread should be written to
+     * @return the output stream of the session bound to the current thread, or standard output if there is none
+     */
+    public static PrintStream out() {
+        SessionIO io = CURRENTSESSION.get();
+        return (io == null) ? System.out : io.getOutput();
+    }
+
+    /**
+     * Returns the number of columns output from the current thread should be wrapped at
+     * @return the wrap width of the session bound to the current thread, or the default width if there is none
+     */
+    public static int wrapColumns() {
+        SessionIO io = CURRENTSESSION.get();
+        return (io == null) ? DEFAULTWRAPCOLUMNS : io.getWrapColumns();
+    }
+
     // --- BASIC INPUT ---
 
     /**
@@ -51,9 +141,9 @@ public class IOHandler implements Closeable {
      */
     public void waitForInput() {
         if (manager.autoAdvance()) {
-            System.out.println();
+            out().println();
         } else {
-            input.nextLine();
+            this.readLine();
         }
     }
 
@@ -62,9 +152,24 @@ public class IOHandler implements Closeable {
      * @return the player's input in all lowercase
      */
     public String getInput() {
-        System.out.print("> ");
-        String in = this.input.nextLine();
-        return in.toLowerCase();
+        if (this.choiceDriver != null) return this.choiceDriver.enterCommand().toLowerCase();
+        if (manager.isReplaying()) return manager.replayInput();
+
+        out().print("> ");
+        String in = this.readLine().toLowerCase();
+        manager.recordInput(in);
+        return in;
+    }
+
+    /**
+     * Reads the next line of input from this IOHandler's session
+     * @return the next line of input
+     * @throws NoSuchElementException if the session has no more input
+     */
+    private String readLine() {
+        String line = this.io.readLine();
+        if (line == null) throw new NoSuchElementException("No line found");
+        return line;
     }
 
     // --- PRINT DIALOGUE ---
@@ -227,46 +332,52 @@ public class IOHandler implements Closeable {
      * Prints an OptionsMenu, then allows the player to choose an Option from the menu or enter a command (if the OptionsMenu is not exclusive)
      * @param options the OptionsMenu to offer to the player
      * @param proceedOverride whether to override default behavior and treat "proceed" as its own unique command
-     * @return the ID of the chosen Option or the outcome of the entered command
+     * @return the Outcome of the chosen Option or of the entered command
      */
-    public String promptOptionsMenu(OptionsMenu options, boolean proceedOverride) {
+    public Outcome promptOptionsMenu(OptionsMenu options, boolean proceedOverride) {
         Cycle cycle = manager.getCurrentCycle();
+        SessionSnapshot state = manager.reachMenu(options);
         
-        System.out.println();
+        out().println();
         wrapPrintln(options);
-        return this.parseOptionChoice(cycle, options, new DialogueLine(), true);
+        Outcome outcome = this.parseOptionChoice(cycle, options, new DialogueLine(), true);
+        manager.choseFromMenu(state);
+        return outcome;
     }
     
     /**
      * Prints an OptionsMenu, then allows the player to choose an Option from the menu or enter a command (if the OptionsMenu is not exclusive)
      * @param options the OptionsMenu to offer to the player
      * @param exclusiveOverride a DialogueLine to print instead of the default line if the OptionsMenu is exclusive
-     * @return the ID of the chosen Option or the outcome of the entered command
+     * @return the Outcome of the chosen Option or of the entered command
      */
-    public String promptOptionsMenu(OptionsMenu options, DialogueLine exclusiveOverride) {
+    public Outcome promptOptionsMenu(OptionsMenu options, DialogueLine exclusiveOverride) {
         Cycle cycle = manager.getCurrentCycle();
+        SessionSnapshot state = manager.reachMenu(options);
         
-        System.out.println();
+        out().println();
         wrapPrintln(options);
-        return this.parseOptionChoice(cycle, options, exclusiveOverride, false);
+        Outcome outcome = this.parseOptionChoice(cycle, options, exclusiveOverride, false);
+        manager.choseFromMenu(state);
+        return outcome;
     }
 
     /**
      * Prints an OptionsMenu, then allows the player to choose an Option from the menu or enter a command (if the OptionsMenu is not exclusive)
      * @param options the OptionsMenu to offer to the player
      * @param exclusiveOverride a String to print as a DialogueLine instead of the default line if the OptionsMenu is exclusive
-     * @return the ID of the chosen Option or the outcome of the entered command
+     * @return the Outcome of the chosen Option or of the entered command
      */
-    public String promptOptionsMenu(OptionsMenu options, String exclusiveOverride) {
+    public Outcome promptOptionsMenu(OptionsMenu options, String exclusiveOverride) {
         return this.promptOptionsMenu(options, new DialogueLine(exclusiveOverride, true));
     }
 
     /**
      * Prints an OptionsMenu, then allows the player to choose an Option from the menu or enter a command (if the OptionsMenu is not exclusive)
      * @param options the OptionsMenu to offer to the player
-     * @return the ID of the chosen Option or the outcome of the entered command
+     * @return the Outcome of the chosen Option or of the entered command
      */
-    public String promptOptionsMenu(OptionsMenu options) {
+    public Outcome promptOptionsMenu(OptionsMenu options) {
         return this.promptOptionsMenu(options, "");
     }
 
@@ -276,37 +387,31 @@ public class IOHandler implements Closeable {
      * @param options the OptionsMenu to offer to the player
      * @param exclusiveOverride a DialogueLine to print instead of the default line if the OptionsMenu is exclusive
      * @param proceedOverride whether to override default behavior and treat "proceed" as its own unique command
-     * @return the ID of the chosen Option or the outcome of the entered command
+     * @return the Outcome of the chosen Option or of the entered command
      */
-    private String parseOptionChoice(Cycle cycle, OptionsMenu options, DialogueLine exclusiveOverride, boolean proceedOverride) {
-        boolean isOption = true;
-        int choiceN = -1;
-        String outcome;
+    private Outcome parseOptionChoice(Cycle cycle, OptionsMenu options, DialogueLine exclusiveOverride, boolean proceedOverride) {
+        Outcome outcome;
 
         if (this.reprintMenu) {
             this.reprintMenu = false;
-            System.out.println();
+            out().println();
             wrapPrintln(options);
         }
 
-        System.out.println();
+        out().println();
+        if (this.choiceDriver != null) return options.playerChooseOutcome(this.choiceDriver.chooseOption(options));
         String in = this.getInput();
+        long choiceN = parseChoice(in);
 
-        try {
-            choiceN = Integer.parseInt(in);
-        } catch (NumberFormatException e) {
-            isOption = false;
-        }
-
-        //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): player input = \"" + in + "\"; choiceN = " + choiceN + "; isOption = " + isOption + "]");
+        //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): player input = \"" + in + "\"; choiceN = " + choiceN + "]");
 
-        if (isOption) {
-            //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): Running section for isOption]");
+        if (choiceN != NOTANUMBER) {
+            //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): Running section for isOption]");
 
-            try {
-                return options.playerChoose(choiceN);
-            } catch (IllegalArgumentException e) {
-                //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): invalid option number]");
+            if (choiceN > 0 && choiceN <= options.nAvailableOptions()) {
+                return options.playerChooseOutcome((int)choiceN);
+            } else {
+                //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): invalid option number]");
                 if (cycle == null) {
                     this.printDialogueLine(INVALIDOPTION);
                 } else if (!cycle.hasVoice(Voice.NARRATOR)) {
@@ -319,27 +424,24 @@ public class IOHandler implements Closeable {
             }
         } else {
             boolean metaMenuActive = manager.metaMenuActive();
-            //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): Running section for !isOption]");
-            //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): IOHandler isTrueExclusive = " + isTrueExclusive + "]");
+            //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): Running section for !isOption]");
+            //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): IOHandler isTrueExclusive = " + isTrueExclusive + "]");
 
             if (options.isExclusive() || metaMenuActive) {
                 if (metaMenuActive) {
-                    //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): True exclusive]");
-                    outcome = "";
+                    //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): True exclusive]");
+                    outcome = null;
                 } else {
-                    //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): Regular exclusive]");
-                    try {
-                        outcome = this.parseCommand(cycle, in, false);
-                    } catch (Exception e) {
-                        //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): parse command failed]");
-                        outcome = "cFail";
-                    }
+                    //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): Regular exclusive]");
+                    CommandResult result = this.parseCommand(cycle, in, false);
+                    //if (!(result instanceof CommandResult.Success)) out().println("[DEBUG (first Option = " + options.get(0).getID() + "): parse command failed]");
+                    outcome = (result instanceof CommandResult.Success success) ? success.outcome() : Outcome.CFAIL;
                 }
 
-                if (outcome.equals("cFail")) {
-                    //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): command outcome cFail while exclusive]");
+                if (outcome == Outcome.CFAIL) {
+                    //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): command outcome cFail while exclusive]");
                     this.printDialogueLine(INVALIDCOMMAND);
-                } else if (!outcome.equals("cMeta")) {
+                } else if (outcome != Outcome.CMETA) {
                     if (exclusiveOverride.isEmpty()) {
                         if (metaMenuActive) {
                             IOHandler.wrapPrintln("[Please choose a valid option.]");
@@ -357,28 +459,60 @@ public class IOHandler implements Closeable {
 
                 return this.parseOptionChoice(cycle, options, exclusiveOverride, proceedOverride);
             } else {
-                try {
-                    outcome = this.parseCommand(cycle, in, false);
-                    return (outcome.equals("cMeta")) ? this.parseOptionChoice(cycle, options, exclusiveOverride, proceedOverride) : outcome;
-                } catch (Exception e) {
-                    if (cycle == null) {
-                        //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): null cycle (parseOptionChoice)]");
-                        this.printDialogueLine(INVALIDCOMMAND);
-                    } else if (!cycle.hasVoice(Voice.NARRATOR)) {
-                        //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): no Narrator (parseOptionChoice)]");
-                        this.printDialogueLine(INVALIDCOMMAND);
-                    } else {
-                        this.printDialogueLine(NINVALIDOPTIONLINE);
-                    }
+                CommandResult result = this.parseCommand(cycle, in, false);
+                if (result instanceof CommandResult.Success success) {
+                    return (success.outcome() == Outcome.CMETA) ? this.parseOptionChoice(cycle, options, exclusiveOverride, proceedOverride) : success.outcome();
+                }
 
-                    // Invalid command; re-input, do not show options again
-                    //System.out.println("[DEBUG (first Option = " + options.get(0).getID() + "): Running re-input]");
-                    return this.parseOptionChoice(cycle, options, exclusiveOverride, proceedOverride);
+                if (cycle == null) {
+                    //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): null cycle (parseOptionChoice)]");
+                    this.printDialogueLine(INVALIDCOMMAND);
+                } else if (!cycle.hasVoice(Voice.NARRATOR)) {
+                    //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): no Narrator (parseOptionChoice)]");
+                    this.printDialogueLine(INVALIDCOMMAND);
+                } else {
+                    this.printDialogueLine(NINVALIDOPTIONLINE);
                 }
+
+                // Invalid command; re-input, do not show options again
+                //out().println("[DEBUG (first Option = " + options.get(0).getID() + "): Running re-input]");
+                return this.parseOptionChoice(cycle, options, exclusiveOverride, proceedOverride);
             }
         }
     }
 
+    /**
+     * Reads the player's input as an option number, accepting exactly what Integer.parseInt would, without throwing an exception for anything else
+     * @param in the player's input
+     * @return the number entered by the player, or NOTANUMBER if the input is not an integer
+     */
+    private static long parseChoice(String in) {
+        int length = in.length();
+        if (length == 0) return NOTANUMBER;
+
+        int i = 0;
+        boolean negative = false;
+        char first = in.charAt(0);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            i = 1;
+            if (length == 1) return NOTANUMBER;
+        }
+
+        long n = 0;
+        int digit;
+        for (; i < length; i++) {
+            digit = Character.digit(in.charAt(i), 10);
+            if (digit < 0) return NOTANUMBER;
+
+            n = n * 10 + digit;
+            if (n > (long)Integer.MAX_VALUE + 1) return NOTANUMBER;
+        }
+
+        if (negative) n = -n;
+        return (n > Integer.MAX_VALUE) ? NOTANUMBER : n;
+    }
+
     // --- COMMAND HANDLING ---
 
     /**
@@ -386,30 +520,36 @@ public class IOHandler implements Closeable {
      * @param prompt the DialogueLine to prompt the player with
      * @return the outcome of the entered command
      */
-    public String promptCommand(DialogueLine prompt) {
+    public Outcome promptCommand(DialogueLine prompt) {
         Cycle cycle = manager.getCurrentCycle();
 
-        prompt.print();
-        String outcome = null;
+        if (manager.isHeadless()) {
+            wrapPrint(prompt);
+        } else {
+            prompt.print();
+        }
+        Outcome outcome = null;
 
+        String in;
+        CommandResult result;
         while (outcome == null) {
-            try {
-                outcome = this.parseCommand(this.getInput());
-            } catch (Exception e) {
-                if (e.getLocalizedMessage().equals("Invalid command")) {
-                    if (cycle == null) {
-                        //System.out.println("[DEBUG: null cycle (promptCommand)]");
-                        this.printDialogueLine(INVALIDCOMMAND);
-                    } else if (!cycle.hasVoice(Voice.NARRATOR)) {
-                        //System.out.println("[DEBUG: no Narrator (promptCommand)]");
-                        this.printDialogueLine(INVALIDCOMMAND);
-                    } else {
-                        this.printDialogueLine(NINVALIDOPTIONLINE);
-                    }
+            in = this.getInput();
+            result = this.parseCommand(in);
+            if (result instanceof CommandResult.Success success) {
+                outcome = success.outcome();
+            } else if (result instanceof CommandResult.InvalidCommand) {
+                if (cycle == null) {
+                    //out().println("[DEBUG: null cycle (promptCommand)]");
+                    this.printDialogueLine(INVALIDCOMMAND);
+                } else if (!cycle.hasVoice(Voice.NARRATOR)) {
+                    //out().println("[DEBUG: no Narrator (promptCommand)]");
+                    this.printDialogueLine(INVALIDCOMMAND);
+                } else {
+                    this.printDialogueLine(NINVALIDOPTIONLINE);
                 }
-
-                // Invalid command or argument; re-input
             }
+
+            // Otherwise, invalid command or argument; re-input
         }
 
         return outcome;
@@ -420,7 +560,7 @@ public class IOHandler implements Closeable {
      * @param prompt the String to prompt the player with
      * @return the outcome of the entered command
      */
-    public String promptCommand(String prompt) {
+    public Outcome promptCommand(String prompt) {
         return this.promptCommand(new DialogueLine(prompt));
     }
 
@@ -429,34 +569,33 @@ public class IOHandler implements Closeable {
      * @param cycle the current active Cycle, if there is one
      * @param playerInput the player's input
      * @param proceedOverride whether to override default behavior and treat "proceed" as its own unique command
-     * @return a String representing the outcome of the player's command: "cMeta" if the command is a meta command (HELP, SHOW, or TOGGLE) or the ID-String of the command's "outcome" (accounting for whether the command is currently accessible)
-     * @throws Exception if the prefix or arguments of playerInput are invalid
+     * @return a Success whose outcome is CMETA if the command is a meta command (HELP, SHOW, or TOGGLE) or the command's outcome (accounting for whether the command is currently accessible); INVALIDCOMMAND or INVALIDARGUMENT if the prefix or arguments of playerInput are invalid
      */
-    private String parseCommand(Cycle cycle, String playerInput, boolean proceedOverride) throws Exception {
-        String[] split = playerInput.split(" ", 2);
-        String prefix = split[0];
-
+    private CommandResult parseCommand(Cycle cycle, String playerInput, boolean proceedOverride) {
+        int space = playerInput.indexOf(' ');
+        String prefix;
         String argument;
-        if (split.length == 2) {
-            argument = split[1];
-            argument = argument.trim(); // Trim any trailing spaces
-        } else {
+        if (space == -1) {
+            prefix = playerInput;
             argument = "";
+        } else {
+            prefix = playerInput.substring(0, space);
+            argument = playerInput.substring(space + 1).trim(); // Trim any trailing spaces
         }
 
         Command c = Command.getCommand(prefix);
-        if (c == null) throw new Exception("Invalid command");
+        if (c == null) return CommandResult.INVALIDCOMMAND;
 
-        String commandOutcome = "c";
-        if (!c.isMeta() && cycle == null) return "cFail";
+        Outcome commandOutcome;
+        if (!c.isMeta() && cycle == null) return CommandResult.success(Outcome.CFAIL);
 
         switch (c) {
             case HELP:
                 manager.help(argument);
-                commandOutcome += "Meta";
+                commandOutcome = Outcome.CMETA;
                 break;
             case SHOW:
-                commandOutcome += manager.show(argument);
+                commandOutcome = manager.show(argument);
                 break;
             case DIRECTGALLERY:
                 if (cycle == null) {
@@ -464,7 +603,7 @@ public class IOHandler implements Closeable {
                 } else {
                     cycle.showGallery();
                 }
-                commandOutcome += "Meta";
+                commandOutcome = Outcome.CMETA;
                 break;
             case SETTINGS:
                 if (cycle == null) {
@@ -472,216 +611,158 @@ public class IOHandler implements Closeable {
                 } else {
                     cycle.settings();
                 }
-                commandOutcome += "Meta";
+                commandOutcome = Outcome.CMETA;
                 break;
             case TOGGLE:
                 manager.toggle(argument);
-                commandOutcome += "Meta";
+                commandOutcome = Outcome.CMETA;
                 break;
             case RESET:
                 manager.reset(argument);
-                commandOutcome += "Meta";
+                commandOutcome = Outcome.CMETA;
+                break;
+            case UNDO:
+                manager.undo();
+                commandOutcome = Outcome.CMETA;
                 break;
             case GO:
-                commandOutcome += cycle.go(argument);
+                commandOutcome = cycle.go(argument);
                 break;
             case DIRECTGO:
-                commandOutcome += cycle.go(prefix);
+                commandOutcome = cycle.go(prefix);
                 break;
             case ENTER:
-                commandOutcome += cycle.enter(argument);
+                commandOutcome = cycle.enter(argument);
                 break;
             case LEAVE:
-                commandOutcome += cycle.leave(argument);
+                commandOutcome = cycle.leave(argument);
                 break;
             case PROCEED:
                 if (proceedOverride) {
-                    commandOutcome += "Proceed";
+                    commandOutcome = Outcome.CPROCEED;
                 } else {
-                    commandOutcome += cycle.proceed(argument);
+                    commandOutcome = cycle.proceed(argument);
                 }
                 break;
             case TURN:
-                commandOutcome += cycle.turn(argument);
+                commandOutcome = cycle.turn(argument);
                 break;
             case APPROACH:
-                commandOutcome += cycle.approach(argument);
+                commandOutcome = cycle.approach(argument);
                 break;
             case WIPE:
-                commandOutcome += cycle.wipe(argument);
+                commandOutcome = cycle.wipe(argument);
                 break;
             case SMASH:
-                commandOutcome += cycle.smash(argument);
+                commandOutcome = cycle.smash(argument);
                 break;
             case GAZE:
-                commandOutcome += cycle.gaze(argument);
+                commandOutcome = cycle.gaze(argument);
                 break;
             case SLAY:
-                commandOutcome += cycle.slay(argument);
+                commandOutcome = cycle.slay(argument);
                 break;
             case TAKE:
-                commandOutcome += cycle.take(argument);
+                commandOutcome = cycle.take(argument);
                 break;
             case DROP:
-                commandOutcome += cycle.drop(argument);
+                commandOutcome = cycle.drop(argument);
                 break;
             case GIVE:
-                commandOutcome += cycle.give(argument);
+                commandOutcome = cycle.give(argument);
                 break;
             case THROW:
-                commandOutcome += cycle.throwBlade(argument);
+                commandOutcome = cycle.throwBlade(argument);
                 break;
+            default:
+                throw new RuntimeException("Unhandled command " + c);
         }
 
-        /* POSSIBLE OUTCOMES:
-        (all outcomes start with c, to indicate at a glance that they are from a command)
-           - cMeta (HELP, SHOW, TOGGLE)
-           - cFail (invalid argument, even after second prompt)
-
-           - cGoLeave
-           - cGoPath
-           - cGoHill
-           - cGoCabin
-           - cGoStairs
-           - cGoBasement
-           - cGoLeft
-           - cGoRight
-           - cGoFail
-           - cEnterFail
-           - cLeaveFail
-
-           - cProceed (only if proceedOverride)
-
-           - cApproachMirror
-           - cApproachAtMirrorFail (you're already at the mirror)
-           - cApproachMirrorFail
-           - cApproachHer
-           - cApproachHerFail
-           - cWipe
-           - cWipeFail
-           - cSmash
-           - cSmashNoStubbornFail (no Voice of the Stubborn)
-           - cSmashFail
-           - cGaze
-           - cGazeNoMirrorFail (mirror isn't even present)
-           - cGazeFail
-
-           - cSlayPrincess
-           - cSlayPrincessDeadFail (Princess is already dead)
-           - cSlayNoPrincessFail (Princess isn't even present)
-           - cSlayPrincessNoBladeFail (don't have the blade)
-           - cSlayPrincessFail (can't slay right now)
-           - cSlaySelf
-           - cSlaySelfNoBladeFail (don't have the blade)
-           - cSlaySelfFail (can't slay self right now)
-
-           - cTakeBlade
-           - cTakeHasBladeFail (you already have the blade)
-           - cTakeBladeFail (blade isn't here / can't take right now)
-           - cDrop
-           - cDropNoBladeFail (you don't even have the blade)
-           - cDropFail (can't drop right now)
-           - cGiveBlade
-           - cGiveNoBladeFail (you don't even have the blade)
-           - cGiveBladeFail (can't give right now)
-           - cThrow
-           - cThrowNoBladeFail (you don't even have the blade)
-           - cThrowFail (can't throw right now)
-
-           - cTakeHandDeadFail (Princess is already dead)
-           - cTakeHandNoPrincessFail (Princess isn't even present)
-           - cTakeHandFail (can't take right now)
-           - cTakeHand
-           - cGiveHandDeadFail (Princess is already dead)
-           - cGiveHandNoPrincessFail (Princess isn't even present)
-           - cGiveHandFail (can't give right now)
-           - cGiveHand
-        */
+        // See Outcome for every possible outcome
 
         /* TEMPLATE CASES FOR COMMANDS:
-            case "cMeta":
-
-            case "cGoLeave":
-            case "cGoPath":
-            case "cGoHill":
-            case "cGoCabin":
-            case "cGoStairs":
-            case "cGoBasement":
-
-            case "cGoLeft":
-            case "cGoRight":
-
-            case "cProceed":
-
-            case "cApproachMirror":
-            case "cApproachHer":
-            case "cWipe":
-            case "cSmash":
-            case "cGaze":
-
-            case "cSlayPrincess":
-            case "cSlaySelf":
-
-            case "cTakeBlade":
-            case "cDrop":
-            case "cGiveBlade":
-            case "cThrow":
-
-            case "cGoFail":
-            case "cEnterFail":
-            case "cLeaveFail":
-
-            case "cApproachAtMirrorFail":
-            case "cApproachMirrorFail":
-            case "cApproachHerFail":
-            case "cWipeFail":
-            case "cSmashNoStubbornFail":
-            case "cSmashFail":
-            case "cGazeNoMirrorFail":
-            case "cGazeFail":
+            case CMETA:
+
+            case CGOLEAVE:
+            case CGOPATH:
+            case CGOHILL:
+            case CGOCABIN:
+            case CGOSTAIRS:
+            case CGOBASEMENT:
+
+            case CGOLEFT:
+            case CGORIGHT:
+
+            case CPROCEED:
+
+            case CAPPROACHMIRROR:
+            case CAPPROACHHER:
+            case CWIPE:
+            case CSMASH:
+            case CGAZE:
+
+            case CSLAYPRINCESS:
+            case CSLAYSELF:
+
+            case CTAKEBLADE:
+            case CDROP:
+            case CGIVEBLADE:
+            case CTHROW:
+
+            case CGOFAIL:
+            case CENTERFAIL:
+            case CLEAVEFAIL:
+
+            case CAPPROACHATMIRRORFAIL:
+            case CAPPROACHMIRRORFAIL:
+            case CAPPROACHHERFAIL:
+            case CWIPEFAIL:
+            case CSMASHNOSTUBBORNFAIL:
+            case CSMASHFAIL:
+            case CGAZENOMIRRORFAIL:
+            case CGAZEFAIL:
                 
-            case "cSlayPrincessDeadFail":
-            case "cSlayNoPrincessFail":
-            case "cSlayPrincessNoBladeFail":
-            case "cSlayPrincessFail":
-            case "cSlaySelfNoBladeFail":
-            case "cSlaySelfFail":
+            case CSLAYPRINCESSDEADFAIL:
+            case CSLAYNOPRINCESSFAIL:
+            case CSLAYPRINCESSNOBLADEFAIL:
+            case CSLAYPRINCESSFAIL:
+            case CSLAYSELFNOBLADEFAIL:
+            case CSLAYSELFFAIL:
                 
-            case "cTakeHasBladeFail":
-            case "cTakeBladeFail":
-            case "cDropNoBladeFail":
-            case "cDropFail":
-            case "cGiveBladeFail":
-            case "cGiveNoBladeFail":
-            case "cThrowNoBladeFail":
-            case "cThrowFail":
-
-            case "cTakeHandDeadFail":
-            case "cTakeHandNoPrincessFail":
-            case "cTakeHandFail":
-            case "cTakeHand":
-            case "cGiveHandDeadFail":
-            case "cGiveHandNoPrincessFail":
-            case "cGiveHandFail":
-            case "cGiveHand":
+            case CTAKEHASBLADEFAIL:
+            case CTAKEBLADEFAIL:
+            case CDROPNOBLADEFAIL:
+            case CDROPFAIL:
+            case CGIVEBLADEFAIL:
+            case CGIVENOBLADEFAIL:
+            case CTHROWNOBLADEFAIL:
+            case CTHROWFAIL:
+
+            case CTAKEHANDDEADFAIL:
+            case CTAKEHANDNOPRINCESSFAIL:
+            case CTAKEHANDFAIL:
+            case CTAKEHAND:
+            case CGIVEHANDDEADFAIL:
+            case CGIVEHANDNOPRINCESSFAIL:
+            case CGIVEHANDFAIL:
+            case CGIVEHAND:
                 
-            case "cFail":
+            case CFAIL:
         */
 
-        if (commandOutcome.equals("cFail")) {
-            throw new Exception("Invalid argument");
+        if (commandOutcome == Outcome.CFAIL) {
+            return CommandResult.INVALIDARGUMENT;
         }
 
-        return commandOutcome;
+        return CommandResult.success(commandOutcome);
     }
 
     /**
      * Parses a given String as a command and returns the outcome
      * @param playerInput the player's input
-     * @return a String representing the outcome of the player's command: "cMeta" if the command is a meta command (HELP, SHOW, or TOGGLE) or the ID-String of the command's "outcome" (accounting for whether the command is currently accessible)
-     * @throws Exception if the prefix or arguments of playerInput are invalid
+     * @return a Success whose outcome is CMETA if the command is a meta command (HELP, SHOW, or TOGGLE) or the command's outcome (accounting for whether the command is currently accessible); INVALIDCOMMAND or INVALIDARGUMENT if the prefix or arguments of playerInput are invalid
      */
-    private String parseCommand(String playerInput) throws Exception {
+    private CommandResult parseCommand(String playerInput) {
         return this.parseCommand(manager.getCurrentCycle(), playerInput, false);
     }
 
@@ -693,7 +774,11 @@ public class IOHandler implements Closeable {
      * @return true if the player responds with YES/Y, false if the player responds with NO/N
      */
     public boolean promptYesNo(DialogueLine prompt) {
-        prompt.print();
+        if (manager.isHeadless()) {
+            wrapPrint(prompt);
+        } else {
+            prompt.print();
+        }
         return this.parseYesNo();
     }
 
@@ -727,7 +812,9 @@ public class IOHandler implements Closeable {
      * @return true if the player responds with YES/Y, false if the player responds with NO/N
      */
     private boolean parseYesNo(boolean slowPrint) {
-        System.out.print("\n");
+        out().print("\n");
+        if (this.choiceDriver != null) return this.choiceDriver.chooseYesNo();
+
         String in = this.getInput();
 
         switch (in) {
@@ -750,11 +837,11 @@ public class IOHandler implements Closeable {
     }
 
     /**
-     * Closes the Scanner being used for input
+     * Closes the session being used for input and output
      */
     @Override
     public void close() {
-        this.input.close();
+        this.io.close();
     }
 
     // --- WRAPAROUND MANAGEMENT ---
@@ -765,7 +852,25 @@ public class IOHandler implements Closeable {
      * @return the given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
      */
     public static String wordWrap(String s) {
-        return wordWrapIgnoreIndicator(s.replace("`", ""));
+        return wordWrap(s, wrapColumns());
+    }
+
+    /**
+     * Returns a given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words; ignores indicator characters (`)
+     * @param s the String to modify
+     * @param columns the number of columns to wrap at
+     * @return the given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
+     */
+    public static String wordWrap(String s, int columns) {
+        char[] chars = new char[s.length()];
+        int length = 0;
+        char c;
+        for (int i = 0; i < s.length(); i++) {
+            c = s.charAt(i);
+            if (c != '`') chars[length++] = c;
+        }
+
+        return wrap(chars, length, columns);
     }
 
     /**
@@ -792,7 +897,7 @@ public class IOHandler implements Closeable {
      * @return the String representation of a given OptionsMenu with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
      */
     public static String wordWrap(OptionsMenu menu) {
-        return wordWrap(menu.toString());
+        return menu.wordWrap(wrapColumns());
     }
 
     /**
@@ -801,7 +906,16 @@ public class IOHandler implements Closeable {
      * @return the String representation of a given OptionsMenu with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
      */
     public static String wordWrapIgnoreIndicator(OptionsMenu menu) {
-        return wordWrapIgnoreIndicator(menu.toString());
+        return menu.wordWrapIgnoreIndicator(wrapColumns());
+    }
+
+    /**
+     * Returns a given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words, reusing the result if the same String was wrapped recently at the same width; like wordWrap(String), removes indicator characters (`)
+     * @param s the String to modify
+     * @return the given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
+     */
+    public static String cachedWordWrap(String s) {
+        return WRAPCACHE.get(s, wrapColumns());
     }
 
     /**
@@ -810,36 +924,84 @@ public class IOHandler implements Closeable {
      * @return the given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
      */
     public static String wordWrapIgnoreIndicator(String s) {
-        String wrappedLine = "";
-        String[] lines = s.split("\n");
-        String[] wordsInLine;
-        int columnInLine;
+        return wordWrapIgnoreIndicator(s, wrapColumns());
+    }
+
+    /**
+     * Returns a given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
+     * @param s the String to modify
+     * @param columns the number of columns to wrap at
+     * @return the given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
+     */
+    public static String wordWrapIgnoreIndicator(String s, int columns) {
+        return wrap(s.toCharArray(), s.length(), columns);
+    }
+
+    /**
+     * Inserts line breaks into a given sequence of characters in a single pass, such that it will only wrap around to a new line at word boundaries, not in the middle of words; indicator characters (`) are kept, but do not take up a column
+     * Matches the behavior of splitting on line breaks and spaces: trailing empty lines and trailing spaces on each line are dropped, while consecutive spaces are kept
+     * @param chars the characters to modify
+     * @param length the number of characters in chars to use
+     * @param columns the number of columns to wrap at
+     * @return the given characters with line breaks inserted such that they will only wrap around to a new line at word boundaries, not in the middle of words
+     */
+    private static String wrap(char[] chars, int length, int columns) {
+        StringBuilder wrapped = WRAPBUFFER.get();
+        wrapped.setLength(0);
+
+        // Trailing empty lines are dropped entirely
+        int end = length;
+        while (end > 0 && chars[end - 1] == '\n') end--;
+
+        int lineStart = 0;
+        int lineEnd;
+        int textEnd;
+        int wordStart;
+        int wordEnd;
         int wordLength;
+        int columnInLine;
+        while (end > 0) {
+            lineEnd = lineStart;
+            while (lineEnd < end && chars[lineEnd] != '\n') lineEnd++;
+
+            // Trailing spaces are dropped, but leading and consecutive spaces each separate an empty word
+            textEnd = lineEnd;
+            while (textEnd > lineStart && chars[textEnd - 1] == ' ') textEnd--;
 
-        for (int i = 0; i < lines.length; i++) {
-            if (i != 0) wrappedLine += "\n";
             columnInLine = 0;
-            wordsInLine = lines[i].split(" ");
+            wordStart = lineStart;
+            while (textEnd > lineStart) {
+                wordEnd = wordStart;
+                wordLength = 0;
+                while (wordEnd < textEnd && chars[wordEnd] != ' ') {
+                    if (chars[wordEnd] != '`') wordLength++;
+                    wordEnd++;
+                }
 
-            for (int j = 0; j < wordsInLine.length; j++) {
-                wordLength = wordsInLine[j].replace("`", "").length();
-                if (j != 0)  columnInLine += 1;
+                if (wordStart != lineStart) columnInLine += 1;
                 columnInLine += wordLength;
 
-                if (columnInLine > WRAPCOLUMNS) {
-                    wrappedLine += "\n" + wordsInLine[j];
+                if (columnInLine > columns) {
+                    wrapped.append('\n');
                     columnInLine = wordLength;
-                } else {
-                    if (j != 0) {
-                        wrappedLine += " ";
-                    }
-
-                    wrappedLine += wordsInLine[j];
+                } else if (wordStart != lineStart) {
+                    wrapped.append(' ');
                 }
+
+                wrapped.append(chars, wordStart, wordEnd - wordStart);
+
+                if (wordEnd >= textEnd) break;
+                wordStart = wordEnd + 1;
             }
+
+            if (lineEnd >= end) break;
+            wrapped.append('\n');
+            lineStart = lineEnd + 1;
         }
 
-        return wrappedLine;
+        String result = wrapped.toString();
+        if (wrapped.capacity() > MAXWRAPBUFFER) WRAPBUFFER.remove();
+        return result;
     }
 
     /**
@@ -847,7 +1009,7 @@ public class IOHandler implements Closeable {
      * @param s the String to print
      */
     public static void wrapPrint(String s) {
-        System.out.print(wordWrap(s));
+        out().print(wordWrap(s));
     }
 
     /**
@@ -855,7 +1017,7 @@ public class IOHandler implements Closeable {
      * @param line the DialogueLine to print
      */
     public static void wrapPrint(DialogueLine line) {
-        System.out.print(wordWrap(line));
+        out().print(wordWrap(line));
     }
 
     /**
@@ -863,7 +1025,7 @@ public class IOHandler implements Closeable {
      * @param menu the OptionsMenu to print
      */
     public static void wrapPrint(OptionsMenu menu) {
-        System.out.print(wordWrap(menu));
+        out().print(wordWrap(menu));
     }
 
     /**
@@ -871,7 +1033,7 @@ public class IOHandler implements Closeable {
      * @param s the String to print
      */
     public static void wrapPrintln(String s) {
-        System.out.println(wordWrap(s));
+        out().println(wordWrap(s));
     }
 
     /**
@@ -879,7 +1041,7 @@ public class IOHandler implements Closeable {
      * @param line the DialogueLine to print
      */
     public static void wrapPrintln(DialogueLine line) {
-        System.out.println(wordWrap(line));
+        out().println(wordWrap(line));
     }
 
     /**
@@ -887,7 +1049,15 @@ public class IOHandler implements Closeable {
      * @param menu the OptionsMenu to print
      */
     public static void wrapPrintln(OptionsMenu menu) {
-        System.out.println(wordWrap(menu));
+        out().println(wordWrap(menu));
+    }
+
+    /**
+     * Instantly prints a given String, inserting line breaks such that it only wraps around to a new line at word boundaries, not in the middle of words, then terminates the line; reuses the wrapped String if the same String was printed recently
+     * @param s the String to print
+     */
+    public static void wrapPrintlnCached(String s) {
+        out().println(cachedWordWrap(s));
     }
 
 }
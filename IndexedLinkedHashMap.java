@@ -1,9 +1,55 @@
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 public class IndexedLinkedHashMap<K,V> extends LinkedHashMap<K,V> {
-    
-    ArrayList<K> index = new ArrayList<>();
+
+    // Dense arrays of every key and value in insertion order; removed entries leave holes until the next positional access compacts them
+    private final ArrayList<K> keys = new ArrayList<>();
+    private final ArrayList<V> values = new ArrayList<>();
+    private final BitSet holes = new BitSet();
+    private int nHoles = 0;
+
+    private final HashMap<K, Integer> positions = new HashMap<>(); // Map key --> position in the dense arrays
+    private final HashMap<V, Integer> valuePositions = new HashMap<>(); // Map value --> position of its first equal occurrence in the dense arrays
+    private boolean valuePositionsStale = false;
+
+    private final List<K> keyView = new AbstractList<>() {
+        @Override
+        public K get(int i) {
+            return getKey(i);
+        }
+
+        @Override
+        public int size() {
+            return IndexedLinkedHashMap.this.size();
+        }
+    };
+
+    private final List<V> valueView = new AbstractList<>() {
+        @Override
+        public V get(int i) {
+            return getValue(i);
+        }
+
+        @Override
+        public int size() {
+            return IndexedLinkedHashMap.this.size();
+        }
+    };
 
     /**
      * Associates the specified value with the specified key in this map and appends the key to the end of the index list if it was not already present; if the map previously contained a mapping for the key, the old value is replaced
@@ -13,12 +59,151 @@ public class IndexedLinkedHashMap<K,V> extends LinkedHashMap<K,V> {
      */
     @Override
     public V put(K key, V val) {
-        if (!super.containsKey(key)) {
-            index.add(key);
+        Integer position = positions.get(key);
+        if (position == null) {
+            position = keys.size();
+            keys.add(key);
+            values.add(val);
+            positions.put(key, position);
+            if (!valuePositionsStale) valuePositions.putIfAbsent(val, position);
+        } else {
+            values.set(position, val);
+            valuePositionsStale = true;
+        }
+
+        return super.put(key, val);
+    }
+
+    /**
+     * Copies all of the mappings from the specified map to this map, in the specified map's iteration order
+     * @param m mappings to be stored in this map
+     */
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            this.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to null), associates it with the given value
+     * @param key key with which the specified value is to be associated
+     * @param val value to be associated with the specified key
+     * @return the previous value associated with key, or null if there was no mapping for key
+     */
+    @Override
+    public V putIfAbsent(K key, V val) {
+        V current = this.get(key);
+        if (current == null) current = this.put(key, val);
+        return current;
+    }
+
+    /**
+     * Replaces the entry for the specified key only if it is currently mapped to some value
+     * @param key key with which the specified value is associated
+     * @param val value to be associated with the specified key
+     * @return the previous value associated with key, or null if there was no mapping for key
+     */
+    @Override
+    public V replace(K key, V val) {
+        return (this.containsKey(key)) ? this.put(key, val) : null;
+    }
+
+    /**
+     * Replaces the entry for the specified key only if currently mapped to the specified value
+     * @param key key with which the specified value is associated
+     * @param oldValue value expected to be associated with the specified key
+     * @param newValue value to be associated with the specified key
+     * @return true if the value was replaced
+     */
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        if (!this.containsKey(key) || !Objects.equals(this.get(key), oldValue)) return false;
+        this.put(key, newValue);
+        return true;
+    }
+
+    /**
+     * Replaces each entry's value with the result of invoking the given function on that entry, in order
+     * @param function the function to apply to each entry
+     */
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        for (K key : new ArrayList<>(this.keyList())) {
+            this.put(key, function.apply(key, this.get(key)));
         }
+    }
 
-        V returnValue = super.put(key, val);
-        return returnValue;
+    /**
+     * If the specified key is not already associated with a value (or is mapped to null), attempts to compute its value using the given function and enters it into this map unless null
+     * @param key key with which the specified value is to be associated
+     * @param mappingFunction the function to compute a value
+     * @return the current (existing or computed) value associated with the specified key, or null if the computed value is null
+     */
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V current = this.get(key);
+        if (current != null) return current;
+
+        V computed = mappingFunction.apply(key);
+        if (computed != null) this.put(key, computed);
+        return computed;
+    }
+
+    /**
+     * If the value for the specified key is present and non-null, attempts to compute a new mapping given the key and its current value; the entry is removed if the new value is null
+     * @param key key with which the specified value is to be associated
+     * @param remappingFunction the function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     */
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        V current = this.get(key);
+        if (current == null) return null;
+
+        V computed = remappingFunction.apply(key, current);
+        if (computed == null) {
+            this.remove(key);
+        } else {
+            this.put(key, computed);
+        }
+        return computed;
+    }
+
+    /**
+     * Attempts to compute a mapping for the specified key and its current mapped value (or null if there is none); the entry is removed if the new value is null
+     * @param key key with which the specified value is to be associated
+     * @param remappingFunction the function to compute a value
+     * @return the new value associated with the specified key, or null if none
+     */
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        V computed = remappingFunction.apply(key, this.get(key));
+        if (computed == null) {
+            this.remove(key);
+        } else {
+            this.put(key, computed);
+        }
+        return computed;
+    }
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to null), associates it with the given value; otherwise, replaces the value with the result of the given function, or removes it if the result is null
+     * @param key key with which the resulting value is to be associated
+     * @param val the value to use if there is no current value
+     * @param remappingFunction the function to recompute a value if present
+     * @return the new value associated with the specified key, or null if none
+     */
+    @Override
+    public V merge(K key, V val, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        V current = this.get(key);
+        V merged = (current == null) ? val : remappingFunction.apply(current, val);
+        if (merged == null) {
+            this.remove(key);
+        } else {
+            this.put(key, merged);
+        }
+        return merged;
     }
 
     /**
@@ -28,9 +213,29 @@ public class IndexedLinkedHashMap<K,V> extends LinkedHashMap<K,V> {
      */
     @Override
     public V remove(Object key) {
-        index.remove(getIndex((K)key));
-        V returnValue = super.remove(key);
-        return returnValue;
+        Integer position = positions.remove(key);
+        if (position != null) {
+            keys.set(position, null);
+            values.set(position, null);
+            holes.set(position);
+            nHoles += 1;
+            valuePositionsStale = true;
+        }
+
+        return super.remove(key);
+    }
+
+    /**
+     * Removes the entry for the specified key only if it is currently mapped to the specified value
+     * @param key key with which the specified value is associated
+     * @param val value expected to be associated with the specified key
+     * @return true if the value was removed
+     */
+    @Override
+    public boolean remove(Object key, Object val) {
+        if (!this.containsKey(key) || !Objects.equals(this.get(key), val)) return false;
+        this.remove(key);
+        return true;
     }
 
     /**
@@ -39,7 +244,13 @@ public class IndexedLinkedHashMap<K,V> extends LinkedHashMap<K,V> {
     @Override
     public void clear() {
         super.clear();
-        index.clear();
+        keys.clear();
+        values.clear();
+        holes.clear();
+        nHoles = 0;
+        positions.clear();
+        valuePositions.clear();
+        valuePositionsStale = false;
     }
 
     /**
@@ -48,7 +259,8 @@ public class IndexedLinkedHashMap<K,V> extends LinkedHashMap<K,V> {
      * @return the value at the specified position in this map
      */
     public V getValue(int i) {
-        return (V) super.get(index.get(i));
+        this.compact();
+        return values.get(i);
     }
 
     /**
@@ -57,7 +269,8 @@ public class IndexedLinkedHashMap<K,V> extends LinkedHashMap<K,V> {
      * @return the key at the specified position in this map
      */
     public K getKey(int i) {
-        return (K) index.get(i);
+        this.compact();
+        return keys.get(i);
     }
 
     /**
@@ -66,44 +279,118 @@ public class IndexedLinkedHashMap<K,V> extends LinkedHashMap<K,V> {
      * @return the index of the specified key in this map, or -1 if this map does not contain the key
      */
     public int getIndex(K key) {
-        if (super.containsKey(key)) {
-            return index.indexOf(key);
-        } else {
-            return -1;
-        }
+        this.compact();
+        Integer position = positions.get(key);
+        return (position == null) ? -1 : position;
     }
 
     /**
-     * Returns the index of the first occurrence of the specified value in this map, or -1 if this map does not contain the value
+     * Returns the index of the first value in this map equal to the specified value, or -1 if this map does not contain the value
      * @param value the value whose associated position is to be returned
-     * @return the index of the the first occurrence of the specified value in this map, or -1 if this map does not contain the value
+     * @return the index of the the first value in this map equal to the specified value, or -1 if this map does not contain the value
      */
     public int indexOf(V value) {
-        for (int i = 0; i < this.index.size(); i++) {
-            if (super.get(index.get(i)) == value) {
-                return i;
-            }
+        this.compact();
+        if (valuePositionsStale) {
+            valuePositions.clear();
+            for (int i = 0; i < values.size(); i++) valuePositions.putIfAbsent(values.get(i), i);
+            valuePositionsStale = false;
         }
 
-        return -1;
+        Integer position = valuePositions.get(value);
+        return (position == null) ? -1 : position;
     }
 
     /**
-     * Returns an ArrayList of all keys in this map, in order
-     * @return an ArrayList of all keys in this map, in order
+     * Returns a read-only view of the keys in this map; removing through the view would bypass the index, so it is not allowed
+     * @return a read-only view of the keys in this map, in order
      */
-    public ArrayList<K> keyList() {
-        return this.index;
+    @Override
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(super.keySet());
     }
 
     /**
-     * Returns an ArrayList of all values in this map, in order
-     * @return an ArrayList of all values in this map, in order
+     * Returns a read-only view of the values in this map; removing through the view would bypass the index, so it is not allowed
+     * @return a read-only view of the values in this map, in order
      */
-    public ArrayList<V> valueList() {
-        ArrayList<V> values = new ArrayList<>();
-        for (K key : this.index) values.add(this.get(key));
-        return values;
+    @Override
+    public Collection<V> values() {
+        return Collections.unmodifiableCollection(super.values());
+    }
+
+    /**
+     * Returns a read-only view of the entries in this map; removing or setting values through the view would bypass the index, so it is not allowed
+     * @return a read-only view of the entries in this map, in order
+     */
+    @Override
+    public Set<Map.Entry<K,V>> entrySet() {
+        Set<Map.Entry<K,V>> entries = super.entrySet();
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K,V>> iterator() {
+                Iterator<Map.Entry<K,V>> i = entries.iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return i.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<K,V> next() {
+                        return new AbstractMap.SimpleImmutableEntry<>(i.next());
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return entries.contains(o);
+            }
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+        };
+    }
+
+    /**
+     * Returns a read-only view of all keys in this map, in order
+     * @return a read-only view of all keys in this map, in order
+     */
+    public List<K> keyList() {
+        return this.keyView;
+    }
+
+    /**
+     * Returns a read-only view of all values in this map, in order
+     * @return a read-only view of all values in this map, in order
+     */
+    public List<V> valueList() {
+        return this.valueView;
+    }
+
+    /**
+     * Closes the holes left by removed entries, so positions in the dense arrays match positions in this map again
+     */
+    private void compact() {
+        if (nHoles == 0) return;
+
+        int next = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            if (!holes.get(i)) {
+                keys.set(next, keys.get(i));
+                values.set(next, values.get(i));
+                positions.put(keys.get(next), next);
+                next += 1;
+            }
+        }
+
+        keys.subList(next, keys.size()).clear();
+        values.subList(next, values.size()).clear();
+        holes.clear();
+        nHoles = 0;
     }
 
 }
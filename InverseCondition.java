@@ -1,4 +1,4 @@
-public class InverseCondition extends AbstractCondition {
+public class InverseCondition extends CachedCondition {
 
     private final AbstractCondition inverse;
         
@@ -10,16 +10,17 @@ public class InverseCondition extends AbstractCondition {
      */
     public InverseCondition(AbstractCondition inverse) {
         this.inverse = inverse;
+        this.dependOn(inverse);
     }
 
     // --- CHECKS ---
 
     /**
-     * Checks whether this condition is met
+     * Computes whether this condition is met
      * @return the boolean value of this condition
      */
     @Override
-    public boolean check() {
+    protected boolean evaluate() {
         return !this.inverse.check();
     }
     
@@ -1,8 +1,28 @@
+import java.io.IOException;
+import java.net.InetAddress;
+
 public class Main {
 
-    public static void main(String[] args) {
-        GameManager manager = new GameManager();
-        manager.runGame();
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("--server")) {
+            // Only accepts players connecting from this machine unless given an address to listen on (e.g. 0.0.0.0 for every interface)
+            int port = (args.length > 1) ? Integer.parseInt(args[1]) : GameServer.DEFAULTPORT;
+            InetAddress bindAddress = (args.length > 2) ? InetAddress.getByName(args[2]) : InetAddress.getLoopbackAddress();
+            new GameServer(bindAddress, port).run();
+        } else if (args.length > 0 && args[0].equals("--headless")) {
+            // Plays instantly, reading every choice from standard input (e.g. a piped file of inputs)
+            GameManager manager = new GameManager(new ConsoleSessionIO(), true);
+            manager.runGame();
+        } else if (args.length > 0 && args[0].equals("--explore")) {
+            int maxDepth = (args.length > 1) ? Integer.parseInt(args[1]) : 40;
+            long maxRuns = (args.length > 2) ? Long.parseLong(args[2]) : 10000;
+            RouteExplorer explorer = new RouteExplorer(maxDepth, maxRuns);
+            explorer.explore();
+            System.out.println(explorer.getReport());
+        } else {
+            GameManager manager = new GameManager();
+            manager.runGame();
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,109 @@
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class MemorySessionIO implements SessionIO {
+
+    private final ConcurrentLinkedQueue<String> input;
+    private final ByteArrayOutputStream outputBuffer;
+    private final PrintStream output;
+    private int wrapColumns = IOHandler.DEFAULTWRAPCOLUMNS;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param lines the lines of input to give to the game, in order
+     */
+    public MemorySessionIO(String... lines) {
+        this.input = new ConcurrentLinkedQueue<>();
+        for (String line : lines) this.input.add(line);
+
+        this.outputBuffer = new ByteArrayOutputStream();
+        this.output = new PrintStream(this.outputBuffer, true, StandardCharsets.UTF_8);
+    }
+
+    // --- ACCESSORS & MANIPULATORS ---
+
+    /**
+     * Adds lines to the end of the input queue
+     * @param lines the lines of input to add
+     */
+    public void addInput(String... lines) {
+        for (String line : lines) this.input.add(line);
+    }
+
+    /**
+     * Returns the number of lines of input that have not been read yet
+     * @return the number of lines of input that have not been read yet
+     */
+    public int remainingInput() {
+        return this.input.size();
+    }
+
+    /**
+     * Returns everything written to this session so far
+     * @return everything written to this session so far
+     */
+    public String getOutputText() {
+        this.output.flush();
+        return this.outputBuffer.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Discards everything written to this session so far
+     */
+    public void clearOutput() {
+        this.output.flush();
+        this.outputBuffer.reset();
+    }
+
+    // --- INPUT & OUTPUT ---
+
+    /**
+     * Reads the next line from the input queue
+     * @return the next line from the input queue, or null if the queue is empty
+     */
+    @Override
+    public String readLine() {
+        return this.input.poll();
+    }
+
+    /**
+     * Returns the stream that all output for this session is written to
+     * @return the stream that all output for this session is written to
+     */
+    @Override
+    public PrintStream getOutput() {
+        return this.output;
+    }
+
+    /**
+     * Returns the number of columns this session's output is wrapped at
+     * @return the number of columns this session's output is wrapped at
+     */
+    @Override
+    public int getWrapColumns() {
+        return this.wrapColumns;
+    }
+
+    /**
+     * Sets the number of columns this session's output is wrapped at
+     * @param columns the number of columns to wrap this session's output at
+     */
+    @Override
+    public void setWrapColumns(int columns) {
+        if (columns <= 0) throw new RuntimeException("Wrap width must be positive");
+        this.wrapColumns = columns;
+    }
+
+    /**
+     * Discards any remaining input
+     */
+    @Override
+    public void close() {
+        this.input.clear();
+    }
+
+}
@@ -0,0 +1,200 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MenuTemplate {
+
+    /*
+     * Menu definition files live in Scripts/Menus, and each can hold several menus:
+     *   // Comment
+     *   menu <name> [exclusive] [meta]
+     *   option <id> [attribute ...] / <display text>
+     *   ...
+     *
+     * See OptionTemplate for the available option attributes.
+     */
+
+    private final String name;
+    private final boolean isExclusive;
+    private final boolean isMeta;
+    private final List<OptionTemplate> options;
+
+    // Templates are parsed once and shared between every session; only the Options created from them hold per-session state
+    private static final File MENUDIRECTORY = new File("Scripts", "Menus");
+    private static final ConcurrentHashMap<String, Map<String, MenuTemplate>> CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, AbstractCondition> NOBINDINGS = Collections.emptyMap();
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param name the name of the menu
+     * @param isExclusive whether the player can input commands during menus created from this template
+     * @param isMeta whether menus created from this template are used for meta commands
+     * @param options the Options in the menu, in order
+     */
+    private MenuTemplate(String name, boolean isExclusive, boolean isMeta, List<OptionTemplate> options) {
+        this.name = name;
+        this.isExclusive = isExclusive;
+        this.isMeta = isMeta;
+        this.options = Collections.unmodifiableList(options);
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for name
+     * @return the name of this menu
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the number of Options in this menu
+     * @return the number of Options in this menu
+     */
+    public int size() {
+        return this.options.size();
+    }
+
+    // --- INSTANTIATION ---
+
+    /**
+     * Creates a new OptionsMenu from this template, with fresh pick counts
+     * @param manager the GameManager to link the Options to
+     * @param bindings the conditions referred to by name in this template
+     * @return a new OptionsMenu described by this template
+     */
+    public OptionsMenu instantiate(GameManager manager, Map<String, AbstractCondition> bindings) {
+        OptionsMenu menu = new OptionsMenu(this.isExclusive, this.isMeta);
+        for (OptionTemplate o : this.options) menu.add(o.instantiate(manager, menu, bindings));
+        return menu;
+    }
+
+    /**
+     * Creates a new OptionsMenu from this template, with fresh pick counts
+     * @param manager the GameManager to link the Options to
+     * @return a new OptionsMenu described by this template
+     */
+    public OptionsMenu instantiate(GameManager manager) {
+        return this.instantiate(manager, NOBINDINGS);
+    }
+
+    // --- CACHE ---
+
+    /**
+     * Returns a menu template from a given definition file, parsing the file if it has not been parsed yet
+     * @param file the name of the definition file in Scripts/Menus, without its extension
+     * @param name the name of the menu in that file
+     * @return the template for the given menu
+     */
+    public static MenuTemplate get(String file, String name) {
+        MenuTemplate template = getFile(file, new File(MENUDIRECTORY, file + ".txt")).get(name);
+        if (template == null) throw new RuntimeException("No menu " + name + " in " + file);
+        return template;
+    }
+
+    /**
+     * Returns every menu in a given definition file, parsing the file if it has not been parsed yet
+     * The file is read outside the cache, so sessions looking up other files never wait on it; if two sessions parse the same file at once, both get the first result stored
+     * @param file the name of the definition file, without its extension
+     * @param source the definition file
+     * @return a map of each menu's name to its template
+     */
+    private static Map<String, MenuTemplate> getFile(String file, File source) {
+        Map<String, MenuTemplate> menus = CACHE.get(file);
+        if (menus == null) {
+            menus = parse(source);
+            Map<String, MenuTemplate> existing = CACHE.putIfAbsent(file, menus);
+            if (existing != null) menus = existing;
+        }
+
+        return menus;
+    }
+
+    /**
+     * Parses every menu definition file, so no scene has to wait on a file the first time its menu is shown
+     */
+    public static void preloadAll() {
+        File[] files = MENUDIRECTORY.listFiles((dir, fileName) -> fileName.endsWith(".txt"));
+        if (files == null) return;
+
+        String file;
+        for (File f : files) {
+            file = f.getName().substring(0, f.getName().length() - 4);
+            getFile(file, f);
+        }
+    }
+
+    /**
+     * Reads every menu in a given definition file
+     * @param source the definition file
+     * @return a map of each menu's name to its template
+     */
+    private static Map<String, MenuTemplate> parse(File source) {
+        HashMap<String, MenuTemplate> menus = new HashMap<>();
+
+        String menuName = null;
+        boolean isExclusive = false;
+        boolean isMeta = false;
+        ArrayList<OptionTemplate> options = new ArrayList<>();
+
+        try (Scanner fileReader = new Scanner(source, "UTF-8");) {
+            String lineContent;
+            String[] args;
+            int lineIndex = 0;
+
+            while (fileReader.hasNextLine()) {
+                lineContent = fileReader.nextLine().trim();
+                lineIndex += 1;
+                if (lineContent.isEmpty() || lineContent.startsWith("//")) continue;
+
+                if (lineContent.startsWith("menu ")) {
+                    if (menuName != null) menus.put(menuName, new MenuTemplate(menuName, isExclusive, isMeta, options));
+
+                    args = lineContent.split(" +");
+                    menuName = args[1];
+                    isExclusive = false;
+                    isMeta = false;
+                    options = new ArrayList<>();
+                    for (int i = 2; i < args.length; i++) {
+                        switch (args[i]) {
+                            case "exclusive":
+                                isExclusive = true;
+                                break;
+
+                            case "meta":
+                                isMeta = true;
+                                break;
+
+                            default:
+                                throw new RuntimeException("Unknown menu attribute " + args[i] + " in " + source.getName() + " at line " + lineIndex);
+                        }
+                    }
+
+                    if (menus.containsKey(menuName)) {
+                        IOHandler.out().println("[DEBUG: Duplicate menu " + menuName + " in " + source.getName() + " at line " + lineIndex + "]");
+                    }
+                } else if (lineContent.startsWith("option ")) {
+                    if (menuName == null) throw new RuntimeException("Option outside of a menu in " + source.getName() + " at line " + lineIndex);
+                    options.add(new OptionTemplate(lineContent.substring(7), source.getName() + " at line " + lineIndex));
+                } else {
+                    throw new RuntimeException("Invalid menu definition in " + source.getName() + " at line " + lineIndex + ": " + lineContent);
+                }
+            }
+        } catch (FileNotFoundException e) {
+            throw new RuntimeException("Menu definitions not found (" + source.getName() + ")");
+        }
+
+        if (menuName != null) menus.put(menuName, new MenuTemplate(menuName, isExclusive, isMeta, options));
+        return Collections.unmodifiableMap(menus);
+    }
+
+}
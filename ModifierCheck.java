@@ -0,0 +1,319 @@
+import java.util.ArrayList;
+import java.util.EnumSet;
+
+public class ModifierCheck {
+
+    // Flag checks, packed into bits (see ChapterFlag)
+    private final long requiredFlags;
+    private final long forbiddenFlags;
+
+    // Voice checks
+    private final EnumSet<Voice> requiredVoices;
+    private final EnumSet<Voice> forbiddenVoices;
+
+    // Checks on given conditions; 1 if the condition must be true, -1 if it must be false, 0 if unchecked
+    private final int boolCheck;
+    private final int[] numIs;
+    private final int[] numNot;
+    private final String[] stringIs;
+    private final String[] stringNot;
+
+    // Chapter-dependent String checks
+    private final String[] voice2Is;
+    private final String[] voice2Not;
+    private final String[] voice3Is;
+    private final String[] voice3Not;
+    private final String[] sourceIs;
+    private final String[] sourceNot;
+
+    private final boolean alwaysFails; // True if one of the modifiers is malformed in a way that can never pass
+    private final boolean isEmpty;
+
+    public static final ModifierCheck NONE = new ModifierCheck(new String[0], null);
+
+    // --- CONSTRUCTOR ---
+
+    /**
+     * Constructor; decodes a set of modifiers into a single compact check
+     * @param modifiers the modifiers to decode
+     * @param speaker the Voice speaking the line the modifiers belong to (or null if there is none)
+     */
+    public ModifierCheck(String[] modifiers, Voice speaker) {
+        long requiredFlags = 0;
+        long forbiddenFlags = 0;
+        EnumSet<Voice> requiredVoices = EnumSet.noneOf(Voice.class);
+        EnumSet<Voice> forbiddenVoices = EnumSet.noneOf(Voice.class);
+        int boolCheck = 0;
+        ArrayList<Integer> numIs = new ArrayList<>();
+        ArrayList<Integer> numNot = new ArrayList<>();
+        ArrayList<String> stringIs = new ArrayList<>();
+        ArrayList<String> stringNot = new ArrayList<>();
+        ArrayList<String> voice2Is = new ArrayList<>();
+        ArrayList<String> voice2Not = new ArrayList<>();
+        ArrayList<String> voice3Is = new ArrayList<>();
+        ArrayList<String> voice3Not = new ArrayList<>();
+        ArrayList<String> sourceIs = new ArrayList<>();
+        ArrayList<String> sourceNot = new ArrayList<>();
+        boolean alwaysFails = false;
+
+        String[] args;
+        ChapterFlag flag;
+        Voice v;
+        for (String m : modifiers) {
+            args = m.split("-");
+
+            if (m.startsWith("checkvoice")) {
+                if (args.length == 1) {
+                    if (speaker != null) {
+                        requiredVoices.add(speaker.checkVoice());
+                        forbiddenVoices.remove(speaker.checkVoice());
+                    }
+                } else {
+                    for (String id : args) {
+                        v = Voice.getVoice(id);
+                        if (v != null) {
+                            requiredVoices.add(v);
+                            forbiddenVoices.remove(v);
+                        }
+                    }
+                }
+            } else if (m.startsWith("checknovoice-")) {
+                for (String id : args) {
+                    v = Voice.getVoice(id);
+                    if (v != null) {
+                        forbiddenVoices.add(v);
+                        requiredVoices.remove(v);
+                    }
+                }
+
+            } else if (m.startsWith("voice2-")) {
+                if (args.length == 2) voice2Is.add(args[1]);
+                else alwaysFails = true;
+            } else if (m.startsWith("voice2not-")) {
+                if (args.length == 2) voice2Not.add(args[1]);
+                else alwaysFails = true;
+            } else if (m.startsWith("voice3-")) {
+                if (args.length == 2) voice3Is.add(args[1]);
+                else alwaysFails = true;
+            } else if (m.startsWith("voice3not-")) {
+                if (args.length == 2) voice3Not.add(args[1]);
+                else alwaysFails = true;
+
+            } else if (m.startsWith("ifsource-")) {
+                sourceIs.add(argumentOf(args));
+            } else if (m.startsWith("ifsourcenot-")) {
+                sourceNot.add(argumentOf(args));
+
+            } else if (m.equals("check")) {
+                boolCheck = 1;
+            } else if (m.equals("checkfalse")) {
+                boolCheck = -1;
+
+            } else if (m.startsWith("ifnumnot")) {
+                numNot.add(targetIntOf(args));
+            } else if (m.startsWith("ifnum")) {
+                numIs.add(targetIntOf(args));
+
+            } else if (m.startsWith("ifstring-")) {
+                stringIs.add(argumentOf(args));
+            } else if (m.startsWith("ifstringnot-")) {
+                stringNot.add(argumentOf(args));
+
+            } else {
+                flag = ChapterFlag.getFlag(m);
+                if (flag != null) {
+                    if (m.equals(flag.getTrueModifier())) {
+                        requiredFlags |= flag.bit();
+                    } else {
+                        forbiddenFlags |= flag.bit();
+                    }
+                }
+            }
+        }
+
+        this.requiredFlags = requiredFlags;
+        this.forbiddenFlags = forbiddenFlags;
+        this.requiredVoices = requiredVoices;
+        this.forbiddenVoices = forbiddenVoices;
+        this.boolCheck = boolCheck;
+        this.numIs = toIntArray(numIs);
+        this.numNot = toIntArray(numNot);
+        this.stringIs = stringIs.toArray(new String[0]);
+        this.stringNot = stringNot.toArray(new String[0]);
+        this.voice2Is = voice2Is.toArray(new String[0]);
+        this.voice2Not = voice2Not.toArray(new String[0]);
+        this.voice3Is = voice3Is.toArray(new String[0]);
+        this.voice3Not = voice3Not.toArray(new String[0]);
+        this.sourceIs = sourceIs.toArray(new String[0]);
+        this.sourceNot = sourceNot.toArray(new String[0]);
+        this.alwaysFails = alwaysFails;
+
+        this.isEmpty = modifiers.length == 0;
+    }
+
+    // --- CHECKS ---
+
+    /**
+     * Checks whether this check has no modifiers at all, and will therefore always pass
+     * @return true if this check was created from an empty set of modifiers; false otherwise
+     */
+    public boolean isEmpty() {
+        return this.isEmpty;
+    }
+
+    /**
+     * Checks whether this check contains a malformed modifier that can never pass
+     * @return true if this check can never pass; false otherwise
+     */
+    public boolean alwaysFails() {
+        return this.alwaysFails;
+    }
+
+    /**
+     * Checks a packed flag word against the flags required and forbidden by this check
+     * @param flagWord the packed flag word to check
+     * @return true if every required flag is set and every forbidden flag is not set; false otherwise
+     */
+    public boolean checkFlags(long flagWord) {
+        return (flagWord & this.requiredFlags) == this.requiredFlags && (flagWord & this.forbiddenFlags) == 0;
+    }
+
+    /**
+     * Checks the given conditional switches against this check
+     * @param boolCondition the boolean condition given to the Script
+     * @param intCondition the int condition given to the Script
+     * @param strCondition the String condition given to the Script
+     * @return true if every condition check passes; false otherwise
+     */
+    public boolean checkConditions(boolean boolCondition, int intCondition, String strCondition) {
+        if (this.boolCheck == 1 && !boolCondition) return false;
+        if (this.boolCheck == -1 && boolCondition) return false;
+
+        for (int target : this.numIs) {
+            if (intCondition != target) return false;
+        }
+        for (int target : this.numNot) {
+            if (intCondition == target) return false;
+        }
+
+        return matchesAll(strCondition, this.stringIs) && matchesNone(strCondition, this.stringNot);
+    }
+
+    /**
+     * Checks the "source" of the current chapter against this check
+     * @param chapterSource the source of the current chapter
+     * @return true if every source check passes; false otherwise
+     */
+    public boolean checkSource(String chapterSource) {
+        return matchesAll(chapterSource, this.sourceIs) && matchesNone(chapterSource, this.sourceNot);
+    }
+
+    /**
+     * Checks the Voices gained at the start of Chapter 2 and 3 against this check
+     * @param isChapter2 whether the current chapter is a Chapter 2
+     * @param isChapter3 whether the current chapter is a Chapter 3
+     * @param ch2Voice the ID of the Voice gained at the start of Chapter 2
+     * @param ch3Voice the ID of the Voice gained at the start of Chapter 3
+     * @return true if every chapter Voice check passes; false otherwise
+     */
+    public boolean checkChapterVoices(boolean isChapter2, boolean isChapter3, String ch2Voice, String ch3Voice) {
+        if (this.voice2Is.length != 0 || this.voice2Not.length != 0) {
+            if (!isChapter2 && !isChapter3) return false;
+            if (!matchesAll(ch2Voice, this.voice2Is) || !matchesNone(ch2Voice, this.voice2Not)) return false;
+        }
+
+        if (this.voice3Is.length != 0 || this.voice3Not.length != 0) {
+            if (!isChapter3) return false;
+            if (!matchesAll(ch3Voice, this.voice3Is) || !matchesNone(ch3Voice, this.voice3Not)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks the Voices the player currently has against this check
+     * @param cycle the current Cycle
+     * @return true if the player has every required Voice and none of the forbidden Voices; false otherwise
+     */
+    public boolean checkVoices(Cycle cycle) {
+        for (Voice v : this.requiredVoices) {
+            if (!cycle.hasVoice(v)) return false;
+        }
+        for (Voice v : this.forbiddenVoices) {
+            if (cycle.hasVoice(v)) return false;
+        }
+
+        return true;
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Checks whether a given String is equal to every String in an array
+     * @param value the String to check
+     * @param targets the Strings to compare against
+     * @return true if value is equal to every String in targets (or if targets is empty); false otherwise
+     */
+    private static boolean matchesAll(String value, String[] targets) {
+        for (String target : targets) {
+            if (!value.equals(target)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks whether a given String is not equal to any String in an array
+     * @param value the String to check
+     * @param targets the Strings to compare against
+     * @return true if value is not equal to any String in targets; false otherwise
+     */
+    private static boolean matchesNone(String value, String[] targets) {
+        for (String target : targets) {
+            if (value.equals(target)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the argument of a modifier split on hyphens
+     * @param args the modifier, split on hyphens
+     * @return the part of the modifier after the first hyphen, or an empty String if there is none
+     */
+    private static String argumentOf(String[] args) {
+        return (args.length > 1) ? args[1] : "";
+    }
+
+    /**
+     * Returns the target value of an ifnum or ifnumnot modifier split on hyphens
+     * @param args the modifier, split on hyphens
+     * @return the target value of the modifier (defaulting to 0)
+     */
+    private static int targetIntOf(String[] args) {
+        if (args.length == 2) {
+            try {
+                return Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * Converts a list of Integers into an int array
+     * @param list the list to convert
+     * @return an int array containing the values in list
+     */
+    private static int[] toIntArray(ArrayList<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+
+        return array;
+    }
+
+}
@@ -1,6 +1,6 @@
-public class NumCondition extends AbstractCondition {
+public class NumCondition extends CachedCondition {
     
-    private GlobalInt dynamicValue;
+    private final GlobalInt dynamicValue;
     private final int condition;
     private final int targetValue;
 
@@ -16,6 +16,7 @@ public class NumCondition extends AbstractCondition {
         this.dynamicValue = dynamicValue;
         this.condition = Integer.signum(condition);
         this.targetValue = targetValue;
+        this.dependOn(dynamicValue);
     }
 
     /**
@@ -49,11 +50,11 @@ public class NumCondition extends AbstractCondition {
     // --- ACCESSORS & MANIPULATORS
 
     /**
-     * Checks whether this condition is met
+     * Computes whether this condition is met
      * @return the boolean dynamicValue of this condition
      */
     @Override
-    public boolean check() {
+    protected boolean evaluate() {
         switch (this.condition) {
             case -1: return this.dynamicValue.lessThan(this.targetValue);
             case 1: return this.dynamicValue.greaterThan(this.targetValue);
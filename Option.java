@@ -1,4 +1,4 @@
-public class Option {
+public class Option implements ConditionDependent {
     
     /*
      * There are multiple ways of determining whether a given option is available, which can be combined:
@@ -11,6 +11,7 @@ public class Option {
     private GameManager manager;
 
     private String id;
+    private Outcome outcome = null; // Looked up from id the first time this Option is picked through a prompt
     private String display;
     private final int maxTimesPicked; // If 0, there is no max
 
@@ -18,13 +19,15 @@ public class Option {
     private Chapter leadsToChapter;
 
     private boolean conditionMet;
-    private AbstractCondition[] conditions;
+    private ConditionList conditions; // Combined into a single condition, so its result is cached until one of them changes
     private boolean greyedOut;
     private AbstractCondition greyCondition;
     private boolean strangerEnding = false;
 
     private int timesPicked;
 
+    private ConditionDependents dependents = null; // Menus caching which of their Options are shown and available, and Options that have this Option as a prerequisite
+
     // --- CONSTRUCTORS ---
 
     /**
@@ -52,12 +55,13 @@ public class Option {
         this.leadsToChapter = leadsToChapter;
 
         this.conditionMet = conditionMet;
-        this.conditions = conditions;
+        this.conditions = new ConditionList(conditions);
         this.timesPicked = 0;
+        this.dependOnInputs();
     }
 
     /**
-     * Constructor including all attributes; should only ever be called by other constructors
+     * Constructor including all attributes; should only ever be called by other constructors and by OptionTemplate
      * @param manager the GameManager to link this Option to
      * @param id the shorthand ID of the Option
      * @param display the text displayed to the player for the Option
@@ -68,7 +72,7 @@ public class Option {
      * @param conditionMet whether other conditions necessary for the Option to be available are met
      * @param conditions an array of Conditions that must be met for the Option to be available
      */
-    private Option(GameManager manager, String id, String display, int maxTimesPicked, AbstractCondition greyCondition, Option prerequisiteOption, Chapter leadsToChapter, boolean conditionMet, AbstractCondition... conditions) {
+    public Option(GameManager manager, String id, String display, int maxTimesPicked, AbstractCondition greyCondition, Option prerequisiteOption, Chapter leadsToChapter, boolean conditionMet, AbstractCondition... conditions) {
         this.manager = manager;
         
         this.id = id;
@@ -81,8 +85,9 @@ public class Option {
         this.leadsToChapter = leadsToChapter;
 
         this.conditionMet = conditionMet;
-        this.conditions = conditions;
+        this.conditions = new ConditionList(conditions);
         this.timesPicked = 0;
+        this.dependOnInputs();
     }
 
     /**
@@ -1000,16 +1005,32 @@ public class Option {
      */
     public void setID(String newID) {
         this.id = newID;
+        this.outcome = null;
+    }
+
+    /**
+     * Returns the Outcome of picking this Option, looking it up from this Option's ID the first time it is needed
+     * @return the Outcome with this Option's ID
+     * @throws RuntimeException if no Outcome has this Option's ID
+     */
+    public Outcome getOutcome() {
+        if (this.outcome == null) {
+            this.outcome = Outcome.getOutcome(this.id);
+            if (this.outcome == null) throw new RuntimeException("No Outcome for Option " + this.id);
+        }
+
+        return this.outcome;
     }
 
     /**
-     * Manipulator for display
+     * Manipulator for display; notifies the menus containing this Option, so they stop reusing their rendered text
      * @param newDisplay the new text displayed to the player for this Option
      * @return the previous display text of this Option
      */
     public String setDisplay(String newDisplay) {
         String prevDisplay = this.display;
         this.display = newDisplay;
+        this.changed();
         return prevDisplay;
     }
 
@@ -1021,12 +1042,29 @@ public class Option {
         return this.timesPicked > 0;
     }
 
+    /**
+     * Accessor for timesPicked
+     * @return the number of times this Option has been picked
+     */
+    public int getTimesPicked() {
+        return this.timesPicked;
+    }
+
+    /**
+     * Manipulator for timesPicked
+     * @param n the new number of times this Option has been picked
+     */
+    public void setTimesPicked(int n) {
+        this.timesPicked = n;
+        this.changed();
+    }
+
     /**
      * Checks if this Option is visible
      * @return true if this Option is visible
      */
     public boolean isShown() {
-        if ((this.maxTimesPicked != 0 && this.timesPicked >= this.maxTimesPicked) || !AbstractCondition.check(this.conditions) || !this.conditionMet) {
+        if ((this.maxTimesPicked != 0 && this.timesPicked >= this.maxTimesPicked) || !this.conditions.check() || !this.conditionMet) {
             return false;
         } else if (this.prerequisiteOption != null) {
             if (!this.prerequisiteOption.hasBeenPicked()) return false;
@@ -1071,6 +1109,8 @@ public class Option {
      */
     public void setPrerequisite(Option prerequisite) {
         this.prerequisiteOption = prerequisite;
+        if (prerequisite != null) prerequisite.addDependent(this);
+        this.changed();
     }
 
     /**
@@ -1079,6 +1119,7 @@ public class Option {
      */
     public void setCondition(boolean isMet) {
         this.conditionMet = isMet;
+        this.changed();
     }
 
     /**
@@ -1086,7 +1127,9 @@ public class Option {
      * @param conditions an array of Conditions that must be met for the Option to be available
      */
     public void setConditions(AbstractCondition... conditions) {
-        this.conditions = conditions;
+        this.conditions = new ConditionList(conditions);
+        this.conditions.addDependent(this);
+        this.changed();
     }
 
     /**
@@ -1096,6 +1139,7 @@ public class Option {
     public void setGreyedOut(boolean condition) {
         this.greyedOut = condition;
         this.greyCondition = new Condition();
+        this.changed();
     }
 
     /**
@@ -1105,6 +1149,52 @@ public class Option {
     public void setGreyCondition(AbstractCondition condition) {
         this.greyedOut = false;
         this.greyCondition = condition;
+        if (condition.isTracked()) condition.addDependent(this);
+        this.changed();
+    }
+
+    // --- DEPENDENCY TRACKING ---
+
+    /**
+     * Registers this Option with everything that decides whether it is shown or available, so it hears about any change to them
+     */
+    private void dependOnInputs() {
+        this.conditions.addDependent(this);
+        if (this.greyCondition.isTracked()) this.greyCondition.addDependent(this);
+        if (this.prerequisiteOption != null) this.prerequisiteOption.addDependent(this);
+        if (this.leadsToChapter != null) this.manager.addVisitedDependent(this);
+    }
+
+    /**
+     * Checks whether this Option reports every change to whether it is shown or available, so menus containing it can safely cache which Options are shown
+     * @return true if every condition of this Option reports its changes; false otherwise
+     */
+    public boolean isTracked() {
+        return this.conditions.isTracked() && this.greyCondition.isTracked();
+    }
+
+    /**
+     * Registers a menu or Option to be notified whenever this Option may have become shown, hidden, available or unavailable
+     * @param dependent the menu or Option to notify
+     */
+    public void addDependent(ConditionDependent dependent) {
+        if (this.dependents == null) this.dependents = new ConditionDependents();
+        this.dependents.add(dependent);
+    }
+
+    /**
+     * Passes on a change to one of this Option's conditions, its prerequisite, or the Chapters the player has visited
+     */
+    @Override
+    public void invalidate() {
+        this.changed();
+    }
+
+    /**
+     * Notifies every menu and Option depending on this Option that it may have become shown, hidden, available or unavailable
+     */
+    private void changed() {
+        if (this.dependents != null) this.dependents.notifyChanged();
     }
 
     // --- MISC ---
@@ -1115,6 +1205,7 @@ public class Option {
      */
     public String choose() {
         this.timesPicked += 1;
+        this.changed();
         return this.id;
     }
 
@@ -0,0 +1,218 @@
+import java.util.Map;
+
+public class OptionTemplate {
+
+    /*
+     * An option definition line looks like:
+     *   option <id> [attribute ...] / <display text>
+     * An ID containing spaces is written in double quotes.
+     * Every ID must name an Outcome, since that is what chapters switch on once the Option is picked.
+     *
+     * Attributes:
+     * - max=N: the Option can be picked N times (0 means there is no maximum; defaults to 1)
+     * - hidden: the Option starts with conditionMet set to false
+     * - shown=NAME: the Option starts with conditionMet set to whether the bound condition NAME is met when the menu is created
+     * - greyed: the Option starts greyed out
+     * - greyed=NAME: the Option starts greyed out if the bound condition NAME is met when the menu is created
+     * - grey=NAME: the Option is greyed out while the bound condition NAME is met
+     * - if=NAME,NAME,...: the Option is only shown while every bound condition is met
+     * - after=ID: the Option is only shown once the Option ID in the same menu has been picked
+     * - leads=CHAPTER: the Chapter ID the Option leads to
+     *
+     * A binding name prefixed with ! refers to the inverse of the bound condition.
+     */
+
+    private final String id;
+    private final String display;
+    private final int maxTimesPicked;
+    private final boolean conditionMet;
+    private final boolean greyedOut;
+    private final String greyedBinding; // null if whether the Option starts greyed out does not depend on a condition
+    private final String greyBinding; // null if the Option is never greyed out by a condition
+    private final String shownBinding; // null if conditionMet does not depend on a condition
+    private final String[] conditionBindings;
+    private final String prerequisiteID; // null if the Option has no prerequisite
+    private final Chapter leadsToChapter;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; decodes a single option definition line
+     * @param line the option definition line, without the leading "option "
+     * @param source a description of where the line came from, used in error messages
+     */
+    public OptionTemplate(String line, String source) {
+        String[] split = line.split(" / ", 2);
+        if (split.length < 2) throw new RuntimeException("Option missing display text in " + source + ": " + line);
+
+        String header = split[0].trim();
+        String[] args;
+        if (header.startsWith("\"")) {
+            int closingQuote = header.indexOf('"', 1);
+            if (closingQuote == -1) throw new RuntimeException("Unclosed option ID in " + source + ": " + line);
+
+            this.id = header.substring(1, closingQuote);
+            args = header.substring(closingQuote + 1).trim().split(" +");
+        } else {
+            args = header.split(" +");
+            this.id = args[0];
+            args[0] = "";
+        }
+        if (Outcome.getOutcome(this.id) == null) throw new RuntimeException("Option " + this.id + " in " + source + " has no Outcome");
+        this.display = split[1];
+
+        int maxTimesPicked = 1;
+        boolean conditionMet = true;
+        boolean greyedOut = false;
+        String greyedBinding = null;
+        String greyBinding = null;
+        String shownBinding = null;
+        String[] conditionBindings = new String[0];
+        String prerequisiteID = null;
+        Chapter leadsToChapter = null;
+
+        String[] attribute;
+        for (String arg : args) {
+            if (arg.isEmpty()) continue;
+
+            attribute = arg.split("=", 2);
+            switch (attribute[0]) {
+                case "hidden":
+                    conditionMet = false;
+                    break;
+
+                case "greyed":
+                    if (attribute.length < 2) {
+                        greyedOut = true;
+                    } else {
+                        greyedBinding = value(attribute, source);
+                    }
+                    break;
+
+                case "shown":
+                    shownBinding = value(attribute, source);
+                    break;
+
+                case "max":
+                    try {
+                        maxTimesPicked = Integer.parseInt(attribute[1]);
+                    } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                        throw new RuntimeException("Invalid max for option " + this.id + " in " + source);
+                    }
+                    break;
+
+                case "grey":
+                    greyBinding = value(attribute, source);
+                    break;
+
+                case "if":
+                    conditionBindings = value(attribute, source).split(",");
+                    break;
+
+                case "after":
+                    prerequisiteID = value(attribute, source);
+                    break;
+
+                case "leads":
+                    leadsToChapter = Chapter.getChapter(value(attribute, source));
+                    break;
+
+                default:
+                    throw new RuntimeException("Unknown attribute " + attribute[0] + " for option " + this.id + " in " + source);
+            }
+        }
+
+        this.maxTimesPicked = maxTimesPicked;
+        this.conditionMet = conditionMet;
+        this.greyedOut = greyedOut;
+        this.greyedBinding = greyedBinding;
+        this.greyBinding = greyBinding;
+        this.shownBinding = shownBinding;
+        this.conditionBindings = conditionBindings;
+        this.prerequisiteID = prerequisiteID;
+        this.leadsToChapter = leadsToChapter;
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for id
+     * @return the shorthand ID of the Option this template creates
+     */
+    public String getID() {
+        return this.id;
+    }
+
+    /**
+     * Accessor for display
+     * @return the text displayed to the player for the Option this template creates
+     */
+    public String getDisplay() {
+        return this.display;
+    }
+
+    // --- INSTANTIATION ---
+
+    /**
+     * Creates a new Option from this template, with its own pick count
+     * @param manager the GameManager to link the Option to
+     * @param menu the menu the Option is being added to, used to find its prerequisite
+     * @param bindings the conditions referred to by name in this template
+     * @return a new Option described by this template
+     */
+    public Option instantiate(GameManager manager, OptionsMenu menu, Map<String, AbstractCondition> bindings) {
+        AbstractCondition greyCondition;
+        if (this.greyBinding != null) {
+            greyCondition = resolve(this.greyBinding, bindings);
+        } else if (this.greyedBinding != null) {
+            greyCondition = new Condition(resolve(this.greyedBinding, bindings).check());
+        } else {
+            greyCondition = new Condition(this.greyedOut);
+        }
+
+        boolean conditionMet = (this.shownBinding == null) ? this.conditionMet : resolve(this.shownBinding, bindings).check();
+
+        AbstractCondition[] conditions = new AbstractCondition[this.conditionBindings.length];
+        for (int i = 0; i < conditions.length; i++) conditions[i] = resolve(this.conditionBindings[i], bindings);
+
+        Option prerequisite = null;
+        if (this.prerequisiteID != null) {
+            prerequisite = menu.get(this.prerequisiteID);
+            if (prerequisite == null) throw new RuntimeException("Prerequisite " + this.prerequisiteID + " of option " + this.id + " must be defined before it");
+        }
+
+        return new Option(manager, this.id, this.display, this.maxTimesPicked, greyCondition, prerequisite, this.leadsToChapter, conditionMet, conditions);
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Returns the value of an attribute, throwing an error if it has none
+     * @param attribute an attribute split into its name and value
+     * @param source a description of where the attribute came from, used in error messages
+     * @return the value of attribute
+     */
+    private String value(String[] attribute, String source) {
+        if (attribute.length < 2 || attribute[1].isEmpty()) {
+            throw new RuntimeException("Attribute " + attribute[0] + " for option " + this.id + " in " + source + " has no value");
+        }
+
+        return attribute[1];
+    }
+
+    /**
+     * Looks up a bound condition by name
+     * @param name the name of the binding, optionally prefixed with ! to refer to its inverse
+     * @param bindings the conditions available to the Option
+     * @return the condition bound to name, or its inverse
+     */
+    private AbstractCondition resolve(String name, Map<String, AbstractCondition> bindings) {
+        boolean inverse = name.startsWith("!");
+        if (inverse) name = name.substring(1);
+
+        AbstractCondition condition = bindings.get(name);
+        if (condition == null) throw new RuntimeException("No condition bound to " + name + " for option " + this.id);
+        return (inverse) ? condition.getInverse() : condition;
+    }
+
+}
@@ -1,11 +1,25 @@
 import java.util.ArrayList;
 
-public class OptionsMenu {
+public class OptionsMenu implements ConditionDependent {
 
     private IndexedLinkedHashMap<String, Option> options; // Map String ID --> Option
     private boolean isExclusive; // Can the player input commands during this options menu?
     private boolean isMeta;
 
+    // Indices of the currently visible and available Options, recomputed only after one of their Options reports a change
+    private int[] shownIndices = new int[0];
+    private int[] availableIndices = new int[0];
+    private int nShown = 0;
+    private int nAvailable = 0;
+    private boolean cacheValid = false; // False if the cached indices need to be recomputed
+
+    // Rendered text of the visible Options and its wrapped forms, rebuilt alongside the cached indices
+    private String text = null;
+    private String wrapSource = null; // The rendered text the wrapped forms were made from
+    private int wrapColumns = 0;
+    private String wrapped = null;
+    private String wrappedIgnoreIndicator = null;
+
     // --- CONSTRUCTORS ---
 
     /**
@@ -113,6 +127,7 @@ public class OptionsMenu {
             throw new IllegalArgumentException("Option out of range");
         }
         
+        this.invalidate();
         return this.get(n).setDisplay(newDisplay);
     }
 
@@ -123,6 +138,7 @@ public class OptionsMenu {
      * @return the previous display text of the first Option with the given ID in this menu
      */
     public String setDisplay(String id, String newDisplay) {
+        this.invalidate();
         return this.get(id).setDisplay(newDisplay);
     }
 
@@ -133,13 +149,13 @@ public class OptionsMenu {
      * @throws IllegalArgumentException if the given index is out of range
      */
     public Option getShown(int n) {
-        ArrayList<Option> shown = this.shownOptions();
+        this.refresh();
 
-        if (n < 0 || n >= shown.size()) {
+        if (n < 0 || n >= this.nShown) {
             throw new IllegalArgumentException("Option out of range");
         }
         
-        return shown.get(n);
+        return this.get(this.shownIndices[n]);
     }
 
     /**
@@ -149,13 +165,13 @@ public class OptionsMenu {
      * @throws IllegalArgumentException if the given index is out of range
      */
     public String getShownDisplay(int n) {
-        ArrayList<Option> shown = this.shownOptions();
+        this.refresh();
 
-        if (n < 0 || n >= shown.size()) {
+        if (n < 0 || n >= this.nShown) {
             throw new IllegalArgumentException("Option out of range");
         }
         
-        return shown.get(n).toString();
+        return this.get(this.shownIndices[n]).toString();
     }
 
     /**
@@ -165,13 +181,13 @@ public class OptionsMenu {
      * @throws IllegalArgumentException if the given index is out of range
      */
     public Option getAvailable(int n) {
-        ArrayList<Option> available = this.availableOptions();
+        this.refresh();
 
-        if (n < 0 || n >= available.size()) {
+        if (n < 0 || n >= this.nAvailable) {
             throw new IllegalArgumentException("Option out of range");
         }
         
-        return available.get(n);
+        return this.get(this.availableIndices[n]);
     }
 
     /**
@@ -181,13 +197,13 @@ public class OptionsMenu {
      * @throws IllegalArgumentException if the given index is out of range
      */
     public String getAvailableDisplay(int n) {
-        ArrayList<Option> available = this.availableOptions();
+        this.refresh();
 
-        if (n < 0 || n >= available.size()) {
+        if (n < 0 || n >= this.nAvailable) {
             throw new IllegalArgumentException("Option out of range");
         }
         
-        return available.get(n).toString();
+        return this.get(this.availableIndices[n]).toString();
     }
 
     /**
@@ -291,6 +307,8 @@ public class OptionsMenu {
     public int add(Option o) {
         String id = o.getID();
         this.options.put(id, o);
+        o.addDependent(this);
+        this.cacheValid = false;
         return this.options.getIndex(id);
     }
 
@@ -305,6 +323,8 @@ public class OptionsMenu {
         oCopy.setID(id);
 
         this.options.put(id, oCopy);
+        oCopy.addDependent(this);
+        this.cacheValid = false;
         return this.options.getIndex(id);
     }
 
@@ -394,10 +414,10 @@ public class OptionsMenu {
      * @return a list of all currently visible Options in this menu
      */
     public ArrayList<Option> shownOptions() {
-        ArrayList<Option> shown = new ArrayList<>();
-        for (int i = 0; i < this.options.size(); i++) {
-            if (this.get(i).isShown()) shown.add(this.get(i));
-        }
+        this.refresh();
+
+        ArrayList<Option> shown = new ArrayList<>(this.nShown);
+        for (int i = 0; i < this.nShown; i++) shown.add(this.get(this.shownIndices[i]));
         return shown;
     }
 
@@ -406,10 +426,10 @@ public class OptionsMenu {
      * @return a list of all currently available Options in this menu
      */
     public ArrayList<Option> availableOptions() {
-        ArrayList<Option> available = new ArrayList<>();
-        for (int i = 0; i < this.options.size(); i++) {
-            if (this.get(i).isAvailable()) available.add(this.get(i));
-        }
+        this.refresh();
+
+        ArrayList<Option> available = new ArrayList<>(this.nAvailable);
+        for (int i = 0; i < this.nAvailable; i++) available.add(this.get(this.availableIndices[i]));
         return available;
     }
 
@@ -418,7 +438,45 @@ public class OptionsMenu {
      * @return the number of currently available Options in this menu
      */
     public int nAvailableOptions() {
-        return this.availableOptions().size();
+        this.refresh();
+        return this.nAvailable;
+    }
+
+    /**
+     * Recomputes which Options in this menu are visible and available, unless none of the Options have reported a change since they were last computed
+     */
+    private void refresh() {
+        if (this.cacheValid) return;
+
+        int size = this.options.size();
+        if (this.shownIndices.length < size) {
+            this.shownIndices = new int[size];
+            this.availableIndices = new int[size];
+        }
+
+        this.nShown = 0;
+        this.nAvailable = 0;
+        boolean tracked = true;
+        Option o;
+        for (int i = 0; i < size; i++) {
+            o = this.get(i);
+            tracked = tracked && o.isTracked();
+            if (o.isShown()) {
+                this.shownIndices[this.nShown++] = i;
+                if (!o.greyedOut()) this.availableIndices[this.nAvailable++] = i;
+            }
+        }
+
+        // If any Option has a condition that does not report its changes, nothing is cached
+        this.cacheValid = tracked;
+    }
+
+    /**
+     * Discards the cached indices of the visible and available Options, so the rendered text of the menu is rebuilt as well; called whenever one of the Options in this menu reports a change
+     */
+    @Override
+    public void invalidate() {
+        this.cacheValid = false;
     }
 
     // --- MISC ---
@@ -451,45 +509,113 @@ public class OptionsMenu {
         return this.choose(this.trueIndex(n));
     }
 
+    /**
+     * Increments the number of times the nth available Option in this menu has been picked and returns its Outcome
+     * @param playerIndex the index given by the player, indicating their choice out of the currently available Options
+     * @return the Outcome of the chosen Option
+     * @throws IllegalArgumentException if the given index is out of range
+     */
+    public Outcome playerChooseOutcome(int playerIndex) throws IllegalArgumentException {
+        if (playerIndex <= 0 || playerIndex > this.nAvailableOptions()) {
+            throw new IllegalArgumentException("Option out of available range");
+        }
+
+        Option o = this.get(this.trueIndex(playerIndex));
+        o.choose();
+        return o.getOutcome();
+    }
+
     /**
      * Converts the index of an Option out of the currently available Options to its true index out of all Options in this menu
      * @param playerIndex the index given by the player, indicating their choice out of the currently available Options
      * @return the true index of the chosen Option, out of all Options in the menu
      */
     private int trueIndex(int playerIndex) {
-        return this.options.indexOf(this.availableOptions().get(playerIndex - 1));
+        this.refresh();
+        return this.availableIndices[playerIndex - 1];
     }
 
     /**
-     * Returns a formatted list of all currently visible Options in this menu
+     * Returns this menu with line breaks inserted such that it will only wrap around to a new line at word boundaries, reusing the last result until the menu or the width changes
+     * @param columns the number of columns to wrap at
+     * @return this menu with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
+     */
+    public String wordWrap(int columns) {
+        this.refreshWraps(columns);
+        if (this.wrapped == null) this.wrapped = IOHandler.wordWrap(this.text, columns);
+        return this.wrapped;
+    }
+
+    /**
+     * Returns this menu with line breaks inserted such that it will only wrap around to a new line at word boundaries, ignoring indicator characters (`) and reusing the last result until the menu or the width changes
+     * @param columns the number of columns to wrap at
+     * @return this menu with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
+     */
+    public String wordWrapIgnoreIndicator(int columns) {
+        this.refreshWraps(columns);
+        if (this.wrappedIgnoreIndicator == null) this.wrappedIgnoreIndicator = IOHandler.wordWrapIgnoreIndicator(this.text, columns);
+        return this.wrappedIgnoreIndicator;
+    }
+
+    /**
+     * Discards the wrapped forms of this menu if its rendered text or the column width has changed since they were made
+     * @param columns the number of columns to wrap at
+     */
+    private void refreshWraps(int columns) {
+        String current = this.toString();
+        if (current != this.wrapSource || columns != this.wrapColumns) {
+            this.wrapSource = current;
+            this.wrapColumns = columns;
+            this.wrapped = null;
+            this.wrappedIgnoreIndicator = null;
+        }
+    }
+
+    /**
+     * Returns a formatted list of all currently visible Options in this menu, reusing the last result until one of the Options reports a change
      * @return a formatted list of all currently visible Options in this menu
      */
     @Override
     public String toString() {
-        ArrayList<Option> shown = this.shownOptions();
-        ArrayList<Option> available = this.availableOptions();
-        String s = "";
+        boolean stale = !this.cacheValid;
+        this.refresh();
+        if (!stale && this.text != null) return this.text;
+
+        StringBuilder s = new StringBuilder();
+        Option o;
         int shownIndex;
+        int nextAvailable = 0;
+
+        for (int i = 0; i < this.nShown; i++) {
+            o = this.get(this.shownIndices[i]);
 
-        for (int i = 0; i < shown.size(); i++) {
-            shownIndex = available.indexOf(shown.get(i)) + 1;
+            // Available Options are a subsequence of visible Options, so the two index lists can be walked together
+            if (nextAvailable < this.nAvailable && this.availableIndices[nextAvailable] == this.shownIndices[i]) {
+                nextAvailable += 1;
+                shownIndex = nextAvailable;
+            } else {
+                shownIndex = 0;
+            }
 
             if (i > 0) {
-                s += "\n";
+                s.append("\n");
             }
 
-            if (shown.get(i).isStrangerEnding()) {
-                s += "  (" + shownIndex + ".) " + shown.get(i).toString().replaceAll("NUM", shownIndex + ".");
+            if (o.isStrangerEnding()) {
+                s.append("  (").append(shownIndex).append(".) ").append(o.toString().replaceAll("NUM", shownIndex + "."));
             } else {
-                if (shown.get(i).greyedOut()) {
-                    s += "  (--) " + shown.get(i);
+                if (shownIndex == 0) {
+                    s.append("  (--) ").append(o);
                 } else {
-                    s += "  (" + shownIndex + ".) " + shown.get(i);
+                    s.append("  (").append(shownIndex).append(".) ").append(o);
                 }
             }
         }
 
-        return s;
+        // Keep the old text, and so its wraps, if nothing visible changed (e.g. menus with untracked conditions, which are rebuilt every time)
+        String rendered = s.toString();
+        if (!rendered.equals(this.text)) this.text = rendered;
+        return this.text;
     }
 
     /* public static void main(String[] args) {
@@ -1,4 +1,4 @@
-public class OrCondition extends AbstractCondition {
+public class OrCondition extends CachedCondition {
 
     private boolean bool;
     private final AbstractCondition[] conditions;
@@ -13,6 +13,7 @@ public class OrCondition extends AbstractCondition {
     public OrCondition(boolean bool, AbstractCondition... conditions) {
         this.bool = bool;
         this.conditions = conditions;
+        this.dependOn(conditions);
     }
 
     /**
@@ -26,11 +27,11 @@ public class OrCondition extends AbstractCondition {
     // --- CHECKS ---
 
     /**
-     * Checks whether this condition is met
+     * Computes whether this condition is met
      * @return the boolean value of this condition
      */
     @Override
-    public boolean check() {
+    protected boolean evaluate() {
         if (this.bool || conditions.length == 0) return true;
         return AbstractCondition.checkAny(this.conditions);
     }
@@ -0,0 +1,1048 @@
+import java.util.HashMap;
+
+public enum Outcome {
+    /*
+     * Everything prompting the player can result in: the outcome of a command they entered, or the ID of the Option they chose.
+     * Each constant keeps its ID-String, which Scripts use as section labels. Command outcomes are named after their IDs, which all start with c, so they never clash with an Option ID (e.g. CPROCEED and PROCEED).
+     * Options look up their Outcome once, so chapters dispatch on the result of a menu with an enum switch instead of hashing and comparing Strings.
+     */
+
+    CMETA("cMeta"), // Meta commands (HELP, SHOW, SETTINGS, TOGGLE, RESET)
+    CFAIL("cFail"), // Invalid argument, even after second prompt
+
+    CGOLEAVE("cGoLeave"),
+    CGOPATH("cGoPath"),
+    CGOHILL("cGoHill"),
+    CGOCABIN("cGoCabin"),
+    CGOSTAIRS("cGoStairs"),
+    CGOBASEMENT("cGoBasement"),
+    CGOLEFT("cGoLeft"),
+    CGORIGHT("cGoRight"),
+    CGOFAIL("cGoFail"),
+    CENTERFAIL("cEnterFail"),
+    CLEAVEFAIL("cLeaveFail"),
+
+    CPROCEED("cProceed"), // Only if proceedOverride
+
+    CAPPROACHMIRROR("cApproachMirror"),
+    CAPPROACHATMIRRORFAIL("cApproachAtMirrorFail"), // You're already at the mirror
+    CAPPROACHMIRRORFAIL("cApproachMirrorFail"),
+    CAPPROACHHER("cApproachHer"),
+    CAPPROACHHERFAIL("cApproachHerFail"),
+    CWIPE("cWipe"),
+    CWIPEFAIL("cWipeFail"),
+    CSMASH("cSmash"),
+    CSMASHNOSTUBBORNFAIL("cSmashNoStubbornFail"), // No Voice of the Stubborn
+    CSMASHFAIL("cSmashFail"),
+    CGAZE("cGaze"),
+    CGAZENOMIRRORFAIL("cGazeNoMirrorFail"), // Mirror isn't even present
+    CGAZEFAIL("cGazeFail"),
+
+    CSLAYPRINCESS("cSlayPrincess"),
+    CSLAYPRINCESSDEADFAIL("cSlayPrincessDeadFail"), // Princess is already dead
+    CSLAYNOPRINCESSFAIL("cSlayNoPrincessFail"), // Princess isn't even present
+    CSLAYPRINCESSNOBLADEFAIL("cSlayPrincessNoBladeFail"), // Don't have the blade
+    CSLAYPRINCESSFAIL("cSlayPrincessFail"), // Can't slay right now
+    CSLAYSELF("cSlaySelf"),
+    CSLAYSELFNOBLADEFAIL("cSlaySelfNoBladeFail"), // Don't have the blade
+    CSLAYSELFFAIL("cSlaySelfFail"), // Can't slay self right now
+
+    CTAKEBLADE("cTakeBlade"),
+    CTAKEHASBLADEFAIL("cTakeHasBladeFail"), // You already have the blade
+    CTAKEBLADEFAIL("cTakeBladeFail"), // Blade isn't here / can't take right now
+    CDROP("cDrop"),
+    CDROPNOBLADEFAIL("cDropNoBladeFail"), // You don't even have the blade
+    CDROPFAIL("cDropFail"), // Can't drop right now
+    CGIVEBLADE("cGiveBlade"),
+    CGIVENOBLADEFAIL("cGiveNoBladeFail"), // You don't even have the blade
+    CGIVEBLADEFAIL("cGiveBladeFail"), // Can't give right now
+    CTHROW("cThrow"),
+    CTHROWNOBLADEFAIL("cThrowNoBladeFail"), // You don't even have the blade
+    CTHROWFAIL("cThrowFail"), // Can't throw right now
+
+    CTAKEHANDDEADFAIL("cTakeHandDeadFail"), // Princess is already dead
+    CTAKEHANDNOPRINCESSFAIL("cTakeHandNoPrincessFail"), // Princess isn't even present
+    CTAKEHANDFAIL("cTakeHandFail"), // Can't take right now
+    CTAKEHAND("cTakeHand"),
+    CGIVEHANDDEADFAIL("cGiveHandDeadFail"), // Princess is already dead
+    CGIVEHANDNOPRINCESSFAIL("cGiveHandNoPrincessFail"), // Princess isn't even present
+    CGIVEHANDFAIL("cGiveHandFail"), // Can't give right now
+    CGIVEHAND("cGiveHand"),
+
+    // Chapter I
+    QUESTION1("question1"),
+    QUESTION2("question2"),
+    WHYDANGER("whyDanger"),
+    WHATHAPPENS("whatHappens"),
+    EVIDENCE("evidence"),
+    CHICKENEGG("chickenEgg"),
+    CONSCIENCE("conscience"),
+    SOMEONEELSE("someoneElse"),
+    REFUSE("refuse"),
+    LETITBURN("letItBurn"),
+    PRIZE("prize"),
+    PRIZE2("prize2"),
+    RELUCTANT("reluctant"),
+    OKFINE("okFine"),
+    SOLD("sold"),
+    THANKS("thanks"),
+    SWEET("sweet"),
+    SILENT("silent"),
+    LEAVE("leave"),
+    PROCEED("proceed"),
+    TAKE("take"),
+    ENTER("enter"),
+    UGH("ugh"),
+    MAYBE("maybe"),
+    LIE("lie"),
+    NOPE("nope"),
+    NOTGOING("notGoing"),
+    NIHILISTA("nihilistA"),
+    NIHILISTB("nihilistB"),
+    QUIET("quiet"),
+    CABIN("cabin"),
+    COMMIT("commit"),
+    DONTCARE("dontCare"),
+    GOOD("good"),
+    BLACKMAIL("blackmail"),
+    HI("hi"),
+    CHECKIN("checkIn"),
+    HERETOSAVE("hereToSave"),
+    LIESAVE("lieSave"),
+    JOKEKILL("jokeKill"),
+    TALK("talk"),
+    FREE("free"),
+    NAME("name"),
+    NAME2("name2"),
+    WHYIMPRISONED("whyImprisoned"),
+    NOTKIDDING("notKidding"),
+    EAT("eat"),
+    SHARETASK("shareTask"),
+    WHATWOULDYOUDO("whatWouldYouDo"),
+    COMPROMISEA("compromiseA"),
+    COMPROMISEB("compromiseB"),
+    GETBLADESORRY("getBladeSorry"),
+    GETBLADESILENT("getBladeSilent"),
+    FREEDONTREGRET("freeDontRegret"),
+    NOTDANGER("notDanger"),
+    NOTSURE("notSure"),
+    NOTRIGHT("notRight"),
+    GETBLADE("getBlade"),
+    LOCK("lock"),
+    SLAY("slay"),
+    NEVERMIND("nevermind"),
+    DEFLECT("deflect"),
+    ENOUGH("enough"),
+    YOUTELL("youTell"),
+    REASONS("reasons"),
+    NODANGER("noDanger"),
+    WHATIF("whatIf"),
+    CHECK("check"),
+    SHOUT("shout"),
+    TRY("try"),
+    RETURN("return"),
+    SAVE("save"),
+    DOOR("door"),
+    WARN("warn"),
+    RESIST("resist"),
+    GIVEUP("giveUp"),
+    FINISH("finish"),
+    RUN("run"),
+    HELLO("hello"),
+    WRONGFOOT("wrongFoot"),
+    ARMOPEN("armOpen"),
+    CLOSE("close"),
+    ARMCLOSED("armClosed"),
+    COMEOUT("comeOut"),
+    WAIT("wait"),
+    SHADOWS("shadows"),
+    FIGHT("fight"),
+    NOWAY("noWay"),
+    NOJOKE("noJoke"),
+    CAUGHTME("caughtMe"),
+    NUHUH("nuhUh"),
+    UNDECIDED("undecided"),
+    STEEL("steel"),
+    DROP("drop"),
+    TIGHTEN("tighten"),
+    BLUFF("bluff"),
+    ISARMED("isArmed"),
+    SORRY("sorry"),
+    NODROP("noDrop"),
+    IMPASSE("impasse"),
+    STARE("stare"),
+    SURE("sure"),
+    STARE2("stare2"),
+    CONTSTARE("contStare"),
+    AWKWARD("awkward"),
+    RELATIONSHIP("relationship"),
+    HOWFREE("howFree"),
+    SHARETASKA("shareTaskA"),
+    SHARETASKB("shareTaskB"),
+    HOWLONG("howLong"),
+    WHYHERE("whyHere"),
+    TOLD("told"),
+    TRUSTYOU("trustYou"),
+    YES("yes"),
+    NO("no"),
+    BLADE("blade"),
+    PULSE("pulse"),
+    PRIZEYAY("prizeYay"),
+    PRIZEBOO("prizeBoo"),
+    BULLSHIT("bullshit"),
+    OK("ok"),
+    BETTER("better"),
+    EXPLORE("explore"),
+    NOTHAPPYA("notHappyA"),
+    NOTHAPPYB("notHappyB"),
+    HELLNO("hellNo"),
+    OFCOURSE("ofCourse"),
+    NOTRISKING("notRisking"),
+    ANYTHING("anything"),
+    STICKAROUND("stickAround"),
+    FLEE("flee"),
+    DIE("die"),
+    WHATIFA("whatIfA"),
+    WHATIFB("whatIfB"),
+    THREAT("threat"),
+    NOTPRINCESS("notPrincess"),
+    ACT("act"),
+    BLEEDOUT("bleedOut"),
+    IGNORE("ignore"),
+    SLAY0("slay0"),
+    SLAY1("slay1"),
+    SLAY2("slay2"),
+    SLAY3("slay3"),
+    SLAY4("slay4"),
+    SLAY5("slay5"),
+    SLAY6("slay6"),
+    SLAY7("slay7"),
+    SLAY8("slay8"),
+    SLAY9("slay9"),
+    SLAY10("slay10"),
+    SLAY11("slay11"),
+    SLAY12("slay12"),
+    SLAY13("slay13"),
+    SLAY14("slay14"),
+    SLAY15("slay15"),
+    SLAY16("slay16"),
+    SLAY17("slay17"),
+    SLAY18("slay18"),
+
+    // Chapter II
+    TELEPORT("teleport"),
+    TIPS("tips"),
+    HOWDANGER("howDanger"),
+    QUOTE("quote"),
+    BASEMENT("basement"),
+    WHYME("whyMe"),
+    CAGEY("cagey"),
+    NIHILIST("nihilist"),
+    CARELIE("careLie"),
+    CARELIETOWER("careLieTower"),
+    WHYLIE("whyLie"),
+    WHYLIENIGHTMARE("whyLieNightmare"),
+    WHYLIEWITCH("whyLieWitch"),
+    HANDSOME("handsome"),
+    HANDSOMECARE("handsomeCare"),
+    HANDSOMESTRANGER("handsomeStranger"),
+    NOMATTER("noMatter"),
+    NOMATTERRIGHT("noMatterRight"),
+    NOMATTERTOWER("noMatterTower"),
+    APPROACH("approach"),
+    WIPE("wipe"),
+    MIRROR("mirror"),
+    DIFFERENT("different"),
+    PROOF("proof"),
+    MEMORY("memory"),
+    CHAT("chat"),
+    SCARED("scared"),
+    FREEOFFER("freeOffer"),
+    UNPACK("unpack"),
+    BANTER("banter"),
+    ATTACK("attack"),
+    UNARMEDATTACKA("unarmedAttackA"),
+    UNARMEDATTACKB("unarmedAttackB"),
+    RETRIEVE("retrieve"),
+    CLOSER("closer"),
+    LEAVEYAP("leaveYap"),
+    LEAVESILENT("leaveSilent"),
+    SERIOUS("serious"),
+    WANT("want"),
+    WHY("why"),
+    WHYKILL("whyKill"),
+    SPAR("spar"),
+    NOEND("noEnd"),
+    FREEASKA("freeAskA"),
+    FREEASKB("freeAskB"),
+    AFTERDIED("afterDied"),
+    REASON("reason"),
+    CARED("cared"),
+    ATTACKA("attackA"),
+    ATTACKB("attackB"),
+    SINGLEFILE("singleFile"),
+    WOUNDS("wounds"),
+    YOU("you"),
+    BOTHER("bother"),
+    LITERAL("literal"),
+    APATHY("apathy"),
+    GASLIGHT("gaslight"),
+    WORRY("worry"),
+    GOTME("gotMe"),
+    PUSH("push"),
+    UNLODGE("unlodge"),
+    AGREE("agree"),
+    QUESTION("question"),
+    JUMPGUN("jumpGun"),
+    METAPHOR("metaphor"),
+    DONTGET("dontGet"),
+    SONG("song"),
+    TRICK("trick"),
+    CUT("cut"),
+    OH("oh"),
+    CHANCE("chance"),
+    FINE("fine"),
+    UP("up"),
+    WATCH("watch"),
+    CANTDIE("cantDie"),
+    LATE("late"),
+    JOIN("join"),
+    WAKE("wake"),
+    CHIN("chin"),
+    END("end"),
+    REST("rest"),
+    STAY("stay"),
+    BAIT("bait"),
+    STRIKE("strike"),
+    GETUP("getUp"),
+    FACE("face"),
+    EASY("easy"),
+    STUCK("stuck"),
+    KILLME("killMe"),
+    STAND("stand"),
+    FLEENOBLADE("fleeNoBlade"),
+    FLEEBLADE("fleeBlade"),
+    MORE("more"),
+    CARE("care"),
+    FUNNY("funny"),
+    TURN("turn"),
+    DODGE("dodge"),
+    CONTINUE("continue"),
+    KNEEL("kneel"),
+    CANTREFUSE("cantRefuse"),
+    NOSTUTTER("noStutter"),
+    SHAREMOTIVE("shareMotive"),
+    NOFORCE("noForce"),
+    ROLE("role"),
+    POWERFUL("powerful"),
+    SELFDETERMINATION("selfDetermination"),
+    QUESTIONS("questions"),
+    HAPPENED("happened"),
+    REFUSENOBLADEA("refuseNoBladeA"),
+    REFUSENOBLADEB("refuseNoBladeB"),
+    REFUSEBLADE("refuseBlade"),
+    PLEDGE("pledge"),
+    BELIEVE("believe"),
+    BREAK("break"),
+    KILL("kill"),
+    DIVINE("divine"),
+    HATE("hate"),
+    STOP("stop"),
+    SELF("self"),
+    GRAB("grab"),
+    CONFIRMLOOP("confirmLoop"),
+    NOTDEAD("notDead"),
+    BODY("body"),
+    WHYBACK("whyBack"),
+    SUPPOSED("supposed"),
+    HELP("help"),
+    IFONLYHARSH("ifOnlyHarsh"),
+    VICTIM("victim"),
+    SORRYA("sorryA"),
+    GROVEL("grovel"),
+    SORRYB("sorryB"),
+    WANTA("wantA"),
+    IFONLYSOFT("ifOnlySoft"),
+    ALSODEAD("alsoDead"),
+    BONESASK("bonesAsk"),
+    WORLDENDHARSH("worldEndHarsh"),
+    HOWHURT("howHurt"),
+    WORLDENDA("worldEndA"),
+    WORLDENDB("worldEndB"),
+    WORLDENDC("worldEndC"),
+    WANTB("wantB"),
+    WANTHARSH("wantHarsh"),
+    WALLS("walls"),
+    THOUGHTS("thoughts"),
+    POSSESS("possess"),
+    SMASHBONES("smashBones"),
+    SLAYHARSH("slayHarsh"),
+    GRABHARSH("grabHarsh"),
+    LEAVESOFT("leaveSoft"),
+    LEAVEHARSH("leaveHarsh"),
+    SLAYSOFT("slaySoft"),
+    GRABSOFT("grabSoft"),
+    DEFEND("defend"),
+    END1("end1"),
+    END2("end2"),
+    YESNO("yesNo"),
+    GROVEL2("grovel2"),
+    WRONG("wrong"),
+    WHATDO("whatDo"),
+    WEREYOU("wereYou"),
+    WHATDO2("whatDo2"),
+    WHATDO3("whatDo3"),
+    GROVEL1("grovel1"),
+    WONT("wont"),
+    TEMP("temp"),
+    CONTROL("control"),
+    WORLDEND("worldEnd"),
+    MISS("miss"),
+    AFRAID("afraid"),
+    AWAY("away"),
+    CONT("cont"),
+    OPEN("open"),
+    THROW("throw"),
+    NOPLAN("noPlan"),
+    STEPOFF("stepOff"),
+    CURIOUS("curious"),
+    DUNNO("dunno"),
+    LEFT("left"),
+    RIGHT("right"),
+    NOTHING("nothing"),
+    BACK("back"),
+    WHYNOKILL("whyNoKill"),
+    WHYTHREAT("whyThreat"),
+    PEOPLE("people"),
+    SEPARATE("separate"),
+    AGONY("agony"),
+    DIETHEN("dieThen"),
+    INFINITE("infinite"),
+    LUNATIC("lunatic"),
+    TURNOFF("turnOff"),
+    CANDIE("canDie"),
+    IFREFUSE("ifRefuse"),
+    FRIENDS("friends"),
+    REMAINBLADE("remainBlade"),
+    REMAINNOBLADE("remainNoBlade"),
+    LEAVEA("leaveA"),
+    LEAVEB("leaveB"),
+    SUGGEST("suggest"),
+    STAIRS("stairs"),
+    LOCKED("locked"),
+    COMEBACK("comeBack"),
+    SECRET1("secret1"),
+    SECRET2("secret2"),
+    SECRET3("secret3"),
+    SECRET4("secret4"),
+    SECRET5("secret5"),
+    COMPANY("company"),
+    BIOLOGY("biology"),
+    LONELY("lonely"),
+    SUICIDE("suicide"),
+    KNIFE2("knife2"),
+    KNIFE3("knife3"),
+    STAB("stab"),
+    LASTTIME1("lastTime1"),
+    LASTTIME2("lastTime2"),
+    KNIFE1("knife1"),
+    SUSPICIOUS("suspicious"),
+    KEY("key"),
+    GOODWILL("goodWill"),
+    LASTKILL("lastKill"),
+    MAD("mad"),
+    HONEST("honest"),
+    NOBODY("nobody"),
+    LETOUT("letOut"),
+    ACTIVITIES("activities"),
+    BYE("bye"),
+    RIGHTBACK("rightBack"),
+    WHERE("where"),
+    CHAINS("chains"),
+    HAVETO("haveTo"),
+    MOVE("move"),
+    FREEZE("freeze"),
+    PLAYDEAD("playDead"),
+    TIRED("tired"),
+    WHAT("what"),
+    WHYEAT("whyEat"),
+    HIDE("hide"),
+    ASKED("asked"),
+    THREATEXPLORE("threatExplore"),
+    NEED("need"),
+    FREEDOM("freedom"),
+    THREATA("threatA"),
+    THREATB("threatB"),
+    CLAW("claw"),
+    DIG("dig"),
+    SURRENDERA("surrenderA"),
+    SURRENDERB("surrenderB"),
+    NOTNASTY("notNasty"),
+    MISTAKE("mistake"),
+    GETOUTA("getOutA"),
+    NOTHAPPY("notHappy"),
+    BYGONES("bygones"),
+    TRUSTED("trusted"),
+    MESSY("messy"),
+    CUTA("cutA"),
+    CUTB("cutB"),
+    GETOUTB("getOutB"),
+    BETRAY("betray"),
+    OFFER("offer"),
+    SLAYYAP("slayYap"),
+    SLAYSILENT("slaySilent"),
+    IMPLORE("implore"),
+    REFUSE2("refuse2"),
+    PRAISE("praise"),
+    NOPRAISE("noPraise"),
+    BROKEN("broken"),
+    DAMN("damn"),
+    NEVER("never"),
+    TRUST("trust"),
+    FORCE("force"),
+    PLEAD("plead"),
+    BACKOUT("backOut"),
+    YOURCHOICE("yourChoice"),
+    BEAUTIFUL("beautiful"),
+    SOMEONE("someone"),
+    MUTUAL("mutual"),
+    SUCKS("sucks"),
+    ANIMALS("animals"),
+    DEJAVU("dejaVu"),
+    WISE("wise"),
+    DIED("died"),
+    ASSUME("assume"),
+    ABORT("abort"),
+    KEEP("keep"),
+    REVERSE("reverse"),
+    CENTER("center"),
+    WEIRD("weird"),
+    THREATSHARE("threatShare"),
+    ENDING("ending"),
+    OKAY("okay"),
+    BEST("best"),
+    DESTROYED("destroyed"),
+    HEY("hey"),
+    SIT("sit"),
+    INSPECT("inspect"),
+    LOCKEDBEG("lockedBeg"),
+    INTENTIONSA("intentionsA"),
+    INTENTIONSB("intentionsB"),
+    HEAD("head"),
+    OTHERCHAIN("otherChain"),
+    NOGIVEA("noGiveA"),
+    DISTRUST("distrust"),
+    NOGIVEB("noGiveB"),
+    NOGIVEC("noGiveC"),
+    THREATEN("threaten"),
+    NEGOTIATE("negotiate"),
+    GIVEBLADE("giveBlade"),
+    CUTATTEMPT("cutAttempt"),
+    SLAYA("slayA"),
+    SLAYB("slayB"),
+    SLAYC("slayC"),
+    KNOW("know"),
+    SMALLTALK("smallTalk"),
+    HAPPY("happy"),
+    ACCEPTA("acceptA"),
+    ACCEPTB("acceptB"),
+    ACCEPTC("acceptC"),
+    PARANOID("paranoid"),
+    HAPPY2("happy2"),
+    CHEATED("cheated"),
+    KILLED("killed"),
+    HOWFREENOBLADE("howFreeNoBlade"),
+    HOWFREEBLADE("howFreeBlade"),
+    AFTER("after"),
+    RESCUE("rescue"),
+    NEUTRAL("neutral"),
+    BURN("burn"),
+    PARROT("parrot"),
+    MAKEYOU("makeYou"),
+    OWNTHING("ownThing"),
+    UNHAPPY("unhappy"),
+    ENDWORLD("endWorld"),
+    LEAVEC("leaveC"),
+    HER("her"),
+    TOGETHER("together"),
+    ALONE("alone"),
+    NONCHALANCE("nonchalance"),
+    CANTDIE15("cantDie15"),
+    CANTDIE0("cantDie0"),
+    CANTDIE1("cantDie1"),
+    CANTDIE2("cantDie2"),
+    CANTDIE3("cantDie3"),
+    CANTDIE4("cantDie4"),
+    CANTDIE5("cantDie5"),
+    CANTDIE6("cantDie6"),
+    CANTDIE7("cantDie7"),
+    CANTDIE8("cantDie8"),
+    CANTDIE9("cantDie9"),
+    CANTDIE10("cantDie10"),
+    CANTDIE11("cantDie11"),
+    CANTDIE12("cantDie12"),
+    CANTDIE13("cantDie13"),
+    CANTDIE14("cantDie14"),
+    CANTDIE16("cantDie16"),
+    CANTDIE17("cantDie17"),
+    CANTDIE18("cantDie18"),
+    CANTDIE19("cantDie19"),
+    ATTACK0("attack0"),
+    ATTACK1("attack1"),
+    ATTACK2("attack2"),
+    ATTACK3("attack3"),
+    ATTACK4("attack4"),
+    ATTACK5("attack5"),
+    ATTACK6("attack6"),
+    ATTACK7("attack7"),
+    ATTACK8("attack8"),
+    ATTACK9("attack9"),
+
+    // Chapter III
+    PLAN("plan"),
+    PROCEEDA("proceedA"),
+    PROCEEDB("proceedB"),
+    MIRRORA("mirrorA"),
+    MIRRORB("mirrorB"),
+    MIRRORC("mirrorC"),
+    SMASH("smash"),
+    TAUNT("taunt"),
+    SPACE("space"),
+    PACIFISM("pacifism"),
+    TRAP("trap"),
+    FREEA("freeA"),
+    FREEB("freeB"),
+    OTHERA("otherA"),
+    OTHERB("otherB"),
+    OTHERC("otherC"),
+    PULLED("pulled"),
+    NORETURN("noReturn"),
+    DECISIONS("decisions"),
+    OVERRIDE("override"),
+    HELLYEAH("hellYeah"),
+    LISTEN("listen"),
+    ROUND3A("round3A"),
+    ROUND3B("round3B"),
+    LET("let"),
+    TALKA("talkA"),
+    TALKB("talkB"),
+    TALKC("talkC"),
+    TALKD("talkD"),
+    HEART("heart"),
+    INSIDES("insides"),
+    ENGAGE("engage"),
+    ENDGAME("endGame"),
+    SUBMIT("submit"),
+    LOSE("lose"),
+    CANT("cant"),
+    WORSE("worse"),
+    DIE2("die2"),
+    DIE3("die3"),
+    DIE4("die4"),
+    FAKEA("fakeA"),
+    FAKEB("fakeB"),
+    FAKEC("fakeC"),
+    FAKED("fakeD"),
+    FAKEE("fakeE"),
+    FAKEF("fakeF"),
+    HERE("here"),
+    NOFIGHT("noFight"),
+    GOAL("goal"),
+    OFF("off"),
+    AWFUL("awful"),
+    ALL("all"),
+    LEAVETELL("leaveTell"),
+    HAND("hand"),
+    ALONEA("aloneA"),
+    ALONEB("aloneB"),
+    OFFERB("offerB"),
+    OFFERC("offerC"),
+    ANSWERS("answers"),
+    STILL("still"),
+    DREAM("dream"),
+    SCREAM("scream"),
+    HURTING("hurting"),
+    TENDRILS("tendrils"),
+    ME("me"),
+    MEAN("mean"),
+    HEAR("hear"),
+    WORLD("world"),
+    LOOPJOKE("loopJoke"),
+    HAPPENEDA("happenedA"),
+    TONE("tone"),
+    OUT("out"),
+    OTHERS("others"),
+    GHOST("ghost"),
+    HAPPENEDB("happenedB"),
+    TITLEA("titleA"),
+    TITLEB("titleB"),
+    LAUGH("laugh"),
+    PROMISE("promise"),
+    NAMES("names"),
+    PROMISED("promised"),
+    HERO("hero"),
+    LIVES("lives"),
+    MHM("mhm"),
+    HUMBLE("humble"),
+    BIRD("bird"),
+    DRAGON("dragon"),
+    ACCURATE("accurate"),
+    LOOK("look"),
+    TELL("tell"),
+    DONT("dont"),
+    ARGUING("arguing"),
+    RUDEHARSH("rudeHarsh"),
+    RUDESOFT("rudeSoft"),
+    ASSERTIVE("assertive"),
+    RUDE("rude"),
+    FIGURE("figure"),
+    GIVE("give"),
+    LOOP("loop"),
+    DONTGO("dontGo"),
+    ABORTA("abortA"),
+    ABORTB("abortB"),
+    EVEN("even"),
+    BARTER("barter"),
+    CONSENTA("consentA"),
+    CONSENTB("consentB"),
+    STRUGGLE("struggle"),
+    ABYSS("abyss"),
+    HOWMANYA("howManyA"),
+    HOWMANYB("howManyB"),
+    DECIDER("decider"),
+    NOTME("notMe"),
+    SENSE("sense"),
+    DISJOINTED("disjointed"),
+    TAKEA("takeA"),
+    FALSEA("falseA"),
+    FALSEB("falseB"),
+    FALSEC("falseC"),
+    TAKEB("takeB"),
+    FALSED("falseD"),
+    FALSEE("falseE"),
+    COLDA("coldA"),
+    STUBBORN("stubborn"),
+    OPPO("oppo"),
+    HUNTED("hunted"),
+    SMITTEN("smitten"),
+    PARA("para"),
+    COLDB("coldB"),
+    COLDNWO("coldNWO"),
+    CONTRA("contra"),
+    SKEPTIC("skeptic"),
+    CHEER("cheer"),
+    SEE("see"),
+    DONE("done"),
+    WINNER("winner"),
+    STABBING("stabbing"),
+    GOODSIDE("goodSide"),
+    BORED("bored"),
+    FACTS("facts"),
+    GORGEOUS("gorgeous"),
+    GETYOU("getYou"),
+    DINNER("dinner"),
+    THELOOK("TheLook"),
+    EMPTY("empty"),
+    EMPTY2("empty2"),
+    DENPLAN("Plan"),
+    UNFINISHED("unfinished"),
+    DONTHAVE("dontHave"),
+    LURE("lure"),
+    INSTINCT("instinct"),
+    APPROACHDROP("approachDrop"),
+    APPROACHBLADE("approachBlade"),
+    APPROACHNOBLADE("approachNoBlade"),
+    FLINCH("flinch"),
+    PULL("pull"),
+    WIGGLE("wiggle"),
+    BEG("beg"),
+    BOTH("both"),
+    MINE("mine"),
+    YOURS("yours"),
+    NARRATOR("narrator"),
+    ASKNARRATOR("askNarrator"),
+    PRINCESSASKA("princessAskA"),
+    PUSHA("pushA"),
+    PASSIVEA("passiveA"),
+    PASSIVEB("passiveB"),
+    PASSIVEWITCH("passiveWitch"),
+    PASSIVEBEAST("passiveBeast"),
+    PUSHB("pushB"),
+    PRINCESSASKB("princessAskB"),
+    PRINCESSASKC("princessAskC"),
+    ABOMINATION("abomination"),
+    PUSHC("pushC"),
+    PASSIVEC("passiveC"),
+    REMEMBER("remember"),
+    PRINCESS("princess"),
+    INTENTFREE("intentFree"),
+    INTENTNEUTRAL("intentNeutral"),
+    INTENTHARSH("intentHarsh"),
+    LOOPING("looping"),
+    WAYOUT("wayOut"),
+    INTRO("intro"),
+    FOLLOW("follow"),
+    CHANGE("change"),
+    BLADEASK("bladeAsk"),
+    BLADEA("bladeA"),
+    BLADEB("bladeB"),
+    LEAVEBLADE("leaveBlade"),
+    KISS("kiss"),
+    STEP("step"),
+    RUSH("rush"),
+    VOID("void"),
+    TOSS("toss"),
+    TALKE("talkE"),
+    FIX("fix"),
+    NOBLADE("noBlade"),
+    CUTFAIL("cutFail"),
+    SWING("swing"),
+    CUTCONT("cutCont"),
+    NONE("none"),
+    WATCHER("watcher"),
+    CHOICES("choices"),
+    FORCED("forced"),
+    SETUP("setup"),
+    WILL("will"),
+    RIPPED("ripped"),
+    DO("do"),
+    PATTERN("pattern"),
+    GUESS("guess"),
+    TOSS1("toss1"),
+    TOSS2("toss2"),
+    ALREADY("already"),
+    CHOSE("chose"),
+    GUARD("guard"),
+    RAIN("rain"),
+    NOCABIN("noCabin"),
+    CHARGE("charge"),
+    NOWANT("noWant"),
+    ANYONE("anyone"),
+    WEAPON("weapon"),
+    GREYWHY("Why"),
+    GREYKILL("Kill"),
+    GREYDIE("Die"),
+    GREYWRONG("Wrong"),
+    GREYEVEN("Even"),
+    GREYBEG("Beg"),
+    GREYSORRY("Sorry"),
+    GREYBLADE("Blade"),
+    GREYDOOR("Door"),
+    REACH("reach"),
+    SMITTENSKEPTIC("smittenSkeptic"),
+    SMITTENOPPO("smittenOppo"),
+    TORCH("torch"),
+    TRUTH("truth"),
+    EVERYTHING("everything"),
+    SHADOWA("shadowA"),
+    SHADOWB("shadowB"),
+    HIM("him"),
+    PLACE("place"),
+    GAMES("games"),
+    NOWWHAT("nowWhat"),
+    CANTLEAVE("cantLeave"),
+    GETUPA("getUpA"),
+    GETUPB("getUpB"),
+    REAL("real"),
+    NEEDS("needs"),
+    THAT("that"),
+    FIND("find"),
+    US("us"),
+    NEITHER("neither"),
+    NOFIGHTOPTIONS("noFightOptions"),
+
+    // The End of Everything
+    YOURNEWWORLD1("yourNewWorld1"),
+    YOURNEWWORLD2("yourNewWorld2"),
+    YOURNEWWORLD3("yourNewWorld3"),
+    VESSEL1("vessel1"),
+    VESSEL2("vessel2"),
+    VESSEL3("vessel3"),
+    VESSEL4("vessel4"),
+    VESSEL5("vessel5"),
+    VESSEL6("vessel6"),
+    VESSEL7("vessel7"),
+    VESSEL8("vessel8"),
+    VESSEL9("vessel9"),
+    VESSEL10("vessel10"),
+    APPEAL1("appeal1"),
+    APPEAL2("appeal2"),
+    APPEAL3("appeal3"),
+    APPEAL4("appeal4"),
+    APPEAL5("appeal5"),
+    LECTURE1("lecture1"),
+    LECTURE2("lecture2"),
+    LECTURE3("lecture3"),
+    LECTURE4("lecture4"),
+    LECTURE5("lecture5"),
+    ASSERT1("assert1"),
+    ASSERT2("assert2"),
+    ASSERT3("assert3"),
+    ASSERT4("assert4"),
+    ASSERT5A("assert5A"),
+    ASSERT5B("assert5B"),
+    REJECT1("reject1"),
+    REJECT2("reject2"),
+    REJECT3("reject3"),
+    REJECT4("reject4"),
+    REJECT5("reject5"),
+    SURRENDER("surrender"),
+
+    // The Spaces Between and every Chapter
+    GONE("gone"),
+    CRUEL("cruel"),
+    COMFORTA("comfortA"),
+    COMFORTB("comfortB"),
+    GAZE("gaze"),
+    ASK("ask"),
+    FRAGILE("fragile"),
+    TRAPPED("trapped"),
+    WORLDS("worlds"),
+    FAMILIAR("familiar"),
+    WHATNOW("whatNow"),
+    YOUTHINK("youThink"),
+    PERSON("person"),
+    PRESS("press"),
+    HOWMUCH("howMuch"),
+    PIECES("pieces"),
+    DESTROY("destroy"),
+    FORGET("forget"),
+    RIDDLE("riddle"),
+    SAME("same"),
+    WALL("wall"),
+    KINDA("kindA"),
+    KINDB("kindB"),
+    REQUESTS("requests"),
+    PREFERENCES("preferences"),
+    FEELINGSA("feelingsA"),
+    FEELINGSB("feelingsB"),
+    HOWMANY("howMany"),
+    PRETENSION("pretension"),
+    NOEXIST("noExist"),
+    HOW("how"),
+    VESSEL("vessel"),
+    REQUESTSA("requestsA"),
+    REQUESTSB("requestsB"),
+    DISTANT("distant"),
+    MEH("meh"),
+    TORTURE("torture"),
+    RHETORICAL("rhetorical"),
+    TREES("trees"),
+    AWAKEN("awaken"),
+    REFUSEA("refuseA"),
+    REFUSEB("refuseB"),
+    FACT("fact"),
+    EMBRACE("embrace"),
+    EXIST("exist"),
+    FADE("fade"),
+
+    // Menus shared by every Chapter II (Scripts/Menus/Chapter2Shared.txt)
+    DEJAVU2("dejaVu2"),
+    KILLEDSELF("killedSelf"),
+    ALREADYKILLED("alreadyKilled"),
+    SLEWHER("slewHer"),
+    DEFY("defy"),
+
+    // Meta menus
+    ATTACKMOUND("attackMound"),
+    ATTACKSELF("attackSelf"),
+
+    // Meta menus (Scripts/Menus/Meta.txt)
+    WARNINGS("warnings"),
+    NOWPLAYING("nowPlaying"),
+    SLOWPRINT("slowPrint"),
+    AUTOADVANCE("autoAdvance"),
+    RESETACHIEVEMENTS("resetAchievements"),
+    CANCEL("cancel"),
+    ACHIEVEMENTS("achievements"),
+    BYCHAPTER("by chapter"),
+    CURRENT("current"),
+
+    // The Achievement Gallery
+    GENERAL("general"),
+    RESET("reset"),
+    FIRST("first"),
+    PREV("prev"),
+    NEXT("next"),
+    LAST("last"),
+    CH1("ch1"),
+    INTERMISSION("intermission"),
+    FINALE("finale"),
+    ADVERSARY("adversary"),
+    TOWER("tower"),
+    SPECTRE("spectre"),
+    NIGHTMARE("nightmare"),
+    RAZOR("razor"),
+    BEAST("beast"),
+    WITCH("witch"),
+    STRANGER("stranger"),
+    PRISONER("prisoner"),
+    DAMSEL("damsel"),
+    NEEDLE("needle"),
+    FURY("fury"),
+    APOTHEOSIS("apotheosis"),
+    WRAITH("wraith"),
+    CLARITY("clarity"),
+    DEN("den"),
+    WILD("wild"),
+    THORN("thorn"),
+    CAGE("cage"),
+    GREY("grey");
+
+    private final String id;
+    private final boolean command;
+
+    private static final HashMap<String, Outcome> BYID = new HashMap<>();
+
+    static {
+        for (Outcome o : values()) BYID.put(o.id, o);
+    }
+
+    // --- CONSTRUCTOR ---
+
+    /**
+     * Constructor
+     * @param id the ID-String of the Outcome
+     */
+    private Outcome(String id) {
+        this.id = id;
+        this.command = id.length() > 1 && id.charAt(0) == 'c' && Character.isUpperCase(id.charAt(1));
+    }
+
+    // --- ACCESSORS & CHECKS ---
+
+    /**
+     * Accessor for id
+     * @return the ID-String of this Outcome
+     */
+    public String getID() {
+        return this.id;
+    }
+
+    /**
+     * Checks whether this Outcome is the result of a command rather than a chosen Option
+     * @return true if this Outcome is the result of a command; false if it is the ID of an Option
+     */
+    public boolean isCommand() {
+        return this.command;
+    }
+
+    /**
+     * Returns the ID-String of this Outcome, so Outcomes can be appended to the names of Script sections
+     * @return the ID-String of this Outcome
+     */
+    @Override
+    public String toString() {
+        return this.id;
+    }
+
+    /**
+     * Returns the Outcome with the given ID-String
+     * @param id the ID-String to look up
+     * @return the Outcome with the given ID-String, or null if there is none
+     */
+    public static Outcome getOutcome(String id) {
+        return BYID.get(id);
+    }
+
+}
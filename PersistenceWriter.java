@@ -0,0 +1,127 @@
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PersistenceWriter {
+
+    // A single background thread performs every write, so game threads never wait on the disk
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "persistence-writer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Targets with changes that have not been written yet; a target is only queued once no matter how many times it changes before the write
+    private static final Set<Flushable> DIRTY = ConcurrentHashMap.newKeySet();
+
+    private static final AtomicLong NSUBMITTED = new AtomicLong();
+    private static final AtomicLong NWRITES = new AtomicLong();
+    private static final AtomicLong NFAILURES = new AtomicLong();
+    private static final AtomicLong TOTALWRITENANOS = new AtomicLong();
+    private static final AtomicLong MAXWRITENANOS = new AtomicLong();
+
+    private static final long SHUTDOWNTIMEOUT = 5; // The maximum number of seconds to wait for pending writes on shutdown
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(PersistenceWriter::shutdown, "persistence-shutdown"));
+    }
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private PersistenceWriter() {}
+
+    // --- WRITING ---
+
+    /**
+     * Marks a given target as having unwritten changes, scheduling it to be flushed on the background thread unless it is already scheduled
+     * @param target the target to flush
+     */
+    public static void submit(Flushable target) {
+        NSUBMITTED.incrementAndGet();
+        if (!DIRTY.add(target)) return;
+
+        try {
+            WRITER.execute(() -> write(target));
+        } catch (RejectedExecutionException e) {
+            // The writer has already shut down, so write immediately instead
+            write(target);
+        }
+    }
+
+    /**
+     * Flushes a given target, recording how long it took
+     * @param target the target to flush
+     */
+    private static void write(Flushable target) {
+        // Removed before writing, so any changes made during the write schedule another one
+        DIRTY.remove(target);
+
+        long start = System.nanoTime();
+        try {
+            target.flush();
+        } catch (IOException | RuntimeException e) {
+            NFAILURES.incrementAndGet();
+            System.out.println("[DEBUG: Failed to write " + target + ": " + e + "]");
+        }
+
+        long elapsed = System.nanoTime() - start;
+        NWRITES.incrementAndGet();
+        TOTALWRITENANOS.addAndGet(elapsed);
+        MAXWRITENANOS.accumulateAndGet(elapsed, Math::max);
+    }
+
+    /**
+     * Finishes every pending write, then writes anything still waiting on the calling thread
+     */
+    public static void shutdown() {
+        WRITER.shutdown();
+        try {
+            WRITER.awaitTermination(SHUTDOWNTIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (Flushable target : DIRTY) write(target);
+    }
+
+    // --- METRICS ---
+
+    /**
+     * Returns the number of targets waiting to be written
+     * @return the number of targets waiting to be written
+     */
+    public static int queueDepth() {
+        return DIRTY.size();
+    }
+
+    /**
+     * Returns the number of writes performed so far
+     * @return the number of writes performed so far
+     */
+    public static long nWrites() {
+        return NWRITES.get();
+    }
+
+    /**
+     * Returns a short summary of the writes performed so far
+     * @return a short summary of the writes performed so far
+     */
+    public static String getMetricsReport() {
+        long nWrites = NWRITES.get();
+        double averageMillis = (nWrites == 0) ? 0 : TOTALWRITENANOS.get() / (nWrites * 1000000.0);
+
+        String s = "Persistence: " + DIRTY.size() + " queued, " + nWrites + " writes for " + NSUBMITTED.get() + " changes, " + NFAILURES.get() + " failed";
+        s += String.format(", %.2f ms average, %.2f ms max", averageMillis, MAXWRITENANOS.get() / 1000000.0);
+        return s;
+    }
+
+}
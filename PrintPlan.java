@@ -0,0 +1,199 @@
+public class PrintPlan {
+
+    private final char[] chars; // The characters to print, with indicator characters (`) removed
+    private final int[] delays; // The time to wait after printing each character, in milliseconds
+    private final long totalTime;
+
+    private static final int WAITTIME = 30;
+    private static final int COMMAWAITTIME = 150;
+    private static final int PUNCTWAITTIME = 200;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param chars the characters to print
+     * @param delays the time to wait after printing each character, in milliseconds
+     */
+    private PrintPlan(char[] chars, int[] delays) {
+        this.chars = chars;
+        this.delays = delays;
+
+        long totalTime = 0;
+        for (int delay : delays) {
+            totalTime += delay;
+        }
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * Precomputes the typewriter schedule for a given String
+     * @param s the (already wrapped) String to print
+     * @param pauseAtPunctuation whether to pause for an extended time after punctuation or not
+     * @param speedMultiplier the multiplier to apply to the standard speed of printing a line
+     * @param speedIndex the index of the last character printed at standard speed before speedMultiplier takes effect, or -1 if it applies to the entire String
+     * @param isInterrupted whether the line being printed is interrupted
+     * @return the schedule for printing s
+     */
+    public static PrintPlan create(String s, boolean pauseAtPunctuation, double speedMultiplier, int speedIndex, boolean isInterrupted) {
+        char[] raw = s.toCharArray();
+        char[] chars = new char[raw.length];
+        int[] delays = new int[raw.length];
+        int nChars = 0;
+
+        int punctDelayLength = 0;
+        boolean doubleTimeFlag = false;
+
+        int activeWaitTime;
+        int waitTime = WAITTIME;
+        int commaWaitTime = COMMAWAITTIME;
+        int punctWaitTime = PUNCTWAITTIME;
+        if (speedIndex < 0) {
+            waitTime = (int)(WAITTIME / speedMultiplier);
+            commaWaitTime = (int)(COMMAWAITTIME / speedMultiplier);
+            punctWaitTime = (int)(PUNCTWAITTIME / speedMultiplier);
+        }
+
+        for (int i = 0; i < raw.length; i++) {
+            if (raw[i] == '`') {
+                doubleTimeFlag = true;
+                continue;
+            }
+
+            try {
+                if (punctDelayLength != 0 && DialogueLine.isDelayChar(raw[i])) {
+                    if (i == raw.length - 1) {
+                        if (punctDelayLength == 1) activeWaitTime = commaWaitTime;
+                        else activeWaitTime = punctWaitTime;
+                    } else if (!DialogueLine.isDelayChar(raw[i+1])) {
+                        if (punctDelayLength == 1) activeWaitTime = commaWaitTime;
+                        else activeWaitTime = punctWaitTime;
+
+                        punctDelayLength = 0;
+                    } else {
+                        activeWaitTime = waitTime;
+                    }
+                } else if (pauseAtPunctuation && DialogueLine.isPunctuation(raw[i])) {
+                    if (raw[i] == '-') {
+                        if (raw[i-1] != '-') {
+                            activeWaitTime = waitTime;
+                        } else if (i == raw.length - 1) {
+                            if (isInterrupted) activeWaitTime = commaWaitTime;
+                            else activeWaitTime = punctWaitTime;
+                        } else if (Character.isWhitespace(raw[i+1])) {
+                            if (DialogueLine.isDelayChar(raw[i+2])) {
+                                punctDelayLength = 2;
+                                activeWaitTime = waitTime;
+                            } else {
+                                activeWaitTime = punctDelayLength;
+                            }
+                        } else if (DialogueLine.isDelayChar(raw[i+1])) {
+                            if (DialogueLine.isPunctuation(raw[i+1])) {
+                                punctDelayLength = 2;
+                            } else if (isInterrupted) {
+                                punctDelayLength = 1;
+                            } else {
+                                punctDelayLength = 2;
+                            }
+
+                            activeWaitTime = waitTime;
+                        } else {
+                            activeWaitTime = waitTime;
+                        }
+                    } else if (raw[i] == ',') {
+                        if (i == raw.length - 1) {
+                            activeWaitTime = commaWaitTime;
+                        } else if (DialogueLine.isDelayChar(raw[i+1])) {
+                            punctDelayLength = 1;
+                            activeWaitTime = waitTime;
+                        } else {
+                            activeWaitTime = commaWaitTime;
+                        }
+                    } else {
+                        if (i == raw.length - 1) {
+                            activeWaitTime = punctWaitTime;
+                        } else if (DialogueLine.isDelayChar(raw[i+1])) {
+                            punctDelayLength = 2;
+                            activeWaitTime = waitTime;
+                        } else {
+                            activeWaitTime = punctWaitTime;
+                        }
+                    }
+                } else {
+                    activeWaitTime = waitTime;
+                }
+            } catch (IndexOutOfBoundsException e) {
+                activeWaitTime = waitTime;
+            }
+
+            if (doubleTimeFlag) {
+                doubleTimeFlag = false;
+                activeWaitTime *= 2;
+            }
+
+            chars[nChars] = raw[i];
+            delays[nChars] = activeWaitTime;
+            nChars += 1;
+
+            if (i == speedIndex) {
+                waitTime = (int)(waitTime / speedMultiplier);
+                commaWaitTime = (int)(commaWaitTime / speedMultiplier);
+                punctWaitTime = (int)(punctWaitTime / speedMultiplier);
+            }
+        }
+
+        if (nChars == raw.length) return new PrintPlan(chars, delays);
+
+        char[] trimmedChars = new char[nChars];
+        int[] trimmedDelays = new int[nChars];
+        System.arraycopy(chars, 0, trimmedChars, 0, nChars);
+        System.arraycopy(delays, 0, trimmedDelays, 0, nChars);
+        return new PrintPlan(trimmedChars, trimmedDelays);
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Returns the number of characters printed by this plan
+     * @return the number of characters printed by this plan
+     */
+    public int length() {
+        return this.chars.length;
+    }
+
+    /**
+     * Returns the character printed at a given step of this plan
+     * @param index the index of the step
+     * @return the character printed at step index
+     */
+    public char charAt(int index) {
+        return this.chars[index];
+    }
+
+    /**
+     * Returns the time to wait after a given step of this plan
+     * @param index the index of the step
+     * @return the time to wait after printing the character at step index, in milliseconds
+     */
+    public int delayAt(int index) {
+        return this.delays[index];
+    }
+
+    /**
+     * Accessor for totalTime
+     * @return the total time it takes to print this plan, in milliseconds
+     */
+    public long getTotalTime() {
+        return this.totalTime;
+    }
+
+    /**
+     * Returns the text printed by this plan
+     * @return the text printed by this plan
+     */
+    @Override
+    public String toString() {
+        return new String(this.chars);
+    }
+
+}
@@ -0,0 +1,161 @@
+import java.util.ArrayList;
+import java.util.Objects;
+
+public class PromptHistory {
+
+    /*
+     * Cycle state lives in the locals of long chapter methods, so the game cannot jump back into the middle of a vessel directly.
+     * Instead, every line the player enters since the checkpoint is recorded, along with a snapshot of the Cycle's flags and the menu's pick counts at each menu they choose from.
+     * Undoing restores the checkpoint and replays the recorded input up to the last menu, checking each snapshot on the way to make sure the replay took the same route.
+     */
+
+    private final ArrayList<String> inputs; // Every line the player has entered since the checkpoint
+    private final ArrayList<SessionSnapshot> menus; // The state of the session at each menu the player has chosen from since the checkpoint, in order
+    private final ArrayList<Integer> menuInputs; // The number of lines entered before each menu in menus was reached
+
+    private int nInputsAtMenu = 0; // The number of lines entered before the menu currently being offered was reached
+    private SessionSnapshot target = null; // While replaying, the state of the menu to hand back to the player at; null if not replaying
+    private int nInputsReplayed = 0;
+    private int nMenusReplayed = 0;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     */
+    public PromptHistory() {
+        this.inputs = new ArrayList<>();
+        this.menus = new ArrayList<>();
+        this.menuInputs = new ArrayList<>();
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Checks whether the game is currently being replayed up to an earlier menu
+     * @return true if the game is being replayed; false otherwise
+     */
+    public boolean isReplaying() {
+        return this.target != null;
+    }
+
+    /**
+     * Checks whether there is a choice to undo
+     * @return true if the player has chosen from at least one menu since the checkpoint and the game is not being replayed; false otherwise
+     */
+    public boolean canUndo() {
+        return !this.menus.isEmpty() && !this.isReplaying();
+    }
+
+    /**
+     * Returns the number of menus the player has chosen from since the checkpoint
+     * @return the number of menus the player has chosen from since the checkpoint
+     */
+    public int nMenus() {
+        return this.menus.size();
+    }
+
+    // --- RECORDING ---
+
+    /**
+     * Forgets everything recorded so far; called whenever a new checkpoint is taken
+     */
+    public void clear() {
+        this.inputs.clear();
+        this.menus.clear();
+        this.menuInputs.clear();
+        this.nInputsAtMenu = 0;
+        this.target = null;
+    }
+
+    /**
+     * Records a line entered by the player, unless it is being replayed
+     * @param line the line entered by the player
+     */
+    public void recordInput(String line) {
+        if (!this.isReplaying()) this.inputs.add(line);
+    }
+
+    /**
+     * Records that a menu has been reached; while replaying, checks that it was reached in the same state as before
+     * @param state the flags of the current Cycle and the pick counts of the menu
+     * @return true if this is the menu the replay was heading for, and the player should choose from it again; false otherwise
+     * @throws RuntimeException if the replay reached the menu in a different state than the player did
+     */
+    public boolean reachMenu(SessionSnapshot state) {
+        if (!this.isReplaying()) {
+            this.nInputsAtMenu = this.inputs.size();
+            return false;
+        }
+
+        boolean reachedTarget = this.nMenusReplayed == this.menus.size();
+        SessionSnapshot expected = (reachedTarget) ? this.target : this.menus.get(this.nMenusReplayed);
+        if (!sameState(expected, state)) throw new RuntimeException("Undo replay reached menu " + this.nMenusReplayed + " in a different state");
+
+        this.nMenusReplayed += 1;
+        if (reachedTarget) {
+            if (this.nInputsReplayed != this.inputs.size()) throw new RuntimeException("Undo replay reached its menu with input left over");
+            this.target = null;
+            this.nInputsAtMenu = this.inputs.size();
+        }
+
+        return reachedTarget;
+    }
+
+    /**
+     * Records that the player has chosen from a menu, unless it is being replayed
+     * @param state the state the menu was reached in
+     */
+    public void choseFromMenu(SessionSnapshot state) {
+        if (this.isReplaying()) return;
+
+        this.menus.add(state);
+        this.menuInputs.add(this.nInputsAtMenu);
+    }
+
+    // --- REPLAYING ---
+
+    /**
+     * Forgets the player's last choice from a menu, and everything entered since, then starts replaying up to that menu
+     * @throws RuntimeException if there is no choice to undo
+     */
+    public void undo() {
+        if (!this.canUndo()) throw new RuntimeException("No choice to undo");
+
+        int last = this.menus.size() - 1;
+        this.target = this.menus.remove(last);
+        int nInputs = this.menuInputs.remove(last);
+        this.inputs.subList(nInputs, this.inputs.size()).clear();
+
+        this.nInputsReplayed = 0;
+        this.nMenusReplayed = 0;
+    }
+
+    /**
+     * Returns the next line to replay
+     * @return the next line the player entered since the checkpoint
+     * @throws RuntimeException if every recorded line has already been replayed
+     */
+    public String nextInput() {
+        if (this.nInputsReplayed == this.inputs.size()) throw new RuntimeException("Undo replay ran out of input before reaching its menu");
+        return this.inputs.get(this.nInputsReplayed++);
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Checks whether two menu states hold the same values
+     * @param expected the state recorded while the player was playing
+     * @param actual the state reached while replaying
+     * @return true if every value in expected is equal to the value of the same name in actual; false otherwise
+     */
+    private static boolean sameState(SessionSnapshot expected, SessionSnapshot actual) {
+        if (!expected.getNames().equals(actual.getNames())) return false;
+        for (String name : expected.getNames()) {
+            if (!Objects.equals(expected.get(name), actual.get(name))) return false;
+        }
+
+        return true;
+    }
+
+}
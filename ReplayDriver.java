@@ -0,0 +1,146 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinTask;
+
+public class ReplayDriver implements ChoiceDriver {
+
+    private final RouteExplorer explorer;
+    private final GameManager manager;
+    private final int startDepth; // The number of choices made before the manager started playing
+    private int[] choices;
+    private int nChoicesMade = 0;
+
+    private SessionSnapshot checkpoint = null; // The most recent checkpoint the route has passed
+    private int nChoicesAtCheckpoint = 0; // The number of choices made before the most recent checkpoint
+    private final ArrayList<ForkJoinTask<?>> branches; // Routes started from the choices this route passed up
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param explorer the RouteExplorer to report newly reached menus and choices to
+     * @param manager the GameManager whose choices are being made
+     * @param startDepth the number of choices made before the manager starts playing
+     * @param choices the choices to make, in order, starting from wherever the manager starts playing; once they run out, the explorer decides each choice as the route reaches it
+     */
+    public ReplayDriver(RouteExplorer explorer, GameManager manager, int startDepth, int[] choices) {
+        this.explorer = explorer;
+        this.manager = manager;
+        this.startDepth = startDepth;
+        this.choices = choices;
+        this.branches = new ArrayList<>();
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for checkpoint
+     * @return the most recent checkpoint this route has passed, or null if it has not passed one yet
+     */
+    public SessionSnapshot getCheckpoint() {
+        return this.checkpoint;
+    }
+
+    /**
+     * Returns the number of choices made on this route before it passed its most recent checkpoint, including those made before the manager started playing
+     * @return the number of choices made on this route before it passed its most recent checkpoint
+     */
+    public int depthAtCheckpoint() {
+        return this.startDepth + this.nChoicesAtCheckpoint;
+    }
+
+    /**
+     * Returns the number of choices made on this route so far, including those made before the manager started playing
+     * @return the number of choices made on this route so far
+     */
+    public int depth() {
+        return this.startDepth + this.nChoicesMade;
+    }
+
+    /**
+     * Returns the choices this route has made since its most recent checkpoint
+     * @return the choices this route has made since its most recent checkpoint, in order
+     */
+    public int[] choicesSinceCheckpoint() {
+        return Arrays.copyOfRange(this.choices, this.nChoicesAtCheckpoint, this.nChoicesMade);
+    }
+
+    /**
+     * Records a route started from one of the choices this route passed up, to be waited on once this route has finished
+     * @param branch the route started
+     */
+    public void addBranch(ForkJoinTask<?> branch) {
+        this.branches.add(branch);
+    }
+
+    /**
+     * Accessor for branches
+     * @return every route started from the choices this route passed up
+     */
+    public ArrayList<ForkJoinTask<?>> getBranches() {
+        return this.branches;
+    }
+
+    // --- CHOICES ---
+
+    /**
+     * Chooses the next Option on this route from a given OptionsMenu
+     * @param menu the OptionsMenu being offered
+     * @return the number of the chosen Option, as the player would enter it
+     * @throws RouteBranchException if this route stops here
+     */
+    @Override
+    public int chooseOption(OptionsMenu menu) {
+        if (this.nChoicesMade == this.choices.length) this.explorer.recordMenu(this.manager, menu);
+        return this.next(menu.nAvailableOptions(), "menu");
+    }
+
+    /**
+     * Answers the next yes/no question on this route
+     * @return true to answer YES (choice 1), false to answer NO (choice 2)
+     * @throws RouteBranchException if this route stops here
+     */
+    @Override
+    public boolean chooseYesNo() {
+        return this.next(2, "yes/no question") == 1;
+    }
+
+    /**
+     * Free-text command prompts cannot be explored, so any route that reaches one stops there
+     * @return never returns
+     * @throws RouteBranchException always
+     */
+    @Override
+    public String enterCommand() {
+        throw new RouteBranchException(0, "command prompt");
+    }
+
+    /**
+     * Returns the next choice on this route; once the given choices have run out, the explorer starts every other branch from this point and this route carries on with the first
+     * @param nChoices the number of choices currently available
+     * @param kind a description of the kind of choice being made
+     * @return the next choice on this route
+     * @throws RouteBranchException if there are no choices available, or if the explorer stops this route here
+     */
+    private int next(int nChoices, String kind) {
+        SessionSnapshot checkpoint = this.manager.getCheckpoint();
+        if (checkpoint != this.checkpoint) {
+            // The manager has passed a new checkpoint since this route's last choice
+            this.checkpoint = checkpoint;
+            this.nChoicesAtCheckpoint = this.nChoicesMade;
+        }
+
+        if (nChoices == 0) throw new RouteBranchException(0, kind + " with no available choices");
+
+        if (this.nChoicesMade == this.choices.length) {
+            int choice = this.explorer.branch(this, nChoices);
+            if (choice == 0) throw new RouteBranchException(nChoices, kind);
+
+            this.choices = Arrays.copyOf(this.choices, this.choices.length + 1);
+            this.choices[this.nChoicesMade] = choice;
+        }
+
+        return this.choices[this.nChoicesMade++];
+    }
+
+}
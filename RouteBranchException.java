@@ -0,0 +1,29 @@
+public class RouteBranchException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int nChoices;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param nChoices the number of choices available at the point where the route stopped, or 0 if the route cannot continue
+     * @param message a description of the point where the route stopped
+     */
+    public RouteBranchException(int nChoices, String message) {
+        super(message, null, false, false);
+        this.nChoices = nChoices;
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for nChoices
+     * @return the number of choices available at the point where the route stopped, or 0 if the route cannot continue
+     */
+    public int nChoices() {
+        return this.nChoices;
+    }
+
+}
@@ -0,0 +1,256 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class RouteExplorer {
+
+    private final int maxDepth; // The maximum number of choices on a single route
+    private final long maxRuns; // The maximum number of routes to play through
+    private final ForkJoinPool pool;
+
+    private final AtomicLong nRuns = new AtomicLong();
+    private final AtomicLong nFinished = new AtomicLong();
+    private final AtomicLong nBranches = new AtomicLong();
+    private final AtomicLong nResumed = new AtomicLong(); // The number of routes started from a checkpoint instead of the beginning of the game
+    private final AtomicLong nContinued = new AtomicLong(); // The number of routes that carried on from a branching route's game instead of starting a new one
+    private final AtomicLong nTruncated = new AtomicLong();
+    private final AtomicLong nSkipped = new AtomicLong();
+    private final AtomicLong nErrors = new AtomicLong();
+
+    private final Set<ChapterEnding> endingsReached = ConcurrentHashMap.newKeySet();
+    private final Set<String> vesselCombinations = ConcurrentHashMap.newKeySet();
+    private final Set<String> achievementsUnlocked = ConcurrentHashMap.newKeySet();
+    private final Set<String> optionsSeen = ConcurrentHashMap.newKeySet(); // Every Option in a menu that was reached, as "Chapter/ID"
+    private final Set<String> optionsAvailable = ConcurrentHashMap.newKeySet(); // Every Option that was available at least once, as "Chapter/ID"
+    private final Set<String> stopReasons = ConcurrentHashMap.newKeySet();
+    private final Set<String> errors = ConcurrentHashMap.newKeySet();
+
+    private static final SessionIO DISCARDIO = new SessionIO() {
+        private final PrintStream output = new PrintStream(OutputStream.nullOutputStream());
+
+        @Override
+        public String readLine() {
+            return null;
+        }
+
+        @Override
+        public PrintStream getOutput() {
+            return this.output;
+        }
+
+        @Override
+        public int getWrapColumns() {
+            return IOHandler.DEFAULTWRAPCOLUMNS;
+        }
+
+        @Override
+        public void setWrapColumns(int columns) {
+            // Output is discarded, so its width doesn't matter
+        }
+
+        @Override
+        public void close() {
+            // Nothing to close
+        }
+    };
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param maxDepth the maximum number of choices to make on a single route
+     * @param maxRuns the maximum number of routes to play through
+     * @param parallelism the number of routes to play through at once
+     */
+    public RouteExplorer(int maxDepth, long maxRuns, int parallelism) {
+        this.maxDepth = maxDepth;
+        this.maxRuns = maxRuns;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Constructor; plays through as many routes at once as there are available processors
+     * @param maxDepth the maximum number of choices to make on a single route
+     * @param maxRuns the maximum number of routes to play through
+     */
+    public RouteExplorer(int maxDepth, long maxRuns) {
+        this(maxDepth, maxRuns, Runtime.getRuntime().availableProcessors());
+    }
+
+    // --- EXPLORATION ---
+
+    /**
+     * Explores every route through the game, up to this explorer's limits
+     */
+    public void explore() {
+        try {
+            this.pool.invoke(ForkJoinTask.adapt(() -> this.explore(null, 0, new int[0])));
+        } finally {
+            this.pool.shutdown();
+        }
+    }
+
+    /**
+     * Plays through the route given by a sequence of choices in a fresh, headless GameManager, carrying on past the end of those choices as decided by branch(), then waits for every route branching off from it
+     * @param start the checkpoint to start the route from, or null to start from the beginning of the game
+     * @param startDepth the number of choices made before reaching start
+     * @param choices the choices to make after start, in order
+     */
+    private void explore(SessionSnapshot start, int startDepth, int[] choices) {
+        if (this.nRuns.incrementAndGet() > this.maxRuns) {
+            this.nSkipped.incrementAndGet();
+            return;
+        }
+
+        GameManager manager = new GameManager(DISCARDIO, true);
+        ReplayDriver driver = new ReplayDriver(this, manager, startDepth, choices);
+        manager.getParser().setChoiceDriver(driver);
+
+        try {
+            if (start == null) {
+                manager.runGame();
+            } else {
+                this.nResumed.incrementAndGet();
+                manager.resumeGame(start);
+            }
+            this.nFinished.incrementAndGet();
+        } catch (RouteBranchException e) {
+            // Routes stopped at a choice that still had options were stopped by branch(), which has already counted them
+            if (e.nChoices() == 0) {
+                this.nTruncated.incrementAndGet();
+                this.stopReasons.add(e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            this.nErrors.incrementAndGet();
+            this.errors.add(e.toString());
+        } finally {
+            IOHandler.unbindCurrentThread();
+        }
+
+        this.recordProgress(manager);
+
+        for (ForkJoinTask<?> branch : driver.getBranches()) {
+            branch.join();
+        }
+    }
+
+    /**
+     * Called when a route reaches a choice past the end of the choices it was given; starts a new route for every choice but the first, each resuming from the route's most recent checkpoint and replaying only the choices made since, while the route itself carries on with the first choice in the game it is already playing
+     * Mid-chapter state lives in the locals of the chapter methods, so a game can only be restored at a checkpoint between vessels; carrying on in place means each choice is replayed only by the branches that leave it, not by every route beneath it
+     * @param driver the driver making the route's choices
+     * @param nChoices the number of choices available
+     * @return the choice the route should carry on with, or 0 if the route should stop here
+     * @throws RouteBranchException if the route has reached the maximum depth
+     */
+    public int branch(ReplayDriver driver, int nChoices) {
+        if (driver.depth() >= this.maxDepth) throw new RouteBranchException(0, "maximum depth");
+
+        this.nBranches.incrementAndGet();
+        SessionSnapshot checkpoint = driver.getCheckpoint();
+        int depth = driver.depthAtCheckpoint();
+        int[] replay = driver.choicesSinceCheckpoint();
+        int[] branch;
+        for (int i = 2; i <= nChoices; i++) {
+            branch = Arrays.copyOf(replay, replay.length + 1);
+            branch[replay.length] = i;
+
+            final int[] branchChoices = branch;
+            driver.addBranch(ForkJoinTask.adapt(() -> this.explore(checkpoint, depth, branchChoices)).fork());
+        }
+
+        // The first choice counts as a new route, but is played without starting a new game
+        if (this.nRuns.incrementAndGet() > this.maxRuns) {
+            this.nSkipped.incrementAndGet();
+            return 0;
+        }
+
+        this.nContinued.incrementAndGet();
+        return 1;
+    }
+
+    /**
+     * Records which Options in a newly reached menu are visible and available
+     * @param manager the GameManager that reached the menu
+     * @param menu the menu that was reached
+     */
+    public void recordMenu(GameManager manager, OptionsMenu menu) {
+        Cycle cycle = manager.getCurrentCycle();
+        String prefix = (cycle == null || cycle.getActiveChapter() == null) ? "None/" : cycle.getActiveChapter().getID() + "/";
+
+        Option o;
+        for (int i = 0; i < menu.size(); i++) {
+            o = menu.get(i);
+            this.optionsSeen.add(prefix + o.getID());
+            if (o.isAvailable()) this.optionsAvailable.add(prefix + o.getID());
+        }
+    }
+
+    /**
+     * Records the endings, vessels and achievements a route has reached so far
+     * @param manager the GameManager playing the route
+     */
+    private void recordProgress(GameManager manager) {
+        ArrayList<ChapterEnding> endings = manager.getEndingsFound();
+        this.endingsReached.addAll(endings);
+
+        if (!endings.isEmpty()) {
+            TreeSet<String> vessels = new TreeSet<>();
+            for (ChapterEnding ending : endings) {
+                if (ending.getVessel() != null) vessels.add(ending.getVessel().toString());
+            }
+            this.vesselCombinations.add(String.join(" + ", vessels));
+        }
+
+        for (Achievement a : manager.getTracker().getUnlockedAchievements()) {
+            this.achievementsUnlocked.add(a.getID());
+        }
+    }
+
+    // --- REPORTING ---
+
+    /**
+     * Returns a report of everything this explorer has found
+     * @return a report of everything this explorer has found
+     */
+    public String getReport() {
+        String s = "--- ROUTE EXPLORATION ---";
+        s += "\nRoutes played: " + Math.min(this.nRuns.get(), this.maxRuns) + " (" + this.nBranches.get() + " branching, " + this.nFinished.get() + " finished, " + this.nTruncated.get() + " stopped early, " + this.nErrors.get() + " errors)";
+        s += "\nRoutes carried on in place: " + this.nContinued.get() + ", resumed from a checkpoint: " + this.nResumed.get() + ", played from the beginning: " + (this.nRuns.get() - this.nContinued.get() - this.nResumed.get() - this.nSkipped.get());
+        if (this.nSkipped.get() > 0) s += "\nRoutes skipped after reaching the limit of " + this.maxRuns + ": " + this.nSkipped.get();
+        if (!this.stopReasons.isEmpty()) s += "\nRoutes stopped early at: " + String.join(", ", new TreeSet<>(this.stopReasons));
+
+        s += "\n\nEndings reached (" + this.endingsReached.size() + "/" + ChapterEnding.values().length + "):";
+        for (ChapterEnding ending : new TreeSet<>(this.endingsReached)) s += "\n  " + ending;
+
+        s += "\n\nVessel combinations claimed (" + this.vesselCombinations.size() + "):";
+        for (String combination : new TreeSet<>(this.vesselCombinations)) s += "\n  " + combination;
+
+        TreeSet<String> neverAvailable = new TreeSet<>(this.optionsSeen);
+        neverAvailable.removeAll(this.optionsAvailable);
+        s += "\n\nOptions never available (" + neverAvailable.size() + "/" + this.optionsSeen.size() + " seen):";
+        for (String option : neverAvailable) s += "\n  " + option;
+
+        AchievementList achievements = AchievementList.get();
+        TreeSet<String> neverUnlocked = new TreeSet<>();
+        for (Achievement a : achievements.getDefinitions()) {
+            if (!this.achievementsUnlocked.contains(a.getID())) neverUnlocked.add(a.getID());
+        }
+        s += "\n\nAchievements never unlocked (" + neverUnlocked.size() + "/" + achievements.size() + "):";
+        for (String id : neverUnlocked) s += "\n  " + id;
+
+        if (!this.errors.isEmpty()) {
+            s += "\n\nErrors:";
+            for (String error : new TreeSet<>(this.errors)) s += "\n  " + error;
+        }
+
+        return s;
+    }
+
+}
@@ -0,0 +1,379 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+public class SaveFile implements Flushable {
+
+    private final Path path;
+    private final AtomicReference<byte[]> pending = new AtomicReference<>(); // The most recent encoded snapshot that has not been written yet
+    private volatile IOException writeFailure = null; // The most recent background write that failed, until it is reported
+
+    public static final Path DEFAULTPATH = Path.of("Saves", "Session.sav");
+
+    // File layout: MAGIC, VERSION, number of values, then each value as its name followed by a tagged value, then a CRC32 of everything before it
+    private static final int MAGIC = 0x53545053; // "STPS"
+    private static final short VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte FALSE = 1;
+    private static final byte TRUE = 2;
+    private static final byte INT = 3;
+    private static final byte STRING = 4;
+    private static final byte ENUM = 5;
+    private static final byte LIST = 6;
+    private static final byte MAP = 7;
+
+    // The only enums a save file may contain; anything else is refused instead of being looked up by name
+    private static final Map<String, Class<? extends Enum<?>>> SAVEDENUMS = Map.of(
+        Vessel.class.getName(), Vessel.class,
+        ChapterEnding.class.getName(), ChapterEnding.class,
+        Chapter.class.getName(), Chapter.class,
+        Voice.class.getName(), Voice.class,
+        ChapterFlag.class.getName(), ChapterFlag.class
+    );
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param path the location of the save file
+     */
+    public SaveFile(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Constructor; uses the default save file
+     */
+    public SaveFile() {
+        this(DEFAULTPATH);
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for path
+     * @return the location of the save file
+     */
+    public Path getPath() {
+        return this.path;
+    }
+
+    /**
+     * Checks whether the save file exists
+     * @return true if the save file exists; false otherwise
+     */
+    public boolean exists() {
+        return Files.exists(this.path);
+    }
+
+    // --- READ & WRITE ---
+
+    /**
+     * Encodes a snapshot, then writes it to the save file on the background writer thread; if several snapshots are saved before the writer gets to them, only the most recent is written
+     * @param snapshot the snapshot to save
+     * @throws IOException if the snapshot contains a value that cannot be saved
+     */
+    public void writeLater(SessionSnapshot snapshot) throws IOException {
+        this.pending.set(encode(snapshot));
+        PersistenceWriter.submit(this);
+    }
+
+    /**
+     * Writes the most recent snapshot passed to writeLater, if it has not been written yet
+     * @throws IOException if the snapshot could not be written
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            byte[] contents = this.pending.getAndSet(null);
+            if (contents == null) return;
+
+            try {
+                this.writeBytes(contents);
+            } catch (IOException e) {
+                this.writeFailure = e;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the most recent background write that failed, if it has not been reported yet
+     * @return the most recent background write failure since the last call, or null if there has been none
+     */
+    public IOException takeWriteFailure() {
+        IOException failure = this.writeFailure;
+        this.writeFailure = null;
+        return failure;
+    }
+
+    /**
+     * Writes a snapshot to the save file; the snapshot is written to a temporary file first, then moved over the save file in a single step, so a crash mid-write never leaves a partially written save behind
+     * @param snapshot the snapshot to save
+     * @throws IOException if the snapshot could not be written
+     */
+    public void write(SessionSnapshot snapshot) throws IOException {
+        byte[] contents = encode(snapshot);
+        synchronized (this) {
+            this.pending.set(null);
+            this.writeBytes(contents);
+        }
+    }
+
+    /**
+     * Writes an encoded snapshot to a temporary file, then moves it over the save file in a single step
+     * @param bytes the encoded snapshot
+     * @throws IOException if the snapshot could not be written
+     */
+    private void writeBytes(byte[] bytes) throws IOException {
+        ByteBuffer contents = ByteBuffer.wrap(bytes);
+
+        Path directory = this.path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, this.path.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (contents.hasRemaining()) channel.write(contents);
+                channel.force(false);
+            }
+
+            Files.move(temp, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads the snapshot stored in the save file
+     * @return the snapshot stored in the save file, or null if there is no save file
+     * @throws IOException if the save file could not be read, or is corrupted or from an unsupported version
+     */
+    public SessionSnapshot read() throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(this.path);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        return decode(bytes);
+    }
+
+    /**
+     * Deletes the save file, if it exists
+     * @throws IOException if the save file could not be deleted
+     */
+    public void delete() throws IOException {
+        synchronized (this) {
+            // A snapshot still waiting to be written would otherwise bring the save file back
+            this.pending.set(null);
+            Files.deleteIfExists(this.path);
+        }
+    }
+
+    /**
+     * Returns the location of the save file
+     * @return the location of the save file
+     */
+    @Override
+    public String toString() {
+        return this.path.toString();
+    }
+
+    // --- ENCODING ---
+
+    /**
+     * Encodes a snapshot in the save file format
+     * @param snapshot the snapshot to encode
+     * @return the encoded snapshot
+     * @throws IOException if the snapshot contains a value that cannot be saved
+     */
+    public static byte[] encode(SessionSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        writeSize(out, snapshot.getNames().size());
+        for (String name : snapshot.getNames()) {
+            writeString(out, name);
+            writeValue(out, snapshot.get(name));
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes.toByteArray());
+        out.writeInt((int)checksum.getValue());
+        out.flush();
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a single tagged value
+     * @param out the stream to write to
+     * @param value the value to write
+     * @throws IOException if the value cannot be saved
+     */
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Boolean) {
+            out.writeByte((Boolean)value ? TRUE : FALSE);
+        } else if (value instanceof Integer) {
+            out.writeByte(INT);
+            out.writeInt((Integer)value);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String)value);
+        } else if (value instanceof Enum) {
+            // Enums are saved by name rather than ordinal, so reordering constants does not break old saves
+            Enum<?> e = (Enum<?>)value;
+            if (!SAVEDENUMS.containsKey(e.getDeclaringClass().getName())) throw new IOException("Cannot save value of type " + e.getDeclaringClass().getName());
+            out.writeByte(ENUM);
+            writeString(out, e.getDeclaringClass().getName());
+            writeString(out, e.name());
+        } else if (value instanceof ArrayList) {
+            ArrayList<?> list = (ArrayList<?>)value;
+            out.writeByte(LIST);
+            writeSize(out, list.size());
+            for (Object element : list) writeValue(out, element);
+        } else if (value instanceof HashMap) {
+            HashMap<?, ?> map = (HashMap<?, ?>)value;
+            out.writeByte(MAP);
+            writeSize(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IOException("Cannot save value of type " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * Decodes a snapshot stored in the save file format
+     * @param bytes the encoded snapshot
+     * @return the decoded snapshot
+     * @throws IOException if the encoded snapshot is corrupted or from an unsupported version
+     */
+    public static SessionSnapshot decode(byte[] bytes) throws IOException {
+        if (bytes.length < 12) throw new IOException("Save file is truncated");
+
+        CRC32 checksum = new CRC32();
+        checksum.update(bytes, 0, bytes.length - 4);
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (in.getInt(bytes.length - 4) != (int)checksum.getValue()) throw new IOException("Save file is corrupted");
+        in.limit(bytes.length - 4);
+
+        if (in.getInt() != MAGIC) throw new IOException("Not a save file");
+        short version = in.getShort();
+        if (version != VERSION) throw new IOException("Unsupported save file version " + version);
+
+        SessionSnapshot snapshot = new SessionSnapshot();
+        try {
+            int nValues = Short.toUnsignedInt(in.getShort());
+            for (int i = 0; i < nValues; i++) {
+                String name = readString(in);
+                snapshot.put(name, (Serializable)readValue(in));
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Save file is corrupted", e);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Reads a single tagged value
+     * @param in the buffer to read from
+     * @return the value read
+     * @throws IOException if the value is not a valid tagged value
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readValue(ByteBuffer in) throws IOException {
+        byte tag = in.get();
+        switch (tag) {
+            case NULL: return null;
+            case FALSE: return false;
+            case TRUE: return true;
+            case INT: return in.getInt();
+            case STRING: return readString(in);
+
+            case ENUM:
+                String className = readString(in);
+                String constant = readString(in);
+                Class<? extends Enum> type = SAVEDENUMS.get(className);
+                if (type == null) throw new IOException("Unknown saved type " + className);
+                return Enum.valueOf(type, constant);
+
+            case LIST:
+                int size = Short.toUnsignedInt(in.getShort());
+                ArrayList<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) list.add(readValue(in));
+                return list;
+
+            case MAP:
+                int nEntries = Short.toUnsignedInt(in.getShort());
+                HashMap<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < nEntries; i++) map.put(readValue(in), readValue(in));
+                return map;
+
+            default: throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    /**
+     * Writes the number of values in a snapshot, list or map
+     * @param out the stream to write to
+     * @param size the number of values
+     * @throws IOException if there are too many values to save
+     */
+    private static void writeSize(DataOutputStream out, int size) throws IOException {
+        if (size > 0xFFFF) throw new IOException("Cannot save " + size + " values in one place");
+        out.writeShort(size);
+    }
+
+    /**
+     * Writes a String as its length in bytes followed by its UTF-8 encoding
+     * @param out the stream to write to
+     * @param s the String to write
+     * @throws IOException if the String is too long to save
+     */
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) throw new IOException("Cannot save String of length " + bytes.length);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a String written by writeString
+     * @param in the buffer to read from
+     * @return the String read
+     */
+    private static String readString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        String s = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return s;
+    }
+
+}
@@ -1,8 +1,4 @@
 import java.io.File;  // Import the File class
-import java.io.FileNotFoundException;  // Import this class to handle errors
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Scanner; // Import the Scanner class to read text files
 
 public class Script {
 
@@ -10,8 +6,7 @@ public class Script {
     protected final IOHandler parser;
     protected final File source;
 
-    protected final ArrayList<String> lines;
-    protected final HashMap<String, Integer> labels;
+    protected final CompiledScript compiled; // Shared, read-only lines, labels and instructions
     
     private int cursor = 0; // The current line index
 
@@ -21,52 +16,22 @@ public class Script {
     private boolean isChapter2;
     private boolean isChapter3;
 
-    // Player-dependent flags used during all chapters
-    private boolean firstVessel;
-    private boolean hasBlade;
-    private boolean isHarsh;
-    private boolean knowsDestiny;
+    // Gameplay-dependent flags, read directly from the current Cycle (see ChapterFlag)
+    private FlagSet flags = new FlagSet();
+    private long flagMask = ALLFLAGS;
 
-    // Gameplay-dependent flags used during Chapter 2 or 3
+    // Gameplay-dependent values used during Chapter 2 or 3
     private String ch2Voice = "";
     private String chapterSource = "";
-    private boolean sharedLoop;
-    private boolean sharedLoopInsist;
-    private boolean mirrorComment;
-    private boolean touchedMirror;
-    private boolean mirrorKnown;
-    private boolean threwBlade;
-    private boolean freeFromChains2;
-    private boolean adversaryTookBlade;
-
-    // Gameplay-dependent flags used during Chapter 2 only
-    private boolean narratorProof;
-    private boolean droppedBlade1;
-    private boolean whatWouldYouDo;
-    private boolean rescuePath;
-
-    // Gameplay-dependent flags used during Chapter 3 only
     private String ch3Voice = "";
-    private boolean abandoned2;
-    private boolean adversaryFaceExplore;
-    private boolean spectreShareDied;
-    private boolean spectrePossessAsk;
-    private boolean spectreCantWontAsk;
-    private boolean spectreEndSlay;
-    private boolean prisonerForcedBlade;
-    private boolean prisonerWatchedHead;
-    private boolean prisonerGoodEndingSeen;
-    private boolean prisonerHeartStopped;
-    private Condition cageCutRoute = EMPTYCONDITION;
-    private Condition happySmittenKnown = EMPTYCONDITION;
-    private Condition happyGetUpAttempt = EMPTYCONDITION;
 
     // Given conditions for checks
     private boolean boolCondition = false;
     private int intCondition = 100;
     private String strCondition = "";
 
-    private static final Condition EMPTYCONDITION = new Condition();
+    private static final long ALLFLAGS = -1L;
+    private static final long REUSEDSCRIPTFLAGS = ChapterFlag.FIRSTVESSEL.bit() | ChapterFlag.MIRRORCOMMENT.bit() | ChapterFlag.TOUCHEDMIRROR.bit() | ChapterFlag.MIRRORKNOWN.bit();
     private static final DialogueLine CLAIMFOLD = new DialogueLine("Something reaches out and folds her into its myriad arms.");
 
     // --- CONSTRUCTORS ---
@@ -82,33 +47,7 @@ public class Script {
         this.parser = parser;
         this.source = source;
 
-        this.lines = new ArrayList<>();
-        this.labels = new HashMap<>();
-        try (Scanner fileReader = new Scanner(source);) {
-            String lineContent;
-            String[] args;
-            String label;
-
-            while (fileReader.hasNextLine()) {
-                lineContent = fileReader.nextLine().trim();
-                this.lines.add(lineContent);
-
-                if (lineContent.startsWith("label ")) {
-                    args = lineContent.split(" ", 2);
-                    label = args[1];
-
-                    if (this.labels.containsKey(label)) {
-                        System.out.println("[DEBUG: Duplicate label " + label + " in " + source.getName() + " at line " + (this.lines.size()) + "]");
-                    } else {
-                        this.labels.put(label, this.lines.size() - 1);
-                    }
-                }
-            }
-        } catch (FileNotFoundException e) {
-            throw new RuntimeException("Script not found (FileNotFound)");
-        } catch (NullPointerException e) {
-            throw new RuntimeException("Script not found (NullPointer)");
-        }
+        this.compiled = CompiledScript.getCompiledScript(source);
 
         this.initializeChapterFlags();
     }
@@ -133,12 +72,28 @@ public class Script {
         return source.getName();
     }
 
+    /**
+     * Accessor for cursor
+     * @return the current line index of this Script
+     */
+    public int getCursor() {
+        return this.cursor;
+    }
+
+    /**
+     * Manipulator for cursor
+     * @param index the new line index of this Script
+     */
+    public void setCursor(int index) {
+        this.cursor = index;
+    }
+
     /**
      * Returns the number of lines in this script
      * @return the number of lines in this script
      */
     protected int nLines() {
-        return this.lines.size();
+        return this.compiled.nLines();
     }
 
     /**
@@ -147,7 +102,7 @@ public class Script {
      * @return the line at index lineIndex of this script
      */
     protected String getLine(int lineIndex) {
-        return this.lines.get(lineIndex);
+        return this.compiled.getLine(lineIndex);
     }
 
     /**
@@ -217,7 +172,7 @@ public class Script {
      * @return true if this script has a label with label as its name; false otherwise
      */
     protected boolean hasLabel(String label) {
-        return this.labels.containsKey(label);
+        return this.compiled.hasLabel(label);
     }
 
     /**
@@ -228,7 +183,7 @@ public class Script {
      */
     private Integer getLabelIndex(String label) {
         if (this.hasLabel(label)) {
-            return this.labels.get(label);
+            return this.compiled.getLabelIndex(label);
         } else {
             throw new IllegalArgumentException("Label " + label + " does not exist");
         }
@@ -242,7 +197,7 @@ public class Script {
     public void runSection() {
         this.updateChapterFlags();
         boolean cont = true;
-        while (cont && this.cursor < this.lines.size()) {
+        while (cont && this.cursor < this.compiled.nLines()) {
             cont = this.executeLine(this.cursor);
             this.cursor += 1; // Proceed to next line
         }
@@ -271,7 +226,7 @@ public class Script {
         try {
             this.runSection(this.getLabelIndex(labelName), returnToCurrentIndex);
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }        
     }
 
@@ -293,7 +248,7 @@ public class Script {
             this.cursor = this.getLabelIndex(labelName);
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -325,7 +280,7 @@ public class Script {
             this.strCondition = strCondition;
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -353,7 +308,7 @@ public class Script {
             this.intCondition = intCondition;
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -381,7 +336,7 @@ public class Script {
             this.strCondition = strCondition;
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -409,7 +364,7 @@ public class Script {
             this.strCondition = strCondition;
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -433,7 +388,7 @@ public class Script {
             this.boolCondition = condition;
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -457,7 +412,7 @@ public class Script {
             this.boolCondition = condition.check();
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -481,7 +436,7 @@ public class Script {
             this.intCondition = condition;
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -505,7 +460,7 @@ public class Script {
             this.intCondition = condition.check();
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -529,7 +484,7 @@ public class Script {
             this.strCondition = condition;
             this.runSection();
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -631,7 +586,7 @@ public class Script {
         try {
             this.runNextLines(this.getLabelIndex(labelName) - this.cursor + 1);
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -662,7 +617,7 @@ public class Script {
             this.runNextLines(this.getLabelIndex(labelName) - this.cursor + 1);
             if (returnToCurrentIndex) this.cursor = returnIndex;
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -676,7 +631,7 @@ public class Script {
         try {
             this.runThrough(this.getLabelIndex(labelName), endIndex, returnToCurrentIndex);
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -691,9 +646,9 @@ public class Script {
             this.runThrough(this.getLabelIndex(startLabelName), this.getLabelIndex(endLabelName), returnToCurrentIndex);
         } catch (IllegalArgumentException e) {
             if (e.getLocalizedMessage().contains(startLabelName)) {
-                System.out.println("[DEBUG: Label " + startLabelName + " does not exist in " + source.getName() + "]");
+                IOHandler.out().println("[DEBUG: Label " + startLabelName + " does not exist in " + source.getName() + "]");
             } else {
-                System.out.println("[DEBUG: Label " + endLabelName + " does not exist in " + source.getName() + "]");
+                IOHandler.out().println("[DEBUG: Label " + endLabelName + " does not exist in " + source.getName() + "]");
             }
         }
     }
@@ -718,7 +673,7 @@ public class Script {
         try {
             this.runNextLines(this.getLabelIndex(labelName) - this.cursor + 1);
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -732,7 +687,7 @@ public class Script {
             this.cursor = this.getLabelIndex(labelName);
             this.runNextLines(endIndex - this.cursor + 1);
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -746,7 +701,7 @@ public class Script {
             this.cursor = this.getLabelIndex(startLabelName);
             this.runNextLines(this.getLabelIndex(endLabelName) - this.cursor + 1);
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + startLabelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + startLabelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -757,7 +712,7 @@ public class Script {
     public void runNextLines(int nLines) {
         this.updateChapterFlags();
         for (int i = 0; i < nLines; i++) {
-            if (this.cursor >= this.lines.size()) {
+            if (this.cursor >= this.compiled.nLines()) {
                 break;
             }
 
@@ -791,7 +746,7 @@ public class Script {
         try {
             this.runNextLines(this.getLabelIndex(labelName), nLines, returnToCurrentIndex);
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
@@ -815,53 +770,24 @@ public class Script {
             this.cursor = this.getLabelIndex(labelName);
             this.runNextLines(nLines);
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + labelName + " does not exist in " + source.getName() + "]");
         }
     }
 
     /**
-     * Resets all gameplay-dependent flags to their default state at the beginning of a cycle
+     * Resets all gameplay-dependent values to their default state at the beginning of a cycle
      */
     private void resetChapterFlags() {
-        this.firstVessel = false;
-        this.hasBlade = false;
-        this.mirrorComment = false;
-        this.touchedMirror = false;
-        this.mirrorKnown = false;
-        this.isHarsh = false;
-        this.knowsDestiny = false;
+        this.flags = new FlagSet();
+        this.flagMask = ALLFLAGS;
 
         this.ch2Voice = "";
         this.chapterSource = "";
-        this.sharedLoop = false;
-        this.sharedLoopInsist = false;
-        this.threwBlade = false;
-        this.adversaryTookBlade = false;
-        this.freeFromChains2 = false;
-
-        this.narratorProof = false;
-        this.droppedBlade1 = false;
-        this.whatWouldYouDo = false;
-        this.rescuePath = false;
-        
         this.ch3Voice = "";
-        this.abandoned2 = false;
-        this.adversaryFaceExplore = false;
-        this.spectreShareDied = false;
-        this.spectrePossessAsk = false;
-        this.spectreCantWontAsk = false;
-        this.spectreEndSlay = false;
-        this.prisonerForcedBlade = false;
-        this.prisonerWatchedHead = false;
-        this.prisonerGoodEndingSeen = false;
-        this.prisonerHeartStopped = false;
-        this.cageCutRoute = EMPTYCONDITION;
-        this.happySmittenKnown = EMPTYCONDITION;
-        this.happyGetUpAttempt = EMPTYCONDITION;
     }
 
     /**
-     * Sets all gameplay-dependent flags based on the state of the current Cycle at the beginning of a chapter
+     * Links this Script to the flags of the current Cycle and sets all other gameplay-dependent values at the beginning of a chapter
      */
     private void initializeChapterFlags() {
         this.currentCycle = manager.getCurrentCycle();
@@ -869,18 +795,8 @@ public class Script {
         this.isChapter2 = this.currentCycle instanceof ChapterII;
         this.isChapter3 = this.currentCycle instanceof ChapterIII;
 
-        if (this.noCycle) {
-            this.cageCutRoute = EMPTYCONDITION;
-            this.happySmittenKnown = EMPTYCONDITION;
-            this.happyGetUpAttempt = EMPTYCONDITION;
-        } else {
-            this.firstVessel = currentCycle.isFirstVessel();
-            this.hasBlade = currentCycle.hasBlade();
-            this.mirrorComment = currentCycle.mirrorComment();
-            this.touchedMirror = currentCycle.touchedMirror();
-            this.threwBlade = currentCycle.threwBlade();
-            this.isHarsh = currentCycle.isHarsh();
-            this.knowsDestiny = currentCycle.knowsDestiny();
+        if (!this.noCycle) {
+            this.flags = currentCycle.getFlags();
 
             if (this.isChapter2) {
                 ChapterII chapter2 = (ChapterII)this.currentCycle;
@@ -892,18 +808,6 @@ public class Script {
                 }
                 
                 this.chapterSource = chapter2.getSource();
-                this.sharedLoop = chapter2.sharedLoop();
-                this.sharedLoopInsist = chapter2.sharedLoopInsist();
-                this.freeFromChains2 = chapter2.freeFromChains2();
-                this.adversaryTookBlade = chapter2.adversaryTookBlade();
-
-                this.droppedBlade1 = chapter2.droppedBlade1();
-                this.whatWouldYouDo = chapter2.whatWouldYouDo();
-                this.rescuePath = chapter2.rescuePath();
-                
-                this.cageCutRoute = EMPTYCONDITION;
-                this.happySmittenKnown = EMPTYCONDITION;
-                this.happyGetUpAttempt = EMPTYCONDITION;
             } else if (this.isChapter3) {
                 ChapterIII chapter3 = (ChapterIII)this.currentCycle;
 
@@ -914,38 +818,14 @@ public class Script {
                 }
 
                 this.chapterSource = chapter3.getSource();
-                this.sharedLoop = chapter3.sharedLoop();
-                this.sharedLoopInsist = chapter3.sharedLoopInsist();
-                this.freeFromChains2 = chapter3.freeFromChains2();
-                this.adversaryTookBlade = chapter3.adversaryTookBlade();
 
                 try {
                     this.ch3Voice = chapter3.ch3Voice().toString();
                 } catch (NullPointerException e) {
                     this.ch3Voice = "";
                 }
-
-                this.abandoned2 = chapter3.abandoned2();
-                this.adversaryFaceExplore = chapter3.adversaryFaceExplore();
-                this.spectreShareDied = chapter3.spectreShareDied();
-                this.spectrePossessAsk = chapter3.spectrePossessAsk();
-                this.spectreCantWontAsk = chapter3.spectreCantWontAsk();
-                this.spectreEndSlay = chapter3.spectreEndSlay();
-                this.prisonerForcedBlade = chapter3.prisonerForcedBlade();
-                this.prisonerWatchedHead = chapter3.prisonerWatchedHead();
-                this.prisonerGoodEndingSeen = chapter3.prisonerGoodEndingSeen();
-                this.prisonerHeartStopped = chapter3.prisonerHeartStopped();
-                this.cageCutRoute = chapter3.cageCutRoute();
-                this.happySmittenKnown = chapter3.happySmittenKnown();
-                this.happyGetUpAttempt = chapter3.happyGetUpAttempt();
-            } else {
-                this.cageCutRoute = EMPTYCONDITION;
-                this.happySmittenKnown = EMPTYCONDITION;
-                this.happyGetUpAttempt = EMPTYCONDITION;
             }
         }
-
-        this.mirrorKnown = this.mirrorComment || this.touchedMirror;
     }
 
     /**
@@ -967,37 +847,18 @@ public class Script {
     }
 
     /**
-     * Updates all gameplay-dependent flags based on the state of the current Cycle
+     * Re-links this Script to the current Cycle, in case it has changed since this Script was created
      */
     private void updateChapterFlags() {
         this.currentCycle = manager.getCurrentCycle();
         this.noCycle = this.currentCycle == null;
         this.isChapter2 = this.currentCycle instanceof ChapterII;
 
-        if (this.currentCycle != null) {
-            this.hasBlade = currentCycle.hasBlade();
-            this.mirrorComment = currentCycle.mirrorComment();
-            this.touchedMirror = currentCycle.touchedMirror();
-            this.threwBlade = currentCycle.threwBlade();
-            this.isHarsh = currentCycle.isHarsh();
-            this.knowsDestiny = currentCycle.knowsDestiny();
-
-            if (this.isChapter2) {
-                ChapterII chapter2 = (ChapterII)this.currentCycle;
-                
-                this.sharedLoop = chapter2.sharedLoop();
-                this.sharedLoopInsist = chapter2.sharedLoopInsist();
-                this.narratorProof = chapter2.narratorProof();
-                this.adversaryTookBlade = chapter2.adversaryTookBlade();
-                this.freeFromChains2 = chapter2.freeFromChains2();
-            }
-        }
-
-        this.mirrorKnown = this.mirrorComment || this.touchedMirror;
+        if (this.currentCycle != null) this.flags = currentCycle.getFlags();
     }
 
     /**
-     * Updates only the gameplay-dependent flags used for the mirror and the intermission, based on the state of the current Cycle
+     * Limits this Script to only the gameplay-dependent flags used for the mirror and the intermission, based on the state of the current Cycle
      */
     public void updateReusedScriptFlags() {
         this.resetChapterFlags();
@@ -1005,13 +866,27 @@ public class Script {
         this.currentCycle = manager.getCurrentCycle();
         this.noCycle = this.currentCycle == null;
 
-        if (this.currentCycle != null) {
-            this.firstVessel = currentCycle.isFirstVessel();
-            this.mirrorComment = currentCycle.mirrorComment();
-            this.touchedMirror = currentCycle.touchedMirror();
-        }
+        if (this.currentCycle != null) this.flags = currentCycle.getFlags();
+        this.flagMask = REUSEDSCRIPTFLAGS;
+    }
+
+    /**
+     * Returns the gameplay-dependent flags currently visible to this Script, packed into a single word
+     * @return the packed flag word of the current Cycle, including derived flags
+     */
+    private long getFlagWord() {
+        long word = this.flags.toLong();
+        if ((word & (ChapterFlag.MIRRORCOMMENT.bit() | ChapterFlag.TOUCHEDMIRROR.bit())) != 0) word |= ChapterFlag.MIRRORKNOWN.bit();
+        return word & this.flagMask;
+    }
 
-        this.mirrorKnown = this.mirrorComment || this.touchedMirror;
+    /**
+     * Checks whether a single gameplay-dependent flag is set
+     * @param flag the flag to check
+     * @return true if flag is set; false otherwise
+     */
+    private boolean hasFlag(ChapterFlag flag) {
+        return (this.getFlagWord() & flag.bit()) != 0;
     }
 
     /**
@@ -1026,508 +901,225 @@ public class Script {
     // --- PARSE & EXECUTE LINES ---
 
     /**
-     * Parse and execute a single line of this script
+     * Execute a single pre-decoded line of this script
      * @param lineIndex the index of the executed line
      * @return false if this line is a blank line representing the end of a section; true otherwise
      */
     private boolean executeLine(int lineIndex) {
-        String lineContent = this.getLine(lineIndex).trim();
-        String[] split = lineContent.split(" ", 2);
-
-        String prefix = split[0];
-        String argument = "";
-        String[] args;
-        String[] mods;
-        try {
-            argument = split[1];
-            split = argument.split(" /// ");
-            argument = split[0];
-            args = argument.split(" ", 2);
-
-            if (split.length == 1) {
-                mods = new String[0];
-            } else {
-                String modifiers = split[1];
-                mods = modifiers.split(" ");
-            }
-        } catch (IndexOutOfBoundsException e) {
-            args = new String[0];
-            mods = new String[0];
-        }
+        ScriptInstruction instruction = this.compiled.getInstruction(lineIndex);
+        String argument = instruction.getArgument();
+        String[] args = instruction.getArgs();
+        ModifierCheck check = instruction.getModifierCheck();
 
         boolean cont = true;
-        switch (prefix) {
-            case "//":
+        switch (instruction.getOpcode()) {
+            case COMMENT:
                 // Comment; skip
                 break;
 
-            case "label":
+            case LABEL:
                 // Skip to next line
                 break;
 
-            case "break":
-                if (!this.runModifierChecks(mods)) break;
-            case "":
+            case BREAK:
+                if (!this.runModifierChecks(check)) break;
+            case END:
                 cont = false;
                 break;
 
-            case "linebreak":
-                if (this.runModifierChecks(mods)) this.lineBreak(argument);
+            case LINEBREAK:
+                if (this.runModifierChecks(check)) this.lineBreak(argument);
                 break;
 
-            case "pause":
-                if (this.runModifierChecks(mods)) this.pause(argument);
+            case PAUSE:
+                if (this.runModifierChecks(check)) this.pause(argument, instruction.getWords());
                 break;
 
-            case "unlock":
-                if (this.runModifierChecks(mods)) this.unlockAchievement(argument);
+            case UNLOCK:
+                if (this.runModifierChecks(check)) this.unlockAchievement(argument);
                 break;
 
-            case "nowplaying":
-                if (this.runModifierChecks(mods)) manager.setNowPlaying(argument);
+            case NOWPLAYING:
+                if (this.runModifierChecks(check)) manager.setNowPlaying(argument);
                 break;
 
-            case "quietcreep":
-                if (this.runModifierChecks(mods)) this.quietCreep();
+            case QUIETCREEP:
+                if (this.runModifierChecks(check)) this.quietCreep();
                 break;
                 
-            case "claimfold":
-                if (this.runModifierChecks(mods)) this.claimFoldLine();
+            case CLAIMFOLD:
+                if (this.runModifierChecks(check)) this.claimFoldLine();
                 break;
 
-            case "jumpto":
+            case JUMPTO:
                 // add "jumpto [label] return"?
-                if (this.runModifierChecks(mods)) {
-                   try {
-                        int jumpTarget = Integer.parseInt(argument);
-                        this.jumpTo(jumpTarget);
-                    } catch (NumberFormatException e) {
+                if (this.runModifierChecks(check)) {
+                    if (instruction.getJumpIndex() != null) {
+                        this.jumpTo(instruction.getJumpIndex());
+                    } else {
                         this.jumpTo(argument);
-                    } 
+                    }
                 }
                 
                 break;
 
-            case "claim":
+            case CLAIM:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid firstswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid firstswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) {
+                if (this.runModifierChecks(check)) {
                     this.claimFoldLine();
                     this.firstSwitchJump(argument);
                 }
                 break;
 
-            case "firstswitch":
+            case FIRSTSWITCH:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid firstswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid firstswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) this.firstSwitchJump(argument);
+                if (this.runModifierChecks(check)) this.firstSwitchJump(argument);
                 break;
 
-            case "bladeswitch":
+            case BLADESWITCH:
                 switch (args.length) {
                     case 0:
                         // Invalid line; print error message and skip to next line
-                        System.out.println("[DEBUG: Invalid bladeswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                        IOHandler.out().println("[DEBUG: Invalid bladeswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                         break;
 
                     case 1:
-                        if (this.runModifierChecks(mods)) this.bladeSwitchJump(argument);
+                        if (this.runModifierChecks(check)) this.bladeSwitchJump(argument);
                         break;
                     
-                    default: if (this.runModifierChecks(mods)) this.bladeSwitchJump(args[0], args[1]);
+                    default: if (this.runModifierChecks(check)) this.bladeSwitchJump(args[0], args[1]);
                 }
 
                 break;
 
-            case "moodswitch":
-            case "harshswitch":
+            case MOODSWITCH:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid harshswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid harshswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) this.moodSwitchJump(argument);
+                if (this.runModifierChecks(check)) this.moodSwitchJump(argument);
                 break;
 
-            case "voice2switch":
+            case VOICE2SWITCH:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid voice2switch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid voice2switch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) this.voice2SwitchJump(argument);
+                if (this.runModifierChecks(check)) this.voice2SwitchJump(argument);
                 break;
 
-            case "voice3switch":
+            case VOICE3SWITCH:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid voice3switch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid voice3switch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) this.voice3SwitchJump(argument);
+                if (this.runModifierChecks(check)) this.voice3SwitchJump(argument);
                 break;
 
-            case "sourceswitch":
+            case SOURCESWITCH:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid sourceswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid sourceswitch in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) this.sourceSwitchJump(argument);
+                if (this.runModifierChecks(check)) this.sourceSwitchJump(argument);
                 break;
 
-            case "setbool":
+            case SETBOOL:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid setbool in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid setbool in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) this.setBoolCondition(argument);
+                if (this.runModifierChecks(check)) this.setBoolCondition(argument);
                 break;
 
-            case "setnum":
+            case SETNUM:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid setnum in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid setnum in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) this.setNumCondition(argument);
+                if (this.runModifierChecks(check)) this.setNumCondition(argument);
                 break;
 
-            case "setstring":
+            case SETSTRING:
                 if (args.length == 0) {
                     // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid setstring in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                    IOHandler.out().println("[DEBUG: Invalid setstring in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                     break;
                 }
 
-                if (this.runModifierChecks(mods)) this.setStringCondition(argument);
+                if (this.runModifierChecks(check)) this.setStringCondition(argument);
                 break;
             
-            case "switchjump":
-                if (this.runModifierChecks(mods)) this.boolSwitchJumpTo(argument);
+            case SWITCHJUMP:
+                if (this.runModifierChecks(check)) this.boolSwitchJumpTo(instruction.getWords());
                 break;
             
-            case "numswitchjump":
-                if (this.runModifierChecks(mods)) this.numSwitchJumpTo(argument, false);
+            case NUMSWITCHJUMP:
+                if (this.runModifierChecks(check)) this.numSwitchJumpTo(instruction.getWords());
                 break;
-            case "numautojump":
-                if (this.runModifierChecks(mods)) this.numSwitchJumpTo(argument, true);
+            case NUMAUTOJUMP:
+                if (this.runModifierChecks(check)) this.numSwitchJumpTo(argument, true);
                 break;
             
-            case "stringswitchjump":
-                if (this.runModifierChecks(mods)) this.strSwitchJumpTo(argument, false);
+            case STRINGSWITCHJUMP:
+                if (this.runModifierChecks(check)) this.strSwitchJumpTo(instruction.getWords());
                 break;
-            case "stringautojump":
-                if (this.runModifierChecks(mods)) this.strSwitchJumpTo(argument, true);
+            case STRINGAUTOJUMP:
+                if (this.runModifierChecks(check)) this.strSwitchJumpTo(argument, true);
+                break;
+
+            case DIALOGUE:
+                this.printDialogueLine(instruction);
                 break;
 
             default:
-                if (isValidCharacter(prefix)) {
-                    this.printDialogueLine(prefix, argument, mods);
-                } else {
-                    // Invalid line; print error message and skip to next line
-                    System.out.println("[DEBUG: Invalid line in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
-                }
+                // Invalid line; print error message and skip to next line
+                IOHandler.out().println("[DEBUG: Invalid line in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
         }
 
         return cont;
     }
 
     /**
-     * Runs the appropriate checks for any modifiers on a given Voice dialogue line
-     * @param modifiers the modifiers to run checks for
-     * @param speaker the Voice this line is spoken by
-     * @return true if all modifier checks pass and the line should be printed; false otherwise
+     * Runs the appropriate checks for the compiled modifiers on a given line
+     * @param check the compiled modifiers to run checks for
+     * @return true if all modifier checks pass and the line should be run; false otherwise
      */
-    private boolean runModifierChecks(String[] modifiers, Voice speaker) {
-        if (modifiers.length == 0) return true;
-
-        HashMap<Voice, Boolean> voiceChecks = new HashMap<>();
-        String[] args;
-        int targetInt;
-
-        for (String m : modifiers) {
-            args = m.split("-");
+    private boolean runModifierChecks(ModifierCheck check) {
+        if (check.isEmpty()) return true;
+        if (check.alwaysFails()) return false;
 
-            // Voice checks
-
-            if (m.startsWith("checkvoice")) {
-                if (args.length == 1) {
-                    if (speaker != null) voiceChecks.put(speaker.checkVoice(), true);
-                } else {
-                    for (String id : args) {
-                        if (Voice.getVoice(id) != null) {
-                            voiceChecks.put(Voice.getVoice(id), true);
-                        }
-                    }
-                }
-            } else if (m.startsWith("checknovoice-")) {
-                for (String id : args) {
-                    if (Voice.getVoice(id) != null) {
-                        voiceChecks.put(Voice.getVoice(id), false);
-                    }
-                }
-
-            // Checks for any chapter
-
-            } else if (m.equals("firstvessel")) {
-                if (!this.firstVessel) return false;
-            } else if (m.equals("notfirstvessel")) {
-                if (this.firstVessel) return false;
-
-            } else if (m.equals("hasblade")) {
-                if (!this.hasBlade) return false;
-            } else if (m.equals("noblade")) {
-                if (this.hasBlade) return false;
-
-            } else if (m.equals("harsh")) {
-                if (!this.isHarsh) return false;
-            } else if (m.equals("soft")) {
-                if (this.isHarsh) return false;
-
-            } else if (m.equals("knowledge")) {
-                if (!this.knowsDestiny) return false;
-            } else if (m.equals("noknowledge")) {
-                if (this.knowsDestiny) return false;
-
-            // Chapter 2 or 3 specific checks
-
-            } else if (m.startsWith("voice2-")) {
-                if ((this.isChapter2 || this.isChapter3) && args.length == 2) {
-                    if (!ch2Voice.equals(args[1])) return false;
-                } else {
-                    return false;
-                }
-            } else if (m.startsWith("voice2not-")) {
-                if ((this.isChapter2 || this.isChapter3) && args.length == 2) {
-                    if (ch2Voice.equals(args[1])) return false;
-                } else {
-                    return false;
-                }
-
-            } else if (m.startsWith("ifsource-")) {
-                if (!this.chapterSource.equals(args[1])) return false;
-            } else if (m.startsWith("ifsourcenot-")) {
-                if (this.chapterSource.equals(args[1])) return false;
-
-            } else if (m.equals("sharedloop")) {
-                if (!this.sharedLoop) return false;
-            } else if (m.equals("noshare")) {
-                if (this.sharedLoop) return false;
-
-            } else if (m.equals("sharedinsist")) {
-                if (!this.sharedLoopInsist) return false;
-            } else if (m.equals("noinsist")) {
-                if (this.sharedLoopInsist) return false;
-
-            } else if (m.equals("mirrorask")) {
-                if (!this.mirrorComment) return false;
-            } else if (m.equals("nomirrorask")) {
-                if (this.mirrorComment) return false;
-
-            } else if (m.equals("mirrortouch")) {
-                if (!this.touchedMirror) return false;
-            } else if (m.equals("nomirrortouch")) {
-                if (this.touchedMirror) return false;
-
-            } else if (m.equals("mirror2")) {
-                if (!this.mirrorKnown) return false;
-            } else if (m.equals("nomirror2")) {
-                if (this.mirrorKnown) return false;
-
-            } else if (m.equals("threwblade")) {
-                if (!this.threwBlade) return false;
-            } else if (m.equals("nothrow")) {
-                if (this.threwBlade) return false;
-
-            } else if (m.equals("tookblade")) {
-                if (!this.adversaryTookBlade) return false;
-            } else if (m.equals("leftblade")) {
-                if (this.adversaryTookBlade) return false;
-
-            } else if (m.equals("chainsfree")) {
-                if (!this.freeFromChains2) return false;
-            } else if (m.equals("notfree")) {
-                if (this.freeFromChains2) return false;
-
-            // Chapter 2 variable checks
-
-            } else if (m.equals("narrproof")) {
-                if (!this.narratorProof) return false;
-            } else if (m.equals("noproof")) {
-                if (this.narratorProof) return false;
-
-            } else if (m.equals("drop1")) {
-                if (!this.droppedBlade1) return false;
-            } else if (m.equals("nodrop1")) {
-                if (this.droppedBlade1) return false;
-
-            } else if (m.equals("whatdo1")) {
-                if (!this.whatWouldYouDo) return false;
-            } else if (m.equals("nowhatdo1")) {
-                if (this.whatWouldYouDo) return false;
-
-            } else if (m.equals("rescue1")) {
-                if (!this.rescuePath) return false;
-            } else if (m.equals("norescue1")) {
-                if (this.rescuePath) return false;
-
-            // Chapter 3 variable checks
-
-            } else if (m.startsWith("voice3-")) {
-                if (this.isChapter3 && args.length == 2) {
-                    if (!ch3Voice.equals(args[1])) return false;
-                } else {
-                    return false;
-                }
-            } else if (m.startsWith("voice3not-")) {
-                if (this.isChapter3 && args.length == 2) {
-                    if (ch3Voice.equals(args[1])) return false;
-                } else {
-                    return false;
-                }
-
-            } else if (m.equals("abandoned")) {
-                if (!this.abandoned2) return false;
-            } else if (m.equals("noabandon")) {
-                if (this.abandoned2) return false;
-
-            } else if (m.equals("faceask")) {
-                if (!this.adversaryFaceExplore) return false;
-            } else if (m.equals("nofaceask")) {
-                if (this.adversaryFaceExplore) return false;
-
-            } else if (m.equals("deathshared")) {
-                if (!this.spectreShareDied) return false;
-            } else if (m.equals("nodeathshare")) {
-                if (this.spectreShareDied) return false;
-
-            } else if (m.equals("possessask")) {
-                if (!this.spectrePossessAsk) return false;
-            } else if (m.equals("nopossessask")) {
-                if (this.spectrePossessAsk) return false;
-
-            } else if (m.equals("cantwontask")) {
-                if (!this.spectreCantWontAsk) return false;
-            } else if (m.equals("nocantwontask")) {
-                if (this.spectreCantWontAsk) return false;
-
-            } else if (m.equals("endslay")) {
-                if (!this.spectreEndSlay) return false;
-            } else if (m.equals("noendslay")) {
-                if (this.spectreEndSlay) return false;
-
-            } else if (m.equals("forcedblade")) {
-                if (!this.prisonerForcedBlade) return false;
-            } else if (m.equals("noforce")) {
-                if (this.prisonerForcedBlade) return false;
-
-            } else if (m.equals("headwatch")) {
-                if (!this.prisonerWatchedHead) return false;
-            } else if (m.equals("nowatch")) {
-                if (this.prisonerWatchedHead) return false;
-
-            } else if (m.equals("goodseen")) {
-                if (!this.prisonerGoodEndingSeen) return false;
-            } else if (m.equals("goodnotseen")) {
-                if (this.prisonerGoodEndingSeen) return false;
-
-            } else if (m.equals("heartstop")) {
-                if (!this.prisonerHeartStopped) return false;
-            } else if (m.equals("noheartstop")) {
-                if (this.prisonerHeartStopped) return false;
-
-            } else if (m.equals("cutroute")) {
-                if (!cageCutRoute.check()) return false;
-            } else if (m.equals("nocut")) {
-                if (cageCutRoute.check()) return false;
-
-            } else if (m.equals("smittenknown")) {
-                if (!happySmittenKnown.check()) return false;
-            } else if (m.equals("nosmitten")) {
-                if (happySmittenKnown.check()) return false;
-
-            } else if (m.equals("getupattempt")) {
-                if (!happyGetUpAttempt.check()) return false;
-            } else if (m.equals("nogetup")) {
-                if (happyGetUpAttempt.check()) return false;
-
-            // Checks on given conditions
-                
-            } else if (m.equals("check")) {
-                if (!this.boolCondition) return false;
-            } else if (m.equals("checkfalse")) {
-                if (this.boolCondition) return false;
-
-            } else if (m.startsWith("ifnumnot")) {
-                if (args.length == 2) {
-                    try {
-                        targetInt = Integer.parseInt(args[1]);
-                    } catch (NumberFormatException e) {
-                        targetInt = 0;
-                    }
-                } else {
-                    targetInt = 0;
-                }
-
-                //IOHandler.wrapPrintln("[DEBUG: num = " + this.intCondition + "; target = " + targetInt + "; check should return " + (this.intCondition != targetInt) + "]");
-                if (this.intCondition == targetInt) return false;
-            } else if (m.startsWith("ifnum")) {
-                if (args.length == 2) {
-                    try {
-                        targetInt = Integer.parseInt(args[1]);
-                    } catch (NumberFormatException e) {
-                        targetInt = 0;
-                    }
-                } else {
-                    targetInt = 0;
-                }
-
-                //IOHandler.wrapPrintln("[DEBUG: num = " + this.intCondition + "; target = " + targetInt + "; check should return " + (this.intCondition == targetInt) + "]");
-                if (this.intCondition != targetInt) return false;
-
-            } else if (m.startsWith("ifstring-")) {
-                if (!strCondition.equals(args[1])) return false;
-            } else if (m.startsWith("ifstringnot-")) {
-                if (strCondition.equals(args[1])) return false;
-            }
-        }
-
-        if (!this.noCycle && !voiceChecks.isEmpty()) {
-            for (Voice checkVoice : voiceChecks.keySet()) {
-                if (currentCycle.hasVoice(checkVoice) != voiceChecks.get(checkVoice)) {
-                    return false;
-                }
-            }
-        }
+        if (!check.checkFlags(this.getFlagWord())) return false;
+        if (!check.checkConditions(this.boolCondition, this.intCondition, this.strCondition)) return false;
+        if (!check.checkSource(this.chapterSource)) return false;
+        if (!check.checkChapterVoices(this.isChapter2, this.isChapter3, this.ch2Voice, this.ch3Voice)) return false;
 
+        if (!this.noCycle && !check.checkVoices(this.currentCycle)) return false;
         return true;
     }
 
-    /**
-     * Runs the appropriate checks for any modifiers on a given line
-     * @param modifiers the modifiers to run checks for
-     * @return true if all modifier checks pass and the line should be run; false otherwise
-     */
-    private boolean runModifierChecks(String[] modifiers) {
-        return this.runModifierChecks(modifiers, null);
-    }
-
     /**
      * Prints out a given number of line breaks
      * @param argument the number of line breaks to print (or an empty string, resulting in 1 line break)
@@ -1538,10 +1130,10 @@ public class Script {
             this.lineBreak(nBreaks);
         } catch (NumberFormatException e) {
             if (argument.equals("")) {
-                System.out.println();
+                IOHandler.out().println();
             } else {
                 // Invalid line; print error message and skip to next line
-                System.out.println("[DEBUG: Invalid linebreak in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                IOHandler.out().println("[DEBUG: Invalid linebreak in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
             }
         }
     }
@@ -1552,34 +1144,34 @@ public class Script {
      */
     private void lineBreak(int n) {
         for (int i = 0; i < n; i++) {
-            System.out.println();
+            IOHandler.out().println();
         }
     }
 
     /**
      * Waits for a given number of milliseconds before continuing, depending on whether global slow print is enabled or not
      * @param arguments the time to wait
+     * @param times the time to wait, split into individual arguments
      */
-    private void pause(String arguments)  {
+    private void pause(String arguments, String[] times)  {
         if (arguments.isEmpty()) {
             // Invalid line; print error message and skip to next line
-            System.out.println("[DEBUG: Invalid pause (no argument) in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+            IOHandler.out().println("[DEBUG: Invalid pause (no argument) in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
         } else {
-            String[] times = arguments.split(" ");
             int slowTime;
             int fastTime;
 
             try {
                 slowTime = Integer.parseInt(times[0]);
                 if (times.length == 1) {
-                    GameManager.pause(slowTime);
+                    manager.pause(slowTime);
                 } else {
                     fastTime = Integer.parseInt(times[1]);
                     manager.pause(slowTime, fastTime);
                 }
             } catch (NumberFormatException e) {
                 // Invalid line; print error message and skip to next line
-                System.out.println("[DEBUG: Invalid pause (non-int argument) in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                IOHandler.out().println("[DEBUG: Invalid pause (non-int argument) in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
             }
         }
     }
@@ -1591,7 +1183,7 @@ public class Script {
     private void unlockAchievement(String argument) {
         if (argument.isEmpty() || argument.contains(" ")) {
             // Invalid line; print error message and skip to next line
-            System.out.println("[DEBUG: Invalid unlock in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+            IOHandler.out().println("[DEBUG: Invalid unlock in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
         } else {
             manager.unlock(argument);
         }
@@ -1609,9 +1201,9 @@ public class Script {
      * @param skipFirstLineBreak whether to skip the first line break of the sequence
      */
     public void claimFoldLine(boolean skipFirstLineBreak) {
-        if (!skipFirstLineBreak) System.out.println();
+        if (!skipFirstLineBreak) IOHandler.out().println();
         parser.printDialogueLine(CLAIMFOLD);
-        System.out.println();
+        IOHandler.out().println();
     }
 
     /**
@@ -1638,7 +1230,7 @@ public class Script {
             // If label is "NOJUMP", this was probably triggered from a switchjump -- just continue, don't jump
             if (!label.equals("NOJUMP")) this.jumpTo(this.getLabelIndex(label));
         } catch (IllegalArgumentException e) {
-            System.out.println("[DEBUG: Label " + label + " does not exist in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Label " + label + " does not exist in " + source.getName() + "]");
         }
         
     }
@@ -1648,7 +1240,7 @@ public class Script {
      * @param labelPrefix the prefix of the label to jump to
      */
     private void firstSwitchJump(String labelPrefix) {
-        String labelSuffix = (firstVessel) ? "FirstVessel" : "NotFirstVessel";
+        String labelSuffix = (this.hasFlag(ChapterFlag.FIRSTVESSEL)) ? "FirstVessel" : "NotFirstVessel";
         this.jumpTo(labelPrefix + labelSuffix);
     }
 
@@ -1657,7 +1249,7 @@ public class Script {
      * @param labelPrefix the prefix of the label to jump to
      */
     private void bladeSwitchJump(String labelPrefix) {
-        String labelSuffix = (hasBlade) ? "Blade" : "NoBlade";
+        String labelSuffix = (this.hasFlag(ChapterFlag.HASBLADE)) ? "Blade" : "NoBlade";
         this.jumpTo(labelPrefix + labelSuffix);
     }
 
@@ -1667,7 +1259,7 @@ public class Script {
      * @param labelSuffix the suffix of the label to jump to
      */
     private void bladeSwitchJump(String labelPrefix, String labelSuffix) {
-        String labelBlade = (hasBlade) ? "Blade" : "NoBlade";
+        String labelBlade = (this.hasFlag(ChapterFlag.HASBLADE)) ? "Blade" : "NoBlade";
         this.jumpTo(labelPrefix + labelBlade + labelSuffix);
     }
 
@@ -1676,7 +1268,7 @@ public class Script {
      * @param labelPrefix the prefix of the label to jump to
      */
     private void moodSwitchJump(String labelPrefix) {
-        String labelSuffix = (isHarsh) ? "Harsh" : "Soft";
+        String labelSuffix = (this.hasFlag(ChapterFlag.HARSH)) ? "Harsh" : "Soft";
         this.jumpTo(labelPrefix + labelSuffix);
     }
 
@@ -1717,7 +1309,7 @@ public class Script {
                 this.boolCondition = false;
                 break;
             default:
-                System.out.println("[DEBUG: Invalid setbool argument " + argument + " at line " + this.cursor + " in " + source.getName() + "]");
+                IOHandler.out().println("[DEBUG: Invalid setbool argument " + argument + " at line " + this.cursor + " in " + source.getName() + "]");
         }
     }
 
@@ -1730,7 +1322,7 @@ public class Script {
             int newValue = Integer.parseInt(argument);
             this.intCondition = newValue;
         } catch (NumberFormatException e) {
-            System.out.println("[DEBUG: Invalid setnum argument " + argument + " at line " + this.cursor + " in " + source.getName() + "]");
+            IOHandler.out().println("[DEBUG: Invalid setnum argument " + argument + " at line " + this.cursor + " in " + source.getName() + "]");
         }
     }
 
@@ -1747,12 +1339,18 @@ public class Script {
      * @param arguments the possible labels to move to
      */
     public void boolSwitchJumpTo(String arguments) {
-        String[] jumpLabels = arguments.split(" ");
+        this.boolSwitchJumpTo(arguments.split(" "));
+    }
 
+    /**
+     * Moves the cursor to one of two labels depending on a given boolean
+     * @param jumpLabels the possible labels to move to
+     */
+    private void boolSwitchJumpTo(String[] jumpLabels) {
         switch (jumpLabels.length) {
             case 0:
                 // Invalid line; print error message and skip to next line
-                System.out.println("[DEBUG: Invalid switchjump in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+                IOHandler.out().println("[DEBUG: Invalid switchjump in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
                 break;
 
             case 1:
@@ -1775,18 +1373,24 @@ public class Script {
             if (this.hasLabel(arguments + this.intCondition)) this.jumpTo(arguments + this.intCondition);
             // else: default - continue without jumping
         } else {
-            String[] jumpLabels = arguments.split(" ");
+            this.numSwitchJumpTo(arguments.split(" "));
+        }
+    }
 
-            if (jumpLabels.length > 0) {
-                try {
-                    this.jumpTo(jumpLabels[this.intCondition]);
-                } catch (IndexOutOfBoundsException e) {
-                    // Default: continue without jumping
-                }
-            } else {
-                // Invalid line; print error message and skip to next line
-                System.out.println("[DEBUG: Invalid numswitchjump in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+    /**
+     * Moves the cursor to one of several labels depending on a given int
+     * @param jumpLabels the possible labels to move to
+     */
+    private void numSwitchJumpTo(String[] jumpLabels) {
+        if (jumpLabels.length > 0) {
+            try {
+                this.jumpTo(jumpLabels[this.intCondition]);
+            } catch (IndexOutOfBoundsException e) {
+                // Default: continue without jumping
             }
+        } else {
+            // Invalid line; print error message and skip to next line
+            IOHandler.out().println("[DEBUG: Invalid numswitchjump in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
         }
     }
 
@@ -1800,17 +1404,24 @@ public class Script {
             if (this.hasLabel(this.strCondition + arguments)) this.jumpTo(this.strCondition + arguments);
             // else: default - continue without jumping
         } else {
-            String[] args = arguments.split(" ");
-            int nArgs = args.length;
+            this.strSwitchJumpTo(arguments.split(" "));
+        }
+    }
 
-            if (nArgs >= 2 && nArgs % 2 == 0) { // Must have an even number of arguments
-                for (int i = 0; i < nArgs; i += 2) {
-                    if (strCondition.equals(args[i])) this.jumpTo(args[i+1]);
-                }
-            } else {
-                // Invalid line; print error message and skip to next line
-                System.out.println("[DEBUG: Invalid strswitchjump in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+    /**
+     * Moves the cursor to one of several labels depending on a given String
+     * @param args the possible Strings to check for and their corresponding labels
+     */
+    private void strSwitchJumpTo(String[] args) {
+        int nArgs = args.length;
+
+        if (nArgs >= 2 && nArgs % 2 == 0) { // Must have an even number of arguments
+            for (int i = 0; i < nArgs; i += 2) {
+                if (strCondition.equals(args[i])) this.jumpTo(args[i+1]);
             }
+        } else {
+            // Invalid line; print error message and skip to next line
+            IOHandler.out().println("[DEBUG: Invalid strswitchjump in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
         }
     }
 
@@ -1819,61 +1430,29 @@ public class Script {
      * @param lineIndex the index of the dialogue line to print
      */
     public void printDialogueLine(int lineIndex) {
-        String lineContent = this.getLine(lineIndex).trim();
-        String[] split = lineContent.split(" ", 2);
-
-        String prefix = split[0];
-        String argument = (split.length == 2) ? split[1] : "";
-        String[] mods = new String[0];
-
-        if (!argument.isEmpty()) {
-            split = argument.split(" /// ");
-            if (split.length != 1) {
-                argument = split[0];
-                String modifiers = split[1];
-                mods = modifiers.split(" ");
-            }
-        }
-
-        this.printDialogueLine(prefix, argument, mods);
+        this.printDialogueLine(this.compiled.getInstruction(lineIndex));
     }
 
     /**
-     * Prints out the dialogue line specified by a given character identifier and line
-     * @param characterID the ID of the character speaking the line
-     * @param arguments the dialogue line itself, as well as any optional modifiers
-     * @param modifiers any modifiers to apply to the line
+     * Prints out the dialogue line specified by a given pre-decoded instruction
+     * @param instruction the instruction containing the character identifier, the dialogue line itself, and any modifiers
      */
-    private void printDialogueLine(String characterID, String line, String[] modifiers) {
-        Voice v = Voice.getVoice(characterID);
-        boolean isInterrupted = false;
-        double speedMultiplier = 1;
+    private void printDialogueLine(ScriptInstruction instruction) {
+        DialogueLine line = instruction.getDialogueLine();
 
-        boolean checkResult = this.runModifierChecks(modifiers, v);
-        //System.out.println("[DEBUG: modifier checks returned " + checkResult + "]");
+        boolean checkResult = this.runModifierChecks(instruction.getModifierCheck());
+        //IOHandler.out().println("[DEBUG: modifier checks returned " + checkResult + "]");
         if (!checkResult) return;
-        //System.out.println("[DEBUG: checks passed, printing line]");
-
-        for (String m : modifiers) {
-            if (m.equals("interrupt")) {
-                isInterrupted = true;
-            } else if (m.equals("slow")) {
-                speedMultiplier = 0.5;
-            }
-        }
+        //IOHandler.out().println("[DEBUG: checks passed, printing line]");
 
-        if (v == null) {
-            if (characterID.equals("t") || characterID.equals("truth")) {
-                parser.printDialogueLine(line, isInterrupted);
-            } else if (characterID.equals("p") || characterID.equals("princess")) {
-                parser.printDialogueLine(new PrincessDialogueLine(line, isInterrupted));
-            } else {
-                // Invalid character; print error message and skip to next line
-                System.out.println("[DEBUG: Invalid character ID in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
-            }
+        if (line == null) {
+            // Invalid character; print error message and skip to next line
+            IOHandler.out().println("[DEBUG: Invalid character ID in file " + source.getName() + " at line " + (this.cursor + 1) + "]");
+        } else if (line instanceof VoiceDialogueLine) {
+            parser.printDialogueLine(line, instruction.getSpeedMultiplier());
         } else {
-            parser.printDialogueLine(v, line, isInterrupted, speedMultiplier);
-        }        
+            parser.printDialogueLine(line);
+        }
     }
 
     // --- MISC ---
@@ -1907,11 +1486,11 @@ public class Script {
         IOHandler parser = new IOHandler(manager);
         
         File testFile = new File("Scripts", "TestScript.txt");
-        System.out.println(testFile.getPath());
+        IOHandler.out().println(testFile.getPath());
         
         Script script = new Script(manager, parser, "TestScript");
-        for (String a : script.labels.keySet()) {
-            System.out.println(a + ", " + script.labels.get(a));
+        for (String a : script.compiled.getLabels().keySet()) {
+            IOHandler.out().println(a + ", " + script.compiled.getLabelIndex(a));
         }
 
         //manager.toggleAutoAdvance();
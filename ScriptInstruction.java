@@ -0,0 +1,193 @@
+public class ScriptInstruction {
+
+    private final ScriptOpcode opcode;
+    private final String prefix;
+    private final String argument;
+    private final String[] args; // The argument, split into its first word and the rest of the line
+    private final String[] words; // The argument, split into every individual word
+    private final String[] modifiers;
+    private final ModifierCheck modifierCheck;
+
+    // Pre-resolved values for specific opcodes
+    private final Voice speaker;
+    private final Integer jumpIndex;
+    private final boolean isInterrupted;
+    private final double speedMultiplier;
+    private final DialogueLine dialogueLine; // Shared between prints, so its print schedules only need to be built once
+
+    private static final String[] NOARGS = new String[0];
+
+    // --- CONSTRUCTOR ---
+
+    /**
+     * Constructor; decodes a single line of a Script into an instruction
+     * @param lineContent the trimmed text of the line
+     */
+    public ScriptInstruction(String lineContent) {
+        String[] split = lineContent.split(" ", 2);
+
+        String prefix = split[0];
+        String argument = "";
+        String[] args;
+        String[] mods;
+        try {
+            argument = split[1];
+            split = argument.split(" /// ");
+            argument = split[0];
+            args = argument.split(" ", 2);
+
+            if (split.length == 1) {
+                mods = NOARGS;
+            } else {
+                String modifiers = split[1];
+                mods = modifiers.split(" ");
+            }
+        } catch (IndexOutOfBoundsException e) {
+            args = NOARGS;
+            mods = NOARGS;
+        }
+
+        this.prefix = prefix;
+        this.opcode = ScriptOpcode.getOpcode(this.prefix);
+        this.argument = argument;
+        this.args = args;
+        this.words = argument.split(" ");
+        this.modifiers = mods;
+
+        this.speaker = Voice.getVoice(this.prefix);
+        this.modifierCheck = (mods.length == 0) ? ModifierCheck.NONE : new ModifierCheck(mods, this.speaker);
+
+        Integer jumpIndex = null;
+        if (this.opcode == ScriptOpcode.JUMPTO) {
+            try {
+                jumpIndex = Integer.parseInt(argument);
+            } catch (NumberFormatException e) {
+                jumpIndex = null;
+            }
+        }
+        this.jumpIndex = jumpIndex;
+
+        boolean isInterrupted = false;
+        double speedMultiplier = 1;
+        for (String m : mods) {
+            if (m.equals("interrupt")) {
+                isInterrupted = true;
+            } else if (m.equals("slow")) {
+                speedMultiplier = 0.5;
+            }
+        }
+        this.isInterrupted = isInterrupted;
+        this.speedMultiplier = speedMultiplier;
+
+        DialogueLine dialogueLine = null;
+        if (this.opcode == ScriptOpcode.DIALOGUE) {
+            if (this.speaker != null) {
+                dialogueLine = new VoiceDialogueLine(this.speaker, argument, isInterrupted);
+            } else if (this.prefix.equals("t") || this.prefix.equals("truth")) {
+                dialogueLine = new DialogueLine(argument, isInterrupted);
+            } else if (this.prefix.equals("p") || this.prefix.equals("princess")) {
+                dialogueLine = new PrincessDialogueLine(argument, isInterrupted);
+            }
+        }
+        this.dialogueLine = dialogueLine;
+    }
+
+    // --- ACCESSORS ---
+
+    /**
+     * Accessor for opcode
+     * @return the opcode of this instruction
+     */
+    public ScriptOpcode getOpcode() {
+        return this.opcode;
+    }
+
+    /**
+     * Accessor for prefix
+     * @return the first word of the line this instruction was decoded from
+     */
+    public String getPrefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Accessor for argument
+     * @return the argument of this instruction, not including any modifiers
+     */
+    public String getArgument() {
+        return this.argument;
+    }
+
+    /**
+     * Accessor for args
+     * @return the argument of this instruction, split into its first word and the rest of the argument
+     */
+    public String[] getArgs() {
+        return this.args;
+    }
+
+    /**
+     * Accessor for words
+     * @return the argument of this instruction, split into individual words
+     */
+    public String[] getWords() {
+        return this.words;
+    }
+
+    /**
+     * Accessor for modifiers
+     * @return the modifiers of this instruction
+     */
+    public String[] getModifiers() {
+        return this.modifiers;
+    }
+
+    /**
+     * Accessor for modifierCheck
+     * @return the compiled check for the modifiers of this instruction
+     */
+    public ModifierCheck getModifierCheck() {
+        return this.modifierCheck;
+    }
+
+    /**
+     * Accessor for speaker
+     * @return the Voice speaking this dialogue line, or null if this is not a dialogue line spoken by a Voice
+     */
+    public Voice getSpeaker() {
+        return this.speaker;
+    }
+
+    /**
+     * Accessor for jumpIndex
+     * @return the line index this instruction jumps to, or null if this instruction does not jump to a line index
+     */
+    public Integer getJumpIndex() {
+        return this.jumpIndex;
+    }
+
+    /**
+     * Accessor for isInterrupted
+     * @return whether this dialogue line is interrupted
+     */
+    public boolean isInterrupted() {
+        return this.isInterrupted;
+    }
+
+    /**
+     * Accessor for speedMultiplier
+     * @return the speed multiplier of this dialogue line
+     */
+    public double getSpeedMultiplier() {
+        return this.speedMultiplier;
+    }
+
+    /**
+     * Accessor for dialogueLine
+     * @return the DialogueLine printed by this instruction, or null if this is not a valid dialogue line
+     */
+    public DialogueLine getDialogueLine() {
+        return this.dialogueLine;
+    }
+
+}
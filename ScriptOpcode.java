@@ -0,0 +1,77 @@
+public enum ScriptOpcode {
+    COMMENT,
+    LABEL,
+    BREAK,
+    END,
+    LINEBREAK,
+    PAUSE,
+    UNLOCK,
+    NOWPLAYING,
+    QUIETCREEP,
+    CLAIMFOLD,
+    JUMPTO,
+    CLAIM,
+    FIRSTSWITCH,
+    BLADESWITCH,
+    MOODSWITCH,
+    VOICE2SWITCH,
+    VOICE3SWITCH,
+    SOURCESWITCH,
+    SETBOOL,
+    SETNUM,
+    SETSTRING,
+    SWITCHJUMP,
+    NUMSWITCHJUMP,
+    NUMAUTOJUMP,
+    STRINGSWITCHJUMP,
+    STRINGAUTOJUMP,
+    DIALOGUE,
+    INVALID;
+
+    /**
+     * Returns the opcode corresponding to the given line prefix
+     * @param prefix the first word of a line in a Script
+     * @return the opcode corresponding to the given line prefix
+     */
+    public static ScriptOpcode getOpcode(String prefix) {
+        switch (prefix) {
+            case "//": return COMMENT;
+            case "label": return LABEL;
+            case "break": return BREAK;
+            case "": return END;
+            case "linebreak": return LINEBREAK;
+            case "pause": return PAUSE;
+            case "unlock": return UNLOCK;
+            case "nowplaying": return NOWPLAYING;
+            case "quietcreep": return QUIETCREEP;
+            case "claimfold": return CLAIMFOLD;
+            case "jumpto": return JUMPTO;
+            case "claim": return CLAIM;
+            case "firstswitch": return FIRSTSWITCH;
+            case "bladeswitch": return BLADESWITCH;
+
+            case "moodswitch":
+            case "harshswitch": return MOODSWITCH;
+
+            case "voice2switch": return VOICE2SWITCH;
+            case "voice3switch": return VOICE3SWITCH;
+            case "sourceswitch": return SOURCESWITCH;
+            case "setbool": return SETBOOL;
+            case "setnum": return SETNUM;
+            case "setstring": return SETSTRING;
+            case "switchjump": return SWITCHJUMP;
+            case "numswitchjump": return NUMSWITCHJUMP;
+            case "numautojump": return NUMAUTOJUMP;
+            case "stringswitchjump": return STRINGSWITCHJUMP;
+            case "stringautojump": return STRINGAUTOJUMP;
+
+            default:
+                if (Script.isValidCharacter(prefix)) {
+                    return DIALOGUE;
+                } else {
+                    return INVALID;
+                }
+        }
+    }
+
+}
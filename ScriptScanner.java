@@ -233,7 +233,7 @@ public class ScriptScanner extends Script {
                     if (args.length != 1) errorsFound.add(new ScriptError(lineIndex, 6, 1, prefix));
 
                     boolean labelFound = false;
-                    for (String label : labels.keySet()) {
+                    for (String label : compiled.getLabels().keySet()) {
                         if (label.endsWith(args[0])) {
                             labelFound = true;
                             break;
@@ -1128,26 +1128,26 @@ public class ScriptScanner extends Script {
      * Prints out a report of all errors and potential issues in the file
      */
     public void printReport() {
-        System.out.println();
+        IOHandler.out().println();
         IOHandler.wrapPrintln("--- SCAN RESULTS: " + source.getName() + " ---");
-        System.out.println();
+        IOHandler.out().println();
 
         if (errorsFound.isEmpty()) {
             if (issuesFound.isEmpty()) {
                 IOHandler.wrapPrintln("No errors or potential issues found! " + source.getName() + " is perfecttly functional!");
-                System.out.println();
+                IOHandler.out().println();
                 return;
             } else {
                 IOHandler.wrapPrintln("No errors found!");
             }
         } else {
-            System.out.println("- " + errorsFound.size() + " ERRORS FOUND -");
+            IOHandler.out().println("- " + errorsFound.size() + " ERRORS FOUND -");
             for (ScriptError error : errorsFound) {
                 IOHandler.wrapPrintln(error.toString());
             }
         }
 
-        System.out.println();
+        IOHandler.out().println();
         if (issuesFound.isEmpty()) {
             IOHandler.wrapPrintln("No potential issues found!");
         } else {
@@ -1157,7 +1157,7 @@ public class ScriptScanner extends Script {
             }
         }
 
-        System.out.println();
+        IOHandler.out().println();
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,36 @@
+import java.io.Closeable;
+import java.io.PrintStream;
+
+public interface SessionIO extends Closeable {
+
+    /**
+     * Reads the next line of input from the player, waiting until one is available
+     * @return the next line of input from the player, or null if there is no more input
+     */
+    public String readLine();
+
+    /**
+     * Returns the stream that all output for this session is written to
+     * @return the stream that all output for this session is written to
+     */
+    public PrintStream getOutput();
+
+    /**
+     * Returns the number of columns this session's output is wrapped at
+     * @return the number of columns this session's output is wrapped at
+     */
+    public int getWrapColumns();
+
+    /**
+     * Sets the number of columns this session's output is wrapped at
+     * @param columns the number of columns to wrap this session's output at
+     */
+    public void setWrapColumns(int columns);
+
+    /**
+     * Closes this session's input and output
+     */
+    @Override
+    public void close();
+
+}
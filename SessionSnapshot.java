@@ -0,0 +1,106 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Set;
+
+public class SessionSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final HashMap<String, Serializable> values; // Map name --> saved value
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     */
+    public SessionSnapshot() {
+        this.values = new HashMap<>();
+    }
+
+    // --- ACCESSORS & MANIPULATORS ---
+
+    /**
+     * Saves a value in this snapshot; the value should not be modified afterwards, as restoring this snapshot does not copy it
+     * @param name the name of the value
+     * @param value the value to save
+     */
+    public void put(String name, Serializable value) {
+        this.values.put(name, value);
+    }
+
+    /**
+     * Retrieves a value saved in this snapshot
+     * @param name the name of the value
+     * @return the value saved under the given name
+     * @throws RuntimeException if there is no value saved under the given name
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Serializable> T get(String name) {
+        if (!this.values.containsKey(name)) throw new RuntimeException("Value " + name + " is not saved in this snapshot");
+        return (T)this.values.get(name);
+    }
+
+    /**
+     * Returns the names of every value saved in this snapshot
+     * @return the names of every value saved in this snapshot
+     */
+    public Set<String> getNames() {
+        return this.values.keySet();
+    }
+
+    /**
+     * Retrieves a boolean saved in this snapshot
+     * @param name the name of the value
+     * @return the boolean saved under the given name
+     */
+    public boolean getBoolean(String name) {
+        Boolean value = this.get(name);
+        return value;
+    }
+
+    /**
+     * Retrieves an int saved in this snapshot
+     * @param name the name of the value
+     * @return the int saved under the given name
+     */
+    public int getInt(String name) {
+        Integer value = this.get(name);
+        return value;
+    }
+
+    // --- SERIALIZATION ---
+
+    /**
+     * Serializes this snapshot
+     * @return the serialized form of this snapshot
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(this);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize snapshot", e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes a snapshot
+     * @param bytes the serialized form of a snapshot
+     * @return the snapshot stored in bytes
+     */
+    public static SessionSnapshot fromBytes(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (SessionSnapshot)in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new RuntimeException("Failed to deserialize snapshot", e);
+        }
+    }
+
+}
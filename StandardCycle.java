@@ -5,7 +5,6 @@ public abstract class StandardCycle extends Cycle {
 
     // One CYCLE = from beginning of Ch1 to the end of Shifting Mound interlude
 
-    protected final boolean isFirstVessel;
     protected final boolean canAbort;
     protected final ArrayList<Chapter> route;
     
@@ -32,7 +31,7 @@ public abstract class StandardCycle extends Cycle {
     protected StandardCycle(GameManager manager, IOHandler parser) {
         super(manager, parser);
 
-        this.isFirstVessel = manager.nClaimedVessels() == 0;
+        this.flags.set(ChapterFlag.FIRSTVESSEL, manager.nClaimedVessels() == 0);
         this.canAbort = manager.nClaimedVessels() < 2;
         this.route = new ArrayList<>();
 
@@ -58,7 +57,7 @@ public abstract class StandardCycle extends Cycle {
     protected StandardCycle(GameManager manager, IOHandler parser, ArrayList<Chapter> route, boolean hasTriedAbort, ChapterEnding prevEnding) {
         super(manager, parser);
 
-        this.isFirstVessel = manager.nClaimedVessels() == 0;
+        this.flags.set(ChapterFlag.FIRSTVESSEL, manager.nClaimedVessels() == 0);
         this.canAbort = manager.nClaimedVessels() < 2;
 
         this.cantTryAbort = new Condition(hasTriedAbort);
@@ -86,7 +85,7 @@ public abstract class StandardCycle extends Cycle {
      */
     @Override
     public boolean isFirstVessel() {
-        return this.isFirstVessel;
+        return this.flags.has(ChapterFlag.FIRSTVESSEL);
     }
 
     // --- COMMANDS ---
@@ -94,13 +93,13 @@ public abstract class StandardCycle extends Cycle {
     /**
      * Attempts to let the player enter a given location or the nearest appropriate location
      * @param argument the location to enter (should be "cabin", "basement", or an empty String)
-     * @return "cFail" if argument is invalid; "cGo[Location]" if there is a valid location the player can enter; "cEnterFail" otherwise
+     * @return CFAIL if argument is invalid; "cGo[Location]" if there is a valid location the player can enter; CENTERFAIL otherwise
      */
     @Override
-    public String enter(String argument) {
-        String outcome = super.enter(argument);
-        if (this.activeChapter == Chapter.SPACESBETWEEN && outcome.equals("GoCabin")) {
-            return "EnterFail";
+    public Outcome enter(String argument) {
+        Outcome outcome = super.enter(argument);
+        if (this.activeChapter == Chapter.SPACESBETWEEN && outcome == Outcome.CGOCABIN) {
+            return Outcome.CENTERFAIL;
         } else {
             return outcome;
         }
@@ -110,18 +109,18 @@ public abstract class StandardCycle extends Cycle {
      * Attempts to let the player wipe the mirror clean
      * @param argument the argument given by the player
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; redirects to the APPROACH command if the player is not currently in front of the mirror; "cWipeFail" if the player cannot wipe the mirror clean right now; "cWipe" otherwise
+     * @return CFAIL if argument is invalid; redirects to the APPROACH command if the player is not currently in front of the mirror; CWIPEFAIL if the player cannot wipe the mirror clean right now; CWIPE otherwise
      */
     @Override
-    protected String wipe(String argument, boolean secondPrompt) {
+    protected Outcome wipe(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the mirror":
             case "mirror":
                 if (this.currentLocation == GameLocation.MIRROR) {
                     if (this.mirrorGazeFlag) {
-                        return "WipeFail";
+                        return Outcome.CWIPEFAIL;
                     } else {
-                        return "Wipe";
+                        return Outcome.CWIPE;
                     }
                 } else {
                     return this.approach("mirror");
@@ -130,7 +129,7 @@ public abstract class StandardCycle extends Cycle {
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.WIPE);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to wipe clean?", true);
                     return this.approach(parser.getInput(), true);
@@ -138,7 +137,7 @@ public abstract class StandardCycle extends Cycle {
 
             default:
                 manager.showCommandHelp(Command.WIPE);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -146,20 +145,20 @@ public abstract class StandardCycle extends Cycle {
      * Attempts to let the player smash the mirror
      * @param argument the argument given by the player
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; redirects to the APPROACH command if the player is not currently in front of the mirror; "cSmashNoStubbornFail" if the player does not currently have the Voice of the Stubborn; "cSmashFail" if the player cannot smash the mirror right now; "cSmash" otherwise
+     * @return CFAIL if argument is invalid; redirects to the APPROACH command if the player is not currently in front of the mirror; CSMASHNOSTUBBORNFAIL if the player does not currently have the Voice of the Stubborn; CSMASHFAIL if the player cannot smash the mirror right now; CSMASH otherwise
      */
     @Override
-    protected String smash(String argument, boolean secondPrompt) {
+    protected Outcome smash(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the mirror":
             case "mirror":
                 if (this.currentLocation == GameLocation.MIRROR) {
                     if (this.mirrorGazeFlag) {
-                        return "SmashFail";
+                        return Outcome.CSMASHFAIL;
                     } else if (!this.hasVoice(Voice.STUBBORN)) {
-                        return "SmashNoStubbornFail";
+                        return Outcome.CSMASHNOSTUBBORNFAIL;
                     } else {
-                        return "Smash";
+                        return Outcome.CSMASH;
                     }
                 } else {
                     return this.approach("mirror");
@@ -168,7 +167,7 @@ public abstract class StandardCycle extends Cycle {
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.SMASH);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to smash?", true);
                     return this.approach(parser.getInput(), true);
@@ -176,7 +175,7 @@ public abstract class StandardCycle extends Cycle {
 
             default:
                 manager.showCommandHelp(Command.SMASH);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -184,10 +183,10 @@ public abstract class StandardCycle extends Cycle {
      * Attempts to let the player gaze into their reflection
      * @param argument the argument given by the player
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; redirects to the APPROACH command if the player is standing before the mirror at the end of a cycle; redirects to the WIPE command if the player is at the mirror but cannot gaze into their reflection right now; "cGazeNoMirrorFail" if the mirror isn't present; "cGazeFail" if the player otherwise cannot gaze into their reflection right now; "cGaze" otherwise
+     * @return CFAIL if argument is invalid; redirects to the APPROACH command if the player is standing before the mirror at the end of a cycle; redirects to the WIPE command if the player is at the mirror but cannot gaze into their reflection right now; CGAZENOMIRRORFAIL if the mirror isn't present; CGAZEFAIL if the player otherwise cannot gaze into their reflection right now; CGAZE otherwise
      */
     @Override
-    protected String gaze(String argument, boolean secondPrompt) {
+    protected Outcome gaze(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the reflection":
             case "reflection":
@@ -195,20 +194,20 @@ public abstract class StandardCycle extends Cycle {
             case "mirror":
                 if (this.currentLocation == GameLocation.MIRROR) {
                     if (this.mirrorGazeFlag) {
-                        return "Gaze";
+                        return Outcome.CGAZE;
                     } else {
                         return this.wipe("mirror");
                     }
                 } else if (this.mirrorPresent ||this.currentLocation == GameLocation.BEFOREMIRROR) {
                     return this.approach("mirror");
                 } else {
-                    return "GazeNoMirrorFail";
+                    return Outcome.CGAZENOMIRRORFAIL;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp(Command.GAZE);
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("What do you want to gaze into?", true);
                     return this.approach(parser.getInput(), true);
@@ -216,7 +215,7 @@ public abstract class StandardCycle extends Cycle {
 
             default:
                 manager.showCommandHelp(Command.GAZE);
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -224,23 +223,23 @@ public abstract class StandardCycle extends Cycle {
      * Attempts to let the player slay either the Princess or themselves
      * @param argument the target to slay
      * @param secondPrompt whether the player has already been given a chance to re-enter a valid argument
-     * @return "cFail" if argument is invalid; "cSlayPrincessDeadFail" if attempting to slay the Princess when she is already dead; "cSlayNoPrincessFail" if attempting to slay the Princess when she is not present; "cSlayPrincessNoBladeFail" if attempting to slay the Princess without the blade; "cSlayPrincessFail" if the player cannot slay the Princess  right now; "cSlayPrincess" if otherwise attempting to slay the Princess; "cSlaySelfNoBladeFail" if attempting to slay themselves without the blade; "cSlaySelfFail" if the player cannot slay themselves right now; "cSlaySelf" if otherwise attempting to slay themselves
+     * @return CFAIL if argument is invalid; CSLAYPRINCESSDEADFAIL if attempting to slay the Princess when she is already dead; CSLAYNOPRINCESSFAIL if attempting to slay the Princess when she is not present; CSLAYPRINCESSNOBLADEFAIL if attempting to slay the Princess without the blade; CSLAYPRINCESSFAIL if the player cannot slay the Princess  right now; CSLAYPRINCESS if otherwise attempting to slay the Princess; CSLAYSELFNOBLADEFAIL if attempting to slay themselves without the blade; CSLAYSELFFAIL if the player cannot slay themselves right now; CSLAYSELF if otherwise attempting to slay themselves
      */
     @Override
-    protected String slay(String argument, boolean secondPrompt) {
+    protected Outcome slay(String argument, boolean secondPrompt) {
         switch (argument) {
             case "the princess":
             case "princess":
                 if (this.princessDead) {
-                    return "SlayPrincessDeadFail";
+                    return Outcome.CSLAYPRINCESSDEADFAIL;
                 } else if (!this.withPrincess) {
-                    return "SlayNoPrincessFail";
-                } else if (!this.hasBlade) {
-                    return "SlayPrincessNoBladeFail";
+                    return Outcome.CSLAYNOPRINCESSFAIL;
+                } else if (!this.hasBlade()) {
+                    return Outcome.CSLAYPRINCESSNOBLADEFAIL;
                 } else if (!this.canSlayPrincess) {
-                    return "SlayPrincessFail";
+                    return Outcome.CSLAYPRINCESSFAIL;
                 } else {
-                    return "SlayPrincess";
+                    return Outcome.CSLAYPRINCESS;
                 }
 
             case "yourself":
@@ -251,18 +250,18 @@ public abstract class StandardCycle extends Cycle {
             case "ourself":
             case "ourselves":
             case "us":
-                if (!this.hasBlade) {
-                    return "SlaySelfNoBladeFail";
+                if (!this.hasBlade()) {
+                    return Outcome.CSLAYSELFNOBLADEFAIL;
                 } else if (!this.canSlaySelf) {
-                    return "SlaySelfFail";
+                    return Outcome.CSLAYSELFFAIL;
                 } else {
-                    return "SlaySelf";
+                    return Outcome.CSLAYSELF;
                 }
             
             case "":
                 if (secondPrompt) {
                     manager.showCommandHelp("slay");
-                    return "Fail";
+                    return Outcome.CFAIL;
                 } else {
                     parser.printDialogueLine("Who do you want to slay?", true);
                     return this.slay(parser.getInput(), true);
@@ -270,7 +269,7 @@ public abstract class StandardCycle extends Cycle {
 
             default:
                 manager.showCommandHelp("slay");
-                return "Fail";
+                return Outcome.CFAIL;
         }
     }
 
@@ -279,39 +278,39 @@ public abstract class StandardCycle extends Cycle {
      * @param outcome the String representation of the outcome of the attempted command
      */
     @Override
-    protected void giveDefaultFailResponse(String outcome) {
+    protected void giveDefaultFailResponse(Outcome outcome) {
         if (!this.hasVoice(Voice.NARRATOR)) {
             super.giveDefaultFailResponse(outcome);
             return;
         }
 
         switch (outcome) {
-            case "cMeta": break;
-
-
-            case "cGoFail":
-            case "cGoLeave":
-            case "cGoPath":
-            case "cGoHill":
-            case "cGoCabin":
-            case "cGoStairs":
-            case "cGoBasement":
-            case "cGoLeft":
-            case "cGoRight":
-            case "cProceed":
+            case CMETA: break;
+
+
+            case CGOFAIL:
+            case CGOLEAVE:
+            case CGOPATH:
+            case CGOHILL:
+            case CGOCABIN:
+            case CGOSTAIRS:
+            case CGOBASEMENT:
+            case CGOLEFT:
+            case CGORIGHT:
+            case CPROCEED:
                 parser.printDialogueLine(new VoiceDialogueLine("There's nowhere to go that way."));
                 break;
 
-            case "cEnterFail":
+            case CENTERFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine("You can't get there from where you are now. Just keep moving forward."));
                 break;
                 
-            case "cLeaveFail":
+            case CLEAVEFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine("You can't leave a place if you aren't there in the first place."));
                 break;
 
 
-            case "cApproachAtMirrorFail":
+            case CAPPROACHATMIRRORFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine("I don't know how many times I have to say this, but there is no mirror."));
                 if (this.hasVoice(Voice.HERO)) {
                     if (this.mirrorPresent) {
@@ -323,34 +322,34 @@ public abstract class StandardCycle extends Cycle {
 
                 break;
                 
-            case "cApproachMirrorFail":
-            case "cApproachMirror":
-            case "cGazeNoMirrorFail":
-            case "cGazeFail":
-            case "cGaze":
+            case CAPPROACHMIRRORFAIL:
+            case CAPPROACHMIRROR:
+            case CGAZENOMIRRORFAIL:
+            case CGAZEFAIL:
+            case CGAZE:
                 parser.printDialogueLine(new VoiceDialogueLine("What are you talking about? There isn't a mirror."));
-                if ((this.mirrorComment || this.touchedMirror) && this.hasVoice(Voice.HERO)) parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "He's... actually right this time. The mirror really isn't here."));
+                if ((this.mirrorComment() || this.touchedMirror()) && this.hasVoice(Voice.HERO)) parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "He's... actually right this time. The mirror really isn't here."));
                 break;
 
-            case "cApproachHerFail":
-            case "cApproachHer":
+            case CAPPROACHHERFAIL:
+            case CAPPROACHHER:
                 parser.printDialogueLine(new VoiceDialogueLine("... What?"));
                 break;
 
-            case "cWipeFail":
-            case "cWipe":
-            case "cSmashFail":
-            case "cSmash":
+            case CWIPEFAIL:
+            case CWIPE:
+            case CSMASHFAIL:
+            case CSMASH:
                 // SHOULD BE INACCESSIBLE; cWipeFail and cSmashFail should only ever be returned without the Narrator there
                 super.giveDefaultFailResponse(outcome);
                 break;
 
-            case "cSmashNoStubbornFail":
+            case CSMASHNOSTUBBORNFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "That seems a bit... aggressive. Let's just wipe it clean."));
                 break;
                 
 
-            case "cSlayPrincessDeadFail":
+            case CSLAYPRINCESSDEADFAIL:
                 if (this.princessSlain) {
                     parser.printDialogueLine(new VoiceDialogueLine("She's already dead, thanks to your efforts."));
                 } else {
@@ -359,22 +358,22 @@ public abstract class StandardCycle extends Cycle {
 
                 break;
 
-            case "cSlayNoPrincessFail":
+            case CSLAYNOPRINCESSFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine("As much as I appreciate your enthusiasm, the Princess isn't here right now. Save it for when you reach the basement."));
                 break;
 
-            case "cSlayPrincessNoBladeFail":
+            case CSLAYPRINCESSNOBLADEFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine("*Sigh.* Unfortunately, you have no weapon with which to slay her. If only you had the blade, this would be so much easier."));
                 break;
 
-            case "cSlayPrincessFail":
-            case "cSlayPrincess":
+            case CSLAYPRINCESSFAIL:
+            case CSLAYPRINCESS:
                 // The Narrator doesn't have a line here because there is no universe in which He would ever say no to you trying to slay the Princess if you have the opportunity.
                 // Unfortunately for Him, sometimes I can't let you slay her in the middle of certain menus. Too bad, Narrator.
                 super.giveDefaultFailResponse(outcome);
                 break;
 
-            case "cSlaySelfNoBladeFail":
+            case CSLAYSELFNOBLADEFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine("Why on earth would you even consider that?!"));
 
                 if (this.knowsBlade) {
@@ -385,18 +384,18 @@ public abstract class StandardCycle extends Cycle {
 
                 break;
 
-            case "cSlaySelfFail":
-            case "cSlaySelf":
+            case CSLAYSELFFAIL:
+            case CSLAYSELF:
                 parser.printDialogueLine(new VoiceDialogueLine("Are you insane?! Absolutely not."));
                 if (this.hasVoice(Voice.HERO)) parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "He's right. We don't need to make such a... rash decision."));
                 break;
                 
 
-            case "cTakeHasBladeFail":
+            case CTAKEHASBLADEFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine("You already have the blade, remember?"));
                 break;
             
-            case "cTakeBladeFail":
+            case CTAKEBLADEFAIL:
                 if (this.knowsBlade) {
                     parser.printDialogueLine(new VoiceDialogueLine("As much as I appreciate your enthusiasm, the blade isn't here right now."));
                 } else {
@@ -405,11 +404,11 @@ public abstract class StandardCycle extends Cycle {
 
                 break;
 
-            case "cTakeBlade":
+            case CTAKEBLADE:
                 super.giveDefaultFailResponse(outcome);
                 break;
 
-            case "cDropNoBladeFail":
+            case CDROPNOBLADEFAIL:
                 if (this.knowsBlade) {
                     parser.printDialogueLine(new VoiceDialogueLine("I can't fathom why you would want to drop your only weapon, but you don't even have it right now."));
                 } else {
@@ -418,12 +417,12 @@ public abstract class StandardCycle extends Cycle {
                 
                 break;
 
-            case "cDropFail":
-            case "cDrop":
+            case CDROPFAIL:
+            case CDROP:
                 parser.printDialogueLine(new VoiceDialogueLine("You can't drop the blade now. You're here for a reason. Finish the job."));
                 break;
 
-            case "cGiveNoBladeFail":
+            case CGIVENOBLADEFAIL:
                 if (this.knowsBlade) {
                     parser.printDialogueLine(new VoiceDialogueLine("I can't fathom why you would want to give your only weapon to someone who, in case you weren't paying attention, is an *existential threat to the entire world,* but you don't even have it right now."));
                 } else {
@@ -432,12 +431,12 @@ public abstract class StandardCycle extends Cycle {
                 
                 break;
 
-            case "cGiveBladeFail":
-            case "cGiveBlade":
+            case CGIVEBLADEFAIL:
+            case CGIVEBLADE:
                 parser.printDialogueLine(new VoiceDialogueLine("What? Absolutely not. She's an existential threat to the entire world, you can't just *give her your weapon.*"));
                 break;
 
-            case "cThrowNoBladeFail":
+            case CTHROWNOBLADEFAIL:
                 if (this.knowsBlade) {
                     parser.printDialogueLine(new VoiceDialogueLine("I can't fathom why you would want to throw your only weapon away, but conveniently, you don't even have it right now."));
                 } else {
@@ -446,15 +445,15 @@ public abstract class StandardCycle extends Cycle {
                 
                 break;
                 
-            case "cThrowFail":
-            case "cThrow":
+            case CTHROWFAIL:
+            case CTHROW:
                 parser.printDialogueLine(new VoiceDialogueLine("Are you insane?! Absolutely not."));
                 if (this.hasVoice(Voice.HERO)) parser.printDialogueLine(new VoiceDialogueLine(Voice.HERO, "Why would we even do that? That seems... silly."));
                 break;
 
 
-            case "cTakeHandDeadFail":
-            case "cGiveHandDeadFail":
+            case CTAKEHANDDEADFAIL:
+            case CGIVEHANDDEADFAIL:
                 if (this.princessSlain) {
                     parser.printDialogueLine(new VoiceDialogueLine("You *slew her.* Don't be... weird about it."));
                 } else {
@@ -463,15 +462,15 @@ public abstract class StandardCycle extends Cycle {
 
                 break;
 
-            case "cTakeHandNoPrincessFail":
-            case "cGiveHandNoPrincessFail":
+            case CTAKEHANDNOPRINCESSFAIL:
+            case CGIVEHANDNOPRINCESSFAIL:
                 parser.printDialogueLine(new VoiceDialogueLine("There's no one else here, so unless you'd like to take your *own* hand, you're out of luck."));
                 break;
 
-            case "cTakeHandFail":
-            case "cTakeHand":
-            case "cGiveHandFail":
-            case "cGiveHand":
+            case CTAKEHANDFAIL:
+            case CTAKEHAND:
+            case CGIVEHANDFAIL:
+            case CGIVEHAND:
                 if (this.princessViolent) {
                     parser.printDialogueLine(new VoiceDialogueLine("Are you insane? Do I really have to remind you about the fact she's *actively attempting to murder you?*"));
                 } else {
@@ -502,13 +501,13 @@ public abstract class StandardCycle extends Cycle {
      */
     @Override
     public void quietCreep() {
-        System.out.println();
-        if (this.isFirstVessel && manager.nVesselsAborted() == 0) {
+        IOHandler.out().println();
+        if (this.isFirstVessel() && manager.nVesselsAborted() == 0) {
             parser.printDialogueLine(QUIETCREEP);
         } else {
             parser.printDialogueLine(QUIETCREEP2);
         }
-        System.out.println();
+        IOHandler.out().println();
     }
 
     // --- CYCLE MANAGEMENT ---
@@ -517,73 +516,69 @@ public abstract class StandardCycle extends Cycle {
      * Displays the title card of the active Chapter
      */
     protected void displayTitleCard() {
-        System.out.println();
-        System.out.println();
-        System.out.println();
+        IOHandler.out().println();
+        IOHandler.out().println();
+        IOHandler.out().println();
 
         if (this.activeChapter == Chapter.CLARITY) {
-            try {
-                parser.printDivider();
-                parser.printDialogueLine("Chapter III", true);
-                parser.printDivider();
-                Thread.sleep(750);
-
-                parser.printDialogueLine(new DialogueLine("   Chapter IV      Chapter V", true), 1.5);
-                parser.printDivider();
-                Thread.sleep(700);
-                
-                parser.printDialogueLine(new DialogueLine(" Chapter VII   Chapter VI          Chapter VIII", true), 2.5);
-                parser.printDivider();
-                Thread.sleep(700);
-                
-                IOHandler.wrapPrintln("Chapter XIIChapter IX  ChapterChXVIerX Chapter XVChapterXIV   ChapterhaXIer XIIIChapter XVII");
-                parser.printDivider();
-                Thread.sleep(550);
-                
-                System.out.println("-----------------------------------");
-                System.out.println("CChXpICXaVIIaXtVapVerXhVIItXXIhapXrIVpChXXerV");
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                Thread.sleep(400);
+            parser.printDivider();
+            parser.printDialogueLine("Chapter III", true);
+            parser.printDivider();
+            manager.pause(750);
 
-                
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                Thread.sleep(350);
+            parser.printDialogueLine(new DialogueLine("   Chapter IV      Chapter V", true), 1.5);
+            parser.printDivider();
+            manager.pause(700);
+            
+            parser.printDialogueLine(new DialogueLine(" Chapter VII   Chapter VI          Chapter VIII", true), 2.5);
+            parser.printDivider();
+            manager.pause(700);
+            
+            IOHandler.wrapPrintln("Chapter XIIChapter IX  ChapterChXVIerX Chapter XVChapterXIV   ChapterhaXIer XIIIChapter XVII");
+            parser.printDivider();
+            manager.pause(550);
+            
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("CChXpICXaVIIaXtVapVerXhVIItXXIhapXrIVpChXXerV");
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            manager.pause(400);
 
-                
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                Thread.sleep(200);
+            
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            manager.pause(350);
 
-                
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                System.out.println("-----------------------------------");
-                Thread.sleep(2000);
+            
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            manager.pause(200);
 
-                
-                IOHandler.wrapPrintln("THE MOMENT OF CLARITY");
-                System.out.print("-----------------------------------");
-                parser.waitForInput();
+            
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            IOHandler.out().println("-----------------------------------");
+            manager.pause(2000);
 
-                System.out.println();
-            } catch (InterruptedException e) {
-                throw new RuntimeException("Thread interrupted");
-            }
+            
+            IOHandler.wrapPrintln("THE MOMENT OF CLARITY");
+            IOHandler.out().print("-----------------------------------");
+            parser.waitForInput();
+
+            IOHandler.out().println();
         } else {
             parser.printDivider();
             parser.printDialogueLine(this.activeChapter.getPrefix(), true);
             parser.printDialogueLine(this.activeChapter.toString(), true);
             parser.printDivider(false);
             
-            System.out.println();
+            IOHandler.out().println();
         }
     }
 
@@ -599,7 +594,7 @@ public abstract class StandardCycle extends Cycle {
         this.secondaryScript = manager.getMirrorScript();
         secondaryScript.updateReusedScriptFlags();
 
-        this.hasBlade = false;
+        this.flags.set(ChapterFlag.HASBLADE, false);
 
         this.repeatActiveMenu = false;
         this.reverseDirection = false;
@@ -630,8 +625,8 @@ public abstract class StandardCycle extends Cycle {
                 this.repeatActiveMenu = true;
                 while (repeatActiveMenu) {
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "cApproachMirror":
-                        case "approach":
+                        case CAPPROACHMIRROR:
+                        case APPROACH:
                             this.repeatActiveMenu = false;
                             break;
 
@@ -649,8 +644,8 @@ public abstract class StandardCycle extends Cycle {
                 this.repeatActiveMenu = true;
                 while (repeatActiveMenu) {
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "cApproachMirror":
-                        case "approach":
+                        case CAPPROACHMIRROR:
+                        case APPROACH:
                             this.repeatActiveMenu = false;
                             break;
 
@@ -668,8 +663,8 @@ public abstract class StandardCycle extends Cycle {
                 this.repeatActiveMenu = true;
                 while (repeatActiveMenu) {
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "cApproachMirror":
-                        case "approach":
+                        case CAPPROACHMIRROR:
+                        case APPROACH:
                             this.repeatActiveMenu = false;
                             break;
 
@@ -687,8 +682,8 @@ public abstract class StandardCycle extends Cycle {
                 this.repeatActiveMenu = true;
                 while (repeatActiveMenu) {
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "cApproachMirror":
-                        case "approach":
+                        case CAPPROACHMIRROR:
+                        case APPROACH:
                             this.repeatActiveMenu = false;
                             break;
 
@@ -709,8 +704,8 @@ public abstract class StandardCycle extends Cycle {
                 this.repeatActiveMenu = true;
                 while (repeatActiveMenu) {
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "cApproachMirror":
-                        case "approach":
+                        case CAPPROACHMIRROR:
+                        case APPROACH:
                             this.repeatActiveMenu = false;
                             break;
 
@@ -728,7 +723,7 @@ public abstract class StandardCycle extends Cycle {
                 boolean explore = false;
                 boolean silence = false;
                 this.activeMenu = new OptionsMenu();
-                if (this.isFirstVessel) {
+                if (this.isFirstVessel()) {
                     activeMenu.add(new Option(this.manager, "where", "(Explore) I don't know where she went, and I don't know how we'd even go about looking for her."));
                     activeMenu.add(new Option(this.manager, "gone", "(Explore) The Narrator is gone..."));
                     activeMenu.add(new Option(this.manager, "suggest", "(Explore) I think I'm supposed to look at the mirror."));
@@ -739,39 +734,39 @@ public abstract class StandardCycle extends Cycle {
                     while (repeatActiveMenu) {
                         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                         switch (activeOutcome) {
-                            case "where":
+                            case WHERE:
                                 secondaryScript.runConditionalSection("where", contraAsk);
                                 contraAsk = true;
                                 break;
 
-                            case "gone":
+                            case GONE:
                                 secondaryScript.runConditionalSection("gone", contraAsk);
                                 contraAsk = true;
                                 break;
 
-                            case "suggest":
+                            case SUGGEST:
                                 explore = true;
                                 secondaryScript.runConditionalSection("suggest", this.nVoices());
                                 break;
 
-                            case "cApproachMirror":
-                            case "approach":
+                            case CAPPROACHMIRROR:
+                            case APPROACH:
                                 secondaryScript.runSection("approachFirstVessel");
 
                                 this.activeMenu = new OptionsMenu();
-                                activeMenu.add(new Option(this.manager, "explore", "(Explore) \"The mirror never scared you before.\"", this.mirrorComment || this.touchedMirror));
+                                activeMenu.add(new Option(this.manager, "explore", "(Explore) \"The mirror never scared you before.\"", this.mirrorComment() || this.touchedMirror()));
                                 activeMenu.add(new Option(this.manager, "ignore", "[Ignore him.]"));
                                 
                                 while (repeatActiveMenu) {
                                     switch (parser.promptOptionsMenu(activeMenu)) {
-                                        case "explore":
+                                        case EXPLORE:
                                             secondaryScript.runSection();
                                             if (!explore) secondaryScript.runConditionalSection("exploreJoin", this.nVoices());
                                             explore = true;
                                             break;
 
-                                        case "cApproachMirror":
-                                        case "ignore":
+                                        case CAPPROACHMIRROR:
+                                        case IGNORE:
                                             this.repeatActiveMenu = false;
                                             break;
 
@@ -795,15 +790,15 @@ public abstract class StandardCycle extends Cycle {
                     while (repeatActiveMenu) {
                         this.activeOutcome = parser.promptOptionsMenu(activeMenu);
                         switch (activeOutcome) {
-                            case "cruel":
+                            case CRUEL:
                                 canExplore.set(false);
                                 explore = true;
                                 manager.incrementCruelCount();
                                 secondaryScript.runSection("cruel");
                                 break;
 
-                            case "comfortA":
-                            case "comfortB":
+                            case COMFORTA:
+                            case COMFORTB:
                                 canExplore.set(false);
                                 explore = true;
                                 secondaryScript.runConditionalSection("explore", this.nVoices());
@@ -817,20 +812,20 @@ public abstract class StandardCycle extends Cycle {
 
                                 while (repeatSub) {
                                     switch (parser.promptOptionsMenu(subMenu)) {
-                                        case "comfortA":
-                                        case "comfortB":
+                                        case COMFORTA:
+                                        case COMFORTB:
                                             repeatSub = false;
                                             secondaryScript.runSection("comfort");
                                             break;
                                         
-                                        case "cruel":
+                                        case CRUEL:
                                             repeatSub = false;
                                             manager.incrementCruelCount();
                                             secondaryScript.runSection("cruel");
                                             break;
 
-                                        case "cApproachMirror":
-                                        case "approach":
+                                        case CAPPROACHMIRROR:
+                                        case APPROACH:
                                             this.repeatActiveMenu = false;
                                             repeatSub = false;
                                             silence = true;
@@ -840,8 +835,8 @@ public abstract class StandardCycle extends Cycle {
 
                                 break;
 
-                            case "cApproachMirror":
-                            case "approach":
+                            case CAPPROACHMIRROR:
+                            case APPROACH:
                                 this.repeatActiveMenu = false;
                                 break;
 
@@ -866,8 +861,8 @@ public abstract class StandardCycle extends Cycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "cGaze":
-                case "gaze":
+                case CGAZE:
+                case GAZE:
                     this.repeatActiveMenu = false;
                     break;
 
@@ -889,13 +884,13 @@ public abstract class StandardCycle extends Cycle {
             // No dialogue
         } if (prevEnding == ChapterEnding.WATERSTEEL || prevEnding == ChapterEnding.FORMLESS) {
             mainScript.runSection("mirrorGaze");
-        } else if (this.isFirstVessel || (manager.nClaimedVessels() == 1 && manager.hasClaimedAnyVessel(Vessel.RAZORFULL, Vessel.RAZORHEART))) {
+        } else if (this.isFirstVessel() || (manager.nClaimedVessels() == 1 && manager.hasClaimedAnyVessel(Vessel.RAZORFULL, Vessel.RAZORHEART))) {
             secondaryScript.runSection("gazeFirst");
         } else {
             secondaryScript.runSection("gazeAgain");
         }
 
-        System.out.println();
+        IOHandler.out().println();
         switch (manager.nClaimedVessels()) {
             case 0:
                 manager.unlock(Chapter.SPACESBETWEEN);
@@ -938,15 +933,15 @@ public abstract class StandardCycle extends Cycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (this.activeOutcome) {
-                case "cGoHill":
-                case "proceed":
+                case CGOHILL:
+                case PROCEED:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoLeave":
-                case "cGoFail":
-                case "cEnterFail":
-                case "cLeaveFail":
+                case CGOLEAVE:
+                case CGOFAIL:
+                case CENTERFAIL:
+                case CLEAVEFAIL:
                     mainScript.runSection("nowhereToGo");
                     break;
                     
@@ -966,16 +961,16 @@ public abstract class StandardCycle extends Cycle {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
 
             switch (this.activeOutcome) {
-                case "cGoCabin":
-                case "cApproachHer":
-                case "approach":
+                case CGOCABIN:
+                case CAPPROACHHER:
+                case APPROACH:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cGoPath":
-                case "cGoFail":
-                case "cEnterFail":
-                case "cLeaveFail":
+                case CGOPATH:
+                case CGOFAIL:
+                case CENTERFAIL:
+                case CLEAVEFAIL:
                     mainScript.runSection("nowhereToGo");
                     break;
                     
@@ -1054,16 +1049,16 @@ public abstract class StandardCycle extends Cycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "dream":
-                case "end":
-                case "letOut":
-                case "trapped":
-                case "worlds":
-                case "familiar":
-                    secondaryScript.runConditionalSection(activeOutcome, vesselIsStranger);
+                case DREAM:
+                case END:
+                case LETOUT:
+                case TRAPPED:
+                case WORLDS:
+                case FAMILIAR:
+                    secondaryScript.runConditionalSection(activeOutcome.getID(), vesselIsStranger);
                     break;
 
-                case "what":
+                case WHAT:
                     secondaryScript.runSection("what");
 
                     this.subMenu = new OptionsMenu(true);
@@ -1073,57 +1068,57 @@ public abstract class StandardCycle extends Cycle {
                     subMenu.add(new Option(this.manager, "person", "\"I'm a person.\""));
 
                     switch (parser.promptOptionsMenu(subMenu)) {
-                        case "explore":
-                        case "person":
+                        case EXPLORE:
+                        case PERSON:
                             secondaryScript.runSection("what" + activeOutcome);
                             break;
 
-                        case "youThink":
-                        case "dunno":
+                        case YOUTHINK:
+                        case DUNNO:
                             secondaryScript.runSection("dunnoWhat");
                             break;
                     }
 
                     break;
 
-                case "fragile":
+                case FRAGILE:
                     secondaryScript.runSection("fragile");
                     this.giveVesselThoughts(prevEnding.getVessel());
                     break;
 
-                case "narrator":
+                case NARRATOR:
                     secondaryScript.runConditionalSection("narrator", vesselMetNarrator);
                     break;
 
-                case "princess":
+                case PRINCESS:
                     secondaryScript.runConditionalSection("princess", vesselIsStranger);
 
                     this.subMenu = new OptionsMenu(true);
                     subMenu.add(new Option(this.manager, "press", "\"But were you always the Princess, or are you just making her a part of yourself?\""));
                     subMenu.add(new Option(this.manager, "silent", "[Say nothing.]"));
 
-                    if (parser.promptOptionsMenu(subMenu).equals("press")) secondaryScript.runSection();
+                    if (parser.promptOptionsMenu(subMenu) == Outcome.PRESS) secondaryScript.runSection();
                     break;
 
-                case "whatNow":
+                case WHATNOW:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincessNoBladeFail": // Override: you don't need the blade
+                case CSLAYPRINCESSNOBLADEFAIL: // Override: you don't need the blade
                     if (manager.getIntermissionAttackMound().hasBeenPicked()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "attackMound":
+                case ATTACKMOUND:
                     mainScript.runSection("attackMound");
                     break;
 
-                case "cSlaySelfNoBladeFail": // Override: you don't need the blade
+                case CSLAYSELFNOBLADEFAIL: // Override: you don't need the blade
                     if (manager.getIntermissionAttackSelf().hasBeenPicked()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "attackSelf":
+                case ATTACKSELF:
                     mainScript.runSection("attackSelf");
                     break;
 
@@ -1146,25 +1141,25 @@ public abstract class StandardCycle extends Cycle {
         this.repeatActiveMenu = true;
         while (repeatActiveMenu) {
             switch (parser.promptOptionsMenu(activeMenu)) {
-                case "refuse":
+                case REFUSE:
                     manager.noRefuseExploreMound().set(false);
-                case "kill":
-                case "howMuch":
-                case "pieces":
-                    secondaryScript.runSection(activeOutcome);
+                case KILL:
+                case HOWMUCH:
+                case PIECES:
+                    secondaryScript.runSection(activeOutcome.getID());
                     break;
 
-                case "destroy":
+                case DESTROY:
                     secondaryScript.runSection("destroy");
 
                     this.subMenu = new OptionsMenu(true);
                     subMenu.add(new Option(this.manager, "press", "\"You're being semantic. What are you going to do if I help you?\""));
                     subMenu.add(new Option(this.manager, "silent", "[Let it be.]"));
 
-                    if (parser.promptOptionsMenu(subMenu).equals("press")) secondaryScript.runSection();
+                    if (parser.promptOptionsMenu(subMenu) == Outcome.PRESS) secondaryScript.runSection();
                     break;
 
-                case "wait":
+                case WAIT:
                     secondaryScript.runSection("wait");
                     
                     // The original game has a creative gimmick here where, if you choose to wait forever, the game will quit out. When you reopen it, instead of starting on the main menu, the game will start right where you left off, and the Shifting Mound will comment on how long the game was closed for.
@@ -1178,7 +1173,7 @@ public abstract class StandardCycle extends Cycle {
                     this.repeatActiveMenu = false;
                     break;
 
-                case "forget":
+                case FORGET:
                     this.repeatActiveMenu = false;
                     break;
             }
@@ -1228,40 +1223,40 @@ public abstract class StandardCycle extends Cycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "threat":
+                case THREAT:
                     manager.threatenedMound().set();
-                case "same":
-                case "change":
-                case "wall":
-                case "preferences":
+                case SAME:
+                case CHANGE:
+                case WALL:
+                case PREFERENCES:
                     talked.set();
-                    secondaryScript.runSection(activeOutcome);
+                    secondaryScript.runSection(activeOutcome.getID());
                     break;
 
-                case "want":
+                case WANT:
                     talked.set();
                     secondaryScript.runConditionalSection("want", satisfied);
                     break;
 
-                case "requests":
+                case REQUESTS:
                     talked.set();
                     mainScript.runConditionalSection("requests", satisfied);
                     break;
 
-                case "kindA":
-                case "kindB":
+                case KINDA:
+                case KINDB:
                     talked.set();
                     canKind.set(false);
                     secondaryScript.runSection("kind");
                     break;
 
-                case "thoughts":
+                case THOUGHTS:
                     talked.set();
                     this.giveVesselThoughts(prevEnding.getVessel());
                     break;
 
-                case "feelingsA":
-                case "feelingsB":
+                case FEELINGSA:
+                case FEELINGSB:
                     talked.set();
                     canFeelings.set(false);
                     
@@ -1273,7 +1268,7 @@ public abstract class StandardCycle extends Cycle {
 
                     break;
 
-                case "howMany":
+                case HOWMANY:
                     talked.set();
                     
                     if (satisfied) {
@@ -1284,7 +1279,7 @@ public abstract class StandardCycle extends Cycle {
 
                     break;
 
-                case "refuse":
+                case REFUSE:
                     talked.set();
                     manager.noRefuseExploreMound().set(false);
 
@@ -1296,31 +1291,31 @@ public abstract class StandardCycle extends Cycle {
                     parser.promptOptionsMenu(subMenu);
                     break;
 
-                case "riddle":
-                case "pretension":
+                case RIDDLE:
+                case PRETENSION:
                     manager.canAskRiddleMound().set(false);
                     mainScript.runSection("riddle");
                     break;
 
-                case "return":
+                case RETURN:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincessNoBladeFail": // Override: you don't need the blade
+                case CSLAYPRINCESSNOBLADEFAIL: // Override: you don't need the blade
                     if (manager.getIntermissionAttackMound().hasBeenPicked()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "attackMound":
+                case ATTACKMOUND:
                     mainScript.runSection("attackMound");
                     break;
 
-                case "cSlaySelfNoBladeFail": // Override: you don't need the blade
+                case CSLAYSELFNOBLADEFAIL: // Override: you don't need the blade
                     if (manager.getIntermissionAttackSelf().hasBeenPicked()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "attackSelf":
+                case ATTACKSELF:
                     mainScript.runSection("attackSelf");
                     break;
 
@@ -1372,15 +1367,15 @@ public abstract class StandardCycle extends Cycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "noExist":
-                case "how":
-                case "howMany":
-                case "worlds":
+                case NOEXIST:
+                case HOW:
+                case HOWMANY:
+                case WORLDS:
                     talked.set();
-                    secondaryScript.runSection(activeOutcome);
+                    secondaryScript.runSection(activeOutcome.getID());
                     break;
 
-                case "worse":
+                case WORSE:
                     talked.set();
                     secondaryScript.runSection("worse");
 
@@ -1394,8 +1389,8 @@ public abstract class StandardCycle extends Cycle {
 
                     this.activeOutcome = parser.promptOptionsMenu(subMenu);
                     switch (activeOutcome) {
-                        case "torture":
-                        case "silent":
+                        case TORTURE:
+                        case SILENT:
                             secondaryScript.runConditionalSection("worseConditional", satisfied);
                             break;
 
@@ -1404,43 +1399,43 @@ public abstract class StandardCycle extends Cycle {
 
                     break;
 
-                case "vessel":
+                case VESSEL:
                     talked.set();
                     this.giveVesselThoughts(prevEnding.getVessel());
                     break;
 
-                case "threatB":
+                case THREATB:
                     manager.threatenedMound().set();
-                case "threatA":
+                case THREATA:
                     talked.set();
                     localCanThreat.set(false);
                     secondaryScript.runConditionalSection("threat", satisfied);
                     break;
 
-                case "want":
+                case WANT:
                     talked.set();
                     secondaryScript.runConditionalSection("want", satisfied);
                     break;
 
-                case "requestsA":
+                case REQUESTSA:
                     talked.set();
                     localCanRequests.set(false);
                     manager.askedRequestsMound().set();
                     mainScript.runConditionalSection("requests", satisfied);
                     break;
 
-                case "requestsB":
+                case REQUESTSB:
                     talked.set();
                     localCanRequests.set(false);
                     manager.askedRequestsMound().set();
                     secondaryScript.runConditionalSection("requests", satisfied);
                     break;
 
-                case "preferences":
+                case PREFERENCES:
                     secondaryScript.runConditionalSection("preferences", satisfied);
                     break;
 
-                case "refuse":
+                case REFUSE:
                     talked.set();
                     manager.noRefuseExploreMound().set(false);
 
@@ -1453,31 +1448,31 @@ public abstract class StandardCycle extends Cycle {
 
                     break;
 
-                case "riddle":
-                case "pretension":
+                case RIDDLE:
+                case PRETENSION:
                     manager.canAskRiddleMound().set(false);
                     mainScript.runSection("riddle");
                     break;
 
-                case "return":
+                case RETURN:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincessNoBladeFail": // Override: you don't need the blade
+                case CSLAYPRINCESSNOBLADEFAIL: // Override: you don't need the blade
                     if (manager.getIntermissionAttackMound().hasBeenPicked()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "attackMound":
+                case ATTACKMOUND:
                     mainScript.runSection("attackMound");
                     break;
 
-                case "cSlaySelfNoBladeFail": // Override: you don't need the blade
+                case CSLAYSELFNOBLADEFAIL: // Override: you don't need the blade
                     if (manager.getIntermissionAttackSelf().hasBeenPicked()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "attackSelf":
+                case ATTACKSELF:
                     mainScript.runSection("attackSelf");
                     break;
 
@@ -1540,24 +1535,24 @@ public abstract class StandardCycle extends Cycle {
         while (repeatActiveMenu) {
             this.activeOutcome = parser.promptOptionsMenu(activeMenu);
             switch (activeOutcome) {
-                case "rhetorical":
-                case "trees":
-                case "real":
-                case "howMany":
-                case "requests":
-                case "people":
-                case "awaken":
-                case "threat":
+                case RHETORICAL:
+                case TREES:
+                case REAL:
+                case HOWMANY:
+                case REQUESTS:
+                case PEOPLE:
+                case AWAKEN:
+                case THREAT:
                     talked.set();
-                    secondaryScript.runConditionalSection(activeOutcome, satisfied);
+                    secondaryScript.runConditionalSection(activeOutcome.getID(), satisfied);
                     break;
 
-                case "vessel":
+                case VESSEL:
                     talked.set();
                     this.giveVesselThoughts(prevEnding.getVessel());
                     break;
 
-                case "narrator":
+                case NARRATOR:
                     talked.set();
 
                     if (hasMetNarrator) {
@@ -1576,10 +1571,10 @@ public abstract class StandardCycle extends Cycle {
                     secondaryScript.runConditionalSection(parser.promptOptionsMenu(subMenu) + "Narrator", freed);
                     break;
 
-                case "refuseA":
-                case "refuseB":
+                case REFUSEA:
+                case REFUSEB:
                     talked.set();
-                    secondaryScript.runSection(activeOutcome);
+                    secondaryScript.runSection(activeOutcome.getID());
 
                     this.subMenu = new OptionsMenu(true);
                     subMenu.add(new Option(this.manager, "wait", true, "[Wait forever.]"));
@@ -1587,30 +1582,30 @@ public abstract class StandardCycle extends Cycle {
                     parser.promptOptionsMenu(subMenu);
                     break;
 
-                case "riddle":
+                case RIDDLE:
                     manager.canAskRiddleMound().set(false);
                     mainScript.runSection("riddle");
                     break;
 
-                case "return":
+                case RETURN:
                     this.repeatActiveMenu = false;
                     break;
 
-                case "cSlayPrincessNoBladeFail": // Override: you don't need the blade
+                case CSLAYPRINCESSNOBLADEFAIL: // Override: you don't need the blade
                     if (manager.getIntermissionAttackMound().hasBeenPicked()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "attackMound":
+                case ATTACKMOUND:
                     mainScript.runSection("attackMound");
                     break;
 
-                case "cSlaySelfNoBladeFail": // Override: you don't need the blade
+                case CSLAYSELFNOBLADEFAIL: // Override: you don't need the blade
                     if (manager.getIntermissionAttackSelf().hasBeenPicked()) {
                         parser.printDialogueLine(ALREADYTRIED);
                         break;
                     }
-                case "attackSelf":
+                case ATTACKSELF:
                     mainScript.runSection("attackSelf");
                     break;
 
@@ -1739,7 +1734,7 @@ public abstract class StandardCycle extends Cycle {
         
         switch (manager.nVesselsAborted()) {
             case 0:
-                if (this.isFirstVessel) {
+                if (this.isFirstVessel()) {
                     secondaryScript.runSection("abort0");
 
                     this.activeMenu = new OptionsMenu(true);
@@ -1747,11 +1742,11 @@ public abstract class StandardCycle extends Cycle {
                     activeMenu.add(new Option(this.manager, "embrace", "Embrace the thoughts constricting you."));
 
                     switch (parser.promptOptionsMenu(activeMenu)) {
-                        case "wake":
+                        case WAKE:
                             secondaryScript.runSection("firstAbortDream");
                             break;
 
-                        case "embrace":
+                        case EMBRACE:
                             secondaryScript.runSection();
                             break;
                     }
@@ -1783,12 +1778,12 @@ public abstract class StandardCycle extends Cycle {
 
                     if (i == 3) {
                         switch (parser.promptOptionsMenu(activeMenu)) {
-                            case "exist":
+                            case EXIST:
                                 // You can keep doing this forever, if you want
                                 i -= 1;
                                 break;
 
-                            case "fade":
+                            case FADE:
                                 // End the game
                                 break;
                         }
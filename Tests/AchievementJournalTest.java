@@ -0,0 +1,167 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AchievementJournalTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private AchievementJournalTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        try {
+            replay();
+            replayAfterCrash();
+            compaction();
+            unreadableBase();
+            reset();
+        } catch (IOException e) {
+            Check.isTrue(false, "journal checks ran without an I/O error (" + e + ")");
+        }
+    }
+
+    /**
+     * Checks that flushed unlocks are read back in order by a fresh journal, and unflushed unlocks are not
+     */
+    private static void replay() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        AchievementJournal journal = open(directory);
+        Check.isTrue(journal.load().isEmpty(), "a new journal has no entries");
+
+        journal.record("a");
+        journal.record("b");
+        journal.flush();
+        journal.record("c");
+        journal.flush();
+        journal.record("unflushed");
+
+        Check.equal(List.of("a", "b", "c"), open(directory).load(), "flushed entries are replayed in the order they were recorded");
+        Check.equal(List.of("a", "b", "c"), journal.load(), "the same journal reads back its own flushed entries");
+    }
+
+    /**
+     * Checks that a journal left behind by a crash mid-compaction is replayed on top of the compacted list
+     */
+    private static void replayAfterCrash() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        Files.write(directory.resolve("base.txt"), List.of("a", "b"), StandardCharsets.UTF_8);
+        Files.write(directory.resolve("journal.txt"), List.of("b", "", "c"), StandardCharsets.UTF_8);
+
+        Check.equal(List.of("a", "b", "b", "c"), open(directory).load(), "journal entries are replayed after the compacted list, skipping blank lines");
+    }
+
+    /**
+     * Checks that a journal that grows past the compaction threshold is merged into the compacted list without losing or duplicating entries
+     */
+    private static void compaction() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        ArrayList<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) expected.add("entry" + i);
+        Files.write(directory.resolve("base.txt"), expected.subList(0, 10), StandardCharsets.UTF_8);
+
+        // The hundredth flush starts a compaction, which merges the journal into the compacted list in the background and then deletes the journal
+        AchievementJournal journal = open(directory);
+        for (String entry : expected) {
+            journal.record(entry);
+            journal.flush();
+        }
+
+        awaitDeletion(directory.resolve("journal.txt"));
+        Check.isFalse(Files.exists(directory.resolve("journal.txt")), "compaction empties the journal");
+        Check.equal(expected, Files.readAllLines(directory.resolve("base.txt"), StandardCharsets.UTF_8), "compaction merges the journal into the compacted list, in order and without duplicates");
+        Check.equal(expected, open(directory).load(), "a compacted journal replays every entry");
+    }
+
+    /**
+     * Checks that a compaction that cannot read the compacted list leaves both files alone instead of replacing the list with the journal alone
+     */
+    private static void unreadableBase() throws IOException {
+        Path broken = Files.createTempDirectory("journal");
+        Files.createDirectory(broken.resolve("base.txt")); // Exists, but cannot be read as a file
+        Path healthy = Files.createTempDirectory("journal");
+
+        PrintStream err = System.err;
+        try {
+            System.setErr(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+            AchievementJournal brokenJournal = open(broken);
+            AchievementJournal healthyJournal = open(healthy);
+            for (int i = 0; i < 100; i++) {
+                brokenJournal.record("entry" + i);
+                brokenJournal.flush();
+            }
+            for (int i = 0; i < 100; i++) {
+                healthyJournal.record("entry" + i);
+                healthyJournal.flush();
+            }
+
+            // Compactions run one at a time in the order they were started, so once the second has finished, so has the first
+            awaitDeletion(healthy.resolve("journal.txt"));
+        } finally {
+            System.setErr(err);
+        }
+
+        Check.isTrue(Files.isDirectory(broken.resolve("base.txt")), "a compacted list that could not be read is not replaced");
+        Check.equal(100, Files.readAllLines(broken.resolve("journal.txt"), StandardCharsets.UTF_8).size(), "the journal is kept when the compacted list could not be read");
+        try {
+            open(broken).load();
+            Check.isTrue(false, "loading reports a compacted list that could not be read");
+        } catch (IOException e) {
+            Check.isTrue(true, "loading reports a compacted list that could not be read");
+        }
+    }
+
+    /**
+     * Checks that resetting a journal discards everything recorded, both on disk and waiting to be flushed
+     */
+    private static void reset() throws IOException {
+        Path directory = Files.createTempDirectory("journal");
+        AchievementJournal journal = open(directory);
+        journal.record("a");
+        journal.flush();
+        journal.record("b");
+
+        journal.reset();
+        journal.flush();
+        Check.isTrue(open(directory).load().isEmpty(), "reset discards flushed and unflushed entries");
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Waits up to five seconds for a background compaction to delete a given journal
+     * @param journal the journal to wait on
+     */
+    private static void awaitDeletion(Path journal) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (Files.exists(journal) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException("Thread interrupted");
+            }
+        }
+    }
+
+    /**
+     * Opens the journal stored in a given directory
+     * @param directory the directory to store the journal in
+     * @return the journal stored in the given directory
+     */
+    private static AchievementJournal open(Path directory) {
+        return new AchievementJournal(directory.resolve("base.txt"), directory.resolve("journal.txt"));
+    }
+
+}
@@ -0,0 +1,82 @@
+public class Check {
+
+    private static int nChecks = 0;
+    private static int nFailures = 0;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private Check() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Records a check that should hold, printing a failure message if it does not
+     * @param condition the result of the check
+     * @param description what was being checked
+     */
+    public static void isTrue(boolean condition, String description) {
+        nChecks += 1;
+        if (!condition) {
+            nFailures += 1;
+            System.out.println("[FAILED: " + description + "]");
+        }
+    }
+
+    /**
+     * Records a check that should not hold, printing a failure message if it does
+     * @param condition the result of the check
+     * @param description what was being checked
+     */
+    public static void isFalse(boolean condition, String description) {
+        isTrue(!condition, description);
+    }
+
+    /**
+     * Records a check that two values are equal, printing both values if they are not
+     * @param expected the expected value
+     * @param actual the actual value
+     * @param description what was being checked
+     */
+    public static void equal(Object expected, Object actual, String description) {
+        boolean same = (expected == null) ? actual == null : expected.equals(actual);
+        isTrue(same, description + " (expected " + expected + ", got " + actual + ")");
+    }
+
+    /**
+     * Records a check that running a given piece of code throws a RuntimeException
+     * @param code the code to run
+     * @param description what was being checked
+     */
+    public static void throwsException(Runnable code, String description) {
+        try {
+            code.run();
+        } catch (RuntimeException e) {
+            isTrue(true, description);
+            return;
+        }
+
+        isTrue(false, description + " (no exception thrown)");
+    }
+
+    // --- RESULTS ---
+
+    /**
+     * Accessor for nChecks
+     * @return the number of checks run so far
+     */
+    public static int nChecks() {
+        return nChecks;
+    }
+
+    /**
+     * Accessor for nFailures
+     * @return the number of checks that have failed so far
+     */
+    public static int nFailures() {
+        return nFailures;
+    }
+
+}
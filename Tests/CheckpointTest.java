@@ -0,0 +1,74 @@
+import java.util.Arrays;
+
+public class CheckpointTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private CheckpointTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        resumeReusesCheckpoint();
+        snapshotRoundTrip();
+    }
+
+    /**
+     * Checks that resuming a game from a checkpoint plays on from that checkpoint instead of taking an equivalent new one
+     */
+    private static void resumeReusesCheckpoint() {
+        SessionSnapshot snapshot = new GameManager(new MemorySessionIO(), true).createSnapshot();
+
+        GameManager manager = new GameManager(new MemorySessionIO(), true);
+        int[] nChoices = {0};
+        manager.getParser().setChoiceDriver(new ChoiceDriver() {
+            @Override
+            public int chooseOption(OptionsMenu menu) {
+                nChoices[0] += 1;
+                Check.isTrue(manager.getCheckpoint() == snapshot, "the first vessel after resuming uses the restored checkpoint");
+                throw new RouteBranchException(menu.nAvailableOptions(), "menu");
+            }
+
+            @Override
+            public boolean chooseYesNo() {
+                nChoices[0] += 1;
+                throw new RouteBranchException(2, "yes/no question");
+            }
+
+            @Override
+            public String enterCommand() {
+                throw new RouteBranchException(0, "command prompt");
+            }
+        });
+
+        try {
+            manager.resumeGame(snapshot);
+        } catch (RouteBranchException e) {
+            // Expected; the route stops at its first choice
+        } finally {
+            IOHandler.unbindCurrentThread();
+        }
+
+        Check.equal(1, nChoices[0], "a resumed game reaches its first choice");
+        Check.isTrue(manager.getCheckpoint() == snapshot, "the restored checkpoint is kept after resuming");
+    }
+
+    /**
+     * Checks that restoring a snapshot into a fresh game reproduces the state it was taken from
+     */
+    private static void snapshotRoundTrip() {
+        GameManager original = new GameManager(new MemorySessionIO(), true);
+        SessionSnapshot snapshot = original.createSnapshot();
+
+        GameManager copy = new GameManager(new MemorySessionIO(), true);
+        copy.restoreSnapshot(snapshot);
+        Check.isTrue(Arrays.equals(snapshot.toBytes(), copy.createSnapshot().toBytes()), "a restored game takes the same snapshot it was restored from");
+    }
+
+}
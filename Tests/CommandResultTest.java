@@ -0,0 +1,95 @@
+public class CommandResultTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private CommandResultTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        resultValues();
+        invalidCommands();
+        optionNumbers();
+    }
+
+    /**
+     * Checks that results are told apart by type, and that only carried-out commands have an outcome
+     */
+    private static void resultValues() {
+        CommandResult success = CommandResult.success(Outcome.CGOCABIN);
+        Check.isTrue(success instanceof CommandResult.Success, "a carried-out command is a Success");
+        Check.equal(Outcome.CGOCABIN, ((CommandResult.Success)success).outcome(), "a carried-out command keeps its outcome");
+        Check.equal(success, new CommandResult.Success(Outcome.CGOCABIN), "results with the same outcome are equal");
+        Check.equal("cGoCabin", success.toString(), "a carried-out command prints as its outcome's ID");
+        Check.throwsException(() -> CommandResult.success(null), "a carried-out command must have an outcome");
+
+        Check.isTrue(CommandResult.INVALIDCOMMAND instanceof CommandResult.InvalidCommand, "an unknown command is an InvalidCommand");
+        Check.isTrue(CommandResult.INVALIDARGUMENT instanceof CommandResult.InvalidArgument, "a bad argument is an InvalidArgument");
+        Check.equal("INVALIDCOMMAND", CommandResult.INVALIDCOMMAND.toString(), "an unknown command prints as INVALIDCOMMAND");
+        Check.equal("INVALIDARGUMENT", CommandResult.INVALIDARGUMENT.toString(), "a bad argument prints as INVALIDARGUMENT");
+    }
+
+    /**
+     * Checks that a command prompt complains about unknown commands, silently re-prompts after bad arguments, and returns the first valid outcome
+     */
+    private static void invalidCommands() {
+        MemorySessionIO io = new MemorySessionIO("xyzzy", "show", "toggle warnings", "help");
+        GameManager manager = new GameManager(io, true);
+        manager.getParser().bindToCurrentThread();
+        try {
+            Outcome outcome = manager.getParser().promptCommand("Enter a command.");
+            Check.equal(Outcome.CMETA, outcome, "the first valid command's outcome is returned");
+            Check.equal(1, io.remainingInput(), "input after the first valid command is left unread");
+            Check.equal(1, count(io.getOutputText(), "[That is not a valid command.]"), "only the unknown command is reported as invalid");
+        } finally {
+            IOHandler.unbindCurrentThread();
+        }
+    }
+
+    /**
+     * Checks that option numbers are read the way Integer.parseInt reads them, and that out-of-range numbers are refused
+     */
+    private static void optionNumbers() {
+        MemorySessionIO io = new MemorySessionIO("0", "3", "-1", "99999999999", "abc", "+02");
+        GameManager manager = new GameManager(io, true);
+        manager.getParser().bindToCurrentThread();
+        try {
+            OptionsMenu menu = new OptionsMenu();
+            menu.add(new Option(null, "yes", "Yes."));
+            menu.add(new Option(null, "no", "No."));
+
+            Check.equal(Outcome.NO, manager.getParser().promptOptionsMenu(menu), "a signed, zero-padded number chooses its Option");
+            Check.equal(0, io.remainingInput(), "every refused choice is re-prompted");
+            Check.equal(3, count(io.getOutputText(), "[That is not a choice available to you.]"), "zero, negative and too large numbers are refused");
+            Check.equal(2, count(io.getOutputText(), "[That is not a valid command.]"), "input that is not an int, including numbers that overflow one, is read as a command");
+        } finally {
+            IOHandler.unbindCurrentThread();
+        }
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Counts how many times a given String appears in some text
+     * @param text the text to search
+     * @param target the String to count
+     * @return the number of times target appears in text
+     */
+    private static int count(String text, String target) {
+        int n = 0;
+        int i = text.indexOf(target);
+        while (i != -1) {
+            n += 1;
+            i = text.indexOf(target, i + target.length());
+        }
+
+        return n;
+    }
+
+}
@@ -0,0 +1,147 @@
+public class ConditionCacheTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private ConditionCacheTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        flagConditionInverse();
+        flagSetDirectChange();
+        conditionComposites();
+        numCondition();
+        untrackedInput();
+    }
+
+    /**
+     * Checks that composite conditions built on a FlagCondition see the flag change through the FlagCondition
+     */
+    private static void flagConditionInverse() {
+        FlagSet flags = new FlagSet();
+        FlagCondition chains = new FlagCondition(flags, ChapterFlag.FREEFROMCHAINS2);
+        InverseCondition noChains = chains.getInverse();
+        ConditionList list = new ConditionList(chains);
+
+        Check.isTrue(noChains.check(), "FlagCondition inverse starts true");
+        Check.isFalse(list.check(), "ConditionList of an unset FlagCondition starts false");
+
+        chains.set();
+        Check.isFalse(noChains.check(), "FlagCondition inverse flips after set()");
+        Check.isTrue(list.check(), "ConditionList of a FlagCondition flips after set()");
+
+        chains.set(false);
+        Check.isTrue(noChains.check(), "FlagCondition inverse flips back after set(false)");
+        Check.isFalse(list.check(), "ConditionList of a FlagCondition flips back after set(false)");
+    }
+
+    /**
+     * Checks that composite conditions built on a FlagCondition see the flag change when it is changed on the FlagSet directly
+     */
+    private static void flagSetDirectChange() {
+        FlagSet flags = new FlagSet();
+        FlagCondition smitten = new FlagCondition(flags, ChapterFlag.HAPPYSMITTENKNOWN);
+        FlagCondition getUp = new FlagCondition(flags, ChapterFlag.HAPPYGETUPATTEMPT);
+        OrCondition either = new OrCondition(smitten, getUp.getInverse());
+        InverseCondition noGetUp = getUp.getInverse();
+
+        Check.isTrue(either.check(), "OrCondition of FlagConditions starts true");
+        Check.isTrue(noGetUp.check(), "inverse of an unset flag starts true");
+
+        flags.set(ChapterFlag.HAPPYGETUPATTEMPT);
+        Check.isFalse(noGetUp.check(), "inverse flips after FlagSet.set()");
+        Check.isFalse(either.check(), "OrCondition flips after FlagSet.set()");
+
+        flags.set(ChapterFlag.HAPPYSMITTENKNOWN, true);
+        Check.isTrue(either.check(), "OrCondition flips after FlagSet.set(flag, true)");
+
+        flags.clear(ChapterFlag.HAPPYSMITTENKNOWN);
+        Check.isFalse(either.check(), "OrCondition flips after FlagSet.clear(flag)");
+
+        flags.setFrom(0);
+        Check.isTrue(noGetUp.check(), "inverse flips after FlagSet.setFrom()");
+
+        flags.setFrom(ChapterFlag.HAPPYGETUPATTEMPT.bit() | ChapterFlag.HASBLADE.bit(), ChapterFlag.HAPPYGETUPATTEMPT.bit());
+        Check.isFalse(noGetUp.check(), "inverse flips after a masked FlagSet.setFrom()");
+        Check.isFalse(flags.has(ChapterFlag.HASBLADE), "masked FlagSet.setFrom() leaves other flags alone");
+
+        flags.clear();
+        Check.isTrue(noGetUp.check(), "inverse flips after FlagSet.clear()");
+    }
+
+    /**
+     * Checks that nested composite conditions built on plain Conditions follow every change
+     */
+    private static void conditionComposites() {
+        Condition a = new Condition();
+        Condition b = new Condition(true);
+        ConditionList both = new ConditionList(a, b);
+        OrCondition either = new OrCondition(a, both.getInverse());
+        ExOrCondition exactlyOne = new ExOrCondition(a, b);
+
+        Check.isTrue(both.isTracked(), "composite of Conditions is tracked");
+        Check.isFalse(both.check(), "ConditionList starts false");
+        Check.isTrue(either.check(), "nested OrCondition starts true");
+        Check.isTrue(exactlyOne.check(), "ExOrCondition starts true");
+
+        a.set();
+        Check.isTrue(both.check(), "ConditionList flips after set()");
+        Check.isTrue(either.check(), "nested OrCondition stays true");
+        Check.isFalse(exactlyOne.check(), "ExOrCondition flips after set()");
+
+        b.set(false);
+        Check.isFalse(both.check(), "ConditionList flips after set(false)");
+        Check.isTrue(exactlyOne.check(), "ExOrCondition flips back after set(false)");
+
+        a.set(false);
+        Check.isTrue(either.check(), "nested OrCondition follows its inner inverse");
+    }
+
+    /**
+     * Checks that a NumCondition follows every change to its GlobalInt
+     */
+    private static void numCondition() {
+        GlobalInt count = new GlobalInt(0);
+        NumCondition overTwo = new NumCondition(count, 1, 2);
+        InverseCondition atMostTwo = overTwo.getInverse();
+
+        Check.isFalse(overTwo.check(), "NumCondition starts false");
+        Check.isTrue(atMostTwo.check(), "NumCondition inverse starts true");
+
+        count.increment();
+        count.increment();
+        count.increment();
+        Check.isTrue(overTwo.check(), "NumCondition flips after increment()");
+        Check.isFalse(atMostTwo.check(), "NumCondition inverse flips after increment()");
+
+        count.set(0);
+        Check.isFalse(overTwo.check(), "NumCondition flips back after set()");
+    }
+
+    /**
+     * Checks that composite conditions built on a condition that does not report its changes are never cached
+     */
+    private static void untrackedInput() {
+        boolean[] value = {false};
+        AbstractCondition untracked = new AbstractCondition() {
+            @Override
+            public boolean check() {
+                return value[0];
+            }
+        };
+        ConditionList list = new ConditionList(new Condition(true), untracked);
+
+        Check.isFalse(list.isTracked(), "composite of an untracked condition is untracked");
+        Check.isFalse(list.check(), "composite of an untracked condition starts false");
+
+        value[0] = true;
+        Check.isTrue(list.check(), "composite of an untracked condition is re-evaluated on every check");
+    }
+
+}
@@ -0,0 +1,121 @@
+public class FlagSetTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private FlagSetTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        setAndClear();
+        packedWords();
+        maskedCopy();
+        notifications();
+    }
+
+    /**
+     * Checks that setting and clearing one flag leaves every other flag alone
+     */
+    private static void setAndClear() {
+        FlagSet flags = new FlagSet();
+        Check.isFalse(flags.has(ChapterFlag.HASBLADE), "a new FlagSet starts with every flag cleared");
+
+        flags.set(ChapterFlag.HASBLADE);
+        flags.set(ChapterFlag.HARSH, true);
+        Check.isTrue(flags.has(ChapterFlag.HASBLADE), "set() sets a flag");
+        Check.isTrue(flags.has(ChapterFlag.HARSH), "set(flag, true) sets a flag");
+        Check.isFalse(flags.has(ChapterFlag.FIRSTVESSEL), "setting one flag leaves the others cleared");
+        Check.equal("[HASBLADE, HARSH]", flags.toString(), "toString() lists the flags that are set");
+
+        flags.set(ChapterFlag.HARSH, false);
+        Check.isFalse(flags.has(ChapterFlag.HARSH), "set(flag, false) clears a flag");
+        flags.clear(ChapterFlag.HASBLADE);
+        Check.equal(0L, flags.toLong(), "clear(flag) clears a flag");
+
+        ChapterFlag[] every = ChapterFlag.values();
+        ChapterFlag last = every[every.length - 1];
+        flags.set(last);
+        Check.isTrue(flags.has(last), "the last flag fits in the packed word");
+        flags.clear();
+        Check.isFalse(flags.has(last), "clear() clears every flag");
+    }
+
+    /**
+     * Checks that a packed flag word carries every flag from one FlagSet to another
+     */
+    private static void packedWords() {
+        FlagSet flags = new FlagSet();
+        for (ChapterFlag flag : ChapterFlag.values()) {
+            if (flag.ordinal() % 3 == 0) flags.set(flag);
+        }
+
+        FlagSet copy = new FlagSet(flags.toLong());
+        FlagSet replaced = new FlagSet(FlagSet.mask(ChapterFlag.HASBLADE));
+        replaced.setFrom(flags.toLong());
+        for (ChapterFlag flag : ChapterFlag.values()) {
+            Check.equal(flags.has(flag), copy.has(flag), "the packed word constructor copies " + flag);
+            Check.equal(flags.has(flag), replaced.has(flag), "setFrom(bits) replaces " + flag);
+        }
+
+        Check.equal(ChapterFlag.HASBLADE.bit() | ChapterFlag.HARSH.bit(), FlagSet.mask(ChapterFlag.HASBLADE, ChapterFlag.HARSH), "mask() packs exactly the given flags");
+        Check.equal(0L, FlagSet.mask(), "mask() of no flags is empty");
+    }
+
+    /**
+     * Checks that a masked copy only replaces the flags in its mask
+     */
+    private static void maskedCopy() {
+        FlagSet flags = new FlagSet();
+        flags.set(ChapterFlag.HASBLADE);
+        flags.set(ChapterFlag.HARSH);
+
+        long source = FlagSet.mask(ChapterFlag.KNOWSDESTINY, ChapterFlag.SHAREDLOOP);
+        flags.setFrom(source, FlagSet.mask(ChapterFlag.HARSH, ChapterFlag.KNOWSDESTINY));
+        Check.isTrue(flags.has(ChapterFlag.HASBLADE), "a flag outside the mask keeps its value");
+        Check.isFalse(flags.has(ChapterFlag.HARSH), "a flag in the mask is cleared if the source clears it");
+        Check.isTrue(flags.has(ChapterFlag.KNOWSDESTINY), "a flag in the mask is set if the source sets it");
+        Check.isFalse(flags.has(ChapterFlag.SHAREDLOOP), "a flag outside the mask is not copied from the source");
+    }
+
+    /**
+     * Checks that conditions built on a flag are notified when that flag changes, and only then
+     */
+    private static void notifications() {
+        FlagSet flags = new FlagSet();
+        int[] nNotified = {0};
+        flags.addDependent(ChapterFlag.HASBLADE, new ConditionDependent() {
+            @Override
+            public void invalidate() {
+                nNotified[0] += 1;
+            }
+        });
+
+        flags.set(ChapterFlag.HARSH);
+        Check.equal(0, nNotified[0], "changing another flag does not notify");
+        flags.set(ChapterFlag.HASBLADE);
+        Check.equal(1, nNotified[0], "setting the flag notifies");
+        flags.set(ChapterFlag.HASBLADE);
+        Check.equal(1, nNotified[0], "setting a flag that is already set does not notify");
+        flags.setFrom(0L, FlagSet.mask(ChapterFlag.HARSH));
+        Check.equal(1, nNotified[0], "a masked copy that leaves the flag alone does not notify");
+        flags.setFrom(0L);
+        Check.equal(2, nNotified[0], "replacing every flag notifies once for a flag that changed");
+
+        FlagCondition blade = new FlagCondition(flags, ChapterFlag.HASBLADE);
+        AbstractCondition noBlade = blade.getInverse();
+        Check.isTrue(noBlade.check(), "an inverse FlagCondition starts from the FlagSet");
+        blade.set();
+        Check.isTrue(flags.has(ChapterFlag.HASBLADE), "setting a FlagCondition sets its flag");
+        Check.isFalse(noBlade.check(), "an inverse FlagCondition follows its flag");
+        flags.clear();
+        Check.isFalse(blade.check(), "a FlagCondition reads its flag from the FlagSet");
+        Check.isTrue(noBlade.check(), "an inverse FlagCondition follows changes made through the FlagSet");
+    }
+
+}
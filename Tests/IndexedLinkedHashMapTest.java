@@ -0,0 +1,159 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class IndexedLinkedHashMapTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private IndexedLinkedHashMapTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        positions();
+        removals();
+        valuePositions();
+        mapMethods();
+        randomEdits();
+    }
+
+    /**
+     * Checks that entries are indexed in insertion order, and that replacing a value keeps its position
+     */
+    private static void positions() {
+        IndexedLinkedHashMap<String, String> map = new IndexedLinkedHashMap<>();
+        map.put("a", "A");
+        map.put("b", "B");
+        map.put("c", "C");
+        map.put("b", "B2");
+
+        Check.equal(List.of("a", "b", "c"), map.keyList(), "keys are indexed in insertion order");
+        Check.equal("B2", map.getValue(1), "replacing a value keeps its position");
+        Check.equal(2, map.getIndex("c"), "getIndex() finds a key's position");
+        Check.equal(-1, map.getIndex("d"), "getIndex() of a missing key is -1");
+
+        map.clear();
+        Check.equal(0, map.keyList().size(), "clear() empties the key list");
+        map.put("d", "D");
+        Check.equal(0, map.getIndex("d"), "positions start from zero again after clear()");
+    }
+
+    /**
+     * Checks that removing entries closes the gaps they leave, including several removals between positional reads
+     */
+    private static void removals() {
+        IndexedLinkedHashMap<String, String> map = new IndexedLinkedHashMap<>();
+        for (String key : List.of("a", "b", "c", "d", "e")) map.put(key, key.toUpperCase());
+
+        map.remove("b");
+        map.remove("d");
+        map.remove("missing");
+        Check.equal(List.of("a", "c", "e"), map.keyList(), "removed keys leave no gaps in the key list");
+        Check.equal(List.of("A", "C", "E"), map.valueList(), "removed values leave no gaps in the value list");
+        Check.equal(1, map.getIndex("c"), "later keys move up after a removal");
+        Check.equal(-1, map.getIndex("b"), "a removed key has no position");
+
+        map.remove("a");
+        map.put("a", "A2");
+        Check.equal(List.of("c", "e", "a"), map.keyList(), "a key removed and put back moves to the end");
+        Check.equal(new ArrayList<>(map.keySet()), new ArrayList<>(map.keyList()), "the key list matches the map's iteration order");
+        Check.equal("A2", map.getValue(2), "a key put back carries its new value");
+    }
+
+    /**
+     * Checks that indexOf() finds the first equal value, and follows replacements and removals
+     */
+    private static void valuePositions() {
+        IndexedLinkedHashMap<String, String> map = new IndexedLinkedHashMap<>();
+        String shared = "shared";
+        String equalCopy = new String(shared);
+        map.put("a", "A");
+        map.put("b", shared);
+        map.put("c", shared);
+
+        Check.equal(1, map.indexOf(shared), "indexOf() finds the first occurrence of a value");
+        Check.equal(1, map.indexOf(equalCopy), "indexOf() compares values with equals()");
+
+        map.remove("b");
+        Check.equal(1, map.indexOf(shared), "indexOf() follows a removal to the next occurrence");
+
+        String replacement = "replacement";
+        map.put("c", replacement);
+        Check.equal(-1, map.indexOf(shared), "a replaced value is no longer found");
+        Check.equal(1, map.indexOf(replacement), "a replacement value is found at its key's position");
+    }
+
+    /**
+     * Checks that the Map methods inherited from LinkedHashMap keep the index up to date, and that the collection views cannot change the map
+     */
+    private static void mapMethods() {
+        IndexedLinkedHashMap<String, Integer> map = new IndexedLinkedHashMap<>();
+        map.put("a", 1);
+        map.putIfAbsent("b", 2);
+        map.putIfAbsent("a", 9);
+        map.computeIfAbsent("c", k -> 3);
+        map.merge("d", 4, Integer::sum);
+        map.merge("a", 10, Integer::sum);
+        Check.equal(List.of("a", "b", "c", "d"), map.keyList(), "putIfAbsent(), computeIfAbsent() and merge() add to the index");
+        Check.equal(11, map.getValue(0), "merge() replaces the indexed value");
+
+        map.remove("b", 99);
+        Check.equal(1, map.getIndex("b"), "remove(key, value) keeps a key mapped to another value");
+        map.remove("b", 2);
+        map.computeIfPresent("c", (k, v) -> null);
+        map.compute("e", (k, v) -> 5);
+        map.replace("d", 40);
+        map.replace("e", 5, 50);
+        Check.equal(List.of("a", "d", "e"), map.keyList(), "remove(key, value), computeIfPresent() and compute() update the index");
+        Check.equal(List.of(11, 40, 50), map.valueList(), "replace() updates the indexed values");
+        Check.equal(1, map.indexOf(40), "replaced values are found by indexOf()");
+
+        map.replaceAll((k, v) -> v + 1);
+        Check.equal(List.of(12, 41, 51), map.valueList(), "replaceAll() updates the indexed values in order");
+
+        Check.throwsException(() -> map.keySet().remove("a"), "the key set cannot remove entries");
+        Check.throwsException(() -> map.values().clear(), "the values view cannot remove entries");
+        Check.throwsException(() -> map.entrySet().iterator().next().setValue(0), "entries cannot be changed through the entry set");
+        Check.equal(3, map.keyList().size(), "the views leave the index alone");
+    }
+
+    /**
+     * Checks positional lookups against a plain list of keys over a long run of random puts and removals
+     */
+    private static void randomEdits() {
+        Random random = new Random(2024);
+        IndexedLinkedHashMap<Integer, Integer> map = new IndexedLinkedHashMap<>();
+        ArrayList<Integer> expected = new ArrayList<>();
+        int nMismatches = 0;
+
+        for (int step = 0; step < 2000; step++) {
+            Integer key = random.nextInt(40);
+            if (random.nextInt(3) == 0) {
+                map.remove(key);
+                expected.remove(key);
+            } else {
+                if (!expected.contains(key)) expected.add(key);
+                map.put(key, step);
+            }
+
+            // Only read positions every few steps, so several removals pile up between compactions
+            if (step % 5 != 0) continue;
+
+            if (!expected.equals(map.keyList())) nMismatches += 1;
+            for (int i = 0; i < expected.size(); i++) {
+                Integer k = expected.get(i);
+                if (map.getIndex(k) != i || map.getValue(i) != map.get(k) || map.indexOf(map.get(k)) != i) nMismatches += 1;
+            }
+        }
+
+        Check.equal(0, nMismatches, "positional lookups match the insertion order after random puts and removals");
+    }
+
+}
@@ -0,0 +1,138 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class MenuTemplateTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private MenuTemplateTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        constants();
+        sharedTemplate();
+        hillMenu();
+        creationBindings();
+        chapterMenus();
+    }
+
+    /**
+     * Checks the shared constant conditions
+     */
+    private static void constants() {
+        Check.isTrue(AbstractCondition.of(true) == AbstractCondition.ALWAYS, "of(true) is the shared ALWAYS condition");
+        Check.isTrue(AbstractCondition.ALWAYS.check(), "ALWAYS is met");
+        Check.isFalse(AbstractCondition.NEVER.check(), "NEVER is not met");
+        Check.isTrue(AbstractCondition.NEVER.getInverse().check(), "the inverse of NEVER is met");
+        Check.isTrue(AbstractCondition.ALWAYS.isTracked(), "constant conditions can be cached on");
+    }
+
+    /**
+     * Checks that menu definition files are parsed once and shared
+     */
+    private static void sharedTemplate() {
+        Check.isTrue(MenuTemplate.get("Chapter2Shared", "hill") == MenuTemplate.get("Chapter2Shared", "hill"), "templates are parsed once and shared");
+        Check.equal(16, MenuTemplate.get("Chapter2Shared", "hill").size(), "every option in the hill menu is parsed");
+        Check.throwsException(() -> MenuTemplate.get("Chapter2Shared", "missing"), "unknown menus are rejected");
+    }
+
+    /**
+     * Checks that the Chapter II hill menu follows its bindings, as bound by ChapterII
+     */
+    private static void hillMenu() {
+        Condition shared = new Condition();
+        Condition canAssume = new Condition(true);
+        Map<String, AbstractCondition> bindings = Map.of(
+            "shared", shared,
+            "noShare", shared.getInverse(),
+            "canAssume", canAssume,
+            "cantTryAbort", AbstractCondition.ALWAYS,
+            "spectre", AbstractCondition.NEVER,
+            "damsel", AbstractCondition.ALWAYS,
+            "youDied", AbstractCondition.of(true),
+            "bothDied", AbstractCondition.of(false),
+            "liedTo", AbstractCondition.of(false));
+        OptionsMenu menu = MenuTemplate.get("Chapter2Shared", "hill").instantiate(null, bindings);
+
+        Check.isTrue(menu.isShown("died"), "options bound to an inverse constant are shown");
+        Check.isFalse(menu.isShown("killedSelf"), "options bound to a false constant are hidden");
+        Check.isTrue(menu.isShown("killMe"), "options bound to a true constant are shown");
+        Check.isFalse(menu.isShown("slewHer"), "options bound to a false constant are hidden");
+        Check.isFalse(menu.isShown("dejaVu2"), "options start hidden until their prerequisite is picked");
+        Check.isFalse(menu.get("abort").isAvailable(), "options bound to a grey condition start greyed out");
+
+        shared.set();
+        Check.isFalse(menu.isShown("dejaVu"), "options bound to an inverse condition hide after it is set");
+        Check.isTrue(menu.isShown("assume"), "options bound to several conditions show once all are met");
+
+        canAssume.set(false);
+        Check.isFalse(menu.isShown("assume"), "options hide once any of their conditions stops being met");
+
+        OptionsMenu second = MenuTemplate.get("Chapter2Shared", "hill").instantiate(null, bindings);
+        menu.get("proceed").choose();
+        Check.isTrue(second.isShown("proceed"), "menus from the same template keep their own pick counts");
+    }
+
+    /**
+     * Checks that greyed=NAME and shown=NAME read their condition once, when the menu is created
+     */
+    private static void creationBindings() {
+        Condition demoMode = new Condition(true);
+        Condition tookBlade = new Condition(false);
+        Map<String, AbstractCondition> bindings = Map.of("demoMode", demoMode, "tookBlade", tookBlade);
+        OptionsMenu menu = new OptionsMenu();
+        menu.add(new OptionTemplate("refuseBlade greyed=demoMode shown=tookBlade / Refuse.", "test").instantiate(null, menu, bindings));
+        menu.add(new OptionTemplate("slay greyed=!demoMode shown=!tookBlade / Slay.", "test").instantiate(null, menu, bindings));
+
+        Check.isFalse(menu.isShown("refuseBlade"), "shown=NAME hides the option if the condition is not met at creation");
+        Check.isTrue(menu.isShown("slay"), "shown=!NAME shows the option if the condition is not met at creation");
+        Check.isFalse(menu.get("slay").greyedOut(), "greyed=!NAME leaves the option available if the condition is met at creation");
+
+        demoMode.set(false);
+        tookBlade.set();
+        Check.isFalse(menu.isShown("refuseBlade"), "shown=NAME does not follow the condition after creation");
+        Check.isTrue(menu.get("refuseBlade").greyedOut(), "greyed=NAME does not follow the condition after creation");
+    }
+
+    /**
+     * Checks that every menu ChapterII and ChapterIII look up exists in their definition files
+     */
+    private static void chapterMenus() {
+        Pattern lookup = Pattern.compile("MenuTemplate\\.get\\(\"(\\w+)\", \"(\\w+)\"\\)");
+        int nLookups = 0;
+        int nMissing = 0;
+        for (String chapter : new String[] {"ChapterII", "ChapterIII"}) {
+            String source;
+            try {
+                source = Files.readString(Path.of(chapter + ".java"));
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read " + chapter + ".java");
+            }
+
+            Matcher m = lookup.matcher(source);
+            while (m.find()) {
+                nLookups += 1;
+                try {
+                    MenuTemplate.get(m.group(1), m.group(2));
+                } catch (RuntimeException e) {
+                    nMissing += 1;
+                }
+            }
+        }
+
+        Check.isTrue(nLookups > 200, "ChapterII and ChapterIII build their scene menus from templates");
+        Check.equal(0, nMissing, "every menu looked up by ChapterII and ChapterIII is defined");
+    }
+
+}
@@ -0,0 +1,187 @@
+import java.util.EnumSet;
+
+public class ModifierCheckTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private ModifierCheckTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        emptyChecks();
+        flagChecks();
+        conditionChecks();
+        sourceAndChapterVoiceChecks();
+        voiceChecks();
+    }
+
+    /**
+     * Checks that a check without modifiers, or with only unknown ones, always passes
+     */
+    private static void emptyChecks() {
+        Check.isTrue(ModifierCheck.NONE.isEmpty(), "NONE has no modifiers");
+        Check.isTrue(ModifierCheck.NONE.checkFlags(-1L) && ModifierCheck.NONE.checkFlags(0L), "NONE passes any flags");
+        Check.isTrue(ModifierCheck.NONE.checkConditions(false, 7, "x"), "NONE passes any conditions");
+
+        ModifierCheck unknown = check("notamodifier");
+        Check.isFalse(unknown.isEmpty(), "a check with an unknown modifier is not empty");
+        Check.isFalse(unknown.alwaysFails(), "an unknown modifier is ignored");
+        Check.isTrue(unknown.checkFlags(0L) && unknown.checkConditions(true, 0, ""), "an unknown modifier passes everything");
+    }
+
+    /**
+     * Checks that flag modifiers require their flag to be set or cleared, and leave every other flag alone
+     */
+    private static void flagChecks() {
+        ModifierCheck check = check(ChapterFlag.HASBLADE.getTrueModifier(), ChapterFlag.HARSH.getFalseModifier());
+        long blade = FlagSet.mask(ChapterFlag.HASBLADE);
+        long harsh = FlagSet.mask(ChapterFlag.HARSH);
+        long other = FlagSet.mask(ChapterFlag.SHAREDLOOP);
+
+        Check.isTrue(check.checkFlags(blade), "passes with the required flag set and the forbidden flag cleared");
+        Check.isTrue(check.checkFlags(blade | other), "unrelated flags are ignored");
+        Check.isFalse(check.checkFlags(0L), "fails without the required flag");
+        Check.isFalse(check.checkFlags(blade | harsh), "fails with the forbidden flag");
+
+        ChapterFlag[] every = ChapterFlag.values();
+        ChapterFlag last = every[every.length - 1];
+        Check.isTrue(check(last.getTrueModifier()).checkFlags(last.bit()), "the last flag's modifier reads its own bit");
+        Check.isFalse(check(last.getTrueModifier()).checkFlags(~last.bit()), "the last flag's modifier reads only its own bit");
+    }
+
+    /**
+     * Checks the check, checkfalse, ifnum, ifnumnot, ifstring and ifstringnot modifiers
+     */
+    private static void conditionChecks() {
+        Check.isTrue(check("check").checkConditions(true, 0, ""), "check passes when the condition is true");
+        Check.isFalse(check("check").checkConditions(false, 0, ""), "check fails when the condition is false");
+        Check.isTrue(check("checkfalse").checkConditions(false, 0, ""), "checkfalse passes when the condition is false");
+        Check.isFalse(check("checkfalse").checkConditions(true, 0, ""), "checkfalse fails when the condition is true");
+
+        ModifierCheck num = check("ifnum-3");
+        Check.isTrue(num.checkConditions(false, 3, ""), "ifnum passes on its target");
+        Check.isFalse(num.checkConditions(false, 4, ""), "ifnum fails on any other number");
+        Check.isFalse(check("ifnumnot-3").checkConditions(false, 3, ""), "ifnumnot fails on its target");
+        Check.isTrue(check("ifnumnot-3").checkConditions(false, -3, ""), "ifnumnot passes on any other number");
+        Check.isTrue(check("ifnum-x").checkConditions(false, 0, ""), "an ifnum without a number targets 0");
+
+        ModifierCheck str = check("ifstring-left", "ifstringnot-right");
+        Check.isTrue(str.checkConditions(false, 0, "left"), "ifstring passes on its target");
+        Check.isFalse(str.checkConditions(false, 0, "up"), "ifstring fails on any other String");
+        Check.isFalse(check("ifstringnot-right").checkConditions(false, 0, "right"), "ifstringnot fails on its target");
+        Check.isFalse(check("ifstring-left", "ifstring-right").checkConditions(false, 0, "left"), "two different ifstring targets can never both pass");
+    }
+
+    /**
+     * Checks the ifsource, ifsourcenot, voice2, voice2not, voice3 and voice3not modifiers
+     */
+    private static void sourceAndChapterVoiceChecks() {
+        Check.isTrue(check("ifsource-pathintheWoods").checkSource("pathintheWoods"), "ifsource passes on its source");
+        Check.isFalse(check("ifsource-pathintheWoods").checkSource("cabin"), "ifsource fails on any other source");
+        Check.isFalse(check("ifsourcenot-cabin").checkSource("cabin"), "ifsourcenot fails on its source");
+
+        ModifierCheck voice2 = check("voice2-hero");
+        Check.isFalse(voice2.checkChapterVoices(false, false, "hero", "none"), "voice2 fails outside Chapters 2 and 3");
+        Check.isTrue(voice2.checkChapterVoices(true, false, "hero", "none"), "voice2 passes in Chapter 2 with its Voice");
+        Check.isTrue(voice2.checkChapterVoices(false, true, "hero", "cold"), "voice2 passes in Chapter 3 with its Voice");
+        Check.isFalse(voice2.checkChapterVoices(true, false, "cold", "none"), "voice2 fails with another Voice");
+        Check.isFalse(check("voice2not-hero").checkChapterVoices(true, false, "hero", "none"), "voice2not fails with its Voice");
+
+        ModifierCheck voice3 = check("voice3-cold");
+        Check.isFalse(voice3.checkChapterVoices(true, false, "hero", "cold"), "voice3 fails outside Chapter 3");
+        Check.isTrue(voice3.checkChapterVoices(false, true, "hero", "cold"), "voice3 passes in Chapter 3 with its Voice");
+        Check.isFalse(check("voice3not-cold").checkChapterVoices(false, true, "hero", "cold"), "voice3not fails with its Voice");
+
+        Check.isTrue(check("voice2-hero-cold").alwaysFails(), "a voice2 modifier with more than one Voice can never pass");
+        Check.isFalse(voice2.alwaysFails(), "a well-formed voice2 modifier can pass");
+    }
+
+    /**
+     * Checks the checkvoice and checknovoice modifiers against the Voices a Cycle has
+     */
+    private static void voiceChecks() {
+        GameManager manager = new GameManager(new MemorySessionIO(), true);
+        Cycle heroOnly = cycleWith(manager, EnumSet.of(Voice.HERO));
+        Cycle heroAndStubborn = cycleWith(manager, EnumSet.of(Voice.HERO, Voice.STUBBORN));
+
+        Check.isTrue(check(Voice.HEROEXT, "checkvoice").checkVoices(heroOnly), "a bare checkvoice requires the speaker's checked Voice");
+        Check.isFalse(check(Voice.STUBBORN, "checkvoice").checkVoices(heroOnly), "a bare checkvoice fails without the speaker");
+        Check.isTrue(check("checkvoice").checkVoices(heroOnly), "a bare checkvoice without a speaker checks nothing");
+
+        Check.isFalse(check("checkvoice-h-st").checkVoices(heroOnly), "checkvoice requires every listed Voice");
+        Check.isTrue(check("checkvoice-h-st").checkVoices(heroAndStubborn), "checkvoice passes with every listed Voice");
+        Check.isFalse(check("checknovoice-st").checkVoices(heroAndStubborn), "checknovoice fails with a listed Voice");
+        Check.isTrue(check("checknovoice-st").checkVoices(heroOnly), "checknovoice passes without any listed Voice");
+        Check.isFalse(check("checkvoice-st", "checknovoice-st").checkVoices(heroAndStubborn), "a later checknovoice overrides an earlier checkvoice");
+        Check.isTrue(check("checknovoice-st", "checkvoice-st").checkVoices(heroAndStubborn), "a later checkvoice overrides an earlier checknovoice");
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Creates a check from some modifiers on a line without a speaker
+     * @param modifiers the modifiers to decode
+     * @return the check decoded from the given modifiers
+     */
+    private static ModifierCheck check(String... modifiers) {
+        return new ModifierCheck(modifiers, null);
+    }
+
+    /**
+     * Creates a check from some modifiers on a line spoken by a given Voice
+     * @param speaker the Voice speaking the line
+     * @param modifiers the modifiers to decode
+     * @return the check decoded from the given modifiers
+     */
+    private static ModifierCheck check(Voice speaker, String... modifiers) {
+        return new ModifierCheck(modifiers, speaker);
+    }
+
+    /**
+     * Creates a Cycle that only answers which Voices are present
+     * @param manager the GameManager to link the Cycle to
+     * @param voices the Voices present
+     * @return a Cycle with exactly the given Voices present
+     */
+    private static Cycle cycleWith(GameManager manager, EnumSet<Voice> voices) {
+        return new Cycle(manager, manager.getParser()) {
+            @Override
+            public boolean hasVoice(Voice v) {
+                return voices.contains(v);
+            }
+
+            @Override
+            protected Outcome wipe(String argument, boolean secondPrompt) {
+                return Outcome.CFAIL;
+            }
+
+            @Override
+            protected Outcome smash(String argument, boolean secondPrompt) {
+                return Outcome.CFAIL;
+            }
+
+            @Override
+            protected Outcome gaze(String argument, boolean secondPrompt) {
+                return Outcome.CFAIL;
+            }
+
+            @Override
+            protected Outcome slay(String argument, boolean secondPrompt) {
+                return Outcome.CFAIL;
+            }
+
+            @Override
+            public ChapterEnding runChapter() {
+                return null;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,168 @@
+import java.util.ArrayList;
+
+public class OptionsMenuCacheTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private OptionsMenuCacheTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        conditionChanges();
+        optionChanges();
+        visitedChapters();
+        untrackedCondition();
+        separateMenus();
+        renderedText();
+    }
+
+    /**
+     * Checks that a menu's visible and available Options follow changes to the conditions of its Options
+     */
+    private static void conditionChanges() {
+        FlagSet flags = new FlagSet();
+        Condition canAsk = new Condition();
+        FlagCondition chains = new FlagCondition(flags, ChapterFlag.FREEFROMCHAINS2);
+        GlobalInt count = new GlobalInt(0);
+
+        OptionsMenu menu = new OptionsMenu();
+        menu.add(new Option(null, "ask", "Ask.", canAsk));
+        menu.add(new Option(null, "stairs", "Stairs.", chains));
+        menu.add(new Option(null, "chained", "Chained.", chains.getInverse()));
+        menu.add(new Option(null, "counted", "Counted.", new NumCondition(count, 1, 1)));
+        menu.add(new Option(null, "grey", canAsk.getInverse(), "Grey."));
+
+        Check.equal(2, menu.shownOptions().size(), "menu starts with two visible Options");
+        Check.equal(1, menu.nAvailableOptions(), "menu starts with one available Option");
+
+        canAsk.set();
+        Check.equal(3, menu.shownOptions().size(), "Option appears after its Condition is set");
+        Check.equal(3, menu.nAvailableOptions(), "Option stops being greyed out after its grey condition changes");
+
+        chains.set();
+        Check.isTrue(menu.isShown("stairs"), "Option gated on a FlagCondition appears after set()");
+        Check.isFalse(menu.isShown("chained"), "Option gated on a FlagCondition inverse disappears after set()");
+
+        count.set(2);
+        Check.isTrue(menu.isShown("counted"), "Option gated on a NumCondition appears after its GlobalInt changes");
+        Check.equal(4, menu.nAvailableOptions(), "available count follows every change");
+    }
+
+    /**
+     * Checks that a menu's visible and available Options follow changes made to the Options themselves
+     */
+    private static void optionChanges() {
+        OptionsMenu menu = new OptionsMenu();
+        menu.add(new Option(null, "first", "First."));
+        menu.add(new Option(null, "second", "Second.", 0, menu.get("first")));
+        menu.add(new Option(null, "third", "Third."));
+
+        Check.equal(2, menu.nAvailableOptions(), "menu starts with two available Options");
+
+        menu.playerChoose(1);
+        Check.isFalse(menu.isShown("first"), "Option disappears after being picked");
+        Check.isTrue(menu.isShown("second"), "Option appears after its prerequisite is picked");
+        Check.equal("second", menu.getAvailable(0).getID(), "available indices follow picked Options");
+
+        menu.setCondition("third", false);
+        Check.equal(1, menu.nAvailableOptions(), "Option disappears after setCondition(false)");
+
+        menu.setGreyedOut("second", true);
+        Check.equal(0, menu.nAvailableOptions(), "Option becomes unavailable after setGreyedOut(true)");
+
+        menu.get("first").setTimesPicked(0);
+        Check.isTrue(menu.isShown("first"), "Option reappears after setTimesPicked(0)");
+
+        Condition late = new Condition();
+        menu.get("first").setConditions(late);
+        Check.isFalse(menu.isShown("first"), "Option disappears after setConditions()");
+        late.set();
+        Check.isTrue(menu.isShown("first"), "Option follows the conditions given by setConditions()");
+    }
+
+    /**
+     * Checks that Options leading to a Chapter are greyed out once that Chapter has been visited
+     */
+    private static void visitedChapters() {
+        GameManager manager = new GameManager(new MemorySessionIO(), true);
+        OptionsMenu menu = new OptionsMenu();
+        menu.add(new Option(manager, "tower", false, "Tower.", Chapter.TOWER));
+
+        Check.equal(1, menu.nAvailableOptions(), "Option leading to an unvisited Chapter starts available");
+
+        ArrayList<Chapter> route = new ArrayList<>();
+        route.add(Chapter.CH1);
+        route.add(Chapter.TOWER);
+        manager.updateVisitedChapters(route);
+        Check.equal(0, menu.nAvailableOptions(), "Option leading to a Chapter is greyed out once it has been visited");
+    }
+
+    /**
+     * Checks that menus with an Option depending on a condition that does not report its changes never serve stale results
+     */
+    private static void untrackedCondition() {
+        boolean[] value = {false};
+        AbstractCondition untracked = new AbstractCondition() {
+            @Override
+            public boolean check() {
+                return value[0];
+            }
+        };
+
+        OptionsMenu menu = new OptionsMenu();
+        menu.add(new Option(null, "untracked", "Untracked.", untracked));
+        Check.equal(0, menu.nAvailableOptions(), "Option gated on an untracked condition starts hidden");
+
+        value[0] = true;
+        Check.equal(1, menu.nAvailableOptions(), "Option gated on an untracked condition is re-checked every time");
+    }
+
+    /**
+     * Checks that a change to one menu's Options does not affect another menu's cached results
+     */
+    private static void separateMenus() {
+        Condition a = new Condition();
+        OptionsMenu first = new OptionsMenu();
+        first.add(new Option(null, "a", "A.", a));
+        OptionsMenu second = new OptionsMenu();
+        second.add(new Option(null, "b", "B."));
+
+        Check.equal(1, second.nAvailableOptions(), "second menu starts with one available Option");
+        a.set();
+        Check.equal(1, first.nAvailableOptions(), "first menu follows its own condition");
+        Check.equal(1, second.nAvailableOptions(), "second menu is unaffected by the first menu's condition");
+    }
+
+    /**
+     * Checks that a menu reuses its rendered and wrapped text until one of its Options changes or the width changes
+     */
+    private static void renderedText() {
+        Condition late = new Condition();
+        OptionsMenu menu = new OptionsMenu();
+        menu.add(new Option(null, "first", "First."));
+        menu.add(new Option(null, "late", "Late.", late));
+
+        String text = menu.toString();
+        String wrapped = menu.wordWrap(80);
+        Check.isTrue(text == menu.toString(), "an unchanged menu reuses its rendered text");
+        Check.isTrue(wrapped == menu.wordWrap(80), "an unchanged menu reuses its wrapped text");
+        Check.equal(IOHandler.wordWrap(text, 80), wrapped, "the reused wrap matches wrapping the text directly");
+        Check.isFalse(wrapped == menu.wordWrap(4), "a new width wraps the menu again");
+
+        late.set();
+        Check.equal("  (1.) First.\n  (2.) Late.", menu.toString(), "the rendered text follows a condition change");
+
+        menu.get("first").setDisplay("Changed.");
+        Check.equal("  (1.) Changed.\n  (2.) Late.", menu.toString(), "the rendered text follows Option.setDisplay()");
+        menu.setDisplay("late", "Later.");
+        Check.equal("  (1.) Changed.\n  (2.) Later.", menu.wordWrapIgnoreIndicator(80), "the wrapped text follows OptionsMenu.setDisplay()");
+    }
+
+}
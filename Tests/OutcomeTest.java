@@ -0,0 +1,56 @@
+public class OutcomeTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private OutcomeTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        lookups();
+        options();
+    }
+
+    /**
+     * Checks that every Outcome is found by its own ID, and that command outcomes are told apart from Option IDs
+     */
+    private static void lookups() {
+        int nMismatches = 0;
+        for (Outcome outcome : Outcome.values()) {
+            if (Outcome.getOutcome(outcome.getID()) != outcome) nMismatches += 1;
+        }
+
+        Check.equal(0, nMismatches, "every Outcome is found by its ID");
+        Check.isTrue(Outcome.getOutcome("not an ID") == null, "an unknown ID has no Outcome");
+        Check.isTrue(Outcome.CGOCABIN.isCommand(), "IDs starting with c and a capital letter are command outcomes");
+        Check.isFalse(Outcome.CABIN.isCommand(), "other IDs are Option IDs");
+        Check.equal("cGoCabin", Outcome.CGOCABIN.toString(), "an Outcome prints as its ID");
+        Check.isTrue(Outcome.getOutcome("by chapter") == Outcome.BYCHAPTER, "IDs containing spaces are found");
+    }
+
+    /**
+     * Checks that Options look up their Outcome from their ID, and that every menu definition file only uses IDs with an Outcome
+     */
+    private static void options() {
+        Option option = new Option(null, "yes", "Yes.");
+        Check.isTrue(option.getOutcome() == Outcome.YES, "an Option's Outcome is looked up from its ID");
+        option.setID("no");
+        Check.isTrue(option.getOutcome() == Outcome.NO, "changing an Option's ID changes its Outcome");
+        Check.throwsException(() -> new Option(null, "not an ID", "Nothing.").getOutcome(), "an Option whose ID has no Outcome cannot be picked");
+
+        Check.throwsException(() -> new OptionTemplate("unknownID / Nothing.", "test"), "menu definitions refuse IDs without an Outcome");
+        try {
+            MenuTemplate.preloadAll();
+            Check.isTrue(true, "every Option in the menu definition files has an Outcome");
+        } catch (RuntimeException e) {
+            Check.isTrue(false, "every Option in the menu definition files has an Outcome (" + e.getMessage() + ")");
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+public class RunTests {
+
+    /*
+     * Runs every check in this directory. From the repository root:
+     *   javac -encoding UTF-8 -d out *.java Tests/*.java
+     *   java -cp out RunTests
+     */
+
+    /**
+     * Runs every check, then exits with a non-zero status if any of them failed
+     * @param args unused
+     */
+    public static void main(String[] args) {
+        ConditionCacheTest.run();
+        OptionsMenuCacheTest.run();
+        WrapWidthTest.run();
+        AchievementJournalTest.run();
+        CheckpointTest.run();
+        UndoTest.run();
+        MenuTemplateTest.run();
+        OutcomeTest.run();
+        CommandResultTest.run();
+        FlagSetTest.run();
+        SaveFileTest.run();
+        IndexedLinkedHashMapTest.run();
+        ModifierCheckTest.run();
+        ScriptCompilerTest.run();
+        TypewriterRendererTest.run();
+
+        System.out.println(Check.nChecks() + " checks, " + Check.nFailures() + " failed");
+        if (Check.nFailures() > 0) System.exit(1);
+    }
+
+}
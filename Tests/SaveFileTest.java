@@ -0,0 +1,270 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+public class SaveFileTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private SaveFileTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        try {
+            roundTrip();
+            largeCollections();
+            fileRoundTrip();
+            backgroundWrites();
+        } catch (IOException e) {
+            Check.isTrue(false, "save file checks ran without an I/O error (" + e + ")");
+        }
+
+        corruption();
+        truncation();
+        malformedContents();
+        savedEnums();
+    }
+
+    /**
+     * Checks that every kind of value a snapshot can hold is decoded as it was encoded
+     */
+    private static void roundTrip() throws IOException {
+        SessionSnapshot decoded = SaveFile.decode(SaveFile.encode(sample()));
+        Check.equal(sample().getNames(), decoded.getNames(), "every saved name is read back");
+        for (String name : sample().getNames()) {
+            Check.equal(sample().get(name), decoded.get(name), "the value saved as " + name + " is read back");
+        }
+
+        Check.isTrue(decoded.get("flag") == ChapterFlag.HARSH, "enums are read back as the same constant");
+        Check.isTrue(Arrays.equals(SaveFile.encode(sample()), SaveFile.encode(sample())), "encoding the same snapshot twice gives the same bytes");
+    }
+
+    /**
+     * Checks that lists too long for a signed count are read back in full, and that lists too long to count are refused
+     */
+    private static void largeCollections() throws IOException {
+        ArrayList<Integer> list = new ArrayList<>();
+        for (int i = 0; i < 40000; i++) list.add(i);
+
+        SessionSnapshot snapshot = new SessionSnapshot();
+        snapshot.put("list", list);
+        Check.equal(list, SaveFile.decode(SaveFile.encode(snapshot)).get("list"), "a list of more than 32767 values is read back in full");
+
+        list.addAll(list);
+        try {
+            SaveFile.encode(snapshot);
+            Check.isTrue(false, "a list of more than 65535 values is refused");
+        } catch (IOException e) {
+            Check.isTrue(true, "a list of more than 65535 values is refused");
+        }
+    }
+
+    /**
+     * Checks that a written save file is read back, leaves no temporary files behind, and that a missing save file reads as null
+     */
+    private static void fileRoundTrip() throws IOException {
+        Path directory = Files.createTempDirectory("save");
+        SaveFile save = new SaveFile(directory.resolve("Session.sav"));
+        Check.isTrue(save.read() == null, "a missing save file reads as null");
+
+        save.write(sample());
+        save.write(sample());
+        Check.isTrue(save.exists(), "writing creates the save file");
+        Check.equal(sample().getNames(), save.read().getNames(), "a written save file is read back");
+        try (Stream<Path> files = Files.list(directory)) {
+            Check.equal(1L, files.count(), "writing leaves no temporary files behind");
+        }
+
+        save.delete();
+        Check.isFalse(save.exists(), "delete() removes the save file");
+    }
+
+    /**
+     * Checks that snapshots saved for the background writer are written once it flushes them, and that deleting the save file discards them
+     */
+    private static void backgroundWrites() throws IOException {
+        Path directory = Files.createTempDirectory("save");
+        SaveFile save = new SaveFile(directory.resolve("Session.sav"));
+
+        SessionSnapshot first = new SessionSnapshot();
+        first.put("n", 1);
+        SessionSnapshot second = new SessionSnapshot();
+        second.put("n", 2);
+        save.writeLater(first);
+        save.writeLater(second);
+        save.flush();
+        Check.equal(2, save.read().getInt("n"), "only the most recent snapshot is written");
+
+        save.writeLater(first);
+        save.delete();
+        save.flush();
+        Check.isFalse(save.exists(), "a snapshot waiting to be written is discarded when the save file is deleted");
+        Check.isTrue(save.takeWriteFailure() == null, "successful writes report no failure");
+
+        SessionSnapshot unsaveable = new SessionSnapshot();
+        unsaveable.put("opcode", ScriptOpcode.LABEL);
+        try {
+            save.writeLater(unsaveable);
+            Check.isTrue(false, "a snapshot that cannot be encoded is refused before it is queued");
+        } catch (IOException e) {
+            Check.isTrue(true, "a snapshot that cannot be encoded is refused before it is queued");
+        }
+    }
+
+    /**
+     * Checks that changing any single byte of a save file is detected
+     */
+    private static void corruption() {
+        byte[] bytes = encodedSample();
+        int nAccepted = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] corrupted = bytes.clone();
+            corrupted[i] ^= 0x5A;
+            if (!rejected(corrupted)) nAccepted += 1;
+        }
+
+        Check.equal(0, nAccepted, "every single-byte change is rejected");
+    }
+
+    /**
+     * Checks that a save file cut short at any point is rejected
+     */
+    private static void truncation() {
+        byte[] bytes = encodedSample();
+        int nAccepted = 0;
+        for (int length = 0; length < bytes.length; length++) {
+            if (!rejected(Arrays.copyOf(bytes, length))) nAccepted += 1;
+        }
+
+        Check.equal(0, nAccepted, "every truncated save file is rejected");
+    }
+
+    /**
+     * Checks that save files with a valid checksum but invalid contents are rejected with an IOException rather than a RuntimeException
+     */
+    private static void malformedContents() {
+        byte[] body = Arrays.copyOf(encodedSample(), encodedSample().length - 4);
+
+        byte[] wrongMagic = body.clone();
+        wrongMagic[0] = 0;
+        Check.isTrue(rejected(withChecksum(wrongMagic)), "a file without the save file header is rejected");
+
+        byte[] wrongVersion = body.clone();
+        wrongVersion[5] += 1;
+        Check.isTrue(rejected(withChecksum(wrongVersion)), "a save file from another version is rejected");
+
+        int nAccepted = 0;
+        for (int length = 8; length < body.length; length++) {
+            if (!rejected(withChecksum(Arrays.copyOf(body, length)))) nAccepted += 1;
+        }
+        Check.equal(0, nAccepted, "a save file whose values are cut short is rejected even if its checksum matches");
+
+        ByteBuffer unknownTag = ByteBuffer.allocate(13);
+        unknownTag.putInt(0x53545053).putShort((short)1).putShort((short)1).putShort((short)1).put((byte)'x').put((byte)99);
+        Check.isTrue(rejected(withChecksum(unknownTag.array())), "a value with an unknown tag is rejected");
+    }
+
+    /**
+     * Checks that enums are only read back if their type is one a save file may contain
+     */
+    private static void savedEnums() {
+        Check.isFalse(rejected(withChecksum(enumValue(Voice.class.getName(), "HERO"))), "an allowed enum type is read back");
+        Check.isTrue(rejected(withChecksum(enumValue(Voice.class.getName(), "NOBODY"))), "an unknown constant of an allowed enum type is rejected");
+        Check.isTrue(rejected(withChecksum(enumValue(ScriptOpcode.class.getName(), "LABEL"))), "an enum type that is not allowed is rejected");
+        Check.isTrue(rejected(withChecksum(enumValue("java.lang.Thread", "X"))), "a class that is not an enum is rejected");
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Returns a snapshot holding every kind of value a save file can store
+     * @return a new sample snapshot
+     */
+    private static SessionSnapshot sample() {
+        HashMap<String, Integer> map = new HashMap<>();
+        map.put("one", 1);
+        map.put("two", 2);
+
+        SessionSnapshot snapshot = new SessionSnapshot();
+        snapshot.put("none", null);
+        snapshot.put("yes", true);
+        snapshot.put("no", false);
+        snapshot.put("int", -123456);
+        snapshot.put("string", "Slay the Princess — é");
+        snapshot.put("flag", ChapterFlag.HARSH);
+        snapshot.put("list", new ArrayList<>(List.of("a", "b", "c")));
+        snapshot.put("nested", new ArrayList<>(List.of(new ArrayList<>(List.of(1, 2)), new ArrayList<>())));
+        snapshot.put("map", map);
+        return snapshot;
+    }
+
+    /**
+     * Returns the encoded sample snapshot
+     * @return the encoded sample snapshot
+     */
+    private static byte[] encodedSample() {
+        try {
+            return SaveFile.encode(sample());
+        } catch (IOException e) {
+            throw new RuntimeException("Sample snapshot could not be encoded");
+        }
+    }
+
+    /**
+     * Appends a valid checksum to the contents of a save file
+     * @param body the contents of a save file, without its checksum
+     * @return the contents followed by their checksum
+     */
+    private static byte[] withChecksum(byte[] body) {
+        CRC32 checksum = new CRC32();
+        checksum.update(body);
+        return ByteBuffer.allocate(body.length + 4).put(body).putInt((int)checksum.getValue()).array();
+    }
+
+    /**
+     * Returns the contents of a save file holding a single enum value, without its checksum
+     * @param className the saved name of the enum type
+     * @param constant the saved name of the constant
+     * @return the contents of the save file
+     */
+    private static byte[] enumValue(String className, String constant) {
+        byte[] type = className.getBytes(StandardCharsets.UTF_8);
+        byte[] name = constant.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocate(16 + type.length + name.length);
+        body.putInt(0x53545053).putShort((short)1).putShort((short)1).putShort((short)1).put((byte)'x').put((byte)5);
+        body.putShort((short)type.length).put(type).putShort((short)name.length).put(name);
+        return body.array();
+    }
+
+    /**
+     * Checks whether decoding some bytes is refused with an IOException
+     * @param bytes the bytes to decode
+     * @return true if decoding threw an IOException; false if it succeeded or threw anything else
+     */
+    private static boolean rejected(byte[] bytes) {
+        try {
+            SaveFile.decode(bytes);
+            return false;
+        } catch (IOException e) {
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+}
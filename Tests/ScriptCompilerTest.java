@@ -0,0 +1,185 @@
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class ScriptCompilerTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private ScriptCompilerTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        dialogueLines();
+        controlLines();
+        try {
+            compiledFiles();
+            cache();
+            evictionAfterFailure();
+            everyScript();
+        } catch (IOException e) {
+            Check.isTrue(false, "script compiler checks ran without an I/O error (" + e + ")");
+        }
+    }
+
+    /**
+     * Checks that dialogue lines are decoded into their speaker, text, modifiers and a shared DialogueLine
+     */
+    private static void dialogueLines() {
+        ScriptInstruction line = new ScriptInstruction("n You're on a path in the woods. /// interrupt slow hasblade");
+        Check.equal(ScriptOpcode.DIALOGUE, line.getOpcode(), "a line starting with a Voice is dialogue");
+        Check.equal(Voice.NARRATOR, line.getSpeaker(), "the speaker is resolved from the prefix");
+        Check.equal("You're on a path in the woods.", line.getArgument(), "the modifiers are split off the text");
+        Check.equal(List.of("interrupt", "slow", "hasblade"), List.of(line.getModifiers()), "every modifier is kept");
+        Check.isTrue(line.isInterrupted(), "the interrupt modifier is read");
+        Check.equal(0.5, line.getSpeedMultiplier(), "the slow modifier halves the speed");
+        Check.isTrue(line.getModifierCheck().checkFlags(ChapterFlag.HASBLADE.bit()) && !line.getModifierCheck().checkFlags(0L), "flag modifiers are compiled into the check");
+        Check.isTrue(line.getDialogueLine() instanceof VoiceDialogueLine, "Voice lines get a VoiceDialogueLine");
+
+        ScriptInstruction plain = new ScriptInstruction("p Hello?");
+        Check.isTrue(plain.getDialogueLine() instanceof PrincessDialogueLine, "Princess lines get a PrincessDialogueLine");
+        Check.isFalse(plain.isInterrupted(), "lines without modifiers are not interrupted");
+        Check.equal(1.0, plain.getSpeedMultiplier(), "lines without modifiers play at normal speed");
+        Check.isTrue(plain.getModifierCheck() == ModifierCheck.NONE, "lines without modifiers share the empty check");
+
+        Check.equal(Voice.HEROEXT, new ScriptInstruction("heroext Testing! /// checkvoice").getSpeaker(), "extended Voice prefixes are resolved");
+        Check.isTrue(new ScriptInstruction("t The truth.").getDialogueLine() != null, "truth lines get a DialogueLine");
+    }
+
+    /**
+     * Checks that control lines are decoded into their opcode and pre-split arguments
+     */
+    private static void controlLines() {
+        Check.equal(ScriptOpcode.END, new ScriptInstruction("").getOpcode(), "a blank line ends a section");
+        Check.equal(ScriptOpcode.COMMENT, new ScriptInstruction("// Comment should be ignored //").getOpcode(), "comments are recognized");
+        Check.equal(ScriptOpcode.INVALID, new ScriptInstruction("gibberish text").getOpcode(), "unknown prefixes are invalid");
+        Check.equal(ScriptOpcode.MOODSWITCH, new ScriptInstruction("harshswitch a b").getOpcode(), "harshswitch is another name for moodswitch");
+
+        ScriptInstruction label = new ScriptInstruction("label start");
+        Check.equal(ScriptOpcode.LABEL, label.getOpcode(), "labels are recognized");
+        Check.equal("start", label.getArgument(), "the label name is the argument");
+
+        Check.equal(12, new ScriptInstruction("jumpto 12").getJumpIndex(), "a numeric jumpto is resolved to a line index");
+        Check.isTrue(new ScriptInstruction("jumpto skip").getJumpIndex() == null, "a jumpto to a label has no line index");
+        Check.isTrue(new ScriptInstruction("pause 12").getJumpIndex() == null, "only jumpto lines have a line index");
+
+        ScriptInstruction jump = new ScriptInstruction("numswitchjump testZero NOJUMP testTwo /// check");
+        Check.equal(ScriptOpcode.NUMSWITCHJUMP, jump.getOpcode(), "numswitchjump is recognized");
+        Check.equal(List.of("testZero", "NOJUMP", "testTwo"), List.of(jump.getWords()), "the argument is split into every word");
+        Check.equal(List.of("testZero", "NOJUMP testTwo"), List.of(jump.getArgs()), "the argument is split into its first word and the rest");
+        Check.isTrue(jump.getDialogueLine() == null, "control lines have no DialogueLine");
+    }
+
+    /**
+     * Checks that a compiled file keeps its trimmed lines, one instruction per line, and the first index of every label
+     */
+    private static void compiledFiles() throws IOException {
+        File file = write("label start", "    n Indented line.", "label start", "jumpto start", "", "label end");
+
+        PrintStream err = System.err;
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        CompiledScript script;
+        try {
+            System.setErr(new PrintStream(errors, true, StandardCharsets.UTF_8));
+            script = CompiledScript.getCompiledScript(file);
+        } finally {
+            System.setErr(err);
+        }
+
+        Check.equal(6, script.nLines(), "every line is compiled");
+        Check.equal("n Indented line.", script.getLine(1), "lines are trimmed");
+        Check.equal(ScriptOpcode.DIALOGUE, script.getInstruction(1).getOpcode(), "indented lines are decoded after trimming");
+        Check.equal(ScriptOpcode.END, script.getInstruction(4).getOpcode(), "blank lines are kept as section ends");
+        Check.equal(Map.of("start", 0, "end", 5), script.getLabels(), "each label maps to its first line");
+        Check.isTrue(script.hasLabel("end") && !script.hasLabel("missing"), "hasLabel() reads the label table");
+        Check.isTrue(errors.toString(StandardCharsets.UTF_8).contains("Duplicate label start"), "duplicate labels are reported");
+    }
+
+    /**
+     * Checks that a compiled file is shared until the cache is cleared, and that a failed compile is not cached
+     */
+    private static void cache() throws IOException {
+        File file = write("n Cached.");
+        CompiledScript first = CompiledScript.getCompiledScript(file);
+        Check.isTrue(first == CompiledScript.getCompiledScript(new File(file.getPath())), "the same file is compiled once");
+
+        CompiledScript.clearCache();
+        Check.isFalse(first == CompiledScript.getCompiledScript(file), "clearing the cache compiles the file again");
+
+        File missing = new File(file.getParentFile(), "missing.txt");
+        Check.throwsException(() -> CompiledScript.getCompiledScript(missing), "a missing file cannot be compiled");
+        Files.writeString(missing.toPath(), "n Found.");
+        Check.equal(1, CompiledScript.getCompiledScript(missing).nLines(), "a failed compile is not cached");
+        Check.throwsException(() -> CompiledScript.getCompiledScript(null), "a null file cannot be compiled");
+    }
+
+    /**
+     * Checks that a file that failed to compile once is evicted by age from when it finally compiled, not from when it first failed
+     */
+    private static void evictionAfterFailure() throws IOException {
+        CompiledScript.clearCache();
+        File retried = new File(write("n Placeholder.").getParentFile(), "retried.txt");
+        Check.throwsException(() -> CompiledScript.getCompiledScript(retried), "a missing file cannot be compiled");
+
+        for (int i = 0; i < CompiledScript.CACHESIZE - 1; i++) CompiledScript.getCompiledScript(write("n Filler " + i + "."));
+        Files.writeString(retried.toPath(), "n Found.");
+        CompiledScript compiled = CompiledScript.getCompiledScript(retried);
+
+        CompiledScript.getCompiledScript(write("n One too many."));
+        Check.isTrue(compiled == CompiledScript.getCompiledScript(retried), "the newest entry survives the first eviction after an earlier failure");
+        CompiledScript.clearCache();
+    }
+
+    /**
+     * Checks that every script in the game compiles, and that each label points at a label line of that name
+     */
+    private static void everyScript() throws IOException {
+        int nScripts = 0;
+        int nMismatches = 0;
+        PrintStream err = System.err;
+        try (Stream<Path> files = Files.walk(Path.of("Scripts"))) {
+            // A few scripts repeat a label; those notices are not what is being checked here
+            System.setErr(new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8));
+            for (Path path : (Iterable<Path>)files.filter(p -> p.toString().endsWith(".txt"))::iterator) {
+                CompiledScript script = CompiledScript.getCompiledScript(path.toFile());
+                nScripts += 1;
+                for (Map.Entry<String, Integer> label : script.getLabels().entrySet()) {
+                    ScriptInstruction instruction = script.getInstruction(label.getValue());
+                    if (instruction.getOpcode() != ScriptOpcode.LABEL || !instruction.getArgument().equals(label.getKey())) nMismatches += 1;
+                }
+            }
+        } finally {
+            System.setErr(err);
+        }
+
+        Check.isTrue(nScripts > 0, "the game's scripts are found");
+        Check.equal(0, nMismatches, "every label in the game's scripts points at its own label line");
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Writes some lines to a new temporary script file
+     * @param lines the lines of the script
+     * @return the new script file
+     */
+    private static File write(String... lines) throws IOException {
+        Path directory = Files.createTempDirectory("script");
+        return Files.write(directory.resolve("script.txt"), List.of(lines), StandardCharsets.UTF_8).toFile();
+    }
+
+}
@@ -0,0 +1,106 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class TypewriterRendererTest {
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private TypewriterRendererTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        chunks();
+        stalledStream();
+    }
+
+    /**
+     * Checks that a schedule is printed in full, one print() per chunk rather than one per character
+     */
+    private static void chunks() {
+        PrintPlan plan = PrintPlan.create("Hello, `there. Are you ready?", true, 20, -1, false);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int[] nPrints = {0, 0}; // Strings, characters
+        PrintStream out = new PrintStream(bytes, false, StandardCharsets.UTF_8) {
+            @Override
+            public void print(String s) {
+                nPrints[0] += 1;
+                super.print(s);
+            }
+
+            @Override
+            public void print(char c) {
+                nPrints[1] += 1;
+                super.print(c);
+            }
+        };
+
+        TypewriterRenderer.renderAndWait(plan, out);
+        Check.equal(plan.toString(), bytes.toString(StandardCharsets.UTF_8), "every character of the schedule is printed in order");
+        Check.equal(nChunks(plan), nPrints[0], "each chunk is printed with a single print()");
+        Check.equal(0, nPrints[1], "no character is printed on its own");
+    }
+
+    /**
+     * Checks that a stream whose writes are stalled does not hold up a schedule printing to another stream
+     */
+    private static void stalledStream() {
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream stalledBytes = new ByteArrayOutputStream();
+        PrintStream stalled = new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException("Interrupted");
+                }
+                stalledBytes.write(b);
+            }
+        }, false, StandardCharsets.UTF_8);
+
+        PrintPlan plan = PrintPlan.create("Stalled, but not stuck.", true, 20, -1, false);
+        CompletableFuture<Void> stuck = TypewriterRenderer.render(plan, stalled);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        TypewriterRenderer.renderAndWait(plan, new PrintStream(bytes, false, StandardCharsets.UTF_8));
+        Check.equal(plan.toString(), bytes.toString(StandardCharsets.UTF_8), "a schedule finishes while another stream is stalled");
+        Check.isFalse(stuck.isDone(), "a schedule writing to a stalled stream waits for its writes");
+
+        release.countDown();
+        try {
+            stuck.get(10, TimeUnit.SECONDS);
+            Check.equal(plan.toString(), stalledBytes.toString(StandardCharsets.UTF_8), "a stalled stream receives its whole schedule once it resumes");
+        } catch (Exception e) {
+            Check.isTrue(false, "a stalled schedule finishes once its stream resumes (" + e + ")");
+        }
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Counts the chunks a schedule is printed in; every character followed by a delay ends a chunk
+     * @param plan the schedule to count
+     * @return the number of chunks in the schedule
+     */
+    private static int nChunks(PrintPlan plan) {
+        int n = 0;
+        for (int i = 0; i < plan.length(); i++) {
+            if (plan.delayAt(i) > 0 || i == plan.length() - 1) n += 1;
+        }
+        return n;
+    }
+
+}
@@ -0,0 +1,146 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class UndoTest {
+
+    private static final String RETURNLINE = "[You return to your last choice.]";
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private UndoTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        history();
+        nothingToUndo();
+        undoChoice();
+        undoTwice();
+    }
+
+    /**
+     * Checks that undoing forgets the last choice and everything entered after it, and that a replay taking a different route is refused
+     */
+    private static void history() {
+        PromptHistory history = new PromptHistory();
+        Check.isFalse(history.canUndo(), "there is nothing to undo before any menu");
+
+        history.recordInput("help");
+        history.reachMenu(state(0));
+        history.recordInput("1");
+        history.choseFromMenu(state(0));
+        history.reachMenu(state(1));
+        history.recordInput("2");
+        history.choseFromMenu(state(1));
+        history.recordInput("undo");
+        Check.equal(2, history.nMenus(), "each menu chosen from is recorded");
+
+        history.undo();
+        Check.isTrue(history.isReplaying(), "undoing starts a replay");
+        Check.isFalse(history.canUndo(), "a replay cannot be undone");
+        Check.equal("help", history.nextInput(), "the replay starts from the first line entered");
+        Check.isFalse(history.reachMenu(state(0)), "the replay carries on past earlier menus");
+        Check.equal("1", history.nextInput(), "the choice from an earlier menu is replayed");
+        history.choseFromMenu(state(0));
+        Check.throwsException(() -> history.nextInput(), "the choice being undone is not replayed");
+        Check.isTrue(history.reachMenu(state(1)), "the replay stops at the last menu chosen from");
+        Check.isFalse(history.isReplaying(), "the player chooses from that menu again");
+        Check.equal(1, history.nMenus(), "the undone menu is recorded again once the player chooses from it");
+
+        history.choseFromMenu(state(1));
+        history.undo();
+        history.nextInput();
+        Check.throwsException(() -> history.reachMenu(state(5)), "a replay that reaches a menu in a different state is refused");
+    }
+
+    /**
+     * Checks that UNDO before the first choice of a vessel leaves the game where it was
+     */
+    private static void nothingToUndo() {
+        String output = play("n", "n", "n", "undo", "1");
+        Check.equal(1, count(output, "[There is no choice to undo.]"), "UNDO before any choice says there is nothing to undo");
+        Check.equal(0, count(output, RETURNLINE), "nothing is replayed");
+    }
+
+    /**
+     * Checks that undoing a choice lets the player choose again, carrying on exactly as if they had made the new choice the first time
+     */
+    private static void undoChoice() {
+        String direct = play("n", "n", "n", "1", "3");
+        String undone = play("n", "n", "n", "1", "2", "undo", "3");
+
+        Check.equal(1, count(undone, RETURNLINE), "the player is told they have returned to their last choice");
+        String afterUndo = undone.substring(undone.lastIndexOf(RETURNLINE) + RETURNLINE.length());
+        Check.isTrue(direct.endsWith(afterUndo), "the game carries on from the undone choice as if it had never been made");
+    }
+
+    /**
+     * Checks that UNDO can be repeated to go back several choices
+     */
+    private static void undoTwice() {
+        String direct = play("n", "n", "n", "2");
+        String undone = play("n", "n", "n", "1", "2", "undo", "undo", "2");
+
+        Check.equal(2, count(undone, RETURNLINE), "each UNDO goes back another choice");
+        String afterUndo = undone.substring(undone.lastIndexOf(RETURNLINE) + RETURNLINE.length());
+        Check.isTrue(direct.endsWith(afterUndo), "the game carries on from the first choice after undoing twice");
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Returns the state of a menu with a single Option, picked a given number of times
+     * @param nPicks the number of times the Option has been picked
+     * @return the state of the menu
+     */
+    private static SessionSnapshot state(int nPicks) {
+        SessionSnapshot state = new SessionSnapshot();
+        state.put("flags", new ArrayList<ChapterFlag>());
+        state.put("picks", new ArrayList<>(List.of(nPicks)));
+        return state;
+    }
+
+    /**
+     * Plays a headless game that never saves, until its input runs out
+     * @param lines the lines of input to give to the game
+     * @return everything the game printed
+     */
+    private static String play(String... lines) {
+        MemorySessionIO io = new MemorySessionIO(lines);
+        GameManager manager = new GameManager(io, true, null, null);
+        try {
+            manager.runGame();
+        } catch (NoSuchElementException e) {
+            // Expected; the game waits for more input once the given lines run out
+        } finally {
+            IOHandler.unbindCurrentThread();
+        }
+
+        return io.getOutputText();
+    }
+
+    /**
+     * Counts the occurrences of a String in some text
+     * @param text the text to search
+     * @param target the String to count
+     * @return the number of times target appears in text
+     */
+    private static int count(String text, String target) {
+        int n = 0;
+        int i = text.indexOf(target);
+        while (i != -1) {
+            n += 1;
+            i = text.indexOf(target, i + target.length());
+        }
+
+        return n;
+    }
+
+}
@@ -0,0 +1,107 @@
+public class WrapWidthTest {
+
+    private static final String TEXT = "You're on a path in the woods. And at the end of that path is a cabin. And in the basement of that cabin is a princess.";
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; never used, as every method is static
+     */
+    private WrapWidthTest() {}
+
+    // --- CHECKS ---
+
+    /**
+     * Runs every check in this class
+     */
+    public static void run() {
+        sessionWidth();
+        cachedWidth();
+        printPlanWidth();
+    }
+
+    /**
+     * Checks that output is wrapped at the width of the session bound to the current thread
+     */
+    private static void sessionWidth() {
+        Check.equal(IOHandler.DEFAULTWRAPCOLUMNS, IOHandler.wrapColumns(), "threads without a session use the default width");
+
+        MemorySessionIO io = new MemorySessionIO();
+        io.setWrapColumns(30);
+        IOHandler parser = new IOHandler(null, io);
+        parser.bindToCurrentThread();
+        try {
+            Check.equal(30, IOHandler.wrapColumns(), "threads with a session use that session's width");
+            IOHandler.wrapPrintln(TEXT);
+            Check.isTrue(longestLine(io.getOutputText()) <= 30, "session output is wrapped at the session's width");
+            Check.isTrue(io.getOutputText().split("\n").length > 2, "session output is wrapped onto several lines");
+        } finally {
+            IOHandler.unbindCurrentThread();
+        }
+
+        Check.equal(IOHandler.DEFAULTWRAPCOLUMNS, IOHandler.wrapColumns(), "unbinding a session restores the default width");
+        Check.throwsException(() -> io.setWrapColumns(0), "a width of zero is rejected");
+    }
+
+    /**
+     * Checks that the shared wrap cache does not hand one session's width to another
+     */
+    private static void cachedWidth() {
+        String wide = IOHandler.cachedWordWrap(TEXT);
+        Check.equal(IOHandler.wordWrap(TEXT, IOHandler.DEFAULTWRAPCOLUMNS), wide, "cached wrap matches an uncached wrap at the default width");
+
+        MemorySessionIO io = new MemorySessionIO();
+        io.setWrapColumns(25);
+        new IOHandler(null, io).bindToCurrentThread();
+        try {
+            String narrow = IOHandler.cachedWordWrap(TEXT);
+            Check.equal(IOHandler.wordWrap(TEXT, 25), narrow, "cached wrap follows the session's width");
+            Check.isTrue(longestLine(narrow) <= 25, "cached wrap is no wider than the session's width");
+        } finally {
+            IOHandler.unbindCurrentThread();
+        }
+    }
+
+    /**
+     * Checks that a DialogueLine's cached print schedules are kept separately for each width
+     */
+    private static void printPlanWidth() {
+        DialogueLine line = new VoiceDialogueLine(TEXT);
+        PrintPlan wide = line.getPrintPlan(true, 1, IOHandler.DEFAULTWRAPCOLUMNS);
+        PrintPlan narrow = line.getPrintPlan(true, 1, 25);
+
+        Check.isTrue(wide == line.getPrintPlan(true, 1, IOHandler.DEFAULTWRAPCOLUMNS), "print schedule is reused at the same width");
+        Check.isTrue(longestLine(planText(narrow)) <= 25, "print schedule follows the width it was built for");
+        Check.isTrue(longestLine(planText(wide)) > 25, "print schedule at another width is not reused");
+        Check.isTrue(narrow == line.getPrintPlan(true, 1, 25), "print schedule at a second width is reused");
+    }
+
+    // --- UTILITY ---
+
+    /**
+     * Returns every character a given print schedule prints, in order
+     * @param plan the schedule to read
+     * @return the text printed by plan
+     */
+    private static String planText(PrintPlan plan) {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < plan.length(); i++) s.append(plan.charAt(i));
+        return s.toString();
+    }
+
+
+    /**
+     * Returns the length of the longest line in a given String
+     * @param s the String to measure
+     * @return the length of the longest line in s
+     */
+    private static int longestLine(String s) {
+        int longest = 0;
+        for (String line : s.split("\n")) {
+            longest = Math.max(longest, line.stripTrailing().length());
+        }
+
+        return longest;
+    }
+
+}
@@ -0,0 +1,132 @@
+import java.io.PrintStream;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TypewriterRenderer {
+
+    // A single timer thread drives the typewriter effect for every line being printed, rather than each line sleeping on its own thread
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "typewriter");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // The timer never writes to a stream itself, so a player whose connection stalls only holds up a writer thread and their own queue of chunks
+    private static final AtomicInteger NWRITERS = new AtomicInteger();
+    private static final ExecutorService WRITERS = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "typewriter-writer-" + NWRITERS.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final PrintPlan plan;
+    private final PrintStream out;
+    private final CompletableFuture<Void> done;
+    private CompletableFuture<Void> writes; // Every chunk handed to the writers so far, in order; only touched on the timer thread
+    private int nextIndex;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param plan the schedule to print
+     * @param out the stream to print to
+     */
+    private TypewriterRenderer(PrintPlan plan, PrintStream out) {
+        this.plan = plan;
+        this.out = out;
+        this.done = new CompletableFuture<>();
+        this.writes = CompletableFuture.completedFuture(null);
+        this.nextIndex = 0;
+    }
+
+    // --- RENDERING ---
+
+    /**
+     * Starts printing a given schedule, timed by the shared timer thread
+     * @param plan the schedule to print
+     * @param out the stream to print to
+     * @return a future that completes once every character has been written and the final delay has passed; cancelling it stops the rest of the schedule
+     */
+    public static CompletableFuture<Void> render(PrintPlan plan, PrintStream out) {
+        TypewriterRenderer renderer = new TypewriterRenderer(plan, out);
+        if (plan.length() == 0) {
+            renderer.done.complete(null);
+        } else {
+            TIMER.execute(renderer::step);
+        }
+
+        return renderer.done;
+    }
+
+    /**
+     * Prints a given schedule, waiting until it has finished printing; the game loop is synchronous, so the calling thread only waits here while the timer and writer threads do the work
+     * @param plan the schedule to print
+     * @param out the stream to print to
+     */
+    public static void renderAndWait(PrintPlan plan, PrintStream out) {
+        CompletableFuture<Void> rendering = render(plan, out);
+        try {
+            rendering.get();
+        } catch (InterruptedException e) {
+            rendering.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Thread interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Typewriter failed", e.getCause());
+        } catch (CancellationException e) {
+            throw new RuntimeException("Typewriter cancelled");
+        }
+    }
+
+    /**
+     * Hands the next chunk of this renderer's schedule (every character up to and including the next one followed by a delay) to the writers as a single String, then schedules the chunk after it
+     */
+    private void step() {
+        if (this.done.isDone()) return;
+
+        try {
+            StringBuilder chunk = new StringBuilder();
+            int delay = 0;
+            while (this.nextIndex < this.plan.length() && delay == 0) {
+                chunk.append(this.plan.charAt(this.nextIndex));
+                delay = this.plan.delayAt(this.nextIndex);
+                this.nextIndex += 1;
+            }
+
+            String s = chunk.toString();
+            this.writes = this.writes.thenRunAsync(() -> {
+                this.out.print(s);
+                this.out.flush();
+            }, WRITERS);
+
+            if (this.nextIndex < this.plan.length()) {
+                TIMER.schedule(this::step, delay, TimeUnit.MILLISECONDS);
+            } else {
+                TIMER.schedule(this::finish, delay, TimeUnit.MILLISECONDS);
+            }
+        } catch (RuntimeException e) {
+            this.done.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Completes this renderer once its final delay has passed and every chunk has been written
+     */
+    private void finish() {
+        this.writes.whenComplete((result, e) -> {
+            if (e == null) {
+                this.done.complete(null);
+            } else {
+                this.done.completeExceptionally(e);
+            }
+        });
+    }
+
+}
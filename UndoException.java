@@ -0,0 +1,14 @@
+public class UndoException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor; thrown by the UNDO command to abandon the current vessel, so it can be replayed from its checkpoint up to the player's last choice
+     */
+    public UndoException() {
+        super("Undo", null, false, false);
+    }
+
+}
@@ -0,0 +1,74 @@
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class WrapCache {
+
+    private final int capacity;
+    private final boolean ignoreIndicator;
+    private final HashMap<Integer, LinkedHashMap<String, String>> caches; // Map column width --> (text --> wrapped text)
+
+    // --- CONSTRUCTORS ---
+
+    /**
+     * Constructor
+     * @param capacity the maximum number of wrapped Strings to keep for each column width
+     * @param ignoreIndicator whether to keep indicator characters (`) in the wrapped text or remove them
+     */
+    public WrapCache(int capacity, boolean ignoreIndicator) {
+        this.capacity = capacity;
+        this.ignoreIndicator = ignoreIndicator;
+        this.caches = new HashMap<>();
+    }
+
+    // --- ACCESSORS & MANIPULATORS ---
+
+    /**
+     * Returns a given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, wrapping it only if it has not been wrapped at the given width recently
+     * @param s the String to wrap
+     * @param columns the number of columns to wrap at
+     * @return the given String with line breaks inserted such that it will only wrap around to a new line at word boundaries, not in the middle of words
+     */
+    public synchronized String get(String s, int columns) {
+        LinkedHashMap<String, String> cache = this.getCache(columns);
+        String wrapped = cache.get(s);
+
+        if (wrapped == null) {
+            wrapped = (this.ignoreIndicator) ? IOHandler.wordWrapIgnoreIndicator(s, columns) : IOHandler.wordWrap(s, columns);
+            cache.put(s, wrapped);
+        }
+
+        return wrapped;
+    }
+
+    /**
+     * Removes every wrapped String from this cache
+     */
+    public synchronized void clear() {
+        this.caches.clear();
+    }
+
+    /**
+     * Returns the cache for a given column width, creating it if it does not exist yet
+     * @param columns the column width
+     * @return the least-recently-used cache of Strings wrapped at the given width
+     */
+    private LinkedHashMap<String, String> getCache(int columns) {
+        LinkedHashMap<String, String> cache = this.caches.get(columns);
+
+        if (cache == null) {
+            final int capacity = this.capacity;
+            cache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return this.size() > capacity;
+                }
+            };
+
+            this.caches.put(columns, cache);
+        }
+
+        return cache;
+    }
+
+}